@@ -56,6 +56,22 @@ class DataQuanta[Out: ClassTag](val operator: Operator, outputIndex: Int = 0)(im
     mapOperator
   }
 
+  /**
+    * Feed this instance into a [[MapOperator]] whose UDF processes whole batches of data quanta at once. Platforms
+    * that cannot process batches apply the UDF to single-element batches.
+    *
+    * @param udf UDF for the [[MapOperator]] that yields exactly one output per input
+    * @return a new instance representing the [[MapOperator]]'s output
+    */
+  def mapBatches[NewOut: ClassTag](udf: Seq[Out] => Seq[NewOut]): DataQuanta[NewOut] = {
+    val mapOperator = new MapOperator(new TransformationDescriptor[Out, NewOut](
+      toSerializableFunction((dataQuantum: Out) => udf(Seq(dataQuantum)).head),
+      basicDataUnitType[Out], basicDataUnitType[NewOut]
+    ).withBatchImplementation(toSerializableBatchFunction(udf)))
+    this.connectTo(mapOperator, 0)
+    mapOperator
+  }
+
   /**
     * Connects the [[operator]] to a further [[Operator]].
     *
@@ -86,6 +102,22 @@ class DataQuanta[Out: ClassTag](val operator: Operator, outputIndex: Int = 0)(im
     filterOperator
   }
 
+  /**
+    * Feed this instance into a [[FilterOperator]] whose UDF tests whole batches of data quanta at once. Platforms
+    * that cannot process batches apply the UDF to single-element batches.
+    *
+    * @param udf UDF for the [[FilterOperator]] that yields one verdict per input
+    * @return a new instance representing the [[FilterOperator]]'s output
+    */
+  def filterBatches(udf: Seq[Out] => Seq[Boolean]): DataQuanta[Out] = {
+    val filterOperator = new FilterOperator(new PredicateDescriptor[Out](
+      toSerializablePredicate((dataQuantum: Out) => udf(Seq(dataQuantum)).head),
+      basicDataUnitType[Out]
+    ).withBatchImplementation(toSerializableBatchPredicate(udf)))
+    this.connectTo(filterOperator, 0)
+    filterOperator
+  }
+
   /**
     * Feed this instance into a [[FlatMapOperator]].
     *
@@ -109,6 +141,22 @@ class DataQuanta[Out: ClassTag](val operator: Operator, outputIndex: Int = 0)(im
     flatMapOperator
   }
 
+  /**
+    * Feed this instance into a [[FlatMapOperator]] whose UDF processes whole batches of data quanta at once.
+    * Platforms that cannot process batches apply the UDF to single-element batches.
+    *
+    * @param udf UDF for the [[FlatMapOperator]]
+    * @return a new instance representing the [[FlatMapOperator]]'s output
+    */
+  def flatMapBatches[NewOut: ClassTag](udf: Seq[Out] => Iterable[NewOut]): DataQuanta[NewOut] = {
+    val flatMapOperator = new FlatMapOperator(new FlatMapDescriptor[Out, NewOut](
+      toSerializableFlatteningFunction((dataQuantum: Out) => udf(Seq(dataQuantum))),
+      basicDataUnitType[Out], basicDataUnitType[NewOut]
+    ).withBatchImplementation(toSerializableBatchFunction(udf)))
+    this.connectTo(flatMapOperator, 0)
+    flatMapOperator
+  }
+
   /**
     * Feed this instance into a [[ReduceByOperator]].
     *
@@ -2,10 +2,12 @@ package org.qcri.rheem
 
 import _root_.java.lang.{Class => JavaClass, Iterable => JavaIterable}
 import _root_.java.util.function.Consumer
+import _root_.java.util.{List => JavaList}
 
 import org.qcri.rheem.core.api.RheemContext
-import org.qcri.rheem.core.function.FunctionDescriptor.{SerializableBinaryOperator, SerializableFunction}
-import org.qcri.rheem.core.function.PredicateDescriptor.SerializablePredicate
+import org.qcri.rheem.core.api.exception.RheemException
+import org.qcri.rheem.core.function.FunctionDescriptor.{SerializableBatchFunction, SerializableBinaryOperator, SerializableFunction}
+import org.qcri.rheem.core.function.PredicateDescriptor.{SerializableBatchPredicate, SerializablePredicate}
 import org.qcri.rheem.core.plan.rheemplan.Operator
 import org.qcri.rheem.core.types.{BasicDataUnitType, DataSetType, DataUnitGroupType, DataUnitType}
 
@@ -47,6 +49,25 @@ package object api {
       override def apply(t: In) = JavaConversions.asJavaIterable(scalaFunc(t))
     }
 
+  implicit def toSerializableBatchFunction[In, Out](scalaFunc: Seq[In] => Iterable[Out]): SerializableBatchFunction[In, Out] =
+    new SerializableBatchFunction[In, Out] {
+      override def apply(inputs: JavaList[In], outputs: JavaList[Out]) =
+        scalaFunc(JavaConversions.asScalaBuffer(inputs)).foreach(output => outputs.add(output))
+    }
+
+  implicit def toSerializableBatchPredicate[T](scalaFunc: Seq[T] => Seq[Boolean]): SerializableBatchPredicate[T] =
+    new SerializableBatchPredicate[T] {
+      override def test(inputs: JavaList[T], verdicts: Array[Boolean]) = {
+        val scalaVerdicts = scalaFunc(JavaConversions.asScalaBuffer(inputs))
+        if (scalaVerdicts.size != inputs.size) {
+          throw new RheemException(
+            s"Batch filter predicate yielded ${scalaVerdicts.size} verdicts for ${inputs.size} inputs."
+          )
+        }
+        scalaVerdicts.copyToArray(verdicts)
+      }
+    }
+
   implicit def toSerializableBinaryOperator[T](scalaFunc: (T, T) => T): SerializableBinaryOperator[T] =
     new SerializableBinaryOperator[T] {
       override def apply(t1: T, t2: T) = scalaFunc(t1, t2)
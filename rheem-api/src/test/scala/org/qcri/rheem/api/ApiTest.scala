@@ -2,6 +2,7 @@ package org.qcri.rheem.api
 
 import org.junit.{Assert, Test}
 import org.qcri.rheem.core.api.RheemContext
+import org.qcri.rheem.core.api.exception.RheemException
 import org.qcri.rheem.core.function.PredicateDescriptor.ExtendedSerializablePredicate
 import org.qcri.rheem.core.function.{ExecutionContext, TransformationDescriptor}
 import org.qcri.rheem.java.JavaPlatform
@@ -227,4 +228,35 @@ class ApiTest {
     Assert.assertEquals(expectedValues, values)
   }
 
+  @Test
+  def testBatchUdfs(): Unit = {
+    // Set up RheemContext.
+    val rheem = new RheemContext()
+    rheem.register(JavaPlatform.getInstance)
+
+    // Generate some test data.
+    val inputValues = (for (i <- 1 to 10) yield i).toArray
+
+    // Build and execute a Rheem plan.
+    val outputValues = rheem
+      .readCollection(inputValues).withName("Load input values")
+      .mapBatches(batch => batch.map(_ + 2)).withName("Add 2")
+      .filterBatches(batch => batch.map(_ % 2 == 0)).withName("Filter even values")
+      .flatMapBatches(batch => batch.flatMap(i => Seq(i, -i))).withName("Add negated values")
+      .collect()
+
+    // Check the outcome.
+    val expectedOutputValues = inputValues.map(_ + 2).filter(_ % 2 == 0).flatMap(i => Seq(i, -i))
+    Assert.assertArrayEquals(expectedOutputValues, outputValues.toArray)
+  }
+
+  @Test(expected = classOf[RheemException])
+  def testBatchPredicateWithMissingVerdicts(): Unit = {
+    // Prepare test data.
+    val predicate = toSerializableBatchPredicate((batch: Seq[Int]) => batch.drop(1).map(_ % 2 == 0))
+
+    // Execute.
+    predicate.test(_root_.java.util.Arrays.asList(1, 2, 3), new Array[Boolean](3))
+  }
+
 }
@@ -11,6 +11,7 @@ import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.util.Actions;
 import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -175,6 +176,39 @@ public class FileChannel extends Channel {
             return this.paths.iterator().next();
         }
 
+        /**
+         * Sums up the sizes of the files at the {@link #getPaths() paths}, thereby descending into directories
+         * (e.g., with Spark part files) by one level.
+         */
+        @Override
+        public OptionalLong getMeasuredNumBytes() {
+            long numBytes = 0L;
+            for (String path : this.paths) {
+                final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(path);
+                if (!fileSystem.isPresent()) return OptionalLong.empty();
+                try {
+                    final Collection<String> files = fileSystem.get().isDirectory(path) ?
+                            fileSystem.get().listChildren(path) :
+                            Collections.singleton(path);
+                    for (String file : files) {
+                        numBytes += fileSystem.get().getFileSize(file);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LoggerFactory.getLogger(FileChannel.class).debug("Could not determine the size of {}.", path, e);
+                    return OptionalLong.empty();
+                }
+            }
+            return OptionalLong.of(numBytes);
+        }
+
+        /**
+         * Files are written eagerly, so that their producer does not spend any time lazily.
+         */
+        @Override
+        public OptionalLong getMeasuredLazyNanos() {
+            return OptionalLong.of(0L);
+        }
+
         @Override
         public void doDispose() throws RheemException {
             Actions.doSafe(() -> {
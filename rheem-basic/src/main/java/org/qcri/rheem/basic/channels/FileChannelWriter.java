@@ -0,0 +1,155 @@
+package org.qcri.rheem.basic.channels;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes data quanta that are produced outside of Rheem's execution operators, e.g., by GraphChi or by a database,
+ * into a {@link FileChannel.Instance}. Object files are written in the same format as by the
+ * {@code JavaObjectFileSink}, so that they can be consumed without parsing, e.g., as a stream on the Java platform.
+ * TSV files contain {@link Tuple2}s and {@link Record}s as tab-separated fields and other data quanta as strings.
+ */
+public abstract class FileChannelWriter implements Closeable {
+
+    /**
+     * Number of data quanta that are serialized into a single object file record.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Creates a new instance that writes to a new file in the given {@link FileChannel.Instance} according to its
+     * {@link FileChannel.Descriptor}.
+     */
+    public static FileChannelWriter create(FileChannel.Instance outputFileChannelInstance, Configuration configuration)
+            throws IOException {
+        final String path = outputFileChannelInstance.addGivenOrTempPath(null, configuration);
+        return create(outputFileChannelInstance.getChannel().getDescriptor(), path);
+    }
+
+    /**
+     * Creates a new instance that writes to the given path according to the given {@link FileChannel.Descriptor}.
+     */
+    public static FileChannelWriter create(FileChannel.Descriptor descriptor, String path) throws IOException {
+        if (FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR.equals(descriptor)) {
+            return new ObjectFileWriter(path);
+        } else if (FileChannel.HDFS_TSV_DESCRIPTOR.equals(descriptor)) {
+            return new TsvWriter(path);
+        }
+        throw new RheemException(String.format("Cannot write results to %s.", descriptor));
+    }
+
+    /**
+     * Writes the given data quantum.
+     *
+     * @throws UncheckedIOException if the writing failed
+     */
+    public abstract void write(Object dataQuantum);
+
+    /**
+     * Writes data quanta in chunks into a sequence file.
+     */
+    private static class ObjectFileWriter extends FileChannelWriter {
+
+        private final SequenceFile.Writer writer;
+
+        private final Object[] chunk = new Object[CHUNK_SIZE];
+
+        private int chunkSize = 0;
+
+        private ObjectFileWriter(String path) throws IOException {
+            this.writer = SequenceFile.createWriter(
+                    new org.apache.hadoop.conf.Configuration(true),
+                    SequenceFile.Writer.file(new Path(path)),
+                    SequenceFile.Writer.keyClass(NullWritable.class),
+                    SequenceFile.Writer.valueClass(BytesWritable.class)
+            );
+        }
+
+        @Override
+        public void write(Object dataQuantum) {
+            this.chunk[this.chunkSize++] = dataQuantum;
+            if (this.chunkSize == this.chunk.length) {
+                this.flushChunk();
+            }
+        }
+
+        private void flushChunk() {
+            if (this.chunkSize == 0) return;
+            try {
+                final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(Arrays.copyOf(this.chunk, this.chunkSize));
+                }
+                this.writer.append(NullWritable.get(), new BytesWritable(bos.toByteArray()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Writing or serialization failed.", e);
+            }
+            this.chunkSize = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.flushChunk();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                this.writer.close();
+            }
+        }
+    }
+
+    /**
+     * Writes data quanta as lines of a text file.
+     */
+    private static class TsvWriter extends FileChannelWriter {
+
+        private final Writer writer;
+
+        private TsvWriter(String path) throws IOException {
+            final FileSystem fileSystem = FileSystems.getFileSystem(path).get();
+            this.writer = new BufferedWriter(new OutputStreamWriter(fileSystem.create(path), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(Object dataQuantum) {
+            try {
+                if (dataQuantum instanceof Tuple2) {
+                    final Tuple2<?, ?> tuple = (Tuple2<?, ?>) dataQuantum;
+                    this.writer.write(String.valueOf(tuple.field0));
+                    this.writer.write('\t');
+                    this.writer.write(String.valueOf(tuple.field1));
+                } else if (dataQuantum instanceof Record) {
+                    final Record record = (Record) dataQuantum;
+                    for (int i = 0; i < record.size(); i++) {
+                        if (i > 0) this.writer.write('\t');
+                        this.writer.write(String.valueOf(record.getField(i)));
+                    }
+                } else {
+                    this.writer.write(String.valueOf(dataQuantum));
+                }
+                this.writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.writer.close();
+        }
+    }
+
+}
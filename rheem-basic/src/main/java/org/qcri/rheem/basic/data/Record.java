@@ -71,6 +71,13 @@ public class Record implements Serializable {
         return Arrays.toString(values);
     }
 
+    /**
+     * @return the number of fields of this instance
+     */
+    public int size() {
+        return this.values.length;
+    }
+
     public Object getField(Integer index) {
         return values[index];
     }
@@ -0,0 +1,34 @@
+package org.qcri.rheem.basic.operators;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.types.DataSetType;
+
+/**
+ * {@link Operator} that finds the connected components of a graph. The edges are considered as undirected. For each
+ * vertex, it emits a {@code (vertex ID, component ID)} pair, whereby the component ID is the ID of some vertex
+ * within that component.
+ */
+public class ConnectedComponentsOperator extends UnaryToUnaryOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>> {
+
+    protected final int maxNumIterations;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxNumIterations the maximum number of label propagation rounds; for the exact components, this should
+     *                         be at least the diameter of the graph
+     */
+    public ConnectedComponentsOperator(int maxNumIterations) {
+        super(DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                false, null);
+        this.maxNumIterations = maxNumIterations;
+    }
+
+    public int getMaxNumIterations() {
+        return this.maxNumIterations;
+    }
+
+}
@@ -0,0 +1,230 @@
+package org.qcri.rheem.basic.operators;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.SwitchForwardCardinalityEstimator;
+import org.qcri.rheem.core.plan.rheemplan.*;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Head of a delta iteration. Other than the {@link LoopOperator} and the {@link DoWhileOperator}, it does not feed the
+ * whole working data set through the loop body in every iteration. Instead, it maintains a <i>solution set</i>,
+ * whose elements are identified by a key, and iterates over a <i>workset</i>. In each iteration, the loop body
+ * consumes the workset (and, potentially, the solution set) and produces
+ * <ul>
+ * <li>a <i>solution set delta</i>, whose elements replace the elements with the same keys in the solution set, and</li>
+ * <li>the next workset.</li>
+ * </ul>
+ * The iteration terminates as soon as the workset is empty or after the maximum number of iterations. Then, the
+ * solution set is the final output.
+ * <p>This operator has four inputs and three outputs.</p>
+ */
+public class DeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        extends OperatorBase
+        implements ElementaryOperator, LoopHeadOperator {
+
+    public static final int INITIAL_SOLUTION_SET_INPUT_INDEX = 0;
+    public static final int INITIAL_WORKSET_INPUT_INDEX = 1;
+    public static final int SOLUTION_SET_DELTA_INPUT_INDEX = 2;
+    public static final int NEXT_WORKSET_INPUT_INDEX = 3;
+
+    public static final int SOLUTION_SET_OUTPUT_INDEX = 0;
+    public static final int WORKSET_OUTPUT_INDEX = 1;
+    public static final int FINAL_OUTPUT_INDEX = 2;
+
+    /**
+     * Extracts the keys that identify the elements of the solution set.
+     */
+    protected final TransformationDescriptor<SolutionType, KeyType> keyDescriptor;
+
+    /**
+     * Maximum number of iterations to perform.
+     */
+    protected final int maxIterations;
+
+    private State state;
+
+    @Override
+    public State getState() {
+        return this.state;
+    }
+
+    @Override
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param solutionSetType type of the solution set
+     * @param worksetType     type of the workset
+     * @param keyDescriptor   extracts the keys that identify the elements of the solution set
+     * @param maxIterations   maximum number of iterations to perform
+     */
+    public DeltaIterationOperator(DataSetType<SolutionType> solutionSetType,
+                                  DataSetType<WorksetType> worksetType,
+                                  TransformationDescriptor<SolutionType, KeyType> keyDescriptor,
+                                  int maxIterations) {
+        super(4, 3, true, null);
+        this.keyDescriptor = keyDescriptor;
+        this.maxIterations = maxIterations;
+        this.inputSlots[INITIAL_SOLUTION_SET_INPUT_INDEX] = new InputSlot<>("initialSolutionSet", this, solutionSetType);
+        this.inputSlots[INITIAL_WORKSET_INPUT_INDEX] = new InputSlot<>("initialWorkset", this, worksetType);
+        this.inputSlots[SOLUTION_SET_DELTA_INPUT_INDEX] = new InputSlot<>("solutionSetDelta", this, solutionSetType);
+        this.inputSlots[NEXT_WORKSET_INPUT_INDEX] = new InputSlot<>("nextWorkset", this, worksetType);
+
+        this.outputSlots[SOLUTION_SET_OUTPUT_INDEX] = new OutputSlot<>("solutionSet", this, solutionSetType);
+        this.outputSlots[WORKSET_OUTPUT_INDEX] = new OutputSlot<>("workset", this, worksetType);
+        this.outputSlots[FINAL_OUTPUT_INDEX] = new OutputSlot<>("output", this, solutionSetType);
+        this.state = State.NOT_STARTED;
+    }
+
+    @SuppressWarnings("unchecked")
+    public DataSetType<SolutionType> getSolutionSetType() {
+        return ((InputSlot<SolutionType>) this.getInput(INITIAL_SOLUTION_SET_INPUT_INDEX)).getType();
+    }
+
+    @SuppressWarnings("unchecked")
+    public DataSetType<WorksetType> getWorksetType() {
+        return ((InputSlot<WorksetType>) this.getInput(INITIAL_WORKSET_INPUT_INDEX)).getType();
+    }
+
+    public TransformationDescriptor<SolutionType, KeyType> getKeyDescriptor() {
+        return this.keyDescriptor;
+    }
+
+    public int getMaxIterations() {
+        return this.maxIterations;
+    }
+
+    public void initialize(Operator solutionSetOperator, int solutionSetOutputIndex,
+                           Operator worksetOperator, int worksetOutputIndex) {
+        solutionSetOperator.connectTo(solutionSetOutputIndex, this, INITIAL_SOLUTION_SET_INPUT_INDEX);
+        worksetOperator.connectTo(worksetOutputIndex, this, INITIAL_WORKSET_INPUT_INDEX);
+    }
+
+    public void initialize(Operator solutionSetOperator, Operator worksetOperator) {
+        this.initialize(solutionSetOperator, 0, worksetOperator, 0);
+    }
+
+    public void beginIteration(Operator worksetOperator, int worksetInputIndex) {
+        this.connectTo(WORKSET_OUTPUT_INDEX, worksetOperator, worksetInputIndex);
+    }
+
+    /**
+     * Provides the current solution set to some {@link Operator} within the loop body.
+     */
+    public void provideSolutionSet(Operator solutionSetOperator, int solutionSetInputIndex) {
+        this.connectTo(SOLUTION_SET_OUTPUT_INDEX, solutionSetOperator, solutionSetInputIndex);
+    }
+
+    public void endIteration(Operator deltaOperator, int deltaOutputIndex,
+                             Operator nextWorksetOperator, int nextWorksetOutputIndex) {
+        deltaOperator.connectTo(deltaOutputIndex, this, SOLUTION_SET_DELTA_INPUT_INDEX);
+        nextWorksetOperator.connectTo(nextWorksetOutputIndex, this, NEXT_WORKSET_INPUT_INDEX);
+    }
+
+    public void endIteration(Operator deltaOperator, Operator nextWorksetOperator) {
+        this.endIteration(deltaOperator, 0, nextWorksetOperator, 0);
+    }
+
+    public void outputConnectTo(Operator outputOperator, int thatInputIndex) {
+        this.connectTo(FINAL_OUTPUT_INDEX, outputOperator, thatInputIndex);
+    }
+
+    public void outputConnectTo(Operator outputOperator) {
+        this.outputConnectTo(outputOperator, 0);
+    }
+
+    @Override
+    public Collection<OutputSlot<?>> getForwards(InputSlot<?> input) {
+        assert this.isOwnerOf(input);
+        switch (input.getIndex()) {
+            case INITIAL_SOLUTION_SET_INPUT_INDEX:
+            case SOLUTION_SET_DELTA_INPUT_INDEX:
+                return Arrays.asList(this.getOutput(SOLUTION_SET_OUTPUT_INDEX), this.getOutput(FINAL_OUTPUT_INDEX));
+            case INITIAL_WORKSET_INPUT_INDEX:
+            case NEXT_WORKSET_INPUT_INDEX:
+                return Collections.singleton(this.getOutput(WORKSET_OUTPUT_INDEX));
+            default:
+                return super.getForwards(input);
+        }
+    }
+
+    @Override
+    public boolean isReading(InputSlot<?> input) {
+        assert this.isOwnerOf(input);
+        switch (input.getIndex()) {
+            case INITIAL_SOLUTION_SET_INPUT_INDEX:
+            case INITIAL_WORKSET_INPUT_INDEX:
+            case SOLUTION_SET_DELTA_INPUT_INDEX:
+            case NEXT_WORKSET_INPUT_INDEX:
+                return true;
+            default:
+                return super.isReading(input);
+        }
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> getCardinalityEstimator(int outputIndex, Configuration configuration) {
+        switch (outputIndex) {
+            case SOLUTION_SET_OUTPUT_INDEX:
+            case FINAL_OUTPUT_INDEX:
+                // The initial solution set is iteration-invariant, and deltas replace solution set elements.
+                return Optional.of(new SwitchForwardCardinalityEstimator(INITIAL_SOLUTION_SET_INPUT_INDEX));
+            case WORKSET_OUTPUT_INDEX:
+                return Optional.of(new SwitchForwardCardinalityEstimator(
+                        INITIAL_WORKSET_INPUT_INDEX,
+                        NEXT_WORKSET_INPUT_INDEX
+                ));
+            default:
+                throw new IllegalArgumentException("Illegal output index " + outputIndex + ".");
+        }
+    }
+
+    @Override
+    public Collection<OutputSlot<?>> getLoopBodyOutputs() {
+        return Arrays.asList(this.getOutput(SOLUTION_SET_OUTPUT_INDEX), this.getOutput(WORKSET_OUTPUT_INDEX));
+    }
+
+    @Override
+    public Collection<OutputSlot<?>> getFinalLoopOutputs() {
+        return Collections.singletonList(this.getOutput(FINAL_OUTPUT_INDEX));
+    }
+
+    @Override
+    public Collection<InputSlot<?>> getLoopBodyInputs() {
+        return Arrays.asList(this.getInput(SOLUTION_SET_DELTA_INPUT_INDEX), this.getInput(NEXT_WORKSET_INPUT_INDEX));
+    }
+
+    @Override
+    public Collection<InputSlot<?>> getLoopInitializationInputs() {
+        return Arrays.asList(
+                this.getInput(INITIAL_SOLUTION_SET_INPUT_INDEX),
+                this.getInput(INITIAL_WORKSET_INPUT_INDEX)
+        );
+    }
+
+    @Override
+    public Collection<InputSlot<?>> getIterationInvariantInputs() {
+        return Collections.singletonList(this.getInput(INITIAL_SOLUTION_SET_INPUT_INDEX));
+    }
+
+    @Override
+    public Collection<OutputSlot<?>> getDecayingLoopBodyOutputs() {
+        return Collections.singletonList(this.getOutput(WORKSET_OUTPUT_INDEX));
+    }
+
+    @Override
+    public int getNumExpectedIterations() {
+        return this.maxIterations;
+    }
+
+}
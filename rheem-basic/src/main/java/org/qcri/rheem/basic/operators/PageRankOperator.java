@@ -6,15 +6,26 @@ import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.types.DataSetType;
 
 /**
- * {@link Operator} for the PageRank algorithm.
+ * {@link Operator} for the PageRank algorithm. It consumes {@code (source vertex ID, target vertex ID)} edges and
+ * produces {@code (vertex ID, page rank)} pairs.
+ * <p>The page ranks are not normalized: Starting from {@code 1} for each vertex, each iteration updates the page rank
+ * of each vertex {@code v} to {@code 0.15 + 0.85 * sum(PR(u) / outDegree(u))} over all edges {@code (u, v)}. The
+ * page ranks of vertices without outgoing edges are not passed on. Implementations may propagate updated page
+ * ranks already within an iteration and thus converge faster, but they all approach the same fixpoint.</p>
  */
 public class PageRankOperator extends UnaryToUnaryOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Float>> {
 
+    /**
+     * Probability to follow an outgoing edge rather than to jump to a random vertex.
+     */
+    public static final double DAMPING_FACTOR = 0.85d;
+
     protected final int numIterations;
 
     /**
      * Creates a new instance.
-
+     *
+     * @param numIterations the number of iterations to update the page ranks
      */
     public PageRankOperator(int numIterations) {
         super(DataSetType.createDefaultUnchecked(Tuple2.class),
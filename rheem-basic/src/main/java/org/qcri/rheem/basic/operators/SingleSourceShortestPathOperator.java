@@ -0,0 +1,43 @@
+package org.qcri.rheem.basic.operators;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.types.DataSetType;
+
+/**
+ * {@link Operator} that computes the shortest path distances from a source vertex to all other vertices of a
+ * directed graph with unit edge weights. For each vertex, it emits a {@code (vertex ID, distance)} pair, whereby
+ * unreachable vertices have the distance {@link Float#POSITIVE_INFINITY}.
+ */
+public class SingleSourceShortestPathOperator
+        extends UnaryToUnaryOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Float>> {
+
+    protected final int sourceVertexId;
+
+    protected final int maxNumIterations;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sourceVertexId   the ID of the vertex from which the distances should be computed
+     * @param maxNumIterations the maximum number of relaxation rounds; for the exact distances, this should be at
+     *                         least the eccentricity of the source vertex
+     */
+    public SingleSourceShortestPathOperator(int sourceVertexId, int maxNumIterations) {
+        super(DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                false, null);
+        this.sourceVertexId = sourceVertexId;
+        this.maxNumIterations = maxNumIterations;
+    }
+
+    public int getSourceVertexId() {
+        return this.sourceVertexId;
+    }
+
+    public int getMaxNumIterations() {
+        return this.maxNumIterations;
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.qcri.rheem.basic.operators;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.types.DataSetType;
+
+/**
+ * {@link Operator} that counts the triangles in a graph. The edges are considered as undirected, i.e., edge
+ * directions, duplicate edges, and self-loops are ignored. It emits the number of triangles as a single {@link Long}.
+ */
+public class TriangleCountOperator extends UnaryToUnaryOperator<Tuple2<Integer, Integer>, Long> {
+
+    /**
+     * Creates a new instance.
+     */
+    public TriangleCountOperator() {
+        super(DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefault(Long.class),
+                false, null);
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.qcri.rheem.basic.channels;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.Executor;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for {@link FileChannelWriter}.
+ */
+public class FileChannelWriterTest {
+
+    @Test
+    public void testWritingObjectFile() throws IOException, ClassNotFoundException {
+        // Prepare test data.
+        final FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance)
+                new FileChannel(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR).createInstance(mock(Executor.class));
+        final List<Tuple2<Integer, Float>> dataQuanta = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            dataQuanta.add(new Tuple2<>(i, i / 2f));
+        }
+
+        // Execute.
+        try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, new Configuration())) {
+            dataQuanta.forEach(writer::write);
+        }
+
+        // Verify the outcome.
+        final List<Object> result = new ArrayList<>();
+        final String path = outputFileChannelInstance.getSinglePath();
+        try (SequenceFile.Reader reader = new SequenceFile.Reader(
+                new org.apache.hadoop.conf.Configuration(true), SequenceFile.Reader.file(new Path(path)))) {
+            final BytesWritable value = new BytesWritable();
+            while (reader.next(NullWritable.get(), value)) {
+                try (ObjectInputStream ois = new ObjectInputStream(
+                        new ByteArrayInputStream(value.getBytes(), 0, value.getLength()))) {
+                    result.addAll(Arrays.asList((Object[]) ois.readObject()));
+                }
+            }
+        } finally {
+            outputFileChannelInstance.doDispose();
+        }
+        Assert.assertEquals(dataQuanta, result);
+    }
+
+    @Test
+    public void testWritingTsvFile() throws IOException {
+        // Prepare test data.
+        final FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance)
+                new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(mock(Executor.class));
+
+        // Execute.
+        try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, new Configuration())) {
+            writer.write(new Tuple2<>(1, 0.5f));
+            writer.write(new Record(2, "a", 1.5d));
+            writer.write(42L);
+        }
+
+        // Verify the outcome.
+        final String path = outputFileChannelInstance.getSinglePath();
+        try {
+            Assert.assertEquals(
+                    Arrays.asList("1\t0.5", "2\ta\t1.5", "42"),
+                    Files.readAllLines(Paths.get(URI.create(path)))
+            );
+        } finally {
+            outputFileChannelInstance.doDispose();
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.profiler.data.DataGenerators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Utilities to benchmark {@link JavaExecutionOperator}s in isolation.
+ */
+public class JavaBenchmarkUtils {
+
+    private static final Configuration configuration = new Configuration();
+
+    private static final FunctionCompiler functionCompiler = new FunctionCompiler(configuration);
+
+    /**
+     * Describes how keys are distributed in generated data. All keys are drawn from {@code [0, cardinality)}, so that
+     * joining data sets of the same cardinality yields matches.
+     */
+    public enum KeyDistribution {
+
+        /**
+         * Every data quantum has its own key.
+         */
+        UNIQUE,
+
+        /**
+         * Every key occurs about 10 times.
+         */
+        UNIFORM,
+
+        /**
+         * Few keys occur very often and many keys occur rarely.
+         */
+        SKEWED
+
+    }
+
+    /**
+     * Generates {@code cardinality} keys with the given {@link KeyDistribution}.
+     *
+     * @param seed for the generation; the same seed yields the same data
+     */
+    public static List<Integer> createData(int cardinality, KeyDistribution keyDistribution, long seed) {
+        final Random random = new Random(seed);
+        List<Integer> data = new ArrayList<>(cardinality);
+        switch (keyDistribution) {
+            case UNIQUE:
+                for (int i = 0; i < cardinality; i++) {
+                    data.add(i);
+                }
+                Collections.shuffle(data, random);
+                break;
+            case UNIFORM:
+                final Supplier<Integer> uniformGenerator =
+                        DataGenerators.createRandomIntegerSupplier(0, Math.max(1, cardinality / 10), random);
+                for (int i = 0; i < cardinality; i++) {
+                    data.add(uniformGenerator.get());
+                }
+                break;
+            case SKEWED:
+                final Supplier<Integer> skewedGenerator =
+                        DataGenerators.createReservoirBasedIntegerSupplier(new ArrayList<>(), 0.9d, random);
+                for (int i = 0; i < cardinality; i++) {
+                    data.add(Math.floorMod(skewedGenerator.get(), cardinality));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key distribution: " + keyDistribution);
+        }
+        return data;
+    }
+
+    /**
+     * Wraps the given {@link Collection} in a {@link ChannelInstance} to feed it into {@link JavaExecutionOperator}s.
+     */
+    public static CollectionChannel.Instance createInput(Collection<?> data) {
+        final CollectionChannel.Instance channelInstance =
+                (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR.createChannel(null, configuration).createInstance(null);
+        channelInstance.accept(data);
+        return channelInstance;
+    }
+
+    /**
+     * Evaluates the given {@link JavaExecutionOperator} and consumes its output, so as to also account for lazy
+     * execution.
+     *
+     * @param operator that should be evaluated
+     * @param inputs   for the {@code operator}
+     * @return the number of output data quanta
+     */
+    public static long execute(JavaExecutionOperator operator, ChannelInstance... inputs) {
+        ChannelInstance[] outputs = new ChannelInstance[operator.getNumOutputs()];
+        for (int outputIndex = 0; outputIndex < outputs.length; outputIndex++) {
+            final ChannelDescriptor channelDescriptor = operator.getSupportedOutputChannels(outputIndex).get(0);
+            outputs[outputIndex] = channelDescriptor.createChannel(null, configuration).createInstance(null);
+        }
+        operator.evaluate(inputs, outputs, functionCompiler);
+
+        long numOutputDataQuanta = 0L;
+        for (ChannelInstance output : outputs) {
+            numOutputDataQuanta += ((JavaChannelInstance) output).provideStream().count();
+        }
+        return numOutputDataQuanta;
+    }
+
+}
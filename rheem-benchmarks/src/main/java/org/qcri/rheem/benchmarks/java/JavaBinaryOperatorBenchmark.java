@@ -0,0 +1,71 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.*;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.java.operators.JavaJoinOperator;
+import org.qcri.rheem.java.operators.JavaUnionAllOperator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.createInput;
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.execute;
+
+/**
+ * Benchmarks the {@link JavaExecutionOperator}s with two inputs of the same size across input sizes and key
+ * distributions.
+ *
+ * @see JavaUnaryOperatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JavaBinaryOperatorBenchmark {
+
+    private static final long SEED0 = 42L, SEED1 = 4242L;
+
+    @Param({"1000", "100000", "1000000"})
+    public int cardinality;
+
+    @Param({"UNIQUE", "UNIFORM", "SKEWED"})
+    public JavaBenchmarkUtils.KeyDistribution keyDistribution;
+
+    private List<Integer> data0, data1;
+
+    private final DataSetType<Integer> type = DataSetType.createDefault(Integer.class);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.data0 = JavaBenchmarkUtils.createData(this.cardinality, this.keyDistribution, SEED0);
+        this.data1 = JavaBenchmarkUtils.createData(this.cardinality, this.keyDistribution, SEED1);
+    }
+
+    @Benchmark
+    public long join() {
+        return execute(
+                new JavaJoinOperator<>(
+                        this.type,
+                        this.type,
+                        new TransformationDescriptor<>(i -> i, Integer.class, Integer.class),
+                        new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+                ),
+                createInput(this.data0),
+                createInput(this.data1)
+        );
+    }
+
+    @Benchmark
+    public long unionAll() {
+        return execute(
+                new JavaUnionAllOperator<>(this.type),
+                createInput(this.data0),
+                createInput(this.data1)
+        );
+    }
+
+}
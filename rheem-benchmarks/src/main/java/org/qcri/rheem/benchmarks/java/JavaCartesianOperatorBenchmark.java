@@ -0,0 +1,47 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.operators.JavaCartesianOperator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.createInput;
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.execute;
+
+/**
+ * Benchmarks the {@link JavaCartesianOperator}. As its output grows quadratically, it is benchmarked with smaller
+ * inputs than the other operators.
+ *
+ * @see JavaUnaryOperatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JavaCartesianOperatorBenchmark {
+
+    private static final long SEED0 = 42L, SEED1 = 4242L;
+
+    @Param({"100", "1000", "3000"})
+    public int cardinality;
+
+    private List<Integer> data0, data1;
+
+    private final DataSetType<Integer> type = DataSetType.createDefault(Integer.class);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.data0 = JavaBenchmarkUtils.createData(this.cardinality, JavaBenchmarkUtils.KeyDistribution.UNIQUE, SEED0);
+        this.data1 = JavaBenchmarkUtils.createData(this.cardinality, JavaBenchmarkUtils.KeyDistribution.UNIQUE, SEED1);
+    }
+
+    @Benchmark
+    public long cartesian() {
+        return execute(new JavaCartesianOperator<>(this.type, this.type), createInput(this.data0), createInput(this.data1));
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.*;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.operators.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.createInput;
+import static org.qcri.rheem.benchmarks.java.JavaBenchmarkUtils.execute;
+
+/**
+ * Benchmarks the {@link JavaExecutionOperator}s with a single input across input sizes and key distributions.
+ * Run it via {@code java -jar rheem-benchmarks/target/benchmarks.jar -rf json -rff <result file>}. As the input data
+ * is generated with a fixed seed and the benchmark settings are fixed here, the results of different builds can be
+ * compared with each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JavaUnaryOperatorBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000", "1000000"})
+    public int cardinality;
+
+    @Param({"UNIQUE", "UNIFORM", "SKEWED"})
+    public JavaBenchmarkUtils.KeyDistribution keyDistribution;
+
+    private List<Integer> data;
+
+    private final DataSetType<Integer> type = DataSetType.createDefault(Integer.class);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.data = JavaBenchmarkUtils.createData(this.cardinality, this.keyDistribution, SEED);
+    }
+
+    @Benchmark
+    public long map() {
+        return execute(
+                new JavaMapOperator<>(this.type, this.type, new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long filter() {
+        return execute(
+                new JavaFilterOperator<>(this.type, new PredicateDescriptor<>(i -> (i & 1) == 0, Integer.class)),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long reduceBy() {
+        return execute(
+                new JavaReduceByOperator<>(
+                        this.type,
+                        new TransformationDescriptor<>(i -> i, Integer.class, Integer.class),
+                        new ReduceDescriptor<>((i1, i2) -> i1, Integer.class)
+                ),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long globalReduce() {
+        return execute(
+                new JavaGlobalReduceOperator<>(this.type, new ReduceDescriptor<>(Integer::sum, Integer.class)),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long groupBy() {
+        return execute(
+                new JavaMaterializedGroupByOperator<>(
+                        new TransformationDescriptor<>(i -> i, Integer.class, Integer.class),
+                        this.type,
+                        DataSetType.createDefaultUnchecked(Iterable.class)
+                ),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long sort() {
+        return execute(new JavaSortOperator<>(this.type), createInput(this.data));
+    }
+
+    @Benchmark
+    public long distinct() {
+        return execute(new JavaDistinctOperator<>(this.type), createInput(this.data));
+    }
+
+    @Benchmark
+    public long count() {
+        return execute(new JavaCountOperator<>(this.type), createInput(this.data));
+    }
+
+    @Benchmark
+    public long randomSample() {
+        return execute(
+                new JavaRandomSampleOperator<>(this.cardinality / 10, this.cardinality, this.type),
+                createInput(this.data)
+        );
+    }
+
+    @Benchmark
+    public long reservoirSample() {
+        return execute(
+                new JavaReservoirSampleOperator<>(this.cardinality / 10, this.cardinality, this.type),
+                createInput(this.data)
+        );
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.*;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ExecutionOperator} of a {@link MockPlatform} that mimics an arbitrary {@link ElementaryOperator} w.r.t. its
+ * {@link Slot}s and cardinalities.
+ */
+public class MockExecutionOperator extends OperatorBase implements ExecutionOperator {
+
+    private final ElementaryOperator mimickedOperator;
+
+    private final MockPlatform platform;
+
+    public MockExecutionOperator(ElementaryOperator mimickedOperator, MockPlatform platform) {
+        super(mimickedOperator.getNumInputs(), mimickedOperator.getNumOutputs(),
+                mimickedOperator.isSupportingBroadcastInputs(), null);
+        this.mimickedOperator = mimickedOperator;
+        this.platform = platform;
+        for (int inputIndex = 0; inputIndex < this.getNumInputs(); inputIndex++) {
+            this.inputSlots[inputIndex] = new InputSlot<>(mimickedOperator.getInput(inputIndex), this);
+        }
+        for (int outputIndex = 0; outputIndex < this.getNumOutputs(); outputIndex++) {
+            this.outputSlots[outputIndex] = new OutputSlot<>(mimickedOperator.getOutput(outputIndex), this);
+        }
+    }
+
+    @Override
+    public Platform getPlatform() {
+        return this.platform;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> getCardinalityEstimator(int outputIndex, Configuration configuration) {
+        return this.mimickedOperator.getCardinalityEstimator(outputIndex, configuration);
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        return Optional.of(new NestableLoadProfileEstimator(
+                DefaultLoadEstimator.createIOLinearEstimator(this, 1000),
+                DefaultLoadEstimator.createIOLinearEstimator(this, 0)
+        ));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new MockExecutionOperator(this.mimickedOperator, this.platform);
+    }
+}
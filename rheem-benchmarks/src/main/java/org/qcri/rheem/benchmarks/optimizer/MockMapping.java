@@ -0,0 +1,48 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.basic.operators.*;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.ElementaryOperator;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Maps the {@link ElementaryOperator}s used by the {@link SyntheticPlanGenerator} to {@link MockExecutionOperator}s.
+ */
+@SuppressWarnings("unchecked")
+public class MockMapping implements Mapping {
+
+    private final MockPlatform platform;
+
+    public MockMapping(MockPlatform platform) {
+        this.platform = platform;
+    }
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Arrays.<ElementaryOperator>asList(
+                new MapOperator<>(null, DataSetType.none(), DataSetType.none()),
+                new FilterOperator<>((PredicateDescriptor) null, null),
+                new ReduceByOperator<>(null, null, null),
+                new CartesianOperator<>(null, DataSetType.none()),
+                new UnionAllOperator<>(DataSetType.none())
+        ).stream()
+                .map(this::createTransformation)
+                .collect(Collectors.toList());
+    }
+
+    private PlanTransformation createTransformation(ElementaryOperator patternOperator) {
+        final OperatorPattern operatorPattern = new OperatorPattern("operator", patternOperator, false);
+        return new PlanTransformation(
+                SubplanPattern.createSingleton(operatorPattern),
+                new ReplacementSubplanFactory.OfSingleOperators<ElementaryOperator>(
+                        (matchedOperator, epoch) -> new MockExecutionOperator(matchedOperator, this.platform).at(epoch)
+                ),
+                this.platform
+        );
+    }
+}
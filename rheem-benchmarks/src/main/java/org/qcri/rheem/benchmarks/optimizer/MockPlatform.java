@@ -0,0 +1,76 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.LoadToTimeConverter;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Platform} that offers alternative {@link MockExecutionOperator}s to the optimizer but cannot execute them.
+ * Different instances have different speeds, so that the optimizer actually has to choose among them.
+ */
+public class MockPlatform extends Platform {
+
+    private static final List<MockPlatform> instances = new ArrayList<>();
+
+    /**
+     * Speed of this instance in CPU cycles per millisecond.
+     */
+    private final double cyclesPerMilli;
+
+    private final Collection<Mapping> mappings;
+
+    /**
+     * Provides the {@code index}-th instance.
+     */
+    public static synchronized MockPlatform getInstance(int index) {
+        while (instances.size() <= index) {
+            instances.add(new MockPlatform(instances.size()));
+        }
+        return instances.get(index);
+    }
+
+    private MockPlatform(int index) {
+        super(String.format("Mock Platform %d", index));
+        this.cyclesPerMilli = (index + 2) * 1000000d;
+        this.mappings = Collections.singleton(new MockMapping(this));
+    }
+
+    @Override
+    public void addChannelConversionsTo(ChannelConversionGraph channelConversionGraph) {
+        // The MockExecutionOperators use the channels of the Java platform.
+    }
+
+    @Override
+    public Executor.Factory getExecutorFactory() {
+        throw new UnsupportedOperationException(String.format("%s cannot execute operators.", this));
+    }
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return this.mappings;
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return false;
+    }
+
+    @Override
+    public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
+        return LoadProfileToTimeConverter.createDefault(
+                LoadToTimeConverter.createLinearCoverter(1 / this.cyclesPerMilli),
+                LoadToTimeConverter.createLinearCoverter(0),
+                LoadToTimeConverter.createLinearCoverter(0),
+                (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate)
+        );
+    }
+}
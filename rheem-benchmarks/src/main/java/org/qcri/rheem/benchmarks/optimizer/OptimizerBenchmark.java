@@ -0,0 +1,165 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.profiling.OptimizerTelemetry;
+import org.qcri.rheem.core.util.StopWatch;
+import org.qcri.rheem.java.JavaPlatform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the optimizer end-to-end on {@link RheemPlan}s from the {@link SyntheticPlanGenerator}. Besides the
+ * {@link JavaPlatform}, a configurable number of {@link MockPlatform}s is registered, so that no cluster is needed.
+ * The preparation of the {@link RheemPlan}, the cardinality and load estimation, the plan enumeration, the picking
+ * of the best plan and the stage assignment are measured separately and printed as CSV. Run it via
+ * {@code java -cp rheem-benchmarks/target/benchmarks.jar org.qcri.rheem.benchmarks.optimizer.OptimizerBenchmark ...}.
+ */
+public class OptimizerBenchmark {
+
+    private static final long SEED = 42L;
+
+    private static final int NUM_WARMUP_RUNS = 3;
+
+    private static final int DEFAULT_NUM_RUNS = 5;
+
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.err.printf("Usage: java %s <width>[,<width>] <depth>[,<depth>] <#loops>[,<#loops>] " +
+                    "<#mock platforms>[,<#mock platforms>] [<#runs>]\n", OptimizerBenchmark.class);
+            System.exit(1);
+        }
+
+        final List<Integer> widths = parseList(args[0]);
+        final List<Integer> depths = parseList(args[1]);
+        final List<Integer> numsLoops = parseList(args[2]);
+        final List<Integer> numsMockPlatforms = parseList(args[3]);
+        final int numRuns = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_NUM_RUNS;
+
+        List<Result> results = new ArrayList<>();
+        for (int width : widths) {
+            for (int depth : depths) {
+                for (int numLoops : numsLoops) {
+                    for (int numMockPlatforms : numsMockPlatforms) {
+                        System.out.printf("Benchmarking width=%d, depth=%d, loops=%d, mock platforms=%d...\n",
+                                width, depth, numLoops, numMockPlatforms);
+                        for (int run = 0; run < NUM_WARMUP_RUNS; run++) {
+                            runOnce(width, depth, numLoops, numMockPlatforms, run);
+                        }
+                        for (int run = 0; run < numRuns; run++) {
+                            results.add(runOnce(width, depth, numLoops, numMockPlatforms, run));
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println(Result.getCsvHeader());
+        results.forEach(result -> System.out.println(result.toCsvString()));
+    }
+
+    private static List<Integer> parseList(String arg) {
+        return Arrays.stream(arg.split(",")).map(Integer::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Optimizes a newly generated {@link RheemPlan} and measures the optimizer phases.
+     */
+    private static Result runOnce(int width, int depth, int numLoops, int numMockPlatforms, int run) {
+        final RheemPlan rheemPlan = new SyntheticPlanGenerator(width, depth, numLoops, SEED).generate();
+
+        RheemContext rheemContext = new RheemContext();
+        rheemContext.register(JavaPlatform.getInstance());
+        for (int platformIndex = 0; platformIndex < numMockPlatforms; platformIndex++) {
+            rheemContext.register(MockPlatform.getInstance(platformIndex));
+        }
+
+        final Job job = rheemContext.createJob(String.format(
+                "OptimizerBenchmark[width=%d, depth=%d, loops=%d, platforms=%d, run=%d]",
+                width, depth, numLoops, numMockPlatforms, run
+        ), rheemPlan);
+        job.buildInitialExecutionPlan();
+
+        final OptimizerTelemetry telemetry = job.getOptimizerTelemetry();
+        final StopWatch stopWatch = telemetry.getStopWatch();
+        return new Result(
+                width, depth, numLoops, numMockPlatforms, run,
+                getDuration(stopWatch, "Prepare"),
+                getDuration(stopWatch, "Cardinality&Load Estimation"),
+                getDuration(stopWatch, "Create Initial Execution Plan", "Enumerate"),
+                getDuration(stopWatch, "Create Initial Execution Plan", "Pick Best Plan"),
+                getDuration(stopWatch, "Create Initial Execution Plan", "Split Stages"),
+                telemetry.getNumEnumeratedPlanImplementations(),
+                telemetry.getNumPrunedPlanImplementations()
+        );
+    }
+
+    private static long getDuration(StopWatch stopWatch, String... roundName) {
+        final StopWatch.Round round = stopWatch.get(roundName);
+        return round == null ? -1L : round.getDuration();
+    }
+
+    /**
+     * Measurements of a single optimizer run.
+     */
+    public static class Result {
+
+        private final int width, depth, numLoops, numMockPlatforms, run;
+
+        private final long prepareMillis, estimationMillis, enumerationMillis, pickBestPlanMillis, stageSplittingMillis;
+
+        private final long numEnumeratedPlans, numPrunedPlans;
+
+        public Result(int width, int depth, int numLoops, int numMockPlatforms, int run,
+                      long prepareMillis, long estimationMillis, long enumerationMillis,
+                      long pickBestPlanMillis, long stageSplittingMillis,
+                      long numEnumeratedPlans, long numPrunedPlans) {
+            this.width = width;
+            this.depth = depth;
+            this.numLoops = numLoops;
+            this.numMockPlatforms = numMockPlatforms;
+            this.run = run;
+            this.prepareMillis = prepareMillis;
+            this.estimationMillis = estimationMillis;
+            this.enumerationMillis = enumerationMillis;
+            this.pickBestPlanMillis = pickBestPlanMillis;
+            this.stageSplittingMillis = stageSplittingMillis;
+            this.numEnumeratedPlans = numEnumeratedPlans;
+            this.numPrunedPlans = numPrunedPlans;
+        }
+
+        public static String getCsvHeader() {
+            return String.join(",", "width", "depth", "loops", "mock_platforms", "run",
+                    "prepare_ms", "estimation_ms", "enumeration_ms", "pick_best_plan_ms", "stage_splitting_ms",
+                    "enumerated_plans", "pruned_plans");
+        }
+
+        public String toCsvString() {
+            return String.join(",",
+                    String.valueOf(this.width),
+                    String.valueOf(this.depth),
+                    String.valueOf(this.numLoops),
+                    String.valueOf(this.numMockPlatforms),
+                    String.valueOf(this.run),
+                    String.valueOf(this.prepareMillis),
+                    String.valueOf(this.estimationMillis),
+                    String.valueOf(this.enumerationMillis),
+                    String.valueOf(this.pickBestPlanMillis),
+                    String.valueOf(this.stageSplittingMillis),
+                    String.valueOf(this.numEnumeratedPlans),
+                    String.valueOf(this.numPrunedPlans)
+            );
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s]", this.getClass().getSimpleName(), this.toCsvString());
+        }
+    }
+
+}
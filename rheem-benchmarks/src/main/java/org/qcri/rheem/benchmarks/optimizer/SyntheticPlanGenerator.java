@@ -0,0 +1,221 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.*;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic {@link RheemPlan}s of configurable shape to benchmark the optimizer. Each plan consists of
+ * {@link #width} branches, each of which is a {@link CollectionSource} followed by a chain of {@link #depth}
+ * randomly picked unary operators or by {@link #numLoops} consecutive {@link LoopOperator}s with such chains as
+ * their bodies. The branches are pairwise combined by {@link UnionAllOperator}s or {@link CartesianOperator}s and finally
+ * end in a {@link LocalCallbackSink}.
+ * <p>The generated plans are meant to be optimized only; their UDFs are trivial. As the optimizer does not support
+ * nested loops yet, loops are only chained.</p>
+ */
+public class SyntheticPlanGenerator {
+
+    /**
+     * Number of iterations of the generated {@link LoopOperator}s.
+     */
+    private static final int NUM_ITERATIONS = 10;
+
+    private final int width, depth, numLoops;
+
+    private final Random random;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param width    number of source branches in the generated {@link RheemPlan}s
+     * @param depth    number of unary operators in each operator chain
+     * @param numLoops number of consecutive {@link LoopOperator}s in each branch or {@code 0}
+     * @param seed     for the random choice of operators; the same seed yields equally shaped plans
+     */
+    public SyntheticPlanGenerator(int width, int depth, int numLoops, long seed) {
+        if (width < 1 || depth < 1 || numLoops < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Illegal plan shape: width=%d, depth=%d, loops=%d", width, depth, numLoops
+            ));
+        }
+        this.width = width;
+        this.depth = depth;
+        this.numLoops = numLoops;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a new {@link RheemPlan}.
+     */
+    public RheemPlan generate() {
+        List<OutputSlot<Integer>> branches = new ArrayList<>(this.width);
+        for (int branchIndex = 0; branchIndex < this.width; branchIndex++) {
+            branches.add(this.createBranch(branchIndex));
+        }
+
+        // Combine the branches pairwise until only one is left.
+        int combinationIndex = 0;
+        while (branches.size() > 1) {
+            List<OutputSlot<Integer>> combinedBranches = new ArrayList<>((branches.size() + 1) / 2);
+            for (int i = 0; i + 1 < branches.size(); i += 2) {
+                combinedBranches.add(this.combine(branches.get(i), branches.get(i + 1), combinationIndex++));
+            }
+            if (branches.size() % 2 == 1) {
+                combinedBranches.add(branches.get(branches.size() - 1));
+            }
+            branches = combinedBranches;
+        }
+
+        LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(new ArrayList<>(), Integer.class);
+        sink.setName("sink");
+        branches.get(0).connectTo(sink.getInput());
+        return new RheemPlan(sink);
+    }
+
+    /**
+     * Creates a {@link CollectionSource} and the (possibly looped) operator chain behind it.
+     *
+     * @return the {@link OutputSlot} of the branch
+     */
+    private OutputSlot<Integer> createBranch(int branchIndex) {
+        CollectionSource<Integer> source = new CollectionSource<>(Arrays.asList(1, 2, 3), Integer.class);
+        source.setName(String.format("source%d", branchIndex));
+        return this.createLoopedChain(source.getOutput(), this.numLoops, String.format("branch%d", branchIndex));
+    }
+
+    /**
+     * Creates {@code numLoops} consecutive {@link LoopOperator}s, each of which has an operator chain as its body.
+     * Without loops, only a single operator chain is created.
+     *
+     * @param input      provides the input to the chain
+     * @param numLoops   number of consecutive {@link LoopOperator}s
+     * @param namePrefix for the created {@link Operator}s
+     * @return the {@link OutputSlot} of the chain
+     */
+    private OutputSlot<Integer> createLoopedChain(OutputSlot<Integer> input, int numLoops, String namePrefix) {
+        if (numLoops == 0) {
+            return this.createChain(input, namePrefix);
+        }
+
+        OutputSlot<Integer> chainEnd = input;
+        for (int loopIndex = 0; loopIndex < numLoops; loopIndex++) {
+            LoopOperator<Integer, Integer> loop = new LoopOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    (PredicateDescriptor.SerializablePredicate<Collection<Integer>>) collection ->
+                            collection.iterator().next() >= NUM_ITERATIONS
+            );
+            loop.setName(String.format("%s.loop%d", namePrefix, loopIndex));
+            CollectionSource<Integer> convergenceSource = new CollectionSource<>(Collections.singletonList(0), Integer.class);
+            convergenceSource.setName(String.format("%s.convergenceSource", loop.getName()));
+            chainEnd.connectTo(this.getIntegerInput(loop, LoopOperator.INITIAL_INPUT_INDEX));
+            convergenceSource.getOutput().connectTo(this.getIntegerInput(loop, LoopOperator.INITIAL_CONVERGENCE_INPUT_INDEX));
+
+            MapOperator<Integer, Integer> counter = new MapOperator<>(
+                    new TransformationDescriptor<>(n -> n + 1, Integer.class, Integer.class)
+            );
+            counter.setName(String.format("%s.counter", loop.getName()));
+            loop.connectTo(LoopOperator.ITERATION_CONVERGENCE_OUTPUT_INDEX, counter, 0);
+            counter.connectTo(0, loop, LoopOperator.ITERATION_CONVERGENCE_INPUT_INDEX);
+
+            final OutputSlot<Integer> body = this.createChain(
+                    this.getIntegerOutput(loop, LoopOperator.ITERATION_OUTPUT_INDEX), loop.getName()
+            );
+            body.connectTo(this.getIntegerInput(loop, LoopOperator.ITERATION_INPUT_INDEX));
+
+            // The optimizer cannot enumerate loops that directly feed other loops or binary operators, so append a
+            // chain to each loop.
+            chainEnd = this.createChain(
+                    this.getIntegerOutput(loop, LoopOperator.FINAL_OUTPUT_INDEX),
+                    String.format("%s.after", loop.getName())
+            );
+        }
+        return chainEnd;
+    }
+
+    /**
+     * Creates a chain of {@link #depth} randomly chosen unary operators.
+     *
+     * @param input provides the input to the chain
+     * @return the {@link OutputSlot} of the chain
+     */
+    private OutputSlot<Integer> createChain(OutputSlot<Integer> input, String namePrefix) {
+        OutputSlot<Integer> chainEnd = input;
+        for (int i = 0; i < this.depth; i++) {
+            Operator operator;
+            switch (this.random.nextInt(3)) {
+                case 0:
+                    operator = new MapOperator<>(
+                            new TransformationDescriptor<>(n -> n + 1, Integer.class, Integer.class)
+                    );
+                    break;
+                case 1:
+                    operator = new FilterOperator<>(
+                            (PredicateDescriptor.SerializablePredicate<Integer>) n -> (n & 1) == 0, Integer.class
+                    );
+                    break;
+                default:
+                    operator = new ReduceByOperator<>(n -> n % 10, Integer::sum, Integer.class, Integer.class);
+            }
+            operator.setName(String.format("%s.op%d", namePrefix, i));
+            chainEnd.connectTo(this.getIntegerInput(operator, 0));
+            chainEnd = this.getIntegerOutput(operator, 0);
+        }
+        return chainEnd;
+    }
+
+    /**
+     * Combines two branches via a {@link UnionAllOperator} or a {@link CartesianOperator}.
+     *
+     * @return the {@link OutputSlot} of the combination
+     */
+    private OutputSlot<Integer> combine(OutputSlot<Integer> branch0, OutputSlot<Integer> branch1, int combinationIndex) {
+        if (this.random.nextBoolean()) {
+            UnionAllOperator<Integer> union = new UnionAllOperator<>(Integer.class);
+            union.setName(String.format("union%d", combinationIndex));
+            branch0.connectTo(this.getIntegerInput(union, 0));
+            branch1.connectTo(this.getIntegerInput(union, 1));
+            return this.getIntegerOutput(union, 0);
+        }
+
+        CartesianOperator<Integer, Integer> cartesian = new CartesianOperator<>(Integer.class, Integer.class);
+        cartesian.setName(String.format("cartesian%d", combinationIndex));
+        branch0.connectTo(this.getIntegerInput(cartesian, 0));
+        branch1.connectTo(this.getIntegerInput(cartesian, 1));
+        MapOperator<Tuple2<Integer, Integer>, Integer> projection = new MapOperator<>(
+                new TransformationDescriptor<>(
+                        tuple -> tuple.field0,
+                        DataUnitType.<Tuple2<Integer, Integer>>createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class)
+                )
+        );
+        projection.setName(String.format("projection%d", combinationIndex));
+        cartesian.connectTo(0, projection, 0);
+        return projection.getOutput();
+    }
+
+    @SuppressWarnings("unchecked")
+    private InputSlot<Integer> getIntegerInput(Operator operator, int index) {
+        return (InputSlot<Integer>) operator.getInput(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutputSlot<Integer> getIntegerOutput(Operator operator, int index) {
+        return (OutputSlot<Integer>) operator.getOutput(index);
+    }
+
+}
@@ -17,6 +17,12 @@ import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.platform.*;
 import org.qcri.rheem.core.profiling.CardinalityRepository;
 import org.qcri.rheem.core.profiling.InstrumentationStrategy;
+import org.qcri.rheem.core.profiling.LoadMeasurement;
+import org.qcri.rheem.core.profiling.LoadMeasurementRepository;
+import org.qcri.rheem.core.profiling.LoadProfileCalibrator;
+import org.qcri.rheem.core.profiling.OptimizerTelemetry;
+import org.qcri.rheem.core.profiling.StageMetrics;
+import org.qcri.rheem.core.profiling.TaskMetrics;
 import org.qcri.rheem.core.util.Formats;
 import org.qcri.rheem.core.util.OneTimeExecutable;
 import org.qcri.rheem.core.util.ReflectionUtils;
@@ -45,6 +51,16 @@ public class Job extends OneTimeExecutable {
      */
     private final RheemContext rheemContext;
 
+    /**
+     * Uniquely identifies this instance.
+     */
+    private final String id = UUID.randomUUID().toString();
+
+    /**
+     * Describes this instance, e.g., in exported key figures.
+     */
+    private final String name;
+
     /**
      * {@link Job}-level {@link Configuration} based on the {@link RheemContext}-level configuration.
      */
@@ -75,6 +91,11 @@ public class Job extends OneTimeExecutable {
      */
     private final StopWatch stopWatch = new StopWatch();
 
+    /**
+     * Collects key figures of the optimization, including the {@link #stopWatch} measurements.
+     */
+    private final OptimizerTelemetry telemetry = new OptimizerTelemetry(this.stopWatch);
+
     /**
      * Accumulates the elapsed time of all partial executions.
      */
@@ -100,10 +121,12 @@ public class Job extends OneTimeExecutable {
     /**
      * Creates a new instance.
      *
+     * @param name    describes the new instance
      * @param udfJars paths to JAR files needed to run the UDFs (see {@link ReflectionUtils#getDeclaringJar(Class)})
      */
-    Job(RheemContext rheemContext, RheemPlan rheemPlan, String... udfJars) {
+    Job(RheemContext rheemContext, String name, RheemPlan rheemPlan, String... udfJars) {
         this.rheemContext = rheemContext;
+        this.name = name;
         this.configuration = this.rheemContext.getConfiguration().fork();
         this.rheemPlan = rheemPlan;
         for (String udfJar : udfJars) {
@@ -136,6 +159,33 @@ public class Job extends OneTimeExecutable {
         }
     }
 
+    /**
+     * Optimizes the {@link #rheemPlan} without executing it, e.g., to inspect or benchmark the optimizer. The
+     * optimization phases are measured in the {@link OptimizerTelemetry}. Must only be called once and not in
+     * addition to {@link #execute()}.
+     *
+     * @return the initial {@link ExecutionPlan}
+     * @throws RheemException in case the optimization fails for any reason
+     */
+    public ExecutionPlan buildInitialExecutionPlan() throws RheemException {
+        if (this.hasBeenExecuted.getAndSet(true)) {
+            throw new RheemException("Job has already been executed.");
+        }
+
+        try {
+            this.prepareRheemPlan();
+            this.estimateKeyFigures();
+            return this.createInitialExecutionPlan();
+        } catch (RheemException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RheemException("Job optimization failed.", t);
+        } finally {
+            this.stopWatch.stopAll();
+            this.releaseResources();
+        }
+    }
+
     @Override
     protected void doExecute() {
         // Make sure that each job is only executed once.
@@ -161,6 +211,8 @@ public class Job extends OneTimeExecutable {
             }
 
             this.logger.info("Accumulated execution time: {}", Formats.formatDuration(this.executionMillis));
+            this.logExecutionMetrics();
+            this.storeLoadMeasurements();
             int i = 1;
             for (TimeEstimate timeEstimate : timeEstimates) {
                 this.logger.info("Time estimate of execution plan {}: {}", i++, timeEstimate);
@@ -175,6 +227,37 @@ public class Job extends OneTimeExecutable {
             this.releaseResources();
             this.stopWatch.stop("Release Resources");
             this.logger.info("StopWatch results:\n{}", this.stopWatch.toPrettyString());
+            this.exportTelemetry();
+        }
+    }
+
+    /**
+     * Logs the {@link StageMetrics} alongside the estimates of the optimizer.
+     */
+    private void logExecutionMetrics() {
+        if (!this.logger.isDebugEnabled()) return;
+        for (StageMetrics stageMetrics : this.getStageMetrics()) {
+            this.logger.debug("{} (actual/estimated: {})", stageMetrics, stageMetrics.getEstimationRatio());
+            for (TaskMetrics taskMetrics : stageMetrics.getTaskMetrics()) {
+                this.logger.debug("* {} (actual/estimated: {})", taskMetrics, taskMetrics.getEstimationRatio());
+            }
+        }
+    }
+
+    /**
+     * Stores {@link LoadMeasurement}s derived from the {@link StageMetrics} if a repository is configured via
+     * {@code rheem.core.calibration.repository}.
+     *
+     * @see LoadProfileCalibrator
+     */
+    private void storeLoadMeasurements() {
+        final String repositoryPath = this.configuration.getStringProperty("rheem.core.calibration.repository", null);
+        if (repositoryPath == null) return;
+        try (LoadMeasurementRepository repository = new LoadMeasurementRepository(repositoryPath)) {
+            repository.storeAll(this.getStageMetrics(), this.configuration);
+        } catch (RuntimeException e) {
+            // The measurements are a by-product, so failing to store them should not fail the job.
+            this.logger.error("Could not store the load measurements.", e);
         }
     }
 
@@ -221,7 +304,7 @@ public class Job extends OneTimeExecutable {
         this.stopWatch.start("Cardinality&Load Estimation");
         if (this.cardinalityEstimatorManager == null) {
             this.stopWatch.start("Cardinality&Load Estimation", "Create OptimizationContext");
-            this.optimizationContext = new OptimizationContext(this.rheemPlan, this.configuration);
+            this.optimizationContext = new OptimizationContext(this.rheemPlan, this.configuration, this.telemetry);
             this.stopWatch.stop("Cardinality&Load Estimation", "Create OptimizationContext");
 
             this.stopWatch.start("Cardinality&Load Estimation", "Create CardinalityEstimationManager");
@@ -286,9 +369,11 @@ public class Job extends OneTimeExecutable {
                                                      Set<Channel> openChannels,
                                                      Set<ExecutionStage> executedStages) {
 
-        executionPlans.forEach(plan ->
-                System.out.printf("Plan (estimated time: %s)\n%s\n", plan.getTimeEstimate(), plan.getOperators())
-        );
+        if (this.logger.isTraceEnabled()) {
+            executionPlans.forEach(plan ->
+                    this.logger.trace("Plan (estimated time: {}): {}", plan.getTimeEstimate(), plan.getOperators())
+            );
+        }
 
         return executionPlans.stream()
                 .reduce((p1, p2) -> {
@@ -437,6 +522,8 @@ public class Job extends OneTimeExecutable {
      * Enumerate possible execution plans from the given {@link RheemPlan} and determine the (seemingly) best one.
      */
     private void updateExecutionPlan(ExecutionPlan executionPlan) {
+        this.telemetry.recordReoptimization();
+
         // Defines the plan that we want to use in the end.
         final Comparator<TimeEstimate> timeEstimateComparator = this.configuration.getTimeEstimateComparatorProvider().provide();
 
@@ -488,6 +575,28 @@ public class Job extends OneTimeExecutable {
         if (this.crossPlatformExecutor != null) this.crossPlatformExecutor.shutdown();
     }
 
+    /**
+     * Exports the {@link #telemetry} as JSON lines if a path is configured via
+     * {@code rheem.core.optimizer.telemetry.path}.
+     */
+    private void exportTelemetry() {
+        final String telemetryPath = this.configuration.getStringProperty("rheem.core.optimizer.telemetry.path", null);
+        if (telemetryPath == null) return;
+        try {
+            this.telemetry.exportJsonLines(telemetryPath, this.id, this.name);
+        } catch (RheemException e) {
+            this.logger.error("Could not export the optimizer telemetry.", e);
+        }
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
     /**
      * Modify the {@link Configuration} to control the {@link Job} execution.
      */
@@ -511,4 +620,39 @@ public class Job extends OneTimeExecutable {
     public OptimizationContext getOptimizationContext() {
         return optimizationContext;
     }
+
+    /**
+     * Provide the runtime metrics of all executed {@link ExecutionStage}s of this instance. The contained
+     * {@link TaskMetrics} juxtapose the measured execution with the estimates of the optimizer.
+     *
+     * @return the {@link StageMetrics} in the order of execution
+     */
+    public List<StageMetrics> getStageMetrics() {
+        return this.crossPlatformExecutor == null ?
+                Collections.emptyList() :
+                this.crossPlatformExecutor.getStageMetrics();
+    }
+
+    /**
+     * Tells whether the {@link StageMetrics} of this instance are put to use, i.e., whether they are logged, stored as
+     * {@link LoadMeasurement}s, or requested via {@code rheem.core.metrics.enabled}. Otherwise, {@link Executor}s may
+     * skip costly measurements.
+     *
+     * @return whether the {@link StageMetrics} should be complete
+     */
+    public boolean isCollectingMetrics() {
+        return this.configuration.getOptionalBooleanProperty("rheem.core.metrics.enabled").orElseGet(() ->
+                this.logger.isDebugEnabled() ||
+                        this.configuration.getOptionalStringProperty("rheem.core.calibration.repository").isPresent()
+        );
+    }
+
+    /**
+     * Provide the {@link OptimizerTelemetry} of this instance, which describes its optimization.
+     *
+     * @return the {@link OptimizerTelemetry}
+     */
+    public OptimizerTelemetry getOptimizerTelemetry() {
+        return this.telemetry;
+    }
 }
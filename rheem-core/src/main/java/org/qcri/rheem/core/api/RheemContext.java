@@ -18,6 +18,11 @@ import java.util.Arrays;
  */
 public class RheemContext {
 
+    /**
+     * Name for {@link Job}s that have not been named explicitly.
+     */
+    public static final String DEFAULT_JOB_NAME = "Rheem job";
+
     @SuppressWarnings("unused")
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -56,13 +61,35 @@ public class RheemContext {
         this.createJob(rheemPlan, udfJars).execute();
     }
 
+    /**
+     * Execute a plan.
+     *
+     * @param jobName   describes the {@link Job} that executes the plan
+     * @param rheemPlan the plan to execute
+     * @param udfJars   JARs that declare the code for the UDFs
+     * @see ReflectionUtils#getDeclaringJar(Class)
+     */
+    public void execute(String jobName, RheemPlan rheemPlan, String... udfJars) {
+        this.createJob(jobName, rheemPlan, udfJars).execute();
+    }
+
     /**
      * Create a new {@link Job} that should execute the given {@link RheemPlan} eventually.
      *
      * @see ReflectionUtils#getDeclaringJar(Class)
      */
     public Job createJob(RheemPlan rheemPlan, String... udfJars) {
-        return new Job(this, rheemPlan, udfJars);
+        return this.createJob(DEFAULT_JOB_NAME, rheemPlan, udfJars);
+    }
+
+    /**
+     * Create a new {@link Job} that should execute the given {@link RheemPlan} eventually.
+     *
+     * @param jobName describes the new {@link Job}
+     * @see ReflectionUtils#getDeclaringJar(Class)
+     */
+    public Job createJob(String jobName, RheemPlan rheemPlan, String... udfJars) {
+        return new Job(this, jobName, rheemPlan, udfJars);
     }
 
     public Configuration getConfiguration() {
@@ -4,6 +4,7 @@ import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.types.BasicDataUnitType;
 import org.qcri.rheem.core.types.DataUnitType;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -20,6 +21,11 @@ public class FlatMapDescriptor<Input, Output> extends FunctionDescriptor {
 
     private final SerializableFunction<Input, Iterable<Output>> javaImplementation;
 
+    /**
+     * Optional implementation that processes whole batches of data units or {@code null}.
+     */
+    private SerializableBatchFunction<Input, Output> batchImplementation;
+
     public FlatMapDescriptor(SerializableFunction<Input, Iterable<Output>> javaImplementation,
                              Class<Input> inputTypeClass,
                              Class<Output> outputTypeClass) {
@@ -69,6 +75,26 @@ public class FlatMapDescriptor<Input, Output> extends FunctionDescriptor {
         return this.javaImplementation;
     }
 
+    /**
+     * Provides an implementation of this function that processes whole batches of data units. Platforms may use it
+     * in place of the {@link #getJavaImplementation()}, so both must behave the same.
+     *
+     * @param batchImplementation the batch implementation
+     * @return this instance
+     */
+    public FlatMapDescriptor<Input, Output> withBatchImplementation(SerializableBatchFunction<Input, Output> batchImplementation) {
+        this.batchImplementation = batchImplementation;
+        return this;
+    }
+
+    /**
+     * @return the implementation that processes whole batches of data units if any
+     * @see #withBatchImplementation(SerializableBatchFunction)
+     */
+    public Optional<SerializableBatchFunction<Input, Output>> getBatchImplementation() {
+        return Optional.ofNullable(this.batchImplementation);
+    }
+
     /**
      * In generic code, we do not have the type parameter values of operators, functions etc. This method avoids casting issues.
      *
@@ -5,9 +5,9 @@ import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
+import java.util.function.*;
 
 /**
  * A function operates on single data units or collections of those.
@@ -54,6 +54,23 @@ public abstract class FunctionDescriptor {
     public interface ExtendedSerializableFunction<Input, Output> extends SerializableFunction<Input, Output>, ExtendedFunction {
     }
 
+    /**
+     * A {@link Serializable} function that processes a whole batch of data units at once. Platforms can use it in
+     * place of the per-data-unit function to avoid the overhead of invoking the function for every data unit.
+     */
+    @FunctionalInterface
+    public interface SerializableBatchFunction<Input, Output> extends Serializable {
+
+        /**
+         * Processes a batch of data units.
+         *
+         * @param inputs  the batch; must not be retained after the call
+         * @param outputs collects the output data units in the order of their {@code inputs}
+         */
+        void apply(List<Input> inputs, List<Output> outputs);
+
+    }
+
     /**
      * Decorates the default {@link Function} with {@link Serializable}, which is required by some distributed frameworks.
      */
@@ -66,4 +83,82 @@ public abstract class FunctionDescriptor {
      */
     public interface ExtendedSerializableBinaryOperator<Type> extends SerializableBinaryOperator<Type>, ExtendedFunction {
     }
+
+    /**
+     * {@link SerializableFunction} over {@code int}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableIntUnaryOperator extends SerializableFunction<Integer, Integer>, IntUnaryOperator {
+
+        @Override
+        default Integer apply(Integer operand) {
+            return this.applyAsInt(operand);
+        }
+
+    }
+
+    /**
+     * {@link SerializableFunction} over {@code long}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableLongUnaryOperator extends SerializableFunction<Long, Long>, LongUnaryOperator {
+
+        @Override
+        default Long apply(Long operand) {
+            return this.applyAsLong(operand);
+        }
+
+    }
+
+    /**
+     * {@link SerializableFunction} over {@code double}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableDoubleUnaryOperator extends SerializableFunction<Double, Double>, DoubleUnaryOperator {
+
+        @Override
+        default Double apply(Double operand) {
+            return this.applyAsDouble(operand);
+        }
+
+    }
+
+    /**
+     * {@link SerializableBinaryOperator} over {@code int}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableIntBinaryOperator extends SerializableBinaryOperator<Integer>, IntBinaryOperator {
+
+        @Override
+        default Integer apply(Integer left, Integer right) {
+            return this.applyAsInt(left, right);
+        }
+
+    }
+
+    /**
+     * {@link SerializableBinaryOperator} over {@code long}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableLongBinaryOperator extends SerializableBinaryOperator<Long>, LongBinaryOperator {
+
+        @Override
+        default Long apply(Long left, Long right) {
+            return this.applyAsLong(left, right);
+        }
+
+    }
+
+    /**
+     * {@link SerializableBinaryOperator} over {@code double}s. Platforms can apply it without boxing the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableDoubleBinaryOperator extends SerializableBinaryOperator<Double>, DoubleBinaryOperator {
+
+        @Override
+        default Double apply(Double left, Double right) {
+            return this.applyAsDouble(left, right);
+        }
+
+    }
 }
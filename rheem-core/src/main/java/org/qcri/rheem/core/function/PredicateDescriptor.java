@@ -4,6 +4,8 @@ import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.types.BasicDataUnitType;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -17,6 +19,11 @@ public class PredicateDescriptor<Input> extends FunctionDescriptor {
 
     private final SerializablePredicate<Input> javaImplementation;
 
+    /**
+     * Optional implementation that processes whole batches of data units or {@code null}.
+     */
+    private SerializableBatchPredicate<Input> batchImplementation;
+
     public PredicateDescriptor(SerializablePredicate<Input> javaImplementation,
                                Class<Input> inputTypeClass) {
         this(javaImplementation, BasicDataUnitType.createBasic(inputTypeClass));
@@ -55,6 +62,26 @@ public class PredicateDescriptor<Input> extends FunctionDescriptor {
         return this.javaImplementation;
     }
 
+    /**
+     * Provides an implementation of this predicate that tests whole batches of data units. Platforms may use it
+     * in place of the {@link #getJavaImplementation()}, so both must behave the same.
+     *
+     * @param batchImplementation the batch implementation
+     * @return this instance
+     */
+    public PredicateDescriptor<Input> withBatchImplementation(SerializableBatchPredicate<Input> batchImplementation) {
+        this.batchImplementation = batchImplementation;
+        return this;
+    }
+
+    /**
+     * @return the implementation that processes whole batches of data units if any
+     * @see #withBatchImplementation(SerializableBatchPredicate)
+     */
+    public Optional<SerializableBatchPredicate<Input>> getBatchImplementation() {
+        return Optional.ofNullable(this.batchImplementation);
+    }
+
     /**
      * In generic code, we do not have the type parameter values of operators, functions etc. This method avoids casting issues.
      *
@@ -74,7 +101,73 @@ public class PredicateDescriptor<Input> extends FunctionDescriptor {
 
     }
 
+    /**
+     * A {@link Serializable} predicate that tests a whole batch of data units at once.
+     *
+     * @see FunctionDescriptor.SerializableBatchFunction
+     */
+    @FunctionalInterface
+    public interface SerializableBatchPredicate<T> extends Serializable {
+
+        /**
+         * Tests a batch of data units.
+         *
+         * @param inputs   the batch; must not be retained after the call
+         * @param verdicts receives at index {@code i} whether the {@code i}-th data unit of {@code inputs} passes
+         */
+        void test(List<T> inputs, boolean[] verdicts);
+
+    }
+
     public interface ExtendedSerializablePredicate<T> extends SerializablePredicate<T>, ExtendedFunction {
 
     }
+
+    /**
+     * {@link SerializablePredicate} over {@code int}s. Platforms can apply it via {@link #testInt(int)} without boxing
+     * the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableIntPredicate extends SerializablePredicate<Integer> {
+
+        boolean testInt(int value);
+
+        @Override
+        default boolean test(Integer value) {
+            return this.testInt(value);
+        }
+
+    }
+
+    /**
+     * {@link SerializablePredicate} over {@code long}s. Platforms can apply it via {@link #testLong(long)} without boxing
+     * the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableLongPredicate extends SerializablePredicate<Long> {
+
+        boolean testLong(long value);
+
+        @Override
+        default boolean test(Long value) {
+            return this.testLong(value);
+        }
+
+    }
+
+    /**
+     * {@link SerializablePredicate} over {@code double}s. Platforms can apply it via {@link #testDouble(double)} without boxing
+     * the data units.
+     */
+    @FunctionalInterface
+    public interface SerializableDoublePredicate extends SerializablePredicate<Double> {
+
+        boolean testDouble(double value);
+
+        @Override
+        default boolean test(Double value) {
+            return this.testDouble(value);
+        }
+
+    }
 }
@@ -3,6 +3,7 @@ package org.qcri.rheem.core.function;
 import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.types.BasicDataUnitType;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -19,6 +20,11 @@ public class TransformationDescriptor<Input, Output> extends FunctionDescriptor
 
     private final FlatMapDescriptor.SerializableFunction<Input,Output> javaImplementation;
 
+    /**
+     * Optional implementation that processes whole batches of data units or {@code null}.
+     */
+    private SerializableBatchFunction<Input, Output> batchImplementation;
+
     public TransformationDescriptor(FlatMapDescriptor.SerializableFunction<Input, Output> javaImplementation,
                                        Class<Input> inputTypeClass,
                                        Class<Output> outputTypeClass) {
@@ -68,6 +74,27 @@ public class TransformationDescriptor<Input, Output> extends FunctionDescriptor
         return this.javaImplementation;
     }
 
+    /**
+     * Provides an implementation of this function that processes whole batches of data units. Platforms may use it
+     * in place of the {@link #getJavaImplementation()}, so both must behave the same. In particular, the batch
+     * implementation must output exactly one data unit per input data unit.
+     *
+     * @param batchImplementation the batch implementation
+     * @return this instance
+     */
+    public TransformationDescriptor<Input, Output> withBatchImplementation(SerializableBatchFunction<Input, Output> batchImplementation) {
+        this.batchImplementation = batchImplementation;
+        return this;
+    }
+
+    /**
+     * @return the implementation that processes whole batches of data units if any
+     * @see #withBatchImplementation(SerializableBatchFunction)
+     */
+    public Optional<SerializableBatchFunction<Input, Output>> getBatchImplementation() {
+        return Optional.ofNullable(this.batchImplementation);
+    }
+
     /**
      * In generic code, we do not have the type parameter values of operators, functions etc. This method avoids casting issues.
      *
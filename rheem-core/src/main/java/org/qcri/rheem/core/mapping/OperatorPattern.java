@@ -2,6 +2,8 @@ package org.qcri.rheem.core.mapping;
 
 import org.qcri.rheem.core.plan.rheemplan.*;
 
+import java.util.function.Predicate;
+
 /**
  * An operator pattern matches to a class of operator instances.
  */
@@ -13,6 +15,11 @@ public class OperatorPattern<T extends Operator> extends OperatorBase {
 
     private final boolean isMatchSubclasses;
 
+    /**
+     * Further condition that matched {@link Operator}s must satisfy.
+     */
+    private Predicate<T> additionalTest = operator -> true;
+
     /**
      * Creates a new instance.
      * @param name used to identify the new instance (e.g., in {@link SubplanMatch}es)
@@ -35,6 +42,18 @@ public class OperatorPattern<T extends Operator> extends OperatorBase {
         this.isMatchSubclasses = isMatchSubclasses;
     }
 
+    /**
+     * Restricts this instance to match only {@link Operator}s that pass the given test, e.g., because their UDFs
+     * must be translatable for the target platform.
+     *
+     * @param additionalTest the test
+     * @return this instance
+     */
+    public OperatorPattern<T> withAdditionalTest(Predicate<T> additionalTest) {
+        this.additionalTest = additionalTest;
+        return this;
+    }
+
     /**
      * Test whether this pattern matches a given operator.
      *
@@ -44,10 +63,7 @@ public class OperatorPattern<T extends Operator> extends OperatorBase {
     public OperatorMatch match(Operator operator) {
         if (operator == null) return null;
 
-        // Only match by the class so far.
-        if (this.isMatchSubclasses ?
-                this.operatorClass.isAssignableFrom(operator.getClass()) :
-                this.operatorClass.equals(operator.getClass())) {
+        if (this.isMatching(operator.getClass()) && this.additionalTest.test((T) operator)) {
             this.checkSanity(operator);
             return new OperatorMatch(this, operator);
         }
@@ -55,6 +71,18 @@ public class OperatorPattern<T extends Operator> extends OperatorBase {
         return null;
     }
 
+    /**
+     * Test whether this pattern matches {@link Operator}s of the given class.
+     *
+     * @param operatorClass the {@link Operator} class
+     * @return whether {@link Operator}s of the {@code operatorClass} might match
+     */
+    public boolean isMatching(Class<?> operatorClass) {
+        return this.isMatchSubclasses ?
+                this.operatorClass.isAssignableFrom(operatorClass) :
+                this.operatorClass.equals(operatorClass);
+    }
+
     private void checkSanity(Operator operator) {
         if (this.getNumRegularInputs() != operator.getNumRegularInputs()) {
             throw new IllegalStateException(String.format("%s expected %d inputs, but matched %s with %d inputs.",
@@ -173,4 +173,8 @@ public class PlanTransformation {
     public Collection<Platform> getTargetPlatforms() {
         return this.targetPlatforms;
     }
+
+    public SubplanPattern getPattern() {
+        return this.pattern;
+    }
 }
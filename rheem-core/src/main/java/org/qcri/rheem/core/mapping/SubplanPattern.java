@@ -60,6 +60,31 @@ public class SubplanPattern extends OperatorBase {
         return new Matcher(minEpoch).match(plan);
     }
 
+    /**
+     * Tells whether this pattern could match a plan with the given {@link Operator} classes, i.e., whether each of
+     * its {@link OperatorPattern}s matches one of them.
+     *
+     * @param operatorClasses the classes of the {@link Operator}s that could be matched
+     * @return whether a match is possible
+     */
+    public boolean isMatchPossible(Set<Class<?>> operatorClasses) {
+        Queue<OperatorPattern> patternQueue = new LinkedList<>();
+        patternQueue.add(this.outputPattern);
+        while (!patternQueue.isEmpty()) {
+            final OperatorPattern pattern = patternQueue.poll();
+            if (operatorClasses.stream().noneMatch(pattern::isMatching)) {
+                return false;
+            }
+            for (int inputIndex = 0; inputIndex < pattern.getNumInputs(); inputIndex++) {
+                final Operator inputOperator = pattern.getInputOperator(inputIndex);
+                if (inputOperator != null) {
+                    patternQueue.add((OperatorPattern) inputOperator);
+                }
+            }
+        }
+        return true;
+    }
+
     public OperatorPattern getInputPattern() {
         return this.inputPattern;
     }
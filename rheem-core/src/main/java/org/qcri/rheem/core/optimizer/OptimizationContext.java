@@ -12,6 +12,7 @@ import org.qcri.rheem.core.optimizer.enumeration.PlanEnumerationPruningStrategy;
 import org.qcri.rheem.core.plan.rheemplan.*;
 import org.qcri.rheem.core.platform.ExecutionState;
 import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.profiling.OptimizerTelemetry;
 import org.qcri.rheem.core.util.RheemArrays;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,6 +72,11 @@ public class OptimizationContext {
      */
     private final List<PlanEnumerationPruningStrategy> pruningStrategies;
 
+    /**
+     * Collects key figures of the optimization.
+     */
+    private final OptimizerTelemetry telemetry;
+
     /**
      * Create a new, plain instance.
      */
@@ -80,14 +86,16 @@ public class OptimizationContext {
                 null,
                 -1,
                 new ChannelConversionGraph(configuration),
-                initializePruningStrategies(configuration));
+                initializePruningStrategies(configuration),
+                new OptimizerTelemetry());
     }
 
     /**
      * Forks an {@link OptimizationContext} by providing a write-layer on top of the {@code base}.
      */
     public OptimizationContext(OptimizationContext base) {
-        this(base.configuration, base, base.hostLoopContext, base.iterationNumber, base.channelConversionGraph, base.pruningStrategies);
+        this(base.configuration, base, base.hostLoopContext, base.iterationNumber, base.channelConversionGraph,
+                base.pruningStrategies, base.telemetry);
     }
 
     /**
@@ -96,7 +104,18 @@ public class OptimizationContext {
      * @param rheemPlan that the new instance should describe; loops should already be isolated
      */
     public OptimizationContext(RheemPlan rheemPlan, Configuration configuration) {
-        this(configuration, null, null, -1, new ChannelConversionGraph(configuration), initializePruningStrategies(configuration));
+        this(rheemPlan, configuration, new OptimizerTelemetry());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param rheemPlan that the new instance should describe; loops should already be isolated
+     * @param telemetry collects key figures of the optimization
+     */
+    public OptimizationContext(RheemPlan rheemPlan, Configuration configuration, OptimizerTelemetry telemetry) {
+        this(configuration, null, null, -1, new ChannelConversionGraph(configuration), initializePruningStrategies(configuration),
+                telemetry);
         PlanTraversal.upstream()
                 .withCallback(this::addOneTimeOperator)
                 .traverse(rheemPlan.getSinks());
@@ -108,7 +127,8 @@ public class OptimizationContext {
      * @param operator the single {@link Operator} of this instance
      */
     public OptimizationContext(Operator operator, Configuration configuration) {
-        this(configuration, null, null, -1, new ChannelConversionGraph(configuration), initializePruningStrategies(configuration));
+        this(configuration, null, null, -1, new ChannelConversionGraph(configuration), initializePruningStrategies(configuration),
+                new OptimizerTelemetry());
         this.addOneTimeOperator(operator);
     }
 
@@ -118,7 +138,8 @@ public class OptimizationContext {
     private OptimizationContext(LoopSubplan loop, LoopContext hostLoopContext, int iterationNumber, Configuration configuration) {
         this(configuration, null, hostLoopContext, iterationNumber,
                 hostLoopContext.getOptimizationContext().getChannelConversionGraph(),
-                hostLoopContext.getOptimizationContext().getPruningStrategies());
+                hostLoopContext.getOptimizationContext().getPruningStrategies(),
+                hostLoopContext.getOptimizationContext().getTelemetry());
         this.addOneTimeOperators(loop);
     }
 
@@ -127,13 +148,15 @@ public class OptimizationContext {
      */
     private OptimizationContext(Configuration configuration, OptimizationContext base, LoopContext hostLoopContext,
                                 int iterationNumber, ChannelConversionGraph channelConversionGraph,
-                                List<PlanEnumerationPruningStrategy> pruningStrategies) {
+                                List<PlanEnumerationPruningStrategy> pruningStrategies,
+                                OptimizerTelemetry telemetry) {
         this.configuration = configuration;
         this.base = base;
         this.hostLoopContext = hostLoopContext;
         this.iterationNumber = iterationNumber;
         this.channelConversionGraph = channelConversionGraph;
         this.pruningStrategies = pruningStrategies;
+        this.telemetry = telemetry;
     }
 
     /**
@@ -323,6 +346,13 @@ public class OptimizationContext {
         return this.pruningStrategies;
     }
 
+    /**
+     * @return the {@link OptimizerTelemetry} that collects key figures of the optimization
+     */
+    public OptimizerTelemetry getTelemetry() {
+        return this.telemetry;
+    }
+
     /**
      * Represents a single optimization context of an {@link Operator}. This can be thought of as a single, virtual
      * execution of the {@link Operator}.
@@ -530,6 +560,10 @@ public class OptimizationContext {
             return this.timeEstimate;
         }
 
+        public LoadProfile getLoadProfile() {
+            return this.loadProfile;
+        }
+
         @Override
         public String toString() {
             return String.format("%s[%s]", this.getClass().getSimpleName(), this.getOperator());
@@ -10,6 +10,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * {@link CardinalityPusher} implementation for {@link OperatorAlternative}s.
@@ -21,10 +22,16 @@ public class AggregatingCardinalityPusher extends CardinalityPusher {
      */
     private final List<Tuple<OperatorAlternative.Alternative, CardinalityPusher>> pushPaths;
 
+    /**
+     * Whether the {@link #pushPaths} should be pushed through concurrently.
+     */
+    private final boolean isParallel;
+
     public AggregatingCardinalityPusher(final OperatorAlternative operatorAlternative,
                                         final Configuration configuration) {
         super(operatorAlternative);
         this.pushPaths = this.initializePushPaths(operatorAlternative, Operator::getCardinalityPusher, configuration);
+        this.isParallel = configuration.getBooleanProperty("rheem.core.optimizer.cardinality.parallel");
     }
 
     public AggregatingCardinalityPusher(final OperatorAlternative operatorAlternative,
@@ -34,6 +41,7 @@ public class AggregatingCardinalityPusher extends CardinalityPusher {
                                         final Configuration configuration) {
         super(Slot.toIndices(relevantInputSlots), Slot.toIndices(relevantOutputSlots));
         this.pushPaths = this.initializePushPaths(operatorAlternative, getPusherFunction, configuration);
+        this.isParallel = configuration.getBooleanProperty("rheem.core.optimizer.cardinality.parallel");
     }
 
     private List<Tuple<OperatorAlternative.Alternative, CardinalityPusher>> initializePushPaths(
@@ -58,8 +66,12 @@ public class AggregatingCardinalityPusher extends CardinalityPusher {
     protected void doPush(OptimizationContext.OperatorContext opCtx, Configuration configuration) {
         final OptimizationContext optimizationCtx = opCtx.getOptimizationContext();
 
-        // Trigger the push for each of the pushPaths.
-        this.pushPaths.forEach(pushPath -> this.pushThroughPath(pushPath, configuration, optimizationCtx));
+        // Trigger the push for each of the pushPaths. They are independent of each other, so that their (load)
+        // estimations can run concurrently. Only pushing the results forward affects shared OperatorContexts.
+        final Stream<Tuple<OperatorAlternative.Alternative, CardinalityPusher>> pushPathStream =
+                this.isParallel && this.pushPaths.size() > 1 ? this.pushPaths.parallelStream() : this.pushPaths.stream();
+        pushPathStream.forEach(pushPath -> this.pushThroughPath(pushPath, configuration, optimizationCtx));
+        this.pushPaths.forEach(pushPath -> this.getOperatorContext(pushPath, optimizationCtx).pushCardinalitiesForward());
 
         // Somehow merge the CardinalityEstimates from the pushPaths to the final ones for the opCtx.
         this.pickCardinalities(opCtx);
@@ -76,7 +88,6 @@ public class AggregatingCardinalityPusher extends CardinalityPusher {
 
         // Perform the push.
         pushPath.field1.push(operatorCtx, configuration);
-        operatorCtx.pushCardinalitiesForward();
     }
 
     /**
@@ -22,6 +22,12 @@ public class CardinalityEstimationTraversal {
 
     private final Collection<? extends Activator> sourceActivators;
 
+    /**
+     * Whether independent {@link Activator}s, i.e., those whose inputs are all estimated, should be processed
+     * concurrently.
+     */
+    private final boolean isParallel;
+
     /**
      * Create an instance that pushes {@link CardinalityEstimate}s through a data flow plan starting at the given
      * {@code inputSlots} and {@code sourceOperators}, thereby putting {@link CardinalityEstimate}s into the
@@ -70,11 +76,14 @@ public class CardinalityEstimationTraversal {
      *                         the indices of the {@link Activation}s match those
      *                         of the {@link CardinalityEstimate}s
      * @param sourceActivators {@link Activator}s of source {@link CardinalityEstimator}
+     * @param isParallel       whether independent {@link Activator}s should be processed concurrently
      */
     private CardinalityEstimationTraversal(final Collection<Activation> inputActivations,
-                                           Collection<? extends Activator> sourceActivators) {
+                                           Collection<? extends Activator> sourceActivators,
+                                           boolean isParallel) {
         this.inputActivations = inputActivations;
         this.sourceActivators = sourceActivators;
+        this.isParallel = isParallel;
     }
 
     /**
@@ -86,17 +95,45 @@ public class CardinalityEstimationTraversal {
      */
     public void traverse(OptimizationContext optimizationContext, Configuration configuration) {
         try {
-            final Queue<Activator> activators = this.initializeActivatorQueue();
-            do {
-                assert !activators.isEmpty() : String.format("No source activators. (input activations: %s)", this.inputActivations);
-                final Activator activator = activators.poll();
-                activator.process(optimizationContext, configuration, activators);
-            } while (!activators.isEmpty());
+            if (this.isParallel) {
+                this.traverseInWaves(optimizationContext, configuration);
+            } else {
+                final Queue<Activator> activators = this.initializeActivatorQueue();
+                do {
+                    assert !activators.isEmpty() : String.format("No source activators. (input activations: %s)", this.inputActivations);
+                    final Activator activator = activators.poll();
+                    activator.process(optimizationContext, configuration, activators);
+                } while (!activators.isEmpty());
+            }
         } finally {
             this.reset();
         }
     }
 
+    /**
+     * Traverse in waves: All currently activated {@link Activator}s are independent of each other, so they can do
+     * their local estimation concurrently. Afterwards, their {@link CardinalityEstimate}s are pushed forward
+     * sequentially, thereby activating the next wave.
+     *
+     * @param optimizationContext provides input {@link CardinalityEstimate}s and stores all produces
+     *                            {@link CardinalityEstimate}s alongside the push traversal
+     * @param configuration       provides the applicable {@link Configuration}
+     */
+    private void traverseInWaves(OptimizationContext optimizationContext, Configuration configuration) {
+        Queue<Activator> wave = this.initializeActivatorQueue();
+        assert !wave.isEmpty() : String.format("No source activators. (input activations: %s)", this.inputActivations);
+        do {
+            final Stream<Activator> waveStream = wave.size() > 1 ? wave.parallelStream() : wave.stream();
+            waveStream.forEach(activator -> activator.push(optimizationContext, configuration));
+
+            final Queue<Activator> nextWave = new LinkedList<>();
+            for (Activator activator : wave) {
+                activator.activateDependents(optimizationContext, nextWave);
+            }
+            wave = nextWave;
+        } while (!wave.isEmpty());
+    }
+
     /**
      * Set up a queue of initial {@link Activator}s for an estimation pass.
      */
@@ -163,12 +200,31 @@ public class CardinalityEstimationTraversal {
          * @param activatorQueue      accepts newly activated {@link CardinalityEstimator}s
          */
         void process(OptimizationContext optimizationContext, Configuration configuration, Queue<Activator> activatorQueue) {
-            OptimizationContext.OperatorContext opCtx = optimizationContext.getOperatorContext(this.operator);
-            assert opCtx != null : String.format("Could not find OperatorContext for %s.", this.operator);
+            this.push(optimizationContext, configuration);
+            this.activateDependents(optimizationContext, activatorQueue);
+        }
 
-            // Do the local estimation.
+        /**
+         * Do the local estimation. This only affects the {@link OptimizationContext.OperatorContext} of the
+         * wrapped {@link #operator} (and those of its inner {@link Operator}s), so that independent instances
+         * can execute this method concurrently.
+         *
+         * @param optimizationContext the current {@link OptimizationContext} in which the push should take place
+         */
+        void push(OptimizationContext optimizationContext, Configuration configuration) {
+            OptimizationContext.OperatorContext opCtx = this.getOperatorContext(optimizationContext);
             this.pusher.push(opCtx, configuration);
-            opCtx.pushCardinalitiesForward();
+        }
+
+        /**
+         * Push the {@link CardinalityEstimate}s produced by {@link #push(OptimizationContext, Configuration)} forward,
+         * thereby activating new instances and putting them on the queue.
+         *
+         * @param optimizationContext the current {@link OptimizationContext} in which the push should take place
+         * @param activatorQueue      accepts newly activated {@link CardinalityEstimator}s
+         */
+        void activateDependents(OptimizationContext optimizationContext, Queue<Activator> activatorQueue) {
+            this.getOperatorContext(optimizationContext).pushCardinalitiesForward();
 
             for (int outputIndex = 0; outputIndex < this.operator.getNumOutputs(); outputIndex++) {
                 // Trigger follow-up operators.
@@ -176,6 +232,12 @@ public class CardinalityEstimationTraversal {
             }
         }
 
+        private OptimizationContext.OperatorContext getOperatorContext(OptimizationContext optimizationContext) {
+            OptimizationContext.OperatorContext opCtx = optimizationContext.getOperatorContext(this.operator);
+            assert opCtx != null : String.format("Could not find OperatorContext for %s.", this.operator);
+            return opCtx;
+        }
+
         /**
          * Triggers the {@link #dependentActivations} and puts newly activated {@link Activator}s onto the
          * {@code activatorQueue}.
@@ -354,7 +416,8 @@ public class CardinalityEstimationTraversal {
                 }
             }
 
-            this.result = new CardinalityEstimationTraversal(requiredActivations, sourceActivators);
+            final boolean isParallel = this.configuration.getBooleanProperty("rheem.core.optimizer.cardinality.parallel");
+            this.result = new CardinalityEstimationTraversal(requiredActivations, sourceActivators, isParallel);
         }
 
         /**
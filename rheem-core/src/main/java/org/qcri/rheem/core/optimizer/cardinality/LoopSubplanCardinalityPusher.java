@@ -12,6 +12,9 @@ import java.util.stream.Collectors;
 
 /**
  * {@link CardinalityPusher} implementation for {@link LoopSubplan}s.
+ * <p>If the {@link LoopHeadOperator} declares {@link LoopHeadOperator#getDecayingLoopBodyOutputs() decaying outputs},
+ * as delta iterations do for their workset, the cardinality of these outputs is assumed to shrink by the factor
+ * {@code rheem.core.optimizer.cardinality.workset-decay} in every iteration.</p>
  */
 public class LoopSubplanCardinalityPusher extends CardinalityPusher {
 
@@ -25,6 +28,11 @@ public class LoopSubplanCardinalityPusher extends CardinalityPusher {
 
     private final Set<OutputSlot<?>> bodyOutputSlots;
 
+    /**
+     * Factor by which the {@link LoopHeadOperator#getDecayingLoopBodyOutputs()} shrink per iteration.
+     */
+    private final double worksetDecay;
+
     public LoopSubplanCardinalityPusher(LoopSubplan loopSubplan, Configuration configuration) {
         super(loopSubplan);
 
@@ -52,6 +60,7 @@ public class LoopSubplanCardinalityPusher extends CardinalityPusher {
                 .collect(Collectors.toSet());
         this.bodyTraversal = CardinalityEstimationTraversal.createPushTraversal(
                 bodyInputSlots, loopHead.getLoopBodyInputs(), Collections.emptyList(), configuration);
+        this.worksetDecay = configuration.getDoubleProperty("rheem.core.optimizer.cardinality.workset-decay");
     }
 
     @Override
@@ -64,6 +73,9 @@ public class LoopSubplanCardinalityPusher extends CardinalityPusher {
         for (OptimizationContext iterationCtx : loopCtx.getIterationContexts()) {
             // Push through the loop head.
             final OptimizationContext.OperatorContext loopHeadCtx = iterationCtx.getOperatorContext(loopHead);
+            if (!iterationCtx.isInitialIteration()) {
+                this.copyIterationInvariantInputCardinalities(loopCtx.getInitialIterationContext(), loopHeadCtx);
+            }
             if (iterationCtx.isFinalIteration()) {
                 this.loopHeadFinalizationPusher.push(loopHeadCtx, configuration);
 
@@ -83,6 +95,10 @@ public class LoopSubplanCardinalityPusher extends CardinalityPusher {
 
             } else {
                 this.loopHeadIterationPusher.push(loopHeadCtx, configuration);
+                this.applyDecay(
+                        loopCtx.getIterationContext(iterationCtx.getIterationNumber() - 1).getOperatorContext(loopHead),
+                        loopHeadCtx
+                );
             }
             for (OutputSlot<?> outputSlot : loopHead.getLoopBodyOutputs()) {
                 loopHeadCtx.pushCardinalityForward(outputSlot.getIndex(), iterationCtx);
@@ -99,4 +115,43 @@ public class LoopSubplanCardinalityPusher extends CardinalityPusher {
 
     }
 
+    /**
+     * Provides the {@link LoopHeadOperator#getIterationInvariantInputs()} of the initial iteration to a later iteration.
+     */
+    private void copyIterationInvariantInputCardinalities(OptimizationContext initialIterationCtx,
+                                                          OptimizationContext.OperatorContext loopHeadCtx) {
+        final LoopHeadOperator loopHead = (LoopHeadOperator) loopHeadCtx.getOperator();
+        final OptimizationContext.OperatorContext initialLoopHeadCtx = initialIterationCtx.getOperatorContext(loopHead);
+        for (InputSlot<?> invariantInput : loopHead.getIterationInvariantInputs()) {
+            final CardinalityEstimate cardinality = initialLoopHeadCtx.getInputCardinality(invariantInput.getIndex());
+            if (cardinality != null) {
+                loopHeadCtx.setInputCardinality(invariantInput.getIndex(), cardinality);
+                loopHead.propagateInputCardinality(invariantInput.getIndex(), loopHeadCtx);
+            }
+        }
+    }
+
+    /**
+     * Lets the {@link LoopHeadOperator#getDecayingLoopBodyOutputs()} shrink w.r.t. the previous iteration unless the
+     * loop body already estimates a smaller cardinality.
+     */
+    private void applyDecay(OptimizationContext.OperatorContext previousLoopHeadCtx,
+                            OptimizationContext.OperatorContext loopHeadCtx) {
+        if (this.worksetDecay >= 1d) return;
+        final LoopHeadOperator loopHead = (LoopHeadOperator) loopHeadCtx.getOperator();
+        for (OutputSlot<?> decayingOutput : loopHead.getDecayingLoopBodyOutputs()) {
+            final int outputIndex = decayingOutput.getIndex();
+            final CardinalityEstimate previousCardinality = previousLoopHeadCtx.getOutputCardinality(outputIndex);
+            final CardinalityEstimate cardinality = loopHeadCtx.getOutputCardinality(outputIndex);
+            if (previousCardinality == null || cardinality == null) continue;
+            loopHeadCtx.setOutputCardinality(outputIndex, new CardinalityEstimate(
+                    Math.min(cardinality.getLowerEstimate(),
+                            Math.round(previousCardinality.getLowerEstimate() * this.worksetDecay)),
+                    Math.min(cardinality.getUpperEstimate(),
+                            Math.round(previousCardinality.getUpperEstimate() * this.worksetDecay)),
+                    cardinality.getCorrectnessProbability()
+            ));
+        }
+    }
+
 }
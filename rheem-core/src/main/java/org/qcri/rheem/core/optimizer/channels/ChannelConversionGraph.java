@@ -10,6 +10,7 @@ import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.LoopSubplan;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
 import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Junction;
@@ -91,7 +92,10 @@ public class ChannelConversionGraph {
                                             Channel existingChannel,
                                             List<InputSlot<?>> destInputSlots,
                                             OptimizationContext optimizationContext) {
-        return new ShortestTreeSearcher(output, existingChannel, destInputSlots, optimizationContext, this.configuration).getJunction();
+        final Junction junction =
+                new ShortestTreeSearcher(output, existingChannel, destInputSlots, optimizationContext, this.configuration).getJunction();
+        optimizationContext.getTelemetry().recordJunctionSearch(junction != null);
+        return junction;
     }
 
     /**
@@ -225,7 +229,10 @@ public class ChannelConversionGraph {
 
         /**
          * Find the supported {@link ChannelDescriptor}s for the given {@link InputSlot}. If the latter is a
-         * "loop invariant" {@link InputSlot}, then require to only reusable {@link ChannelDescriptor}.
+         * "loop invariant" {@link InputSlot}, then require to only reusable {@link ChannelDescriptor}. If the
+         * {@link InputSlot} is in another {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} than the
+         * {@link #sourceOutput} and a non-reusable, inter-stage capable {@link ChannelDescriptor} is supported, then
+         * require inter-stage capable {@link ChannelDescriptor}s, so that the data need not be materialized.
          *
          * @param input for which supported {@link ChannelDescriptor}s are requested
          * @return all eligible {@link ChannelDescriptor}s
@@ -236,9 +243,32 @@ public class ChannelConversionGraph {
             if (input.isLoopInvariant()) {
                 // Loop input is needed in several iterations and must therefore be reusable.
                 return supportedInputChannels.stream().filter(ChannelDescriptor::isReusable).collect(Collectors.toSet());
-            } else {
-                return RheemCollections.asSet(supportedInputChannels);
             }
+            if (this.isCrossingStages(input)) {
+                final Set<ChannelDescriptor> interStageChannels = supportedInputChannels.stream()
+                        .filter(ChannelDescriptor::isInterStageCapable)
+                        .collect(Collectors.toSet());
+                if (interStageChannels.stream().anyMatch(channelDescriptor -> !channelDescriptor.isReusable())) {
+                    return interStageChannels;
+                }
+            }
+            return RheemCollections.asSet(supportedInputChannels);
+        }
+
+        /**
+         * Tells whether the given {@link InputSlot} will certainly be in another
+         * {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} than the {@link #sourceOutput}, namely
+         * because one of them belongs to a {@link org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator} or because
+         * a loop is entered or left (cf. {@link org.qcri.rheem.core.optimizer.enumeration.StageAssignmentTraversal}).
+         *
+         * @param input that is to be connected to the {@link #sourceOutput}
+         * @return whether an {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} boundary is crossed
+         */
+        private boolean isCrossingStages(InputSlot<?> input) {
+            final Operator sourceOperator = this.sourceOutput.getOwner();
+            final Operator destOperator = input.getOwner();
+            return sourceOperator.isLoopHead() || destOperator.isLoopHead()
+                    || !sourceOperator.getLoopStack().equals(destOperator.getLoopStack());
         }
 
         @Override
@@ -121,6 +121,23 @@ public class LoadProfile {
         return this.subprofiles;
     }
 
+    /**
+     * Creates a copy of this instance with a different CPU usage. The copy shares the subprofiles with this instance.
+     *
+     * @param cpuUsage the CPU usage of the copy
+     * @return the copy
+     */
+    public LoadProfile withCpuUsage(LoadEstimate cpuUsage) {
+        final LoadProfile copy = new LoadProfile(cpuUsage, this.ramUsage, this.networkUsage, this.diskUsage);
+        copy.subprofiles.addAll(this.subprofiles);
+        copy.maxMachines = this.maxMachines;
+        copy.maxCores = this.maxCores;
+        copy.ratioMachines = this.ratioMachines;
+        copy.ratioCores = this.ratioCores;
+        copy.overheadMillis = this.overheadMillis;
+        return copy;
+    }
+
     public void nest(LoadProfile subprofile) {
         this.subprofiles.add(subprofile);
     }
@@ -1,6 +1,7 @@
 package org.qcri.rheem.core.optimizer.costs;
 
 import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
@@ -31,6 +32,29 @@ public class NestableLoadProfileEstimator implements LoadProfileEstimator {
 
     private Collection<LoadProfileEstimator> nestedLoadEstimators = new LinkedList<>();
 
+    /**
+     * {@link Configuration} key of the specification of this instance or {@code null} if it was not created from
+     * a {@link Configuration}.
+     */
+    private String configurationKey;
+
+    /**
+     * Creates a new instance from the specification that is stored in the given {@link Configuration}. Other than
+     * {@link #parseSpecification(String)}, the new instance remembers where its specification came from, so that
+     * the latter can be calibrated.
+     *
+     * @param configuration    provides the specification
+     * @param configurationKey the key of the specification
+     * @return the new instance
+     * @see org.qcri.rheem.core.profiling.LoadProfileCalibrator
+     */
+    public static NestableLoadProfileEstimator parseSpecification(Configuration configuration, String configurationKey) {
+        final NestableLoadProfileEstimator estimator =
+                parseSpecification(configuration.getStringProperty(configurationKey));
+        estimator.configurationKey = configurationKey;
+        return estimator;
+    }
+
     /**
      * Creates a new instance from a specification {@link String}. Valid specifications are as follows:
      * <pre>
@@ -219,4 +243,12 @@ public class NestableLoadProfileEstimator implements LoadProfileEstimator {
     public double getResourceUtilization() {
         return this.resourceUtilization;
     }
+
+    /**
+     * @return the {@link Configuration} key of the specification of this instance or {@code null} if unknown
+     * @see #parseSpecification(Configuration, String)
+     */
+    public String getConfigurationKey() {
+        return this.configurationKey;
+    }
 }
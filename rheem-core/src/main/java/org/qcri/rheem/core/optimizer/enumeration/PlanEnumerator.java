@@ -639,6 +639,7 @@ public class PlanEnumerator {
     private void prune(final PlanEnumeration planEnumeration) {
         if (planEnumeration.getPlanImplementations().size() < 2) {
             this.logger.trace("Skip pruning: Too few plan implementations.");
+            this.optimizationContext.getTelemetry().recordPruning(planEnumeration, planEnumeration.getPlanImplementations().size());
             return;
         }
 
@@ -651,6 +652,7 @@ public class PlanEnumerator {
 
         int numPlanImplementations = planEnumeration.getPlanImplementations().size();
         this.optimizationContext.getPruningStrategies().forEach(strategy -> strategy.prune(planEnumeration));
+        this.optimizationContext.getTelemetry().recordPruning(planEnumeration, numPlanImplementations);
         this.logger.debug("Pruned plan enumeration from {} to {} implementations.",
                 numPlanImplementations,
                 planEnumeration.getPlanImplementations().size()
@@ -18,7 +18,9 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
 
     private Collection<OutputSlot<?>> loopBodyOutputs, finalLoopOutputs;
 
-    private Collection<InputSlot<?>> loopBodyInputs, initializationInputs;
+    private Collection<InputSlot<?>> loopBodyInputs, initializationInputs, iterationInvariantInputs;
+
+    private Collection<OutputSlot<?>> decayingLoopBodyOutputs;
 
     /**
      * Creates a new instance..
@@ -44,6 +46,9 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
             this.initializationInputs = this.originalLoopHead.getLoopInitializationInputs().stream()
                     .map(originalAlternative.getSlotMapping()::resolveUpstream).filter(Objects::nonNull)
                     .collect(Collectors.toList());
+            this.iterationInvariantInputs = this.originalLoopHead.getIterationInvariantInputs().stream()
+                    .map(originalAlternative.getSlotMapping()::resolveUpstream).filter(Objects::nonNull)
+                    .collect(Collectors.toList());
             this.loopBodyOutputs = this.originalLoopHead.getLoopBodyOutputs().stream()
                     .map(originalAlternative.getSlotMapping()::resolveDownstream)
                     .map(RheemCollections::getSingleOrNull)
@@ -54,6 +59,11 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
                     .map(RheemCollections::getSingleOrNull)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
+            this.decayingLoopBodyOutputs = this.originalLoopHead.getDecayingLoopBodyOutputs().stream()
+                    .map(originalAlternative.getSlotMapping()::resolveDownstream)
+                    .map(RheemCollections::getSingleOrNull)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         }
     }
 
@@ -77,6 +87,16 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
         return this.initializationInputs;
     }
 
+    @Override
+    public Collection<InputSlot<?>> getIterationInvariantInputs() {
+        return this.iterationInvariantInputs;
+    }
+
+    @Override
+    public Collection<OutputSlot<?>> getDecayingLoopBodyOutputs() {
+        return this.decayingLoopBodyOutputs;
+    }
+
     @Override
     public int getNumExpectedIterations() {
         return this.originalLoopHead.getNumExpectedIterations();
@@ -84,7 +104,7 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
 
     @Override
     public CardinalityPusher getCardinalityPusher(Configuration configuration) {
-        return new AggregatingCardinalityPusher(this, this.getLoopBodyInputs(), this.getLoopBodyOutputs(),
+        return new AggregatingCardinalityPusher(this, this.getIterationInputs(), this.getLoopBodyOutputs(),
                 Operator::getCardinalityPusher, configuration);
     }
 
@@ -100,7 +120,7 @@ public class LoopHeadAlternative extends OperatorAlternative implements LoopHead
     @Override
     public CardinalityPusher getFinalizationPusher(Configuration configuration) {
         return new AggregatingCardinalityPusher(this,
-                this.getLoopBodyInputs(),
+                this.getIterationInputs(),
                 this.getLoopBodyOutputs(),
                 (op, conf) -> ((LoopHeadOperator) op).getFinalizationPusher(conf),
                 configuration);
@@ -5,6 +5,9 @@ import org.qcri.rheem.core.optimizer.cardinality.CardinalityPusher;
 import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityPusher;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Head of a {@link LoopSubplan}.
@@ -43,6 +46,39 @@ public interface LoopHeadOperator extends Operator {
      */
     Collection<InputSlot<?>> getLoopInitializationInputs();
 
+    /**
+     * Tells which of the {@link #getLoopInitializationInputs()} are iteration-invariant, i.e., their
+     * {@link org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate}s remain valid for all iterations. This is
+     * the case, e.g., for inputs that initialize some state that this instance maintains across iterations.
+     *
+     * @return the iteration-invariant initialization {@link InputSlot}s
+     */
+    default Collection<InputSlot<?>> getIterationInvariantInputs() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Collects the {@link InputSlot}s whose {@link org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate}s
+     * are available in all but the initial iteration, i.e., the {@link #getLoopBodyInputs()} and the
+     * {@link #getIterationInvariantInputs()}.
+     *
+     * @return the said {@link InputSlot}s
+     */
+    default Collection<InputSlot<?>> getIterationInputs() {
+        return Stream.concat(this.getLoopBodyInputs().stream(), this.getIterationInvariantInputs().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tells which of the {@link #getLoopBodyOutputs()} are expected to shrink from iteration to iteration, such as
+     * the workset of a delta iteration.
+     *
+     * @return the decaying loop body-bound {@link OutputSlot}s
+     */
+    default Collection<OutputSlot<?>> getDecayingLoopBodyOutputs() {
+        return Collections.emptyList();
+    }
+
     /**
      * @return a number of expected iterations; not necessarily the actual value
      */
@@ -54,7 +90,7 @@ public interface LoopHeadOperator extends Operator {
     @Override
     default CardinalityPusher getCardinalityPusher(final Configuration configuration) {
         return new DefaultCardinalityPusher(this,
-                Slot.toIndices(this.getLoopBodyInputs()),
+                Slot.toIndices(this.getIterationInputs()),
                 Slot.toIndices(this.getLoopBodyOutputs()),
                 configuration.getCardinalityEstimatorProvider());
     }
@@ -74,7 +110,7 @@ public interface LoopHeadOperator extends Operator {
      */
     default CardinalityPusher getFinalizationPusher(Configuration configuration) {
         return new DefaultCardinalityPusher(this,
-                Slot.toIndices(this.getLoopBodyInputs()),
+                Slot.toIndices(this.getIterationInputs()),
                 Slot.toIndices(this.getFinalLoopOutputs()),
                 configuration.getCardinalityEstimatorProvider());
     }
@@ -169,9 +169,76 @@ public class RheemPlan {
      * @return the number of applied transformations
      */
     private int applyAndCountTransformations(Collection<PlanTransformation> transformations, int epoch) {
-        return transformations.stream()
-                .mapToInt(transformation -> transformation.transform(this, epoch))
-                .sum();
+        // Index the classes of the matchable Operators, so as to skip transformations that cannot match anyway.
+        Set<Class<?>> operatorClasses = this.collectOperatorClasses(epoch - 1);
+        int numTransformations = 0;
+        for (PlanTransformation transformation : transformations) {
+            if (!transformation.getPattern().isMatchPossible(operatorClasses)) continue;
+            final int numNewTransformations = transformation.transform(this, epoch);
+            if (numNewTransformations > 0) {
+                numTransformations += numNewTransformations;
+                operatorClasses = this.collectOperatorClasses(epoch - 1);
+            }
+        }
+        return numTransformations;
+    }
+
+    /**
+     * Collects the classes of all elementary {@link Operator}s in this instance (including those nested in
+     * {@link CompositeOperator}s) that are not older than the given epoch.
+     *
+     * @param minEpoch the (inclusive) minimum epoch of the {@link Operator}s to consider
+     * @return the {@link Operator} classes
+     */
+    private Set<Class<?>> collectOperatorClasses(int minEpoch) {
+        final Set<Class<?>> operatorClasses = new HashSet<>();
+        collectOperatorClasses(this.getSinks(), minEpoch, operatorClasses);
+        return operatorClasses;
+    }
+
+    /**
+     * Traverses upstream from the given {@link Operator}s and collects the classes of all elementary {@link Operator}s
+     * that are not older than the given epoch.
+     *
+     * @param startOperators  from which to start the traversal
+     * @param minEpoch        the (inclusive) minimum epoch of the {@link Operator}s to consider
+     * @param operatorClasses collects the {@link Operator} classes
+     */
+    private static void collectOperatorClasses(Collection<? extends Operator> startOperators,
+                                               int minEpoch,
+                                               Set<Class<?>> operatorClasses) {
+        PlanTraversal.upstream()
+                .withCallback((Operator operator) -> {
+                    if (operator instanceof Subplan) {
+                        collectOperatorClasses(collectInnerSinks((Subplan) operator), minEpoch, operatorClasses);
+                    } else if (operator instanceof OperatorAlternative) {
+                        for (OperatorAlternative.Alternative alternative : ((OperatorAlternative) operator).getAlternatives()) {
+                            collectOperatorClasses(collectInnerSinks(alternative), minEpoch, operatorClasses);
+                        }
+                    } else if (operator.getEpoch() >= minEpoch) {
+                        operatorClasses.add(operator.getClass());
+                    }
+                })
+                .traverse(startOperators);
+    }
+
+    /**
+     * Collects the {@link Operator}s within an {@link OperatorContainer} that provide its outputs or that are its sink.
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Operator> collectInnerSinks(OperatorContainer container) {
+        final CompositeOperator compositeOperator = container.toOperator();
+        if (compositeOperator.isSink()) {
+            return Collections.singleton(container.getSink());
+        }
+        final Collection<Operator> innerSinks = new HashSet<>();
+        for (OutputSlot<?> output : compositeOperator.getAllOutputs()) {
+            final OutputSlot<?> innerOutput = container.traceOutput((OutputSlot<Object>) output);
+            if (innerOutput != null) {
+                innerSinks.add(innerOutput.getOwner());
+            }
+        }
+        return innerSinks;
     }
 
     /**
@@ -11,6 +11,8 @@ public abstract class AbstractChannelInstance extends ExecutionResourceTemplate
 
     private OptionalLong measuredCardinality = OptionalLong.empty();
 
+    private boolean isLoopInvariant = false;
+
     /**
      * Creates a new instance and registers it with its {@link Executor}.
      *
@@ -38,6 +40,16 @@ public abstract class AbstractChannelInstance extends ExecutionResourceTemplate
         this.measuredCardinality = OptionalLong.of(cardinality);
     }
 
+    @Override
+    public boolean isLoopInvariant() {
+        return this.isLoopInvariant;
+    }
+
+    @Override
+    public void markAsLoopInvariant() {
+        this.isLoopInvariant = true;
+    }
+
     @Override
     public String toString() {
         return "*" + this.getChannel().toString();
@@ -28,6 +28,38 @@ public interface ChannelInstance extends ExecutionResource {
      */
     void setMeasuredCardinality(long cardinality);
 
+    /**
+     * Optionally provides the number of bytes occupied by this instance. Only few implementations can tell this number.
+     *
+     * @return the number of bytes if available
+     */
+    default OptionalLong getMeasuredNumBytes() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Optionally provides the number of data quanta that have been passed through this instance. Other than
+     * {@link #getMeasuredCardinality()}, this number is not subject to instrumentation and is thus not considered
+     * for re-optimization. It serves to describe the execution only.
+     *
+     * @return the number of data quanta if available
+     */
+    default OptionalLong getObservedCardinality() {
+        return this.getMeasuredCardinality();
+    }
+
+    /**
+     * Optionally provides the time that the producer of this instance spent lazily, i.e., while the data quanta of
+     * this instance were being consumed. Instances that are materialized by their producer should report {@code 0}.
+     * This allows to attribute execution times to individual {@link org.qcri.rheem.core.plan.executionplan.ExecutionTask}s
+     * in spite of lazy execution.
+     *
+     * @return the time in nanoseconds if available
+     */
+    default OptionalLong getMeasuredLazyNanos() {
+        return OptionalLong.empty();
+    }
+
     /**
      * Tells whether this instance should be instrumented
      */
@@ -35,4 +67,20 @@ public interface ChannelInstance extends ExecutionResource {
         return this.getChannel().isMarkedForInstrumentation();
     }
 
+    /**
+     * Tells whether this instance is loop invariant, i.e., it is consumed in several iterations of an
+     * {@link org.qcri.rheem.core.plan.executionplan.ExecutionStageLoop} and retained in the meantime.
+     *
+     * @return whether this instance is loop invariant
+     */
+    boolean isLoopInvariant();
+
+    /**
+     * Declare this instance to be loop invariant. Implementations may use this hint to cache derived data
+     * structures across iterations.
+     *
+     * @see #isLoopInvariant()
+     */
+    void markAsLoopInvariant();
+
 }
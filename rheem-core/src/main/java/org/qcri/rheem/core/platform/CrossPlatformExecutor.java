@@ -1,10 +1,13 @@
 package org.qcri.rheem.core.platform;
 
 import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.*;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
 import org.qcri.rheem.core.profiling.InstrumentationStrategy;
+import org.qcri.rheem.core.profiling.StageMetrics;
+import org.qcri.rheem.core.profiling.TaskMetrics;
 import org.qcri.rheem.core.util.AbstractReferenceCountable;
 import org.qcri.rheem.core.util.Formats;
 import org.slf4j.Logger;
@@ -87,6 +90,16 @@ public class CrossPlatformExecutor implements ExecutionState {
      */
     private final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
 
+    /**
+     * Describes all {@link ExecutionStage} executions in the order of their execution.
+     */
+    private final List<StageMetrics> stageMetrics = new ArrayList<>();
+
+    /**
+     * Describes the {@link ExecutionStage} that is currently being executed.
+     */
+    private StageMetrics currentStageMetrics;
+
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
         this.instrumentationStrategy = instrumentationStrategy;
@@ -251,10 +264,20 @@ public class CrossPlatformExecutor implements ExecutionState {
 
         // Have the execution done.
         CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
+        this.currentStageMetrics = new StageMetrics(stage);
+        final long startCpuMillis = executor.isExecutingOnCallingThread() ?
+                StageMetrics.getCurrentThreadCpuMillis() :
+                TaskMetrics.UNKNOWN;
         long startTime = System.currentTimeMillis();
         executor.execute(stage, this);
         long finishTime = System.currentTimeMillis();
         CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime));
+        this.currentStageMetrics.setWallMillis(finishTime - startTime);
+        if (startCpuMillis != TaskMetrics.UNKNOWN) {
+            this.currentStageMetrics.setCpuMillis(StageMetrics.getCurrentThreadCpuMillis() - startCpuMillis);
+        }
+        this.stageMetrics.add(this.currentStageMetrics);
+        this.currentStageMetrics = null;
 
         // Remember that we have executed the stage.
         this.completedStages.add(stage);
@@ -384,6 +407,41 @@ public class CrossPlatformExecutor implements ExecutionState {
         return Collections.unmodifiableMap(this.cardinalities);
     }
 
+    /**
+     * Registers {@link TaskMetrics} for the {@link ExecutionStage} that is currently being executed and enriches
+     * them with the estimates of the optimizer.
+     *
+     * @param taskMetrics the {@link TaskMetrics}
+     */
+    public void addTaskMetrics(Collection<TaskMetrics> taskMetrics) {
+        final OptimizationContext optimizationContext = this.job == null ? null : this.job.getOptimizationContext();
+        if (optimizationContext != null) {
+            for (TaskMetrics metrics : taskMetrics) {
+                final OptimizationContext.OperatorContext operatorContext =
+                        optimizationContext.getOperatorContext(metrics.getTask().getOperator());
+                // NB: There are no OperatorContexts for glue operators and operators inside of loops.
+                if (operatorContext != null) {
+                    metrics.setEstimates(operatorContext.getTimeEstimate(), operatorContext.getLoadProfile(),
+                            operatorContext.getInputCardinalities(), operatorContext.getOutputCardinalities());
+                }
+            }
+        }
+        if (this.currentStageMetrics != null) {
+            this.currentStageMetrics.addTaskMetrics(taskMetrics);
+        } else {
+            this.logger.warn("Discarding metrics for tasks outside of a stage execution: {}", taskMetrics);
+        }
+    }
+
+    /**
+     * Provides the {@link StageMetrics} for all {@link ExecutionStage}s executed so far.
+     *
+     * @return the {@link StageMetrics} in the order of execution
+     */
+    public List<StageMetrics> getStageMetrics() {
+        return Collections.unmodifiableList(this.stageMetrics);
+    }
+
     /**
      * Set a new {@link Breakpoint} for this instance.
      *
@@ -624,13 +682,17 @@ public class CrossPlatformExecutor implements ExecutionState {
         }
 
         /**
-         * Registers a loop invariant {@link ExecutionResource} with this instance.
+         * Registers a loop invariant {@link ChannelInstance} with this instance. The {@link ChannelInstance} is
+         * retained until the {@link #loop} is finished and is told about its loop invariance, so that it can
+         * keep derived data structures (e.g., hash indices) across iterations.
          *
-         * @param loopInvariant the said {@link ExecutionResource}
+         * @param loopInvariant the said {@link ChannelInstance}
          */
-        void registerLoopInvariant(ExecutionResource loopInvariant) {
+        void registerLoopInvariant(ChannelInstance loopInvariant) {
             if (this.loopInvariants.add(loopInvariant)) {
                 loopInvariant.noteObtainedReference();
+                loopInvariant.markAsLoopInvariant();
+                CrossPlatformExecutor.this.logger.debug("Retaining loop invariant {}.", loopInvariant);
             }
         }
 
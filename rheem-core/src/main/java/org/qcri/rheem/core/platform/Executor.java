@@ -28,6 +28,17 @@ public interface Executor extends CompositeExecutionResource {
      */
     Platform getPlatform();
 
+    /**
+     * Tells whether this instance does all the work of {@link ExecutionStage}s on the thread that
+     * {@link #execute(ExecutionStage, ExecutionState) executes} them, so that the CPU time of that thread reflects
+     * the CPU time of the {@link ExecutionStage}s. That is not the case for distributed or multi-threaded executions.
+     *
+     * @return whether the {@link ExecutionStage}s are executed on the calling thread only
+     */
+    default boolean isExecutingOnCallingThread() {
+        return false;
+    }
+
     /**
      * If this instance is instrumented by a {@link CrossPlatformExecutor}, this method provides the latter.
      *
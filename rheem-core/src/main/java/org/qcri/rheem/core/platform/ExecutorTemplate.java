@@ -2,11 +2,13 @@ package org.qcri.rheem.core.platform;
 
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStageLoop;
+import org.qcri.rheem.core.profiling.TaskMetrics;
 import org.qcri.rheem.core.util.AbstractReferenceCountable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.OptionalLong;
 import java.util.Set;
@@ -95,6 +97,17 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
         });
     }
 
+    /**
+     * Register the given {@link TaskMetrics} with the {@link #crossPlatformExecutor} (if any).
+     *
+     * @param taskMetrics describe {@link org.qcri.rheem.core.plan.executionplan.ExecutionTask}s executed by this instance
+     */
+    protected void addTaskMetrics(Collection<TaskMetrics> taskMetrics) {
+        if (this.crossPlatformExecutor != null) {
+            this.crossPlatformExecutor.addTaskMetrics(taskMetrics);
+        }
+    }
+
     /**
      * Checks whether the given {@link Channel} is inside of a {@link ExecutionStageLoop}.
      *
@@ -7,6 +7,7 @@ import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.profiling.TaskMetrics;
 import org.qcri.rheem.core.util.OneTimeExecutable;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.slf4j.Logger;
@@ -90,6 +91,11 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
 
         private final Collection<ChannelInstance> allChannelInstances = new LinkedList<>();
 
+        /**
+         * Describes the executed {@link ExecutionTask}s.
+         */
+        private final Collection<TaskMetrics> allTaskMetrics = new LinkedList<>();
+
         /**
          * State from preceeding executions.
          */
@@ -146,7 +152,14 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          */
         private Collection<ChannelInstance> execute(TaskActivator readyActivator, ExecutionTask task) {
             final boolean isForceExecution = this.terminalTasks.contains(task);
-            return this.executor().execute(readyActivator, isForceExecution);
+            final long startNanos = System.nanoTime();
+            final Collection<ChannelInstance> outputChannelInstances = this.executor().execute(readyActivator, isForceExecution);
+            this.allTaskMetrics.add(new TaskMetrics(
+                    task, System.nanoTime() - startNanos,
+                    new ArrayList<>(readyActivator.getInputChannelInstances()),
+                    new ArrayList<>(outputChannelInstances)
+            ));
+            return outputChannelInstances;
         }
 
         /**
@@ -193,6 +206,11 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          * Put new {@link ChannelInstance}s to the {@link #executionState} and release input {@link ChannelInstance}s.
          */
         private void updateExecutionState() {
+            // Complete the TaskMetrics while the ChannelInstances are still alive.
+            this.allTaskMetrics.forEach(TaskMetrics::collectChannelMeasurements);
+            PushExecutorTemplate.this.addTaskMetrics(this.allTaskMetrics);
+            this.allTaskMetrics.clear();
+
             for (final ChannelInstance channelInstance : this.allChannelInstances) {
                 // Capture outbound ChannelInstances.
                 if (channelInstance.getChannel().isBetweenStages() || channelInstance.getChannel().isStageExecutionBarrier()) {
@@ -0,0 +1,338 @@
+package org.qcri.rheem.core.profiling;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Describes a measured execution time together with the {@link Term}s that the cost model comprises to explain that
+ * time. Usually, there is a single {@link Term} for a single executed {@link ExecutionOperator}. However, if the
+ * times of the single {@link ExecutionOperator}s cannot be told apart (cf. {@link TaskMetrics#getWallMillis()}), the
+ * time of a whole {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} is explained by the {@link Term}s of
+ * all its {@link ExecutionOperator}s. Such measurements serve to calibrate the CPU load specifications of
+ * {@link ExecutionOperator}s.
+ *
+ * @see LoadProfileCalibrator
+ */
+public class LoadMeasurement {
+
+    /**
+     * Reference CPU load to determine the speed of a {@link LoadProfileToTimeConverter}.
+     */
+    private static final long REFERENCE_CPU_CYCLES = 1000000000000L;
+
+    /**
+     * The measured time.
+     */
+    private final long millis;
+
+    private final List<Term> terms;
+
+    public LoadMeasurement(long millis, List<Term> terms) {
+        this.millis = millis;
+        this.terms = terms;
+    }
+
+    /**
+     * Derives new instances from the given {@link StageMetrics}. If the times of all {@link TaskMetrics} are known,
+     * there is one instance per {@link TaskMetrics}. Otherwise, there is a single instance that explains the time of
+     * the whole stage.
+     * <p>Cardinalities that have not been measured are replaced with the estimates of the optimizer.</p>
+     *
+     * @param stageMetrics  the measurements
+     * @param configuration provides the {@link LoadProfileEstimator}s and {@link LoadProfileToTimeConverter}s
+     * @return the new instances; empty if the {@link StageMetrics} are not appropriate for calibration
+     */
+    public static List<LoadMeasurement> createAllFrom(StageMetrics stageMetrics, Configuration configuration) {
+        final List<TaskMetrics> allTaskMetrics = stageMetrics.getTaskMetrics();
+        if (allTaskMetrics.stream().allMatch(taskMetrics -> taskMetrics.getWallMillis() != TaskMetrics.UNKNOWN)) {
+            List<LoadMeasurement> loadMeasurements = new ArrayList<>(allTaskMetrics.size());
+            for (TaskMetrics taskMetrics : allTaskMetrics) {
+                final Optional<Term> term = createTerm(taskMetrics, configuration);
+                if (term.isPresent() && term.get().getConfigurationKey() != null) {
+                    loadMeasurements.add(new LoadMeasurement(
+                            taskMetrics.getWallMillis(), Collections.singletonList(term.get())
+                    ));
+                }
+            }
+            return loadMeasurements;
+        }
+
+        if (stageMetrics.getWallMillis() == TaskMetrics.UNKNOWN) return Collections.emptyList();
+        List<Term> terms = new ArrayList<>(allTaskMetrics.size());
+        for (TaskMetrics taskMetrics : allTaskMetrics) {
+            if (taskMetrics.getTask() == null) return Collections.emptyList();
+            final ExecutionOperator operator = taskMetrics.getTask().getOperator();
+            // Like in the optimizer, operators without a LoadProfileEstimator do not incur any costs.
+            if (!operator.getLoadProfileEstimator(configuration).isPresent()) continue;
+            final Optional<Term> term = createTerm(taskMetrics, configuration);
+            if (!term.isPresent()) return Collections.emptyList();
+            terms.add(term.get());
+        }
+        if (terms.stream().noneMatch(term -> term.getConfigurationKey() != null)) return Collections.emptyList();
+        return Collections.singletonList(new LoadMeasurement(stageMetrics.getWallMillis(), terms));
+    }
+
+    /**
+     * Creates a {@link Term} for the given {@link TaskMetrics}.
+     *
+     * @return the {@link Term} or {@link Optional#empty()} if the cardinalities are not known or if the
+     * {@link ExecutionOperator} does not provide a {@link LoadProfileEstimator}
+     */
+    private static Optional<Term> createTerm(TaskMetrics taskMetrics, Configuration configuration) {
+        if (taskMetrics.getTask() == null) return Optional.empty();
+        final long[] inputCardinalities = combineCardinalities(
+                taskMetrics.getInputCardinalities(), taskMetrics.getEstimatedInputCardinalities()
+        );
+        final long[] outputCardinalities = combineCardinalities(
+                taskMetrics.getOutputCardinalities(), taskMetrics.getEstimatedOutputCardinalities()
+        );
+        if (inputCardinalities == null || outputCardinalities == null) return Optional.empty();
+        return createTerm(taskMetrics.getTask().getOperator(), inputCardinalities, outputCardinalities, configuration);
+    }
+
+    /**
+     * Replaces unknown measured cardinalities with the average of the estimated ones.
+     *
+     * @return the combined cardinalities or {@code null} if some cardinality is neither measured nor estimated
+     */
+    private static long[] combineCardinalities(long[] measuredCardinalities, CardinalityEstimate[] estimatedCardinalities) {
+        long[] cardinalities = new long[measuredCardinalities.length];
+        for (int i = 0; i < cardinalities.length; i++) {
+            if (measuredCardinalities[i] != TaskMetrics.UNKNOWN) {
+                cardinalities[i] = measuredCardinalities[i];
+            } else if (estimatedCardinalities != null && i < estimatedCardinalities.length
+                    && estimatedCardinalities[i] != null) {
+                cardinalities[i] = estimatedCardinalities[i].getAverageEstimate();
+            } else {
+                return null;
+            }
+        }
+        return cardinalities;
+    }
+
+    /**
+     * Creates a {@link Term} that tells how the cost model explains the execution time of the given
+     * {@link ExecutionOperator}: All loads other than the CPU load of the calibratable load specification, i.e., the
+     * overhead, the nested loads of UDFs, and disk and network loads, are estimated with the
+     * {@link ExecutionOperator}'s {@link LoadProfileEstimator} and converted into the baseline time. The CPU load of the
+     * load specification is what remains to be calibrated.
+     *
+     * @param operator            the measured {@link ExecutionOperator}
+     * @param inputCardinalities  the input cardinalities of the measured execution
+     * @param outputCardinalities the output cardinalities of the measured execution
+     * @param configuration       provides the {@link LoadProfileEstimator} and {@link LoadProfileToTimeConverter}
+     * @return the {@link Term} or {@link Optional#empty()} if the {@link ExecutionOperator} does not provide a
+     * {@link LoadProfileEstimator}
+     */
+    public static Optional<Term> createTerm(ExecutionOperator operator,
+                                            long[] inputCardinalities,
+                                            long[] outputCardinalities,
+                                            Configuration configuration) {
+        final Optional<LoadProfileEstimator> estimator = operator.getLoadProfileEstimator(configuration);
+        if (!estimator.isPresent()) return Optional.empty();
+        final String configurationKey = estimator.get() instanceof NestableLoadProfileEstimator ?
+                ((NestableLoadProfileEstimator) estimator.get()).getConfigurationKey() :
+                null;
+
+        final LoadProfile loadProfile = estimator.get().estimate(
+                toCardinalityEstimates(inputCardinalities), toCardinalityEstimates(outputCardinalities)
+        );
+        final LoadProfileToTimeConverter converter = configuration
+                .getLoadProfileToTimeConverterProvider()
+                .provideFor(operator.getPlatform());
+        final long cpuCycles = loadProfile.getCpuUsage().getAverageEstimate();
+        if (configurationKey == null) {
+            // The load cannot be calibrated, so the term is completely described by the current estimate.
+            final long millis = converter.convert(loadProfile).getAverageEstimate();
+            return Optional.of(new Term(null, inputCardinalities, outputCardinalities, millis, 0d, cpuCycles));
+        }
+
+        final long baselineMillis = converter.convert(
+                loadProfile.withCpuUsage(new LoadEstimate(0L))
+        ).getAverageEstimate();
+        final long referenceMillis = converter.convert(
+                loadProfile.withCpuUsage(new LoadEstimate(REFERENCE_CPU_CYCLES))
+        ).getAverageEstimate();
+        final double millisPerCpuCycle = (referenceMillis - baselineMillis) / (double) REFERENCE_CPU_CYCLES;
+        return Optional.of(new Term(
+                configurationKey, inputCardinalities, outputCardinalities, baselineMillis, millisPerCpuCycle, cpuCycles
+        ));
+    }
+
+    private static CardinalityEstimate[] toCardinalityEstimates(long[] cardinalities) {
+        return Arrays.stream(cardinalities)
+                .mapToObj(cardinality -> new CardinalityEstimate(cardinality, cardinality, 1d))
+                .toArray(CardinalityEstimate[]::new);
+    }
+
+    /**
+     * Parses an instance from its JSON representation.
+     *
+     * @see #toJson()
+     */
+    public static LoadMeasurement fromJson(JSONObject jsonMeasurement) {
+        final JSONArray jsonTerms = jsonMeasurement.getJSONArray("terms");
+        List<Term> terms = new ArrayList<>(jsonTerms.length());
+        for (int i = 0; i < jsonTerms.length(); i++) {
+            terms.add(Term.fromJson(jsonTerms.getJSONObject(i)));
+        }
+        return new LoadMeasurement(jsonMeasurement.getLong("millis"), terms);
+    }
+
+    /**
+     * Serializes this instance as JSON.
+     *
+     * @see #fromJson(JSONObject)
+     */
+    public JSONObject toJson() {
+        JSONObject jsonMeasurement = new JSONObject();
+        jsonMeasurement.put("millis", this.millis);
+        JSONArray jsonTerms = new JSONArray();
+        this.terms.forEach(term -> jsonTerms.put(term.toJson()));
+        jsonMeasurement.put("terms", jsonTerms);
+        return jsonMeasurement;
+    }
+
+    public long getMillis() {
+        return this.millis;
+    }
+
+    public List<Term> getTerms() {
+        return this.terms;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d ms, %s]", this.getClass().getSimpleName(), this.millis, this.terms);
+    }
+
+    /**
+     * Describes how the cost model explains the execution time of a single {@link ExecutionOperator}, namely as
+     * {@code baselineMillis + millisPerCpuCycle * cpu}, where {@code cpu} is the CPU load according to the load
+     * specification.
+     */
+    public static class Term {
+
+        /**
+         * {@link Configuration} key of the load specification of the measured {@link ExecutionOperator} or
+         * {@code null} if the load specification cannot be calibrated.
+         *
+         * @see NestableLoadProfileEstimator#getConfigurationKey()
+         */
+        private final String configurationKey;
+
+        private final long[] inputCardinalities, outputCardinalities;
+
+        /**
+         * The estimated time apart from the CPU load of the load specification.
+         */
+        private final long baselineMillis;
+
+        /**
+         * Converts the CPU load of the load specification into time.
+         */
+        private final double millisPerCpuCycle;
+
+        /**
+         * The CPU load according to the current load specification.
+         */
+        private final long estimatedCpuCycles;
+
+        public Term(String configurationKey, long[] inputCardinalities, long[] outputCardinalities,
+                    long baselineMillis, double millisPerCpuCycle, long estimatedCpuCycles) {
+            this.configurationKey = configurationKey;
+            this.inputCardinalities = inputCardinalities;
+            this.outputCardinalities = outputCardinalities;
+            this.baselineMillis = baselineMillis;
+            this.millisPerCpuCycle = millisPerCpuCycle;
+            this.estimatedCpuCycles = estimatedCpuCycles;
+        }
+
+        private static Term fromJson(JSONObject jsonTerm) {
+            return new Term(
+                    jsonTerm.optString("key", null),
+                    parseLongArray(jsonTerm.getJSONArray("inputs")),
+                    parseLongArray(jsonTerm.getJSONArray("outputs")),
+                    jsonTerm.getLong("baseline"),
+                    jsonTerm.getDouble("msPerCycle"),
+                    jsonTerm.getLong("cpu")
+            );
+        }
+
+        private static long[] parseLongArray(JSONArray jsonArray) {
+            long[] array = new long[jsonArray.length()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = jsonArray.getLong(i);
+            }
+            return array;
+        }
+
+        private JSONObject toJson() {
+            JSONObject jsonTerm = new JSONObject();
+            if (this.configurationKey != null) jsonTerm.put("key", this.configurationKey);
+            jsonTerm.put("inputs", new JSONArray(this.inputCardinalities));
+            jsonTerm.put("outputs", new JSONArray(this.outputCardinalities));
+            jsonTerm.put("baseline", this.baselineMillis);
+            jsonTerm.put("msPerCycle", this.millisPerCpuCycle);
+            jsonTerm.put("cpu", this.estimatedCpuCycles);
+            return jsonTerm;
+        }
+
+        public String getConfigurationKey() {
+            return this.configurationKey;
+        }
+
+        public long[] getInputCardinalities() {
+            return this.inputCardinalities;
+        }
+
+        public long[] getOutputCardinalities() {
+            return this.outputCardinalities;
+        }
+
+        public long getBaselineMillis() {
+            return this.baselineMillis;
+        }
+
+        public double getMillisPerCpuCycle() {
+            return this.millisPerCpuCycle;
+        }
+
+        public long getEstimatedCpuCycles() {
+            return this.estimatedCpuCycles;
+        }
+
+        /**
+         * @return the time that the cost model currently estimates for this instance
+         */
+        public double getEstimatedMillis() {
+            return this.baselineMillis + this.millisPerCpuCycle * this.estimatedCpuCycles;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s, in: %s, out: %s, baseline: %d ms, cpu: %d]",
+                    this.getClass().getSimpleName(),
+                    this.configurationKey,
+                    Arrays.toString(this.inputCardinalities),
+                    Arrays.toString(this.outputCardinalities),
+                    this.baselineMillis,
+                    this.estimatedCpuCycles
+            );
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.qcri.rheem.core.profiling;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores {@link LoadMeasurement}s as JSON lines, so that they can be used to calibrate the cost model later on.
+ * Instances should be {@link #close() closed} after use, as only then the stored {@link LoadMeasurement}s are
+ * guaranteed to be written.
+ *
+ * @see LoadProfileCalibrator
+ */
+public class LoadMeasurementRepository implements AutoCloseable {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Path to the repository file.
+     */
+    private final String repositoryPath;
+
+    /**
+     * Created on demand an can be closed as well.
+     */
+    private BufferedWriter writer;
+
+    public LoadMeasurementRepository(String repositoryPath) {
+        this.repositoryPath = repositoryPath;
+    }
+
+    /**
+     * Stores {@link LoadMeasurement}s for all appropriate {@link StageMetrics}.
+     *
+     * @param stageMetricsCollection the measurements
+     * @param configuration          used to derive the {@link LoadMeasurement}s
+     * @see LoadMeasurement#createAllFrom(StageMetrics, Configuration)
+     */
+    public void storeAll(Collection<StageMetrics> stageMetricsCollection, Configuration configuration) {
+        int numStoredMeasurements = 0;
+        for (StageMetrics stageMetrics : stageMetricsCollection) {
+            for (LoadMeasurement loadMeasurement : LoadMeasurement.createAllFrom(stageMetrics, configuration)) {
+                this.store(loadMeasurement);
+                numStoredMeasurements++;
+            }
+        }
+        this.logger.info("Stored {} load measurements at {}.", numStoredMeasurements, this.repositoryPath);
+    }
+
+    /**
+     * Stores the given {@link LoadMeasurement}.
+     */
+    public void store(LoadMeasurement loadMeasurement) {
+        try {
+            loadMeasurement.toJson().write(this.getWriter());
+            this.writer.write('\n');
+        } catch (IOException e) {
+            IOUtils.closeQuietly(this.writer);
+            this.writer = null;
+            throw new RheemException("Could not write to the load measurement repository.", e);
+        }
+    }
+
+    /**
+     * Initializes the {@link #writer} if it does not exist currently.
+     *
+     * @return the {@link #writer}
+     */
+    private BufferedWriter getWriter() throws FileNotFoundException, UnsupportedEncodingException {
+        if (this.writer == null) {
+            File file = new File(this.repositoryPath);
+            final File parentFile = file.getAbsoluteFile().getParentFile();
+            if (!parentFile.exists() && !parentFile.mkdirs()) {
+                throw new RheemException("Could not initialize load measurement repository.");
+            }
+            this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
+        }
+        return this.writer;
+    }
+
+    /**
+     * Reads all {@link LoadMeasurement}s from the repository file.
+     *
+     * @return the {@link LoadMeasurement}s
+     */
+    public List<LoadMeasurement> loadAll() {
+        this.flush();
+        List<LoadMeasurement> loadMeasurements = new ArrayList<>();
+        final File file = new File(this.repositoryPath);
+        if (!file.exists()) return loadMeasurements;
+
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                loadMeasurements.add(LoadMeasurement.fromJson(new JSONObject(line)));
+            }
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not read load measurements from %s.", this.repositoryPath), e);
+        } finally {
+            IOUtils.closeQuietly(reader);
+        }
+        return loadMeasurements;
+    }
+
+    /**
+     * Writes out all {@link LoadMeasurement}s stored so far.
+     */
+    private void flush() {
+        if (this.writer == null) return;
+        try {
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not write load measurements to %s.", this.repositoryPath), e);
+        }
+    }
+
+    /**
+     * Writes out all {@link LoadMeasurement}s stored so far and frees the system resources of this instance. It can
+     * still be used afterwards, though.
+     */
+    @Override
+    public void close() {
+        if (this.writer == null) return;
+        try {
+            this.writer.close();
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not write load measurements to %s.", this.repositoryPath), e);
+        } finally {
+            this.writer = null;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package org.qcri.rheem.core.profiling;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Calibrates the CPU load specifications of {@link NestableLoadProfileEstimator}s from {@link LoadMeasurement}s.
+ * For each load specification, it fits a linear model {@code cpu = c + a0*in0 + ... + b0*out0 + ...} with
+ * non-negative coefficients. All load specifications are fitted jointly by means of least squares on the measured
+ * times, where each {@link LoadMeasurement.Term} contributes its baseline time plus its CPU load converted into time.
+ * Hence, measurements of whole stages can be used as well as measurements of single operators, and the overheads,
+ * resource utilizations, and loads of UDFs stay in place. The calibrated specifications can be written to a
+ * properties file that overrides the default specifications when loaded into a {@link Configuration}.
+ *
+ * @see Configuration#load(String)
+ */
+public class LoadProfileCalibrator {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Provides the current load specifications and settings.
+     */
+    private final Configuration configuration;
+
+    private final List<LoadMeasurement> measurements = new ArrayList<>();
+
+    public LoadProfileCalibrator(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Adds {@link LoadMeasurement}s for the calibration.
+     */
+    public void addMeasurements(Collection<LoadMeasurement> loadMeasurements) {
+        this.measurements.addAll(loadMeasurements);
+    }
+
+    /**
+     * Calibrates the load specifications for which there are sufficiently many {@link LoadMeasurement}s, as
+     * configured via {@code rheem.core.calibration.minmeasurements}. {@link LoadMeasurement.Term}s of other load
+     * specifications are explained with their current estimates.
+     *
+     * @return the calibrated load specifications by their configuration keys
+     */
+    public Properties calibrate() {
+        final long minMeasurements = this.configuration.getLongProperty("rheem.core.calibration.minmeasurements", 5L);
+
+        // Find the load specifications that can be calibrated.
+        Map<String, JSONObject> specifications = new HashMap<>();
+        Map<String, Integer> numMeasurements = new LinkedHashMap<>();
+        for (LoadMeasurement measurement : this.measurements) {
+            measurement.getTerms().stream()
+                    .filter(term -> this.isCalibratable(term, specifications))
+                    .map(LoadMeasurement.Term::getConfigurationKey)
+                    .distinct()
+                    .forEach(key -> numMeasurements.merge(key, 1, Integer::sum));
+        }
+        Map<String, Integer> columnOffsets = new LinkedHashMap<>();
+        int numColumns = 0;
+        for (Map.Entry<String, Integer> entry : numMeasurements.entrySet()) {
+            final String key = entry.getKey();
+            final int numVariables = getNumVariables(specifications.get(key));
+            if (entry.getValue() < Math.max(minMeasurements, numVariables)) {
+                this.logger.info("Cannot calibrate {}: only {} appropriate measurements.", key, entry.getValue());
+                continue;
+            }
+            columnOffsets.put(key, numColumns);
+            numColumns += numVariables;
+        }
+        Properties calibratedSpecifications = new Properties();
+        if (columnOffsets.isEmpty()) return calibratedSpecifications;
+
+        // Set up the regression: one row per measurement and one block of columns per load specification.
+        List<double[]> rows = new ArrayList<>();
+        List<Double> targets = new ArrayList<>();
+        for (LoadMeasurement measurement : this.measurements) {
+            double[] row = new double[numColumns];
+            double target = measurement.getMillis();
+            boolean isRelevant = false;
+            for (LoadMeasurement.Term term : measurement.getTerms()) {
+                final Integer offset = term.getConfigurationKey() == null ? null : columnOffsets.get(term.getConfigurationKey());
+                if (offset == null || !this.isCalibratable(term, specifications)) {
+                    target -= term.getEstimatedMillis();
+                    continue;
+                }
+                target -= term.getBaselineMillis();
+                final double millisPerCpuCycle = term.getMillisPerCpuCycle();
+                int column = offset;
+                row[column++] += millisPerCpuCycle;
+                for (long inputCardinality : term.getInputCardinalities()) {
+                    row[column++] += millisPerCpuCycle * inputCardinality;
+                }
+                for (long outputCardinality : term.getOutputCardinalities()) {
+                    row[column++] += millisPerCpuCycle * outputCardinality;
+                }
+                isRelevant = true;
+            }
+            if (isRelevant) {
+                rows.add(row);
+                targets.add(target);
+            }
+        }
+        final double[] coefficients = fitNonNegativeLeastSquares(
+                rows.toArray(new double[rows.size()][]),
+                targets.stream().mapToDouble(Double::doubleValue).toArray()
+        );
+
+        for (Map.Entry<String, Integer> entry : columnOffsets.entrySet()) {
+            final String key = entry.getKey();
+            final JSONObject jsonSpecification = specifications.get(key);
+            final int numInputs = jsonSpecification.getInt("in"), numOutputs = jsonSpecification.getInt("out");
+            final double[] specificationCoefficients = Arrays.copyOfRange(
+                    coefficients, entry.getValue(), entry.getValue() + getNumVariables(jsonSpecification)
+            );
+            jsonSpecification.put("cpu", createCpuExpression(specificationCoefficients, numInputs, numOutputs));
+            final String calibratedSpecification = jsonSpecification.toString();
+            this.logger.info("Calibrated {} from {} measurements: {}",
+                    key, numMeasurements.get(key), calibratedSpecification);
+            calibratedSpecifications.setProperty(key, calibratedSpecification);
+        }
+        return calibratedSpecifications;
+    }
+
+    /**
+     * Tells whether the given {@link LoadMeasurement.Term} refers to a load specification in the {@link #configuration}
+     * and complies with its number of inputs and outputs.
+     *
+     * @param specifications caches the parsed load specifications; {@code null} values mark missing ones
+     */
+    private boolean isCalibratable(LoadMeasurement.Term term, Map<String, JSONObject> specifications) {
+        final String key = term.getConfigurationKey();
+        if (key == null) return false;
+        final JSONObject jsonSpecification = specifications.computeIfAbsent(key, k -> {
+            final String specification = this.configuration.getStringProperty(k, null);
+            if (specification == null) {
+                this.logger.warn("Cannot calibrate {}: there is no load specification.", k);
+                return null;
+            }
+            return new JSONObject(specification);
+        });
+        return jsonSpecification != null
+                && term.getInputCardinalities().length == jsonSpecification.getInt("in")
+                && term.getOutputCardinalities().length == jsonSpecification.getInt("out");
+    }
+
+    /**
+     * @return the number of coefficients of the CPU load of the given load specification
+     */
+    private static int getNumVariables(JSONObject jsonSpecification) {
+        return 1 + jsonSpecification.getInt("in") + jsonSpecification.getInt("out");
+    }
+
+    /**
+     * Calibrates the load specifications and writes them to a properties file.
+     *
+     * @param path of the properties file
+     * @see #calibrate()
+     */
+    public void writeCalibration(String path) {
+        final Properties calibratedSpecifications = this.calibrate();
+        OutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(path);
+            calibratedSpecifications.store(outputStream, "Calibrated load specifications");
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not write calibrated load specifications to %s.", path), e);
+        } finally {
+            IOUtils.closeQuietly(outputStream);
+        }
+    }
+
+    /**
+     * Fits the coefficients of {@code x * coefficients ~ y} via non-negative least squares by means of the
+     * Lawson-Hanson active set method: Starting from all coefficients being {@code 0}, it repeatedly frees the
+     * coefficient whose increase would reduce the squared error the most and solves the least squares problem on the
+     * free coefficients. Whenever that solution would make a free coefficient negative, it moves only as far towards
+     * it as feasible and fixes the coefficients that hit {@code 0}. In contrast to merely dropping negative
+     * coefficients, fixed coefficients can become free again later on.
+     *
+     * @return the coefficients
+     */
+    public static double[] fitNonNegativeLeastSquares(double[][] x, double[] y) {
+        final int numVariables = x.length == 0 ? 0 : x[0].length;
+        double[] coefficients = new double[numVariables];
+        boolean[] isFree = new boolean[numVariables];
+        final double tolerance = 1e-10 * computeMaxColumnNorm(x) * Math.max(1d, computeNorm(y));
+
+        // Each iteration frees one coefficient, while the inner loop fixes at least one per step. Hence, we can
+        // safely cap the number of iterations to avoid cycling due to rounding errors.
+        for (int iteration = 0; iteration < 3 * numVariables; iteration++) {
+            // Find the fixed coefficient with the steepest descent of the squared error.
+            final double[] gradient = computeNegativeGradient(x, y, coefficients);
+            int nextFreeIndex = -1;
+            for (int i = 0; i < numVariables; i++) {
+                if (!isFree[i] && gradient[i] > tolerance
+                        && (nextFreeIndex == -1 || gradient[i] > gradient[nextFreeIndex])) {
+                    nextFreeIndex = i;
+                }
+            }
+            if (nextFreeIndex == -1) break;
+            isFree[nextFreeIndex] = true;
+
+            while (true) {
+                final double[] candidate = solveLeastSquares(x, y, isFree);
+                // Move towards the candidate as far as the free coefficients stay non-negative.
+                double stepSize = 1d;
+                int limitingIndex = -1;
+                for (int i = 0; i < numVariables; i++) {
+                    if (isFree[i] && candidate[i] <= 0) {
+                        final double maxStepSize = coefficients[i] <= 0 ?
+                                0d :
+                                coefficients[i] / (coefficients[i] - candidate[i]);
+                        if (limitingIndex == -1 || maxStepSize < stepSize) {
+                            stepSize = maxStepSize;
+                            limitingIndex = i;
+                        }
+                    }
+                }
+                if (limitingIndex == -1) {
+                    coefficients = candidate;
+                    break;
+                }
+                for (int i = 0; i < numVariables; i++) {
+                    coefficients[i] += stepSize * (candidate[i] - coefficients[i]);
+                }
+                // Fix the coefficients that have hit 0.
+                coefficients[limitingIndex] = 0;
+                isFree[limitingIndex] = false;
+                for (int i = 0; i < numVariables; i++) {
+                    if (isFree[i] && coefficients[i] <= 0) {
+                        coefficients[i] = 0;
+                        isFree[i] = false;
+                    }
+                }
+                if (!containsTrue(isFree)) break;
+            }
+        }
+        return coefficients;
+    }
+
+    /**
+     * @return {@code x^T * (y - x * coefficients)}, i.e., the negative gradient of the halved squared error
+     */
+    private static double[] computeNegativeGradient(double[][] x, double[] y, double[] coefficients) {
+        final double[] gradient = new double[coefficients.length];
+        for (int row = 0; row < x.length; row++) {
+            double residual = y[row];
+            for (int i = 0; i < coefficients.length; i++) {
+                residual -= x[row][i] * coefficients[i];
+            }
+            for (int i = 0; i < coefficients.length; i++) {
+                gradient[i] += x[row][i] * residual;
+            }
+        }
+        return gradient;
+    }
+
+    private static double computeMaxColumnNorm(double[][] x) {
+        final int numVariables = x.length == 0 ? 0 : x[0].length;
+        double maxNorm = 0d;
+        for (int i = 0; i < numVariables; i++) {
+            double squaredNorm = 0d;
+            for (double[] row : x) {
+                squaredNorm += row[i] * row[i];
+            }
+            maxNorm = Math.max(maxNorm, Math.sqrt(squaredNorm));
+        }
+        return maxNorm;
+    }
+
+    private static double computeNorm(double[] y) {
+        double squaredNorm = 0d;
+        for (double value : y) {
+            squaredNorm += value * value;
+        }
+        return Math.sqrt(squaredNorm);
+    }
+
+    private static boolean containsTrue(boolean[] values) {
+        for (boolean value : values) {
+            if (value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Solves the least squares problem {@code x * coefficients ~ y} on the active variables via the normal
+     * equations. Columns are scaled to their maximum to keep the system well-conditioned and a tiny ridge term
+     * deals with collinear variables.
+     *
+     * @return the coefficients, where inactive variables are {@code 0}
+     */
+    private static double[] solveLeastSquares(double[][] x, double[] y, boolean[] isActive) {
+        final int numVariables = isActive.length;
+        double[] coefficients = new double[numVariables];
+        int[] activeIndices = new int[numVariables];
+        int numActive = 0;
+        double[] scales = new double[numVariables];
+        for (int i = 0; i < numVariables; i++) {
+            if (!isActive[i]) continue;
+            for (double[] row : x) {
+                scales[i] = Math.max(scales[i], Math.abs(row[i]));
+            }
+            if (scales[i] > 0) activeIndices[numActive++] = i;
+        }
+        if (numActive == 0) return coefficients;
+
+        // Set up the normal equations.
+        double[][] a = new double[numActive][numActive + 1];
+        for (int row = 0; row < x.length; row++) {
+            for (int i = 0; i < numActive; i++) {
+                final double xi = x[row][activeIndices[i]] / scales[activeIndices[i]];
+                for (int j = 0; j < numActive; j++) {
+                    a[i][j] += xi * x[row][activeIndices[j]] / scales[activeIndices[j]];
+                }
+                a[i][numActive] += xi * y[row];
+            }
+        }
+        for (int i = 0; i < numActive; i++) {
+            a[i][i] += 1e-9 * Math.max(1d, a[i][i]);
+        }
+
+        // Gaussian elimination with partial pivoting.
+        for (int col = 0; col < numActive; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < numActive; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) pivot = row;
+            }
+            double[] temp = a[col];
+            a[col] = a[pivot];
+            a[pivot] = temp;
+            for (int row = col + 1; row < numActive; row++) {
+                final double factor = a[row][col] / a[col][col];
+                for (int k = col; k <= numActive; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+            }
+        }
+        double[] solution = new double[numActive];
+        for (int row = numActive - 1; row >= 0; row--) {
+            double sum = a[row][numActive];
+            for (int k = row + 1; k < numActive; k++) {
+                sum -= a[row][k] * solution[k];
+            }
+            solution[row] = sum / a[row][row];
+        }
+
+        for (int i = 0; i < numActive; i++) {
+            coefficients[activeIndices[i]] = solution[i] / scales[activeIndices[i]];
+        }
+        return coefficients;
+    }
+
+    /**
+     * Creates a JUEL expression for the coefficients {@code [c, a0, ..., b0, ...]} of the CPU load model.
+     */
+    public static String createCpuExpression(double[] coefficients, int numInputs, int numOutputs) {
+        StringBuilder sb = new StringBuilder("${");
+        for (int i = 0; i < numInputs; i++) {
+            appendTerm(sb, coefficients[1 + i], "in" + i);
+        }
+        for (int i = 0; i < numOutputs; i++) {
+            appendTerm(sb, coefficients[1 + numInputs + i], "out" + i);
+        }
+        if (sb.length() > 2) sb.append(" + ");
+        sb.append(Math.round(coefficients[0]));
+        return sb.append('}').toString();
+    }
+
+    private static void appendTerm(StringBuilder sb, double coefficient, String variable) {
+        final String formattedCoefficient = coefficient >= 10 ?
+                Long.toString(Math.round(coefficient)) :
+                String.format(Locale.US, "%.3f", coefficient).replaceAll("\\.?0+$", "");
+        if ("0".equals(formattedCoefficient)) return;
+        if (sb.length() > 2) sb.append(" + ");
+        sb.append(formattedCoefficient).append('*').append(variable);
+    }
+
+}
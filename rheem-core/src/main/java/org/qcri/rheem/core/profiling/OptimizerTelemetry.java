@@ -0,0 +1,273 @@
+package org.qcri.rheem.core.profiling;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.optimizer.enumeration.PlanEnumeration;
+import org.qcri.rheem.core.optimizer.enumeration.PlanImplementation;
+import org.qcri.rheem.core.util.StopWatch;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects key figures of the optimization of a {@link Job}, such as the time spent in the different optimization
+ * phases, the numbers of enumerated and pruned {@link PlanImplementation}s, and the number of
+ * {@link ChannelConversionGraph} searches. These key figures can be exported as JSON lines.
+ */
+public class OptimizerTelemetry {
+
+    /**
+     * Measures the optimization (and execution) phases.
+     */
+    private final StopWatch stopWatch;
+
+    /**
+     * Describes all pruned {@link PlanEnumeration}s.
+     */
+    private final List<EnumerationRecord> enumerationRecords = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Counts the searches for {@link org.qcri.rheem.core.optimizer.channels.Junction}s.
+     */
+    private final AtomicLong numJunctionSearches = new AtomicLong(0L), numFailedJunctionSearches = new AtomicLong(0L);
+
+    /**
+     * Counts the re-optimizations.
+     */
+    private final AtomicInteger numReoptimizations = new AtomicInteger(0);
+
+    /**
+     * Creates a new instance with its own {@link StopWatch}.
+     */
+    public OptimizerTelemetry() {
+        this(new StopWatch());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param stopWatch measures the optimization phases
+     */
+    public OptimizerTelemetry(StopWatch stopWatch) {
+        this.stopWatch = stopWatch;
+    }
+
+    /**
+     * Records the pruning of a {@link PlanEnumeration}.
+     *
+     * @param planEnumeration        that has been pruned
+     * @param numPlanImplementations the number of {@link PlanImplementation}s before the pruning
+     */
+    public void recordPruning(PlanEnumeration planEnumeration, int numPlanImplementations) {
+        this.enumerationRecords.add(new EnumerationRecord(
+                planEnumeration.getScope().size(),
+                numPlanImplementations,
+                planEnumeration.getPlanImplementations().size()
+        ));
+    }
+
+    /**
+     * Records a search for a {@link org.qcri.rheem.core.optimizer.channels.Junction}.
+     *
+     * @param isSuccessful whether a {@link org.qcri.rheem.core.optimizer.channels.Junction} has been found
+     */
+    public void recordJunctionSearch(boolean isSuccessful) {
+        this.numJunctionSearches.incrementAndGet();
+        if (!isSuccessful) this.numFailedJunctionSearches.incrementAndGet();
+    }
+
+    /**
+     * Records a re-optimization of the execution plan.
+     */
+    public void recordReoptimization() {
+        this.numReoptimizations.incrementAndGet();
+    }
+
+    public StopWatch getStopWatch() {
+        return this.stopWatch;
+    }
+
+    public List<EnumerationRecord> getEnumerationRecords() {
+        synchronized (this.enumerationRecords) {
+            return new ArrayList<>(this.enumerationRecords);
+        }
+    }
+
+    /**
+     * @return the number of enumerated {@link PlanImplementation}s over all recorded {@link PlanEnumeration}s
+     */
+    public long getNumEnumeratedPlanImplementations() {
+        return this.getEnumerationRecords().stream().mapToLong(EnumerationRecord::getNumEnumerated).sum();
+    }
+
+    /**
+     * @return the number of pruned {@link PlanImplementation}s over all recorded {@link PlanEnumeration}s
+     */
+    public long getNumPrunedPlanImplementations() {
+        return this.getEnumerationRecords().stream().mapToLong(EnumerationRecord::getNumPruned).sum();
+    }
+
+    public long getNumJunctionSearches() {
+        return this.numJunctionSearches.get();
+    }
+
+    public long getNumFailedJunctionSearches() {
+        return this.numFailedJunctionSearches.get();
+    }
+
+    public int getNumReoptimizations() {
+        return this.numReoptimizations.get();
+    }
+
+    /**
+     * Writes the key figures as JSON lines, i.e., one JSON object per line. Each object has a {@code type}, which
+     * is one of {@code round}, {@code enumeration}, or {@code summary}. Furthermore, each object carries the
+     * {@code jobId}, the {@code jobName}, and the {@code timestamp} of the export in epoch milliseconds, so that
+     * the lines of several {@link Job}s can be told apart in a shared file.
+     *
+     * @param writer  to which the JSON lines should be written
+     * @param jobId   identifies the optimized {@link Job}
+     * @param jobName describes the optimized {@link Job}
+     */
+    public void writeJsonLines(Writer writer, String jobId, String jobName) throws IOException {
+        final JsonLineWriter jsonLineWriter = new JsonLineWriter(writer, jobId, jobName, System.currentTimeMillis());
+        for (StopWatch.Round round : this.stopWatch.getRounds()) {
+            this.writeJsonLines(round, jsonLineWriter);
+        }
+
+        for (EnumerationRecord enumerationRecord : this.getEnumerationRecords()) {
+            JSONObject jsonEnumeration = new JSONObject();
+            jsonEnumeration.put("type", "enumeration");
+            jsonEnumeration.put("scopeSize", enumerationRecord.getScopeSize());
+            jsonEnumeration.put("enumerated", enumerationRecord.getNumEnumerated());
+            jsonEnumeration.put("pruned", enumerationRecord.getNumPruned());
+            jsonLineWriter.write(jsonEnumeration);
+        }
+
+        JSONObject jsonSummary = new JSONObject();
+        jsonSummary.put("type", "summary");
+        jsonSummary.put("enumerated", this.getNumEnumeratedPlanImplementations());
+        jsonSummary.put("pruned", this.getNumPrunedPlanImplementations());
+        jsonSummary.put("junctionSearches", this.getNumJunctionSearches());
+        jsonSummary.put("failedJunctionSearches", this.getNumFailedJunctionSearches());
+        jsonSummary.put("reoptimizations", this.getNumReoptimizations());
+        jsonLineWriter.write(jsonSummary);
+    }
+
+    /**
+     * Writes the given {@link StopWatch.Round} and its subrounds as JSON lines.
+     */
+    private void writeJsonLines(StopWatch.Round round, JsonLineWriter writer) throws IOException {
+        JSONObject jsonRound = new JSONObject();
+        jsonRound.put("type", "round");
+        jsonRound.put("name", round.getFullName());
+        jsonRound.put("millis", round.getDuration());
+        writer.write(jsonRound);
+
+        for (StopWatch.Round subround : round.getSubrounds()) {
+            this.writeJsonLines(subround, writer);
+        }
+    }
+
+    /**
+     * Appends the key figures as JSON lines to the given file.
+     *
+     * @param path    the path to the file
+     * @param jobId   identifies the optimized {@link Job}
+     * @param jobName describes the optimized {@link Job}
+     * @see #writeJsonLines(Writer, String, String)
+     */
+    public void exportJsonLines(String path, String jobId, String jobName) {
+        BufferedWriter writer = null;
+        try {
+            final File file = new File(path);
+            final File parentFile = file.getAbsoluteFile().getParentFile();
+            if (!parentFile.exists() && !parentFile.mkdirs()) {
+                throw new RheemException(String.format("Could not create directory for %s.", path));
+            }
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
+            this.writeJsonLines(writer, jobId, jobName);
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not export optimizer telemetry to %s.", path), e);
+        } finally {
+            IOUtils.closeQuietly(writer);
+        }
+    }
+
+    /**
+     * Writes JSON lines and tags each of them with the {@link Job} and the export time.
+     */
+    private static class JsonLineWriter {
+
+        private final Writer writer;
+
+        private final String jobId, jobName;
+
+        private final long timestamp;
+
+        private JsonLineWriter(Writer writer, String jobId, String jobName, long timestamp) {
+            this.writer = writer;
+            this.jobId = jobId;
+            this.jobName = jobName;
+            this.timestamp = timestamp;
+        }
+
+        private void write(JSONObject jsonObject) throws IOException {
+            jsonObject.put("jobId", this.jobId);
+            jsonObject.put("jobName", this.jobName);
+            jsonObject.put("timestamp", this.timestamp);
+            jsonObject.write(this.writer);
+            this.writer.write('\n');
+        }
+    }
+
+    /**
+     * Describes the pruning of a single {@link PlanEnumeration}.
+     */
+    public static class EnumerationRecord {
+
+        private final int scopeSize;
+
+        private final int numEnumerated, numRetained;
+
+        public EnumerationRecord(int scopeSize, int numEnumerated, int numRetained) {
+            this.scopeSize = scopeSize;
+            this.numEnumerated = numEnumerated;
+            this.numRetained = numRetained;
+        }
+
+        /**
+         * @return the number of {@link org.qcri.rheem.core.plan.rheemplan.Operator}s in the scope of the
+         * {@link PlanEnumeration}
+         */
+        public int getScopeSize() {
+            return this.scopeSize;
+        }
+
+        public int getNumEnumerated() {
+            return this.numEnumerated;
+        }
+
+        public int getNumRetained() {
+            return this.numRetained;
+        }
+
+        public int getNumPruned() {
+            return this.numEnumerated - this.numRetained;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[scope size: %d, enumerated: %d, pruned: %d]",
+                    this.getClass().getSimpleName(), this.scopeSize, this.numEnumerated, this.getNumPruned());
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.qcri.rheem.core.profiling;
+
+import org.qcri.rheem.core.optimizer.costs.TimeEstimate;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.util.Formats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the execution of an {@link ExecutionStage} in terms of its {@link TaskMetrics}. Other than the latter,
+ * the times of an instance are always known, so that they can be compared to the summed estimates of all
+ * {@link TaskMetrics}.
+ */
+public class StageMetrics {
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final ExecutionStage stage;
+
+    private final List<TaskMetrics> taskMetrics = new ArrayList<>();
+
+    private long wallMillis = TaskMetrics.UNKNOWN;
+
+    private long cpuMillis = TaskMetrics.UNKNOWN;
+
+    public StageMetrics(ExecutionStage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * @return the CPU time of the current thread in milliseconds or {@link TaskMetrics#UNKNOWN} if it cannot be
+     * measured
+     */
+    public static long getCurrentThreadCpuMillis() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ?
+                threadMXBean.getCurrentThreadCpuTime() / 1000000L :
+                TaskMetrics.UNKNOWN;
+    }
+
+    public void addTaskMetrics(Collection<TaskMetrics> taskMetrics) {
+        this.taskMetrics.addAll(taskMetrics);
+    }
+
+    public ExecutionStage getStage() {
+        return this.stage;
+    }
+
+    public List<TaskMetrics> getTaskMetrics() {
+        return Collections.unmodifiableList(this.taskMetrics);
+    }
+
+    public long getWallMillis() {
+        return this.wallMillis;
+    }
+
+    public void setWallMillis(long wallMillis) {
+        this.wallMillis = wallMillis;
+    }
+
+    /**
+     * @return the CPU time of the {@link #stage} or {@link TaskMetrics#UNKNOWN} if it could not be measured, e.g.,
+     * because it was executed on a cluster
+     * @see org.qcri.rheem.core.platform.Executor#isExecutingOnCallingThread()
+     */
+    public long getCpuMillis() {
+        return this.cpuMillis;
+    }
+
+    public void setCpuMillis(long cpuMillis) {
+        this.cpuMillis = cpuMillis;
+    }
+
+    /**
+     * @return the sum of the {@link TimeEstimate}s of the {@link #taskMetrics} or {@code null} if some of them do
+     * not have one
+     */
+    public TimeEstimate getTimeEstimate() {
+        TimeEstimate timeEstimate = TimeEstimate.ZERO;
+        for (TaskMetrics metrics : this.taskMetrics) {
+            if (metrics.getTimeEstimate() == null) return null;
+            timeEstimate = timeEstimate.plus(metrics.getTimeEstimate());
+        }
+        return timeEstimate;
+    }
+
+    /**
+     * Relates the measured wall time to the (geometric mean of the) {@link #getTimeEstimate() estimated time}.
+     *
+     * @return the ratio of measured and estimated time or {@link Double#NaN} if there is no estimate
+     */
+    public double getEstimationRatio() {
+        final TimeEstimate timeEstimate = this.getTimeEstimate();
+        if (timeEstimate == null || this.wallMillis == TaskMetrics.UNKNOWN) return Double.NaN;
+        return TaskMetrics.getEstimationRatio(this.wallMillis, timeEstimate);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, wall: %s, cpu: %s, %d tasks]",
+                this.getClass().getSimpleName(),
+                this.stage,
+                Formats.formatDuration(this.wallMillis),
+                this.cpuMillis == TaskMetrics.UNKNOWN ? "n/a" : Formats.formatDuration(this.cpuMillis),
+                this.taskMetrics.size()
+        );
+    }
+}
@@ -0,0 +1,222 @@
+package org.qcri.rheem.core.profiling;
+
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.TimeEstimate;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.util.Formats;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Describes the execution of a single {@link ExecutionTask} and juxtaposes it with the estimates of the optimizer.
+ * <p>The time of a task is only known if it can be attributed to the task, i.e., if all its input and output
+ * {@link ChannelInstance}s {@link ChannelInstance#getMeasuredLazyNanos() tell} how much time their producers spent
+ * lazily. Then, the time of the task comprises its execution plus the lazy production of its outputs minus the
+ * lazy production of its inputs. Otherwise (e.g., for distributed executions), only the enclosing
+ * {@link StageMetrics} describe the time of the task.</p>
+ */
+public class TaskMetrics {
+
+    /**
+     * Special value for unknown measurements.
+     */
+    public static final long UNKNOWN = -1L;
+
+    private final ExecutionTask task;
+
+    /**
+     * The time that the execution of the {@link #task} took, including any lazy production of its inputs.
+     */
+    private final long executionNanos;
+
+    /**
+     * The time attributed to the {@link #task} or {@link #UNKNOWN}.
+     */
+    private long wallMillis = UNKNOWN;
+
+    private final long[] inputCardinalities, outputCardinalities, outputBytes;
+
+    /**
+     * Keep the {@link ChannelInstance}s until their measurements are complete.
+     */
+    private List<ChannelInstance> inputChannelInstances, outputChannelInstances;
+
+    /**
+     * Estimates of the optimizer or {@code null} if not available.
+     */
+    private TimeEstimate timeEstimate;
+
+    private LoadProfile loadProfile;
+
+    private CardinalityEstimate[] estimatedInputCardinalities, estimatedOutputCardinalities;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param task                   that has been executed
+     * @param executionNanos         the measured time of the execution of the {@code task}
+     * @param inputChannelInstances  the inputs of the {@code task}; may contain {@code null}s
+     * @param outputChannelInstances the outputs of the {@code task}; may contain {@code null}s
+     * @see #collectChannelMeasurements()
+     */
+    public TaskMetrics(ExecutionTask task, long executionNanos,
+                       List<ChannelInstance> inputChannelInstances, List<ChannelInstance> outputChannelInstances) {
+        this.task = task;
+        this.executionNanos = executionNanos;
+        this.inputChannelInstances = inputChannelInstances;
+        this.outputChannelInstances = outputChannelInstances;
+        this.inputCardinalities = createUnknownArray(inputChannelInstances.size());
+        this.outputCardinalities = createUnknownArray(outputChannelInstances.size());
+        this.outputBytes = createUnknownArray(outputChannelInstances.size());
+    }
+
+    private static long[] createUnknownArray(int size) {
+        long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = UNKNOWN;
+        }
+        return array;
+    }
+
+    /**
+     * Reads the measured cardinalities, sizes, and lazy production times of the input and output
+     * {@link ChannelInstance}s and attributes a time to the {@link #task} if possible. As lazily executed
+     * {@link ExecutionTask}s produce these measurements only when their {@link ChannelInstance}s are consumed, this
+     * method should be called after the enclosing {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} has
+     * been executed. Afterwards, the {@link ChannelInstance}s are no longer referenced.
+     */
+    public void collectChannelMeasurements() {
+        if (this.inputChannelInstances == null) return;
+        long nanos = this.executionNanos;
+        boolean isTimeAttributable = true;
+        for (int i = 0; i < this.inputChannelInstances.size(); i++) {
+            final ChannelInstance channelInstance = this.inputChannelInstances.get(i);
+            if (channelInstance != null) {
+                this.inputCardinalities[i] = channelInstance.getObservedCardinality().orElse(UNKNOWN);
+                final OptionalLong lazyNanos = channelInstance.getMeasuredLazyNanos();
+                if (lazyNanos.isPresent()) nanos -= lazyNanos.getAsLong();
+                else isTimeAttributable = false;
+            }
+        }
+        for (int i = 0; i < this.outputChannelInstances.size(); i++) {
+            final ChannelInstance channelInstance = this.outputChannelInstances.get(i);
+            if (channelInstance != null) {
+                this.outputCardinalities[i] = channelInstance.getObservedCardinality().orElse(UNKNOWN);
+                this.outputBytes[i] = channelInstance.getMeasuredNumBytes().orElse(UNKNOWN);
+                final OptionalLong lazyNanos = channelInstance.getMeasuredLazyNanos();
+                if (lazyNanos.isPresent()) nanos += lazyNanos.getAsLong();
+                else isTimeAttributable = false;
+            }
+        }
+        if (isTimeAttributable) {
+            this.wallMillis = Math.max(0L, nanos) / 1000000L;
+        }
+        this.inputChannelInstances = null;
+        this.outputChannelInstances = null;
+    }
+
+    /**
+     * Provide the estimates of the optimizer for the {@link #task}.
+     *
+     * @param timeEstimate                 the estimated {@link TimeEstimate}
+     * @param loadProfile                  the estimated {@link LoadProfile}
+     * @param estimatedInputCardinalities  the estimated input cardinalities; may contain {@code null}s
+     * @param estimatedOutputCardinalities the estimated output cardinalities; may contain {@code null}s
+     */
+    public void setEstimates(TimeEstimate timeEstimate, LoadProfile loadProfile,
+                             CardinalityEstimate[] estimatedInputCardinalities,
+                             CardinalityEstimate[] estimatedOutputCardinalities) {
+        this.timeEstimate = timeEstimate;
+        this.loadProfile = loadProfile;
+        this.estimatedInputCardinalities = estimatedInputCardinalities;
+        this.estimatedOutputCardinalities = estimatedOutputCardinalities;
+    }
+
+    public ExecutionTask getTask() {
+        return this.task;
+    }
+
+    /**
+     * @return the time attributed to the {@link #task} or {@link #UNKNOWN} if its time cannot be told apart from the
+     * other {@link ExecutionTask}s in the enclosing {@link StageMetrics}
+     */
+    public long getWallMillis() {
+        return this.wallMillis;
+    }
+
+    public long[] getInputCardinalities() {
+        return this.inputCardinalities;
+    }
+
+    public long[] getOutputCardinalities() {
+        return this.outputCardinalities;
+    }
+
+    public long[] getOutputBytes() {
+        return this.outputBytes;
+    }
+
+    /**
+     * @return the {@link TimeEstimate} of the optimizer or {@code null} if not available
+     */
+    public TimeEstimate getTimeEstimate() {
+        return this.timeEstimate;
+    }
+
+    /**
+     * @return the {@link LoadProfile} estimated by the optimizer or {@code null} if not available
+     */
+    public LoadProfile getLoadProfile() {
+        return this.loadProfile;
+    }
+
+    /**
+     * @return the input cardinalities estimated by the optimizer or {@code null} if not available
+     */
+    public CardinalityEstimate[] getEstimatedInputCardinalities() {
+        return this.estimatedInputCardinalities;
+    }
+
+    /**
+     * @return the output cardinalities estimated by the optimizer or {@code null} if not available
+     */
+    public CardinalityEstimate[] getEstimatedOutputCardinalities() {
+        return this.estimatedOutputCardinalities;
+    }
+
+    /**
+     * Relates the measured wall time to the (geometric mean of the) estimated time.
+     *
+     * @return the ratio of measured and estimated time or {@link Double#NaN} if there is no estimate or the time
+     * is not known
+     */
+    public double getEstimationRatio() {
+        if (this.timeEstimate == null || this.wallMillis == UNKNOWN) return Double.NaN;
+        return getEstimationRatio(this.wallMillis, this.timeEstimate);
+    }
+
+    /**
+     * Relates a measured time to the (geometric mean of the) given {@link TimeEstimate}.
+     *
+     * @return the ratio of measured and estimated time
+     */
+    static double getEstimationRatio(long measuredMillis, TimeEstimate timeEstimate) {
+        final double estimatedMillis = Math.sqrt(
+                Math.max(1d, timeEstimate.getLowerEstimate()) * Math.max(1d, timeEstimate.getUpperEstimate())
+        );
+        return Math.max(1d, measuredMillis) / estimatedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, time: %s, estimate: %s]",
+                this.getClass().getSimpleName(),
+                this.task,
+                this.wallMillis == UNKNOWN ? "n/a (see stage)" : Formats.formatDuration(this.wallMillis),
+                this.timeEstimate == null ? "n/a" : this.timeEstimate
+        );
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.el.ValueExpression;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -17,58 +18,93 @@ public class JuelUtils {
 
     public static class JuelFunction<T> {
 
-        private final Map<String, Argument> arguments = new HashMap<>();
+        private final String juelExpression;
 
-        private final ExpressionFactoryImpl expressionFactory;
+        private final Class<T> resultClass;
 
-        private final SimpleContext context;
+        private final Map<String, Class<?>> argumentClasses;
 
-        private final ValueExpression expression;
+        private final ExpressionFactoryImpl expressionFactory;
 
+        /**
+         * Binding the arguments modifies the JUEL context, so that each thread evaluates in its own one.
+         */
+        private final ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
 
         public JuelFunction(String juelExpression, Class<T> resultClass, Map<String, Class<?>> arguments) {
-            // Initialize the JUEL conext.
+            this.juelExpression = juelExpression;
+            this.resultClass = resultClass;
+            this.argumentClasses = new LinkedHashMap<>(arguments);
             this.expressionFactory = new de.odysseus.el.ExpressionFactoryImpl();
-            this.initializeContext(this.context = new SimpleContext());
-
-            // Index the arguments.
-            Class<?>[] argumentTypeClasses = new Class[arguments.size()];
-            int argIndex = 0;
-            for (Map.Entry<String, Class<?>> argumentEntry : arguments.entrySet()) {
-                final String argName = argumentEntry.getKey();
-                final Class<?> argTypeClass = argumentEntry.getValue();
-                final TreeValueExpression argExpression =
-                        this.expressionFactory.createValueExpression(this.context, String.format("${%s}", argName), argTypeClass);
-                Argument argument = new Argument(argIndex++, argTypeClass, argExpression);
-                argumentTypeClasses[argument.index] = argument.typeClass;
-                this.arguments.put(argName, argument);
-            }
 
-            // Create the JUEL method.
-            this.expression = expressionFactory.createValueExpression(this.context, juelExpression, resultClass);
-//            this.expression = expressionFactory.createMethodExpression(this.context, juelExpression, resultClass, argumentTypeClasses);
+            // Parse the expression right away to detect errors early.
+            this.evaluators.get();
         }
 
-        private void initializeContext(SimpleContext ctx) {
-            try {
-                ctx.setFunction("math", "sqrt", Math.class.getMethod("sqrt", double.class));
-            } catch (NoSuchMethodException e) {
-                throw new RheemException("Could not initialize JUEL context.", e);
-            }
+        /**
+         * Evaluates the JUEL expression. Concurrent evaluations do not interfere with each other.
+         *
+         * @param values the arguments by their names
+         * @return the evaluation result
+         */
+        public T apply(Map<String, Object> values) {
+            return this.evaluators.get().apply(values);
         }
 
-        @SuppressWarnings("unchecked")
-        public T apply(Map<String, Object> values) {
-            values.forEach((key, value) -> {
-                final Argument argument = this.arguments.get(key);
-                if (argument == null) {
-                    LoggerFactory.getLogger(this.getClass()).warn("Unknown field \"{}\".", key);
-                } else {
-                    argument.expression.setValue(this.context, value);
-//                    this.context.setVariable(key, this.expressionFactory.createValueExpression(value, argument.typeClass));
+        /**
+         * Evaluates the JUEL expression in a JUEL context of its own.
+         */
+        private class Evaluator {
+
+            private final Map<String, Argument> arguments = new HashMap<>();
+
+            private final SimpleContext context;
+
+            private final ValueExpression expression;
+
+            private Evaluator() {
+                final ExpressionFactoryImpl expressionFactory = JuelFunction.this.expressionFactory;
+
+                // Initialize the JUEL conext.
+                this.initializeContext(this.context = new SimpleContext());
+
+                // Index the arguments.
+                int argIndex = 0;
+                for (Map.Entry<String, Class<?>> argumentEntry : JuelFunction.this.argumentClasses.entrySet()) {
+                    final String argName = argumentEntry.getKey();
+                    final Class<?> argTypeClass = argumentEntry.getValue();
+                    final TreeValueExpression argExpression =
+                            expressionFactory.createValueExpression(this.context, String.format("${%s}", argName), argTypeClass);
+                    Argument argument = new Argument(argIndex++, argTypeClass, argExpression);
+                    this.arguments.put(argName, argument);
+                }
+
+                // Create the JUEL method.
+                this.expression = expressionFactory.createValueExpression(
+                        this.context, JuelFunction.this.juelExpression, JuelFunction.this.resultClass
+                );
+            }
+
+            private void initializeContext(SimpleContext ctx) {
+                try {
+                    ctx.setFunction("math", "sqrt", Math.class.getMethod("sqrt", double.class));
+                } catch (NoSuchMethodException e) {
+                    throw new RheemException("Could not initialize JUEL context.", e);
                 }
-            });
-            return (T) this.expression.getValue(this.context);
+            }
+
+            @SuppressWarnings("unchecked")
+            private T apply(Map<String, Object> values) {
+                values.forEach((key, value) -> {
+                    final Argument argument = this.arguments.get(key);
+                    if (argument == null) {
+                        LoggerFactory.getLogger(JuelFunction.class).warn("Unknown field \"{}\".", key);
+                    } else {
+                        argument.expression.setValue(this.context, value);
+                    }
+                });
+                return (T) this.expression.getValue(this.context);
+            }
         }
 
     }
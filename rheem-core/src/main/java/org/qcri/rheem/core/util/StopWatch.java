@@ -4,6 +4,8 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -107,6 +109,13 @@ public class StopWatch {
         return rounds.computeIfAbsent(name, (nameKey) -> new Round(nameKey, parentRound));
     }
 
+    /**
+     * @return the top-level {@link Round}s of this instance
+     */
+    public Collection<Round> getRounds() {
+        return Collections.unmodifiableCollection(this.rounds.values());
+    }
+
     public String toPrettyString() {
         return this.toPrettyString("  ", "* ");
     }
@@ -258,6 +267,13 @@ public class StopWatch {
             this.subrounds.values().forEach(round -> round.append(indent, numIndents + 1, bullet, firstColumnWidth, sb));
         }
 
+        /**
+         * @return the nested {@link Round}s of this instance
+         */
+        public Collection<Round> getSubrounds() {
+            return Collections.unmodifiableCollection(this.subrounds.values());
+        }
+
         public long getDuration() {
             return this.stopTime == -1 ? -1 : this.stopTime - this.startTime;
         }
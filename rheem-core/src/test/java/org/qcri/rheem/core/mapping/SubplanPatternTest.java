@@ -11,6 +11,9 @@ import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
 import org.qcri.rheem.core.test.TestDataUnit;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -40,6 +43,34 @@ public class SubplanPatternTest {
         Assert.assertEquals(sink, match.getOperatorMatches().get("sink").getOperator());
     }
 
+    @Test
+    public void testMatchSinkPatternWithAdditionalTest() {
+        // Build the plan.
+        UnarySource source = new TestSource(DataSetType.createDefault(TestDataUnit.class));
+        UnarySink sink = new TestSink(DataSetType.createDefault(TestDataUnit.class));
+        source.connectTo(0, sink, 0);
+        RheemPlan plan = new RheemPlan();
+        plan.addSink(sink);
+
+        // Build the patterns.
+        OperatorPattern<TestSink> acceptingPattern = new OperatorPattern<>(
+                "sink", new TestSink(DataSetType.createDefault(TestDataUnit.class)), false
+        ).withAdditionalTest(operator -> operator == sink);
+        OperatorPattern<TestSink> rejectingPattern = new OperatorPattern<>(
+                "sink", new TestSink(DataSetType.createDefault(TestDataUnit.class)), false
+        ).withAdditionalTest(operator -> operator != sink);
+
+        // Match the patterns against the plan.
+        final List<SubplanMatch> acceptedMatches =
+                SubplanPattern.createSingleton(acceptingPattern).match(plan, Operator.FIRST_EPOCH);
+        final List<SubplanMatch> rejectedMatches =
+                SubplanPattern.createSingleton(rejectingPattern).match(plan, Operator.FIRST_EPOCH);
+
+        // Evaluate the matches.
+        Assert.assertEquals(1, acceptedMatches.size());
+        Assert.assertEquals(0, rejectedMatches.size());
+    }
+
     @Test
     public void testMatchSourcePattern() {
         // Build the plan.
@@ -87,4 +118,18 @@ public class SubplanPatternTest {
         Assert.assertEquals(sink, match.getOperatorMatches().get("sink").getOperator());
     }
 
+    @Test
+    public void testIsMatchPossible() {
+        // Build the pattern.
+        OperatorPattern sourcePattern = new OperatorPattern("source", new TestSource(DataSetType.createDefault(TestDataUnit.class)), false);
+        OperatorPattern sinkPattern = new OperatorPattern("sink", new TestSink(DataSetType.createDefault(TestDataUnit.class)), false);
+        sourcePattern.connectTo(0, sinkPattern, 0);
+        SubplanPattern subplanPattern = SubplanPattern.fromOperatorPatterns(sourcePattern, sinkPattern);
+
+        // Evaluate the pattern against different operator classes.
+        Assert.assertTrue(subplanPattern.isMatchPossible(new HashSet<>(Arrays.asList(TestSource.class, TestSink.class))));
+        Assert.assertFalse(subplanPattern.isMatchPossible(Collections.singleton(TestSink.class)));
+        Assert.assertFalse(subplanPattern.isMatchPossible(Collections.singleton(TestSource.class)));
+    }
+
 }
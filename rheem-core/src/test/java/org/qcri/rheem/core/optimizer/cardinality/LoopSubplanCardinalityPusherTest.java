@@ -14,6 +14,8 @@ import org.qcri.rheem.core.plan.rheemplan.test.TestLoopHead;
 import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
 import org.qcri.rheem.core.util.RheemCollections;
 
+import java.util.Collection;
+
 /**
  * Test suite for {@link LoopSubplanCardinalityPusher}.
  */
@@ -101,6 +103,47 @@ public class LoopSubplanCardinalityPusherTest {
 
     }
 
+    @Test
+    public void testWithDecayingLoopBodyOutput() {
+
+        TestLoopHead<Integer> loopHead = new TestLoopHead<Integer>(Integer.class) {
+            @Override
+            public Collection<OutputSlot<?>> getDecayingLoopBodyOutputs() {
+                return this.getLoopBodyOutputs();
+            }
+        };
+        final int numIterations = 4;
+        loopHead.setNumExpectedIterations(numIterations);
+        final double decay = 0.5d;
+        this.configuration.setProperty("rheem.core.optimizer.cardinality.workset-decay", String.valueOf(decay));
+
+        TestFilterOperator<Integer> inLoopFilter = new TestFilterOperator<>(Integer.class);
+        inLoopFilter.setSelectivity(1d);
+        loopHead.connectTo("loopOutput", inLoopFilter, "input");
+        inLoopFilter.connectTo("output", loopHead, "loopInput");
+
+        final LoopSubplan loop = LoopIsolator.isolate(loopHead);
+        Assert.assertNotNull(loop);
+        OptimizationContext optimizationContext = new OptimizationContext(loop, this.configuration);
+        final OptimizationContext.OperatorContext loopCtx = optimizationContext.getOperatorContext(loop);
+        final CardinalityEstimate inputCardinality = new CardinalityEstimate(1000, 2000, 0.9d);
+        loopCtx.setInputCardinality(0, inputCardinality);
+        loop.propagateInputCardinality(0, loopCtx);
+
+        final CardinalityPusher pusher = new LoopSubplanCardinalityPusher(loop, this.configuration);
+        pusher.push(loopCtx, this.configuration);
+
+        // The initial iteration sees the full input, while all further iterations shrink it.
+        final double loopSelectivity = Math.pow(decay, numIterations - 1);
+        final CardinalityEstimate expectedCardinality = new CardinalityEstimate(
+                Math.round(inputCardinality.getLowerEstimate() * loopSelectivity),
+                Math.round(inputCardinality.getUpperEstimate() * loopSelectivity),
+                inputCardinality.getCorrectnessProbability()
+        );
+        Assert.assertEquals(expectedCardinality, loopCtx.getOutputCardinality(0));
+
+    }
+
     @Test
     public void testWithSingleLoopWithConstantInput() {
 
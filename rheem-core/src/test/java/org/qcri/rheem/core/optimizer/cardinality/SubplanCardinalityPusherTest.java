@@ -10,11 +10,15 @@ import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ElementaryOperator;
 import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.plan.rheemplan.Subplan;
+import org.qcri.rheem.core.plan.rheemplan.test.TestFilterOperator;
 import org.qcri.rheem.core.plan.rheemplan.test.TestJoin;
 import org.qcri.rheem.core.plan.rheemplan.test.TestMapOperator;
 import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Test suite for {@link org.qcri.rheem.core.optimizer.cardinality.SubplanCardinalityPusher}.
  */
@@ -126,4 +130,71 @@ public class SubplanCardinalityPusherTest {
         Assert.assertEquals(expectedCardinality, outputCardinality);
     }
 
+    @Test
+    public void testDAGShapedSubplanWithSequentialEstimation() {
+        // By default, map2 and map3 are estimated concurrently.
+        this.configuration.setProperty("rheem.core.optimizer.cardinality.parallel", "false");
+        this.testDAGShapedSubplan();
+    }
+
+    @Test
+    public void testConcurrentAndSequentialEstimationAgree() {
+        // Execute.
+        this.configuration.setProperty("rheem.core.optimizer.cardinality.parallel", "true");
+        final List<CardinalityEstimate> concurrentEstimates = this.estimateWideSubplan();
+        this.configuration.setProperty("rheem.core.optimizer.cardinality.parallel", "false");
+        final List<CardinalityEstimate> sequentialEstimates = this.estimateWideSubplan();
+
+        // Verify the outcome.
+        Assert.assertFalse(sequentialEstimates.contains(null));
+        Assert.assertEquals(sequentialEstimates, concurrentEstimates);
+    }
+
+    /**
+     * Estimates a {@link Subplan} that fans out into many independent filters, which are then joined pairwise.
+     *
+     * @return the output {@link CardinalityEstimate}s of all operators in the {@link Subplan}
+     */
+    private List<CardinalityEstimate> estimateWideSubplan() {
+        final DataSetType<String> stringDataSetType = DataSetType.createDefault(String.class);
+        final List<ElementaryOperator> operators = new ArrayList<>();
+        TestMapOperator<String, String> map = new TestMapOperator<>(stringDataSetType, stringDataSetType);
+        operators.add(map);
+        List<ElementaryOperator> level = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            TestFilterOperator<String> filter = new TestFilterOperator<>(stringDataSetType);
+            filter.setSelectivity(1d / (i + 1));
+            map.connectTo(0, filter, 0);
+            level.add(filter);
+        }
+        operators.addAll(level);
+        while (level.size() > 1) {
+            List<ElementaryOperator> nextLevel = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += 2) {
+                TestJoin<String, String, String> join = new TestJoin<>(stringDataSetType, stringDataSetType, stringDataSetType);
+                level.get(i).connectTo(0, join, 0);
+                level.get(i + 1).connectTo(0, join, 1);
+                nextLevel.add(join);
+            }
+            operators.addAll(nextLevel);
+            level = nextLevel;
+        }
+
+        Subplan subplan = (Subplan) Subplan.wrap(map, level.get(0));
+        OptimizationContext optimizationContext = new OptimizationContext(subplan, this.configuration);
+        final OptimizationContext.OperatorContext subplanCtx = optimizationContext.getOperatorContext(subplan);
+        subplanCtx.setInputCardinality(0, new CardinalityEstimate(1000, 10000, 0.9d));
+        subplan.propagateInputCardinality(0, subplanCtx);
+
+        final CardinalityPusher pusher = SubplanCardinalityPusher.createFor(subplan, this.configuration);
+        pusher.push(subplanCtx, this.configuration);
+
+        final List<CardinalityEstimate> estimates = new ArrayList<>();
+        for (ElementaryOperator operator : operators) {
+            estimates.add(optimizationContext.getOperatorContext(operator).getOutputCardinality(0));
+        }
+        estimates.add(subplanCtx.getOutputCardinality(0));
+        return estimates;
+    }
+
 }
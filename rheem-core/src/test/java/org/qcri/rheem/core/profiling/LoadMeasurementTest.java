@@ -0,0 +1,86 @@
+package org.qcri.rheem.core.profiling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.LoadToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.test.DummyExecutionOperator;
+import org.qcri.rheem.core.test.DummyPlatform;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Test suite for {@link LoadMeasurement}.
+ */
+public class LoadMeasurementTest {
+
+    @Test
+    public void testCreateTermSeparatesCalibratableCpuLoad() {
+        // Prepare test data.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.test.load",
+                "{\"in\":1,\"out\":1,\"cpu\":\"${10*in0}\",\"ram\":\"0\",\"p\":0.9,\"overhead\":100}");
+        configuration.getLoadProfileToTimeConverterProvider().set(DummyPlatform.getInstance(),
+                LoadProfileToTimeConverter.createDefault(
+                        LoadToTimeConverter.createLinearCoverter(1e-6),
+                        LoadToTimeConverter.createLinearCoverter(0),
+                        LoadToTimeConverter.createLinearCoverter(0),
+                        (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate
+                ));
+        final ExecutionOperator operator = new DummyExecutionOperator(1, 1, false) {
+            @Override
+            public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+                final NestableLoadProfileEstimator estimator =
+                        NestableLoadProfileEstimator.parseSpecification(configuration, "rheem.test.load");
+                // The UDF takes 1000 CPU cycles per input data quantum.
+                estimator.nest(new NestableLoadProfileEstimator(
+                        new DefaultLoadEstimator(1, 1, 0.9, (in, out) -> 1000 * in[0]),
+                        new DefaultLoadEstimator(1, 1, 0.9, (in, out) -> 0)
+                ));
+                return Optional.of(estimator);
+            }
+        };
+
+        // Execute.
+        final LoadMeasurement.Term term = LoadMeasurement.createTerm(
+                operator, new long[]{1000000}, new long[]{10}, configuration
+        ).get();
+
+        // Verify the outcome.
+        Assert.assertEquals("rheem.test.load", term.getConfigurationKey());
+        // The baseline comprises the overhead and the UDF (1000 * 1000000 cycles, 1 us each).
+        Assert.assertEquals(1100L, term.getBaselineMillis());
+        Assert.assertEquals(1e-6, term.getMillisPerCpuCycle(), 1e-9);
+        Assert.assertEquals(10000000L, term.getEstimatedCpuCycles());
+        Assert.assertEquals(1110d, term.getEstimatedMillis(), 0.01);
+    }
+
+    @Test
+    public void testJsonSerialization() {
+        // Prepare test data.
+        final LoadMeasurement loadMeasurement = new LoadMeasurement(42, Collections.singletonList(
+                new LoadMeasurement.Term("rheem.test.load", new long[]{1, 2}, new long[]{3}, 10, 1e-6, 1000)
+        ));
+
+        // Execute.
+        final LoadMeasurement copy = LoadMeasurement.fromJson(loadMeasurement.toJson());
+
+        // Verify the outcome.
+        Assert.assertEquals(42L, copy.getMillis());
+        Assert.assertEquals(1, copy.getTerms().size());
+        final LoadMeasurement.Term term = copy.getTerms().get(0);
+        Assert.assertEquals("rheem.test.load", term.getConfigurationKey());
+        Assert.assertArrayEquals(new long[]{1, 2}, term.getInputCardinalities());
+        Assert.assertArrayEquals(new long[]{3}, term.getOutputCardinalities());
+        Assert.assertEquals(10L, term.getBaselineMillis());
+        Assert.assertEquals(1e-6, term.getMillisPerCpuCycle(), 0d);
+        Assert.assertEquals(1000L, term.getEstimatedCpuCycles());
+    }
+
+}
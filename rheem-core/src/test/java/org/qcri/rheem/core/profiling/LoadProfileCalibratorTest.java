@@ -0,0 +1,193 @@
+package org.qcri.rheem.core.profiling;
+
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Properties;
+
+/**
+ * Test suite for {@link LoadProfileCalibrator}.
+ */
+public class LoadProfileCalibratorTest {
+
+    @Test
+    public void testFitNonNegativeLeastSquares() {
+        // Prepare test data.
+        double[][] x = new double[20][];
+        double[] y = new double[20];
+        for (int i = 1; i <= 20; i++) {
+            long in0 = 1000L * i, out0 = 100L * ((i * 37) % 11);
+            x[i - 1] = new double[]{1, in0, out0};
+            y[i - 1] = 100 * in0 + 3 * out0 + 5000;
+        }
+
+        // Execute.
+        final double[] coefficients = LoadProfileCalibrator.fitNonNegativeLeastSquares(x, y);
+
+        // Verify the outcome.
+        Assert.assertArrayEquals(new double[]{5000, 100, 3}, coefficients, 0.01);
+    }
+
+    @Test
+    public void testFitNonNegativeLeastSquaresAreNonNegative() {
+        // Prepare test data.
+        double[][] x = new double[20][];
+        double[] y = new double[20];
+        for (int i = 1; i <= 20; i++) {
+            long in0 = 1000L * i;
+            x[i - 1] = new double[]{1, in0};
+            y[i - 1] = 50 * in0 - 2000;
+        }
+
+        // Execute.
+        final double[] coefficients = LoadProfileCalibrator.fitNonNegativeLeastSquares(x, y);
+
+        // Verify the outcome.
+        Assert.assertEquals(0d, coefficients[0], 0d);
+        Assert.assertTrue(coefficients[1] > 49 && coefficients[1] < 51);
+    }
+
+    @Test
+    public void testFitNonNegativeLeastSquaresRevivesDroppedVariables() {
+        // Prepare test data: The unconstrained fit yields the coefficients [-12.8, 21.0, -12.1], so that the first
+        // coefficient would be dropped first. Yet, it is the only positive coefficient of the optimal non-negative fit.
+        double[][] x = {{4, 6, 6}, {5, 6, 5}, {2, 4, 5}, {3, 3, 1}};
+        double[] y = {1, 2, -1, 13};
+
+        // Execute.
+        final double[] coefficients = LoadProfileCalibrator.fitNonNegativeLeastSquares(x, y);
+
+        // Verify the outcome.
+        Assert.assertArrayEquals(new double[]{51d / 54, 0, 0}, coefficients, 1e-6);
+    }
+
+    @Test
+    public void testFitNonNegativeLeastSquaresIsOptimal() {
+        final Random random = new Random(42);
+        for (int run = 0; run < 100; run++) {
+            // Prepare test data.
+            final int numRows = 10, numVariables = 4;
+            double[][] x = new double[numRows][numVariables];
+            double[] y = new double[numRows];
+            for (int row = 0; row < numRows; row++) {
+                for (int i = 0; i < numVariables; i++) {
+                    x[row][i] = random.nextInt(100);
+                }
+                y[row] = random.nextInt(1000) - 300;
+            }
+
+            // Execute.
+            final double[] coefficients = LoadProfileCalibrator.fitNonNegativeLeastSquares(x, y);
+
+            // Verify the outcome: The Karush-Kuhn-Tucker conditions must hold, i.e., the error cannot decrease by
+            // increasing any coefficient or by changing any positive coefficient.
+            for (int i = 0; i < numVariables; i++) {
+                double gradient = 0;
+                for (int row = 0; row < numRows; row++) {
+                    double residual = y[row];
+                    for (int j = 0; j < numVariables; j++) {
+                        residual -= x[row][j] * coefficients[j];
+                    }
+                    gradient += x[row][i] * residual;
+                }
+                Assert.assertTrue(coefficients[i] >= 0);
+                Assert.assertTrue(String.format("Gradient %f for coefficient %f.", gradient, coefficients[i]),
+                        gradient < 1e-3 && (coefficients[i] == 0 || gradient > -1e-3));
+            }
+        }
+    }
+
+    @Test
+    public void testCalibrate() {
+        // Prepare test data.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.test.load",
+                "{\"in\":1,\"out\":1,\"cpu\":\"${10*in0}\",\"ram\":\"0\",\"p\":0.9,\"overhead\":100,\"ru\":0.5}");
+        configuration.setProperty("rheem.core.calibration.minmeasurements", "3");
+        List<LoadMeasurement> measurements = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            long in0 = 10000L * i, out0 = 100L * ((i * 37) % 11);
+            // The operator takes 200*in0 + 1000000 CPU cycles, 1 us each, and has a baseline of 100 ms.
+            measurements.add(new LoadMeasurement(101 + 2 * i, Collections.singletonList(new LoadMeasurement.Term(
+                    "rheem.test.load", new long[]{in0}, new long[]{out0}, 100, 1e-6, 10 * in0
+            ))));
+        }
+        measurements.add(new LoadMeasurement(1, Collections.singletonList(new LoadMeasurement.Term(
+                "rheem.unknown.load", new long[]{1}, new long[]{1}, 0, 1e-6, 1
+        ))));
+        final LoadProfileCalibrator calibrator = new LoadProfileCalibrator(configuration);
+        calibrator.addMeasurements(measurements);
+
+        // Execute.
+        final Properties calibratedSpecifications = calibrator.calibrate();
+
+        // Verify the outcome.
+        Assert.assertEquals(1, calibratedSpecifications.size());
+        final String calibratedSpecification = calibratedSpecifications.getProperty("rheem.test.load");
+        final JSONObject jsonSpecification = new JSONObject(calibratedSpecification);
+        Assert.assertEquals(100, jsonSpecification.getLong("overhead"));
+        Assert.assertEquals(0.5, jsonSpecification.getDouble("ru"), 0d);
+        Assert.assertEquals(0.9, jsonSpecification.getDouble("p"), 0d);
+        Assert.assertEquals(11000000d, estimateCpuCycles(calibratedSpecification, 50000, 300), 110000d);
+    }
+
+    @Test
+    public void testCalibrateFromStages() {
+        // Prepare test data.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.test.a.load", "{\"in\":1,\"out\":1,\"cpu\":\"${in0}\",\"ram\":\"0\",\"p\":0.9}");
+        configuration.setProperty("rheem.test.b.load", "{\"in\":1,\"out\":1,\"cpu\":\"${out0}\",\"ram\":\"0\",\"p\":0.9}");
+        configuration.setProperty("rheem.core.calibration.minmeasurements", "3");
+        List<LoadMeasurement> measurements = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            long inA = 10000L * i, outA = 1000L * ((i * 3) % 7 + 1);
+            long inB = 5000L * ((i * 5) % 9 + 1), outB = 3000L * ((i * 2) % 5 + 1) * i;
+            // Operator a takes 100*in0 CPU cycles, b takes 20*out0 CPU cycles, and the unknown operator takes 7 ms.
+            final double millis = 7 + 10 + 20 + 1e-4 * (100 * inA + 20 * outB);
+            measurements.add(new LoadMeasurement(Math.round(millis), Arrays.asList(
+                    new LoadMeasurement.Term("rheem.test.a.load", new long[]{inA}, new long[]{outA}, 10, 1e-4, inA),
+                    new LoadMeasurement.Term("rheem.test.b.load", new long[]{inB}, new long[]{outB}, 20, 1e-4, outB),
+                    new LoadMeasurement.Term(null, new long[]{inA}, new long[]{outA}, 7, 0, 1)
+            )));
+        }
+        final LoadProfileCalibrator calibrator = new LoadProfileCalibrator(configuration);
+        calibrator.addMeasurements(measurements);
+
+        // Execute.
+        final Properties calibratedSpecifications = calibrator.calibrate();
+
+        // Verify the outcome.
+        Assert.assertEquals(2, calibratedSpecifications.size());
+        Assert.assertEquals(5000000d,
+                estimateCpuCycles(calibratedSpecifications.getProperty("rheem.test.a.load"), 50000, 1000), 50000d);
+        Assert.assertEquals(1000000d,
+                estimateCpuCycles(calibratedSpecifications.getProperty("rheem.test.b.load"), 1000, 50000), 10000d);
+    }
+
+    private static double estimateCpuCycles(String specification, long inputCardinality, long outputCardinality) {
+        return NestableLoadProfileEstimator.parseSpecification(specification)
+                .estimate(
+                        new CardinalityEstimate[]{new CardinalityEstimate(inputCardinality, inputCardinality, 1d)},
+                        new CardinalityEstimate[]{new CardinalityEstimate(outputCardinality, outputCardinality, 1d)}
+                )
+                .getCpuUsage()
+                .getAverageEstimate();
+    }
+
+    @Test
+    public void testCreateCpuExpression() {
+        Assert.assertEquals("${100*in0 + 0.25*out0 + 5000}",
+                LoadProfileCalibrator.createCpuExpression(new double[]{5000.2, 99.9, 0.25}, 1, 1));
+        Assert.assertEquals("${0}", LoadProfileCalibrator.createCpuExpression(new double[]{0, 0}, 1, 0));
+    }
+
+}
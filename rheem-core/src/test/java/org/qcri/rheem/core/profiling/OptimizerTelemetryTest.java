@@ -0,0 +1,55 @@
+package org.qcri.rheem.core.profiling;
+
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.util.StopWatch;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link OptimizerTelemetry}.
+ */
+public class OptimizerTelemetryTest {
+
+    @Test
+    public void testWriteJsonLines() throws IOException {
+        // Prepare test data.
+        final StopWatch stopWatch = new StopWatch();
+        stopWatch.start("Prepare", "Transformations");
+        stopWatch.stopAll();
+        final OptimizerTelemetry telemetry = new OptimizerTelemetry(stopWatch);
+        telemetry.recordJunctionSearch(true);
+        telemetry.recordJunctionSearch(false);
+        telemetry.recordReoptimization();
+
+        // Execute.
+        final StringWriter writer = new StringWriter();
+        telemetry.writeJsonLines(writer, "job-1", "Test job");
+
+        // Verify the outcome.
+        final List<JSONObject> jsonLines = Arrays.stream(writer.toString().split("\n"))
+                .map(JSONObject::new)
+                .collect(Collectors.toList());
+        Assert.assertEquals(3, jsonLines.size());
+        Assert.assertEquals("round", jsonLines.get(0).getString("type"));
+        Assert.assertEquals("Prepare", jsonLines.get(0).getString("name"));
+        Assert.assertEquals("Prepare->Transformations", jsonLines.get(1).getString("name"));
+        final JSONObject jsonSummary = jsonLines.get(2);
+        Assert.assertEquals("summary", jsonSummary.getString("type"));
+        Assert.assertEquals(2, jsonSummary.getLong("junctionSearches"));
+        Assert.assertEquals(1, jsonSummary.getLong("failedJunctionSearches"));
+        Assert.assertEquals(1, jsonSummary.getInt("reoptimizations"));
+        final long timestamp = jsonLines.get(0).getLong("timestamp");
+        for (JSONObject jsonLine : jsonLines) {
+            Assert.assertEquals("job-1", jsonLine.getString("jobId"));
+            Assert.assertEquals("Test job", jsonLine.getString("jobName"));
+            Assert.assertEquals(timestamp, jsonLine.getLong("timestamp"));
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.qcri.rheem.core.profiling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.optimizer.costs.TimeEstimate;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.OptionalLong;
+
+/**
+ * Test suite for {@link TaskMetrics}.
+ */
+public class TaskMetricsTest {
+
+    @Test
+    public void testCollectChannelMeasurements() {
+        // Prepare test data.
+        final ChannelInstance input = new TestChannelInstance();
+        input.setMeasuredCardinality(100);
+        final ChannelInstance output = new TestChannelInstance();
+        final TaskMetrics taskMetrics = new TaskMetrics(
+                null, 10000000L, Arrays.asList(input, null), Collections.singletonList(output)
+        );
+        // Measurements of lazily executed tasks become available only after the task itself has been executed.
+        output.setMeasuredCardinality(42);
+
+        // Execute.
+        taskMetrics.collectChannelMeasurements();
+
+        // Verify the outcome.
+        Assert.assertArrayEquals(new long[]{100, TaskMetrics.UNKNOWN}, taskMetrics.getInputCardinalities());
+        Assert.assertArrayEquals(new long[]{42}, taskMetrics.getOutputCardinalities());
+        Assert.assertArrayEquals(new long[]{TaskMetrics.UNKNOWN}, taskMetrics.getOutputBytes());
+        // The lazy production times are not known, so the time cannot be attributed to the task.
+        Assert.assertEquals(TaskMetrics.UNKNOWN, taskMetrics.getWallMillis());
+    }
+
+    @Test
+    public void testTimeAttribution() {
+        // Prepare test data.
+        final TestChannelInstance input = new TestChannelInstance();
+        input.lazyNanos = OptionalLong.of(30000000L);
+        final TestChannelInstance output = new TestChannelInstance();
+        output.lazyNanos = OptionalLong.of(50000000L);
+        // The execution pulls the input, e.g., to build a hash table. The output is produced lazily.
+        final TaskMetrics taskMetrics = new TaskMetrics(
+                null, 40000000L, Collections.singletonList(input), Arrays.asList(output, null)
+        );
+
+        // Execute.
+        taskMetrics.collectChannelMeasurements();
+
+        // Verify the outcome.
+        Assert.assertEquals(60L, taskMetrics.getWallMillis());
+    }
+
+    @Test
+    public void testEstimationRatio() {
+        // Prepare test data.
+        final TaskMetrics taskMetrics = new TaskMetrics(
+                null, 200000000L, Collections.emptyList(), Collections.emptyList()
+        );
+        taskMetrics.collectChannelMeasurements();
+
+        // Verify the outcome.
+        Assert.assertTrue(Double.isNaN(taskMetrics.getEstimationRatio()));
+        taskMetrics.setEstimates(new TimeEstimate(50, 200, 0.9), null, null, null);
+        Assert.assertEquals(2d, taskMetrics.getEstimationRatio(), 0.0001d);
+    }
+
+    /**
+     * Minimal {@link ChannelInstance} that only keeps track of its measured cardinality and lazy production time.
+     */
+    private static class TestChannelInstance extends AbstractChannelInstance {
+
+        private OptionalLong lazyNanos = OptionalLong.empty();
+
+        private TestChannelInstance() {
+            super(null);
+        }
+
+        @Override
+        public OptionalLong getMeasuredLazyNanos() {
+            return this.lazyNanos;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        protected void doDispose() {
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.qcri.rheem.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test suite for {@link JuelUtils}.
+ */
+public class JuelUtilsTest {
+
+    @Test
+    public void testFunction() {
+        // Prepare test data.
+        final Map<String, Class<?>> argumentClasses = new HashMap<>();
+        argumentClasses.put("in0", Long.class);
+        argumentClasses.put("out0", Long.class);
+        final JuelUtils.JuelFunction<Long> function =
+                new JuelUtils.JuelFunction<>("${3 * in0 + out0 + math:sqrt(16)}", Long.class, argumentClasses);
+
+        // Execute.
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("in0", 10L);
+        arguments.put("out0", 2L);
+        final long result = function.apply(arguments);
+
+        // Verify the outcome.
+        Assert.assertEquals(36L, result);
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        // Prepare test data.
+        final Map<String, Class<?>> argumentClasses = new HashMap<>();
+        argumentClasses.put("in0", Long.class);
+        argumentClasses.put("out0", Long.class);
+        final JuelUtils.JuelFunction<Long> function =
+                new JuelUtils.JuelFunction<>("${in0 * 1000 + out0}", Long.class, argumentClasses);
+
+        // Execute: Each thread binds its own arguments, which must not leak into the other threads' evaluations.
+        final int numThreads = 8;
+        final ExecutorService threadPool = Executors.newFixedThreadPool(numThreads);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>(numThreads);
+            for (int thread = 0; thread < numThreads; thread++) {
+                final long in0 = thread;
+                futures.add(threadPool.submit(() -> {
+                    for (long out0 = 0; out0 < 1000; out0++) {
+                        final Map<String, Object> arguments = new HashMap<>();
+                        arguments.put("in0", in0);
+                        arguments.put("out0", out0);
+                        if (function.apply(arguments) != in0 * 1000 + out0) return false;
+                    }
+                    return true;
+                }));
+            }
+
+            // Verify the outcome.
+            for (Future<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+}
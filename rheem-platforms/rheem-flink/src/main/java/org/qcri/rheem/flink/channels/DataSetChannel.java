@@ -0,0 +1,186 @@
+package org.qcri.rheem.flink.channels;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Describes the situation where one {@link DataSet} is operated on, producing a further {@link DataSet}.
+ * <p>As a {@link DataSet} only describes how to compute its data quanta, it can be consumed by several operators.
+ * However, each Flink job that consumes it recomputes it.</p>
+ */
+public class DataSetChannel extends Channel {
+
+    private static final boolean IS_REUSABLE = true;
+
+    private static final boolean IS_INTERNAL = true;
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(
+            DataSetChannel.class, IS_REUSABLE, IS_REUSABLE, !IS_INTERNAL && IS_REUSABLE
+    );
+
+    public DataSetChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
+        super(descriptor, outputSlot);
+        assert descriptor == DESCRIPTOR;
+    }
+
+    private DataSetChannel(DataSetChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public DataSetChannel copy() {
+        return new DataSetChannel(this);
+    }
+
+    @Override
+    public ChannelInstance createInstance(Executor executor) {
+        return new Instance((FlinkExecutor) executor);
+    }
+
+    /**
+     * {@link ChannelInstance} implementation for {@link DataSetChannel}s.
+     */
+    public class Instance extends AbstractChannelInstance {
+
+        private DataSet<?> dataSet;
+
+        /**
+         * Name of the Flink accumulator that counts the data quanta of the {@link #dataSet} if it is instrumented.
+         */
+        private String accumulatorName;
+
+        /**
+         * If this instance provides the solution set of a native Flink delta iteration, the key descriptor of that
+         * solution set. Then, the {@link #dataSet} consists of {@link Tuple2}s of keys and data quanta.
+         */
+        private TransformationDescriptor<?, ?> solutionSetKeyDescriptor;
+
+        private final FlinkExecutor flinkExecutor;
+
+        public Instance(FlinkExecutor executor) {
+            super(executor);
+            this.flinkExecutor = executor;
+        }
+
+        public void accept(DataSet<?> dataSet) {
+            if (this.isMarkedForInstrumentation()) {
+                this.accumulatorName = "rheem-cardinality-" + UUID.randomUUID();
+                this.dataSet = dataSet.filter(new CountingFilter<>(this.accumulatorName));
+            } else {
+                this.dataSet = dataSet;
+            }
+        }
+
+        /**
+         * Accepts the solution set of a native Flink delta iteration. Flink allows to access it only via joins on its
+         * key, so that it cannot be {@link #provideDataSet() provided} as a plain {@link DataSet}.
+         *
+         * @param solutionSet   the solution set as {@link Tuple2}s of keys and data quanta
+         * @param keyDescriptor extracts the keys from the data quanta
+         */
+        public <K, T> void acceptSolutionSet(DataSet<Tuple2<K, T>> solutionSet, TransformationDescriptor<T, K> keyDescriptor) {
+            this.dataSet = solutionSet;
+            this.solutionSetKeyDescriptor = keyDescriptor;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> DataSet<T> provideDataSet() {
+            if (this.isSolutionSet()) {
+                throw new RheemException(String.format(
+                        "%s provides the solution set of a Flink delta iteration, which can only be joined on its key.",
+                        this.getChannel()
+                ));
+            }
+            return (DataSet<T>) this.dataSet;
+        }
+
+        /**
+         * @return whether this instance provides the solution set of a native Flink delta iteration
+         */
+        public boolean isSolutionSet() {
+            return this.solutionSetKeyDescriptor != null;
+        }
+
+        /**
+         * @return the key descriptor of the solution set provided by this instance or {@code null} if none
+         */
+        public TransformationDescriptor<?, ?> getSolutionSetKeyDescriptor() {
+            return this.solutionSetKeyDescriptor;
+        }
+
+        /**
+         * @return the solution set as {@link Tuple2}s of keys and data quanta
+         * @see #acceptSolutionSet(DataSet, TransformationDescriptor)
+         */
+        @SuppressWarnings("unchecked")
+        public <K, T> DataSet<Tuple2<K, T>> provideSolutionSet() {
+            assert this.isSolutionSet();
+            return (DataSet<Tuple2<K, T>>) this.dataSet;
+        }
+
+        @Override
+        protected void doDispose() {
+            this.dataSet = null;
+            this.solutionSetKeyDescriptor = null;
+        }
+
+        @Override
+        public OptionalLong getMeasuredCardinality() {
+            if (this.accumulatorName != null) {
+                final JobExecutionResult lastResult = this.flinkExecutor.env.getLastJobExecutionResult();
+                final Object count = lastResult == null ? null : lastResult.getAccumulatorResult(this.accumulatorName);
+                if (count != null) {
+                    this.setMeasuredCardinality((Long) count);
+                }
+            }
+            return super.getMeasuredCardinality();
+        }
+
+        @Override
+        public DataSetChannel getChannel() {
+            return DataSetChannel.this;
+        }
+
+    }
+
+    /**
+     * Counts the data quanta passing through it in a Flink accumulator.
+     */
+    private static class CountingFilter<T> extends RichFilterFunction<T> {
+
+        private final String accumulatorName;
+
+        private final LongCounter counter = new LongCounter();
+
+        private CountingFilter(String accumulatorName) {
+            this.accumulatorName = accumulatorName;
+        }
+
+        @Override
+        public void open(org.apache.flink.configuration.Configuration parameters) {
+            this.getRuntimeContext().addAccumulator(this.accumulatorName, this.counter);
+        }
+
+        @Override
+        public boolean filter(T dataQuantum) {
+            this.counter.add(1L);
+            return true;
+        }
+    }
+
+}
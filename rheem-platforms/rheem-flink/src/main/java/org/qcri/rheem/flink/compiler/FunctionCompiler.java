@@ -0,0 +1,327 @@
+package org.qcri.rheem.flink.compiler;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.functions.RichReduceFunction;
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.qcri.rheem.core.function.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.flink.execution.FlinkExecutionContext;
+
+import java.util.Collection;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiler translates Rheem functions into executable Flink functions.
+ * <p>Flink cannot infer the output types of the Rheem functions, as they are erased. Therefore, the compiled functions
+ * declare them explicitly via {@link ResultTypeQueryable}. Furthermore, {@link ExtendedFunction}s are opened along
+ * with the Flink functions, so that they can access Flink broadcast variables.</p>
+ */
+public class FunctionCompiler {
+
+    /**
+     * Create an appropriate {@link RichMapFunction} for deploying the given {@link TransformationDescriptor}
+     * on Apache Flink.
+     */
+    public <I, O> MapFunctionAdapter<I, O> compile(TransformationDescriptor<I, O> descriptor) {
+        return new MapFunctionAdapter<>(
+                descriptor.getJavaImplementation(),
+                createTypeInformation(descriptor.getOutputType().getTypeClass())
+        );
+    }
+
+    /**
+     * Create an appropriate {@link KeySelector} for deploying the given {@link TransformationDescriptor}
+     * as a key extraction on Apache Flink.
+     */
+    public <T, K> KeySelectorAdapter<T, K> compileToKeySelector(TransformationDescriptor<T, K> descriptor) {
+        return new KeySelectorAdapter<>(
+                descriptor.getJavaImplementation(),
+                createTypeInformation(descriptor.getOutputType().getTypeClass())
+        );
+    }
+
+    /**
+     * Create an appropriate {@link RichFlatMapFunction} for deploying the given {@link FlatMapDescriptor}
+     * on Apache Flink.
+     */
+    public <I, O> FlatMapFunctionAdapter<I, O> compile(FlatMapDescriptor<I, O> descriptor) {
+        return new FlatMapFunctionAdapter<>(
+                descriptor.getJavaImplementation(),
+                createTypeInformation(descriptor.getOutputType().getTypeClass())
+        );
+    }
+
+    /**
+     * Create an appropriate {@link RichReduceFunction} for deploying the given {@link ReduceDescriptor}
+     * on Apache Flink.
+     */
+    public <T> ReduceFunctionAdapter<T> compile(ReduceDescriptor<T> descriptor) {
+        return new ReduceFunctionAdapter<>(descriptor.getJavaImplementation());
+    }
+
+    /**
+     * Create an appropriate {@link RichFilterFunction} for deploying the given {@link PredicateDescriptor}
+     * on Apache Flink.
+     */
+    public <T> PredicateAdapter<T> compile(PredicateDescriptor<T> descriptor) {
+        return new PredicateAdapter<>(descriptor.getJavaImplementation());
+    }
+
+    /**
+     * Create a {@link RichFlatMapFunction} that evaluates the given loop convergence criterion on the broadcast
+     * variable {@code convergenceName}. It forwards its input data quanta only if the loop should go on, so that it
+     * can yield the termination criterion of a native Flink iteration.
+     */
+    public <T> ConvergenceCriterionAdapter<T> compileConvergenceCriterion(
+            PredicateDescriptor<Collection<T>> descriptor, String convergenceName) {
+        return new ConvergenceCriterionAdapter<>(descriptor.getJavaImplementation(), convergenceName);
+    }
+
+    /**
+     * Creates the Flink {@link TypeInformation} for data quanta of the given {@link DataSetType}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeInformation<T> createTypeInformation(DataSetType<T> type) {
+        final DataUnitType<T> dataUnitType = type.getDataUnitType();
+        final Class<?> cls = dataUnitType.isGroup() ? Iterable.class : dataUnitType.getTypeClass();
+        return createTypeInformation((Class<T>) cls);
+    }
+
+    /**
+     * Creates the Flink {@link TypeInformation} for data quanta of the given {@link Class}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeInformation<T> createTypeInformation(Class<T> cls) {
+        // Channel conversions declare Void, as they are oblivious of the actual type of the data quanta.
+        if (cls == Void.class) {
+            return (TypeInformation<T>) new GenericTypeInfo<>(Object.class);
+        }
+        return TypeExtractor.getForClass(cls);
+    }
+
+    /**
+     * Opens the given Rheem function if it is an {@link ExtendedFunction}.
+     */
+    private static void openIfExtended(Object function, RuntimeContext runtimeContext) {
+        if (function instanceof ExtendedFunction) {
+            ((ExtendedFunction) function).open(new FlinkExecutionContext(runtimeContext));
+        }
+    }
+
+    /**
+     * Wraps a {@link Function} as a {@link RichMapFunction}.
+     */
+    public static class MapFunctionAdapter<I, O> extends RichMapFunction<I, O>
+            implements ResultTypeQueryable<O>, RheemFlinkFunction {
+
+        private final Function<I, O> impl;
+
+        private final TypeInformation<O> outputType;
+
+        public MapFunctionAdapter(Function<I, O> impl, TypeInformation<O> outputType) {
+            this.impl = impl;
+            this.outputType = outputType;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            openIfExtended(this.impl, this.getRuntimeContext());
+        }
+
+        @Override
+        public O map(I dataQuantum) {
+            return this.impl.apply(dataQuantum);
+        }
+
+        @Override
+        public TypeInformation<O> getProducedType() {
+            return this.outputType;
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Wraps a {@link Function} that produces {@link Iterable}s as a {@link RichFlatMapFunction}.
+     */
+    public static class FlatMapFunctionAdapter<I, O> extends RichFlatMapFunction<I, O>
+            implements ResultTypeQueryable<O>, RheemFlinkFunction {
+
+        private final Function<I, Iterable<O>> impl;
+
+        private final TypeInformation<O> outputType;
+
+        public FlatMapFunctionAdapter(Function<I, Iterable<O>> impl, TypeInformation<O> outputType) {
+            this.impl = impl;
+            this.outputType = outputType;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            openIfExtended(this.impl, this.getRuntimeContext());
+        }
+
+        @Override
+        public void flatMap(I dataQuantum, Collector<O> collector) {
+            for (O outputDataQuantum : this.impl.apply(dataQuantum)) {
+                collector.collect(outputDataQuantum);
+            }
+        }
+
+        @Override
+        public TypeInformation<O> getProducedType() {
+            return this.outputType;
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Wraps a {@link Predicate} as a {@link RichFilterFunction}.
+     */
+    public static class PredicateAdapter<T> extends RichFilterFunction<T> implements RheemFlinkFunction {
+
+        private final Predicate<T> impl;
+
+        public PredicateAdapter(Predicate<T> impl) {
+            this.impl = impl;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            openIfExtended(this.impl, this.getRuntimeContext());
+        }
+
+        @Override
+        public boolean filter(T dataQuantum) {
+            return this.impl.test(dataQuantum);
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Wraps a {@link BinaryOperator} as a {@link RichReduceFunction}.
+     */
+    public static class ReduceFunctionAdapter<T> extends RichReduceFunction<T> implements RheemFlinkFunction {
+
+        private final BinaryOperator<T> impl;
+
+        public ReduceFunctionAdapter(BinaryOperator<T> impl) {
+            this.impl = impl;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            openIfExtended(this.impl, this.getRuntimeContext());
+        }
+
+        @Override
+        public T reduce(T dataQuantum0, T dataQuantum1) {
+            return this.impl.apply(dataQuantum0, dataQuantum1);
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Wraps a loop convergence criterion, i.e., a {@link Predicate} over the convergence data quanta that tells
+     * whether the loop should stop, as a {@link RichFlatMapFunction}.
+     */
+    public static class ConvergenceCriterionAdapter<T> extends RichFlatMapFunction<Integer, Integer>
+            implements RheemFlinkFunction {
+
+        private final Predicate<Collection<T>> impl;
+
+        private final String convergenceName;
+
+        public ConvergenceCriterionAdapter(Predicate<Collection<T>> impl, String convergenceName) {
+            this.impl = impl;
+            this.convergenceName = convergenceName;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            openIfExtended(this.impl, this.getRuntimeContext());
+        }
+
+        @Override
+        public void flatMap(Integer dataQuantum, Collector<Integer> collector) {
+            final Collection<T> convergence = this.getRuntimeContext().getBroadcastVariable(this.convergenceName);
+            if (!this.impl.test(convergence)) {
+                collector.collect(dataQuantum);
+            }
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Wraps a {@link Function} as a {@link KeySelector}.
+     */
+    public static class KeySelectorAdapter<T, K> implements KeySelector<T, K>, ResultTypeQueryable<K>, RheemFlinkFunction {
+
+        private final Function<T, K> impl;
+
+        private final TypeInformation<K> keyType;
+
+        public KeySelectorAdapter(Function<T, K> impl, TypeInformation<K> keyType) {
+            this.impl = impl;
+            this.keyType = keyType;
+        }
+
+        @Override
+        public K getKey(T dataQuantum) {
+            return this.impl.apply(dataQuantum);
+        }
+
+        @Override
+        public TypeInformation<K> getProducedType() {
+            return this.keyType;
+        }
+
+        @Override
+        public Object getRheemFunction() {
+            return this.impl;
+        }
+    }
+
+    /**
+     * Describes functions coming from Rheem, designated for Flink.
+     */
+    public interface RheemFlinkFunction {
+
+        /**
+         * @return the original code object as has been defined in the Rheem API
+         */
+        Object getRheemFunction();
+
+    }
+}
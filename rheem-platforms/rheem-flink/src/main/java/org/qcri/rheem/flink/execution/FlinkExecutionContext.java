@@ -0,0 +1,30 @@
+package org.qcri.rheem.flink.execution;
+
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.qcri.rheem.core.function.ExecutionContext;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+
+/**
+ * {@link ExecutionContext} implementation for the {@link FlinkPlatform}. Broadcasts are Flink broadcast variables
+ * that are registered under the names of the broadcast {@link org.qcri.rheem.core.plan.rheemplan.InputSlot}s.
+ */
+public class FlinkExecutionContext implements ExecutionContext {
+
+    private final RuntimeContext runtimeContext;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param runtimeContext {@link RuntimeContext} of the Flink function that executes the Rheem function
+     */
+    public FlinkExecutionContext(RuntimeContext runtimeContext) {
+        this.runtimeContext = runtimeContext;
+    }
+
+    @Override
+    public <T> Collection<T> getBroadcast(String name) {
+        return this.runtimeContext.getBroadcastVariable(name);
+    }
+}
@@ -0,0 +1,180 @@
+package org.qcri.rheem.flink.execution;
+
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.flink.operators.FlinkExecutionOperator;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * The {@link ExecutionTask}s of a loop body that can be evaluated as part of a native Flink iteration. That is, they
+ * are {@link FlinkExecutionOperator}s that are {@link FlinkExecutionOperator#isEvaluatingLazily() evaluated lazily}
+ * and whose inputs from outside of the loop are already available.
+ * <p>Other than for Rheem-driven loops, the loop body is {@link #evaluate(ChannelInstance[]) evaluated} only once,
+ * thereby declaring the step function of the Flink iteration.</p>
+ */
+public class FlinkLoopBody {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlinkLoopBody.class);
+
+    /**
+     * The {@link ExecutionTask} of the {@link LoopHeadOperator}.
+     */
+    private final ExecutionTask loopHeadTask;
+
+    /**
+     * The {@link ExecutionTask}s of the loop body in a topological order.
+     */
+    private final List<ExecutionTask> bodyTasks;
+
+    /**
+     * Provides {@link ChannelInstance}s that enter the loop body from outside of the loop.
+     */
+    private final ExecutionState executionState;
+
+    private final FlinkExecutor flinkExecutor;
+
+    private FlinkLoopBody(ExecutionTask loopHeadTask, List<ExecutionTask> bodyTasks,
+                          ExecutionState executionState, FlinkExecutor flinkExecutor) {
+        this.loopHeadTask = loopHeadTask;
+        this.bodyTasks = bodyTasks;
+        this.executionState = executionState;
+        this.flinkExecutor = flinkExecutor;
+    }
+
+    /**
+     * Gathers the loop body for the given {@link ExecutionTask} of a {@link LoopHeadOperator}.
+     *
+     * @param loopHeadTask   the {@link ExecutionTask} of the {@link LoopHeadOperator}
+     * @param executionState provides the {@link ChannelInstance}s from outside of the loop
+     * @param flinkExecutor  evaluates the loop body
+     * @return the {@link FlinkLoopBody} or {@code null} if the loop body cannot be part of a native Flink iteration
+     */
+    public static FlinkLoopBody createFor(ExecutionTask loopHeadTask, ExecutionState executionState,
+                                          FlinkExecutor flinkExecutor) {
+        assert loopHeadTask.getOperator().isLoopHead();
+        final LoopHeadOperator loopHead = (LoopHeadOperator) loopHeadTask.getOperator();
+
+        // Gather the ExecutionTasks downstream of the loop body outputs of the loop head.
+        final Set<ExecutionTask> bodyTasks = new HashSet<>();
+        final Queue<ExecutionTask> stagedTasks = new LinkedList<>();
+        for (OutputSlot<?> output : loopHead.getLoopBodyOutputs()) {
+            final Channel channel = loopHeadTask.getOutputChannel(output.getIndex());
+            if (channel != null) stagedTasks.addAll(channel.getConsumers());
+        }
+        ExecutionTask task;
+        while ((task = stagedTasks.poll()) != null) {
+            if (task == loopHeadTask || !bodyTasks.add(task)) continue;
+            if (task.getStage().getLoop() != loopHeadTask.getStage().getLoop()) {
+                logger.info("Cannot run {} as native Flink iteration: {} is not in the loop.", loopHead, task);
+                return null;
+            }
+            final ExecutionOperator operator = task.getOperator();
+            if (!(operator instanceof FlinkExecutionOperator) || operator.isLoopHead()
+                    || !((FlinkExecutionOperator) operator).isEvaluatingLazily()) {
+                logger.info("Cannot run {} as native Flink iteration: {} is not a lazy Flink operator.", loopHead, task);
+                return null;
+            }
+            for (Channel channel : task.getOutputChannels()) {
+                if (channel != null) stagedTasks.addAll(channel.getConsumers());
+            }
+        }
+
+        // Order the ExecutionTasks and make sure that all inputs from outside of the loop are available.
+        final List<ExecutionTask> orderedBodyTasks = new ArrayList<>(bodyTasks.size());
+        final Set<ExecutionTask> remainingTasks = new HashSet<>(bodyTasks);
+        while (!remainingTasks.isEmpty()) {
+            final Iterator<ExecutionTask> iterator = remainingTasks.iterator();
+            boolean isAnyTaskReady = false;
+            while (iterator.hasNext()) {
+                final ExecutionTask candidate = iterator.next();
+                boolean isReady = true;
+                for (Channel channel : candidate.getInputChannels()) {
+                    if (channel == null) continue;
+                    final ExecutionTask producer = channel.getProducer();
+                    if (producer == loopHeadTask || (bodyTasks.contains(producer) && !remainingTasks.contains(producer))) {
+                        continue;
+                    }
+                    if (bodyTasks.contains(producer)) {
+                        isReady = false;
+                    } else if (executionState.getChannelInstance(channel) == null) {
+                        logger.info("Cannot run {} as native Flink iteration: {} is not available.", loopHead, channel);
+                        return null;
+                    }
+                }
+                if (isReady) {
+                    orderedBodyTasks.add(candidate);
+                    iterator.remove();
+                    isAnyTaskReady = true;
+                }
+            }
+            if (!isAnyTaskReady) {
+                logger.info("Cannot run {} as native Flink iteration: its body is not acyclic.", loopHead);
+                return null;
+            }
+        }
+
+        // Make sure that the loop body feeds the loop head.
+        for (InputSlot<?> input : loopHead.getLoopBodyInputs()) {
+            final Channel channel = loopHeadTask.getInputChannel(input.getIndex());
+            if (channel == null || !bodyTasks.contains(channel.getProducer())) {
+                logger.info("Cannot run {} as native Flink iteration: {} is not fed by the loop body.", loopHead, input);
+                return null;
+            }
+        }
+
+        return new FlinkLoopBody(loopHeadTask, orderedBodyTasks, executionState, flinkExecutor);
+    }
+
+    /**
+     * Evaluates the {@link ExecutionTask}s of the loop body once.
+     *
+     * @param loopHeadOutputs the {@link ChannelInstance}s for the outputs of the {@link LoopHeadOperator}; those for
+     *                        its loop body outputs must provide the data within the Flink iteration
+     * @return {@link ChannelInstance}s for the inputs of the {@link LoopHeadOperator}; those for its loop body inputs
+     * provide the results of an iteration
+     */
+    public ChannelInstance[] evaluate(ChannelInstance[] loopHeadOutputs) {
+        final LoopHeadOperator loopHead = (LoopHeadOperator) this.loopHeadTask.getOperator();
+        final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+        for (OutputSlot<?> output : loopHead.getLoopBodyOutputs()) {
+            final Channel channel = this.loopHeadTask.getOutputChannel(output.getIndex());
+            if (channel != null) channelInstances.put(channel, loopHeadOutputs[output.getIndex()]);
+        }
+
+        for (ExecutionTask task : this.bodyTasks) {
+            final ChannelInstance[] inputs = new ChannelInstance[task.getNumInputChannels()];
+            for (int inputIndex = 0; inputIndex < inputs.length; inputIndex++) {
+                final Channel channel = task.getInputChannel(inputIndex);
+                if (channel == null) continue;
+                final ChannelInstance channelInstance = channelInstances.get(channel);
+                inputs[inputIndex] = channelInstance != null ?
+                        channelInstance :
+                        this.executionState.getChannelInstance(channel);
+            }
+            final ChannelInstance[] outputs = this.flinkExecutor.createOutputChannelInstances(task);
+            ((FlinkExecutionOperator) task.getOperator()).evaluate(
+                    inputs, outputs, this.flinkExecutor.compiler, this.flinkExecutor
+            );
+            for (ChannelInstance output : outputs) {
+                if (output != null) channelInstances.put(output.getChannel(), output);
+            }
+        }
+
+        final ChannelInstance[] loopHeadInputs = new ChannelInstance[loopHead.getNumInputs()];
+        for (InputSlot<?> input : loopHead.getLoopBodyInputs()) {
+            final Channel channel = this.loopHeadTask.getInputChannel(input.getIndex());
+            loopHeadInputs[input.getIndex()] = channelInstances.get(channel);
+        }
+        return loopHeadInputs;
+    }
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkCollectionSource;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link CollectionSource} to {@link FlinkCollectionSource}.
+ */
+public class CollectionSourceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                FlinkPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "source", new CollectionSource(Collections.emptyList(), DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final CollectionSource originalSource = (CollectionSource) subplanMatch.getMatch("source").getOperator();
+            return new FlinkCollectionSource(originalSource.getCollection(), originalSource.getOutput().getType()).at(epoch);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkCountOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link CountOperator} to {@link FlinkCountOperator}.
+ */
+public class CountToFlinkCountMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                FlinkPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "count", new CountOperator<>(DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final CountOperator<?> originalOperator = (CountOperator<?>) subplanMatch.getMatch("count").getOperator();
+            return new FlinkCountOperator<>(originalOperator.getInputType()).at(epoch);
+        }
+    }
+}
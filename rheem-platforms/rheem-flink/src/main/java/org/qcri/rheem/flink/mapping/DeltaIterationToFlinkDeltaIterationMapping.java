@@ -0,0 +1,44 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.DeltaIterationOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.flink.operators.FlinkDeltaIterationOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link DeltaIterationOperator} to {@link FlinkDeltaIterationOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class DeltaIterationToFlinkDeltaIterationMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "deltaIteration", new DeltaIterationOperator<>(null, null, null, 0), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<DeltaIterationOperator>(
+                (matchedOperator, epoch) -> new FlinkDeltaIterationOperator<>(
+                        matchedOperator.getSolutionSetType(),
+                        matchedOperator.getWorksetType(),
+                        matchedOperator.getKeyDescriptor(),
+                        matchedOperator.getMaxIterations()
+                ).at(epoch)
+        );
+    }
+}
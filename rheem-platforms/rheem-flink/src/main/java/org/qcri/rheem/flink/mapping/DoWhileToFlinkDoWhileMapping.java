@@ -0,0 +1,44 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.DoWhileOperator;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.flink.operators.FlinkDoWhileOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link DoWhileOperator} to {@link FlinkDoWhileOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class DoWhileToFlinkDoWhileMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "dowhile", new DoWhileOperator<>(null, null, (PredicateDescriptor) null), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<DoWhileOperator>(
+                (matchedOperator, epoch) -> new FlinkDoWhileOperator<>(
+                        matchedOperator.getInputType(),
+                        matchedOperator.getConvergenceType(),
+                        matchedOperator.getCriterionDescriptor()
+                ).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.FilterOperator;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.flink.operators.FlinkFilterOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link FilterOperator} to {@link FlinkFilterOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class FilterToFlinkFilterMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "filter", new FilterOperator<>((PredicateDescriptor) null, null), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<FilterOperator>(
+                (matchedOperator, epoch) -> new FlinkFilterOperator<>(
+                        matchedOperator.getType(),
+                        matchedOperator.getPredicateDescriptor()
+                ).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.FlatMapOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkFlatMapOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link FlatMapOperator} to {@link FlinkFlatMapOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class FlatMapToFlinkFlatMapMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "flatMap", new FlatMapOperator<>(null, DataSetType.none(), DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<FlatMapOperator>(
+                (matchedOperator, epoch) -> new FlinkFlatMapOperator<>(
+                        matchedOperator.getInputType(),
+                        matchedOperator.getOutputType(),
+                        matchedOperator.getFunctionDescriptor()
+                ).at(epoch)
+        );
+    }
+}
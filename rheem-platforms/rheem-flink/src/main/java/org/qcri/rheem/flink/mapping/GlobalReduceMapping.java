@@ -0,0 +1,42 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkGlobalReduceOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link GlobalReduceOperator} to {@link FlinkGlobalReduceOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class GlobalReduceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                FlinkPlatform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "reduce", new GlobalReduceOperator<>(null, DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<GlobalReduceOperator>(
+                (matchedOperator, epoch) -> new FlinkGlobalReduceOperator<>(
+                        matchedOperator.getType(),
+                        matchedOperator.getReduceDescriptor()
+                ).at(epoch)
+        );
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.LocalCallbackSink;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkLocalCallbackSink;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link LocalCallbackSink} to {@link FlinkLocalCallbackSink}.
+ */
+public class LocalCallbackSinkMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                FlinkPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "sink", new LocalCallbackSink<>(null, DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final LocalCallbackSink originalSink = (LocalCallbackSink) subplanMatch.getMatch("sink").getOperator();
+            return new FlinkLocalCallbackSink<>(originalSink.getCallback(), originalSink.getInput().getType()).at(epoch);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.LoopOperator;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.flink.operators.FlinkLoopOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link LoopOperator} to {@link FlinkLoopOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class LoopToFlinkLoopMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "loop", new LoopOperator<>(null, null, (PredicateDescriptor) null), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<LoopOperator>(
+                (matchedOperator, epoch) -> new FlinkLoopOperator<>(
+                        matchedOperator.getInputType(),
+                        matchedOperator.getConvergenceType(),
+                        matchedOperator.getCriterionDescriptor()
+                ).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkMapOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link MapOperator} to {@link FlinkMapOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class MapOperatorToFlinkMapOperatorMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "map", new MapOperator<>(null, DataSetType.none(), DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<MapOperator>(
+                (matchedOperator, epoch) -> new FlinkMapOperator<>(
+                        matchedOperator.getInputType(),
+                        matchedOperator.getOutputType(),
+                        matchedOperator.getFunctionDescriptor()
+                ).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.MaterializedGroupByOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.operators.FlinkMaterializedGroupByOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link MaterializedGroupByOperator} to {@link FlinkMaterializedGroupByOperator}.
+ */
+public class MtrlGroupByToFlinkMtrlGroupByMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                FlinkPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "operator", new MaterializedGroupByOperator<>(null, DataSetType.none(), DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final MaterializedGroupByOperator<?, ?> originalOperator = (MaterializedGroupByOperator<?, ?>) subplanMatch.getMatch("operator").getOperator();
+            return new FlinkMaterializedGroupByOperator<>(
+                    originalOperator.getKeyDescriptor().unchecked(),
+                    originalOperator.getInputType().unchecked(),
+                    originalOperator.getOutputType().uncheckedGroup()
+            ).at(epoch);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.flink.operators.FlinkReduceByOperator;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link ReduceByOperator} to {@link FlinkReduceByOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class ReduceByToFlinkReduceByMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        FlinkPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "reduceBy", new ReduceByOperator<>(null, null, null), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ReduceByOperator>(
+                (matchedOperator, epoch) -> new FlinkReduceByOperator<>(
+                        matchedOperator.getType(),
+                        matchedOperator.getKeyDescriptor(),
+                        matchedOperator.getReduceDescriptor()
+                ).at(epoch)
+        );
+    }
+}
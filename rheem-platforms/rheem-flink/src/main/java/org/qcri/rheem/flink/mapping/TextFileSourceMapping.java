@@ -0,0 +1,39 @@
+package org.qcri.rheem.flink.mapping;
+
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.basic.operators.TextFileSource;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.flink.operators.FlinkCollectionSource;
+import org.qcri.rheem.flink.operators.FlinkTextFileSource;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link CollectionSource} to {@link FlinkCollectionSource}.
+ */
+public class TextFileSourceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                FlinkPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "source", new TextFileSource("", null), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final TextFileSource originalSource = (TextFileSource) subplanMatch.getMatch("source").getOperator();
+            return new FlinkTextFileSource(originalSource.getInputUrl(), originalSource.getEncoding()).at(epoch);
+        }
+    }
+}
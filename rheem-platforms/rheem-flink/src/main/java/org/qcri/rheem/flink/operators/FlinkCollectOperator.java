@@ -0,0 +1,84 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.OperatorBase;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts a {@link DataSetChannel} into a {@link CollectionChannel} of the {@link JavaPlatform}.
+ */
+public class FlinkCollectOperator<Type>
+        extends OperatorBase
+        implements FlinkExecutionOperator {
+
+    public FlinkCollectOperator(DataSetType<Type> type) {
+        super(1, 1, false, null);
+        this.inputSlots[0] = new InputSlot<>("input", this, type);
+        this.outputSlots[0] = new OutputSlot<>("output", this, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final CollectionChannel.Instance output = (CollectionChannel.Instance) outputs[0];
+
+        final List<Type> collectedDataSet;
+        try {
+            collectedDataSet = input.<Type>provideDataSet().collect();
+        } catch (Exception e) {
+            throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+        }
+        output.accept(collectedDataSet);
+    }
+
+    @Override
+    public boolean isEvaluatingLazily() {
+        return false;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> getCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.collect.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+}
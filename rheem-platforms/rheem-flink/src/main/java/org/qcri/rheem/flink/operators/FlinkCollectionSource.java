@@ -0,0 +1,89 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides a {@link Collection} to a Flink job. Can also be used to convert {@link CollectionChannel}s of the
+ * {@link JavaPlatform} into {@link DataSetChannel}s.
+ */
+public class FlinkCollectionSource<Type> extends CollectionSource<Type> implements FlinkExecutionOperator {
+
+    /**
+     * Create a new instance to convert a {@link CollectionChannel} into a {@link DataSetChannel}.
+     */
+    public FlinkCollectionSource(DataSetType<Type> type) {
+        this(null, type);
+    }
+
+    /**
+     * Create a new instance to use a {@code collection} in a {@link RheemPlan}.
+     */
+    public FlinkCollectionSource(Collection<Type> collection, DataSetType<Type> type) {
+        super(collection, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length <= 1;
+        assert outputs.length == this.getNumOutputs();
+
+        final Collection<Type> collection;
+        if (this.collection != null) {
+            collection = this.collection;
+        } else {
+            final CollectionChannel.Instance input = (CollectionChannel.Instance) inputs[0];
+            collection = input.provideCollection();
+            assert collection != null : String.format("Instance of %s is not providing a collection.", input.getChannel());
+        }
+
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+        // NB: The type cannot be inferred from the collection, as it might be empty.
+        final DataSet<Type> dataSet = flinkExecutor.env.fromCollection(
+                collection, FunctionCompiler.createTypeInformation(this.getType())
+        );
+        output.accept(dataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkCollectionSource<>(this.getCollection(), this.getType());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.collectionsource.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,83 @@
+package org.qcri.rheem.flink.operators;
+
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link CountOperator}.
+ */
+public class FlinkCountOperator<Type>
+        extends CountOperator<Type>
+        implements FlinkExecutionOperator {
+
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type type of the dataset elements
+     */
+    public FlinkCountOperator(DataSetType<Type> type) {
+        super(type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final CollectionChannel.Instance output = (CollectionChannel.Instance) outputs[0];
+
+        final long count;
+        try {
+            count = input.provideDataSet().count();
+        } catch (Exception e) {
+            throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+        }
+        output.accept(Collections.singletonList(count));
+    }
+
+    @Override
+    public boolean isEvaluatingLazily() {
+        return false;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkCountOperator<>(this.getInputType());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.count.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+}
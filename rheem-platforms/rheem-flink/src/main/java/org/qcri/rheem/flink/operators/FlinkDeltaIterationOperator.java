@@ -0,0 +1,176 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.qcri.rheem.basic.operators.DeltaIterationOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Flink implementation of the {@link DeltaIterationOperator}, which runs as a native Flink delta iteration. Flink
+ * keeps the solution set partitioned and indexed on its keys, which are paired with the solution set elements for
+ * that purpose.
+ * <p>Flink allows to access the solution set only via joins on its keys. Hence, the loop body may consume the
+ * solution set only with {@link FlinkJoinOperator}s that use the very same key descriptor as this instance.</p>
+ */
+public class FlinkDeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        extends DeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        implements FlinkLoopHeadOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkDeltaIterationOperator(DataSetType<SolutionType> solutionSetType,
+                                       DataSetType<WorksetType> worksetType,
+                                       TransformationDescriptor<SolutionType, KeyType> keyDescriptor,
+                                       int maxIterations) {
+        super(solutionSetType, worksetType, keyDescriptor, maxIterations);
+    }
+
+    @Override
+    public void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, FlinkLoopBody loopBody,
+                                 FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+        assert this.getState() == State.NOT_STARTED;
+        assert inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] != null;
+        assert inputs[INITIAL_WORKSET_INPUT_INDEX] != null;
+
+        final TypeInformation<SolutionType> solutionType = FunctionCompiler.createTypeInformation(this.getSolutionSetType());
+        final TupleTypeInfo<Tuple2<KeyType, SolutionType>> keyedSolutionType = new TupleTypeInfo<>(
+                FunctionCompiler.createTypeInformation(this.keyDescriptor.getOutputType().getTypeClass()),
+                solutionType
+        );
+        final KeyPairer<SolutionType, KeyType> keyPairer =
+                new KeyPairer<>(this.keyDescriptor.getJavaImplementation(), keyedSolutionType);
+
+        // Declare the iteration.
+        final DataSet<SolutionType> initialSolutionSet =
+                ((DataSetChannel.Instance) inputs[INITIAL_SOLUTION_SET_INPUT_INDEX]).provideDataSet();
+        final DataSet<WorksetType> initialWorkset =
+                ((DataSetChannel.Instance) inputs[INITIAL_WORKSET_INPUT_INDEX]).provideDataSet();
+        final DeltaIteration<Tuple2<KeyType, SolutionType>, WorksetType> iteration =
+                initialSolutionSet.map(keyPairer).iterateDelta(initialWorkset, this.maxIterations, 0);
+
+        // Declare the step function.
+        final DataSetChannel.Instance solutionSetOutput = (DataSetChannel.Instance) outputs[SOLUTION_SET_OUTPUT_INDEX];
+        if (solutionSetOutput != null) {
+            solutionSetOutput.acceptSolutionSet(iteration.getSolutionSet(), this.keyDescriptor);
+        }
+        ((DataSetChannel.Instance) outputs[WORKSET_OUTPUT_INDEX]).accept(iteration.getWorkset());
+        final ChannelInstance[] iterationResults = loopBody.evaluate(outputs);
+        final DataSet<SolutionType> solutionSetDelta =
+                ((DataSetChannel.Instance) iterationResults[SOLUTION_SET_DELTA_INPUT_INDEX]).provideDataSet();
+        final DataSet<WorksetType> nextWorkset =
+                ((DataSetChannel.Instance) iterationResults[NEXT_WORKSET_INPUT_INDEX]).provideDataSet();
+        final DataSet<Tuple2<KeyType, SolutionType>> result =
+                iteration.closeWith(solutionSetDelta.map(keyPairer), nextWorkset);
+
+        ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(result.map(new KeyStripper<>(solutionType)));
+        outputs[SOLUTION_SET_OUTPUT_INDEX] = null;
+        outputs[WORKSET_OUTPUT_INDEX] = null;
+        this.setState(State.FINISHED);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                         FlinkExecutor flinkExecutor) {
+        throw new RheemException(String.format(
+                "%s can only run as native Flink delta iteration, but its loop body does not qualify for that.", this
+        ));
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkDeltaIterationOperator<>(this.getSolutionSetType(), this.getWorksetType(),
+                this.getKeyDescriptor(), this.getMaxIterations());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.deltaiteration.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    /**
+     * Pairs solution set elements with their keys.
+     */
+    private static class KeyPairer<T, K> implements MapFunction<T, Tuple2<K, T>>, ResultTypeQueryable<Tuple2<K, T>> {
+
+        private final Function<T, K> keyExtractor;
+
+        private final TypeInformation<Tuple2<K, T>> keyedType;
+
+        private KeyPairer(Function<T, K> keyExtractor, TypeInformation<Tuple2<K, T>> keyedType) {
+            this.keyExtractor = keyExtractor;
+            this.keyedType = keyedType;
+        }
+
+        @Override
+        public Tuple2<K, T> map(T dataQuantum) {
+            return new Tuple2<>(this.keyExtractor.apply(dataQuantum), dataQuantum);
+        }
+
+        @Override
+        public TypeInformation<Tuple2<K, T>> getProducedType() {
+            return this.keyedType;
+        }
+    }
+
+    /**
+     * Strips the keys off solution set elements.
+     */
+    private static class KeyStripper<K, T> implements MapFunction<Tuple2<K, T>, T>, ResultTypeQueryable<T> {
+
+        private final TypeInformation<T> type;
+
+        private KeyStripper(TypeInformation<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public T map(Tuple2<K, T> keyedDataQuantum) {
+            return keyedDataQuantum.f1;
+        }
+
+        @Override
+        public TypeInformation<T> getProducedType() {
+            return this.type;
+        }
+    }
+}
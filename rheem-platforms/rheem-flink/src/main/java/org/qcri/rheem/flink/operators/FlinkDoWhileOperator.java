@@ -0,0 +1,163 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.IterativeDataSet;
+import org.qcri.rheem.basic.operators.DoWhileOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Flink implementation of the {@link DoWhileOperator}.
+ * <p>Whenever possible, the loop runs as a native Flink bulk iteration, whose termination criterion is the
+ * convergence criterion evaluated within Flink. Otherwise, Rheem drives the iterations and the loop data is
+ * materialized periodically (cf. {@link FlinkExecutor#materializeLoopDataIfDue(DataSet, int)}).</p>
+ */
+public class FlinkDoWhileOperator<InputType, ConvergenceType>
+        extends DoWhileOperator<InputType, ConvergenceType>
+        implements FlinkLoopHeadOperator {
+
+    /**
+     * Name of the broadcast variable that provides the convergence data quanta to the convergence criterion.
+     */
+    private static final String CONVERGENCE_BROADCAST_NAME = "rheem-dowhile-convergence";
+
+    /**
+     * Counts the number of iterations of the current loop execution to decide on the materialization.
+     */
+    private int numIterations = 0;
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkDoWhileOperator(DataSetType<InputType> inputType, DataSetType<ConvergenceType> convergenceType,
+                                PredicateDescriptor.SerializablePredicate<Collection<ConvergenceType>> criterionPredicate) {
+        super(inputType, convergenceType, criterionPredicate);
+    }
+
+    public FlinkDoWhileOperator(DataSetType<InputType> inputType, DataSetType<ConvergenceType> convergenceType,
+                                PredicateDescriptor<Collection<ConvergenceType>> criterionDescriptor) {
+        super(inputType, convergenceType, criterionDescriptor);
+    }
+
+    @Override
+    public void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, FlinkLoopBody loopBody,
+                                 FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+        assert this.getState() == State.NOT_STARTED;
+        assert inputs[INITIAL_INPUT_INDEX] != null;
+
+        final DataSet<InputType> initialInput = ((DataSetChannel.Instance) inputs[INITIAL_INPUT_INDEX]).provideDataSet();
+        final IterativeDataSet<InputType> iteration = initialInput.iterate(Integer.MAX_VALUE);
+
+        ((DataSetChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(iteration);
+        final ChannelInstance[] iterationResults = loopBody.evaluate(outputs);
+        final DataSet<InputType> iterationInput =
+                ((DataSetChannel.Instance) iterationResults[ITERATION_INPUT_INDEX]).provideDataSet();
+        final DataSet<ConvergenceType> convergence =
+                ((DataSetChannel.Instance) iterationResults[CONVERGENCE_INPUT_INDEX]).provideDataSet();
+        final DataSet<Integer> terminationCriterion = flinkExecutor.env.fromElements(0)
+                .flatMap(compiler.compileConvergenceCriterion(this.criterionDescriptor, CONVERGENCE_BROADCAST_NAME))
+                .withBroadcastSet(convergence, CONVERGENCE_BROADCAST_NAME);
+
+        ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(
+                iteration.closeWith(iterationInput, terminationCriterion)
+        );
+        outputs[ITERATION_OUTPUT_INDEX] = null;
+        this.setState(State.FINISHED);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                         FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Predicate<Collection<ConvergenceType>> stoppingCondition = this.criterionDescriptor.getJavaImplementation();
+        boolean endloop = false;
+
+        final DataSetChannel.Instance input;
+        switch (this.getState()) {
+            case NOT_STARTED:
+                assert inputs[INITIAL_INPUT_INDEX] != null;
+
+                this.numIterations = 0;
+                input = (DataSetChannel.Instance) inputs[INITIAL_INPUT_INDEX];
+                break;
+            case RUNNING:
+                assert inputs[ITERATION_INPUT_INDEX] != null;
+                assert inputs[CONVERGENCE_INPUT_INDEX] != null;
+
+                final List<ConvergenceType> convergence;
+                try {
+                    convergence = ((DataSetChannel.Instance) inputs[CONVERGENCE_INPUT_INDEX])
+                            .<ConvergenceType>provideDataSet()
+                            .collect();
+                } catch (Exception e) {
+                    throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+                }
+                endloop = stoppingCondition.test(convergence);
+                input = (DataSetChannel.Instance) inputs[ITERATION_INPUT_INDEX];
+                break;
+            default:
+                throw new IllegalStateException(String.format("%s is finished, yet executed.", this));
+        }
+
+        if (endloop) {
+            // final loop output
+            ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(input.provideDataSet());
+            outputs[ITERATION_OUTPUT_INDEX] = null;
+            this.setState(State.FINISHED);
+        } else {
+            outputs[FINAL_OUTPUT_INDEX] = null;
+            this.numIterations++;
+            ((DataSetChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(
+                    flinkExecutor.materializeLoopDataIfDue(input.provideDataSet(), this.numIterations)
+            );
+            this.setState(State.RUNNING);
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkDoWhileOperator<>(this.getInputType(), this.getConvergenceType(),
+                this.getCriterionDescriptor().getJavaImplementation());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.while.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
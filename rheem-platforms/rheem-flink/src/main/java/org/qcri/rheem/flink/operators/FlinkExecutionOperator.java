@@ -0,0 +1,42 @@
+package org.qcri.rheem.flink.operators;
+
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+/**
+ * Execution operator for the {@link FlinkPlatform}.
+ */
+public interface FlinkExecutionOperator extends ExecutionOperator {
+
+    @Override
+    default FlinkPlatform getPlatform() {
+        return FlinkPlatform.getInstance();
+    }
+
+    /**
+     * Evaluates this operator. Takes a set of {@link ChannelInstance}s according to the operator inputs and manipulates
+     * a set of {@link ChannelInstance}s according to the operator outputs -- unless the operator is a sink, then it triggers
+     * execution.
+     *
+     * @param inputs        {@link ChannelInstance}s that satisfy the inputs of this operator
+     * @param outputs       {@link ChannelInstance}s that accept the outputs of this operator
+     * @param compiler      compiles functions used by the operator
+     * @param flinkExecutor {@link FlinkExecutor} that executes this instance
+     */
+    void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor);
+
+    /**
+     * Tells whether {@link #evaluate(ChannelInstance[], ChannelInstance[], FunctionCompiler, FlinkExecutor)} merely
+     * extends the Flink plan rather than executing it, e.g., to collect results. Only such instances can be part of
+     * native Flink iterations.
+     *
+     * @return whether this instance is evaluated lazily
+     */
+    default boolean isEvaluatingLazily() {
+        return true;
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnarySink;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link Operator} for the {@link FlinkPlatform} that writes a {@link FileChannel}, i.e., an object file or a TSV
+ * file, depending on the {@link FileChannel.Descriptor}. Each Flink task writes its own part file, and the files are
+ * laid out like Spark output files, so that they can be consumed as a single {@link FileChannel}.
+ *
+ * @see FlinkObjectFileSource
+ * @see FileSystems#findActualInputPaths(String)
+ */
+public class FlinkFileSink<T> extends UnarySink<T> implements FlinkExecutionOperator {
+
+    private final String targetPath;
+
+    public FlinkFileSink(DataSetType<T> type) {
+        this(null, type);
+    }
+
+    public FlinkFileSink(String targetPath, DataSetType<T> type) {
+        super(type, null);
+        this.targetPath = targetPath;
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length <= 1;
+
+        final FileChannel.Instance output = (FileChannel.Instance) outputs[0];
+        final String targetPath = output.addGivenOrTempPath(this.targetPath, flinkExecutor.getConfiguration());
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+
+        LoggerFactory.getLogger(this.getClass()).info("Writing dataset to {}.", targetPath);
+        input.<T>provideDataSet().output(new FileChannelOutputFormat<>(output.getChannel().getDescriptor(), targetPath));
+        flinkExecutor.executePlan(this);
+        this.markSuccess(targetPath);
+    }
+
+    /**
+     * Marks the given directory as complete, as Spark does, so that its part files are recognized.
+     */
+    private void markSuccess(String directory) {
+        final String successMarker = directory + "/_SUCCESS";
+        final FileSystem fileSystem = FileSystems.getFileSystem(successMarker).orElseThrow(
+                () -> new RheemException(String.format("Cannot access %s.", successMarker))
+        );
+        try {
+            fileSystem.create(successMarker).close();
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not create %s.", successMarker), e);
+        }
+    }
+
+    @Override
+    public boolean isEvaluatingLazily() {
+        return false;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkFileSink<>(this.targetPath, this.getType());
+    }
+
+    /**
+     * Writes the data quanta of each Flink task into a part file via a {@link FileChannelWriter}.
+     */
+    private static class FileChannelOutputFormat<T> implements OutputFormat<T> {
+
+        // NB: FileChannel.Descriptor is not serializable, so we keep its defining properties.
+        private final String location, serialization;
+
+        private final String directory;
+
+        private transient FileChannelWriter writer;
+
+        private FileChannelOutputFormat(FileChannel.Descriptor descriptor, String directory) {
+            this.location = descriptor.getLocation();
+            this.serialization = descriptor.getSerialization();
+            this.directory = directory;
+        }
+
+        @Override
+        public void configure(Configuration parameters) {
+        }
+
+        @Override
+        public void open(int taskNumber, int numTasks) throws IOException {
+            final String path = String.format("%s/part-%05d", this.directory, taskNumber);
+            this.writer = FileChannelWriter.create(new FileChannel.Descriptor(this.location, this.serialization), path);
+        }
+
+        @Override
+        public void writeRecord(T dataQuantum) {
+            this.writer.write(dataQuantum);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.writer != null) {
+                this.writer.close();
+                this.writer = null;
+            }
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.filesink.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Arrays.asList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+}
@@ -0,0 +1,71 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.FilterOperator;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Flink implementation of the {@link org.qcri.rheem.basic.operators.FilterOperator}.
+ */
+public class FlinkFilterOperator<Type>
+        extends org.qcri.rheem.basic.operators.FilterOperator<Type>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type type of the dataset elements
+     */
+    public FlinkFilterOperator(DataSetType<Type> type, PredicateDescriptor<Type> predicate) {
+        super(predicate, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSet<Type> inputDataSet = ((DataSetChannel.Instance) inputs[0]).provideDataSet();
+        final FilterOperator<Type> outputDataSet = inputDataSet.filter(compiler.compile(this.predicateDescriptor));
+        FlinkExecutor.registerBroadcasts(this, inputs, outputDataSet);
+
+        ((DataSetChannel.Instance) outputs[0]).accept(outputDataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkFilterOperator<>(this.getInputType(), this.getPredicateDescriptor());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.filter.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
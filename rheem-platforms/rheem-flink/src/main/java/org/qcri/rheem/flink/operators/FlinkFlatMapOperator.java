@@ -0,0 +1,74 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.FlatMapOperator;
+import org.qcri.rheem.core.function.FlatMapDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Flink implementation of the {@link org.qcri.rheem.basic.operators.FlatMapOperator}.
+ */
+public class FlinkFlatMapOperator<InputType, OutputType>
+        extends org.qcri.rheem.basic.operators.FlatMapOperator<InputType, OutputType>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkFlatMapOperator(DataSetType inputType, DataSetType outputType,
+                                FlatMapDescriptor<InputType, OutputType> functionDescriptor) {
+        super(functionDescriptor, inputType, outputType);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final DataSet<InputType> inputDataSet = input.provideDataSet();
+        final FlatMapOperator<InputType, OutputType> outputDataSet =
+                inputDataSet.flatMap(compiler.compile(this.functionDescriptor));
+        FlinkExecutor.registerBroadcasts(this, inputs, outputDataSet);
+
+        output.accept(outputDataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkFlatMapOperator<>(this.getInputType(), this.getOutputType(), this.getFunctionDescriptor());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.flatmap.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,88 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link GlobalReduceOperator}.
+ */
+public class FlinkGlobalReduceOperator<Type>
+        extends GlobalReduceOperator<Type>
+        implements FlinkExecutionOperator {
+
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type             type of the reduce elements (i.e., type of {@link #getInput()} and {@link #getOutput()})
+     * @param reduceDescriptor describes the reduction to be performed on the elements
+     */
+    public FlinkGlobalReduceOperator(DataSetType<Type> type,
+                                     ReduceDescriptor<Type> reduceDescriptor) {
+        super(reduceDescriptor, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final CollectionChannel.Instance output = (CollectionChannel.Instance) outputs[0];
+
+        final DataSet<Type> inputDataSet = input.provideDataSet();
+        final List<Type> outputList;
+        try {
+            outputList = inputDataSet.reduce(compiler.compile(this.reduceDescriptor)).collect();
+        } catch (Exception e) {
+            throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+        }
+        output.accept(outputList);
+    }
+
+    @Override
+    public boolean isEvaluatingLazily() {
+        return false;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkGlobalReduceOperator<>(this.getInputType(), this.getReduceDescriptor());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.globalreduce.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,169 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link JoinOperator}.
+ * <p>It can join the solution set of a native Flink delta iteration if it uses the very same key descriptor as the
+ * {@link FlinkDeltaIterationOperator} for it.</p>
+ */
+public class FlinkJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkJoinOperator(DataSetType<InputType0> inputType0, DataSetType<InputType1> inputType1,
+                             TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                             TransformationDescriptor<InputType1, KeyType> keyDescriptor1) {
+
+        super(inputType0, inputType1, keyDescriptor0, keyDescriptor1);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input0 = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance input1 = (DataSetChannel.Instance) inputs[1];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        // Flink chooses the join strategy (broadcast or repartition, hash or sort-merge) by itself.
+        final DataSet<Tuple2<InputType0, InputType1>> outputDataSet;
+        if (isSolutionSetKeyedBy(input0, this.keyDescriptor0)) {
+            // Flink allows to access solution sets only via joins on their keys, i.e., the first Tuple2 field.
+            outputDataSet = input0.<KeyType, InputType0>provideSolutionSet().join(input1.<InputType1>provideDataSet())
+                    .where(0)
+                    .equalTo(compiler.compileToKeySelector(this.keyDescriptor1))
+                    .with(new SolutionSetTupleCreator0<>());
+        } else if (isSolutionSetKeyedBy(input1, this.keyDescriptor1)) {
+            outputDataSet = input0.<InputType0>provideDataSet().join(input1.<KeyType, InputType1>provideSolutionSet())
+                    .where(compiler.compileToKeySelector(this.keyDescriptor0))
+                    .equalTo(0)
+                    .with(new SolutionSetTupleCreator1<>());
+        } else {
+            final DataSet<InputType0> inputDataSet0 = input0.provideDataSet();
+            final DataSet<InputType1> inputDataSet1 = input1.provideDataSet();
+            outputDataSet = inputDataSet0.join(inputDataSet1)
+                    .where(compiler.compileToKeySelector(this.keyDescriptor0))
+                    .equalTo(compiler.compileToKeySelector(this.keyDescriptor1))
+                    .with(new TupleCreator<>());
+        }
+
+        output.accept(outputDataSet);
+    }
+
+    /**
+     * Tells whether the given {@link DataSetChannel.Instance} provides the solution set of a native Flink delta
+     * iteration with the given key descriptor.
+     */
+    private static boolean isSolutionSetKeyedBy(DataSetChannel.Instance input, TransformationDescriptor<?, ?> keyDescriptor) {
+        return input.isSolutionSet() && input.getSolutionSetKeyDescriptor().equals(keyDescriptor);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1());
+    }
+
+    /**
+     * Combines two joined data quanta into a {@link Tuple2}.
+     */
+    private static class TupleCreator<InputType0, InputType1>
+            implements JoinFunction<InputType0, InputType1, Tuple2<InputType0, InputType1>>,
+            ResultTypeQueryable<Tuple2<InputType0, InputType1>> {
+
+        @Override
+        public Tuple2<InputType0, InputType1> join(InputType0 dataQuantum0, InputType1 dataQuantum1) {
+            return new Tuple2<>(dataQuantum0, dataQuantum1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TypeInformation<Tuple2<InputType0, InputType1>> getProducedType() {
+            return FunctionCompiler.createTypeInformation((Class<Tuple2<InputType0, InputType1>>) (Class) Tuple2.class);
+        }
+    }
+
+    /**
+     * Combines a data quantum of a keyed solution set with a joined data quantum into a {@link Tuple2}.
+     */
+    private static class SolutionSetTupleCreator0<KeyType, InputType0, InputType1>
+            implements JoinFunction<org.apache.flink.api.java.tuple.Tuple2<KeyType, InputType0>, InputType1, Tuple2<InputType0, InputType1>>,
+            ResultTypeQueryable<Tuple2<InputType0, InputType1>> {
+
+        @Override
+        public Tuple2<InputType0, InputType1> join(org.apache.flink.api.java.tuple.Tuple2<KeyType, InputType0> keyedDataQuantum0,
+                                                   InputType1 dataQuantum1) {
+            return new Tuple2<>(keyedDataQuantum0.f1, dataQuantum1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TypeInformation<Tuple2<InputType0, InputType1>> getProducedType() {
+            return FunctionCompiler.createTypeInformation((Class<Tuple2<InputType0, InputType1>>) (Class) Tuple2.class);
+        }
+    }
+
+    /**
+     * Combines a data quantum with a joined data quantum of a keyed solution set into a {@link Tuple2}.
+     */
+    private static class SolutionSetTupleCreator1<KeyType, InputType0, InputType1>
+            implements JoinFunction<InputType0, org.apache.flink.api.java.tuple.Tuple2<KeyType, InputType1>, Tuple2<InputType0, InputType1>>,
+            ResultTypeQueryable<Tuple2<InputType0, InputType1>> {
+
+        @Override
+        public Tuple2<InputType0, InputType1> join(InputType0 dataQuantum0,
+                                                   org.apache.flink.api.java.tuple.Tuple2<KeyType, InputType1> keyedDataQuantum1) {
+            return new Tuple2<>(dataQuantum0, keyedDataQuantum1.f1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public TypeInformation<Tuple2<InputType0, InputType1>> getProducedType() {
+            return FunctionCompiler.createTypeInformation((Class<Tuple2<InputType0, InputType1>>) (Class) Tuple2.class);
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.join.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
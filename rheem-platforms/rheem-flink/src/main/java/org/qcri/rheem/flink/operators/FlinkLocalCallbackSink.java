@@ -0,0 +1,77 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.qcri.rheem.basic.operators.LocalCallbackSink;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the {@link LocalCallbackSink} operator for the Flink platform.
+ */
+public class FlinkLocalCallbackSink<T> extends LocalCallbackSink<T> implements FlinkExecutionOperator {
+    /**
+     * Creates a new instance.
+     *
+     * @param callback callback that is executed locally for each incoming data unit
+     * @param type     type of the incoming elements
+     */
+    public FlinkLocalCallbackSink(Consumer<T> callback, DataSetType type) {
+        super(callback, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final DataSet<T> inputDataSet = input.provideDataSet();
+        try {
+            inputDataSet.collect().forEach(this.callback);
+        } catch (Exception e) {
+            throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+        }
+    }
+
+    @Override
+    public boolean isEvaluatingLazily() {
+        return false;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkLocalCallbackSink<>(this.callback, this.getType());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.localcallbacksink.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have output channels.", this));
+    }
+}
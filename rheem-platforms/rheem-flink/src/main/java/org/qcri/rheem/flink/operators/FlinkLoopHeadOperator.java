@@ -0,0 +1,29 @@
+package org.qcri.rheem.flink.operators;
+
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+/**
+ * {@link FlinkExecutionOperator} that heads a loop and can run the whole loop as a native Flink iteration. Then,
+ * Flink executes the loop in a single job rather than having Rheem drive it iteration by iteration.
+ */
+public interface FlinkLoopHeadOperator extends FlinkExecutionOperator, LoopHeadOperator {
+
+    /**
+     * Evaluates the loop as a native Flink iteration. Hence, this method is invoked only once, namely in the
+     * {@link State#NOT_STARTED} state, and it must provide the final loop outputs and leave this instance in the
+     * {@link State#FINISHED} state.
+     *
+     * @param inputs        {@link ChannelInstance}s that satisfy the loop initialization inputs of this operator
+     * @param outputs       {@link ChannelInstance}s that accept the outputs of this operator
+     * @param loopBody      evaluates the loop body within the Flink iteration
+     * @param compiler      compiles functions used by the operator
+     * @param flinkExecutor {@link FlinkExecutor} that executes this instance
+     */
+    void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, FlinkLoopBody loopBody,
+                          FunctionCompiler compiler, FlinkExecutor flinkExecutor);
+
+}
@@ -0,0 +1,279 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.IterativeDataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.qcri.rheem.basic.operators.LoopOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Flink implementation of the {@link LoopOperator}.
+ * <p>Whenever possible, the loop runs as a native Flink bulk iteration. As such an iteration evolves only a single
+ * {@link DataSet}, the loop data and the convergence data are tagged and united therein. The convergence criterion
+ * is evaluated within Flink and yields the termination criterion of the iteration.</p>
+ * <p>Otherwise, Rheem drives the iterations and the loop data is materialized periodically
+ * (cf. {@link FlinkExecutor#materializeLoopDataIfDue(DataSet, int)}).</p>
+ */
+public class FlinkLoopOperator<InputType, ConvergenceType>
+        extends LoopOperator<InputType, ConvergenceType>
+        implements FlinkLoopHeadOperator {
+
+    /**
+     * Name of the broadcast variable that provides the convergence data quanta to the convergence criterion.
+     */
+    private static final String CONVERGENCE_BROADCAST_NAME = "rheem-loop-convergence";
+
+    /**
+     * Type of the tagged data quanta in native Flink iterations.
+     */
+    private static final TupleTypeInfo<Tuple2<Boolean, Object>> TAGGED_TYPE =
+            new TupleTypeInfo<>(BasicTypeInfo.BOOLEAN_TYPE_INFO, new GenericTypeInfo<>(Object.class));
+
+    /**
+     * Counts the number of iterations of the current loop execution to decide on the materialization.
+     */
+    private int numIterations = 0;
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkLoopOperator(DataSetType<InputType> inputType, DataSetType<ConvergenceType> convergenceType,
+                             PredicateDescriptor.SerializablePredicate<Collection<ConvergenceType>> criterionPredicate) {
+        super(inputType, convergenceType, criterionPredicate);
+    }
+
+    public FlinkLoopOperator(DataSetType<InputType> inputType, DataSetType<ConvergenceType> convergenceType,
+                             PredicateDescriptor<Collection<ConvergenceType>> criterionDescriptor) {
+        super(inputType, convergenceType, criterionDescriptor);
+    }
+
+    @Override
+    public void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, FlinkLoopBody loopBody,
+                                 FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+        assert this.getState() == State.NOT_STARTED;
+        assert inputs[INITIAL_INPUT_INDEX] != null;
+        assert inputs[INITIAL_CONVERGENCE_INPUT_INDEX] != null;
+
+        final TypeInformation<InputType> inputType = FunctionCompiler.createTypeInformation(this.getInputType());
+        final TypeInformation<ConvergenceType> convergenceType =
+                FunctionCompiler.createTypeInformation(this.getConvergenceType());
+
+        // Declare the iteration over the tagged loop and convergence data.
+        final DataSet<InputType> initialInput = ((DataSetChannel.Instance) inputs[INITIAL_INPUT_INDEX]).provideDataSet();
+        final DataSet<ConvergenceType> initialConvergence =
+                ((DataSetChannel.Instance) inputs[INITIAL_CONVERGENCE_INPUT_INDEX]).provideDataSet();
+        final IterativeDataSet<Tuple2<Boolean, Object>> iteration =
+                tag(initialInput, true).union(tag(initialConvergence, false)).iterate(Integer.MAX_VALUE);
+
+        // Declare the step function.
+        ((DataSetChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(untag(iteration, true, inputType));
+        ((DataSetChannel.Instance) outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]).accept(
+                untag(iteration, false, convergenceType)
+        );
+        final ChannelInstance[] iterationResults = loopBody.evaluate(outputs);
+        final DataSet<InputType> iterationInput =
+                ((DataSetChannel.Instance) iterationResults[ITERATION_INPUT_INDEX]).provideDataSet();
+        final DataSet<ConvergenceType> iterationConvergence =
+                ((DataSetChannel.Instance) iterationResults[ITERATION_CONVERGENCE_INPUT_INDEX]).provideDataSet();
+        final DataSet<Integer> terminationCriterion = flinkExecutor.env.fromElements(0)
+                .flatMap(compiler.compileConvergenceCriterion(this.criterionDescriptor, CONVERGENCE_BROADCAST_NAME))
+                .withBroadcastSet(iterationConvergence, CONVERGENCE_BROADCAST_NAME);
+        final DataSet<Tuple2<Boolean, Object>> result = iteration.closeWith(
+                tag(iterationInput, true).union(tag(iterationConvergence, false)),
+                terminationCriterion
+        );
+
+        ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(untag(result, true, inputType));
+        outputs[ITERATION_OUTPUT_INDEX] = null;
+        outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX] = null;
+        this.setState(State.FINISHED);
+    }
+
+    private static <T> DataSet<Tuple2<Boolean, Object>> tag(DataSet<T> dataSet, boolean isLoopData) {
+        return dataSet.map(new Tagger<>(isLoopData));
+    }
+
+    private static <T> DataSet<T> untag(DataSet<Tuple2<Boolean, Object>> dataSet, boolean isLoopData,
+                                        TypeInformation<T> type) {
+        return dataSet.filter(new TagFilter(isLoopData)).map(new Untagger<>(type));
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                         FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance iterationInput;
+        final DataSet<ConvergenceType> convergenceDataSet;
+
+        final Predicate<Collection<ConvergenceType>> stoppingCondition = this.criterionDescriptor.getJavaImplementation();
+        boolean endloop = false;
+
+        switch (this.getState()) {
+            case NOT_STARTED:
+                this.numIterations = 0;
+                assert inputs[INITIAL_INPUT_INDEX] != null;
+                assert inputs[INITIAL_CONVERGENCE_INPUT_INDEX] != null;
+
+                iterationInput = (DataSetChannel.Instance) inputs[INITIAL_INPUT_INDEX];
+                convergenceDataSet = ((DataSetChannel.Instance) inputs[INITIAL_CONVERGENCE_INPUT_INDEX]).provideDataSet();
+                break;
+            case RUNNING:
+                assert inputs[ITERATION_INPUT_INDEX] != null;
+                assert inputs[ITERATION_CONVERGENCE_INPUT_INDEX] != null;
+
+                iterationInput = (DataSetChannel.Instance) inputs[ITERATION_INPUT_INDEX];
+                // Collect the convergence data quanta and re-distribute them, so as to cut their lineage.
+                final List<ConvergenceType> convergence;
+                try {
+                    convergence = ((DataSetChannel.Instance) inputs[ITERATION_CONVERGENCE_INPUT_INDEX])
+                            .<ConvergenceType>provideDataSet()
+                            .collect();
+                } catch (Exception e) {
+                    throw new RheemException(String.format("Flink execution of %s failed.", this), e);
+                }
+                endloop = stoppingCondition.test(convergence);
+                convergenceDataSet = flinkExecutor.env.fromCollection(
+                        convergence, FunctionCompiler.createTypeInformation(this.getConvergenceType())
+                );
+                break;
+            default:
+                throw new IllegalStateException(String.format("%s is finished, yet executed.", this));
+
+        }
+
+        if (endloop) {
+            // final loop output
+            ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(iterationInput.provideDataSet());
+            outputs[ITERATION_OUTPUT_INDEX] = null;
+            outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX] = null;
+            this.setState(State.FINISHED);
+        } else {
+            outputs[FINAL_OUTPUT_INDEX] = null;
+            this.numIterations++;
+            ((DataSetChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(
+                    flinkExecutor.materializeLoopDataIfDue(iterationInput.provideDataSet(), this.numIterations)
+            );
+            ((DataSetChannel.Instance) outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]).accept(convergenceDataSet);
+            this.setState(State.RUNNING);
+        }
+
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkLoopOperator<>(this.getInputType(), this.getConvergenceType(),
+                this.getCriterionDescriptor().getJavaImplementation());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.loop.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    /**
+     * Tags data quanta as either loop data or convergence data.
+     */
+    private static class Tagger<T> implements MapFunction<T, Tuple2<Boolean, Object>>,
+            ResultTypeQueryable<Tuple2<Boolean, Object>> {
+
+        private final boolean isLoopData;
+
+        private Tagger(boolean isLoopData) {
+            this.isLoopData = isLoopData;
+        }
+
+        @Override
+        public Tuple2<Boolean, Object> map(T dataQuantum) {
+            return new Tuple2<>(this.isLoopData, dataQuantum);
+        }
+
+        @Override
+        public TypeInformation<Tuple2<Boolean, Object>> getProducedType() {
+            return TAGGED_TYPE;
+        }
+    }
+
+    /**
+     * Retains either the loop data or the convergence data among tagged data quanta.
+     */
+    private static class TagFilter implements FilterFunction<Tuple2<Boolean, Object>> {
+
+        private final boolean isLoopData;
+
+        private TagFilter(boolean isLoopData) {
+            this.isLoopData = isLoopData;
+        }
+
+        @Override
+        public boolean filter(Tuple2<Boolean, Object> taggedDataQuantum) {
+            return taggedDataQuantum.f0 == this.isLoopData;
+        }
+    }
+
+    /**
+     * Strips the tags off tagged data quanta.
+     */
+    private static class Untagger<T> implements MapFunction<Tuple2<Boolean, Object>, T>, ResultTypeQueryable<T> {
+
+        private final TypeInformation<T> type;
+
+        private Untagger(TypeInformation<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T map(Tuple2<Boolean, Object> taggedDataQuantum) {
+            return (T) taggedDataQuantum.f1;
+        }
+
+        @Override
+        public TypeInformation<T> getProducedType() {
+            return this.type;
+        }
+    }
+}
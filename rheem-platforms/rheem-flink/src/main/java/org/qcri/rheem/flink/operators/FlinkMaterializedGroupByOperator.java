@@ -0,0 +1,104 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.util.Collector;
+import org.qcri.rheem.basic.operators.MaterializedGroupByOperator;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link MaterializedGroupByOperator}.
+ */
+public class FlinkMaterializedGroupByOperator<Type, KeyType>
+        extends MaterializedGroupByOperator<Type, KeyType>
+        implements FlinkExecutionOperator {
+
+
+    public FlinkMaterializedGroupByOperator(TransformationDescriptor<Type, KeyType> keyDescriptor,
+                                            DataSetType<Type> inputType,
+                                            DataSetType<Iterable<Type>> outputType) {
+        super(keyDescriptor, inputType, outputType);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final DataSet<Type> inputDataSet = input.provideDataSet();
+        final DataSet<Iterable<Type>> outputDataSet = inputDataSet
+                .groupBy(compiler.compileToKeySelector(this.keyDescriptor))
+                .reduceGroup(new GroupMaterializer<>(FunctionCompiler.createTypeInformation(this.getOutputType())));
+
+        output.accept(outputDataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkMaterializedGroupByOperator<>(this.getKeyDescriptor(), this.getInputType(), this.getOutputType());
+    }
+
+    /**
+     * Copies the data quanta of a group into a {@link List}, because Flink allows to iterate them only once.
+     */
+    private static class GroupMaterializer<Type>
+            implements GroupReduceFunction<Type, Iterable<Type>>, ResultTypeQueryable<Iterable<Type>> {
+
+        private final TypeInformation<Iterable<Type>> outputType;
+
+        private GroupMaterializer(TypeInformation<Iterable<Type>> outputType) {
+            this.outputType = outputType;
+        }
+
+        @Override
+        public void reduce(Iterable<Type> group, Collector<Iterable<Type>> collector) {
+            final List<Type> materializedGroup = new ArrayList<>();
+            group.forEach(materializedGroup::add);
+            collector.collect(materializedGroup);
+        }
+
+        @Override
+        public TypeInformation<Iterable<Type>> getProducedType() {
+            return this.outputType;
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.groupby.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,131 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnarySource;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link Operator} for the {@link FlinkPlatform} that reads a sequence file as written by the
+ * {@link FlinkObjectFileSink} or the object file sinks of the other platforms. If the input is split into several
+ * files, they are read in parallel.
+ *
+ * @see FlinkObjectFileSink
+ */
+public class FlinkObjectFileSource<T> extends UnarySource<T> implements FlinkExecutionOperator {
+
+    private final String sourcePath;
+
+    public FlinkObjectFileSource(DataSetType<T> type) {
+        this(null, type);
+    }
+
+    public FlinkObjectFileSource(String sourcePath, DataSetType<T> type) {
+        super(type, null);
+        this.sourcePath = sourcePath;
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        final String sourcePath;
+        if (this.sourcePath != null) {
+            assert inputs.length == 0;
+            sourcePath = this.sourcePath;
+        } else {
+            FileChannel.Instance input = (FileChannel.Instance) inputs[0];
+            sourcePath = input.getSinglePath();
+        }
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        // The input might be split into several files, which we then distribute among the Flink tasks.
+        final List<String> actualInputPaths = new ArrayList<>(FileSystems.findActualInputPaths(sourcePath));
+        final DataSet<T> dataSet = flinkExecutor.env.fromCollection(actualInputPaths)
+                .rebalance()
+                .flatMap(new SequenceFileReader<>(FunctionCompiler.createTypeInformation(this.getType())));
+        output.accept(dataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkObjectFileSource<>(this.sourcePath, this.getType());
+    }
+
+    /**
+     * Reads all data quanta from the sequence files with the incoming paths.
+     */
+    private static class SequenceFileReader<T> implements FlatMapFunction<String, T>, ResultTypeQueryable<T> {
+
+        private final TypeInformation<T> outputType;
+
+        private SequenceFileReader(TypeInformation<T> outputType) {
+            this.outputType = outputType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void flatMap(String path, Collector<T> collector) throws Exception {
+            final NullWritable nullWritable = NullWritable.get();
+            final BytesWritable bytesWritable = new BytesWritable();
+            final SequenceFile.Reader.Option fileOption = SequenceFile.Reader.file(new Path(path));
+            try (SequenceFile.Reader reader = new SequenceFile.Reader(new org.apache.hadoop.conf.Configuration(true), fileOption)) {
+                while (reader.next(nullWritable, bytesWritable)) {
+                    final Object[] chunk = (Object[]) new ObjectInputStream(
+                            new ByteArrayInputStream(bytesWritable.getBytes())
+                    ).readObject();
+                    for (Object dataQuantum : chunk) {
+                        collector.collect((T) dataQuantum);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public TypeInformation<T> getProducedType() {
+            return this.outputType;
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.objectfilesource.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,83 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.ReduceOperator;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link ReduceByOperator}.
+ */
+public class FlinkReduceByOperator<Type, KeyType>
+        extends ReduceByOperator<Type, KeyType>
+        implements FlinkExecutionOperator {
+
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type             type of the reduce elements (i.e., type of {@link #getInput()} and {@link #getOutput()})
+     * @param keyDescriptor    describes how to extract the key from data units
+     * @param reduceDescriptor describes the reduction to be performed on the elements
+     */
+    public FlinkReduceByOperator(DataSetType<Type> type, TransformationDescriptor<Type, KeyType> keyDescriptor,
+                                 ReduceDescriptor<Type> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final DataSet<Type> inputDataSet = input.provideDataSet();
+        // NB: Flink pre-aggregates the data quanta with a combiner before the shuffle.
+        final ReduceOperator<Type> outputDataSet = inputDataSet
+                .groupBy(compiler.compileToKeySelector(this.keyDescriptor))
+                .reduce(compiler.compile(this.reduceDescriptor));
+        FlinkExecutor.registerBroadcasts(this, inputs, outputDataSet);
+
+        output.accept(outputDataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkReduceByOperator<>(this.getType(), this.getKeyDescriptor(), this.getReduceDescriptor());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.reduceby.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,208 @@
+package org.qcri.rheem.flink.operators;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+import org.qcri.rheem.java.execution.Sampling;
+
+import java.util.*;
+
+/**
+ * Flink implementation of the {@link SortOperator}.
+ * <p>Flink sorts only within partitions. Hence, the data quanta are range-partitioned first, whereby the range
+ * boundaries are quantiles of a sample of the data quanta. The sorted partitions then form a total order.</p>
+ */
+public class FlinkSortOperator<Type>
+        extends SortOperator<Type>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Number of data quanta to sample from each input partition to determine the range boundaries.
+     */
+    private static final int SAMPLE_SIZE_PER_PARTITION = 1000;
+
+    /**
+     * Name of the broadcast variable that provides the sample to determine the range boundaries.
+     */
+    private static final String SAMPLE_BROADCAST_NAME = "rheem-sort-sample";
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type type of the dataset elements
+     */
+    public FlinkSortOperator(DataSetType<Type> type) {
+        super(type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final DataSet<Type> inputDataSet = input.provideDataSet();
+        final TypeInformation<Type> type = FunctionCompiler.createTypeInformation(this.getInputType());
+        final int numPartitions = (int) flinkExecutor.getConfiguration().getLongProperty(FlinkPlatform.PARALLELISM_PROPERTY);
+
+        final DataSet<Type> sample = inputDataSet.mapPartition(new PartitionSampler<>(SAMPLE_SIZE_PER_PARTITION, type));
+        final DataSet<Type> outputDataSet = inputDataSet
+                .map(new RangeAssigner<>(numPartitions, type))
+                .withBroadcastSet(sample, SAMPLE_BROADCAST_NAME)
+                .partitionCustom(new RangePartitioner(), 0)
+                .sortPartition(1, Order.ASCENDING)
+                .map(new RangeStripper<>(type));
+
+        output.accept(outputDataSet);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkSortOperator<>(this.getInputType());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.sort.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    /**
+     * Draws a reservoir sample from each partition.
+     */
+    private static class PartitionSampler<T> implements MapPartitionFunction<T, T>, ResultTypeQueryable<T> {
+
+        private final int sampleSize;
+
+        private final TypeInformation<T> type;
+
+        private PartitionSampler(int sampleSize, TypeInformation<T> type) {
+            this.sampleSize = sampleSize;
+            this.type = type;
+        }
+
+        @Override
+        public void mapPartition(Iterable<T> dataQuanta, Collector<T> collector) {
+            final Sampling.Reservoir<T> reservoir = new Sampling.Reservoir<>(this.sampleSize, new Random());
+            dataQuanta.forEach(reservoir);
+            reservoir.getSample().forEach(collector::collect);
+        }
+
+        @Override
+        public TypeInformation<T> getProducedType() {
+            return this.type;
+        }
+    }
+
+    /**
+     * Pairs data quanta with the index of the range that they fall into. The range boundaries are quantiles of the
+     * sample provided as broadcast variable.
+     */
+    private static class RangeAssigner<T> extends RichMapFunction<T, Tuple2<Integer, T>>
+            implements ResultTypeQueryable<Tuple2<Integer, T>> {
+
+        private final int numRanges;
+
+        private final TypeInformation<T> type;
+
+        private transient List<T> boundaries;
+
+        private RangeAssigner(int numRanges, TypeInformation<T> type) {
+            this.numRanges = numRanges;
+            this.type = type;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void open(Configuration parameters) {
+            final List<T> sample = new ArrayList<>(this.getRuntimeContext().<T>getBroadcastVariable(SAMPLE_BROADCAST_NAME));
+            sample.sort((Comparator<T>) Comparator.naturalOrder());
+            this.boundaries = new ArrayList<>(this.numRanges - 1);
+            for (int range = 1; range < this.numRanges && !sample.isEmpty(); range++) {
+                this.boundaries.add(sample.get(range * sample.size() / this.numRanges));
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Tuple2<Integer, T> map(T dataQuantum) {
+            final int pos = Collections.binarySearch(this.boundaries, dataQuantum, (Comparator<T>) Comparator.naturalOrder());
+            return new Tuple2<>(pos >= 0 ? pos : -pos - 1, dataQuantum);
+        }
+
+        @Override
+        public TypeInformation<Tuple2<Integer, T>> getProducedType() {
+            return new TupleTypeInfo<>(BasicTypeInfo.INT_TYPE_INFO, this.type);
+        }
+    }
+
+    /**
+     * Sends each range to its own partition.
+     */
+    private static class RangePartitioner implements Partitioner<Integer> {
+
+        @Override
+        public int partition(Integer range, int numPartitions) {
+            return range % numPartitions;
+        }
+    }
+
+    /**
+     * Strips the range indices off data quanta.
+     */
+    private static class RangeStripper<T> implements MapFunction<Tuple2<Integer, T>, T>, ResultTypeQueryable<T> {
+
+        private final TypeInformation<T> type;
+
+        private RangeStripper(TypeInformation<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public T map(Tuple2<Integer, T> rangedDataQuantum) {
+            return rangedDataQuantum.f1;
+        }
+
+        @Override
+        public TypeInformation<T> getProducedType() {
+            return this.type;
+        }
+    }
+}
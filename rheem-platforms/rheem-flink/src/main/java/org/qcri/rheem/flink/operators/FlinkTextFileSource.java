@@ -0,0 +1,61 @@
+package org.qcri.rheem.flink.operators;
+
+import org.qcri.rheem.basic.operators.TextFileSource;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides the lines of a text file to a Flink job.
+ */
+public class FlinkTextFileSource extends TextFileSource implements FlinkExecutionOperator {
+
+    public FlinkTextFileSource(String inputUrl, String encoding) {
+        super(inputUrl, encoding);
+    }
+
+    public FlinkTextFileSource(String inputUrl) {
+        super(inputUrl);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler, FlinkExecutor flinkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+        output.accept(flinkExecutor.env.readTextFile(this.getInputUrl(), this.getEncoding()));
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkTextFileSource(this.getInputUrl(), this.getEncoding());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.flink.textfilesource.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+}
@@ -0,0 +1,242 @@
+package org.qcri.rheem.flink.platform;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.api.java.operators.UdfOperator;
+import org.apache.flink.core.fs.FileSystem.WriteMode;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.PushExecutorTemplate;
+import org.qcri.rheem.core.util.Actions;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+import org.qcri.rheem.flink.operators.FlinkExecutionOperator;
+import org.qcri.rheem.flink.operators.FlinkLoopHeadOperator;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * {@link Executor} implementation for the {@link FlinkPlatform}.
+ * <p>Flink builds up a plan of {@link DataSet}s lazily and executes it only as soon as a sink requests results. Hence,
+ * most {@link FlinkExecutionOperator}s merely extend the plan.</p>
+ * <p>Loops are run as native Flink iterations whenever their bodies can be declared as Flink step functions
+ * (cf. {@link FlinkLoopHeadOperator}). Otherwise, Rheem drives them iteration by iteration.</p>
+ */
+public class FlinkExecutor extends PushExecutorTemplate {
+
+    /**
+     * The {@link ExecutionEnvironment} to be used by this instance.
+     */
+    public final ExecutionEnvironment env;
+
+    public FunctionCompiler compiler = new FunctionCompiler();
+
+    private final FlinkPlatform platform;
+
+    /**
+     * Number of loop iterations after which the loop data should be materialized or {@code 0} if never.
+     */
+    private final long loopMaterializationInterval;
+
+    /**
+     * Temporary files that have been created by this instance and should be deleted on {@link #dispose()}.
+     */
+    private final List<String> tempPaths = new LinkedList<>();
+
+    /**
+     * The {@link ExecutionState} of the {@link ExecutionStage} that is currently being executed. It provides the
+     * inputs from outside of loops to native Flink iterations.
+     */
+    private ExecutionState executionState;
+
+    public FlinkExecutor(FlinkPlatform platform, Job job) {
+        super(job);
+        this.platform = platform;
+        this.env = this.platform.createExecutionEnvironment(job);
+        this.loopMaterializationInterval = job.getConfiguration().getLongProperty(
+                "rheem.flink.loop.materialization-interval", 0L
+        );
+    }
+
+    @Override
+    public void execute(ExecutionStage stage, ExecutionState executionState) {
+        this.executionState = executionState;
+        try {
+            super.execute(stage, executionState);
+        } finally {
+            this.executionState = null;
+        }
+    }
+
+    @Override
+    protected void open(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        // Nothing to do. Opening is handled in #execute(...).
+    }
+
+    @Override
+    protected List<ChannelInstance> execute(ExecutionTask task, List<ChannelInstance> inputChannelInstances, boolean isForceExecution) {
+        // Provide the ChannelInstances for the output of the task.
+        final ChannelInstance[] outputChannelInstances = this.createOutputChannelInstances(task);
+
+        // Execute. Loops that have not started yet are run as native Flink iterations if possible.
+        final ExecutionOperator operator = task.getOperator();
+        final FlinkLoopBody loopBody = operator instanceof FlinkLoopHeadOperator &&
+                ((LoopHeadOperator) operator).getState() == LoopHeadOperator.State.NOT_STARTED &&
+                this.executionState != null ?
+                FlinkLoopBody.createFor(task, this.executionState, this) :
+                null;
+        if (loopBody != null) {
+            ((FlinkLoopHeadOperator) operator).evaluateNatively(
+                    toArray(inputChannelInstances), outputChannelInstances, loopBody, this.compiler, this
+            );
+        } else {
+            cast(operator).evaluate(toArray(inputChannelInstances), outputChannelInstances, this.compiler, this);
+        }
+
+        // Force execution if necessary.
+        if (isForceExecution) {
+            for (ChannelInstance outputChannelInstance : outputChannelInstances) {
+                if (outputChannelInstance == null || !outputChannelInstance.getChannel().isReusable()) {
+                    this.logger.warn("Execution of {} might not have been enforced properly. " +
+                                    "This might break the execution or cause side-effects with the re-optimization.",
+                            task);
+                }
+            }
+        }
+
+        return Arrays.asList(outputChannelInstances);
+    }
+
+    /**
+     * Creates {@link ChannelInstance}s for the output {@link Channel}s of the given {@link ExecutionTask}.
+     *
+     * @param task whose output {@link ChannelInstance}s are requested
+     * @return the {@link ChannelInstance}s
+     */
+    public ChannelInstance[] createOutputChannelInstances(ExecutionTask task) {
+        ChannelInstance[] channelInstances = new ChannelInstance[task.getNumOuputChannels()];
+        for (int outputIndex = 0; outputIndex < channelInstances.length; outputIndex++) {
+            final Channel outputChannel = task.getOutputChannel(outputIndex);
+            channelInstances[outputIndex] = outputChannel.createInstance(this);
+        }
+        return channelInstances;
+    }
+
+    private static FlinkExecutionOperator cast(ExecutionOperator executionOperator) {
+        return (FlinkExecutionOperator) executionOperator;
+    }
+
+    private static ChannelInstance[] toArray(List<ChannelInstance> channelInstances) {
+        final ChannelInstance[] array = new ChannelInstance[channelInstances.size()];
+        return channelInstances.toArray(array);
+    }
+
+    /**
+     * Executes the sinks that have been added to the {@link #env} so far.
+     *
+     * @param requester describes what requests the execution, e.g., an {@link ExecutionOperator}
+     */
+    public void executePlan(Object requester) {
+        try {
+            this.env.execute(String.format("Rheem: %s", requester));
+        } catch (Exception e) {
+            throw new RheemException(String.format("Flink execution of %s failed.", requester), e);
+        }
+    }
+
+    /**
+     * Registers the broadcast inputs of a {@link FlinkExecutionOperator} as broadcast variables of the given
+     * {@link UdfOperator}, so that the {@link org.qcri.rheem.flink.execution.FlinkExecutionContext} can provide them
+     * under the names of the broadcast {@link InputSlot}s.
+     *
+     * @param operator    the {@link FlinkExecutionOperator} being evaluated
+     * @param inputs      the {@link ChannelInstance}s for the {@code operator}
+     * @param udfOperator the Flink operator that runs the UDFs of the {@code operator}
+     */
+    public static void registerBroadcasts(FlinkExecutionOperator operator, ChannelInstance[] inputs,
+                                          UdfOperator<?> udfOperator) {
+        for (int inputIndex = 0; inputIndex < operator.getNumInputs(); inputIndex++) {
+            final InputSlot<?> inputSlot = operator.getInput(inputIndex);
+            if (inputSlot.isBroadcast()) {
+                final DataSetChannel.Instance broadcastInput = (DataSetChannel.Instance) inputs[inputIndex];
+                udfOperator.withBroadcastSet(broadcastInput.provideDataSet(), inputSlot.getName());
+            }
+        }
+    }
+
+    /**
+     * Materializes a {@link DataSet} that is passed on from one loop iteration to the next, if this is due according
+     * to {@code rheem.flink.loop.materialization-interval}. This applies only to loops that Rheem drives, because
+     * Flink would otherwise re-execute the plan of all previous iterations whenever the loop body requests results.
+     *
+     * @param dataSet   the loop data
+     * @param iteration the number of the current iteration (starting at {@code 1})
+     * @return the {@link DataSet} to be used by the next iteration
+     */
+    public <T> DataSet<T> materializeLoopDataIfDue(DataSet<T> dataSet, int iteration) {
+        if (this.loopMaterializationInterval <= 0 || iteration % this.loopMaterializationInterval != 0) {
+            return dataSet;
+        }
+
+        final String path = this.createTempPath();
+        this.logger.debug("Materializing {} in iteration {} to {}.", dataSet, iteration, path);
+        dataSet.write(new TypeSerializerOutputFormat<>(), path, WriteMode.OVERWRITE);
+        this.executePlan("loop data materialization");
+        return this.env.readFile(new TypeSerializerInputFormat<>(dataSet.getType()), path);
+    }
+
+    /**
+     * Creates a path for a temporary file that is deleted once this instance is disposed.
+     */
+    public String createTempPath() {
+        final String tempDir = this.getConfiguration().getStringProperty("rheem.basic.tempdir");
+        final Random random = new Random();
+        final String path = String.format("%s/flink-%04x-%04x-%04x.tmp", tempDir,
+                random.nextInt() & 0xFFFF,
+                random.nextInt() & 0xFFFF,
+                random.nextInt() & 0xFFFF
+        );
+        this.tempPaths.add(path);
+        return path;
+    }
+
+    @Override
+    public FlinkPlatform getPlatform() {
+        return this.platform;
+    }
+
+    public Configuration getConfiguration() {
+        return this.job.getConfiguration();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        for (String tempPath : this.tempPaths) {
+            Actions.doSafe(() -> {
+                final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(tempPath);
+                if (fileSystem.isPresent()) fileSystem.get().delete(tempPath, true);
+            });
+        }
+        this.tempPaths.clear();
+    }
+}
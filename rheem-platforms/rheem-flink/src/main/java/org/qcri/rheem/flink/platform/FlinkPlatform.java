@@ -0,0 +1,167 @@
+package org.qcri.rheem.flink.platform;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.qcri.rheem.basic.plugin.RheemBasicPlatform;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.LoadToTimeConverter;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.util.ReflectionUtils;
+import org.qcri.rheem.flink.channels.ChannelConversions;
+import org.qcri.rheem.flink.mapping.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link Platform} for Apache Flink's batch processing, i.e., its {@link org.apache.flink.api.java.DataSet} API.
+ */
+public class FlinkPlatform extends Platform {
+
+    private static final String PLATFORM_NAME = "Apache Flink";
+
+    private static final String DEFAULT_CONFIG_FILE = "rheem-flink-defaults.properties";
+
+    /**
+     * Specifies where to run Flink jobs: {@code local} starts a mini-cluster within this JVM, {@code collection}
+     * executes the jobs single-threaded on Java collections, and {@code <host>:<port>} submits the jobs to the
+     * JobManager of a Flink cluster.
+     */
+    public static final String MASTER_PROPERTY = "rheem.flink.master";
+
+    public static final String PARALLELISM_PROPERTY = "rheem.flink.parallelism";
+
+    private final Collection<Mapping> mappings = new LinkedList<>();
+
+    private static FlinkPlatform instance = null;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public static FlinkPlatform getInstance() {
+        if (instance == null) {
+            instance = new FlinkPlatform();
+        }
+        return instance;
+    }
+
+    private FlinkPlatform() {
+        super(PLATFORM_NAME);
+        this.initializeConfiguration();
+        this.initializeMappings();
+    }
+
+    @Override
+    public void addChannelConversionsTo(ChannelConversionGraph channelConversionGraph) {
+        ChannelConversions.ALL.forEach(channelConversionGraph::add);
+    }
+
+    /**
+     * Creates an {@link ExecutionEnvironment} for the given {@link Job} as specified by {@value #MASTER_PROPERTY}
+     * and {@value #PARALLELISM_PROPERTY}.
+     *
+     * @return the {@link ExecutionEnvironment}
+     */
+    public ExecutionEnvironment createExecutionEnvironment(Job job) {
+        final Configuration configuration = job.getConfiguration();
+        final String master = configuration.getStringProperty(MASTER_PROPERTY);
+        final int parallelism = (int) configuration.getLongProperty(PARALLELISM_PROPERTY);
+
+        switch (master) {
+            case "local":
+                return ExecutionEnvironment.createLocalEnvironment(parallelism);
+            case "collection":
+                return ExecutionEnvironment.createCollectionsEnvironment();
+            default:
+                final int colonPos = master.lastIndexOf(':');
+                if (colonPos == -1) {
+                    throw new RheemException(String.format("Illegal value for %s: %s", MASTER_PROPERTY, master));
+                }
+                final String host = master.substring(0, colonPos);
+                final int port = Integer.parseInt(master.substring(colonPos + 1));
+
+                // Ship the Rheem JAR files along with the UDF JAR files to the cluster.
+                final List<String> jars = new ArrayList<>();
+                this.addJarIfNotNull(jars, ReflectionUtils.getDeclaringJar(FlinkPlatform.class)); // rheem-flink
+                this.addJarIfNotNull(jars, ReflectionUtils.getDeclaringJar(RheemBasicPlatform.class)); // rheem-basic
+                this.addJarIfNotNull(jars, ReflectionUtils.getDeclaringJar(RheemContext.class)); // rheem-core
+                final Set<String> udfJarPaths = job.getUdfJarPaths();
+                if (udfJarPaths.isEmpty()) {
+                    this.logger.warn("Non-local Flink execution but no UDF JARs have been declared.");
+                } else {
+                    udfJarPaths.forEach(path -> this.addJarIfNotNull(jars, path));
+                }
+                return ExecutionEnvironment.createRemoteEnvironment(
+                        host, port, parallelism, jars.toArray(new String[jars.size()])
+                );
+        }
+    }
+
+    private void addJarIfNotNull(List<String> jars, String path) {
+        if (path != null) jars.add(path);
+    }
+
+    private void initializeConfiguration() {
+        Configuration.getDefaultConfiguration().load(ReflectionUtils.loadResource(DEFAULT_CONFIG_FILE));
+    }
+
+    private void initializeMappings() {
+        this.mappings.add(new CollectionSourceMapping());
+        this.mappings.add(new CountToFlinkCountMapping());
+        this.mappings.add(new DeltaIterationToFlinkDeltaIterationMapping());
+        this.mappings.add(new DoWhileToFlinkDoWhileMapping());
+        this.mappings.add(new FilterToFlinkFilterMapping());
+        this.mappings.add(new FlatMapToFlinkFlatMapMapping());
+        this.mappings.add(new GlobalReduceMapping());
+        this.mappings.add(new JoinToFlinkJoinMapping());
+        this.mappings.add(new LocalCallbackSinkMapping());
+        this.mappings.add(new LoopToFlinkLoopMapping());
+        this.mappings.add(new MapOperatorToFlinkMapOperatorMapping());
+        this.mappings.add(new MtrlGroupByToFlinkMtrlGroupByMapping());
+        this.mappings.add(new ReduceByToFlinkReduceByMapping());
+        this.mappings.add(new SortToFlinkSortMapping());
+        this.mappings.add(new TextFileSourceMapping());
+        this.mappings.add(new UnionAllToFlinkUnionAllMapping());
+    }
+
+    @Override
+    public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
+        int cpuMhz = (int) configuration.getLongProperty("rheem.flink.cpu.mhz");
+        int numMachines = (int) configuration.getLongProperty("rheem.flink.machines");
+        int numCores = (int) (numMachines * configuration.getLongProperty("rheem.flink.cores-per-machine"));
+        double hdfsMsPerMb = configuration.getDoubleProperty("rheem.flink.hdfs.ms-per-mb");
+        double networkMsPerMb = configuration.getDoubleProperty("rheem.flink.network.ms-per-mb");
+        return LoadProfileToTimeConverter.createDefault(
+                LoadToTimeConverter.createLinearCoverter(1 / (numCores * cpuMhz * 1000d)),
+                LoadToTimeConverter.createLinearCoverter(hdfsMsPerMb / 1000000d),
+                LoadToTimeConverter.createLinearCoverter(networkMsPerMb / 1000000d),
+                (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate)
+        );
+    }
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return this.mappings;
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return true;
+    }
+
+    @Override
+    public Executor.Factory getExecutorFactory() {
+        return job -> new FlinkExecutor(this, job);
+    }
+
+}
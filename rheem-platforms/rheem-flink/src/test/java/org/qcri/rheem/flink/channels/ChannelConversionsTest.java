@@ -0,0 +1,88 @@
+package org.qcri.rheem.flink.channels;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.flink.operators.FlinkExecutionOperator;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link ChannelConversions}.
+ */
+public class ChannelConversionsTest {
+
+    private Configuration configuration;
+
+    private FlinkExecutor flinkExecutor;
+
+    @Before
+    public void setUp() {
+        this.configuration = new Configuration();
+        this.configuration.setProperty(FlinkPlatform.MASTER_PROPERTY, "collection");
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(this.configuration);
+        this.flinkExecutor = (FlinkExecutor) FlinkPlatform.getInstance().getExecutorFactory().create(job);
+    }
+
+    @Test
+    public void testCollectionRoundTrip() {
+        // Prepare test data.
+        final List<Integer> inputValues = Arrays.asList(1, 2, 3);
+        final Channel collectionChannel = CollectionChannel.DESCRIPTOR.createChannel(null, this.configuration);
+        final CollectionChannel.Instance input = (CollectionChannel.Instance) collectionChannel.createInstance(this.flinkExecutor);
+        input.accept(inputValues);
+
+        // Execute.
+        final ChannelInstance dataSet = this.convert(ChannelConversions.COLLECTION_TO_DATASET, input);
+        final ChannelInstance output = this.convert(ChannelConversions.DATASET_TO_COLLECTION, dataSet);
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, ((CollectionChannel.Instance) output).provideCollection());
+    }
+
+    @Test
+    public void testObjectFileRoundTrip() {
+        // Prepare test data.
+        final List<Integer> inputValues = Arrays.asList(1, 2, 3);
+        final Channel collectionChannel = CollectionChannel.DESCRIPTOR.createChannel(null, this.configuration);
+        final CollectionChannel.Instance input = (CollectionChannel.Instance) collectionChannel.createInstance(this.flinkExecutor);
+        input.accept(inputValues);
+
+        // Execute.
+        ChannelInstance channelInstance = this.convert(ChannelConversions.COLLECTION_TO_DATASET, input);
+        channelInstance = this.convert(ChannelConversions.DATASET_TO_HDFS_OBJECT_FILE, channelInstance);
+        channelInstance = this.convert(ChannelConversions.HDFS_OBJECT_FILE_TO_DATASET, channelInstance);
+        channelInstance = this.convert(ChannelConversions.DATASET_TO_COLLECTION, channelInstance);
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, ((CollectionChannel.Instance) channelInstance).provideCollection());
+    }
+
+    /**
+     * Applies the given {@link ChannelConversion} to the given {@link ChannelInstance} by evaluating the conversion
+     * operator.
+     */
+    private ChannelInstance convert(ChannelConversion channelConversion, ChannelInstance input) {
+        final Channel outputChannel = channelConversion.convert(input.getChannel(), this.configuration);
+        final FlinkExecutionOperator operator = (FlinkExecutionOperator) outputChannel.getProducer().getOperator();
+        final ChannelInstance output = outputChannel.createInstance(this.flinkExecutor);
+        operator.evaluate(
+                new ChannelInstance[]{input}, new ChannelInstance[]{output}, this.flinkExecutor.compiler, this.flinkExecutor
+        );
+        return output;
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkCollectOperator}.
+ */
+public class FlinkCollectOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        List<Integer> inputValues = Arrays.asList(1, 2, 3);
+        CollectionChannel.Instance output = this.createCollectionChannelInstance();
+
+        // Build the collect operator.
+        FlinkCollectOperator<Integer> collectOperator =
+                new FlinkCollectOperator<>(DataSetType.createDefault(Integer.class));
+
+        // Execute.
+        ChannelInstance[] inputs = new ChannelInstance[]{this.createDataSetChannelInstance(inputValues)};
+        ChannelInstance[] outputs = new ChannelInstance[]{output};
+        collectOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, output.provideCollection());
+        Assert.assertFalse(collectOperator.isEvaluatingLazily());
+    }
+
+}
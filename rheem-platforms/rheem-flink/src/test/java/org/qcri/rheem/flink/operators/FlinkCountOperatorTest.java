@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.java.channels.CollectionChannel;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test suite for {@link FlinkCountOperator}.
+ */
+public class FlinkCountOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        DataSetChannel.Instance input = this.createDataSetChannelInstance(Arrays.asList(1, 2, 3, 4, 5));
+        CollectionChannel.Instance output = this.createCollectionChannelInstance();
+
+        // Build the count operator.
+        FlinkCountOperator<Integer> countOperator =
+                new FlinkCountOperator<>(DataSetType.createDefaultUnchecked(Integer.class));
+
+        // Execute.
+        ChannelInstance[] inputs = new ChannelInstance[]{input};
+        ChannelInstance[] outputs = new ChannelInstance[]{output};
+        countOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(Collections.singletonList(5L), output.provideCollection());
+    }
+
+}
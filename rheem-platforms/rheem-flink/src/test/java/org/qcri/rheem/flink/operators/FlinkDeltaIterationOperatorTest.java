@@ -0,0 +1,108 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.qcri.rheem.basic.operators.DeltaIterationOperator.*;
+
+/**
+ * Test suite for {@link FlinkDeltaIterationOperator}.
+ */
+public class FlinkDeltaIterationOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNativeExecution() throws Exception {
+        // Prepare test data.
+        final TransformationDescriptor<Tuple2<Integer, Integer>, Integer> keyDescriptor = new ProjectionDescriptor<>(
+                DataUnitType.createBasicUnchecked(Tuple2.class),
+                DataUnitType.createBasic(Integer.class),
+                "field0"
+        );
+        final FlinkDeltaIterationOperator<Tuple2<Integer, Integer>, Integer, Integer> deltaIteration =
+                new FlinkDeltaIterationOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefault(Integer.class),
+                        keyDescriptor,
+                        10
+                );
+
+        // The loop body increments the solution set elements in the workset and keeps those below 3 in the workset.
+        final FlinkJoinOperator<Integer, Tuple2<Integer, Integer>, Integer> join = new FlinkJoinOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new TransformationDescriptor<>(i -> i, Integer.class, Integer.class),
+                keyDescriptor
+        );
+        final FlinkMapOperator<Tuple2<Integer, Tuple2<Integer, Integer>>, Tuple2<Integer, Integer>> increment =
+                new FlinkMapOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new TransformationDescriptor<>(
+                                joined -> new Tuple2<>(joined.field1.field0, joined.field1.field1 + 1),
+                                DataUnitType.<Tuple2<Integer, Tuple2<Integer, Integer>>>createBasicUnchecked(Tuple2.class),
+                                DataUnitType.<Tuple2<Integer, Integer>>createBasicUnchecked(Tuple2.class)
+                        )
+                );
+        final FlinkFilterOperator<Tuple2<Integer, Integer>> filter = new FlinkFilterOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new PredicateDescriptor<>(
+                        tuple -> tuple.field1 < 3,
+                        DataUnitType.<Tuple2<Integer, Integer>>createBasicUnchecked(Tuple2.class)
+                )
+        );
+        final FlinkMapOperator<Tuple2<Integer, Integer>, Integer> project = new FlinkMapOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefault(Integer.class),
+                keyDescriptor
+        );
+
+        final ExecutionTask[] tasks = this.createLoopTasks(deltaIteration, join, increment, filter, project);
+        connect(tasks[0], WORKSET_OUTPUT_INDEX, tasks[1], 0);
+        connect(tasks[0], SOLUTION_SET_OUTPUT_INDEX, tasks[1], 1);
+        connect(tasks[1], 0, tasks[2], 0);
+        connect(tasks[2], 0, tasks[0], SOLUTION_SET_DELTA_INPUT_INDEX);
+        connect(tasks[2], 0, tasks[3], 0);
+        connect(tasks[3], 0, tasks[4], 0);
+        connect(tasks[4], 0, tasks[0], NEXT_WORKSET_INPUT_INDEX);
+        final FlinkLoopBody loopBody = FlinkLoopBody.createFor(tasks[0], new TestExecutionState(), this.flinkExecutor);
+        Assert.assertNotNull(loopBody);
+
+        ChannelInstance[] inputs = new ChannelInstance[deltaIteration.getNumInputs()];
+        inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(
+                new Tuple2<>(1, 0), new Tuple2<>(2, 2), new Tuple2<>(3, 0)
+        ));
+        inputs[INITIAL_WORKSET_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(1, 2));
+        ChannelInstance[] outputs = this.flinkExecutor.createOutputChannelInstances(tasks[0]);
+
+        // Execute.
+        deltaIteration.evaluateNatively(inputs, outputs, loopBody, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, deltaIteration.getState());
+        Assert.assertNull(outputs[SOLUTION_SET_OUTPUT_INDEX]);
+        Assert.assertNull(outputs[WORKSET_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(new Tuple2<>(1, 3), new Tuple2<>(2, 3), new Tuple2<>(3, 0))),
+                new HashSet<>(((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX])
+                        .<Tuple2<Integer, Integer>>provideDataSet()
+                        .collect())
+        );
+    }
+
+}
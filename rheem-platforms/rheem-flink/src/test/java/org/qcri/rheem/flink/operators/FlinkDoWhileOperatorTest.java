@@ -0,0 +1,62 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+import static org.qcri.rheem.basic.operators.DoWhileOperator.*;
+
+/**
+ * Test suite for {@link FlinkDoWhileOperator}.
+ */
+public class FlinkDoWhileOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testNativeExecution() throws Exception {
+        // Prepare test data.
+        final FlinkDoWhileOperator<Integer, Integer> doWhile = new FlinkDoWhileOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                (PredicateDescriptor.SerializablePredicate<Collection<Integer>>) convergence ->
+                        convergence.stream().allMatch(i -> i >= 10)
+        );
+        final ExecutionTask[] tasks = this.createLoopTasks(doWhile, new FlinkMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)
+        ));
+        connect(tasks[0], ITERATION_OUTPUT_INDEX, tasks[1], 0);
+        connect(tasks[1], 0, tasks[0], ITERATION_INPUT_INDEX);
+        connect(tasks[1], 0, tasks[0], CONVERGENCE_INPUT_INDEX);
+        final FlinkLoopBody loopBody = FlinkLoopBody.createFor(tasks[0], new TestExecutionState(), this.flinkExecutor);
+        Assert.assertNotNull(loopBody);
+
+        ChannelInstance[] inputs = new ChannelInstance[doWhile.getNumInputs()];
+        inputs[INITIAL_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(1, 2, 3));
+        ChannelInstance[] outputs = this.flinkExecutor.createOutputChannelInstances(tasks[0]);
+
+        // Execute.
+        doWhile.evaluateNatively(inputs, outputs, loopBody, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, doWhile.getState());
+        Assert.assertNull(outputs[ITERATION_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(10, 11, 12)),
+                new HashSet<>(((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).<Integer>provideDataSet().collect())
+        );
+    }
+
+}
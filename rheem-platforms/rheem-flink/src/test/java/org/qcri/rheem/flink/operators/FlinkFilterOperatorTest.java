@@ -0,0 +1,45 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkFilterOperator}.
+ */
+public class FlinkFilterOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        // Prepare test data.
+        DataSetChannel.Instance input = this.createDataSetChannelInstance(Arrays.asList(0, 1, 1, 2, 6));
+        DataSetChannel.Instance output = this.createDataSetChannelInstance();
+
+        // Build the filter operator.
+        FlinkFilterOperator<Integer> filterOperator =
+                new FlinkFilterOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        new PredicateDescriptor<>(item -> (item > 0), DataUnitType.createBasic(Integer.class))
+                );
+
+        // Set up the ChannelInstances.
+        ChannelInstance[] inputs = new ChannelInstance[]{input};
+        ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        filterOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        final List<Integer> result = output.<Integer>provideDataSet().collect();
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 6), result);
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test suite for {@link FlinkJoinOperator}.
+ */
+public class FlinkJoinOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        // Prepare test data.
+        DataSetChannel.Instance input0 = this.createDataSetChannelInstance(Arrays.asList(
+                new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e")));
+        DataSetChannel.Instance input1 = this.createDataSetChannelInstance(Arrays.asList(
+                new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4)));
+        DataSetChannel.Instance output = this.createDataSetChannelInstance();
+
+        // Build the join operator.
+        FlinkJoinOperator<Tuple2, Tuple2, Integer> join =
+                new FlinkJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input0, input1};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        join.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        final Set<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                new HashSet<>(output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideDataSet().collect());
+        final Set<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = new HashSet<>(Arrays.asList(
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2))
+        ));
+        Assert.assertEquals(expectedResult, result);
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkLocalCallbackSink}.
+ */
+public class FlinkLocalCallbackSinkTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        List<Integer> inputValues = Arrays.asList(1, 2, 3);
+
+        // Build the sink.
+        List<Integer> collector = new LinkedList<>();
+        FlinkLocalCallbackSink<Integer> sink =
+                new FlinkLocalCallbackSink<>(collector::add, DataSetType.createDefault(Integer.class));
+
+        // Execute.
+        ChannelInstance[] inputs = new ChannelInstance[]{this.createDataSetChannelInstance(inputValues)};
+        ChannelInstance[] outputs = new ChannelInstance[]{};
+        sink.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, collector);
+        Assert.assertFalse(sink.isEvaluatingLazily());
+    }
+
+}
@@ -0,0 +1,171 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+import org.qcri.rheem.flink.execution.FlinkLoopBody;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.qcri.rheem.basic.operators.LoopOperator.*;
+
+/**
+ * Test suite for {@link FlinkLoopOperator}.
+ */
+public class FlinkLoopOperatorTest extends FlinkOperatorTestBase {
+
+    private static FlinkLoopOperator<Integer, Integer> createLoopOperator(int numIterations) {
+        return new FlinkLoopOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                (PredicateDescriptor.SerializablePredicate<Collection<Integer>>) convergence ->
+                        convergence.iterator().next() >= numIterations
+        );
+    }
+
+    private static FlinkMapOperator<Integer, Integer> createIncrementOperator() {
+        return new FlinkMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)
+        );
+    }
+
+    /**
+     * Creates the {@link ExecutionTask}s for a loop that increments both its loop data and its counter.
+     */
+    private ExecutionTask[] createLoopTasks(FlinkLoopOperator<Integer, Integer> loop) {
+        final ExecutionTask[] tasks = this.createLoopTasks(loop, createIncrementOperator(), createIncrementOperator());
+        connect(tasks[0], ITERATION_OUTPUT_INDEX, tasks[1], 0);
+        connect(tasks[1], 0, tasks[0], ITERATION_INPUT_INDEX);
+        connect(tasks[0], ITERATION_CONVERGENCE_OUTPUT_INDEX, tasks[2], 0);
+        connect(tasks[2], 0, tasks[0], ITERATION_CONVERGENCE_INPUT_INDEX);
+        return tasks;
+    }
+
+    @Test
+    public void testNativeExecution() throws Exception {
+        // Prepare test data.
+        final FlinkLoopOperator<Integer, Integer> loop = createLoopOperator(3);
+        final ExecutionTask[] tasks = this.createLoopTasks(loop);
+        final FlinkLoopBody loopBody = FlinkLoopBody.createFor(tasks[0], new TestExecutionState(), this.flinkExecutor);
+        Assert.assertNotNull(loopBody);
+
+        ChannelInstance[] inputs = new ChannelInstance[loop.getNumInputs()];
+        inputs[INITIAL_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(1, 2, 3));
+        inputs[INITIAL_CONVERGENCE_INPUT_INDEX] = this.createDataSetChannelInstance(Collections.singletonList(0));
+        ChannelInstance[] outputs = this.flinkExecutor.createOutputChannelInstances(tasks[0]);
+
+        // Execute.
+        loop.evaluateNatively(inputs, outputs, loopBody, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, loop.getState());
+        Assert.assertNull(outputs[ITERATION_OUTPUT_INDEX]);
+        Assert.assertNull(outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(4, 5, 6)),
+                new HashSet<>(((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).<Integer>provideDataSet().collect())
+        );
+    }
+
+    @Test
+    public void testNativeExecutionRunsAtLeastOneIteration() throws Exception {
+        // Prepare test data.
+        final FlinkLoopOperator<Integer, Integer> loop = createLoopOperator(0);
+        final ExecutionTask[] tasks = this.createLoopTasks(loop);
+        final FlinkLoopBody loopBody = FlinkLoopBody.createFor(tasks[0], new TestExecutionState(), this.flinkExecutor);
+
+        ChannelInstance[] inputs = new ChannelInstance[loop.getNumInputs()];
+        inputs[INITIAL_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(1, 2, 3));
+        inputs[INITIAL_CONVERGENCE_INPUT_INDEX] = this.createDataSetChannelInstance(Collections.singletonList(0));
+        ChannelInstance[] outputs = this.flinkExecutor.createOutputChannelInstances(tasks[0]);
+
+        // Execute.
+        loop.evaluateNatively(inputs, outputs, loopBody, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome. Like Rheem-driven loops, the native loop checks the convergence only after iterating.
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(2, 3, 4)),
+                new HashSet<>(((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).<Integer>provideDataSet().collect())
+        );
+    }
+
+    @Test
+    public void testEagerLoopBodyIsNotNative() {
+        // Prepare test data.
+        final FlinkLoopOperator<Integer, Integer> loop = createLoopOperator(3);
+        final ExecutionTask[] tasks = this.createLoopTasks(
+                loop, createIncrementOperator(), createIncrementOperator(),
+                new FlinkCountOperator<>(DataSetType.createDefault(Integer.class))
+        );
+        connect(tasks[0], ITERATION_OUTPUT_INDEX, tasks[1], 0);
+        connect(tasks[1], 0, tasks[0], ITERATION_INPUT_INDEX);
+        connect(tasks[1], 0, tasks[3], 0);
+        connect(tasks[0], ITERATION_CONVERGENCE_OUTPUT_INDEX, tasks[2], 0);
+        connect(tasks[2], 0, tasks[0], ITERATION_CONVERGENCE_INPUT_INDEX);
+
+        // Execute.
+        final FlinkLoopBody loopBody = FlinkLoopBody.createFor(tasks[0], new TestExecutionState(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertNull(loopBody);
+    }
+
+    @Test
+    public void testExecution() throws Exception {
+        // Prepare test data.
+        final FlinkLoopOperator<Integer, Integer> loop = createLoopOperator(1);
+        final FunctionCompiler compiler = new FunctionCompiler();
+
+        // Execute the initial iteration.
+        ChannelInstance[] inputs = new ChannelInstance[loop.getNumInputs()];
+        inputs[INITIAL_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(1, 2, 3));
+        inputs[INITIAL_CONVERGENCE_INPUT_INDEX] = this.createDataSetChannelInstance(Collections.singletonList(0));
+        ChannelInstance[] outputs = this.createOutputs(loop);
+        loop.evaluate(inputs, outputs, compiler, this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.RUNNING, loop.getState());
+        Assert.assertNull(outputs[FINAL_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                Collections.singletonList(0),
+                ((DataSetChannel.Instance) outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]).<Integer>provideDataSet().collect()
+        );
+
+        // Execute the final iteration.
+        inputs = new ChannelInstance[loop.getNumInputs()];
+        inputs[ITERATION_INPUT_INDEX] = this.createDataSetChannelInstance(Arrays.asList(2, 3, 4));
+        inputs[ITERATION_CONVERGENCE_INPUT_INDEX] = this.createDataSetChannelInstance(Collections.singletonList(1));
+        outputs = this.createOutputs(loop);
+        loop.evaluate(inputs, outputs, compiler, this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, loop.getState());
+        Assert.assertNull(outputs[ITERATION_OUTPUT_INDEX]);
+        Assert.assertNull(outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                Arrays.asList(2, 3, 4),
+                ((DataSetChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).<Integer>provideDataSet().collect()
+        );
+    }
+
+    private ChannelInstance[] createOutputs(FlinkLoopOperator<?, ?> loop) {
+        final ChannelInstance[] outputs = new ChannelInstance[loop.getNumOutputs()];
+        for (int outputIndex = 0; outputIndex < outputs.length; outputIndex++) {
+            outputs[outputIndex] = this.createDataSetChannelInstance();
+        }
+        return outputs;
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test suite for {@link FlinkMaterializedGroupByOperator}.
+ */
+public class FlinkMaterializedGroupByOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecution() throws Exception {
+        // Prepare test data.
+        AtomicInteger counter = new AtomicInteger(0);
+        DataSetChannel.Instance input = this.createDataSetChannelInstance(Arrays.stream("abcaba".split(""))
+                .map(string -> new Tuple2<>(string, counter.getAndIncrement()))
+                .collect(Collectors.toList()));
+        DataSetChannel.Instance output = this.createDataSetChannelInstance();
+
+        // Build the group operator.
+        FlinkMaterializedGroupByOperator<Tuple2<String, Integer>, String> groupByOperator =
+                new FlinkMaterializedGroupByOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(String.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createGroupedUnchecked(Tuple2.class)
+                );
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        groupByOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        final Set<Set<Tuple2<String, Integer>>> result = output.<Iterable<Tuple2<String, Integer>>>provideDataSet()
+                .collect().stream()
+                .map(group -> StreamSupport.stream(group.spliterator(), false).collect(Collectors.toSet()))
+                .collect(Collectors.toSet());
+        final Set<Set<Tuple2<String, Integer>>> expectedResult = new HashSet<>(Arrays.asList(
+                new HashSet<>(Arrays.asList(new Tuple2<>("a", 0), new Tuple2<>("a", 3), new Tuple2<>("a", 5))),
+                new HashSet<>(Arrays.asList(new Tuple2<>("b", 1), new Tuple2<>("b", 4))),
+                new HashSet<>(Arrays.asList(new Tuple2<>("c", 2)))
+        ));
+        Assert.assertEquals(expectedResult, result);
+    }
+
+}
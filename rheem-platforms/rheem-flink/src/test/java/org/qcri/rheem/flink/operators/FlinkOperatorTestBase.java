@@ -0,0 +1,144 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Before;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStageLoop;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.executionplan.PlatformExecution;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.util.RheemCollections;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.platform.FlinkExecutor;
+import org.qcri.rheem.flink.platform.FlinkPlatform;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test base for {@link FlinkExecutionOperator} tests. The operators are executed on a local Flink mini-cluster with
+ * a parallelism of {@value #DEFAULT_PARALLELISM}, so that partitioning, range sorting, and iterations are exercised as
+ * they would be on a real cluster.
+ */
+public class FlinkOperatorTestBase {
+
+    protected static final int DEFAULT_PARALLELISM = 2;
+
+    protected Configuration configuration;
+
+    protected FlinkExecutor flinkExecutor;
+
+    @Before
+    public void setUp() {
+        this.configuration = new Configuration();
+        this.configuration.setProperty(FlinkPlatform.MASTER_PROPERTY, "local");
+        this.setParallelism(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Sets up a new {@link #flinkExecutor} whose {@link org.apache.flink.api.java.ExecutionEnvironment} runs with the
+     * given parallelism. Any {@link DataSetChannel.Instance}s must be created afterwards.
+     */
+    protected void setParallelism(int parallelism) {
+        this.configuration.setProperty(FlinkPlatform.PARALLELISM_PROPERTY, String.valueOf(parallelism));
+        this.flinkExecutor = (FlinkExecutor) FlinkPlatform.getInstance().getExecutorFactory().create(this.mockJob());
+    }
+
+    Job mockJob() {
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(this.configuration);
+        return job;
+    }
+
+    DataSetChannel.Instance createDataSetChannelInstance() {
+        return (DataSetChannel.Instance) DataSetChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.flinkExecutor);
+    }
+
+    DataSetChannel.Instance createDataSetChannelInstance(Collection<?> collection) {
+        final DataSetChannel.Instance instance = this.createDataSetChannelInstance();
+        instance.accept(this.flinkExecutor.env.fromCollection(RheemCollections.asList(collection)));
+        return instance;
+    }
+
+    protected CollectionChannel.Instance createCollectionChannelInstance() {
+        return (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.flinkExecutor);
+    }
+
+    /**
+     * Creates {@link ExecutionTask}s for a loop, whose head and body reside in two {@link ExecutionStage}s of the
+     * same {@link ExecutionStageLoop}.
+     *
+     * @param loopHead       the loop head
+     * @param bodyOperators  the operators of the loop body
+     * @return the {@link ExecutionTask}s for the {@code loopHead} followed by those for the {@code bodyOperators}
+     */
+    ExecutionTask[] createLoopTasks(ExecutionOperator loopHead, ExecutionOperator... bodyOperators) {
+        final PlatformExecution platformExecution = new PlatformExecution(FlinkPlatform.getInstance());
+        final ExecutionStageLoop stageLoop = new ExecutionStageLoop(null);
+        final ExecutionStage headStage = platformExecution.createStage(stageLoop, 0);
+        final ExecutionStage bodyStage = platformExecution.createStage(stageLoop, 1);
+        final ExecutionTask[] tasks = new ExecutionTask[bodyOperators.length + 1];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new ExecutionTask(i == 0 ? loopHead : bodyOperators[i - 1]);
+            (i == 0 ? headStage : bodyStage).addTask(tasks[i]);
+            for (int outputIndex = 0; outputIndex < tasks[i].getNumOuputChannels(); outputIndex++) {
+                tasks[i].initializeOutputChannel(outputIndex, this.configuration);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Feeds an output {@link Channel} of one {@link ExecutionTask} into an input of another one.
+     */
+    static void connect(ExecutionTask producer, int outputIndex, ExecutionTask consumer, int inputIndex) {
+        producer.getOutputChannel(outputIndex).addConsumer(consumer, inputIndex);
+    }
+
+    /**
+     * Simple {@link ExecutionState} that merely keeps track of {@link ChannelInstance}s.
+     */
+    static class TestExecutionState implements ExecutionState {
+
+        private final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+
+        @Override
+        public void register(ChannelInstance channelInstance) {
+            this.channelInstances.put(channelInstance.getChannel(), channelInstance);
+        }
+
+        @Override
+        public ChannelInstance getChannelInstance(Channel channel) {
+            return this.channelInstances.get(channel);
+        }
+
+        @Override
+        public void addCardinalityMeasurement(Channel channel, long cardinality) {
+        }
+
+        @Override
+        public OptionalLong getCardinalityMeasurement(Channel channel) {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Map<Channel, Long> getCardinalityMeasurements() {
+            return new HashMap<>();
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.qcri.rheem.flink.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.flink.channels.DataSetChannel;
+import org.qcri.rheem.flink.compiler.FunctionCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test suite for {@link FlinkSortOperator}.
+ */
+public class FlinkSortOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        // Prepare test data.
+        DataSetChannel.Instance input = this.createDataSetChannelInstance(Arrays.asList(6, 0, 1, 1, 5, 2));
+        DataSetChannel.Instance output = this.createDataSetChannelInstance();
+
+        // Build the sort operator.
+        FlinkSortOperator<Integer> sortOperator = new FlinkSortOperator<>(DataSetType.createDefault(Integer.class));
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        sortOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.flinkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(0, 1, 1, 2, 5, 6), output.<Integer>provideDataSet().collect());
+    }
+
+    @Test
+    public void testExecutionWithSeveralRanges() throws Exception {
+        // Prepare test data.
+        this.setParallelism(4);
+        final Random random = new Random(42);
+        final List<Integer> inputList = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            inputList.add(random.nextInt(1000));
+        }
+        DataSetChannel.Instance input = this.createDataSetChannelInstance(inputList);
+        DataSetChannel.Instance output = this.createDataSetChannelInstance();
+
+        // Build the sort operator.
+        FlinkSortOperator<Integer> sortOperator = new FlinkSortOperator<>(DataSetType.createDefault(Integer.class));
+
+        // Execute.
+        sortOperator.evaluate(
+                new ChannelInstance[]{input}, new ChannelInstance[]{output}, new FunctionCompiler(), this.flinkExecutor
+        );
+
+        // Verify the outcome.
+        Assert.assertEquals(4, this.flinkExecutor.env.getParallelism());
+        final List<Integer> expectedResult = new ArrayList<>(inputList);
+        Collections.sort(expectedResult);
+        Assert.assertEquals(expectedResult, output.<Integer>provideDataSet().collect());
+    }
+
+}
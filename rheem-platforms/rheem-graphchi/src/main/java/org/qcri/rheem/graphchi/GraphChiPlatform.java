@@ -10,7 +10,10 @@ import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.Platform;
 import org.qcri.rheem.core.util.ReflectionUtils;
 import org.qcri.rheem.graphchi.execution.GraphChiExecutor;
+import org.qcri.rheem.graphchi.mappings.ConnectedComponentsMapping;
 import org.qcri.rheem.graphchi.mappings.PageRankMapping;
+import org.qcri.rheem.graphchi.mappings.SingleSourceShortestPathMapping;
+import org.qcri.rheem.graphchi.mappings.TriangleCountMapping;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -48,6 +51,9 @@ public class GraphChiPlatform extends Platform {
 
         this.initializeConfiguration();
         this.mappings.add(new PageRankMapping());
+        this.mappings.add(new ConnectedComponentsMapping());
+        this.mappings.add(new SingleSourceShortestPathMapping());
+        this.mappings.add(new TriangleCountMapping());
     }
 
     private void initializeConfiguration() {
@@ -0,0 +1,456 @@
+package org.qcri.rheem.graphchi.execution;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps GraphChi shards across executions in a cache directory, so that repeated runs over the same graph can skip
+ * the sharding. Cache entries are keyed by the URL, size, and modification time of the input file, the number of
+ * shards, and a description of the sharding, i.e., the initial vertex and edge values and their types. Because GraphChi
+ * programs modify the vertex and edge data in place, each execution works on a private {@link Checkout} of a cache
+ * entry. Whenever the cache exceeds its disk budget, the least recently used entries are evicted.
+ * <p>The cache directory may be shared by several instances, jobs, and processes. Shards are created in a staging
+ * directory and then atomically moved into place, so that incomplete entries are never visible. Lookups and evictions
+ * hold both a JVM-wide lock and a file lock on the cache directory. The shards are copied into a {@link Checkout}
+ * without these locks, though. Instead, the {@link Checkout} pins its cache entry while copying, and evictions skip
+ * pinned entries. Each {@link Checkout} holds a file lock on itself, so that leftovers of crashed processes can be
+ * told apart from {@link Checkout}s in use and are removed once an instance first accesses the cache.</p>
+ */
+public class ShardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardCache.class);
+
+    /**
+     * Name of the file that marks a complete cache entry. Its modification time tells when the entry was last used.
+     */
+    private static final String COMPLETION_MARKER = "complete";
+
+    /**
+     * Name of the graph within its cache entry, from which GraphChi derives the names of its files.
+     */
+    private static final String GRAPH_NAME = "graph";
+
+    /**
+     * Name of the directory that contains the {@link Checkout}s. It is not a cache entry.
+     */
+    private static final String CHECKOUTS_DIRECTORY = ".checkouts";
+
+    /**
+     * Name of the directory in which shards are created before they are moved into their cache entries. It is not
+     * a cache entry.
+     */
+    private static final String STAGING_DIRECTORY = ".staging";
+
+    /**
+     * Name of the file that is locked for accesses to the cache entries. {@link Checkout}s also have such a file,
+     * which is locked as long as they are in use.
+     */
+    private static final String LOCK_FILE = ".lock";
+
+    /**
+     * Name of the file that marks a {@link Checkout} whose shards are still being copied. As long as it exists, the
+     * cache entry of the {@link Checkout} is pinned.
+     */
+    private static final String COPY_MARKER = ".copying";
+
+    /**
+     * Serializes the accesses to cache entries within this JVM. This is required in addition to the file lock,
+     * which is held on behalf of the whole JVM.
+     */
+    private static final Object JVM_LOCK = new Object();
+
+    /**
+     * Directories of the {@link Checkout}s in use within this JVM. Their file locks must not be probed, because
+     * closing any other channel to a lock file can release the lock of the whole JVM.
+     */
+    private static final Set<Path> CHECKOUTS_IN_USE = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Callback to create the shards of a graph.
+     */
+    @FunctionalInterface
+    public interface Sharder {
+
+        /**
+         * Create the shards for the graph with the given name.
+         */
+        void shard(String graphName) throws IOException;
+
+    }
+
+    /**
+     * An action on the cache entries that requires the cache lock.
+     */
+    @FunctionalInterface
+    private interface LockedAction<T> {
+
+        T execute() throws IOException;
+
+    }
+
+    private final Path directory;
+
+    private final long maxBytes;
+
+    /**
+     * Whether this instance has removed the leftover {@link Checkout}s of crashed processes already.
+     */
+    private boolean isRemovedStaleCheckouts = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory in which the shards should be cached
+     * @param maxBytes  the disk budget of the cache
+     */
+    public ShardCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Creates a new instance as specified in the {@link Configuration}, i.e., via
+     * {@code rheem.graphchi.shard-cache.dir} (defaults to a directory in {@code java.io.tmpdir}) and
+     * {@code rheem.graphchi.shard-cache.max-bytes}.
+     */
+    public static ShardCache create(Configuration configuration) {
+        final String directory = configuration.getOptionalStringProperty("rheem.graphchi.shard-cache.dir")
+                .orElse(new File(System.getProperty("java.io.tmpdir"), "rheem-graphchi-shards").toString());
+        final long maxBytes = configuration.getLongProperty("rheem.graphchi.shard-cache.max-bytes");
+        return new ShardCache(Paths.get(directory), maxBytes);
+    }
+
+    /**
+     * Provides a private copy of the shards of the given input file and creates the shards if they are not cached yet.
+     *
+     * @param inputUrl   URL of the input file to be sharded
+     * @param numShards  the number of shards
+     * @param shardingId describes the initial vertex and edge values created by the {@code sharder} and their types
+     * @param sharder    creates the shards if they are not cached
+     * @return the {@link Checkout}, which should be closed after the GraphChi execution
+     */
+    public Checkout checkOut(String inputUrl, int numShards, String shardingId, Sharder sharder)
+            throws IOException {
+        final FileSystem fileSystem = FileSystems.getFileSystem(inputUrl).orElseThrow(
+                () -> new RheemException(String.format("Cannot access %s.", inputUrl))
+        );
+        final String key = createKey(
+                inputUrl, fileSystem.getFileSize(inputUrl), fileSystem.getModificationTime(inputUrl), numShards, shardingId
+        );
+        final Path entry = this.directory.resolve(key);
+        final Path completionMarker = entry.resolve(COMPLETION_MARKER);
+
+        final Checkout cachedCheckout = this.withLock(() -> {
+            if (!Files.exists(completionMarker)) return null;
+            logger.info("Found cached shards for {} in {}.", inputUrl, entry);
+            Files.setLastModifiedTime(completionMarker, FileTime.fromMillis(System.currentTimeMillis()));
+            return this.createCheckout(key);
+        });
+        if (cachedCheckout != null) return this.fill(cachedCheckout, entry);
+
+        // Create the shards without holding the lock, so that other graphs can be accessed in the meantime.
+        final Path stagingDirectory = Files.createTempDirectory(
+                Files.createDirectories(this.directory.resolve(STAGING_DIRECTORY)), key
+        );
+        final Checkout checkout;
+        try {
+            sharder.shard(stagingDirectory.resolve(GRAPH_NAME).toString());
+            Files.createFile(stagingDirectory.resolve(COMPLETION_MARKER));
+            checkout = this.withLock(() -> {
+                if (Files.exists(completionMarker)) {
+                    logger.info("Discarding shards for {}, as they have been cached concurrently.", inputUrl);
+                    Files.setLastModifiedTime(completionMarker, FileTime.fromMillis(System.currentTimeMillis()));
+                } else {
+                    // Remove any leftovers of an incomplete entry before moving the shards into place.
+                    delete(entry);
+                    Files.move(stagingDirectory, entry, StandardCopyOption.ATOMIC_MOVE);
+                    this.evict(entry);
+                }
+                return this.createCheckout(key);
+            });
+        } finally {
+            delete(stagingDirectory);
+        }
+        return this.fill(checkout, entry);
+    }
+
+    /**
+     * Executes the given {@link LockedAction} while holding the JVM-wide lock and the file lock of the cache.
+     */
+    private <T> T withLock(LockedAction<T> action) throws IOException {
+        synchronized (JVM_LOCK) {
+            Files.createDirectories(this.directory);
+            try (FileChannel lockChannel = FileChannel.open(
+                    this.directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockChannel.lock()) {
+                if (!this.isRemovedStaleCheckouts) {
+                    this.removeStaleCheckouts();
+                    this.isRemovedStaleCheckouts = true;
+                }
+                return action.execute();
+            }
+        }
+    }
+
+    /**
+     * Creates an empty {@link Checkout} that pins the cache entry with the given key. The cache lock must be held.
+     */
+    private Checkout createCheckout(String key) throws IOException {
+        final Path checkoutsDirectory = Files.createDirectories(this.directory.resolve(CHECKOUTS_DIRECTORY));
+        final Checkout checkout = new Checkout(Files.createTempDirectory(checkoutsDirectory, key + "."));
+        try {
+            Files.createFile(checkout.directory.resolve(COPY_MARKER));
+        } catch (IOException | RuntimeException e) {
+            checkout.close();
+            throw e;
+        }
+        return checkout;
+    }
+
+    /**
+     * Copies the shards of the given cache entry into the {@link Checkout}, which pins that cache entry, and then
+     * unpins it. The cache lock is not required.
+     */
+    private Checkout fill(Checkout checkout, Path entry) throws IOException {
+        try {
+            copy(entry, checkout.directory);
+            Files.delete(checkout.directory.resolve(COPY_MARKER));
+        } catch (IOException | RuntimeException e) {
+            checkout.close();
+            throw e;
+        }
+        return checkout;
+    }
+
+    /**
+     * Removes the {@link Checkout}s that are not in use anymore but have not been closed, e.g., because their
+     * processes crashed. The cache lock must be held.
+     */
+    private void removeStaleCheckouts() throws IOException {
+        for (Path checkoutDirectory : this.listCheckoutDirectories()) {
+            if (isInUse(checkoutDirectory)) continue;
+            logger.info("Removing stale shard checkout {}.", checkoutDirectory);
+            try {
+                delete(checkoutDirectory);
+            } catch (IOException e) {
+                logger.warn("Could not remove stale shard checkout {}.", checkoutDirectory, e);
+            }
+        }
+    }
+
+    private List<Path> listCheckoutDirectories() throws IOException {
+        final Path checkoutsDirectory = this.directory.resolve(CHECKOUTS_DIRECTORY);
+        if (!Files.isDirectory(checkoutsDirectory)) return Collections.emptyList();
+        try (Stream<Path> children = Files.list(checkoutsDirectory)) {
+            return children.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Tells whether the {@link Checkout} in the given directory is in use, i.e., whether some process holds its
+     * file lock.
+     */
+    private static boolean isInUse(Path checkoutDirectory) throws IOException {
+        if (CHECKOUTS_IN_USE.contains(checkoutDirectory.toAbsolutePath().normalize())) return true;
+        final Path lockFile = checkoutDirectory.resolve(LOCK_FILE);
+        if (!Files.exists(lockFile)) return false;
+        try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+            try (FileLock lock = lockChannel.tryLock()) {
+                return lock == null;
+            } catch (OverlappingFileLockException e) {
+                return true;
+            }
+        } catch (NoSuchFileException e) {
+            // The Checkout has just been closed.
+            return false;
+        }
+    }
+
+    /**
+     * Collects the keys of the cache entries that are pinned by {@link Checkout}s in use. The cache lock must be held.
+     */
+    private Set<String> collectPinnedKeys() throws IOException {
+        final Set<String> pinnedKeys = new HashSet<>();
+        for (Path checkoutDirectory : this.listCheckoutDirectories()) {
+            if (Files.exists(checkoutDirectory.resolve(COPY_MARKER)) && isInUse(checkoutDirectory)) {
+                final String checkoutName = checkoutDirectory.getFileName().toString();
+                pinnedKeys.add(checkoutName.substring(0, checkoutName.indexOf('.')));
+            }
+        }
+        return pinnedKeys;
+    }
+
+    /**
+     * Creates a cache key for the given input characteristics.
+     */
+    private static String createKey(String inputUrl, long fileSize, long modificationTime, int numShards,
+                                    String shardingId) {
+        final String description = String.format(
+                "%s|%d|%d|%d|%s", inputUrl, fileSize, modificationTime, numShards, shardingId
+        );
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                sb.append(String.format("%02x", digest[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RheemException("Could not create shard cache key.", e);
+        }
+    }
+
+    /**
+     * Evicts the least recently used cache entries until the cache fits into its disk budget. The cache lock must be
+     * held.
+     *
+     * @param retainedEntry cache entry that should not be evicted
+     */
+    private void evict(Path retainedEntry) throws IOException {
+        final List<Path> entries;
+        try (Stream<Path> children = Files.list(this.directory)) {
+            entries = children
+                    .filter(Files::isDirectory)
+                    .filter(child -> !child.getFileName().toString().startsWith("."))
+                    .collect(Collectors.toList());
+        }
+        final Map<Path, Long> entrySizes = new HashMap<>();
+        final Map<Path, Long> entryLastUses = new HashMap<>();
+        long totalBytes = 0L;
+        for (Path entry : entries) {
+            final long size = getSize(entry);
+            entrySizes.put(entry, size);
+            final Path completionMarker = entry.resolve(COMPLETION_MARKER);
+            entryLastUses.put(entry, Files.exists(completionMarker) ?
+                    Files.getLastModifiedTime(completionMarker).toMillis() :
+                    Long.MIN_VALUE);
+            totalBytes += size;
+        }
+
+        entries.sort(Comparator.comparing(entryLastUses::get));
+        final Set<String> pinnedKeys = this.collectPinnedKeys();
+        for (Path entry : entries) {
+            if (totalBytes <= this.maxBytes) break;
+            if (entry.equals(retainedEntry) || pinnedKeys.contains(entry.getFileName().toString())) continue;
+            logger.info("Evicting cached shards in {}.", entry);
+            delete(entry);
+            totalBytes -= entrySizes.get(entry);
+        }
+        if (totalBytes > this.maxBytes) {
+            logger.warn("Shard cache in {} exceeds its budget of {} bytes.", this.directory, this.maxBytes);
+        }
+    }
+
+    private static long getSize(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                final Path targetFile = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(targetFile);
+                } else {
+                    Files.copy(file, targetFile);
+                }
+            }
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (!Files.exists(path)) return;
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * A private copy of cached shards, on which a GraphChi program can modify vertex and edge data without affecting
+     * the cache or other executions. Closing it deletes the copy.
+     */
+    public static class Checkout implements AutoCloseable {
+
+        private final Path directory;
+
+        /**
+         * Marks this instance as in use until it is closed.
+         */
+        private final FileChannel lockChannel;
+
+        private Checkout(Path directory) throws IOException {
+            this.directory = directory;
+            this.lockChannel = FileChannel.open(
+                    directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            );
+            try {
+                this.lockChannel.lock();
+            } catch (IOException | RuntimeException e) {
+                this.lockChannel.close();
+                throw e;
+            }
+            CHECKOUTS_IN_USE.add(directory.toAbsolutePath().normalize());
+        }
+
+        /**
+         * @return the graph name to pass to GraphChi
+         */
+        public String getGraphName() {
+            return this.directory.resolve(GRAPH_NAME).toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.lockChannel.isOpen()) return;
+            try (Stream<Path> files = Files.list(this.directory)) {
+                for (Path file : files.filter(file -> !file.getFileName().toString().equals(LOCK_FILE))
+                        .collect(Collectors.toList())) {
+                    delete(file);
+                }
+            }
+            // Release the lock only now, so that the remaining files are not mistaken for a stale Checkout.
+            this.lockChannel.close();
+            CHECKOUTS_IN_USE.remove(this.directory.toAbsolutePath().normalize());
+            Files.deleteIfExists(this.directory.resolve(LOCK_FILE));
+            Files.deleteIfExists(this.directory);
+        }
+    }
+
+}
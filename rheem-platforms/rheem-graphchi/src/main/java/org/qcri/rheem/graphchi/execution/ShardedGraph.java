@@ -0,0 +1,103 @@
+package org.qcri.rheem.graphchi.execution;
+
+import edu.cmu.graphchi.preprocessing.FastSharder;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Describes an edge list file that has been sharded for GraphChi, so that a GraphChi engine can be run on it. The
+ * shards are a private {@link ShardCache.Checkout}, which is deleted when this instance is closed.
+ */
+public class ShardedGraph implements AutoCloseable {
+
+    /**
+     * Creates the {@link FastSharder} for a graph.
+     */
+    @FunctionalInterface
+    public interface SharderFactory {
+
+        FastSharder<?, ?> create(String graphName, int numShards) throws IOException;
+
+    }
+
+    private final ShardCache.Checkout checkout;
+
+    private final int numShards;
+
+    private final long inputSize;
+
+    private ShardedGraph(ShardCache.Checkout checkout, int numShards, long inputSize) {
+        this.checkout = checkout;
+        this.numShards = numShards;
+        this.inputSize = inputSize;
+    }
+
+    /**
+     * Describes the sharding for a {@link ShardCache} key, so that shards are only shared among executions that
+     * expect the same initial vertex and edge values.
+     *
+     * @param programClass     the GraphChi program to be run on the shards
+     * @param vertexValueClass the type of the vertex values
+     * @param edgeValueClass   the type of the edge values
+     * @return the sharding description
+     */
+    public static String describeSharding(Class<?> programClass, Class<?> vertexValueClass, Class<?> edgeValueClass) {
+        return String.format("%s<%s,%s>", programClass.getName(), vertexValueClass.getName(), edgeValueClass.getName());
+    }
+
+    /**
+     * Shards the edge list in the given {@link FileChannel.Instance} or reuses cached shards (see {@link ShardCache}).
+     *
+     * @param inputFileChannelInstance contains the edge list
+     * @param shardingId               describes the sharding (see {@link #describeSharding(Class, Class, Class)})
+     * @param sharderFactory           creates the {@link FastSharder} that determines the vertex and edge values
+     * @param configuration            provides the {@link ShardCache} settings
+     * @return the new instance
+     */
+    public static ShardedGraph create(FileChannel.Instance inputFileChannelInstance,
+                                      String shardingId,
+                                      SharderFactory sharderFactory,
+                                      Configuration configuration) throws IOException {
+        final String inputPath = inputFileChannelInstance.getSinglePath();
+        final String actualInputPath = FileSystems.findActualSingleInputPath(inputPath);
+        final FileSystem inputFs = FileSystems.getFileSystem(inputPath).get();
+        final long inputSize = inputFs.getFileSize(actualInputPath);
+
+        // As suggested by GraphChi, we propose to use approximately 1 shard per 1,000,000 edges.
+        final int numShards = 2 + (int) (inputSize / (10 * 1000000));
+        final ShardCache.Checkout checkout = ShardCache.create(configuration).checkOut(
+                actualInputPath, numShards, shardingId, name -> {
+                    FastSharder<?, ?> sharder = sharderFactory.create(name, numShards);
+                    try (InputStream inputStream = inputFs.open(actualInputPath)) {
+                        sharder.shard(inputStream, FastSharder.GraphInputFormat.EDGELIST);
+                    }
+                });
+        return new ShardedGraph(checkout, numShards, inputSize);
+    }
+
+    public String getGraphName() {
+        return this.checkout.getGraphName();
+    }
+
+    public int getNumShards() {
+        return this.numShards;
+    }
+
+    /**
+     * @return the size of the sharded edge list file in bytes
+     */
+    public long getInputSize() {
+        return this.inputSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.checkout.close();
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.qcri.rheem.graphchi.mappings;
+
+import org.qcri.rheem.basic.operators.ConnectedComponentsOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.operators.GraphChiConnectedComponentsOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Maps {@link ConnectedComponentsOperator}s to {@link GraphChiConnectedComponentsOperator}s.
+ */
+public class ConnectedComponentsMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        GraphChiPlatform.getInstance()
+                )
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "connectedComponents", new ConnectedComponentsOperator(1), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ConnectedComponentsOperator>(
+                (matchedOperator, epoch) -> new GraphChiConnectedComponentsOperator(matchedOperator).at(epoch)
+        );
+    }
+
+}
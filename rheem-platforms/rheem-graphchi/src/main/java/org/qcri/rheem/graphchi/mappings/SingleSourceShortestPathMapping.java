@@ -0,0 +1,40 @@
+package org.qcri.rheem.graphchi.mappings;
+
+import org.qcri.rheem.basic.operators.SingleSourceShortestPathOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.operators.GraphChiSingleSourceShortestPathOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Maps {@link SingleSourceShortestPathOperator}s to {@link GraphChiSingleSourceShortestPathOperator}s.
+ */
+public class SingleSourceShortestPathMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        GraphChiPlatform.getInstance()
+                )
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "singleSourceShortestPath", new SingleSourceShortestPathOperator(0, 1), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<SingleSourceShortestPathOperator>(
+                (matchedOperator, epoch) -> new GraphChiSingleSourceShortestPathOperator(matchedOperator).at(epoch)
+        );
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.qcri.rheem.graphchi.mappings;
+
+import org.qcri.rheem.basic.operators.TriangleCountOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.operators.GraphChiTriangleCountOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Maps {@link TriangleCountOperator}s to {@link GraphChiTriangleCountOperator}s.
+ */
+public class TriangleCountMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        GraphChiPlatform.getInstance()
+                )
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "triangleCount", new TriangleCountOperator(), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<TriangleCountOperator>(
+                (matchedOperator, epoch) -> new GraphChiTriangleCountOperator(matchedOperator).at(epoch)
+        );
+    }
+
+}
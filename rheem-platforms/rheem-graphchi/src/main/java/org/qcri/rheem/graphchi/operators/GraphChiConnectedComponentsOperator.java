@@ -0,0 +1,169 @@
+package org.qcri.rheem.graphchi.operators;
+
+import edu.cmu.graphchi.ChiVertex;
+import edu.cmu.graphchi.GraphChiContext;
+import edu.cmu.graphchi.GraphChiProgram;
+import edu.cmu.graphchi.datablocks.IntConverter;
+import edu.cmu.graphchi.engine.GraphChiEngine;
+import edu.cmu.graphchi.engine.VertexInterval;
+import edu.cmu.graphchi.preprocessing.FastSharder;
+import edu.cmu.graphchi.preprocessing.VertexIdTranslate;
+import edu.cmu.graphchi.vertexdata.VertexAggregator;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.ConnectedComponentsOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.ShardedGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Connected components {@link Operator} implementation for the {@link GraphChiPlatform}. It propagates the minimum
+ * vertex ID through the graph, whereby only vertices whose neighborhood has changed are scheduled for the next
+ * iteration. It outputs {@code (vertex ID, component ID)} pairs preferably as an object file, so that consumers need
+ * not parse them.
+ */
+public class GraphChiConnectedComponentsOperator extends ConnectedComponentsOperator implements GraphChiOperator {
+
+    public GraphChiConnectedComponentsOperator(int maxNumIterations) {
+        super(maxNumIterations);
+    }
+
+    public GraphChiConnectedComponentsOperator(ConnectedComponentsOperator that) {
+        super(that.getMaxNumIterations());
+    }
+
+    @Override
+    public void execute(ChannelInstance[] inputChannelInstances, ChannelInstance[] outputChannelInstances,
+                        Configuration configuration) {
+        assert inputChannelInstances.length == this.getNumInputs();
+        assert outputChannelInstances.length == this.getNumOutputs();
+
+        final FileChannel.Instance inputFileChannelInstance = (FileChannel.Instance) inputChannelInstances[0];
+        final FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance) outputChannelInstances[0];
+        try {
+            this.runGraphChi(inputFileChannelInstance, outputFileChannelInstance, configuration);
+        } catch (IOException e) {
+            throw new RheemException(String.format("Running %s failed.", this), e);
+        }
+    }
+
+    private void runGraphChi(FileChannel.Instance inputFileChannelInstance, FileChannel.Instance outputFileChannelInstance,
+                             Configuration configuration)
+            throws IOException {
+
+        // Create shards or reuse cached ones. GraphChi runs on a private copy of them.
+        try (ShardedGraph graph = ShardedGraph.create(
+                inputFileChannelInstance,
+                ShardedGraph.describeSharding(LabelPropagation.class, Integer.class, Integer.class),
+                GraphChiConnectedComponentsOperator::createSharder,
+                configuration)) {
+
+            // Run GraphChi.
+            GraphChiEngine<Integer, Integer> engine = new GraphChiEngine<>(graph.getGraphName(), graph.getNumShards());
+            engine.setEdataConverter(new IntConverter());
+            engine.setVertexDataConverter(new IntConverter());
+            engine.setEnableScheduler(true);
+            engine.run(new LabelPropagation(), this.maxNumIterations);
+
+            // Output results. The component IDs are internal vertex IDs, so we translate them, too.
+            try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, configuration)) {
+                VertexIdTranslate trans = engine.getVertexIdTranslate();
+                VertexAggregator.foreach(engine.numVertices(), graph.getGraphName(), new IntConverter(),
+                        (vertexId, label) -> writer.write(new Tuple2<>(trans.backward(vertexId), trans.backward(label))));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Initialize the sharder-program. Edges start with the greatest possible label.
+     */
+    protected static FastSharder<Integer, Integer> createSharder(String graphName, int numShards) throws IOException {
+        return new FastSharder<>(
+                graphName,
+                numShards,
+                (vertexId, token) -> vertexId,
+                (from, to, token) -> Integer.MAX_VALUE,
+                new IntConverter(),
+                new IntConverter());
+    }
+
+    /**
+     * {@link GraphChiProgram} that labels each vertex with the minimum vertex ID in its neighborhood. Each edge holds
+     * the minimum label of its two vertices.
+     */
+    private static class LabelPropagation implements GraphChiProgram<Integer, Integer> {
+
+        @Override
+        public void update(ChiVertex<Integer, Integer> vertex, GraphChiContext context) {
+            final boolean isFirstIteration = context.getIteration() == 0;
+            int label = isFirstIteration ? vertex.getId() : vertex.getValue();
+            for (int i = 0; i < vertex.numEdges(); i++) {
+                label = Math.min(label, vertex.edge(i).getValue());
+            }
+
+            if (isFirstIteration || label != vertex.getValue()) {
+                vertex.setValue(label);
+                for (int i = 0; i < vertex.numEdges(); i++) {
+                    if (vertex.edge(i).getValue() > label) {
+                        vertex.edge(i).setValue(label);
+                        context.getScheduler().addTask(vertex.edge(i).getVertexId());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beginIteration(GraphChiContext ctx) {
+        }
+
+        @Override
+        public void endIteration(GraphChiContext ctx) {
+        }
+
+        @Override
+        public void beginInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void beginSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+    }
+
+    @Override
+    public Platform getPlatform() {
+        return GraphChiPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Arrays.asList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+}
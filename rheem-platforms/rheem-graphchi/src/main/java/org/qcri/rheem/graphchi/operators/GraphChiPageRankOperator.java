@@ -1,6 +1,5 @@
 package org.qcri.rheem.graphchi.operators;
 
-import edu.cmu.graphchi.ChiFilenames;
 import edu.cmu.graphchi.apps.Pagerank;
 import edu.cmu.graphchi.datablocks.FloatConverter;
 import edu.cmu.graphchi.engine.GraphChiEngine;
@@ -8,6 +7,8 @@ import edu.cmu.graphchi.preprocessing.FastSharder;
 import edu.cmu.graphchi.preprocessing.VertexIdTranslate;
 import edu.cmu.graphchi.vertexdata.VertexAggregator;
 import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.operators.PageRankOperator;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
@@ -15,18 +16,20 @@ import org.qcri.rheem.core.plan.rheemplan.Operator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.Platform;
-import org.qcri.rheem.core.util.fs.FileSystem;
-import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.ShardedGraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * PageRank {@link Operator} implementation for the {@link GraphChiPlatform}.
+ * PageRank {@link Operator} implementation for the {@link GraphChiPlatform}. It outputs {@code (vertex ID, page rank)}
+ * pairs preferably as an object file, so that consumers need not parse them.
  */
 public class GraphChiPageRankOperator extends PageRankOperator implements GraphChiOperator {
 
@@ -59,50 +62,29 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
                              Configuration configuration)
             throws IOException {
 
-        final String inputPath = inputFileChannelInstance.getSinglePath();
-        final String actualInputPath = FileSystems.findActualSingleInputPath(inputPath);
-        final FileSystem inputFs = FileSystems.getFileSystem(inputPath).get();
-
-        // Create shards.
-        final File tempFile = File.createTempFile("rheem-graphchi", "graph");
-        tempFile.deleteOnExit();
-        String graphName = tempFile.toString();
-        // As suggested by GraphChi, we propose to use approximately 1 shard per 1,000,000 edges.
-        final int numShards = 2 + (int) inputFs.getFileSize(actualInputPath) / (10 * 1000000);
-        if (!new File(ChiFilenames.getFilenameIntervals(graphName, numShards)).exists()) {
-            FastSharder sharder = createSharder(graphName, numShards);
-            final InputStream inputStream = inputFs.open(actualInputPath);
-            sharder.shard(inputStream, FastSharder.GraphInputFormat.EDGELIST);
-        } else {
-            this.logger.info("Found shards -- no need to preprocess");
-        }
-
-        // Run GraphChi.
-        GraphChiEngine<Float, Float> engine = new GraphChiEngine<>(graphName, numShards);
-        engine.setEdataConverter(new FloatConverter());
-        engine.setVertexDataConverter(new FloatConverter());
-        engine.setModifiesInedges(false); // Important optimization
-        engine.run(new Pagerank(), this.numIterations);
-
-        // Output results.
-        final String path = outputFileChannelInstance.addGivenOrTempPath(null, configuration);
-        final FileSystem outFs = FileSystems.getFileSystem(path).get();
-        try (final OutputStreamWriter writer = new OutputStreamWriter(outFs.create(outputFileChannelInstance.getSinglePath()))) {
-            VertexIdTranslate trans = engine.getVertexIdTranslate();
-            VertexAggregator.foreach(engine.numVertices(), graphName, new FloatConverter(),
-                    (vertexId, vertexValue) -> {
-                        try {
-                            writer.write(String.valueOf(trans.backward(vertexId)));
-                            writer.write('\t');
-                            writer.write(String.valueOf(vertexValue));
-                            writer.write('\n');
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-
-                    });
-        } catch (UncheckedIOException e) {
-            throw e.getCause();
+        // Create shards or reuse cached ones. GraphChi runs on a private copy of them.
+        try (ShardedGraph graph = ShardedGraph.create(
+                inputFileChannelInstance,
+                ShardedGraph.describeSharding(Pagerank.class, Float.class, Float.class),
+                GraphChiPageRankOperator::createSharder,
+                configuration)) {
+
+            // Run GraphChi.
+            GraphChiEngine<Float, Float> engine = new GraphChiEngine<>(graph.getGraphName(), graph.getNumShards());
+            engine.setEdataConverter(new FloatConverter());
+            engine.setVertexDataConverter(new FloatConverter());
+            engine.setModifiesInedges(false); // Important optimization
+            // The first GraphChi iteration only initializes the page ranks.
+            engine.run(new Pagerank(), this.numIterations + 1);
+
+            // Output results.
+            try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, configuration)) {
+                VertexIdTranslate trans = engine.getVertexIdTranslate();
+                VertexAggregator.foreach(engine.numVertices(), graph.getGraphName(), new FloatConverter(),
+                        (vertexId, vertexValue) -> writer.write(new Tuple2<>(trans.backward(vertexId), vertexValue)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
         }
     }
 
@@ -139,7 +121,7 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
 
     @Override
     public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
-        return Collections.singletonList(FileChannel.HDFS_TSV_DESCRIPTOR);
+        return Arrays.asList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, FileChannel.HDFS_TSV_DESCRIPTOR);
     }
 
 }
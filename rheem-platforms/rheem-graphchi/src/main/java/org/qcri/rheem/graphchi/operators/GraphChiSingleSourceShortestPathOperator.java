@@ -0,0 +1,180 @@
+package org.qcri.rheem.graphchi.operators;
+
+import edu.cmu.graphchi.ChiVertex;
+import edu.cmu.graphchi.GraphChiContext;
+import edu.cmu.graphchi.GraphChiProgram;
+import edu.cmu.graphchi.datablocks.FloatConverter;
+import edu.cmu.graphchi.engine.GraphChiEngine;
+import edu.cmu.graphchi.engine.VertexInterval;
+import edu.cmu.graphchi.preprocessing.FastSharder;
+import edu.cmu.graphchi.preprocessing.VertexIdTranslate;
+import edu.cmu.graphchi.vertexdata.VertexAggregator;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.SingleSourceShortestPathOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.ShardedGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-source shortest path {@link Operator} implementation for the {@link GraphChiPlatform}. It relaxes the
+ * distances along the outgoing edges, whereby only vertices whose incoming distances have changed are scheduled for
+ * the next iteration. It outputs {@code (vertex ID, distance)} pairs preferably as an object file, so that consumers
+ * need not parse them.
+ */
+public class GraphChiSingleSourceShortestPathOperator extends SingleSourceShortestPathOperator implements GraphChiOperator {
+
+    public GraphChiSingleSourceShortestPathOperator(int sourceVertexId, int maxNumIterations) {
+        super(sourceVertexId, maxNumIterations);
+    }
+
+    public GraphChiSingleSourceShortestPathOperator(SingleSourceShortestPathOperator that) {
+        super(that.getSourceVertexId(), that.getMaxNumIterations());
+    }
+
+    @Override
+    public void execute(ChannelInstance[] inputChannelInstances, ChannelInstance[] outputChannelInstances,
+                        Configuration configuration) {
+        assert inputChannelInstances.length == this.getNumInputs();
+        assert outputChannelInstances.length == this.getNumOutputs();
+
+        final FileChannel.Instance inputFileChannelInstance = (FileChannel.Instance) inputChannelInstances[0];
+        final FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance) outputChannelInstances[0];
+        try {
+            this.runGraphChi(inputFileChannelInstance, outputFileChannelInstance, configuration);
+        } catch (IOException e) {
+            throw new RheemException(String.format("Running %s failed.", this), e);
+        }
+    }
+
+    private void runGraphChi(FileChannel.Instance inputFileChannelInstance, FileChannel.Instance outputFileChannelInstance,
+                             Configuration configuration)
+            throws IOException {
+
+        // Create shards or reuse cached ones. GraphChi runs on a private copy of them.
+        try (ShardedGraph graph = ShardedGraph.create(
+                inputFileChannelInstance,
+                ShardedGraph.describeSharding(DistanceRelaxation.class, Float.class, Float.class),
+                GraphChiSingleSourceShortestPathOperator::createSharder,
+                configuration)) {
+
+            // Run GraphChi.
+            GraphChiEngine<Float, Float> engine = new GraphChiEngine<>(graph.getGraphName(), graph.getNumShards());
+            engine.setEdataConverter(new FloatConverter());
+            engine.setVertexDataConverter(new FloatConverter());
+            engine.setModifiesInedges(false); // Only the outgoing edges carry new distances.
+            engine.setEnableScheduler(true);
+            VertexIdTranslate trans = engine.getVertexIdTranslate();
+            engine.run(new DistanceRelaxation(trans.forward(this.sourceVertexId)), this.maxNumIterations);
+
+            // Output results.
+            try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, configuration)) {
+                VertexAggregator.foreach(engine.numVertices(), graph.getGraphName(), new FloatConverter(),
+                        (vertexId, distance) -> writer.write(new Tuple2<>(trans.backward(vertexId), distance)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Initialize the sharder-program. Edges start with an infinite distance.
+     */
+    protected static FastSharder<Float, Float> createSharder(String graphName, int numShards) throws IOException {
+        return new FastSharder<>(
+                graphName,
+                numShards,
+                (vertexId, token) -> Float.POSITIVE_INFINITY,
+                (from, to, token) -> Float.POSITIVE_INFINITY,
+                new FloatConverter(),
+                new FloatConverter());
+    }
+
+    /**
+     * {@link GraphChiProgram} that computes the distance of each vertex from a source vertex. Each edge holds the
+     * distance of its source vertex.
+     */
+    private static class DistanceRelaxation implements GraphChiProgram<Float, Float> {
+
+        /**
+         * The internal ID of the source vertex.
+         */
+        private final int sourceVertexId;
+
+        private DistanceRelaxation(int sourceVertexId) {
+            this.sourceVertexId = sourceVertexId;
+        }
+
+        @Override
+        public void update(ChiVertex<Float, Float> vertex, GraphChiContext context) {
+            final boolean isFirstIteration = context.getIteration() == 0;
+            final float oldDistance = isFirstIteration ? Float.POSITIVE_INFINITY : vertex.getValue();
+            float distance = vertex.getId() == this.sourceVertexId ? 0f : oldDistance;
+            for (int i = 0; i < vertex.numInEdges(); i++) {
+                distance = Math.min(distance, vertex.inEdge(i).getValue() + 1f);
+            }
+
+            if (isFirstIteration || distance < oldDistance) {
+                vertex.setValue(distance);
+            }
+            if (distance < oldDistance) {
+                for (int i = 0; i < vertex.numOutEdges(); i++) {
+                    vertex.outEdge(i).setValue(distance);
+                    context.getScheduler().addTask(vertex.outEdge(i).getVertexId());
+                }
+            }
+        }
+
+        @Override
+        public void beginIteration(GraphChiContext ctx) {
+        }
+
+        @Override
+        public void endIteration(GraphChiContext ctx) {
+        }
+
+        @Override
+        public void beginInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void beginSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+    }
+
+    @Override
+    public Platform getPlatform() {
+        return GraphChiPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Arrays.asList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+}
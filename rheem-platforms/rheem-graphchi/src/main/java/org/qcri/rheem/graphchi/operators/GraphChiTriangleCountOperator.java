@@ -0,0 +1,242 @@
+package org.qcri.rheem.graphchi.operators;
+
+import edu.cmu.graphchi.ChiVertex;
+import edu.cmu.graphchi.GraphChiContext;
+import edu.cmu.graphchi.GraphChiProgram;
+import edu.cmu.graphchi.datablocks.IntConverter;
+import edu.cmu.graphchi.engine.GraphChiEngine;
+import edu.cmu.graphchi.engine.VertexInterval;
+import edu.cmu.graphchi.preprocessing.FastSharder;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.basic.operators.TriangleCountOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.ShardedGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Triangle counting {@link Operator} implementation for the {@link GraphChiPlatform}. Each triangle is counted at its
+ * middle vertex (w.r.t. the internal vertex IDs) by intersecting the higher neighbors of that vertex with those of
+ * the triangle's lowest vertex. To bound the memory footprint, the lowest vertices are processed in several pivot
+ * passes, each of which takes two GraphChi iterations: one to collect the neighbors of the pivots and one to
+ * intersect them with the neighbors of all other vertices.
+ */
+public class GraphChiTriangleCountOperator extends TriangleCountOperator implements GraphChiOperator {
+
+    public GraphChiTriangleCountOperator() {
+        super();
+    }
+
+    public GraphChiTriangleCountOperator(TriangleCountOperator that) {
+        super();
+    }
+
+    @Override
+    public void execute(ChannelInstance[] inputChannelInstances, ChannelInstance[] outputChannelInstances,
+                        Configuration configuration) {
+        assert inputChannelInstances.length == this.getNumInputs();
+        assert outputChannelInstances.length == this.getNumOutputs();
+
+        final FileChannel.Instance inputFileChannelInstance = (FileChannel.Instance) inputChannelInstances[0];
+        final FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance) outputChannelInstances[0];
+        try {
+            this.runGraphChi(inputFileChannelInstance, outputFileChannelInstance, configuration);
+        } catch (IOException e) {
+            throw new RheemException(String.format("Running %s failed.", this), e);
+        }
+    }
+
+    private void runGraphChi(FileChannel.Instance inputFileChannelInstance, FileChannel.Instance outputFileChannelInstance,
+                             Configuration configuration)
+            throws IOException {
+
+        // Create shards or reuse cached ones. GraphChi runs on a private copy of them.
+        try (ShardedGraph graph = ShardedGraph.create(
+                inputFileChannelInstance,
+                ShardedGraph.describeSharding(PivotedTriangleCounting.class, Integer.class, Integer.class),
+                GraphChiTriangleCountOperator::createSharder,
+                configuration)) {
+
+            // Run GraphChi.
+            final long inputBytesPerPass = configuration.getLongProperty("rheem.graphchi.trianglecount.input-bytes-per-pass");
+            final int numPivotPasses = (int) Math.max(1L, (graph.getInputSize() + inputBytesPerPass - 1) / inputBytesPerPass);
+            GraphChiEngine<Integer, Integer> engine = new GraphChiEngine<>(graph.getGraphName(), graph.getNumShards());
+            engine.setEdataConverter(new IntConverter());
+            engine.setVertexDataConverter(new IntConverter());
+            engine.setModifiesInedges(false);
+            engine.setModifiesOutedges(false);
+            final PivotedTriangleCounting program = new PivotedTriangleCounting(numPivotPasses);
+            engine.run(program, 2 * numPivotPasses);
+
+            // Output results.
+            try (FileChannelWriter writer = FileChannelWriter.create(outputFileChannelInstance, configuration)) {
+                writer.write(program.numTriangles.sum());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Initialize the sharder-program. Vertex and edge values are not used.
+     */
+    protected static FastSharder<Integer, Integer> createSharder(String graphName, int numShards) throws IOException {
+        return new FastSharder<>(
+                graphName,
+                numShards,
+                (vertexId, token) -> 0,
+                (from, to, token) -> 0,
+                new IntConverter(),
+                new IntConverter());
+    }
+
+    /**
+     * {@link GraphChiProgram} that counts triangles in pivot passes. In pass {@code p}, the pivots are the vertices
+     * {@code u} with {@code u % numPivotPasses == p}.
+     */
+    private static class PivotedTriangleCounting implements GraphChiProgram<Integer, Integer> {
+
+        private final int numPivotPasses;
+
+        /**
+         * Sorted higher neighbors of the pivots of the current pass.
+         */
+        private final Map<Integer, int[]> pivotNeighbors = new ConcurrentHashMap<>();
+
+        private final LongAdder numTriangles = new LongAdder();
+
+        private PivotedTriangleCounting(int numPivotPasses) {
+            this.numPivotPasses = numPivotPasses;
+        }
+
+        @Override
+        public void update(ChiVertex<Integer, Integer> vertex, GraphChiContext context) {
+            final int pass = context.getIteration() / 2;
+            final boolean isCollectingPivots = context.getIteration() % 2 == 0;
+            final int vertexId = vertex.getId();
+            if (isCollectingPivots) {
+                if (vertexId % this.numPivotPasses == pass) {
+                    this.pivotNeighbors.put(vertexId, getHigherNeighbors(vertex));
+                }
+                return;
+            }
+
+            // Count the triangles in which this vertex is the middle one and some pivot is the lowest one.
+            int[] higherNeighbors = null;
+            for (int i = 0; i < vertex.numEdges(); i++) {
+                final int neighborId = vertex.edge(i).getVertexId();
+                if (neighborId >= vertexId || neighborId % this.numPivotPasses != pass) continue;
+                final int[] pivotHigherNeighbors = this.pivotNeighbors.get(neighborId);
+                // Duplicate edges must not be counted several times.
+                if (pivotHigherNeighbors == null || !isFirstEdgeTo(vertex, i)) continue;
+                if (higherNeighbors == null) higherNeighbors = getHigherNeighbors(vertex);
+                this.numTriangles.add(countIntersection(pivotHigherNeighbors, higherNeighbors));
+            }
+        }
+
+        /**
+         * @return the sorted, distinct IDs of the neighbors of the given vertex with a higher ID
+         */
+        private static int[] getHigherNeighbors(ChiVertex<Integer, Integer> vertex) {
+            final int[] neighbors = new int[vertex.numEdges()];
+            int numNeighbors = 0;
+            for (int i = 0; i < vertex.numEdges(); i++) {
+                final int neighborId = vertex.edge(i).getVertexId();
+                if (neighborId > vertex.getId()) neighbors[numNeighbors++] = neighborId;
+            }
+            Arrays.sort(neighbors, 0, numNeighbors);
+            int numDistinctNeighbors = 0;
+            for (int i = 0; i < numNeighbors; i++) {
+                if (numDistinctNeighbors == 0 || neighbors[numDistinctNeighbors - 1] != neighbors[i]) {
+                    neighbors[numDistinctNeighbors++] = neighbors[i];
+                }
+            }
+            return Arrays.copyOf(neighbors, numDistinctNeighbors);
+        }
+
+        /**
+         * @return whether the {@code edgeIndex}-th edge of the given vertex is its first one to the adjacent vertex
+         */
+        private static boolean isFirstEdgeTo(ChiVertex<Integer, Integer> vertex, int edgeIndex) {
+            final int neighborId = vertex.edge(edgeIndex).getVertexId();
+            for (int i = 0; i < edgeIndex; i++) {
+                if (vertex.edge(i).getVertexId() == neighborId) return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return the number of common elements of two sorted, distinct arrays
+         */
+        private static int countIntersection(int[] a, int[] b) {
+            int count = 0;
+            for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void beginIteration(GraphChiContext ctx) {
+            if (ctx.getIteration() % 2 == 0) {
+                this.pivotNeighbors.clear();
+            }
+        }
+
+        @Override
+        public void endIteration(GraphChiContext ctx) {
+        }
+
+        @Override
+        public void beginInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void beginSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+
+        @Override
+        public void endSubInterval(GraphChiContext ctx, VertexInterval interval) {
+        }
+    }
+
+    @Override
+    public Platform getPlatform() {
+        return GraphChiPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,331 @@
+package org.qcri.rheem.graphchi.execution;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link ShardCache}.
+ */
+public class ShardCacheTest {
+
+    private Path tempDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        this.tempDirectory = Files.createTempDirectory("rheem-shard-cache-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.tempDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testReuseOfShards() throws IOException {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n2 1\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+        ShardCache.Sharder sharder = graphName -> {
+            numShardings.incrementAndGet();
+            Files.write(Paths.get(graphName + ".shard"), new byte[100]);
+        };
+
+        // Execute.
+        try (ShardCache.Checkout checkout1 = shardCache.checkOut(input.toUri().toString(), 2, "test", sharder);
+             ShardCache.Checkout checkout2 = shardCache.checkOut(input.toUri().toString(), 2, "test", sharder)) {
+            shardCache.checkOut(input.toUri().toString(), 3, "test", sharder).close();
+
+            // Verify the outcome.
+            Assert.assertEquals(2, numShardings.get());
+            Assert.assertTrue(Files.exists(Paths.get(checkout1.getGraphName() + ".shard")));
+            Assert.assertTrue(Files.exists(Paths.get(checkout2.getGraphName() + ".shard")));
+        }
+    }
+
+    @Test
+    public void testSeparationOfShardings() throws IOException {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+        ShardCache.Sharder sharder = graphName -> numShardings.incrementAndGet();
+
+        // Execute.
+        shardCache.checkOut(input.toUri().toString(), 2, "program1", sharder).close();
+        shardCache.checkOut(input.toUri().toString(), 2, "program2", sharder).close();
+        shardCache.checkOut(input.toUri().toString(), 2, "program1", sharder).close();
+
+        // Verify the outcome.
+        Assert.assertEquals(2, numShardings.get());
+    }
+
+    @Test
+    public void testIsolationOfCheckouts() throws IOException {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+        ShardCache.Sharder sharder = graphName -> Files.write(Paths.get(graphName + ".edata"), new byte[]{0});
+
+        // Execute: Modify the edge data of a first checkout as a GraphChi program would do.
+        final Path edgeData1;
+        try (ShardCache.Checkout checkout1 = shardCache.checkOut(input.toUri().toString(), 2, "test", sharder)) {
+            edgeData1 = Paths.get(checkout1.getGraphName() + ".edata");
+            Files.write(edgeData1, new byte[]{1});
+        }
+        final byte[] edgeData2;
+        try (ShardCache.Checkout checkout2 = shardCache.checkOut(input.toUri().toString(), 2, "test", sharder)) {
+            edgeData2 = Files.readAllBytes(Paths.get(checkout2.getGraphName() + ".edata"));
+        }
+
+        // Verify the outcome.
+        Assert.assertArrayEquals(new byte[]{0}, edgeData2);
+        Assert.assertFalse(Files.exists(edgeData1));
+    }
+
+    @Test
+    public void testInvalidationOnModification() throws IOException {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+        ShardCache.Sharder sharder = graphName -> numShardings.incrementAndGet();
+
+        // Execute.
+        shardCache.checkOut(input.toUri().toString(), 2, "test", sharder).close();
+        Files.write(input, "1 2\n2 3\n".getBytes());
+        shardCache.checkOut(input.toUri().toString(), 2, "test", sharder).close();
+
+        // Verify the outcome.
+        Assert.assertEquals(2, numShardings.get());
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        // Prepare test data.
+        final Path input1 = this.createInput("graph1.edgelist", "1 2\n");
+        final Path input2 = this.createInput("graph2.edgelist", "2 3\n");
+        final Path input3 = this.createInput("graph3.edgelist", "3 4\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 250L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+        ShardCache.Sharder sharder = graphName -> {
+            numShardings.incrementAndGet();
+            Files.write(Paths.get(graphName + ".shard"), new byte[100]);
+        };
+
+        // Execute: Use the first graph again before adding the third one, so that the second one is evicted.
+        shardCache.checkOut(input1.toUri().toString(), 2, "test", sharder).close();
+        shardCache.checkOut(input2.toUri().toString(), 2, "test", sharder).close();
+        this.ageCacheEntries(10000L);
+        shardCache.checkOut(input1.toUri().toString(), 2, "test", sharder).close();
+        shardCache.checkOut(input3.toUri().toString(), 2, "test", sharder).close();
+        Assert.assertEquals(3, numShardings.get());
+
+        // Verify the outcome: The first and third graph are still cached, the second one needs to be sharded again.
+        shardCache.checkOut(input1.toUri().toString(), 2, "test", sharder).close();
+        shardCache.checkOut(input3.toUri().toString(), 2, "test", sharder).close();
+        Assert.assertEquals(3, numShardings.get());
+        shardCache.checkOut(input2.toUri().toString(), 2, "test", sharder).close();
+        Assert.assertEquals(4, numShardings.get());
+    }
+
+    @Test
+    public void testFailedSharding() throws IOException {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+
+        // Execute.
+        try {
+            shardCache.checkOut(input.toUri().toString(), 2, "test", graphName -> {
+                numShardings.incrementAndGet();
+                throw new IOException("Sharding failed.");
+            });
+            Assert.fail();
+        } catch (IOException e) {
+            // Expected.
+        }
+        shardCache.checkOut(input.toUri().toString(), 2, "test", graphName -> numShardings.incrementAndGet()).close();
+
+        // Verify the outcome.
+        Assert.assertEquals(2, numShardings.get());
+    }
+
+    @Test
+    public void testEvictionDuringSharding() throws Exception {
+        // Prepare test data.
+        final Path input1 = this.createInput("graph1.edgelist", "1 2\n");
+        final Path input2 = this.createInput("graph2.edgelist", "2 3\n");
+        final CountDownLatch isSharding1 = new CountDownLatch(1);
+        final CountDownLatch isCheckedOut2 = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // Execute: While a first job shards a graph, a second job with its own instance caches another graph and
+        // thereby exceeds the budget.
+        try {
+            final Future<byte[]> shardContents1 = executor.submit(() -> {
+                ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 150L);
+                try (ShardCache.Checkout checkout = shardCache.checkOut(input1.toUri().toString(), 2, "test", graphName -> {
+                    Files.write(Paths.get(graphName + ".shard"), new byte[100]);
+                    isSharding1.countDown();
+                    try {
+                        isCheckedOut2.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                })) {
+                    return Files.readAllBytes(Paths.get(checkout.getGraphName() + ".shard"));
+                }
+            });
+            isSharding1.await();
+            ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 150L);
+            try (ShardCache.Checkout checkout = shardCache.checkOut(input2.toUri().toString(), 2, "test",
+                    graphName -> Files.write(Paths.get(graphName + ".shard"), new byte[100]))) {
+                Assert.assertTrue(Files.exists(Paths.get(checkout.getGraphName() + ".shard")));
+            }
+            isCheckedOut2.countDown();
+
+            // Verify the outcome.
+            Assert.assertEquals(100, shardContents1.get().length);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentCheckouts() throws Exception {
+        // Prepare test data.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        final int numJobs = 4;
+        final CyclicBarrier barrier = new CyclicBarrier(numJobs);
+        ExecutorService executor = Executors.newFixedThreadPool(numJobs);
+
+        // Execute: Each job uses its own instance, as GraphChi operators do.
+        final List<Future<Integer>> shardSizes = new ArrayList<>();
+        try {
+            for (int i = 0; i < numJobs; i++) {
+                shardSizes.add(executor.submit(() -> {
+                    barrier.await();
+                    ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L);
+                    try (ShardCache.Checkout checkout = shardCache.checkOut(input.toUri().toString(), 2, "test",
+                            graphName -> Files.write(Paths.get(graphName + ".shard"), new byte[100]))) {
+                        return Files.readAllBytes(Paths.get(checkout.getGraphName() + ".shard")).length;
+                    }
+                }));
+            }
+
+            // Verify the outcome.
+            for (Future<Integer> shardSize : shardSizes) {
+                Assert.assertEquals(100, (int) shardSize.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRemovalOfStaleCheckouts() throws IOException {
+        // Prepare test data: A checkout in use and the leftover of a crashed process, which holds no lock anymore.
+        final Path input = this.createInput("graph.edgelist", "1 2\n");
+        ShardCache.Sharder sharder = graphName -> Files.write(Paths.get(graphName + ".shard"), new byte[100]);
+        final Path staleCheckout = Files.createDirectories(this.tempDirectory.resolve("cache/.checkouts/0123.42"));
+        Files.write(staleCheckout.resolve(".lock"), new byte[0]);
+        Files.write(staleCheckout.resolve("graph.shard"), new byte[100]);
+
+        try (ShardCache.Checkout checkout1 = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L)
+                .checkOut(input.toUri().toString(), 2, "test", sharder)) {
+            Assert.assertFalse(Files.exists(staleCheckout));
+            Files.createDirectories(staleCheckout);
+
+            // Execute.
+            try (ShardCache.Checkout checkout2 = new ShardCache(this.tempDirectory.resolve("cache"), 1000000L)
+                    .checkOut(input.toUri().toString(), 2, "test", sharder)) {
+
+                // Verify the outcome.
+                Assert.assertFalse(Files.exists(staleCheckout));
+                Assert.assertTrue(Files.exists(Paths.get(checkout1.getGraphName() + ".shard")));
+                Assert.assertTrue(Files.exists(Paths.get(checkout2.getGraphName() + ".shard")));
+            }
+        }
+        try (Stream<Path> checkouts = Files.list(this.tempDirectory.resolve("cache/.checkouts"))) {
+            Assert.assertEquals(0, checkouts.count());
+        }
+    }
+
+    @Test
+    public void testPinnedEntriesAreNotEvicted() throws IOException {
+        // Prepare test data.
+        final Path input1 = this.createInput("graph1.edgelist", "1 2\n");
+        final Path input2 = this.createInput("graph2.edgelist", "2 3\n");
+        ShardCache shardCache = new ShardCache(this.tempDirectory.resolve("cache"), 150L);
+        AtomicInteger numShardings = new AtomicInteger(0);
+        ShardCache.Sharder sharder = graphName -> {
+            numShardings.incrementAndGet();
+            Files.write(Paths.get(graphName + ".shard"), new byte[100]);
+        };
+        shardCache.checkOut(input1.toUri().toString(), 2, "test", sharder).close();
+        this.ageCacheEntries(10000L);
+        final String key1;
+        try (Stream<Path> entries = Files.list(this.tempDirectory.resolve("cache"))) {
+            key1 = entries.map(entry -> entry.getFileName().toString())
+                    .filter(name -> !name.startsWith("."))
+                    .findAny()
+                    .orElseThrow(AssertionError::new);
+        }
+
+        // Execute: Add the second graph while another process is still copying the first graph.
+        final Path copyingCheckout = Files.createDirectories(this.tempDirectory.resolve("cache/.checkouts/" + key1 + ".42"));
+        Files.createFile(copyingCheckout.resolve(".copying"));
+        try (FileChannel lockChannel = FileChannel.open(
+                copyingCheckout.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            shardCache.checkOut(input2.toUri().toString(), 2, "test", sharder).close();
+        }
+
+        // Verify the outcome.
+        Assert.assertEquals(2, numShardings.get());
+        shardCache.checkOut(input1.toUri().toString(), 2, "test", sharder).close();
+        Assert.assertEquals(2, numShardings.get());
+    }
+
+    private Path createInput(String name, String content) throws IOException {
+        return Files.write(this.tempDirectory.resolve(name), content.getBytes());
+    }
+
+    /**
+     * Moves the last use of all cache entries back in time while retaining their order.
+     */
+    private void ageCacheEntries(long millis) throws IOException {
+        try (Stream<Path> markers = Files.walk(this.tempDirectory.resolve("cache"))) {
+            for (Path marker : markers.filter(path -> path.getFileName().toString().equals("complete"))
+                    .collect(Collectors.toList())) {
+                final long lastUse = Files.getLastModifiedTime(marker).toMillis();
+                Files.setLastModifiedTime(marker, FileTime.fromMillis(lastUse - millis));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.qcri.rheem.graphchi.operators;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.GraphChiExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for the {@link GraphChiConnectedComponentsOperator}.
+ */
+public class GraphChiConnectedComponentsOperatorTest {
+
+    private static GraphChiExecutor graphChiExecutor;
+
+    @Before
+    public void setUp() {
+        graphChiExecutor = mock(GraphChiExecutor.class);
+    }
+
+    @Test
+    public void testExecution() throws IOException {
+        // Ensure that the GraphChiPlatform is initialized.
+        GraphChiPlatform.getInstance();
+
+        // Prepare test data.
+        FileChannel.Instance inputChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(graphChiExecutor);
+        inputChannelInstance.addPath(this.getClass().getResource("/test.edgelist").toString());
+        FileChannel.Instance outputFileChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(graphChiExecutor);
+
+        // Execute.
+        final GraphChiConnectedComponentsOperator operator = new GraphChiConnectedComponentsOperator(10);
+        operator.execute(
+                new ChannelInstance[]{inputChannelInstance},
+                new ChannelInstance[]{outputFileChannelInstance},
+                new Configuration()
+        );
+
+        // Verify the outcome.
+        final List<String> lines = Files.readAllLines(Paths.get(URI.create(outputFileChannelInstance.getSinglePath())));
+        final HashSet<String> vertexIds = new HashSet<>(), componentIds = new HashSet<>();
+        for (String line : lines) {
+            final String[] fields = line.split("\t");
+            vertexIds.add(fields[0]);
+            componentIds.add(fields[1]);
+        }
+        Assert.assertEquals(new HashSet<>(Arrays.asList("1", "2", "3", "4")), vertexIds);
+        Assert.assertEquals(1, componentIds.size());
+    }
+
+}
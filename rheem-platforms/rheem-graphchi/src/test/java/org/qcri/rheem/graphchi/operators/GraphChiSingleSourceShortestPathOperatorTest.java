@@ -0,0 +1,107 @@
+package org.qcri.rheem.graphchi.operators;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.GraphChiExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for the {@link GraphChiSingleSourceShortestPathOperator}.
+ */
+public class GraphChiSingleSourceShortestPathOperatorTest {
+
+    private static GraphChiExecutor graphChiExecutor;
+
+    @Before
+    public void setUp() {
+        graphChiExecutor = mock(GraphChiExecutor.class);
+    }
+
+    @Test
+    public void testExecution() throws IOException {
+        // Ensure that the GraphChiPlatform is initialized.
+        GraphChiPlatform.getInstance();
+
+        // Execute.
+        final Map<Integer, Float> distances = this.execute(
+                new GraphChiSingleSourceShortestPathOperator(2, 10),
+                this.getClass().getResource("/test.edgelist").toString(),
+                new Configuration()
+        );
+
+        // Verify the outcome.
+        Assert.assertEquals(2f, distances.get(1), 0f);
+        Assert.assertEquals(0f, distances.get(2), 0f);
+        Assert.assertEquals(1f, distances.get(3), 0f);
+        Assert.assertEquals(1f, distances.get(4), 0f);
+    }
+
+    @Test
+    public void testBackToBackExecutions() throws IOException {
+        // Ensure that the GraphChiPlatform is initialized.
+        GraphChiPlatform.getInstance();
+
+        // Prepare test data: a chain, so that any distances left over from the first execution would shorten the
+        // paths of the second one.
+        final Path tempDirectory = Files.createTempDirectory("rheem-graphchi-sssp-test");
+        final Path input = Files.write(tempDirectory.resolve("chain.edgelist"), "1\t2\n2\t3\n3\t4\n".getBytes());
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.graphchi.shard-cache.dir", tempDirectory.resolve("cache").toString());
+
+        // Execute.
+        final Map<Integer, Float> distances1 = this.execute(
+                new GraphChiSingleSourceShortestPathOperator(1, 10), input.toUri().toString(), configuration
+        );
+        final Map<Integer, Float> distances3 = this.execute(
+                new GraphChiSingleSourceShortestPathOperator(3, 10), input.toUri().toString(), configuration
+        );
+
+        // Verify the outcome.
+        Assert.assertEquals(0f, distances1.get(1), 0f);
+        Assert.assertEquals(1f, distances1.get(2), 0f);
+        Assert.assertEquals(2f, distances1.get(3), 0f);
+        Assert.assertEquals(3f, distances1.get(4), 0f);
+        Assert.assertEquals(Float.POSITIVE_INFINITY, distances3.get(1), 0f);
+        Assert.assertEquals(Float.POSITIVE_INFINITY, distances3.get(2), 0f);
+        Assert.assertEquals(0f, distances3.get(3), 0f);
+        Assert.assertEquals(1f, distances3.get(4), 0f);
+    }
+
+    private Map<Integer, Float> execute(GraphChiSingleSourceShortestPathOperator operator,
+                                        String inputUrl,
+                                        Configuration configuration) throws IOException {
+        FileChannel.Instance inputChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(graphChiExecutor);
+        inputChannelInstance.addPath(inputUrl);
+        FileChannel.Instance outputFileChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(graphChiExecutor);
+
+        operator.execute(
+                new ChannelInstance[]{inputChannelInstance},
+                new ChannelInstance[]{outputFileChannelInstance},
+                configuration
+        );
+
+        final Map<Integer, Float> distances = new HashMap<>();
+        for (String line : Files.readAllLines(Paths.get(URI.create(outputFileChannelInstance.getSinglePath())))) {
+            final String[] fields = line.split("\t");
+            distances.put(Integer.valueOf(fields[0]), Float.valueOf(fields[1]));
+        }
+        return distances;
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.qcri.rheem.graphchi.operators;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.graphchi.GraphChiPlatform;
+import org.qcri.rheem.graphchi.execution.GraphChiExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for the {@link GraphChiTriangleCountOperator}.
+ */
+public class GraphChiTriangleCountOperatorTest {
+
+    private static GraphChiExecutor graphChiExecutor;
+
+    @Before
+    public void setUp() {
+        graphChiExecutor = mock(GraphChiExecutor.class);
+    }
+
+    @Test
+    public void testExecution() throws IOException, ClassNotFoundException {
+        // Ensure that the GraphChiPlatform is initialized.
+        GraphChiPlatform.getInstance();
+
+        // Prepare test data. The test graph is a 4-clique with a duplicate edge in reverse direction.
+        FileChannel.Instance inputChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR).createInstance(graphChiExecutor);
+        inputChannelInstance.addPath(this.getClass().getResource("/test.edgelist").toString());
+        FileChannel.Instance outputFileChannelInstance = (FileChannel.Instance)
+                new FileChannel(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR).createInstance(graphChiExecutor);
+
+        // Execute with several pivot passes.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.graphchi.trianglecount.input-bytes-per-pass", "10");
+        final GraphChiTriangleCountOperator operator = new GraphChiTriangleCountOperator();
+        operator.execute(
+                new ChannelInstance[]{inputChannelInstance},
+                new ChannelInstance[]{outputFileChannelInstance},
+                configuration
+        );
+
+        // Verify the outcome.
+        final Path path = new Path(outputFileChannelInstance.getSinglePath());
+        try (SequenceFile.Reader reader = new SequenceFile.Reader(
+                new org.apache.hadoop.conf.Configuration(true), SequenceFile.Reader.file(path))) {
+            final BytesWritable value = new BytesWritable();
+            Assert.assertTrue(reader.next(NullWritable.get(), value));
+            try (ObjectInputStream ois = new ObjectInputStream(
+                    new ByteArrayInputStream(value.getBytes(), 0, value.getLength()))) {
+                Assert.assertArrayEquals(new Object[]{4L}, (Object[]) ois.readObject());
+            }
+            Assert.assertFalse(reader.next(NullWritable.get(), value));
+        }
+    }
+
+}
@@ -60,9 +60,12 @@ public class JavaPlatform extends Platform {
         this.mappings.add(new FilterToJavaFilterMapping());
         this.mappings.add(new UnionAllToJavaUnionAllMapping());
         this.mappings.add(new CartesianToJavaCartesianMapping());
+        this.mappings.add(new JoinToJavaJoinMapping());
         this.mappings.add(new LoopToJavaLoopMapping());
         this.mappings.add(new DoWhileMapping());
+        this.mappings.add(new DeltaIterationToJavaDeltaIterationMapping());
         this.mappings.add(new SampleToJavaSampleMapping());
+        this.mappings.add(new PageRankToJavaPageRankMapping());
     }
 
     @Override
@@ -22,6 +22,18 @@ public class ChannelConversions {
             () -> new JavaCollectOperator<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion STREAM_TO_OFF_HEAP_COLLECTION = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            OffHeapCollectionChannel.DESCRIPTOR,
+            () -> new JavaOffHeapCollectOperator<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion STREAM_TO_PIPELINED_STREAM = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            PipelinedStreamChannel.DESCRIPTOR,
+            () -> new JavaPipelineOperator<>(DataSetType.createDefault(Void.class))
+    );
+
     // We could add a COLLECTION_TO_STREAM conversion, but it would probably never be used.
 
     public static final ChannelConversion STREAM_TO_HDFS_TSV = new DefaultChannelConversion(
@@ -62,6 +74,8 @@ public class ChannelConversions {
 
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             STREAM_TO_COLLECTION,
+            STREAM_TO_OFF_HEAP_COLLECTION,
+            STREAM_TO_PIPELINED_STREAM,
             STREAM_TO_HDFS_OBJECT_FILE,
             COLLECTION_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_STREAM,
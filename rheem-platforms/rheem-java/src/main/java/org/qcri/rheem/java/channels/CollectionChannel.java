@@ -7,7 +7,8 @@ import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
-import java.util.Collection;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -47,6 +48,13 @@ public class CollectionChannel extends Channel {
 
         private Collection<?> collection;
 
+        /**
+         * Caches hash indices over the {@link #collection} if this instance is loop invariant or if they have been
+         * {@link #registerHashIndex(Object, Map) registered}. The keys are the objects identifying the indices
+         * (cf. {@link #provideHashIndex(Object, Function)}).
+         */
+        private Map<Object, Map<?, Collection<?>>> hashIndexCache;
+
         public Instance(Executor executor) {
             super(executor);
         }
@@ -67,6 +75,62 @@ public class CollectionChannel extends Channel {
             return (Stream<T>) this.collection.stream();
         }
 
+        /**
+         * Provides a hash index over the {@link #collection}, i.e., groups its elements by their keys. If this
+         * instance is loop invariant, the index is created only once and then reused for all further requests
+         * with the same {@code indexId}.
+         *
+         * @param indexId      identifies the index; should be stable across iterations (e.g., a key descriptor)
+         * @param keyExtractor extracts the keys from the elements
+         * @return the hash index
+         */
+        @SuppressWarnings("unchecked")
+        public <T, K> Map<K, Collection<T>> provideHashIndex(Object indexId, Function<T, K> keyExtractor) {
+            if (this.hasHashIndex(indexId)) {
+                return (Map<K, Collection<T>>) (Map<?, ?>) this.hashIndexCache.get(indexId);
+            }
+            if (!this.isLoopInvariant()) {
+                return createHashIndex(this.<T>provideCollection(), keyExtractor);
+            }
+            if (this.hashIndexCache == null) {
+                this.hashIndexCache = new HashMap<>(2);
+            }
+            return (Map<K, Collection<T>>) (Map<?, ?>) this.hashIndexCache.computeIfAbsent(
+                    indexId,
+                    key -> (Map<?, Collection<?>>) (Map<?, ?>) createHashIndex(this.<T>provideCollection(), keyExtractor)
+            );
+        }
+
+        /**
+         * Registers a hash index over the {@link #collection} that already exists, e.g., because the producer of the
+         * {@link #collection} maintains it in a hash table anyway. Requests for the index via
+         * {@link #provideHashIndex(Object, Function)} with the same {@code indexId} are then served from it.
+         *
+         * @param indexId   identifies the index (e.g., a key descriptor)
+         * @param hashIndex the hash index
+         */
+        public <T, K> void registerHashIndex(Object indexId, Map<K, Collection<T>> hashIndex) {
+            if (this.hashIndexCache == null) {
+                this.hashIndexCache = new HashMap<>(2);
+            }
+            this.hashIndexCache.put(indexId, (Map<?, Collection<?>>) (Map<?, ?>) hashIndex);
+        }
+
+        /**
+         * @return whether a hash index with the given {@code indexId} is readily available
+         */
+        public boolean hasHashIndex(Object indexId) {
+            return this.hashIndexCache != null && this.hashIndexCache.containsKey(indexId);
+        }
+
+        /**
+         * The {@link #collection} is materialized eagerly, so that the producer does not spend any time lazily.
+         */
+        @Override
+        public OptionalLong getMeasuredLazyNanos() {
+            return OptionalLong.of(0L);
+        }
+
         @Override
         public Channel getChannel() {
             return CollectionChannel.this;
@@ -75,7 +139,23 @@ public class CollectionChannel extends Channel {
         @Override
         protected void doDispose() {
             this.collection = null;
+            this.hashIndexCache = null;
         }
 
     }
+
+    /**
+     * Groups the given elements by their keys.
+     *
+     * @param elements     that should be indexed
+     * @param keyExtractor extracts the keys from the {@code elements}
+     * @return the hash index
+     */
+    public static <T, K> Map<K, Collection<T>> createHashIndex(Collection<T> elements, Function<T, K> keyExtractor) {
+        Map<K, Collection<T>> index = new HashMap<>();
+        for (T element : elements) {
+            index.computeIfAbsent(keyExtractor.apply(element), key -> new ArrayList<>(1)).add(element);
+        }
+        return index;
+    }
 }
@@ -4,6 +4,9 @@ import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.platform.ChannelInstance;
 
 import java.util.Collection;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -18,4 +21,34 @@ public interface JavaChannelInstance extends ChannelInstance {
      */
     <T> Stream<T> provideStream();
 
+    /**
+     * Provide the producer's result of {@code int}s to a consumer. Instances that do not hold primitive data quanta
+     * unbox them.
+     *
+     * @return the producer's result
+     */
+    default IntStream provideIntStream() {
+        return this.<Integer>provideStream().mapToInt(Integer::intValue);
+    }
+
+    /**
+     * Provide the producer's result of {@code long}s to a consumer. Instances that do not hold primitive data quanta
+     * unbox them.
+     *
+     * @return the producer's result
+     */
+    default LongStream provideLongStream() {
+        return this.<Long>provideStream().mapToLong(Long::longValue);
+    }
+
+    /**
+     * Provide the producer's result of {@code double}s to a consumer. Instances that do not hold primitive data
+     * quanta unbox them.
+     *
+     * @return the producer's result
+     */
+    default DoubleStream provideDoubleStream() {
+        return this.<Double>provideStream().mapToDouble(Double::doubleValue);
+    }
+
 }
@@ -0,0 +1,269 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * {@link Channel} between two {@link JavaExecutionOperator}s that keeps its data quanta serialized in off-heap
+ * pages, namely in a memory-mapped temporary file. In contrast to the {@link CollectionChannel}, it does hardly
+ * occupy the JVM heap. As the operating system pages the file in and out, it is neither bounded by the main memory
+ * nor by the JVM's direct memory limit. However, its data quanta must be {@link Serializable}.
+ */
+public class OffHeapCollectionChannel extends Channel {
+
+    private static final boolean IS_REUSABLE = true;
+
+    private static final boolean IS_INTERNAL = true;
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(OffHeapCollectionChannel.class, IS_REUSABLE, IS_REUSABLE, !IS_INTERNAL && IS_REUSABLE);
+
+    public OffHeapCollectionChannel(ChannelDescriptor channelDescriptor, OutputSlot<?> outputSlot) {
+        super(channelDescriptor, outputSlot);
+        assert channelDescriptor == DESCRIPTOR;
+    }
+
+    private OffHeapCollectionChannel(OffHeapCollectionChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public OffHeapCollectionChannel copy() {
+        return new OffHeapCollectionChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor) {
+        return new Instance(executor);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for the {@link OffHeapCollectionChannel}.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        /**
+         * Each page starts with the number of contained data quanta, followed by the serialized data quanta.
+         */
+        private List<ByteBuffer> pages;
+
+        /**
+         * The file that is mapped by the {@link #pages}.
+         */
+        private Path path;
+
+        public Instance(Executor executor) {
+            super(executor);
+        }
+
+        /**
+         * Serializes the given {@link Stream} into off-heap pages.
+         *
+         * @param stream    provides the data quanta to store
+         * @param pageSize  the number of bytes after which a new page should be started
+         * @param directory in which the memory-mapped file should be created or {@code null} for the default
+         *                  temporary directory
+         */
+        public void accept(Stream<?> stream, int pageSize, Path directory) {
+            assert this.pages == null;
+            assert pageSize > 0;
+            try {
+                this.path = directory == null ?
+                        Files.createTempFile("rheem-offheap", ".pages") :
+                        Files.createTempFile(directory, "rheem-offheap", ".pages");
+                this.path.toFile().deleteOnExit();
+                try (FileChannel fileChannel = FileChannel.open(
+                        this.path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    final PageWriter pageWriter = new PageWriter(pageSize, fileChannel);
+                    stream.forEach(pageWriter::write);
+                    pageWriter.flush();
+
+                    // The mappings remain valid after closing the file.
+                    this.pages = new ArrayList<>(pageWriter.pageOffsets.size());
+                    for (int i = 0; i < pageWriter.pageOffsets.size(); i++) {
+                        final long offset = pageWriter.pageOffsets.get(i);
+                        final long end = i + 1 < pageWriter.pageOffsets.size() ?
+                                pageWriter.pageOffsets.get(i + 1) :
+                                fileChannel.size();
+                        this.pages.add(fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, end - offset));
+                    }
+                    this.setMeasuredCardinality(pageWriter.numDataQuanta);
+                }
+            } catch (IOException e) {
+                throw new RheemException("Could not write off-heap pages.", e);
+            }
+        }
+
+        @Override
+        public <T> Stream<T> provideStream() {
+            return this.pages.stream().flatMap(page -> Instance.this.<T>readPage(page).stream());
+        }
+
+        /**
+         * Deserializes the data quanta of the given page. Only the data quanta of a single page reside on the heap
+         * at a time.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> List<T> readPage(ByteBuffer page) {
+            final ByteBuffer pageView = page.duplicate();
+            final int numDataQuanta = pageView.getInt();
+            final List<T> dataQuanta = new ArrayList<>(numDataQuanta);
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteBufferInputStream(pageView))) {
+                for (int i = 0; i < numDataQuanta; i++) {
+                    dataQuanta.add((T) ois.readObject());
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                throw new RheemException("Could not read off-heap page.", e);
+            }
+            return dataQuanta;
+        }
+
+        /**
+         * @return the number of bytes occupied by the off-heap pages
+         */
+        public long getNumBytes() {
+            return this.pages.stream().mapToLong(ByteBuffer::capacity).sum();
+        }
+
+        @Override
+        public OptionalLong getMeasuredNumBytes() {
+            return this.pages == null ? OptionalLong.empty() : OptionalLong.of(this.getNumBytes());
+        }
+
+        /**
+         * The pages are written eagerly, so that the producer does not spend any time lazily.
+         */
+        @Override
+        public OptionalLong getMeasuredLazyNanos() {
+            return OptionalLong.of(0L);
+        }
+
+        @Override
+        public Channel getChannel() {
+            return OffHeapCollectionChannel.this;
+        }
+
+        @Override
+        protected void doDispose() {
+            // The mappings are released once they are garbage-collected, but the file can be deleted right away.
+            this.pages = null;
+            if (this.path != null) {
+                try {
+                    Files.deleteIfExists(this.path);
+                } catch (IOException e) {
+                    LoggerFactory.getLogger(this.getClass()).warn("Could not delete {}.", this.path, e);
+                }
+                this.path = null;
+            }
+        }
+
+        /**
+         * Serializes data quanta into pages of a file. Only the page under construction resides on the heap.
+         */
+        private class PageWriter {
+
+            private final int pageSize;
+
+            private final FileChannel fileChannel;
+
+            private final List<Long> pageOffsets = new ArrayList<>();
+
+            private ByteArrayOutputStream pageBytes;
+
+            private ObjectOutputStream pageStream;
+
+            private int numPageDataQuanta;
+
+            private long numDataQuanta = 0;
+
+            private PageWriter(int pageSize, FileChannel fileChannel) {
+                this.pageSize = pageSize;
+                this.fileChannel = fileChannel;
+            }
+
+            private void write(Object dataQuantum) {
+                try {
+                    if (this.pageStream == null) {
+                        this.pageBytes = new ByteArrayOutputStream(Math.min(this.pageSize, 1 << 16));
+                        this.pageStream = new ObjectOutputStream(this.pageBytes);
+                        this.numPageDataQuanta = 0;
+                    }
+                    this.pageStream.writeObject(dataQuantum);
+                    this.numPageDataQuanta++;
+                    this.numDataQuanta++;
+                    this.pageStream.flush();
+                    if (this.pageBytes.size() >= this.pageSize) {
+                        this.flush();
+                    }
+                } catch (IOException e) {
+                    throw new RheemException(String.format("Could not write %s to off-heap page.", dataQuantum), e);
+                }
+            }
+
+            private void flush() {
+                if (this.pageStream == null) return;
+                try {
+                    this.pageStream.close();
+                    this.pageOffsets.add(this.fileChannel.position());
+                    final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(this.numPageDataQuanta);
+                    header.flip();
+                    final ByteBuffer body = ByteBuffer.wrap(this.pageBytes.toByteArray());
+                    while (header.hasRemaining() || body.hasRemaining()) {
+                        this.fileChannel.write(new ByteBuffer[]{header, body});
+                    }
+                } catch (IOException e) {
+                    throw new RheemException("Could not complete off-heap page.", e);
+                }
+                this.pageStream = null;
+                this.pageBytes = null;
+            }
+
+        }
+
+    }
+
+    /**
+     * Exposes the remainder of a {@link ByteBuffer} as an {@link InputStream}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferInputStream(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read() {
+            return this.byteBuffer.hasRemaining() ? this.byteBuffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!this.byteBuffer.hasRemaining()) return -1;
+            final int numBytes = Math.min(len, this.byteBuffer.remaining());
+            this.byteBuffer.get(b, off, numBytes);
+            return numBytes;
+        }
+
+        @Override
+        public int available() {
+            return this.byteBuffer.remaining();
+        }
+    }
+}
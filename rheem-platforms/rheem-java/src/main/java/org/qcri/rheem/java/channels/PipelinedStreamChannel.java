@@ -0,0 +1,117 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link Channel} between two {@link JavaExecutionOperator}s in different {@link ExecutionStage}s using a
+ * {@link Stream} that is pulled through a bounded buffer (see {@link StreamPipe}). The consuming
+ * {@link ExecutionStage} can thus start while the producing one is still emitting data quanta, and the data quanta
+ * need not be materialized. Like the {@link StreamChannel}, it can be consumed only once.
+ */
+public class PipelinedStreamChannel extends Channel {
+
+    private static final boolean IS_REUSABLE = false;
+
+    private static final boolean IS_INTER_STAGE_CAPABLE = true;
+
+    private static final boolean IS_INTERNAL = true;
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(
+            PipelinedStreamChannel.class, IS_REUSABLE, IS_INTER_STAGE_CAPABLE, IS_REUSABLE & !IS_INTERNAL
+    );
+
+    public PipelinedStreamChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
+        super(descriptor, outputSlot);
+        assert descriptor == DESCRIPTOR;
+    }
+
+    private PipelinedStreamChannel(PipelinedStreamChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public PipelinedStreamChannel copy() {
+        return new PipelinedStreamChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor) {
+        return new Instance(executor);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for {@link PipelinedStreamChannel}s.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        private Stream<?> stream;
+
+        /**
+         * Decouples the consumer of the {@link #stream} from its producer, if any.
+         */
+        private StreamPipe pipe;
+
+        public Instance(Executor executor) {
+            super(executor);
+        }
+
+        /**
+         * Accepts the {@link Stream} to be provided to the consumer. If this instance is marked for
+         * instrumentation, the {@link Stream} is materialized right away, so that its cardinality is known by the end
+         * of the producing {@link ExecutionStage}. Otherwise, it is piped through a buffer of the given size.
+         *
+         * @param stream     provides the data quanta
+         * @param bufferSize the maximum number of buffered data quanta; {@code 0} hands over the {@link Stream} lazily
+         */
+        public void accept(Stream<?> stream, int bufferSize) {
+            assert this.stream == null;
+            if (this.isMarkedForInstrumentation()) {
+                final List<?> dataQuanta = stream.collect(Collectors.toList());
+                this.setMeasuredCardinality(dataQuanta.size());
+                this.stream = dataQuanta.stream();
+            } else if (bufferSize > 0) {
+                this.pipe = new StreamPipe(stream, bufferSize);
+                this.stream = this.pipe.provideStream();
+            } else {
+                this.stream = stream;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream() {
+            return (Stream<T>) this.stream;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return PipelinedStreamChannel.this;
+        }
+
+        /**
+         * Always closes the {@link #pipe}, so that its producer is stopped even if the consumer did not pull all
+         * data quanta, e.g., because it failed or needed only some of them.
+         */
+        @Override
+        protected void doDispose() throws RheemException {
+            try {
+                if (this.pipe != null) this.pipe.close();
+            } finally {
+                this.pipe = null;
+                this.stream = null;
+            }
+        }
+    }
+
+}
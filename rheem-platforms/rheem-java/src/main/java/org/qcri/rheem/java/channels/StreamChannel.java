@@ -11,6 +11,10 @@ import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
 import java.util.OptionalLong;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -104,20 +108,46 @@ public class StreamChannel extends Channel {
 //        }
 //    }
 
+    /**
+     * Boxes the data quanta of primitive streams.
+     *
+     * @param stream a {@link Stream}, {@link IntStream}, {@link LongStream}, or {@link DoubleStream}
+     * @return a {@link Stream} of the data quanta of the {@code stream}
+     */
+    private static Stream<?> boxed(BaseStream<?, ?> stream) {
+        if (stream instanceof IntStream) return ((IntStream) stream).boxed();
+        if (stream instanceof LongStream) return ((LongStream) stream).boxed();
+        if (stream instanceof DoubleStream) return ((DoubleStream) stream).boxed();
+        return (Stream<?>) stream;
+    }
+
     /**
      * {@link JavaChannelInstance} implementation for {@link StreamChannel}s.
      */
     public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
 
-        private Stream<?> stream;
+        /**
+         * Either a {@link Stream} or, for primitive data quanta, an {@link IntStream}, {@link LongStream} or
+         * {@link DoubleStream}.
+         */
+        private BaseStream<?, ?> stream;
 
         // In principle, we could use Stream#onClose() to make sure that we really counted the cardinality (so as to
         // detect, when the cardinality is 0 because the #stream has not been fully executed for whatever reason).
         // However, this would require to call Stream#close() on all methods.
         private long cardinality = 0;
 
+        /**
+         * Measures the {@link #stream} when it is handed out to the consumer or {@code null} if no measurements are
+         * needed.
+         */
+        private final StreamMeter meter;
+
         public Instance(JavaExecutor executor) {
             super(executor);
+            this.meter = executor != null && executor.isMeteringStreams() ?
+                    new StreamMeter(executor.isTimingStreams()) :
+                    null;
         }
 
 
@@ -125,13 +155,34 @@ public class StreamChannel extends Channel {
             assert this.stream == null;
             this.stream = stream;
             if (this.isMarkedForInstrumentation()) {
-                this.stream = this.stream.filter(dataQuantum -> {
+                this.stream = stream.filter(dataQuantum -> {
                     this.cardinality += 1;
                     return true;
                 });
             }
         }
 
+        public void accept(IntStream stream) {
+            assert this.stream == null;
+            this.stream = this.isMarkedForInstrumentation() ?
+                    stream.peek(dataQuantum -> this.cardinality += 1) :
+                    stream;
+        }
+
+        public void accept(LongStream stream) {
+            assert this.stream == null;
+            this.stream = this.isMarkedForInstrumentation() ?
+                    stream.peek(dataQuantum -> this.cardinality += 1) :
+                    stream;
+        }
+
+        public void accept(DoubleStream stream) {
+            assert this.stream == null;
+            this.stream = this.isMarkedForInstrumentation() ?
+                    stream.peek(dataQuantum -> this.cardinality += 1) :
+                    stream;
+        }
+
         public void accept(Collection<?> collection) {
             assert this.stream == null;
             this.stream = collection.stream();
@@ -141,7 +192,57 @@ public class StreamChannel extends Channel {
         @Override
         @SuppressWarnings("unchecked")
         public <T> Stream<T> provideStream() {
-            return (Stream<T>) this.stream;
+            return (Stream<T>) this.metered(boxed(this.stream));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public IntStream provideIntStream() {
+            if (this.stream instanceof IntStream) return this.metered((IntStream) this.stream);
+            return this.metered(((Stream<Integer>) this.stream).mapToInt(Integer::intValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public LongStream provideLongStream() {
+            if (this.stream instanceof LongStream) return this.metered((LongStream) this.stream);
+            return this.metered(((Stream<Long>) this.stream).mapToLong(Long::longValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public DoubleStream provideDoubleStream() {
+            if (this.stream instanceof DoubleStream) return this.metered((DoubleStream) this.stream);
+            return this.metered(((Stream<Double>) this.stream).mapToDouble(Double::doubleValue));
+        }
+
+        /**
+         * Counts the data quanta of the {@link #stream} without boxing primitive ones. This consumes the
+         * {@link #stream}.
+         *
+         * @return the number of data quanta
+         */
+        public long count() {
+            if (this.stream instanceof IntStream) return this.metered((IntStream) this.stream).count();
+            if (this.stream instanceof LongStream) return this.metered((LongStream) this.stream).count();
+            if (this.stream instanceof DoubleStream) return this.metered((DoubleStream) this.stream).count();
+            return this.metered((Stream<?>) this.stream).count();
+        }
+
+        private <T> Stream<T> metered(Stream<T> stream) {
+            return this.meter == null ? stream : this.meter.meter(stream);
+        }
+
+        private IntStream metered(IntStream stream) {
+            return this.meter == null ? stream : this.meter.meter(stream);
+        }
+
+        private LongStream metered(LongStream stream) {
+            return this.meter == null ? stream : this.meter.meter(stream);
+        }
+
+        private DoubleStream metered(DoubleStream stream) {
+            return this.meter == null ? stream : this.meter.meter(stream);
         }
 
         @Override
@@ -154,6 +255,18 @@ public class StreamChannel extends Channel {
             return this.cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(this.cardinality);
         }
 
+        @Override
+        public OptionalLong getObservedCardinality() {
+            final long numDataQuanta = this.meter == null ? -1L : this.meter.getNumDataQuanta();
+            return numDataQuanta == -1L ? super.getObservedCardinality() : OptionalLong.of(numDataQuanta);
+        }
+
+        @Override
+        public OptionalLong getMeasuredLazyNanos() {
+            final long producerNanos = this.meter == null ? -1L : this.meter.getProducerNanos();
+            return producerNanos == -1L ? OptionalLong.empty() : OptionalLong.of(producerNanos);
+        }
+
         @Override
         protected void doDispose() throws RheemException {
             this.stream = null;
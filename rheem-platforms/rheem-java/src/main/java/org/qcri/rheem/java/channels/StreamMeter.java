@@ -0,0 +1,338 @@
+package org.qcri.rheem.java.channels;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Measures a {@link Stream} at the boundary between its producer and its consumer: It counts the data quanta and,
+ * optionally, the time that the producer spends to provide them. As the data quanta are handed over one by one, the
+ * time between two hand-overs is spent by the producer, while the time within a hand-over is spent by the consumer.
+ * <p>Timing costs two {@link System#nanoTime()} calls per data quantum and is therefore optional. The measured
+ * {@link Stream} keeps the characteristics of the original one and can be split, e.g., when it is consumed in
+ * parallel. Each split part is measured separately, and the measurements are added up when they are read, which
+ * should therefore happen only after the {@link Stream} has been consumed.</p>
+ */
+public class StreamMeter {
+
+    /**
+     * Whether the time of the producer should be measured.
+     */
+    private final boolean isTiming;
+
+    /**
+     * The number of data quanta of the measured {@link Stream} if it is known upfront or else {@code -1}.
+     */
+    private long exactSize = -1L;
+
+    /**
+     * Measure the parts of the measured {@link Stream}.
+     */
+    private final List<AbstractMeteredSpliterator<?, ?>> spliterators = new ArrayList<>(1);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param isTiming whether the time of the producer should be measured
+     */
+    public StreamMeter(boolean isTiming) {
+        this.isTiming = isTiming;
+    }
+
+    public <T> Stream<T> meter(Stream<T> stream) {
+        final Spliterator<T> spliterator = stream.spliterator();
+        this.exactSize = spliterator.getExactSizeIfKnown();
+        return StreamSupport.stream(new MeteredSpliterator<>(spliterator), stream.isParallel()).onClose(stream::close);
+    }
+
+    public IntStream meter(IntStream stream) {
+        final Spliterator.OfInt spliterator = stream.spliterator();
+        this.exactSize = spliterator.getExactSizeIfKnown();
+        return StreamSupport.intStream(new MeteredIntSpliterator(spliterator), stream.isParallel()).onClose(stream::close);
+    }
+
+    public LongStream meter(LongStream stream) {
+        final Spliterator.OfLong spliterator = stream.spliterator();
+        this.exactSize = spliterator.getExactSizeIfKnown();
+        return StreamSupport.longStream(new MeteredLongSpliterator(spliterator), stream.isParallel()).onClose(stream::close);
+    }
+
+    public DoubleStream meter(DoubleStream stream) {
+        final Spliterator.OfDouble spliterator = stream.spliterator();
+        this.exactSize = spliterator.getExactSizeIfKnown();
+        return StreamSupport.doubleStream(new MeteredDoubleSpliterator(spliterator), stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * @return the number of data quanta or {@code -1} if the measured {@link Stream} is not
+     * {@link Spliterator#SIZED} and has not been fully consumed
+     */
+    public long getNumDataQuanta() {
+        if (this.exactSize != -1L) return this.exactSize;
+        synchronized (this.spliterators) {
+            if (this.spliterators.isEmpty()) return -1L;
+            long numDataQuanta = 0L;
+            for (AbstractMeteredSpliterator<?, ?> spliterator : this.spliterators) {
+                if (!spliterator.isExhausted) return -1L;
+                numDataQuanta += spliterator.numDataQuanta;
+            }
+            return numDataQuanta;
+        }
+    }
+
+    /**
+     * @return the time that the producer spent to provide the data quanta consumed so far or {@code -1} if it was
+     * not measured
+     */
+    public long getProducerNanos() {
+        if (!this.isTiming) return -1L;
+        synchronized (this.spliterators) {
+            long producerNanos = 0L;
+            for (AbstractMeteredSpliterator<?, ?> spliterator : this.spliterators) {
+                producerNanos += spliterator.producerNanos;
+            }
+            return producerNanos;
+        }
+    }
+
+    /**
+     * Common functionality of the metered {@link Spliterator}s. Each instance measures only the data quanta that it
+     * hands over itself, so that split instances can be consumed concurrently.
+     */
+    private abstract class AbstractMeteredSpliterator<T, S extends Spliterator<T>> implements Spliterator<T> {
+
+        protected final S source;
+
+        private long numDataQuanta = 0L;
+
+        private long producerNanos = 0L;
+
+        /**
+         * Tells whether the {@link #source} has provided all its data quanta.
+         */
+        private boolean isExhausted = false;
+
+        /**
+         * The point in time since which the producer is working.
+         */
+        private long producerStartNanos;
+
+        protected AbstractMeteredSpliterator(S source) {
+            this.source = source;
+            synchronized (StreamMeter.this.spliterators) {
+                StreamMeter.this.spliterators.add(this);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public S trySplit() {
+            // Primitive Spliterators split into Spliterators of the same kind.
+            final S prefix = (S) this.source.trySplit();
+            return prefix == null ? null : this.split(prefix);
+        }
+
+        /**
+         * Meters a part that has been split off the {@link #source}.
+         *
+         * @param prefix the split part
+         * @return the metered split part
+         */
+        protected abstract S split(S prefix);
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return this.source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return this.source.getComparator();
+        }
+
+        protected void startProducer() {
+            if (StreamMeter.this.isTiming) this.producerStartNanos = System.nanoTime();
+        }
+
+        protected void stopProducer() {
+            if (StreamMeter.this.isTiming) this.producerNanos += System.nanoTime() - this.producerStartNanos;
+        }
+
+        protected void handOver() {
+            this.numDataQuanta++;
+            this.stopProducer();
+        }
+
+        protected void finishPull(boolean isExhausted) {
+            this.stopProducer();
+            this.isExhausted |= isExhausted;
+        }
+    }
+
+    private class MeteredSpliterator<T> extends AbstractMeteredSpliterator<T, Spliterator<T>> {
+
+        private MeteredSpliterator(Spliterator<T> source) {
+            super(source);
+        }
+
+        @Override
+        protected Spliterator<T> split(Spliterator<T> prefix) {
+            return new MeteredSpliterator<>(prefix);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            this.startProducer();
+            final boolean isAdvanced = this.source.tryAdvance(this.wrap(action));
+            this.finishPull(!isAdvanced);
+            return isAdvanced;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            this.startProducer();
+            this.source.forEachRemaining(this.wrap(action));
+            this.finishPull(true);
+        }
+
+        private Consumer<T> wrap(Consumer<? super T> action) {
+            return dataQuantum -> {
+                this.handOver();
+                action.accept(dataQuantum);
+                this.startProducer();
+            };
+        }
+    }
+
+    private class MeteredIntSpliterator
+            extends AbstractMeteredSpliterator<Integer, Spliterator.OfInt>
+            implements Spliterator.OfInt {
+
+        private MeteredIntSpliterator(Spliterator.OfInt source) {
+            super(source);
+        }
+
+        @Override
+        protected Spliterator.OfInt split(Spliterator.OfInt prefix) {
+            return new MeteredIntSpliterator(prefix);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            this.startProducer();
+            final boolean isAdvanced = this.source.tryAdvance(this.wrap(action));
+            this.finishPull(!isAdvanced);
+            return isAdvanced;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            this.startProducer();
+            this.source.forEachRemaining(this.wrap(action));
+            this.finishPull(true);
+        }
+
+        private IntConsumer wrap(IntConsumer action) {
+            return dataQuantum -> {
+                this.handOver();
+                action.accept(dataQuantum);
+                this.startProducer();
+            };
+        }
+    }
+
+    private class MeteredLongSpliterator
+            extends AbstractMeteredSpliterator<Long, Spliterator.OfLong>
+            implements Spliterator.OfLong {
+
+        private MeteredLongSpliterator(Spliterator.OfLong source) {
+            super(source);
+        }
+
+        @Override
+        protected Spliterator.OfLong split(Spliterator.OfLong prefix) {
+            return new MeteredLongSpliterator(prefix);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            this.startProducer();
+            final boolean isAdvanced = this.source.tryAdvance(this.wrap(action));
+            this.finishPull(!isAdvanced);
+            return isAdvanced;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            this.startProducer();
+            this.source.forEachRemaining(this.wrap(action));
+            this.finishPull(true);
+        }
+
+        private LongConsumer wrap(LongConsumer action) {
+            return dataQuantum -> {
+                this.handOver();
+                action.accept(dataQuantum);
+                this.startProducer();
+            };
+        }
+    }
+
+    private class MeteredDoubleSpliterator
+            extends AbstractMeteredSpliterator<Double, Spliterator.OfDouble>
+            implements Spliterator.OfDouble {
+
+        private MeteredDoubleSpliterator(Spliterator.OfDouble source) {
+            super(source);
+        }
+
+        @Override
+        protected Spliterator.OfDouble split(Spliterator.OfDouble prefix) {
+            return new MeteredDoubleSpliterator(prefix);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            this.startProducer();
+            final boolean isAdvanced = this.source.tryAdvance(this.wrap(action));
+            this.finishPull(!isAdvanced);
+            return isAdvanced;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            this.startProducer();
+            this.source.forEachRemaining(this.wrap(action));
+            this.finishPull(true);
+        }
+
+        private DoubleConsumer wrap(DoubleConsumer action) {
+            return dataQuantum -> {
+                this.handOver();
+                action.accept(dataQuantum);
+                this.startProducer();
+            };
+        }
+    }
+
+}
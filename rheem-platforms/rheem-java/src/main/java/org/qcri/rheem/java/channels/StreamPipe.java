@@ -0,0 +1,169 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pipes a {@link Stream} through a bounded buffer: A dedicated producer thread pulls the original {@link Stream} and
+ * puts its data quanta into the buffer, while the consumer pulls them from the piped {@link Stream}. Thereby, the
+ * producer and consumer can run concurrently without the data being fully materialized. The producer is blocked
+ * whenever the buffer is full (back-pressure).
+ * <p>The consumer joins the producer thread as soon as it has pulled the last data quantum, so that it can neither
+ * complete before the producer nor miss its failure.</p>
+ */
+public class StreamPipe {
+
+    /**
+     * Marks the end of the piped {@link Stream}.
+     */
+    private static final Object END_OF_STREAM = new Object();
+
+    /**
+     * Used to name the producer threads.
+     */
+    private static final AtomicInteger threadCounter = new AtomicInteger(0);
+
+    private final BlockingQueue<Object> buffer;
+
+    private final Thread producerThread;
+
+    /**
+     * Set by the {@link #producerThread} if it fails.
+     */
+    private volatile Throwable producerFailure;
+
+    /**
+     * Tells whether the consumer has pulled the end of the piped {@link Stream}.
+     */
+    private volatile boolean isExhausted = false;
+
+    /**
+     * Creates a new instance and immediately starts pulling the {@code source}.
+     *
+     * @param source     the {@link Stream} to be piped
+     * @param bufferSize the maximum number of data quanta to buffer
+     */
+    public StreamPipe(Stream<?> source, int bufferSize) {
+        assert bufferSize > 0;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.producerThread = new Thread(() -> this.produce(source), "rheem-stream-pipe-" + threadCounter.incrementAndGet());
+        this.producerThread.setDaemon(true);
+        this.producerThread.start();
+    }
+
+    /**
+     * Pulls the {@code source} into the {@link #buffer}. Executed by the {@link #producerThread}.
+     */
+    private void produce(Stream<?> source) {
+        try {
+            source.forEach(dataQuantum -> {
+                try {
+                    this.buffer.put(dataQuantum);
+                } catch (InterruptedException e) {
+                    throw new PipeClosedException();
+                }
+            });
+        } catch (PipeClosedException e) {
+            return;
+        } catch (Throwable t) {
+            this.producerFailure = t;
+        }
+        try {
+            this.buffer.put(END_OF_STREAM);
+        } catch (InterruptedException e) {
+            // The pipe has been closed anyway.
+        }
+    }
+
+    /**
+     * Provides the piped {@link Stream}. Must be consumed at most once.
+     *
+     * @return the piped {@link Stream}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Stream<T> provideStream() {
+        final Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (StreamPipe.this.isExhausted) return false;
+                final Object next;
+                try {
+                    next = StreamPipe.this.buffer.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RheemException("Interrupted while waiting for a pipelined data quantum.", e);
+                }
+                if (next == END_OF_STREAM) {
+                    StreamPipe.this.isExhausted = true;
+                    StreamPipe.this.join();
+                    return false;
+                }
+                action.accept((T) next);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Waits for the producer thread to terminate.
+     *
+     * @throws RheemException if the producer failed or the waiting was interrupted
+     */
+    private void join() {
+        try {
+            this.producerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException("Interrupted while waiting for the producer of a pipelined stream.", e);
+        }
+        if (this.producerFailure != null) {
+            throw new RheemException("Producer of a pipelined stream failed.", this.producerFailure);
+        }
+    }
+
+    /**
+     * Stops the producer (if it is still running), waits for it to terminate, and releases the buffered data quanta.
+     * If the piped {@link Stream} has been consumed completely, this only checks the producer for failures.
+     *
+     * @throws RheemException if the producer failed
+     */
+    public void close() {
+        if (!this.isExhausted) {
+            this.producerThread.interrupt();
+            this.buffer.clear();
+        }
+        this.join();
+        this.buffer.clear();
+    }
+
+    /**
+     * Tells whether the producer thread is still running.
+     *
+     * @return whether the producer thread is alive
+     */
+    boolean isProducerRunning() {
+        return this.producerThread.isAlive();
+    }
+
+    /**
+     * Signals the producer thread that the pipe has been closed.
+     */
+    private static class PipeClosedException extends RuntimeException {
+
+        private PipeClosedException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.qcri.rheem.java.execution;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies batch UDFs, i.e., {@link FunctionDescriptor.SerializableBatchFunction}s and
+ * {@link PredicateDescriptor.SerializableBatchPredicate}s, to {@link Stream}s by cutting them into batches of a fixed
+ * size.
+ */
+public class BatchExecution {
+
+    /**
+     * Retrieves the batch size for batch UDFs from the {@link Configuration}.
+     */
+    public static int getBatchSize(Configuration configuration) {
+        final long batchSize = configuration.getLongProperty("rheem.java.udf.batch-size", 1024L);
+        if (batchSize < 1 || batchSize > Integer.MAX_VALUE) {
+            throw new RheemException(String.format("Illegal UDF batch size: %d", batchSize));
+        }
+        return (int) batchSize;
+    }
+
+    /**
+     * Lazily cuts the given {@link Stream} into consecutive batches.
+     *
+     * @param stream    that should be cut
+     * @param batchSize the maximum size of the batches; only the last batch may be smaller
+     * @return a {@link Stream} of the batches
+     */
+    public static <T> Stream<List<T>> toBatches(Stream<T> stream, int batchSize) {
+        final Spliterator<T> spliterator = stream.spliterator();
+        final long estimatedSize = spliterator.estimateSize();
+        final long estimatedNumBatches = estimatedSize == Long.MAX_VALUE ?
+                Long.MAX_VALUE :
+                (estimatedSize + batchSize - 1) / batchSize;
+        final Spliterator<List<T>> batchSpliterator =
+                new Spliterators.AbstractSpliterator<List<T>>(estimatedNumBatches, Spliterator.ORDERED) {
+                    @Override
+                    public boolean tryAdvance(Consumer<? super List<T>> action) {
+                        final List<T> batch = new ArrayList<>(batchSize);
+                        final Consumer<T> collector = batch::add;
+                        while (batch.size() < batchSize && spliterator.tryAdvance(collector)) ;
+                        if (batch.isEmpty()) return false;
+                        action.accept(batch);
+                        return true;
+                    }
+                };
+        return StreamSupport.stream(batchSpliterator, false).onClose(stream::close);
+    }
+
+    /**
+     * Applies a {@link FunctionDescriptor.SerializableBatchFunction} as a map function.
+     *
+     * @param stream    to which the {@code function} should be applied
+     * @param function  must yield exactly one output per input
+     * @param batchSize the number of inputs to pass to the {@code function} at once
+     * @return a {@link Stream} of the outputs
+     */
+    public static <I, O> Stream<O> map(Stream<I> stream,
+                                       FunctionDescriptor.SerializableBatchFunction<I, O> function,
+                                       int batchSize) {
+        return toBatches(stream, batchSize).flatMap(batch -> {
+            final List<O> outputs = new ArrayList<>(batch.size());
+            function.apply(batch, outputs);
+            if (outputs.size() != batch.size()) {
+                throw new RheemException(String.format(
+                        "Batch map function yielded %d outputs for %d inputs.", outputs.size(), batch.size()
+                ));
+            }
+            return outputs.stream();
+        });
+    }
+
+    /**
+     * Applies a {@link FunctionDescriptor.SerializableBatchFunction} as a flat map function.
+     *
+     * @param stream    to which the {@code function} should be applied
+     * @param function  may yield any number of outputs per input
+     * @param batchSize the number of inputs to pass to the {@code function} at once
+     * @return a {@link Stream} of the outputs
+     */
+    public static <I, O> Stream<O> flatMap(Stream<I> stream,
+                                           FunctionDescriptor.SerializableBatchFunction<I, O> function,
+                                           int batchSize) {
+        return toBatches(stream, batchSize).flatMap(batch -> {
+            final List<O> outputs = new ArrayList<>();
+            function.apply(batch, outputs);
+            return outputs.stream();
+        });
+    }
+
+    /**
+     * Applies a {@link PredicateDescriptor.SerializableBatchPredicate} as a filter.
+     *
+     * @param stream    to which the {@code predicate} should be applied
+     * @param predicate decides which data quanta to retain
+     * @param batchSize the number of inputs to pass to the {@code predicate} at once
+     * @return a {@link Stream} of the retained data quanta
+     */
+    public static <T> Stream<T> filter(Stream<T> stream,
+                                       PredicateDescriptor.SerializableBatchPredicate<T> predicate,
+                                       int batchSize) {
+        return toBatches(stream, batchSize).flatMap(batch -> {
+            final boolean[] verdicts = new boolean[batch.size()];
+            predicate.test(batch, verdicts);
+            final List<T> retained = new ArrayList<>(batch.size());
+            for (int i = 0; i < verdicts.length; i++) {
+                if (verdicts[i]) retained.add(batch.get(i));
+            }
+            return retained.stream();
+        });
+    }
+
+}
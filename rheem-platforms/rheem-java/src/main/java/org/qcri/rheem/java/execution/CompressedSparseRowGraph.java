@@ -0,0 +1,213 @@
+package org.qcri.rheem.java.execution;
+
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * In-memory directed graph in compressed sparse row (CSR) format that is indexed by the target vertices, i.e.,
+ * the incoming edges of each vertex are stored contiguously. The arbitrary {@code int} vertex IDs of the input are
+ * mapped to dense vertex indices {@code 0..n-1}, so that vertex properties can be kept in primitive arrays.
+ */
+public class CompressedSparseRowGraph {
+
+    /**
+     * Maps vertex indices to vertex IDs.
+     */
+    private final int[] vertexIds;
+
+    /**
+     * The incoming edges of the vertex with index {@code i} are stored in
+     * {@code inEdgeSources[inEdgeOffsets[i]..inEdgeOffsets[i+1]-1]}.
+     */
+    private final int[] inEdgeOffsets;
+
+    /**
+     * Vertex indices of the sources of the incoming edges.
+     */
+    private final int[] inEdgeSources;
+
+    /**
+     * Number of outgoing edges per vertex index.
+     */
+    private final int[] outDegrees;
+
+    private CompressedSparseRowGraph(int[] vertexIds, int[] inEdgeOffsets, int[] inEdgeSources, int[] outDegrees) {
+        this.vertexIds = vertexIds;
+        this.inEdgeOffsets = inEdgeOffsets;
+        this.inEdgeSources = inEdgeSources;
+        this.outDegrees = outDegrees;
+    }
+
+    /**
+     * Builds a new instance from the given edges. Vertices are those that occur in any edge.
+     *
+     * @param edges the directed edges as {@code (source vertex ID, target vertex ID)}
+     * @return the new instance
+     */
+    public static CompressedSparseRowGraph fromEdges(Stream<Tuple2<Integer, Integer>> edges) {
+        // Collect the edges as dense vertex indices.
+        final VertexIndex vertexIndex = new VertexIndex();
+        final EdgeBuffer edgeBuffer = new EdgeBuffer();
+        edges.forEach(edge -> edgeBuffer.add(vertexIndex.indexOf(edge.field0), vertexIndex.indexOf(edge.field1)));
+        final int numVertices = vertexIndex.size();
+        final int numEdges = edgeBuffer.size;
+
+        // Count the degrees and sort the edges by their targets.
+        final int[] outDegrees = new int[numVertices];
+        final int[] inEdgeOffsets = new int[numVertices + 1];
+        for (int i = 0; i < numEdges; i++) {
+            outDegrees[edgeBuffer.sources[i]]++;
+            inEdgeOffsets[edgeBuffer.targets[i] + 1]++;
+        }
+        for (int i = 0; i < numVertices; i++) {
+            inEdgeOffsets[i + 1] += inEdgeOffsets[i];
+        }
+        final int[] inEdgeSources = new int[numEdges];
+        final int[] insertPositions = Arrays.copyOf(inEdgeOffsets, numVertices);
+        for (int i = 0; i < numEdges; i++) {
+            inEdgeSources[insertPositions[edgeBuffer.targets[i]]++] = edgeBuffer.sources[i];
+        }
+
+        return new CompressedSparseRowGraph(vertexIndex.getVertexIds(), inEdgeOffsets, inEdgeSources, outDegrees);
+    }
+
+    public int getNumVertices() {
+        return this.vertexIds.length;
+    }
+
+    public int getNumEdges() {
+        return this.inEdgeSources.length;
+    }
+
+    /**
+     * @return the ID of the vertex with the given index
+     */
+    public int getVertexId(int vertexIndex) {
+        return this.vertexIds[vertexIndex];
+    }
+
+    /**
+     * @return the number of outgoing edges of the vertex with the given index
+     */
+    public int getOutDegree(int vertexIndex) {
+        return this.outDegrees[vertexIndex];
+    }
+
+    /**
+     * @return the position of the first incoming edge of the vertex with the given index in
+     * {@link #getInEdgeSources()}
+     */
+    public int getInEdgesStart(int vertexIndex) {
+        return this.inEdgeOffsets[vertexIndex];
+    }
+
+    /**
+     * @return the position after the last incoming edge of the vertex with the given index in
+     * {@link #getInEdgeSources()}
+     */
+    public int getInEdgesEnd(int vertexIndex) {
+        return this.inEdgeOffsets[vertexIndex + 1];
+    }
+
+    /**
+     * Provides the source vertex indices of all incoming edges. The array must not be altered.
+     *
+     * @see #getInEdgesStart(int)
+     * @see #getInEdgesEnd(int)
+     */
+    public int[] getInEdgeSources() {
+        return this.inEdgeSources;
+    }
+
+    /**
+     * Assigns dense indices to vertex IDs by means of an open-addressing hash table.
+     */
+    private static class VertexIndex {
+
+        private static final int NO_INDEX = -1;
+
+        private int[] keys = new int[1024];
+
+        private int[] indices = new int[1024];
+
+        private int[] vertexIds = new int[1024];
+
+        private int size = 0;
+
+        private VertexIndex() {
+            Arrays.fill(this.indices, NO_INDEX);
+        }
+
+        private int indexOf(int vertexId) {
+            int mask = this.keys.length - 1;
+            int pos = hash(vertexId) & mask;
+            while (this.indices[pos] != NO_INDEX) {
+                if (this.keys[pos] == vertexId) return this.indices[pos];
+                pos = (pos + 1) & mask;
+            }
+
+            final int index = this.size++;
+            this.keys[pos] = vertexId;
+            this.indices[pos] = index;
+            if (index == this.vertexIds.length) {
+                this.vertexIds = Arrays.copyOf(this.vertexIds, index << 1);
+            }
+            this.vertexIds[index] = vertexId;
+            if (this.size > this.keys.length >> 1) this.grow();
+            return index;
+        }
+
+        private void grow() {
+            final int[] oldKeys = this.keys, oldIndices = this.indices;
+            this.keys = new int[oldKeys.length << 1];
+            this.indices = new int[oldKeys.length << 1];
+            Arrays.fill(this.indices, NO_INDEX);
+            final int mask = this.keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldIndices[i] == NO_INDEX) continue;
+                int pos = hash(oldKeys[i]) & mask;
+                while (this.indices[pos] != NO_INDEX) pos = (pos + 1) & mask;
+                this.keys[pos] = oldKeys[i];
+                this.indices[pos] = oldIndices[i];
+            }
+        }
+
+        private static int hash(int key) {
+            key *= 0x9E3779B9;
+            return key ^ (key >>> 16);
+        }
+
+        private int size() {
+            return this.size;
+        }
+
+        private int[] getVertexIds() {
+            return Arrays.copyOf(this.vertexIds, this.size);
+        }
+
+    }
+
+    /**
+     * Collects edges as vertex indices in growing primitive arrays.
+     */
+    private static class EdgeBuffer {
+
+        private int[] sources = new int[1024], targets = new int[1024];
+
+        private int size = 0;
+
+        private void add(int source, int target) {
+            if (this.size == this.sources.length) {
+                this.sources = Arrays.copyOf(this.sources, this.size << 1);
+                this.targets = Arrays.copyOf(this.targets, this.size << 1);
+            }
+            this.sources[this.size] = source;
+            this.targets[this.size] = target;
+            this.size++;
+        }
+
+    }
+
+}
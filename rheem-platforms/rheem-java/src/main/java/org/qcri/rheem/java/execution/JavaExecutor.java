@@ -2,18 +2,27 @@ package org.qcri.rheem.java.execution;
 
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.function.ExtendedFunction;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.plan.rheemplan.LoopSubplan;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.PushExecutorTemplate;
 import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.channels.StreamMeter;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@link Executor} implementation for the {@link JavaPlatform}.
@@ -24,10 +33,36 @@ public class JavaExecutor extends PushExecutorTemplate {
 
     private final FunctionCompiler compiler;
 
+    /**
+     * Size of the buffers of {@link PipelinedStreamChannel}s; {@code 0} disables pipelining.
+     */
+    private final int pipelineBufferSize;
+
+    /**
+     * Whether {@link StreamChannel}s should measure how long their producers take (cf. {@link StreamMeter}).
+     */
+    private final boolean isTimingStreams;
+
+    /**
+     * Whether {@link StreamChannel}s should count the data quanta handed to their consumers (cf. {@link StreamMeter}).
+     */
+    private final boolean isMeteringStreams;
+
+    /**
+     * The number of the current iteration of each {@link LoopSubplan} whose {@link LoopHeadOperator} is run by this
+     * instance.
+     */
+    private final Map<LoopSubplan, Integer> currentIterations = new HashMap<>();
+
     public JavaExecutor(JavaPlatform javaPlatform, Job job) {
         super(job);
         this.platform = javaPlatform;
         this.compiler = new FunctionCompiler(job.getConfiguration());
+        this.pipelineBufferSize = (int) job.getConfiguration().getLongProperty("rheem.java.pipeline.buffer-size");
+        // Calibration requires the times of the individual operators.
+        this.isTimingStreams = job.getConfiguration().getOptionalBooleanProperty("rheem.java.metrics.stream-timing")
+                .orElseGet(() -> job.getConfiguration().getOptionalStringProperty("rheem.core.calibration.repository").isPresent());
+        this.isMeteringStreams = this.isTimingStreams || job.isCollectingMetrics();
     }
 
     @Override
@@ -35,6 +70,28 @@ public class JavaExecutor extends PushExecutorTemplate {
         return this.platform;
     }
 
+    /**
+     * {@link PipelinedStreamChannel}s are produced on further threads.
+     */
+    @Override
+    public boolean isExecutingOnCallingThread() {
+        return this.pipelineBufferSize <= 0;
+    }
+
+    /**
+     * @return whether {@link StreamChannel}s should measure how long their producers take
+     */
+    public boolean isTimingStreams() {
+        return this.isTimingStreams;
+    }
+
+    /**
+     * @return whether {@link StreamChannel}s should count the data quanta handed to their consumers
+     */
+    public boolean isMeteringStreams() {
+        return this.isMeteringStreams;
+    }
+
     @Override
     protected void open(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
         cast(task.getOperator()).open(toArray(inputChannelInstances), this.compiler);
@@ -46,11 +103,17 @@ public class JavaExecutor extends PushExecutorTemplate {
         final ChannelInstance[] outputChannelInstances = this.createOutputChannelInstances(task);
 
         // Execute.
-        cast(task.getOperator()).evaluate(toArray(inputChannelInstances), outputChannelInstances, this.compiler);
+        this.trackIteration(task.getOperator());
+        final OptimizationContext.OperatorContext operatorContext = this.getOperatorContext(task.getOperator());
+        cast(task.getOperator()).evaluate(
+                toArray(inputChannelInstances), outputChannelInstances, this.compiler, operatorContext
+        );
 
         // Force execution if necessary.
         if (isForceExecution) {
             for (ChannelInstance outputChannelInstance : outputChannelInstances) {
+                // Pipelined streams are being pulled by their own threads already.
+                if (outputChannelInstance instanceof PipelinedStreamChannel.Instance) continue;
                 if (outputChannelInstance == null || !outputChannelInstance.getChannel().isReusable()) {
                     this.logger.warn("Execution of {} might not have been enforced properly. " +
                                     "This might break the execution or cause side-effects with the re-optimization.",
@@ -63,6 +126,47 @@ public class JavaExecutor extends PushExecutorTemplate {
     }
 
 
+    /**
+     * Keeps track of the current iteration of the loop headed by the given {@link ExecutionOperator}, if any. Must
+     * be called before the {@link ExecutionOperator} is evaluated.
+     *
+     * @param operator that is about to be evaluated
+     */
+    void trackIteration(ExecutionOperator operator) {
+        if (!operator.isLoopHead()) return;
+        final LoopHeadOperator loopHead = (LoopHeadOperator) operator;
+        final LoopSubplan loop = loopHead.getInnermostLoop();
+        if (loop == null) return;
+        if (loopHead.getState() == LoopHeadOperator.State.NOT_STARTED) {
+            this.currentIterations.put(loop, 0);
+        } else {
+            this.currentIterations.merge(loop, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Retrieves the {@link OptimizationContext.OperatorContext} of the given {@link ExecutionOperator}. For
+     * {@link ExecutionOperator}s inside of loops, it is looked up in the {@link OptimizationContext} of the current
+     * iteration (cf. {@link #trackIteration(ExecutionOperator)}). Iterations beyond the expected ones and loops whose
+     * {@link LoopHeadOperator} is not run by this instance fall back to the last and first iteration, respectively.
+     *
+     * @param operator whose {@link OptimizationContext.OperatorContext} is requested
+     * @return the {@link OptimizationContext.OperatorContext} or {@code null} if none
+     */
+    OptimizationContext.OperatorContext getOperatorContext(ExecutionOperator operator) {
+        OptimizationContext optimizationContext = this.job.getOptimizationContext();
+        final Iterator<LoopSubplan> loopIterator = operator.getLoopStack().descendingIterator();
+        while (optimizationContext != null && loopIterator.hasNext()) {
+            final LoopSubplan loop = loopIterator.next();
+            final OptimizationContext.LoopContext loopContext = optimizationContext.getNestedLoopContext(loop);
+            if (loopContext == null) return null;
+            final List<OptimizationContext> iterationContexts = loopContext.getIterationContexts();
+            final int iteration = this.currentIterations.getOrDefault(loop, 0);
+            optimizationContext = iterationContexts.get(Math.min(iteration, iterationContexts.size() - 1));
+        }
+        return optimizationContext == null ? null : optimizationContext.getOperatorContext(operator);
+    }
+
     private ChannelInstance[] createOutputChannelInstances(ExecutionTask task) {
         ChannelInstance[] channelInstances = new ChannelInstance[task.getNumOuputChannels()];
         for (int outputIndex = 0; outputIndex < channelInstances.length; outputIndex++) {
@@ -0,0 +1,324 @@
+package org.qcri.rheem.java.execution;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Single-pass sampling algorithms for the Java platform. None of them requires to know the size of the sampled data
+ * upfront or to go over the data twice, and all of them draw random numbers only for the sampled data quanta rather
+ * than for every input data quantum.
+ */
+public class Sampling {
+
+    /**
+     * Non-{@link RandomAccess} {@link Collection}s of at least this size are sampled with per-thread
+     * {@link Reservoir}s that are eventually merged.
+     */
+    public static final int MIN_PARALLEL_RESERVOIR_SIZE = 100000;
+
+    private Sampling() {
+    }
+
+    /**
+     * Draws a uniform sample without replacement from the given {@link Collection}. {@link RandomAccess}
+     * {@link List}s are sampled directly via their indices; other large {@link Collection}s are sampled in parallel.
+     *
+     * @param collection that should be sampled
+     * @param sampleSize the maximum number of data quanta to sample
+     * @param random     provides randomness
+     * @return the sample
+     */
+    public static <T> List<T> reservoirSample(Collection<T> collection, int sampleSize, Random random) {
+        if (collection.size() <= sampleSize) {
+            return new ArrayList<>(collection);
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return sampleIndices((List<T>) collection, sampleSize, random);
+        }
+        if (collection.size() >= MIN_PARALLEL_RESERVOIR_SIZE) {
+            return collection.parallelStream().collect(Reservoir.collector(sampleSize, random));
+        }
+        return reservoirSample(collection.stream(), sampleSize, random);
+    }
+
+    /**
+     * Draws a uniform sample without replacement from the given {@link Stream} in a single pass.
+     *
+     * @param stream     that should be sampled
+     * @param sampleSize the maximum number of data quanta to sample
+     * @param random     provides randomness
+     * @return the sample
+     */
+    public static <T> List<T> reservoirSample(Stream<T> stream, int sampleSize, Random random) {
+        if (stream.isParallel()) {
+            return stream.collect(Reservoir.collector(sampleSize, random));
+        }
+        final Reservoir<T> reservoir = new Reservoir<>(sampleSize, random);
+        stream.forEach(reservoir);
+        return reservoir.getSample();
+    }
+
+    /**
+     * Draws {@code sampleSize} distinct indices of the given {@link List} (Floyd's algorithm), so that the cost is
+     * independent of the size of the {@link List}.
+     */
+    private static <T> List<T> sampleIndices(List<T> list, int sampleSize, Random random) {
+        final int size = list.size();
+        final Set<Integer> indices = new HashSet<>(2 * sampleSize);
+        final List<T> sample = new ArrayList<>(sampleSize);
+        for (int bound = size - sampleSize; bound < size; bound++) {
+            final int index = random.nextInt(bound + 1);
+            final int pickedIndex = indices.add(index) ? index : bound;
+            if (pickedIndex == bound) indices.add(bound);
+            sample.add(list.get(pickedIndex));
+        }
+        return sample;
+    }
+
+    /**
+     * Draws a Bernoulli sample from the given {@link Collection}, i.e., each data quantum is included independently
+     * with the given probability. {@link RandomAccess} {@link List}s are sampled directly via their indices.
+     *
+     * @param collection  that should be sampled
+     * @param probability with which each data quantum is included
+     * @param random      provides randomness
+     * @return a {@link Stream} of the sample
+     */
+    public static <T> Stream<T> bernoulliSample(Collection<T> collection, double probability, Random random) {
+        if (probability >= 1d) {
+            return collection.stream();
+        } else if (probability <= 0d) {
+            return Stream.empty();
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            final List<T> list = (List<T>) collection;
+            final List<T> sample = new ArrayList<>((int) Math.min(list.size(), Math.ceil(probability * list.size())));
+            final GeometricSkips skips = new GeometricSkips(probability, random);
+            for (long index = skips.next(); index < list.size(); index += skips.next() + 1) {
+                sample.add(list.get((int) index));
+            }
+            return sample.stream();
+        }
+        return bernoulliSample(collection.stream(), probability, random);
+    }
+
+    /**
+     * Draws a Bernoulli sample from the given {@link Stream}, i.e., each data quantum is included independently
+     * with the given probability.
+     *
+     * @param stream      that should be sampled; must be sequential
+     * @param probability with which each data quantum is included
+     * @param random      provides randomness
+     * @return a {@link Stream} of the sample
+     */
+    public static <T> Stream<T> bernoulliSample(Stream<T> stream, double probability, Random random) {
+        if (probability >= 1d) {
+            return stream;
+        } else if (probability <= 0d) {
+            stream.close();
+            return Stream.empty();
+        }
+        return stream.sequential().filter(new BernoulliPredicate<>(probability, random));
+    }
+
+    /**
+     * Draws the numbers of data quanta to skip between two Bernoulli-sampled data quanta, which are geometrically
+     * distributed.
+     */
+    private static class GeometricSkips {
+
+        private final double logComplement;
+
+        private final Random random;
+
+        private GeometricSkips(double probability, Random random) {
+            assert probability > 0d && probability < 1d;
+            this.logComplement = Math.log(1d - probability);
+            this.random = random;
+        }
+
+        /**
+         * @return the number of data quanta to skip before the next sampled one
+         */
+        private long next() {
+            // NB: 1 - nextDouble() is in (0, 1], so that the logarithm is finite. Tiny probabilities might yield
+            // skips that overflow index arithmetic, though.
+            final double skip = Math.floor(Math.log(1d - this.random.nextDouble()) / this.logComplement);
+            return (long) Math.min(skip, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Stateful {@link Predicate} that accepts a Bernoulli sample of the data quanta it is applied to in their order.
+     */
+    private static class BernoulliPredicate<T> implements Predicate<T> {
+
+        private final GeometricSkips skips;
+
+        private long numRemainingSkips;
+
+        private BernoulliPredicate(double probability, Random random) {
+            this.skips = new GeometricSkips(probability, random);
+            this.numRemainingSkips = this.skips.next();
+        }
+
+        @Override
+        public boolean test(T element) {
+            if (this.numRemainingSkips > 0) {
+                this.numRemainingSkips--;
+                return false;
+            }
+            this.numRemainingSkips = this.skips.next();
+            return true;
+        }
+    }
+
+    /**
+     * A reservoir sample (without replacement) over the data quanta passed to {@link #accept(Object)}. Once the
+     * reservoir is full, it computes how many data quanta to skip before the next replacement (Li's Algorithm L),
+     * so that it draws random numbers only for the {@code O(k * log(n/k))} replacements.
+     * <p>Instances that sampled disjoint parts of the data can be {@link #merge(Reservoir) merged}.</p>
+     */
+    public static class Reservoir<T> implements Consumer<T> {
+
+        private final int capacity;
+
+        private final Random random;
+
+        private final List<T> elements;
+
+        /**
+         * Number of data quanta that have been offered to this instance.
+         */
+        private long numSeen = 0;
+
+        /**
+         * The number of seen data quanta when the next data quantum should be admitted to the full reservoir.
+         */
+        private long nextAdmission;
+
+        /**
+         * Algorithm L's running maximum of the random keys of the reservoir data quanta.
+         */
+        private double w;
+
+        /**
+         * Whether this instance has been merged and can therefore not admit further data quanta.
+         */
+        private boolean isMerged = false;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param capacity the sample size
+         * @param random   provides randomness
+         */
+        public Reservoir(int capacity, Random random) {
+            this.capacity = capacity;
+            this.random = random;
+            this.elements = new ArrayList<>(capacity);
+        }
+
+        @Override
+        public void accept(T element) {
+            assert !this.isMerged;
+            this.numSeen++;
+            if (this.elements.size() < this.capacity) {
+                this.elements.add(element);
+                if (this.elements.size() == this.capacity) {
+                    this.w = Math.exp(Math.log(this.nextOpenUnitDouble()) / this.capacity);
+                    this.scheduleNextAdmission();
+                }
+            } else if (this.numSeen == this.nextAdmission) {
+                this.elements.set(this.random.nextInt(this.capacity), element);
+                this.w *= Math.exp(Math.log(this.nextOpenUnitDouble()) / this.capacity);
+                this.scheduleNextAdmission();
+            }
+        }
+
+        private void scheduleNextAdmission() {
+            final double skip = Math.floor(Math.log(this.nextOpenUnitDouble()) / Math.log(1d - this.w));
+            // NB: Once w approaches 1, the skips are 0; once w is tiny, they might overflow.
+            this.nextAdmission = skip >= Long.MAX_VALUE - this.numSeen ?
+                    Long.MAX_VALUE :
+                    this.numSeen + (long) skip + 1;
+        }
+
+        /**
+         * @return a random number in {@code (0, 1]}
+         */
+        private double nextOpenUnitDouble() {
+            return 1d - this.random.nextDouble();
+        }
+
+        /**
+         * Merges this instance with another one that sampled a disjoint part of the data. The result is a uniform
+         * sample of both parts: each of its data quanta is drawn from one of the reservoirs with a probability
+         * proportional to the number of not yet drawn data quanta of the respective part.
+         *
+         * @param that the other instance; it is consumed
+         * @return the merged instance, which cannot admit further data quanta
+         */
+        public Reservoir<T> merge(Reservoir<T> that) {
+            final Reservoir<T> merged = new Reservoir<>(this.capacity, this.random);
+            merged.numSeen = this.numSeen + that.numSeen;
+            merged.isMerged = true;
+            final int mergedSize = (int) Math.min(this.capacity, merged.numSeen);
+            long thisRemainder = this.numSeen, thatRemainder = that.numSeen;
+            while (merged.elements.size() < mergedSize) {
+                final boolean isPickFromThis =
+                        (long) (this.random.nextDouble() * (thisRemainder + thatRemainder)) < thisRemainder;
+                if (isPickFromThis) {
+                    merged.elements.add(removeRandomElement(this.elements, this.random));
+                    thisRemainder--;
+                } else {
+                    merged.elements.add(removeRandomElement(that.elements, this.random));
+                    thatRemainder--;
+                }
+            }
+            return merged;
+        }
+
+        private static <T> T removeRandomElement(List<T> list, Random random) {
+            final int index = random.nextInt(list.size());
+            final T element = list.get(index);
+            list.set(index, list.get(list.size() - 1));
+            list.remove(list.size() - 1);
+            return element;
+        }
+
+        /**
+         * @return the sample
+         */
+        public List<T> getSample() {
+            return this.elements;
+        }
+
+        /**
+         * @return the number of data quanta that have been sampled
+         */
+        public long getNumSeen() {
+            return this.numSeen;
+        }
+
+        /**
+         * Creates a {@link Collector} that samples with a {@link Reservoir} per thread and merges them.
+         *
+         * @param capacity the sample size
+         * @param random   seeds the {@link Random}s of the per-thread {@link Reservoir}s
+         * @return the {@link Collector}
+         */
+        public static <T> Collector<T, Reservoir<T>, List<T>> collector(int capacity, Random random) {
+            return Collector.of(
+                    () -> new Reservoir<>(capacity, new Random(random.nextLong())),
+                    Reservoir::accept,
+                    Reservoir::merge,
+                    Reservoir::getSample,
+                    Collector.Characteristics.UNORDERED
+            );
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package org.qcri.rheem.java.execution;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Removes duplicates from {@link Stream}s within a memory budget. As long as the budget suffices, distinct data
+ * quanta are passed on as soon as they are encountered, so that the encounter order is retained. Once the budget is
+ * exhausted, the in-memory set is frozen: further data quanta are either dropped as duplicates of the frozen set or
+ * are spilled to hash-partitioned files, which are then deduplicated one after another. In consequence, spilled
+ * data quanta are passed on after all in-memory data quanta.
+ * <p>Data quanta to be spilled must be {@link Serializable}.</p>
+ */
+public class SpillingDistinct<T> {
+
+    /**
+     * Recursion depth after which spill partitions are deduplicated in memory regardless of the memory budget. Only
+     * data quanta with colliding hash codes should get so far.
+     */
+    private static final int MAX_SPILL_DEPTH = 8;
+
+    /**
+     * Number of data quanta after which spill streams are reset to keep them from retaining written objects.
+     */
+    private static final int SPILL_RESET_INTERVAL = 1024;
+
+    /**
+     * The maximum number of bytes that the in-memory set may occupy.
+     */
+    private final long memoryBudget;
+
+    /**
+     * The number of files to spill to.
+     */
+    private final int numSpillPartitions;
+
+    /**
+     * The directory to create spill files in or {@code null} to use the temporary directory.
+     */
+    private final Path spillDirectory;
+
+    /**
+     * Creates {@link DistinctSet}s with a given expected size.
+     */
+    private final IntFunction<DistinctSet<T>> distinctSetFactory;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param memoryBudget       the maximum number of bytes that the in-memory set may occupy
+     * @param numSpillPartitions the number of files to spill to once the {@code memoryBudget} is exhausted
+     * @param spillDirectory     the directory to create spill files in or {@code null} to use the temporary directory
+     * @param distinctSetFactory creates {@link DistinctSet}s with a given expected size
+     */
+    public SpillingDistinct(long memoryBudget, int numSpillPartitions, Path spillDirectory,
+                            IntFunction<DistinctSet<T>> distinctSetFactory) {
+        if (memoryBudget < 1 || numSpillPartitions < 2) {
+            throw new RheemException(String.format(
+                    "Illegal distinct settings: %d bytes memory budget, %d spill partitions.", memoryBudget, numSpillPartitions
+            ));
+        }
+        this.memoryBudget = memoryBudget;
+        this.numSpillPartitions = numSpillPartitions;
+        this.spillDirectory = spillDirectory;
+        this.distinctSetFactory = distinctSetFactory;
+    }
+
+    /**
+     * Creates a new instance that is configured via the given {@link Configuration}.
+     *
+     * @param typeClass     the class of the data quanta to be deduplicated; determines the {@link DistinctSet}
+     * @param configuration provides the memory budget, the number of spill partitions, and the spill directory
+     */
+    public static <T> SpillingDistinct<T> create(Class<?> typeClass, Configuration configuration) {
+        final long memoryBudget = configuration.getLongProperty("rheem.java.distinct.memory-budget", 268435456L);
+        final long numSpillPartitions = configuration.getLongProperty("rheem.java.distinct.spill-partitions", 32L);
+        final long bytesPerDataQuantum = configuration.getLongProperty("rheem.java.distinct.bytes-per-quantum", 64L);
+        final Path spillDirectory = configuration.getOptionalStringProperty("rheem.java.spill.dir")
+                .map(Paths::get)
+                .orElse(null);
+        return new SpillingDistinct<>(
+                memoryBudget,
+                (int) Math.min(numSpillPartitions, Integer.MAX_VALUE),
+                spillDirectory,
+                DistinctSet.createFactory(typeClass, bytesPerDataQuantum)
+        );
+    }
+
+    /**
+     * Lazily removes duplicates from the given {@link Stream}.
+     *
+     * @param stream              whose duplicates should be removed
+     * @param expectedNumDistinct the expected number of distinct data quanta to pre-size the in-memory set with
+     * @return a {@link Stream} of the distinct data quanta
+     */
+    public Stream<T> apply(Stream<T> stream, long expectedNumDistinct) {
+        return this.apply(stream, expectedNumDistinct, 0);
+    }
+
+    private Stream<T> apply(Stream<T> stream, long expectedNumDistinct, int depth) {
+        final Pass pass = new Pass(stream, expectedNumDistinct, depth);
+        return StreamSupport.stream(pass, false).onClose(pass::close);
+    }
+
+    /**
+     * Deduplicates a single {@link Stream}, thereby possibly spilling to disk.
+     */
+    private class Pass extends Spliterators.AbstractSpliterator<T> {
+
+        private final int depth;
+
+        private final long memoryBudget;
+
+        private Stream<T> inputStream;
+
+        private Iterator<T> input;
+
+        private DistinctSet<T> distinctSet;
+
+        private SpillPartition[] spillPartitions;
+
+        private int nextSpillPartitionIndex = 0;
+
+        private Stream<T> spillPartitionStream;
+
+        private Spliterator<T> spillPartitionSpliterator;
+
+        private Pass(Stream<T> inputStream, long expectedNumDistinct, int depth) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT);
+            this.depth = depth;
+            this.memoryBudget = depth < MAX_SPILL_DEPTH ? SpillingDistinct.this.memoryBudget : Long.MAX_VALUE;
+            if (depth == MAX_SPILL_DEPTH) {
+                LoggerFactory.getLogger(SpillingDistinct.class).warn(
+                        "Spill partitions cannot be split anymore; deduplicating them in memory."
+                );
+            }
+            this.inputStream = inputStream;
+            this.input = inputStream.iterator();
+            this.distinctSet = SpillingDistinct.this.distinctSetFactory.apply(this.getInitialSize(expectedNumDistinct));
+        }
+
+        /**
+         * Determines how many data quanta to pre-size the in-memory set for, such that it does not exceed the
+         * memory budget right away.
+         */
+        private int getInitialSize(long expectedNumDistinct) {
+            final DistinctSet<T> emptySet = SpillingDistinct.this.distinctSetFactory.apply(0);
+            long initialSize = Math.max(0, Math.min(expectedNumDistinct, Integer.MAX_VALUE));
+            while (initialSize > 0 && emptySet.estimateMemoryUsage(initialSize) > this.memoryBudget) {
+                initialSize /= 2;
+            }
+            return (int) initialSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (this.input != null) {
+                if (!this.input.hasNext()) {
+                    this.finishInput();
+                    break;
+                }
+                final T dataQuantum = this.input.next();
+                if (this.spillPartitions == null
+                        && this.distinctSet.estimateMemoryUsage(1) > this.memoryBudget
+                        && this.distinctSet.size() > 0) {
+                    this.startSpilling();
+                }
+                if (this.spillPartitions == null) {
+                    if (this.distinctSet.add(dataQuantum)) {
+                        action.accept(dataQuantum);
+                        return true;
+                    }
+                } else if (!this.distinctSet.contains(dataQuantum)) {
+                    this.spillPartitions[this.getSpillPartitionIndex(dataQuantum)].write(dataQuantum);
+                }
+            }
+
+            while (this.spillPartitions != null) {
+                if (this.spillPartitionSpliterator != null && this.spillPartitionSpliterator.tryAdvance(action)) {
+                    return true;
+                }
+                if (!this.openNextSpillPartition()) break;
+            }
+            return false;
+        }
+
+        private void startSpilling() {
+            LoggerFactory.getLogger(SpillingDistinct.class).info(
+                    "Exhausted memory budget of {} bytes with {} distinct data quanta; spilling to {} partitions.",
+                    this.memoryBudget, this.distinctSet.size(), SpillingDistinct.this.numSpillPartitions
+            );
+            this.spillPartitions = new SpillingDistinct.SpillPartition[SpillingDistinct.this.numSpillPartitions];
+            for (int i = 0; i < this.spillPartitions.length; i++) {
+                this.spillPartitions[i] = new SpillPartition();
+            }
+        }
+
+        /**
+         * Determines the spill partition for the given data quantum. Every recursion depth partitions differently,
+         * so that spill partitions can be split further.
+         */
+        private int getSpillPartitionIndex(T dataQuantum) {
+            int hash = Objects.hashCode(dataQuantum) ^ (this.depth * 0x9E3779B9);
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            hash *= 0xC2B2AE35;
+            hash ^= hash >>> 16;
+            return Math.floorMod(hash, this.spillPartitions.length);
+        }
+
+        /**
+         * Releases the input and the in-memory set, so that the spill partitions can use the memory budget.
+         */
+        private void finishInput() {
+            this.inputStream.close();
+            this.inputStream = null;
+            this.input = null;
+            this.distinctSet = null;
+            if (this.spillPartitions != null) {
+                for (SpillPartition spillPartition : this.spillPartitions) {
+                    spillPartition.finishWriting();
+                }
+            }
+        }
+
+        private boolean openNextSpillPartition() {
+            if (this.spillPartitionStream != null) {
+                this.spillPartitionStream.close();
+                this.spillPartitionStream = null;
+                this.spillPartitionSpliterator = null;
+            }
+            while (this.nextSpillPartitionIndex < this.spillPartitions.length) {
+                final SpillPartition spillPartition = this.spillPartitions[this.nextSpillPartitionIndex++];
+                if (spillPartition.numDataQuanta == 0) {
+                    spillPartition.delete();
+                    continue;
+                }
+                this.spillPartitionStream = SpillingDistinct.this.apply(
+                        spillPartition.read(), spillPartition.numDataQuanta, this.depth + 1
+                );
+                this.spillPartitionSpliterator = this.spillPartitionStream.spliterator();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Releases all resources, in particular any spill files, even if this instance was not fully consumed.
+         */
+        private void close() {
+            if (this.inputStream != null) this.inputStream.close();
+            if (this.spillPartitionStream != null) this.spillPartitionStream.close();
+            if (this.spillPartitions != null) {
+                for (SpillPartition spillPartition : this.spillPartitions) {
+                    spillPartition.delete();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A file that spilled data quanta are written to and read back from.
+     */
+    private class SpillPartition {
+
+        private Path path;
+
+        private ObjectOutputStream outputStream;
+
+        private long numDataQuanta = 0;
+
+        private void write(T dataQuantum) {
+            try {
+                if (this.outputStream == null) {
+                    this.path = SpillingDistinct.this.spillDirectory == null ?
+                            Files.createTempFile("rheem-distinct", ".spill") :
+                            Files.createTempFile(SpillingDistinct.this.spillDirectory, "rheem-distinct", ".spill");
+                    this.outputStream = new ObjectOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(this.path))
+                    );
+                }
+                this.outputStream.writeObject(dataQuantum);
+                if (++this.numDataQuanta % SPILL_RESET_INTERVAL == 0) {
+                    this.outputStream.reset();
+                }
+            } catch (IOException e) {
+                throw new RheemException(String.format("Could not spill %s.", dataQuantum), e);
+            }
+        }
+
+        private void finishWriting() {
+            if (this.outputStream == null) return;
+            try {
+                this.outputStream.close();
+            } catch (IOException e) {
+                throw new RheemException(String.format("Could not complete spill file %s.", this.path), e);
+            }
+            this.outputStream = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Stream<T> read() {
+            final ObjectInputStream inputStream;
+            try {
+                inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(this.path)));
+            } catch (IOException e) {
+                throw new RheemException(String.format("Could not open spill file %s.", this.path), e);
+            }
+            final Iterator<T> iterator = new Iterator<T>() {
+
+                private long numReadDataQuanta = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.numReadDataQuanta < SpillPartition.this.numDataQuanta;
+                }
+
+                @Override
+                public T next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    try {
+                        this.numReadDataQuanta++;
+                        return (T) inputStream.readObject();
+                    } catch (IOException | ClassNotFoundException e) {
+                        throw new RheemException(String.format("Could not read spill file %s.", SpillPartition.this.path), e);
+                    }
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliterator(iterator, this.numDataQuanta, Spliterator.ORDERED), false)
+                    .onClose(() -> {
+                        try {
+                            inputStream.close();
+                        } catch (IOException e) {
+                            LoggerFactory.getLogger(SpillingDistinct.class).warn("Could not close {}.", this.path, e);
+                        }
+                        this.delete();
+                    });
+        }
+
+        private void delete() {
+            this.finishWriting();
+            if (this.path == null) return;
+            try {
+                Files.deleteIfExists(this.path);
+            } catch (IOException e) {
+                LoggerFactory.getLogger(SpillingDistinct.class).warn("Could not delete spill file {}.", this.path, e);
+            }
+            this.path = null;
+        }
+
+    }
+
+    /**
+     * Keeps track of distinct data quanta.
+     */
+    public interface DistinctSet<T> {
+
+        /**
+         * Adds the given data quantum.
+         *
+         * @return whether the data quantum was not contained before
+         */
+        boolean add(T dataQuantum);
+
+        /**
+         * @return whether the given data quantum is contained
+         */
+        boolean contains(T dataQuantum);
+
+        /**
+         * @return the number of contained data quanta
+         */
+        int size();
+
+        /**
+         * Estimates the memory footprint of this instance once further data quanta are added, including any
+         * growth of internal data structures that these additions would trigger.
+         *
+         * @param numAdditionalDataQuanta the number of distinct data quanta to be added
+         * @return the estimated number of bytes
+         */
+        long estimateMemoryUsage(long numAdditionalDataQuanta);
+
+        /**
+         * Provides a factory for {@link DistinctSet}s that is appropriate for data quanta of the given class, i.e.,
+         * a {@link LongDistinctSet} for integers, longs, and doubles, and a {@link HashSet}-based one otherwise.
+         *
+         * @param typeClass           the class of the data quanta
+         * @param bytesPerDataQuantum the estimated memory footprint of a data quantum in a {@link HashSet}-based
+         *                            {@link DistinctSet}, including the data quantum itself
+         */
+        static <T> IntFunction<DistinctSet<T>> createFactory(Class<?> typeClass, long bytesPerDataQuantum) {
+            if (typeClass == Integer.class || typeClass == int.class) {
+                return expectedSize -> new LongDistinctSet<>(expectedSize, dataQuantum -> (Integer) dataQuantum);
+            } else if (typeClass == Long.class || typeClass == long.class) {
+                return expectedSize -> new LongDistinctSet<>(expectedSize, dataQuantum -> (Long) dataQuantum);
+            } else if (typeClass == Double.class || typeClass == double.class) {
+                // Double#equals(Object) also compares the bit representations.
+                return expectedSize -> new LongDistinctSet<>(
+                        expectedSize, dataQuantum -> Double.doubleToLongBits((Double) dataQuantum)
+                );
+            }
+            return expectedSize -> new ObjectDistinctSet<>(expectedSize, bytesPerDataQuantum);
+        }
+
+    }
+
+    /**
+     * {@link DistinctSet} based on a {@link HashSet}.
+     */
+    public static class ObjectDistinctSet<T> implements DistinctSet<T> {
+
+        private final Set<T> set;
+
+        private final long bytesPerDataQuantum;
+
+        public ObjectDistinctSet(int expectedSize, long bytesPerDataQuantum) {
+            this.set = new HashSet<>((int) (expectedSize / 0.75f) + 1);
+            this.bytesPerDataQuantum = bytesPerDataQuantum;
+        }
+
+        @Override
+        public boolean add(T dataQuantum) {
+            return this.set.add(dataQuantum);
+        }
+
+        @Override
+        public boolean contains(T dataQuantum) {
+            return this.set.contains(dataQuantum);
+        }
+
+        @Override
+        public int size() {
+            return this.set.size();
+        }
+
+        @Override
+        public long estimateMemoryUsage(long numAdditionalDataQuanta) {
+            return (this.set.size() + numAdditionalDataQuanta) * this.bytesPerDataQuantum;
+        }
+    }
+
+    /**
+     * {@link DistinctSet} for data quanta that can be represented by a {@code long} without loss of information. It
+     * stores only these representations in an open-addressing hash table and thus takes only a fraction of the memory
+     * of a {@link HashSet}.
+     */
+    public static class LongDistinctSet<T> implements DistinctSet<T> {
+
+        private static final float MAX_LOAD_FACTOR = 0.6f;
+
+        /**
+         * Represents empty slots in the {@link #table}. The key {@code 0} is tracked via {@link #isContainingZero}
+         * and {@code null} data quanta via {@link #isContainingNull}.
+         */
+        private static final long EMPTY = 0L;
+
+        private final ToLongFunction<T> keyExtractor;
+
+        private long[] table;
+
+        private int numKeys = 0;
+
+        private boolean isContainingZero = false;
+
+        private boolean isContainingNull = false;
+
+        public LongDistinctSet(int expectedSize, ToLongFunction<T> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+            this.table = new long[getCapacity(16, expectedSize)];
+        }
+
+        /**
+         * Determines the table capacity to hold the given number of keys.
+         *
+         * @param minCapacity the minimum capacity (a power of two)
+         * @param numKeys     the number of keys to hold
+         * @return the capacity
+         */
+        private static int getCapacity(int minCapacity, long numKeys) {
+            int capacity = minCapacity;
+            while (capacity * MAX_LOAD_FACTOR < numKeys && capacity < (1 << 30)) capacity <<= 1;
+            return capacity;
+        }
+
+        @Override
+        public boolean add(T dataQuantum) {
+            if (dataQuantum == null) {
+                if (this.isContainingNull) return false;
+                this.isContainingNull = true;
+                this.numKeys++;
+                return true;
+            }
+            final long key = this.keyExtractor.applyAsLong(dataQuantum);
+            if (key == EMPTY) {
+                if (this.isContainingZero) return false;
+                this.isContainingZero = true;
+                this.numKeys++;
+                return true;
+            }
+            if (!insert(this.table, key)) return false;
+            if (++this.numKeys > this.table.length * MAX_LOAD_FACTOR) this.grow();
+            return true;
+        }
+
+        @Override
+        public boolean contains(T dataQuantum) {
+            if (dataQuantum == null) return this.isContainingNull;
+            final long key = this.keyExtractor.applyAsLong(dataQuantum);
+            if (key == EMPTY) return this.isContainingZero;
+            final int mask = this.table.length - 1;
+            for (int i = hash(key) & mask; this.table[i] != EMPTY; i = (i + 1) & mask) {
+                if (this.table[i] == key) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return this.numKeys;
+        }
+
+        @Override
+        public long estimateMemoryUsage(long numAdditionalDataQuanta) {
+            final int capacity = getCapacity(this.table.length, this.numKeys + numAdditionalDataQuanta);
+            // While growing, both the old and the new table are allocated.
+            return capacity == this.table.length ?
+                    capacity * 8L :
+                    (capacity + this.table.length) * 8L;
+        }
+
+        private void grow() {
+            final long[] newTable = new long[this.table.length << 1];
+            for (long key : this.table) {
+                if (key != EMPTY) insert(newTable, key);
+            }
+            this.table = newTable;
+        }
+
+        /**
+         * Inserts a non-{@link #EMPTY} key into the given table via linear probing.
+         *
+         * @return whether the key was not contained before
+         */
+        private static boolean insert(long[] table, long key) {
+            final int mask = table.length - 1;
+            int i = hash(key) & mask;
+            for (; table[i] != EMPTY; i = (i + 1) & mask) {
+                if (table[i] == key) return false;
+            }
+            table[i] = key;
+            return true;
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+
+    }
+
+}
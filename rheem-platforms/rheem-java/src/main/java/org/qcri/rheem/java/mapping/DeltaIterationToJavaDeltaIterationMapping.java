@@ -0,0 +1,44 @@
+package org.qcri.rheem.java.mapping;
+
+import org.qcri.rheem.basic.operators.DeltaIterationOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.operators.JavaDeltaIterationOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link DeltaIterationOperator} to {@link JavaDeltaIterationOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class DeltaIterationToJavaDeltaIterationMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        JavaPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "deltaIteration", new DeltaIterationOperator<>(null, null, null, 0), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<DeltaIterationOperator>(
+                (matchedOperator, epoch) -> new JavaDeltaIterationOperator<>(
+                        matchedOperator.getSolutionSetType(),
+                        matchedOperator.getWorksetType(),
+                        matchedOperator.getKeyDescriptor(),
+                        matchedOperator.getMaxIterations()
+                ).at(epoch)
+        );
+    }
+}
@@ -4,6 +4,7 @@ import org.qcri.rheem.basic.operators.FilterOperator;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.java.operators.JavaFilterOperator;
+import org.qcri.rheem.java.operators.JavaPrimitiveFilterOperator;
 import org.qcri.rheem.java.JavaPlatform;
 
 import java.util.Collection;
@@ -34,10 +35,18 @@ public class FilterToJavaFilterMapping implements Mapping {
 
     private ReplacementSubplanFactory createReplacementSubplanFactory() {
         return new ReplacementSubplanFactory.OfSingleOperators<FilterOperator>(
-                (matchedOperator, epoch) -> new JavaFilterOperator<>(
-                        matchedOperator.getType(),
-                        matchedOperator.getPredicateDescriptor()
-                ).at(epoch)
+                (matchedOperator, epoch) -> {
+                    if (JavaPrimitiveFilterOperator.isApplicableTo(matchedOperator.getPredicateDescriptor())) {
+                        return new JavaPrimitiveFilterOperator<>(
+                                matchedOperator.getType(),
+                                matchedOperator.getPredicateDescriptor()
+                        ).at(epoch);
+                    }
+                    return new JavaFilterOperator<>(
+                            matchedOperator.getType(),
+                            matchedOperator.getPredicateDescriptor()
+                    ).at(epoch);
+                }
         );
     }
 }
@@ -4,6 +4,7 @@ import org.qcri.rheem.basic.operators.GlobalReduceOperator;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.operators.JavaGlobalReduceOperator;
+import org.qcri.rheem.java.operators.JavaPrimitiveGlobalReduceOperator;
 import org.qcri.rheem.java.JavaPlatform;
 
 import java.util.Collection;
@@ -34,10 +35,18 @@ public class JavaGlobalReduceOperatorMapping implements Mapping {
 
     private ReplacementSubplanFactory createReplacementSubplanFactory() {
         return new ReplacementSubplanFactory.OfSingleOperators<GlobalReduceOperator>(
-                (matchedOperator, epoch) -> new JavaGlobalReduceOperator<>(
-                        matchedOperator.getType(),
-                        matchedOperator.getReduceDescriptor()
-                ).at(epoch)
+                (matchedOperator, epoch) -> {
+                    if (JavaPrimitiveGlobalReduceOperator.isApplicableTo(matchedOperator.getReduceDescriptor())) {
+                        return new JavaPrimitiveGlobalReduceOperator<>(
+                                matchedOperator.getType(),
+                                matchedOperator.getReduceDescriptor()
+                        ).at(epoch);
+                    }
+                    return new JavaGlobalReduceOperator<>(
+                            matchedOperator.getType(),
+                            matchedOperator.getReduceDescriptor()
+                    ).at(epoch);
+                }
         );
     }
 }
@@ -5,6 +5,7 @@ import org.qcri.rheem.basic.operators.TextFileSource;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.operators.JavaMapOperator;
+import org.qcri.rheem.java.operators.JavaPrimitiveMapOperator;
 import org.qcri.rheem.java.operators.JavaTextFileSource;
 import org.qcri.rheem.java.JavaPlatform;
 
@@ -37,11 +38,19 @@ public class MapOperatorToJavaMapOperatorMapping implements Mapping {
 
     private ReplacementSubplanFactory createReplacementSubplanFactory() {
         return new ReplacementSubplanFactory.OfSingleOperators<MapOperator>(
-                (matchedOperator, epoch) -> new JavaMapOperator<>(
-                        matchedOperator.getInputType(),
-                        matchedOperator.getOutputType(),
-                        matchedOperator.getFunctionDescriptor()
-                ).at(epoch)
+                (matchedOperator, epoch) -> {
+                    if (JavaPrimitiveMapOperator.isApplicableTo(matchedOperator.getFunctionDescriptor())) {
+                        return new JavaPrimitiveMapOperator<>(
+                                matchedOperator.getInputType(),
+                                matchedOperator.getFunctionDescriptor()
+                        ).at(epoch);
+                    }
+                    return new JavaMapOperator<>(
+                            matchedOperator.getInputType(),
+                            matchedOperator.getOutputType(),
+                            matchedOperator.getFunctionDescriptor()
+                    ).at(epoch);
+                }
         );
     }
 }
@@ -0,0 +1,39 @@
+package org.qcri.rheem.java.mapping;
+
+import org.qcri.rheem.basic.operators.PageRankOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.operators.JavaPageRankOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link PageRankOperator} to {@link JavaPageRankOperator}.
+ */
+public class PageRankToJavaPageRankMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        JavaPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "pageRank", new PageRankOperator(1), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<PageRankOperator>(
+                (matchedOperator, epoch) -> new JavaPageRankOperator(matchedOperator).at(epoch)
+        );
+    }
+
+}
@@ -4,6 +4,7 @@ import org.qcri.rheem.basic.operators.SampleOperator;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.operators.JavaBernoulliSampleOperator;
 import org.qcri.rheem.java.operators.JavaRandomSampleOperator;
 import org.qcri.rheem.java.operators.JavaReservoirSampleOperator;
 import org.slf4j.LoggerFactory;
@@ -13,7 +14,8 @@ import java.util.Collections;
 import java.util.logging.Logger;
 
 /**
- * Mapping from {@link SampleOperator} to {@link JavaRandomSampleOperator}.
+ * Mapping from {@link SampleOperator} to {@link JavaRandomSampleOperator}, {@link JavaReservoirSampleOperator}, or
+ * {@link JavaBernoulliSampleOperator}.
  */
 @SuppressWarnings("unchecked")
 public class SampleToJavaSampleMapping implements Mapping {
@@ -59,6 +61,16 @@ public class SampleToJavaSampleMapping implements Mapping {
                                 return new JavaReservoirSampleOperator<>(
                                         matchedOperator.getSampleSize(),
                                         matchedOperator.getType()).at(epoch);
+                        case BERNOULLI:
+                            if (matchedOperator.getDatasetSize() > 0)
+                                return new JavaBernoulliSampleOperator<>(
+                                        matchedOperator.getSampleSize(),
+                                        matchedOperator.getDatasetSize(),
+                                        matchedOperator.getType()).at(epoch);
+                            else
+                                return new JavaBernoulliSampleOperator<>(
+                                        matchedOperator.getSampleSize(),
+                                        matchedOperator.getType()).at(epoch);
                         default:
                             throw new RheemException(String.format("%s sample method is not yet supported in Java platform.", matchedOperator.getSampleMethod().toString()));
                     }
@@ -0,0 +1,108 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.operators.SampleOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.Sampling;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Java implementation of the {@link SampleOperator} with Bernoulli sampling, i.e., each data quantum is included
+ * independently with probability {@code sampleSize / datasetSize}. Instead of tossing a coin for every data quantum,
+ * it skips geometrically distributed numbers of data quanta.
+ * <p>If the size of the input dataset is neither given nor known from a {@link CollectionChannel}, the input is
+ * collected once to determine it.</p>
+ */
+public class JavaBernoulliSampleOperator<Type>
+        extends SampleOperator<Type>
+        implements JavaExecutionOperator {
+
+    Random rand;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sampleSize expected size of sample
+     */
+    public JavaBernoulliSampleOperator(int sampleSize, DataSetType type) {
+        super(sampleSize, type, Methods.BERNOULLI);
+        rand = new Random();
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sampleSize  expected size of sample
+     * @param datasetSize size of data
+     */
+    public JavaBernoulliSampleOperator(int sampleSize, long datasetSize, DataSetType type) {
+        super(sampleSize, datasetSize, type, Methods.BERNOULLI);
+        rand = new Random();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Stream<Type> sample;
+        if (inputs[0] instanceof CollectionChannel.Instance || this.datasetSize == 0) {
+            final Collection<Type> collection = inputs[0] instanceof CollectionChannel.Instance ?
+                    ((CollectionChannel.Instance) inputs[0]).provideCollection() :
+                    ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(Collectors.toList());
+            final long datasetSize = this.datasetSize > 0 ? this.datasetSize : collection.size();
+            sample = Sampling.bernoulliSample(collection, this.getProbability(datasetSize), this.rand);
+        } else {
+            final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+            sample = Sampling.bernoulliSample(inputStream, this.getProbability(this.datasetSize), this.rand);
+        }
+        ((StreamChannel.Instance) outputs[0]).accept(sample);
+    }
+
+    private double getProbability(long datasetSize) {
+        return datasetSize == 0 ? 1d : Math.min(1d, ((double) this.sampleSize) / datasetSize);
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.bernoullisample.load"
+        );
+        return Optional.of(estimator);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBernoulliSampleOperator<>(this.sampleSize, this.datasetSize, this.getType());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+}
@@ -13,6 +13,8 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 
@@ -75,7 +77,7 @@ public class JavaCartesianOperator<InputType0, InputType1>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.cartesian.load")
+                configuration, "rheem.java.cartesian.load"
         );
         return Optional.of(estimator);
     }
@@ -88,7 +90,10 @@ public class JavaCartesianOperator<InputType0, InputType1>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -2,10 +2,14 @@ package org.qcri.rheem.java.operators;
 
 import org.apache.commons.lang3.Validate;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
 import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadEstimate;
 import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
@@ -26,6 +30,8 @@ import java.util.stream.Collectors;
 
 /**
  * Converts {@link StreamChannel} into a {@link CollectionChannel}
+ * <p>Collections that likely exceed the heap budget are penalized in the cost model, so that the
+ * {@link JavaOffHeapCollectOperator} is preferred for them.</p>
  */
 public class JavaCollectOperator<Type> extends OperatorBase implements JavaExecutionOperator {
 
@@ -66,8 +72,57 @@ public class JavaCollectOperator<Type> extends OperatorBase implements JavaExecu
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.collect.load")
+                configuration, "rheem.java.collect.load"
         );
-        return Optional.of(estimator);
+        return Optional.of(new HeapBudgetLoadProfileEstimator(estimator));
+    }
+
+    /**
+     * Adds a CPU penalty for collections whose estimated size exceeds the heap budget, as they would cause excessive
+     * garbage collection or even exhaust the heap. The penalty is configured in the {@link Configuration} of the
+     * {@link OptimizationContext} rather than the one that created the estimator.
+     */
+    private static class HeapBudgetLoadProfileEstimator implements LoadProfileEstimator {
+
+        private final LoadProfileEstimator mainEstimator;
+
+        private HeapBudgetLoadProfileEstimator(LoadProfileEstimator mainEstimator) {
+            this.mainEstimator = mainEstimator;
+        }
+
+        @Override
+        @Deprecated
+        public LoadProfile estimate(CardinalityEstimate[] inputEstimates, CardinalityEstimate[] outputEstimates) {
+            return this.mainEstimator.estimate(inputEstimates, outputEstimates);
+        }
+
+        @Override
+        public LoadProfile estimate(OptimizationContext.OperatorContext operatorContext) {
+            final LoadProfile loadProfile = this.mainEstimator.estimate(operatorContext);
+            final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(0);
+            if (cardinality == null) return loadProfile;
+
+            final Configuration configuration = operatorContext.getOptimizationContext().getConfiguration();
+            final long heapBudget = configuration.getOptionalLongProperty("rheem.java.collect.heap-budget")
+                    .orElse(Runtime.getRuntime().maxMemory() / 4);
+            final long bytesPerDataQuantum = configuration.getLongProperty("rheem.java.collect.bytes-per-quantum");
+            final long cpuPerDataQuantum = configuration.getLongProperty("rheem.java.collect.heap-overflow-cpu");
+            final LoadEstimate cpuPenalty = new LoadEstimate(
+                    heapOverflowPenalty(cardinality.getLowerEstimate(), heapBudget, bytesPerDataQuantum, cpuPerDataQuantum),
+                    heapOverflowPenalty(cardinality.getUpperEstimate(), heapBudget, bytesPerDataQuantum, cpuPerDataQuantum),
+                    cardinality.getCorrectnessProbability()
+            );
+            loadProfile.nest(new LoadProfile(cpuPenalty, new LoadEstimate(0)));
+            return loadProfile;
+        }
+
+        private static long heapOverflowPenalty(long numDataQuanta, long heapBudget,
+                                                long bytesPerDataQuantum, long cpuPerDataQuantum) {
+            // Compare and multiply without overflowing, as upper cardinality estimates can be huge.
+            if (numDataQuanta <= heapBudget / Math.max(bytesPerDataQuantum, 1L)) return 0L;
+            return numDataQuanta > Long.MAX_VALUE / Math.max(cpuPerDataQuantum, 1L) ?
+                    Long.MAX_VALUE :
+                    numDataQuanta * cpuPerDataQuantum;
+        }
     }
 }
@@ -39,7 +39,7 @@ public class JavaCollectionSource extends CollectionSource implements JavaExecut
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.collectionsource.load")
+                configuration, "rheem.java.collectionsource.load"
         );
         return Optional.of(estimator);
     }
@@ -12,6 +12,8 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 
@@ -46,6 +48,8 @@ public class JavaCountOperator<Type>
         final long count;
         if (input instanceof CollectionChannel.Instance) {
             count = ((CollectionChannel.Instance) input).provideCollection().size();
+        } else if (input instanceof StreamChannel.Instance) {
+            count = ((StreamChannel.Instance) input).count();
         } else {
             count = input.provideStream().count();
         }
@@ -55,7 +59,7 @@ public class JavaCountOperator<Type>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.count.load")
+                configuration, "rheem.java.count.load"
         );
         return Optional.of(estimator);
     }
@@ -68,7 +72,10 @@ public class JavaCountOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -0,0 +1,182 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.operators.DeltaIterationOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Java implementation of the {@link DeltaIterationOperator}. It keeps the solution set in a hash table across
+ * iterations, so that applying a solution set delta costs only as much as the delta is large.
+ * <p>The solution set is handed to the loop body along with a hash index on its keys. Hence, a {@link JavaJoinOperator}
+ * that uses the very same key descriptor as this instance probes the solution set directly rather than indexing
+ * it anew in every iteration.</p>
+ */
+public class JavaDeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        extends DeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        implements JavaExecutionOperator {
+
+    /**
+     * The solution set while this instance is running.
+     */
+    private Map<KeyType, SolutionType> solutionSet;
+
+    private int numIterations;
+
+    /**
+     * Creates a new instance.
+     */
+    public JavaDeltaIterationOperator(DataSetType<SolutionType> solutionSetType,
+                                      DataSetType<WorksetType> worksetType,
+                                      TransformationDescriptor<SolutionType, KeyType> keyDescriptor,
+                                      int maxIterations) {
+        super(solutionSetType, worksetType, keyDescriptor, maxIterations);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<SolutionType, KeyType> keyExtractor = compiler.compile(this.keyDescriptor);
+        final Collection<WorksetType> workset;
+        switch (this.getState()) {
+            case NOT_STARTED:
+                assert inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] != null;
+                assert inputs[INITIAL_WORKSET_INPUT_INDEX] != null;
+
+                this.numIterations = 0;
+                this.solutionSet = new HashMap<>();
+                ((JavaChannelInstance) inputs[INITIAL_SOLUTION_SET_INPUT_INDEX]).<SolutionType>provideStream()
+                        .forEach(element -> this.solutionSet.put(keyExtractor.apply(element), element));
+                workset = ((CollectionChannel.Instance) inputs[INITIAL_WORKSET_INPUT_INDEX]).provideCollection();
+                break;
+            case RUNNING:
+                assert inputs[SOLUTION_SET_DELTA_INPUT_INDEX] != null;
+                assert inputs[NEXT_WORKSET_INPUT_INDEX] != null;
+
+                // Collect the delta before applying it, because it might be lazily computed from the solution set.
+                final List<SolutionType> delta = ((JavaChannelInstance) inputs[SOLUTION_SET_DELTA_INPUT_INDEX])
+                        .<SolutionType>provideStream()
+                        .collect(Collectors.toList());
+                for (SolutionType element : delta) {
+                    this.solutionSet.put(keyExtractor.apply(element), element);
+                }
+                workset = ((CollectionChannel.Instance) inputs[NEXT_WORKSET_INPUT_INDEX]).provideCollection();
+                break;
+            default:
+                throw new IllegalStateException(String.format("%s is finished, yet executed.", this));
+        }
+
+        if (workset.isEmpty() || this.numIterations >= this.maxIterations) {
+            // final loop output
+            ((CollectionChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(new ArrayList<>(this.solutionSet.values()));
+            outputs[SOLUTION_SET_OUTPUT_INDEX] = null;
+            outputs[WORKSET_OUTPUT_INDEX] = null;
+            this.solutionSet = null;
+            this.setState(State.FINISHED);
+        } else {
+            outputs[FINAL_OUTPUT_INDEX] = null;
+            this.numIterations++;
+            final CollectionChannel.Instance solutionSetOutput =
+                    (CollectionChannel.Instance) outputs[SOLUTION_SET_OUTPUT_INDEX];
+            if (solutionSetOutput != null) {
+                solutionSetOutput.accept(Collections.unmodifiableCollection(this.solutionSet.values()));
+                solutionSetOutput.registerHashIndex(this.keyDescriptor, new SolutionSetIndex<>(this.solutionSet));
+            }
+            ((CollectionChannel.Instance) outputs[WORKSET_OUTPUT_INDEX]).accept(workset);
+            this.setState(State.RUNNING);
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.deltaiteration.load"
+        );
+        return Optional.of(estimator);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaDeltaIterationOperator<>(this.getSolutionSetType(), this.getWorksetType(),
+                this.getKeyDescriptor(), this.getMaxIterations());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        switch (index) {
+            case INITIAL_SOLUTION_SET_INPUT_INDEX:
+            case SOLUTION_SET_DELTA_INPUT_INDEX:
+                return Arrays.asList(
+                        CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                        PipelinedStreamChannel.DESCRIPTOR
+                );
+            case INITIAL_WORKSET_INPUT_INDEX:
+            case NEXT_WORKSET_INPUT_INDEX:
+                return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+            default:
+                throw new IllegalStateException(String.format("%s has no %d-th input.", this, index));
+        }
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    /**
+     * Read-only view of the solution set as hash index in the sense of
+     * {@link CollectionChannel.Instance#provideHashIndex(Object, Function)}.
+     */
+    private static class SolutionSetIndex<K, T> extends AbstractMap<K, Collection<T>> {
+
+        private final Map<K, T> solutionSet;
+
+        private SolutionSetIndex(Map<K, T> solutionSet) {
+            this.solutionSet = solutionSet;
+        }
+
+        @Override
+        public Collection<T> get(Object key) {
+            final T element = this.solutionSet.get(key);
+            return element == null ? null : Collections.singletonList(element);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.solutionSet.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.solutionSet.size();
+        }
+
+        @Override
+        public Set<Entry<K, Collection<T>>> entrySet() {
+            return this.solutionSet.entrySet().stream()
+                    .map(entry -> new SimpleImmutableEntry<K, Collection<T>>(
+                            entry.getKey(), Collections.singletonList(entry.getValue())
+                    ))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.DistinctOperator;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
@@ -12,16 +14,24 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.SpillingDistinct;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
- * Java implementation of the {@link DistinctOperator}.
+ * Java implementation of the {@link DistinctOperator}. It pre-sizes its in-memory set with the measured or estimated
+ * number of input data quanta and spills to disk once the set exceeds {@code rheem.java.distinct.memory-budget}
+ * bytes.
+ *
+ * @see SpillingDistinct
  */
 public class JavaDistinctOperator<Type>
         extends DistinctOperator<Type>
@@ -39,16 +49,48 @@ public class JavaDistinctOperator<Type>
 
     @Override
     public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        this.evaluate(inputs, outputs, compiler, null);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                         OptimizationContext.OperatorContext operatorContext) {
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().distinct());
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final SpillingDistinct<Type> distinct = SpillingDistinct.create(
+                this.getInputType().getDataUnitType().getTypeClass(), compiler.getConfiguration()
+        );
+        ((StreamChannel.Instance) outputs[0]).accept(
+                distinct.apply(input.provideStream(), getExpectedNumDistinctDataQuanta(input, operatorContext))
+        );
+    }
+
+    /**
+     * Determines the number of distinct data quanta to expect, i.e., the measured or estimated number of input data
+     * quanta.
+     *
+     * @param input           the input {@link ChannelInstance}
+     * @param operatorContext provides the estimated input cardinality; may be {@code null}
+     * @return the expected number of distinct data quanta or {@code 0} if unknown
+     */
+    private static long getExpectedNumDistinctDataQuanta(ChannelInstance input,
+                                                         OptimizationContext.OperatorContext operatorContext) {
+        final OptionalLong measuredCardinality = input.getMeasuredCardinality();
+        if (measuredCardinality.isPresent()) {
+            return measuredCardinality.getAsLong();
+        }
+        final CardinalityEstimate cardinalityEstimate = operatorContext == null ?
+                null :
+                operatorContext.getInputCardinality(0);
+        return cardinalityEstimate == null ? 0L : cardinalityEstimate.getAverageEstimate();
     }
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.distinct.load")
+                configuration, "rheem.java.distinct.load"
         );
         return Optional.of(estimator);
     }
@@ -62,7 +104,10 @@ public class JavaDistinctOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -13,6 +13,8 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 import org.qcri.rheem.java.execution.JavaExecutor;
@@ -96,7 +98,7 @@ public class JavaDoWhileOperator<InputType, ConvergenceType>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.while.load")
+                configuration, "rheem.java.while.load"
         );
         return Optional.of(estimator);
     }
@@ -114,7 +116,10 @@ public class JavaDoWhileOperator<InputType, ConvergenceType>
         switch (index) {
             case INITIAL_INPUT_INDEX:
             case ITERATION_INPUT_INDEX:
-                return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+                return Arrays.asList(
+                        CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                        PipelinedStreamChannel.DESCRIPTOR
+                );
             case CONVERGENCE_INPUT_INDEX:
                 return Collections.singletonList(CollectionChannel.DESCRIPTOR);
             default:
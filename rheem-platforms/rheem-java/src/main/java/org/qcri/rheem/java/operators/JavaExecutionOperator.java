@@ -1,5 +1,6 @@
 package org.qcri.rheem.java.operators;
 
+import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.java.JavaPlatform;
@@ -39,4 +40,19 @@ public interface JavaExecutionOperator extends ExecutionOperator {
      */
     void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler);
 
+    /**
+     * Evaluates this operator like {@link #evaluate(ChannelInstance[], ChannelInstance[], FunctionCompiler)}, but
+     * additionally provides the optimizer's view on this operator, e.g., its estimated input cardinalities.
+     *
+     * @param inputs          {@link ChannelInstance}s that satisfy the inputs of this operator
+     * @param outputs         {@link ChannelInstance}s that collect the outputs of this operator
+     * @param compiler        compiles functions used by the operator
+     * @param operatorContext the {@link OptimizationContext.OperatorContext} of this operator or {@code null} if
+     *                        not available
+     */
+    default void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                          OptimizationContext.OperatorContext operatorContext) {
+        this.evaluate(inputs, outputs, compiler);
+    }
+
 }
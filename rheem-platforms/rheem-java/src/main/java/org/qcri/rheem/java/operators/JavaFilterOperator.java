@@ -13,8 +13,11 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.BatchExecution;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -22,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link FilterOperator}.
@@ -42,8 +46,14 @@ public class JavaFilterOperator<Type>
 
     @Override
     public void open(ChannelInstance[] inputs, FunctionCompiler compiler) {
-        final Predicate<Type> filterFunction = compiler.compile(this.predicateDescriptor);
-        JavaExecutor.openFunction(this, filterFunction, inputs);
+        final Optional<PredicateDescriptor.SerializableBatchPredicate<Type>> batchPredicate =
+                this.predicateDescriptor.getBatchImplementation();
+        if (batchPredicate.isPresent()) {
+            JavaExecutor.openFunction(this, batchPredicate.get(), inputs);
+        } else {
+            final Predicate<Type> filterFunction = compiler.compile(this.predicateDescriptor);
+            JavaExecutor.openFunction(this, filterFunction, inputs);
+        }
     }
 
     public JavaFilterOperator(DataSetType<Type> type, PredicateDescriptor.SerializablePredicate<Type> predicateDescriptor) {
@@ -56,14 +66,22 @@ public class JavaFilterOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        final Predicate<Type> filterFunction = compiler.compile(this.predicateDescriptor);
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(filterFunction));
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final Optional<PredicateDescriptor.SerializableBatchPredicate<Type>> batchPredicate =
+                this.predicateDescriptor.getBatchImplementation();
+        if (batchPredicate.isPresent()) {
+            final int batchSize = BatchExecution.getBatchSize(compiler.getConfiguration());
+            ((StreamChannel.Instance) outputs[0]).accept(BatchExecution.filter(inputStream, batchPredicate.get(), batchSize));
+        } else {
+            final Predicate<Type> filterFunction = compiler.compile(this.predicateDescriptor);
+            ((StreamChannel.Instance) outputs[0]).accept(inputStream.filter(filterFunction));
+        }
     }
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.filter.load")
+                configuration, "rheem.java.filter.load"
         );
         return Optional.of(estimator);
     }
@@ -77,7 +95,10 @@ public class JavaFilterOperator<Type>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
         if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
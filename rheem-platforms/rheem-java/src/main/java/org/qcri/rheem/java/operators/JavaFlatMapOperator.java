@@ -3,6 +3,7 @@ package org.qcri.rheem.java.operators;
 import org.qcri.rheem.basic.operators.FlatMapOperator;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.FlatMapDescriptor;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
@@ -12,12 +13,16 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.BatchExecution;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -39,8 +44,14 @@ public class JavaFlatMapOperator<InputType, OutputType>
 
     @Override
     public void open(ChannelInstance[] inputs, FunctionCompiler compiler) {
-        final Function<InputType, Iterable<OutputType>> udf = compiler.compile(this.functionDescriptor);
-        JavaExecutor.openFunction(this, udf, inputs);
+        final Optional<FunctionDescriptor.SerializableBatchFunction<InputType, OutputType>> batchUdf =
+                this.functionDescriptor.getBatchImplementation();
+        if (batchUdf.isPresent()) {
+            JavaExecutor.openFunction(this, batchUdf.get(), inputs);
+        } else {
+            final Function<InputType, Iterable<OutputType>> udf = compiler.compile(this.functionDescriptor);
+            JavaExecutor.openFunction(this, udf, inputs);
+        }
     }
 
     @Override
@@ -48,11 +59,23 @@ public class JavaFlatMapOperator<InputType, OutputType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        final Stream<InputType> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final Optional<FunctionDescriptor.SerializableBatchFunction<InputType, OutputType>> batchFunction =
+                this.functionDescriptor.getBatchImplementation();
+        if (batchFunction.isPresent()) {
+            JavaExecutor.openFunction(this, batchFunction.get(), inputs);
+            final int batchSize = BatchExecution.getBatchSize(compiler.getConfiguration());
+            ((StreamChannel.Instance) outputs[0]).accept(
+                    BatchExecution.flatMap(inputStream, batchFunction.get(), batchSize)
+            );
+            return;
+        }
+
         final Function<InputType, Iterable<OutputType>> flatmapFunction = compiler.compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, flatmapFunction, inputs);
 
         ((StreamChannel.Instance) outputs[0]).accept(
-                ((JavaChannelInstance) inputs[0]).<InputType>provideStream().flatMap(dataQuantum ->
+                inputStream.flatMap(dataQuantum ->
                         StreamSupport.stream(
                                 Spliterators.spliteratorUnknownSize(
                                         flatmapFunction.apply(dataQuantum).iterator(),
@@ -71,7 +94,7 @@ public class JavaFlatMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.flatmap.load")
+                configuration, "rheem.java.flatmap.load"
         );
         estimator.nest(configuration.getFunctionLoadProfileEstimatorProvider().provideFor(this.getFunctionDescriptor()));
         return Optional.of(estimator);
@@ -81,7 +104,10 @@ public class JavaFlatMapOperator<InputType, OutputType>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
         if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -15,6 +15,8 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 
@@ -48,7 +50,7 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         final Function<InputType1, KeyType> keyExtractor1 = compiler.compile(this.keyDescriptor1);
 
         final CardinalityEstimate cardinalityEstimate0 = this.getInput(0).getCardinalityEstimate();
-        final CardinalityEstimate cardinalityEstimate1 = this.getInput(0).getCardinalityEstimate();
+        final CardinalityEstimate cardinalityEstimate1 = this.getInput(1).getCardinalityEstimate();
 
         final Stream<Tuple2<InputType0, InputType1>> joinStream;
 
@@ -56,7 +58,23 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
                 cardinalityEstimate1 != null &&
                 cardinalityEstimate0.getUpperEstimate() <= cardinalityEstimate1.getUpperEstimate();
 
-        if (isMaterialize0) {
+        if (isIndexedCollection(inputs[0], this.keyDescriptor0)) {
+            // Loop invariant inputs can keep their probe table across iterations, and some inputs come with a
+            // readily available probe table.
+            final Map<KeyType, Collection<InputType0>> probeTable =
+                    ((CollectionChannel.Instance) inputs[0]).provideHashIndex(this.keyDescriptor0, keyExtractor0);
+            joinStream = ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().flatMap(dataQuantum1 ->
+                    probeTable.getOrDefault(keyExtractor1.apply(dataQuantum1), Collections.emptyList()).stream()
+                            .map(dataQuantum0 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+
+        } else if (isIndexedCollection(inputs[1], this.keyDescriptor1)) {
+            final Map<KeyType, Collection<InputType1>> probeTable =
+                    ((CollectionChannel.Instance) inputs[1]).provideHashIndex(this.keyDescriptor1, keyExtractor1);
+            joinStream = ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().flatMap(dataQuantum0 ->
+                    probeTable.getOrDefault(keyExtractor0.apply(dataQuantum0), Collections.emptyList()).stream()
+                            .map(dataQuantum1 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+
+        } else if (isMaterialize0) {
             final int expectedNumElements =
                     (int) (cardinalityEstimate0.getUpperEstimate() - cardinalityEstimate0.getLowerEstimate()) / 2;
             Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
@@ -95,10 +113,21 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         ((StreamChannel.Instance) outputs[0]).accept(joinStream);
     }
 
+    /**
+     * Tells whether the given {@link ChannelInstance} is a {@link CollectionChannel.Instance} that is retained
+     * across loop iterations, so that a probe table over it can be reused, or that already provides a probe table
+     * with the given {@code indexId}.
+     */
+    private static boolean isIndexedCollection(ChannelInstance channelInstance, Object indexId) {
+        return channelInstance instanceof CollectionChannel.Instance && (
+                channelInstance.isLoopInvariant() || ((CollectionChannel.Instance) channelInstance).hasHashIndex(indexId)
+        );
+    }
+
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.join.load")
+                configuration, "rheem.java.join.load"
         );
         return Optional.of(estimator);
     }
@@ -112,7 +141,10 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
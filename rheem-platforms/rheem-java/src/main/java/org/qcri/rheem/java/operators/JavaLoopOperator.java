@@ -11,6 +11,8 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 import org.qcri.rheem.java.execution.JavaExecutor;
@@ -101,7 +103,7 @@ public class JavaLoopOperator<InputType, ConvergenceType>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.loop.load")
+                configuration, "rheem.java.loop.load"
         );
         return Optional.of(estimator);
     }
@@ -118,7 +120,10 @@ public class JavaLoopOperator<InputType, ConvergenceType>
         switch (index) {
             case INITIAL_INPUT_INDEX:
             case ITERATION_INPUT_INDEX:
-                return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+                return Arrays.asList(
+                        CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                        PipelinedStreamChannel.DESCRIPTOR
+                );
             case INITIAL_CONVERGENCE_INPUT_INDEX:
             case ITERATION_CONVERGENCE_INPUT_INDEX:
                 return Collections.singletonList(CollectionChannel.DESCRIPTOR);
@@ -2,6 +2,7 @@ package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.MapOperator;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
@@ -12,8 +13,11 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.BatchExecution;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -21,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link org.qcri.rheem.basic.operators.MapOperator}.
@@ -38,8 +43,14 @@ public class JavaMapOperator<InputType, OutputType>
 
     @Override
     public void open(ChannelInstance[] inputs, FunctionCompiler compiler) {
-        final Function<InputType, OutputType> udf = compiler.compile(this.functionDescriptor);
-        JavaExecutor.openFunction(this, udf, inputs);
+        final Optional<FunctionDescriptor.SerializableBatchFunction<InputType, OutputType>> batchUdf =
+                this.functionDescriptor.getBatchImplementation();
+        if (batchUdf.isPresent()) {
+            JavaExecutor.openFunction(this, batchUdf.get(), inputs);
+        } else {
+            final Function<InputType, OutputType> udf = compiler.compile(this.functionDescriptor);
+            JavaExecutor.openFunction(this, udf, inputs);
+        }
     }
 
     @Override
@@ -47,10 +58,21 @@ public class JavaMapOperator<InputType, OutputType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        final Function<InputType, OutputType> function = compiler.compile(this.functionDescriptor);
-        JavaExecutor.openFunction(this, function, inputs);
+        final Stream<InputType> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final Stream<OutputType> outputStream;
+        final Optional<FunctionDescriptor.SerializableBatchFunction<InputType, OutputType>> batchFunction =
+                this.functionDescriptor.getBatchImplementation();
+        if (batchFunction.isPresent()) {
+            JavaExecutor.openFunction(this, batchFunction.get(), inputs);
+            final int batchSize = BatchExecution.getBatchSize(compiler.getConfiguration());
+            outputStream = BatchExecution.map(inputStream, batchFunction.get(), batchSize);
+        } else {
+            final Function<InputType, OutputType> function = compiler.compile(this.functionDescriptor);
+            JavaExecutor.openFunction(this, function, inputs);
+            outputStream = inputStream.map(function);
+        }
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<InputType>provideStream().map(function));
+        ((StreamChannel.Instance) outputs[0]).accept(outputStream);
     }
 
     @Override
@@ -61,7 +83,7 @@ public class JavaMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
         final NestableLoadProfileEstimator operatorEstimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.map.load")
+                configuration, "rheem.java.map.load"
         );
         final LoadProfileEstimator functionEstimator =
                 configuration.getFunctionLoadProfileEstimatorProvider().provideFor(this.getFunctionDescriptor());
@@ -74,7 +96,10 @@ public class JavaMapOperator<InputType, OutputType>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
         if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
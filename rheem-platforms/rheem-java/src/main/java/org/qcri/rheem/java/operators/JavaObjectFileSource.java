@@ -53,7 +53,6 @@ public class JavaObjectFileSource<T> extends UnarySource<T> implements JavaExecu
     public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
         assert outputs.length == this.getNumOutputs();
 
-        SequenceFileIterator sequenceFileIterator;
         final String path;
         if (this.sourcePath == null) {
             final FileChannel.Instance input = (FileChannel.Instance) inputs[0];
@@ -62,15 +61,19 @@ public class JavaObjectFileSource<T> extends UnarySource<T> implements JavaExecu
             assert inputs.length == 0;
             path = this.sourcePath;
         }
-        try {
-            final String actualInputPath = FileSystems.findActualSingleInputPath(path);
-            sequenceFileIterator = new SequenceFileIterator<>(actualInputPath);
-            Stream<?> sequenceFileStream =
-                    StreamSupport.stream(Spliterators.spliteratorUnknownSize(sequenceFileIterator, 0), false);
-            ((StreamChannel.Instance) outputs[0]).accept(sequenceFileStream);
-        } catch (IOException e) {
-            throw new RheemException(String.format("%s failed to read from %s.", this, path), e);
-        }
+        // The input might be split into several files, e.g., when it has been written in parallel.
+        final Collection<String> actualInputPaths = FileSystems.findActualInputPaths(path);
+        Stream<?> sequenceFileStream = actualInputPaths.stream().flatMap(actualInputPath -> {
+            final SequenceFileIterator<?> sequenceFileIterator;
+            try {
+                sequenceFileIterator = new SequenceFileIterator<>(actualInputPath);
+            } catch (IOException e) {
+                throw new RheemException(String.format("%s failed to read from %s.", this, actualInputPath), e);
+            }
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(sequenceFileIterator, 0), false)
+                    .onClose(sequenceFileIterator::close);
+        });
+        ((StreamChannel.Instance) outputs[0]).accept(sequenceFileStream);
     }
 
     @Override
@@ -85,7 +88,7 @@ public class JavaObjectFileSource<T> extends UnarySource<T> implements JavaExecu
 //            }
 //        }
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.objectfilesource.load")
+                configuration, "rheem.java.objectfilesource.load"
         );
         return Optional.of(estimator);
     }
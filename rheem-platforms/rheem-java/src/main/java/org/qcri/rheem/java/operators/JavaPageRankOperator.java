@@ -0,0 +1,134 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.PageRankOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.CompressedSparseRowGraph;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Java implementation of the {@link PageRankOperator}. It loads the graph into memory as a
+ * {@link CompressedSparseRowGraph} and runs the power iterations in parallel on primitive rank arrays. Thus, it avoids
+ * the sharding of disk-based engines but requires the graph to fit into main memory.
+ */
+public class JavaPageRankOperator extends PageRankOperator implements JavaExecutionOperator {
+
+    public JavaPageRankOperator(int numIterations) {
+        super(numIterations);
+    }
+
+    public JavaPageRankOperator(PageRankOperator pageRankOperator) {
+        super(pageRankOperator.getNumIterations());
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromEdges(
+                ((JavaChannelInstance) inputs[0]).<Tuple2<Integer, Integer>>provideStream()
+        );
+        final double[] pageRanks = computePageRanks(graph, this.numIterations, DAMPING_FACTOR);
+
+        final List<Tuple2<Integer, Float>> output = new ArrayList<>(graph.getNumVertices());
+        for (int vertexIndex = 0; vertexIndex < graph.getNumVertices(); vertexIndex++) {
+            output.add(new Tuple2<>(graph.getVertexId(vertexIndex), (float) pageRanks[vertexIndex]));
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(output);
+    }
+
+    /**
+     * Computes the page ranks of the vertices in the given {@link CompressedSparseRowGraph} via power iterations as
+     * specified by the {@link PageRankOperator}. Each iteration pulls the rank contributions along the incoming edges
+     * of each vertex, which allows to process the vertices in parallel without synchronization.
+     *
+     * @param graph         whose page ranks should be computed
+     * @param numIterations the number of power iterations
+     * @param dampingFactor the probability to follow an outgoing edge rather than to jump to a random vertex
+     * @return the page ranks indexed by vertex index
+     */
+    public static double[] computePageRanks(CompressedSparseRowGraph graph, int numIterations, double dampingFactor) {
+        final int numVertices = graph.getNumVertices();
+        final int[] inEdgeSources = graph.getInEdgeSources();
+        double[] pageRanks = new double[numVertices];
+        double[] newPageRanks = new double[numVertices];
+        final double[] contributions = new double[numVertices];
+        Arrays.fill(pageRanks, 1d);
+        final double basePageRank = 1d - dampingFactor;
+
+        for (int iteration = 0; iteration < numIterations; iteration++) {
+            final double[] currentPageRanks = pageRanks;
+            IntStream.range(0, numVertices).parallel().forEach(vertexIndex -> {
+                final int outDegree = graph.getOutDegree(vertexIndex);
+                contributions[vertexIndex] = outDegree == 0 ? 0d : currentPageRanks[vertexIndex] / outDegree;
+            });
+
+            final double[] nextPageRanks = newPageRanks;
+            IntStream.range(0, numVertices).parallel().forEach(vertexIndex -> {
+                double sum = 0d;
+                for (int i = graph.getInEdgesStart(vertexIndex); i < graph.getInEdgesEnd(vertexIndex); i++) {
+                    sum += contributions[inEdgeSources[i]];
+                }
+                nextPageRanks[vertexIndex] = basePageRank + dampingFactor * sum;
+            });
+
+            newPageRanks = pageRanks;
+            pageRanks = nextPageRanks;
+        }
+
+        return pageRanks;
+    }
+
+    /**
+     * Estimates the load as the load to build the {@link CompressedSparseRowGraph} plus {@link #getNumIterations()}
+     * times the load of a single power iteration.
+     */
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.pagerank.load"
+        );
+        final LoadProfileEstimator iterationEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration.getStringProperty("rheem.java.pagerank.iteration.load")
+        );
+        for (int iteration = 0; iteration < this.numIterations; iteration++) {
+            estimator.nest(iterationEstimator);
+        }
+        return Optional.of(estimator);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaPageRankOperator(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.qcri.rheem.java.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.OperatorBase;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts a {@link StreamChannel} into a {@link PipelinedStreamChannel}, thereby starting to pull the
+ * {@link java.util.stream.Stream} into a bounded buffer of {@code rheem.java.pipeline.buffer-size} data quanta.
+ */
+public class JavaPipelineOperator<Type> extends OperatorBase implements JavaExecutionOperator {
+
+    public JavaPipelineOperator(DataSetType<Type> type) {
+        super(1, 1, false, null);
+        this.inputSlots[0] = new InputSlot<>("input", this, type);
+        this.outputSlots[0] = new OutputSlot<>("output", this, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        final StreamChannel.Instance streamChannelInstance = (StreamChannel.Instance) inputs[0];
+        final PipelinedStreamChannel.Instance pipelinedStreamChannelInstance = (PipelinedStreamChannel.Instance) outputs[0];
+
+        final int bufferSize = (int) compiler.getConfiguration().getLongProperty("rheem.java.pipeline.buffer-size");
+        pipelinedStreamChannelInstance.accept(streamChannelInstance.provideStream(), bufferSize);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(PipelinedStreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> getCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.pipeline.load"
+        );
+        return Optional.of(estimator);
+    }
+}
@@ -0,0 +1,75 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.operators.FilterOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.function.Predicate;
+
+/**
+ * Java implementation of the {@link FilterOperator} for {@code int}, {@code long}, and {@code double} data quanta
+ * that neither boxes the data quanta nor calls its UDF with boxed data quanta.
+ *
+ * @see #isApplicableTo(PredicateDescriptor)
+ */
+public class JavaPrimitiveFilterOperator<Type> extends JavaFilterOperator<Type> {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type                type of the dataset elements
+     * @param predicateDescriptor must be {@link #isApplicableTo(PredicateDescriptor) applicable}
+     */
+    public JavaPrimitiveFilterOperator(DataSetType<Type> type, PredicateDescriptor<Type> predicateDescriptor) {
+        super(type, predicateDescriptor);
+        assert isApplicableTo(predicateDescriptor);
+    }
+
+    /**
+     * Tells whether the given {@link PredicateDescriptor} can be executed by a {@link JavaPrimitiveFilterOperator},
+     * i.e., its UDF is a {@link PredicateDescriptor.SerializableIntPredicate},
+     * {@link PredicateDescriptor.SerializableLongPredicate}, or {@link PredicateDescriptor.SerializableDoublePredicate}
+     * and it has no batch implementation.
+     */
+    public static boolean isApplicableTo(PredicateDescriptor<?> predicateDescriptor) {
+        final Predicate<?> predicate = predicateDescriptor.getJavaImplementation();
+        return !predicateDescriptor.getBatchImplementation().isPresent() && (
+                predicate instanceof PredicateDescriptor.SerializableIntPredicate
+                        || predicate instanceof PredicateDescriptor.SerializableLongPredicate
+                        || predicate instanceof PredicateDescriptor.SerializableDoublePredicate
+        );
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Predicate<Type> predicate = compiler.compile(this.predicateDescriptor);
+        JavaExecutor.openFunction(this, predicate, inputs);
+
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
+        if (predicate instanceof PredicateDescriptor.SerializableIntPredicate) {
+            output.accept(input.provideIntStream().filter(((PredicateDescriptor.SerializableIntPredicate) predicate)::testInt));
+        } else if (predicate instanceof PredicateDescriptor.SerializableLongPredicate) {
+            output.accept(input.provideLongStream().filter(((PredicateDescriptor.SerializableLongPredicate) predicate)::testLong));
+        } else if (predicate instanceof PredicateDescriptor.SerializableDoublePredicate) {
+            output.accept(input.provideDoubleStream().filter(((PredicateDescriptor.SerializableDoublePredicate) predicate)::testDouble));
+        } else {
+            throw new RheemException(String.format("%s cannot execute %s.", this, predicate));
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaPrimitiveFilterOperator<>(this.getInputType(), this.getPredicateDescriptor());
+    }
+}
@@ -0,0 +1,87 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Java implementation of the {@link GlobalReduceOperator} for {@code int}, {@code long}, and {@code double} data
+ * quanta that neither boxes the data quanta nor the accumulator.
+ *
+ * @see #isApplicableTo(ReduceDescriptor)
+ */
+public class JavaPrimitiveGlobalReduceOperator<Type> extends JavaGlobalReduceOperator<Type> {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type             type of the reduce elements (i.e., type of {@link #getInput()} and {@link #getOutput()})
+     * @param reduceDescriptor must be {@link #isApplicableTo(ReduceDescriptor) applicable}
+     */
+    public JavaPrimitiveGlobalReduceOperator(DataSetType<Type> type, ReduceDescriptor<Type> reduceDescriptor) {
+        super(type, reduceDescriptor);
+        assert isApplicableTo(reduceDescriptor);
+    }
+
+    /**
+     * Tells whether the given {@link ReduceDescriptor} can be executed by a
+     * {@link JavaPrimitiveGlobalReduceOperator}, i.e., its UDF is a
+     * {@link FunctionDescriptor.SerializableIntBinaryOperator},
+     * {@link FunctionDescriptor.SerializableLongBinaryOperator}, or
+     * {@link FunctionDescriptor.SerializableDoubleBinaryOperator}.
+     */
+    public static boolean isApplicableTo(ReduceDescriptor<?> reduceDescriptor) {
+        final BinaryOperator<?> function = reduceDescriptor.getJavaImplementation();
+        return function instanceof IntBinaryOperator
+                || function instanceof LongBinaryOperator
+                || function instanceof DoubleBinaryOperator;
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final BinaryOperator<Type> reduceFunction = compiler.compile(this.reduceDescriptor);
+        JavaExecutor.openFunction(this, reduceFunction, inputs);
+
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final Collection<?> reduction;
+        if (reduceFunction instanceof IntBinaryOperator) {
+            final OptionalInt result = input.provideIntStream().reduce((IntBinaryOperator) reduceFunction);
+            reduction = result.isPresent() ? Collections.singleton(result.getAsInt()) : Collections.emptyList();
+        } else if (reduceFunction instanceof LongBinaryOperator) {
+            final OptionalLong result = input.provideLongStream().reduce((LongBinaryOperator) reduceFunction);
+            reduction = result.isPresent() ? Collections.singleton(result.getAsLong()) : Collections.emptyList();
+        } else if (reduceFunction instanceof DoubleBinaryOperator) {
+            final OptionalDouble result = input.provideDoubleStream().reduce((DoubleBinaryOperator) reduceFunction);
+            reduction = result.isPresent() ? Collections.singleton(result.getAsDouble()) : Collections.emptyList();
+        } else {
+            throw new RheemException(String.format("%s cannot execute %s.", this, reduceFunction));
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(reduction);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaPrimitiveGlobalReduceOperator<>(this.getInputType(), this.getReduceDescriptor());
+    }
+}
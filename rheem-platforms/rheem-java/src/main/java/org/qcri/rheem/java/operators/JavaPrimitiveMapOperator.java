@@ -0,0 +1,79 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Java implementation of the {@link MapOperator} for {@code int}, {@code long}, and {@code double} data quanta that
+ * neither boxes the data quanta nor calls its UDF with boxed data quanta.
+ *
+ * @see #isApplicableTo(TransformationDescriptor)
+ */
+public class JavaPrimitiveMapOperator<Type> extends JavaMapOperator<Type, Type> {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type               type of the input and output data quanta
+     * @param functionDescriptor must be {@link #isApplicableTo(TransformationDescriptor) applicable}
+     */
+    public JavaPrimitiveMapOperator(DataSetType<Type> type, TransformationDescriptor<Type, Type> functionDescriptor) {
+        super(type, type, functionDescriptor);
+        assert isApplicableTo(functionDescriptor);
+    }
+
+    /**
+     * Tells whether the given {@link TransformationDescriptor} can be executed by a {@link JavaPrimitiveMapOperator},
+     * i.e., its UDF is a {@link FunctionDescriptor.SerializableIntUnaryOperator},
+     * {@link FunctionDescriptor.SerializableLongUnaryOperator}, or
+     * {@link FunctionDescriptor.SerializableDoubleUnaryOperator} and it has no batch implementation.
+     */
+    public static boolean isApplicableTo(TransformationDescriptor<?, ?> functionDescriptor) {
+        final Function<?, ?> function = functionDescriptor.getJavaImplementation();
+        return !functionDescriptor.getBatchImplementation().isPresent() && (
+                function instanceof IntUnaryOperator
+                        || function instanceof LongUnaryOperator
+                        || function instanceof DoubleUnaryOperator
+        );
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<Type, Type> function = compiler.compile(this.functionDescriptor);
+        JavaExecutor.openFunction(this, function, inputs);
+
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
+        if (function instanceof IntUnaryOperator) {
+            output.accept(input.provideIntStream().map((IntUnaryOperator) function));
+        } else if (function instanceof LongUnaryOperator) {
+            output.accept(input.provideLongStream().map((LongUnaryOperator) function));
+        } else if (function instanceof DoubleUnaryOperator) {
+            output.accept(input.provideDoubleStream().map((DoubleUnaryOperator) function));
+        } else {
+            throw new RheemException(String.format("%s cannot execute %s.", this, function));
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaPrimitiveMapOperator<>(this.getInputType(), this.getFunctionDescriptor());
+    }
+}
@@ -2,8 +2,6 @@ package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.SampleOperator;
 import org.qcri.rheem.core.api.Configuration;
-import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
-import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -12,14 +10,19 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.Sampling;
 
 import java.util.*;
 import java.util.function.Predicate;
 
 /**
- * Java implementation of the {@link JavaRandomSampleOperator}. This sampling method is with replacement (i.e., duplicates may appear in the sample).
+ * Java implementation of the {@link JavaRandomSampleOperator}. This sampling method is without replacement (i.e., no
+ * duplicates appear in the sample). If the size of the input dataset is not known, it resorts to reservoir sampling
+ * rather than counting the input first.
  */
 public class JavaRandomSampleOperator<Type>
         extends SampleOperator<Type>
@@ -55,12 +58,20 @@ public class JavaRandomSampleOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        // FIXME: If the dataset size is unknown, we execute the Stream twice, which should not happen.
-        if (datasetSize == 0) //total size of input dataset was not given
-            datasetSize = ((JavaChannelInstance) inputs[0]).provideStream().count();
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        long datasetSize = this.datasetSize;
+        if (datasetSize == 0 && input instanceof CollectionChannel.Instance) {
+            datasetSize = ((CollectionChannel.Instance) input).provideCollection().size();
+        }
+        if (datasetSize == 0) {
+            // The size of the input dataset is unknown, so we sample in a single pass rather than counting it first.
+            final List<Type> sample = Sampling.reservoirSample(input.<Type>provideStream(), this.sampleSize, this.rand);
+            ((StreamChannel.Instance) outputs[0]).accept(sample.stream());
+            return;
+        }
 
         if (sampleSize >= datasetSize) { //return all
-            ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream());
+            ((StreamChannel.Instance) outputs[0]).accept(input.provideStream());
             return;
         }
 
@@ -74,7 +85,7 @@ public class JavaRandomSampleOperator<Type>
         }
         Arrays.sort(sampleIndices);
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(new Predicate<Type>() {
+        ((StreamChannel.Instance) outputs[0]).accept(input.<Type>provideStream().filter(new Predicate<Type>() {
                     int streamIndex = 0;
                     int sampleIndex = 0;
 
@@ -96,22 +107,25 @@ public class JavaRandomSampleOperator<Type>
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
-        return Optional.of(new NestableLoadProfileEstimator(
-                new DefaultLoadEstimator(this.getNumInputs(), 1, 0.9d, (inCards, outCards) -> 25 * inCards[0] + 350000),
-                LoadEstimator.createFallback(this.getNumInputs(), 1)
-        ));
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.randomsample.load"
+        );
+        return Optional.of(estimator);
     }
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new JavaRandomSampleOperator<>(this.sampleSize, this.getType());
+        return new JavaRandomSampleOperator<>(this.sampleSize, this.datasetSize, this.getType());
     }
 
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -2,8 +2,6 @@ package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.SampleOperator;
 import org.qcri.rheem.core.api.Configuration;
-import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
-import org.qcri.rheem.core.optimizer.costs.LoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -12,13 +10,17 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.Sampling;
 
 import java.util.*;
 
 /**
- * Java implementation of the {@link JavaReservoirSampleOperator}.
+ * Java implementation of the {@link JavaReservoirSampleOperator}. It samples in a single pass and draws random numbers
+ * only for the replacements in the reservoir (see {@link Sampling.Reservoir}).
  */
 public class JavaReservoirSampleOperator<Type>
         extends SampleOperator<Type>
@@ -54,43 +56,36 @@ public class JavaReservoirSampleOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((CollectionChannel.Instance) outputs[0]).accept(reservoirSample(rand, ((JavaChannelInstance) inputs[0]).<Type>provideStream().iterator(), sampleSize));
-    }
-
-    private static <T> List<T> reservoirSample(Random rand, Iterator<T> items, long m){
-        ArrayList<T> res = new ArrayList<T>(Math.toIntExact(m));
-        int count = 0;
-        while (items.hasNext()) {
-            T item = items.next();
-            count++;
-            if (count <= m)
-                res.add(item);
-            else {
-                int r = rand.nextInt(count);
-                if (r < m)
-                    res.set(r, item);
-            }
+        final List<Type> sample;
+        if (inputs[0] instanceof CollectionChannel.Instance) {
+            final Collection<Type> collection = ((CollectionChannel.Instance) inputs[0]).provideCollection();
+            sample = Sampling.reservoirSample(collection, this.sampleSize, this.rand);
+        } else {
+            sample = Sampling.reservoirSample(((JavaChannelInstance) inputs[0]).<Type>provideStream(), this.sampleSize, this.rand);
         }
-        return res;
+        ((CollectionChannel.Instance) outputs[0]).accept(sample);
     }
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
-        return Optional.of(new NestableLoadProfileEstimator(
-                new DefaultLoadEstimator(this.getNumInputs(), 1, 0.9d, (inCards, outCards) -> 25 * inCards[0] + 350000),
-                LoadEstimator.createFallback(this.getNumInputs(), 1)
-        ));
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.java.reservoirsample.load"
+        );
+        return Optional.of(estimator);
     }
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new JavaReservoirSampleOperator<>(this.sampleSize, this.getType());
+        return new JavaReservoirSampleOperator<>(this.sampleSize, this.datasetSize, this.getType());
     }
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return Arrays.asList(
+                CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, OffHeapCollectionChannel.DESCRIPTOR,
+                PipelinedStreamChannel.DESCRIPTOR
+        );
     }
 
     @Override
@@ -74,7 +74,7 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
 //            }
 //        }
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.textfilesource.load")
+                configuration, "rheem.java.textfilesource.load"
         );
         return Optional.of(estimator);
     }
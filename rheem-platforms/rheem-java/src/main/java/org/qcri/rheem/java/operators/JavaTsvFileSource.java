@@ -167,7 +167,7 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
 //        }
 
         final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.java.tsvfilesource.load")
+                configuration, "rheem.java.tsvfilesource.load"
         );
         return Optional.of(estimator);
     }
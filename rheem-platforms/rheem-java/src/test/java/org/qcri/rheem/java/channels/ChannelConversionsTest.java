@@ -0,0 +1,121 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.platform.Junction;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.operators.JavaDoWhileOperator;
+import org.qcri.rheem.java.operators.JavaMapOperator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test suite for the {@link ChannelConversions}.
+ */
+public class ChannelConversionsTest {
+
+    private static JavaMapOperator<Integer, Integer> createMapOperator() {
+        return new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+        );
+    }
+
+    /**
+     * Finds a {@link Junction} from a {@link StreamChannel} to two consumers, which requires a reusable channel.
+     */
+    private static Junction findJunction(Configuration configuration, long cardinality) {
+        return findJunction(configuration, cardinality, Arrays.asList(
+                createMapOperator().getInput(0), createMapOperator().getInput(0)
+        ));
+    }
+
+    /**
+     * Finds a {@link Junction} from a {@link StreamChannel} to the given {@link InputSlot}s.
+     */
+    private static Junction findJunction(Configuration configuration, long cardinality, List<InputSlot<?>> destInputs) {
+        final ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(configuration);
+        JavaPlatform.getInstance().addChannelConversionsTo(channelConversionGraph);
+
+        final JavaMapOperator<Integer, Integer> sourceOperator = createMapOperator();
+
+        final OptimizationContext optimizationContext = new OptimizationContext(configuration);
+        optimizationContext.addOneTimeOperator(sourceOperator)
+                .setOutputCardinality(0, new CardinalityEstimate(cardinality, cardinality, 1d));
+
+        return channelConversionGraph.findMinimumCostJunction(sourceOperator.getOutput(0), destInputs, optimizationContext);
+    }
+
+    @Test
+    public void testChoosingCollectionWithinHeapBudget() {
+        // Prepare the configuration.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.java.collect.heap-budget", "1000000");
+
+        // Execute.
+        final Junction junction = findJunction(configuration, 1000);
+
+        // Verify the outcome.
+        Assert.assertNotNull(junction);
+        Assert.assertSame(CollectionChannel.DESCRIPTOR, junction.getTargetChannel(0).getDescriptor());
+        Assert.assertSame(CollectionChannel.DESCRIPTOR, junction.getTargetChannel(1).getDescriptor());
+    }
+
+    @Test
+    public void testChoosingOffHeapCollectionBeyondHeapBudget() {
+        // Prepare the configuration.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.java.collect.heap-budget", "1000000");
+
+        // Execute.
+        final Junction junction = findJunction(configuration, 1000000);
+
+        // Verify the outcome.
+        Assert.assertNotNull(junction);
+        Assert.assertSame(OffHeapCollectionChannel.DESCRIPTOR, junction.getTargetChannel(0).getDescriptor());
+        Assert.assertSame(OffHeapCollectionChannel.DESCRIPTOR, junction.getTargetChannel(1).getDescriptor());
+    }
+
+    @Test
+    public void testChoosingStreamWithinStage() {
+        // Execute.
+        final Junction junction = findJunction(
+                new Configuration(), 100000, Collections.singletonList(createMapOperator().getInput(0))
+        );
+
+        // Verify the outcome.
+        Assert.assertNotNull(junction);
+        Assert.assertSame(StreamChannel.DESCRIPTOR, junction.getTargetChannel(0).getDescriptor());
+    }
+
+    @Test
+    public void testChoosingPipelinedStreamAcrossStages() {
+        // Prepare test data: a loop head is always separated from its producers.
+        final JavaDoWhileOperator<Integer, Integer> loopHead = new JavaDoWhileOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                values -> true
+        );
+
+        // Execute.
+        final Junction junction = findJunction(
+                new Configuration(), 100000,
+                Collections.singletonList(loopHead.getInput(JavaDoWhileOperator.INITIAL_INPUT_INDEX))
+        );
+
+        // Verify the outcome.
+        Assert.assertNotNull(junction);
+        Assert.assertSame(PipelinedStreamChannel.DESCRIPTOR, junction.getTargetChannel(0).getDescriptor());
+    }
+
+}
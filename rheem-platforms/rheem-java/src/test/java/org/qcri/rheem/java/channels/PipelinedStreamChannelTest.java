@@ -0,0 +1,102 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.java.test.ChannelFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link PipelinedStreamChannel}.
+ */
+public class PipelinedStreamChannelTest {
+
+    @Test
+    public void testPipelining() {
+        // Prepare test data.
+        final List<Integer> inputValues = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final PipelinedStreamChannel.Instance instance =
+                ChannelFactory.createPipelinedStreamChannelInstance(new Configuration());
+
+        // Execute.
+        instance.accept(inputValues.stream(), 16);
+        final List<Integer> outputValues = instance.<Integer>provideStream().collect(Collectors.toList());
+        instance.dispose();
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, outputValues);
+    }
+
+    @Test
+    public void testDisposingStopsProducerWhenConsumerStopsEarly() {
+        // Prepare test data.
+        final AtomicInteger numProducedDataQuanta = new AtomicInteger(0);
+        final AtomicReference<Thread> producerThread = new AtomicReference<>();
+        final Stream<Integer> inputStream = IntStream.range(0, 1000000).boxed().peek(i -> {
+            producerThread.set(Thread.currentThread());
+            numProducedDataQuanta.incrementAndGet();
+        });
+        final PipelinedStreamChannel.Instance instance =
+                ChannelFactory.createPipelinedStreamChannelInstance(new Configuration());
+
+        // Execute.
+        instance.accept(inputStream, 4);
+        final Optional<Integer> firstValue = instance.<Integer>provideStream().findFirst();
+        instance.dispose();
+
+        // Verify the outcome: the producer has terminated without pulling all data quanta.
+        Assert.assertEquals(Optional.of(0), firstValue);
+        Assert.assertFalse(producerThread.get().isAlive());
+        Assert.assertTrue(numProducedDataQuanta.get() < 1000000);
+    }
+
+    @Test
+    public void testDisposingStopsProducerWhenConsumerFails() {
+        // Prepare test data.
+        final AtomicReference<Thread> producerThread = new AtomicReference<>();
+        final Stream<Integer> inputStream = IntStream.range(0, 1000000).boxed()
+                .peek(i -> producerThread.set(Thread.currentThread()));
+        final PipelinedStreamChannel.Instance instance =
+                ChannelFactory.createPipelinedStreamChannelInstance(new Configuration());
+
+        // Execute.
+        instance.accept(inputStream, 4);
+        try {
+            instance.<Integer>provideStream().forEach(i -> {
+                if (i == 10) throw new IllegalStateException("Consumer failure.");
+            });
+            Assert.fail("Expected the consumer to fail.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+        instance.dispose();
+
+        // Verify the outcome.
+        Assert.assertFalse(producerThread.get().isAlive());
+    }
+
+    @Test
+    public void testMaterializationForInstrumentation() {
+        // Prepare test data.
+        final PipelinedStreamChannel.Instance instance =
+                ChannelFactory.createPipelinedStreamChannelInstance(new Configuration());
+        instance.getChannel().markForInstrumentation();
+
+        // Execute.
+        instance.accept(Stream.of(1, 2, 3), 16);
+
+        // Verify the outcome: the cardinality is known before the stream is consumed.
+        Assert.assertEquals(3L, instance.getMeasuredCardinality().getAsLong());
+        Assert.assertEquals(Arrays.asList(1, 2, 3), instance.provideStream().collect(Collectors.toList()));
+        instance.dispose();
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test suite for {@link StreamMeter}.
+ */
+public class StreamMeterTest {
+
+    @Test
+    public void testCounting() {
+        // Execute.
+        final StreamMeter meter = new StreamMeter(false);
+        final List<Integer> result = meter.meter(IntStream.range(0, 100).boxed()).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(100, result.size());
+        Assert.assertEquals(100L, meter.getNumDataQuanta());
+        Assert.assertEquals(-1L, meter.getProducerNanos());
+    }
+
+    @Test
+    public void testCountingPrimitiveStreams() {
+        // Execute.
+        final StreamMeter meter = new StreamMeter(true);
+        final long count = meter.meter(IntStream.range(0, 100)).count();
+
+        // Verify the outcome.
+        Assert.assertEquals(100L, count);
+        Assert.assertEquals(100L, meter.getNumDataQuanta());
+        Assert.assertTrue(meter.getProducerNanos() >= 0L);
+    }
+
+    @Test
+    public void testPartialConsumption() {
+        // Prepare test data.
+        final Stream<Integer> stream = IntStream.range(0, 100).boxed().filter(i -> true);
+
+        // Execute.
+        final StreamMeter meter = new StreamMeter(true);
+        final List<Integer> result = meter.meter(stream).limit(10).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(10, result.size());
+        Assert.assertEquals(-1L, meter.getNumDataQuanta());
+    }
+
+    @Test
+    public void testKeepingCharacteristics() {
+        // Prepare test data.
+        final Spliterator<Integer> spliterator = Arrays.asList(3, 1, 2).spliterator();
+
+        // Execute.
+        final StreamMeter meter = new StreamMeter(false);
+        final Spliterator<Integer> meteredSpliterator = meter.meter(StreamSupport.stream(spliterator, false)).spliterator();
+
+        // Verify the outcome.
+        Assert.assertEquals(spliterator.characteristics(), meteredSpliterator.characteristics());
+        Assert.assertEquals(3L, meteredSpliterator.getExactSizeIfKnown());
+        Assert.assertEquals(3L, meter.getNumDataQuanta());
+    }
+
+    @Test
+    public void testParallelConsumption() {
+        // Prepare test data.
+        final Stream<Integer> stream = IntStream.range(0, 10000).boxed().parallel().filter(i -> i % 2 == 0);
+
+        // Execute.
+        final StreamMeter meter = new StreamMeter(true);
+        final Stream<Integer> meteredStream = meter.meter(stream);
+        final long sum = meteredStream.mapToLong(Integer::longValue).sum();
+
+        // Verify the outcome.
+        Assert.assertTrue(meteredStream.isParallel());
+        Assert.assertEquals(24995000L, sum);
+        Assert.assertEquals(5000L, meter.getNumDataQuanta());
+        Assert.assertTrue(meter.getProducerNanos() >= 0L);
+    }
+
+    @Test
+    public void testTimingSeparatesProducerAndConsumer() {
+        // Prepare test data.
+        final Stream<Integer> stream = IntStream.range(0, 10).boxed().peek(i -> sleep(2));
+
+        // Execute.
+        final StreamMeter meter = new StreamMeter(true);
+        meter.meter(stream).forEach(i -> sleep(5));
+
+        // Verify the outcome.
+        final long producerMillis = TimeUnit.NANOSECONDS.toMillis(meter.getProducerNanos());
+        Assert.assertTrue(String.format("Measured %d ms.", producerMillis), producerMillis >= 20);
+        Assert.assertTrue(String.format("Measured %d ms.", producerMillis), producerMillis < 45);
+    }
+
+    @Test
+    public void testUnconsumedStream() {
+        // Execute.
+        final StreamMeter meter = new StreamMeter(true);
+
+        // Verify the outcome.
+        Assert.assertEquals(0L, meter.getProducerNanos());
+        Assert.assertEquals(-1L, meter.getNumDataQuanta());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link StreamPipe}.
+ */
+public class StreamPipeTest {
+
+    @Test
+    public void testPipingPreservesDataQuanta() {
+        // Prepare test data.
+        final List<Integer> inputValues = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+        // Execute.
+        final StreamPipe pipe = new StreamPipe(inputValues.stream(), 16);
+        final List<Integer> outputValues = pipe.<Integer>provideStream().collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(inputValues, outputValues);
+    }
+
+    @Test
+    public void testBackPressure() throws InterruptedException {
+        // Prepare test data.
+        final AtomicInteger numProducedDataQuanta = new AtomicInteger(0);
+        final CountDownLatch blockedProducerLatch = new CountDownLatch(1);
+        final Stream<Integer> inputStream = IntStream.range(0, 1000).boxed().peek(i -> {
+            numProducedDataQuanta.incrementAndGet();
+            // The 11th data quantum does not fit into the buffer anymore.
+            if (i == 10) blockedProducerLatch.countDown();
+        });
+
+        // Execute.
+        final StreamPipe pipe = new StreamPipe(inputStream, 10);
+        Assert.assertTrue(blockedProducerLatch.await(10, TimeUnit.SECONDS));
+
+        // Verify the outcome: the producer cannot proceed until data quanta are consumed.
+        Assert.assertEquals(11, numProducedDataQuanta.get());
+        Assert.assertEquals(1000, pipe.provideStream().count());
+        Assert.assertEquals(1000, numProducedDataQuanta.get());
+    }
+
+    @Test
+    public void testProducerIsJoinedWhenStreamIsConsumed() {
+        // Prepare test data.
+        final List<Integer> inputValues = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+        // Execute.
+        final StreamPipe pipe = new StreamPipe(inputValues.stream(), 16);
+        final long count = pipe.provideStream().count();
+
+        // Verify the outcome.
+        Assert.assertEquals(1000, count);
+        Assert.assertFalse(pipe.isProducerRunning());
+    }
+
+    @Test
+    public void testClosingStopsProducer() {
+        // Prepare test data.
+        final Stream<Integer> inputStream = IntStream.range(0, 1000).boxed();
+
+        // Execute.
+        final StreamPipe pipe = new StreamPipe(inputStream, 10);
+        final List<Integer> outputValues = pipe.<Integer>provideStream().limit(5).collect(Collectors.toList());
+        pipe.close();
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), outputValues);
+        Assert.assertFalse(pipe.isProducerRunning());
+    }
+
+    @Test(expected = RheemException.class)
+    public void testProducerFailureIsPropagated() {
+        // Prepare test data.
+        final Stream<Integer> inputStream = Arrays.asList(1, 2, 0, 4).stream().map(i -> 4 / i);
+
+        // Execute.
+        final StreamPipe pipe = new StreamPipe(inputStream, 2);
+        pipe.provideStream().count();
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.qcri.rheem.java.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link CompressedSparseRowGraph}.
+ */
+public class CompressedSparseRowGraphTest {
+
+    @Test
+    public void testFromEdges() {
+        // Prepare test data.
+        List<Tuple2<Integer, Integer>> edges = Arrays.asList(
+                new Tuple2<>(42, 7), new Tuple2<>(7, 42), new Tuple2<>(-3, 42), new Tuple2<>(42, -3), new Tuple2<>(-3, 7)
+        );
+
+        // Execute.
+        final CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromEdges(edges.stream());
+
+        // Verify the outcome.
+        Assert.assertEquals(3, graph.getNumVertices());
+        Assert.assertEquals(5, graph.getNumEdges());
+        Map<Integer, Integer> outDegrees = new HashMap<>();
+        Map<Integer, Set<Integer>> inNeighbors = new HashMap<>();
+        for (int vertexIndex = 0; vertexIndex < graph.getNumVertices(); vertexIndex++) {
+            final int vertexId = graph.getVertexId(vertexIndex);
+            outDegrees.put(vertexId, graph.getOutDegree(vertexIndex));
+            Set<Integer> neighbors = new HashSet<>();
+            for (int i = graph.getInEdgesStart(vertexIndex); i < graph.getInEdgesEnd(vertexIndex); i++) {
+                neighbors.add(graph.getVertexId(graph.getInEdgeSources()[i]));
+            }
+            inNeighbors.put(vertexId, neighbors);
+        }
+        Assert.assertEquals(2, (int) outDegrees.get(42));
+        Assert.assertEquals(1, (int) outDegrees.get(7));
+        Assert.assertEquals(2, (int) outDegrees.get(-3));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(7, -3)), inNeighbors.get(42));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(42, -3)), inNeighbors.get(7));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(42)), inNeighbors.get(-3));
+    }
+
+    @Test
+    public void testFromManyEdges() {
+        // Prepare test data: a ring with spread-out vertex IDs.
+        final int numVertices = 10000;
+
+        // Execute.
+        final CompressedSparseRowGraph graph = CompressedSparseRowGraph.fromEdges(
+                IntStream.range(0, numVertices).mapToObj(i -> new Tuple2<>(i * 1000, ((i + 1) % numVertices) * 1000))
+        );
+
+        // Verify the outcome.
+        Assert.assertEquals(numVertices, graph.getNumVertices());
+        Assert.assertEquals(numVertices, graph.getNumEdges());
+        for (int vertexIndex = 0; vertexIndex < numVertices; vertexIndex++) {
+            Assert.assertEquals(1, graph.getOutDegree(vertexIndex));
+            Assert.assertEquals(1, graph.getInEdgesEnd(vertexIndex) - graph.getInEdgesStart(vertexIndex));
+            final int predecessorId = graph.getVertexId(graph.getInEdgeSources()[graph.getInEdgesStart(vertexIndex)]);
+            Assert.assertEquals(graph.getVertexId(vertexIndex), ((predecessorId / 1000 + 1) % numVertices) * 1000);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.qcri.rheem.java.execution;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.plan.rheemplan.LoopIsolator;
+import org.qcri.rheem.core.plan.rheemplan.LoopSubplan;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.java.operators.JavaCountOperator;
+import org.qcri.rheem.java.operators.JavaDistinctOperator;
+import org.qcri.rheem.java.operators.JavaDoWhileOperator;
+
+import java.util.Collection;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link JavaExecutor}.
+ */
+public class JavaExecutorTest {
+
+    private Configuration configuration;
+
+    private JavaDoWhileOperator<Long, Long> loopHead;
+
+    private JavaDistinctOperator<Long> distinct;
+
+    private OptimizationContext.LoopContext loopContext;
+
+    private JavaExecutor javaExecutor;
+
+    @Before
+    public void setUp() {
+        JavaPlatform.getInstance();
+        this.configuration = new Configuration();
+
+        // Build a loop: loopHead -> distinct -> loopHead and distinct -> count -> loopHead.
+        this.loopHead = new JavaDoWhileOperator<>(
+                DataSetType.createDefault(Long.class),
+                DataSetType.createDefault(Long.class),
+                (PredicateDescriptor.SerializablePredicate<Collection<Long>>) counts -> true
+        );
+        this.distinct = new JavaDistinctOperator<>(DataSetType.createDefault(Long.class));
+        final JavaCountOperator<Long> count = new JavaCountOperator<>(DataSetType.createDefault(Long.class));
+        this.loopHead.connectTo("iterationOutput", this.distinct, "input");
+        this.distinct.connectTo("output", this.loopHead, "iterationInput");
+        this.distinct.connectTo("output", count, "input");
+        count.connectTo("output", this.loopHead, "convergenceInput");
+        final LoopSubplan loop = LoopIsolator.isolate(this.loopHead);
+        Assert.assertNotNull(loop);
+
+        final OptimizationContext optimizationContext = new OptimizationContext(loop, this.configuration);
+        this.loopContext = optimizationContext.getNestedLoopContext(loop);
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(this.configuration);
+        when(job.getOptimizationContext()).thenReturn(optimizationContext);
+        this.javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+    }
+
+    @Test
+    public void testOperatorContextsOfInitialIteration() {
+        // Execute.
+        this.javaExecutor.trackIteration(this.loopHead);
+
+        // Verify the outcome.
+        final OptimizationContext iterationContext = this.loopContext.getInitialIterationContext();
+        Assert.assertNotNull(this.javaExecutor.getOperatorContext(this.distinct));
+        Assert.assertSame(iterationContext.getOperatorContext(this.distinct), this.javaExecutor.getOperatorContext(this.distinct));
+        Assert.assertSame(iterationContext.getOperatorContext(this.loopHead), this.javaExecutor.getOperatorContext(this.loopHead));
+    }
+
+    @Test
+    public void testOperatorContextsOfLaterIterations() {
+        // Execute.
+        this.javaExecutor.trackIteration(this.loopHead);
+        this.loopHead.setState(LoopHeadOperator.State.RUNNING);
+        this.javaExecutor.trackIteration(this.loopHead);
+        final OptimizationContext.OperatorContext secondIterationContext = this.javaExecutor.getOperatorContext(this.distinct);
+        final int numIterationContexts = this.loopContext.getIterationContexts().size();
+        for (int i = 0; i < numIterationContexts; i++) {
+            this.javaExecutor.trackIteration(this.loopHead);
+        }
+        final OptimizationContext.OperatorContext exceedingIterationContext = this.javaExecutor.getOperatorContext(this.distinct);
+
+        // Verify the outcome.
+        Assert.assertSame(this.loopContext.getIterationContext(1).getOperatorContext(this.distinct), secondIterationContext);
+        Assert.assertSame(this.loopContext.getFinalIterationContext().getOperatorContext(this.distinct), exceedingIterationContext);
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.qcri.rheem.java.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link Sampling}.
+ */
+public class SamplingTest {
+
+    @Test
+    public void testReservoirSampleFromStream() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        final int[] counts = new int[10];
+
+        // Execute.
+        for (int run = 0; run < 10000; run++) {
+            final List<Integer> sample = Sampling.reservoirSample(IntStream.range(0, 10).boxed(), 3, random);
+            Assert.assertEquals(3, new HashSet<>(sample).size());
+            sample.forEach(element -> counts[element]++);
+        }
+
+        // Verify the outcome: each data quantum should be contained in about 3/10 of the samples.
+        for (int count : counts) {
+            Assert.assertEquals(3000, count, 250);
+        }
+    }
+
+    @Test
+    public void testReservoirSampleOfSmallInput() {
+        // Execute.
+        final List<Integer> sample = Sampling.reservoirSample(IntStream.range(0, 3).boxed(), 5, new Random(42));
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(0, 1, 2), sample);
+    }
+
+    @Test
+    public void testReservoirSampleFromList() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        final List<Integer> data = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        final int[] counts = new int[10];
+
+        // Execute.
+        for (int run = 0; run < 10000; run++) {
+            final List<Integer> sample = Sampling.reservoirSample(data, 3, random);
+            Assert.assertEquals(3, new HashSet<>(sample).size());
+            sample.forEach(element -> counts[element]++);
+        }
+
+        // Verify the outcome.
+        for (int count : counts) {
+            Assert.assertEquals(3000, count, 250);
+        }
+    }
+
+    @Test
+    public void testParallelReservoirSample() {
+        // Prepare test data.
+        final Set<Integer> data = IntStream.range(0, 2 * Sampling.MIN_PARALLEL_RESERVOIR_SIZE).boxed()
+                .collect(Collectors.toSet());
+
+        // Execute.
+        final List<Integer> sample = Sampling.reservoirSample(data, 1000, new Random(42));
+
+        // Verify the outcome: the sample should be spread over the whole data.
+        Assert.assertEquals(1000, new HashSet<>(sample).size());
+        Assert.assertTrue(data.containsAll(sample));
+        final long numLowerHalf = sample.stream().filter(element -> element < Sampling.MIN_PARALLEL_RESERVOIR_SIZE).count();
+        Assert.assertEquals(500, numLowerHalf, 100);
+    }
+
+    @Test
+    public void testReservoirMerge() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        int numFromSmallPart = 0;
+
+        // Execute.
+        for (int run = 0; run < 1000; run++) {
+            Sampling.Reservoir<Integer> reservoir1 = new Sampling.Reservoir<>(10, random);
+            IntStream.range(0, 10).forEach(reservoir1::accept);
+            Sampling.Reservoir<Integer> reservoir2 = new Sampling.Reservoir<>(10, random);
+            IntStream.range(10, 100).forEach(reservoir2::accept);
+            final Sampling.Reservoir<Integer> merged = reservoir1.merge(reservoir2);
+
+            Assert.assertEquals(100, merged.getNumSeen());
+            Assert.assertEquals(10, new HashSet<>(merged.getSample()).size());
+            numFromSmallPart += merged.getSample().stream().filter(element -> element < 10).count();
+        }
+
+        // Verify the outcome: a tenth of the data stems from the first part.
+        Assert.assertEquals(1000, numFromSmallPart, 150);
+    }
+
+    @Test
+    public void testBernoulliSample() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        final List<Integer> data = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+
+        // Execute.
+        final List<Integer> listSample = Sampling.bernoulliSample(data, 0.1, random).collect(Collectors.toList());
+        final List<Integer> streamSample = Sampling.bernoulliSample(data.stream(), 0.1, random).collect(Collectors.toList());
+
+        // Verify the outcome.
+        for (List<Integer> sample : Arrays.asList(listSample, streamSample)) {
+            Assert.assertEquals(10000, sample.size(), 500);
+            for (int i = 1; i < sample.size(); i++) {
+                Assert.assertTrue(sample.get(i - 1) < sample.get(i));
+            }
+        }
+        Assert.assertEquals(0, Sampling.bernoulliSample(data, 0, random).count());
+        Assert.assertEquals(data.size(), Sampling.bernoulliSample(data, 1, random).count());
+    }
+
+}
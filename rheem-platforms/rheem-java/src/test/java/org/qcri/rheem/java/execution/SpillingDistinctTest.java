@@ -0,0 +1,148 @@
+package org.qcri.rheem.java.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link SpillingDistinct}.
+ */
+public class SpillingDistinctTest {
+
+    @Test
+    public void testInMemoryDistinctRetainsOrder() {
+        // Prepare test data.
+        List<String> data = Arrays.asList("c", "a", "c", "b", "a", null, "d", null);
+
+        // Execute.
+        SpillingDistinct<String> distinct = new SpillingDistinct<>(
+                100 * 64, 4, null, SpillingDistinct.DistinctSet.createFactory(String.class, 64)
+        );
+        final List<String> result = distinct.apply(data.stream(), data.size()).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList("c", "a", "b", null, "d"), result);
+    }
+
+    @Test
+    public void testSpillingDistinct() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        List<String> data = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            data.add("dq" + random.nextInt(2000));
+        }
+
+        // Execute with a memory budget that forces spilling, also of the spill partitions.
+        SpillingDistinct<String> distinct = new SpillingDistinct<>(
+                50 * 64, 4, null, SpillingDistinct.DistinctSet.createFactory(String.class, 64)
+        );
+        final List<String> result = distinct.apply(data.stream(), 0).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(new HashSet<>(data).size(), result.size());
+        Assert.assertEquals(new HashSet<>(data), new HashSet<>(result));
+        Assert.assertEquals(data.subList(0, 10).stream().distinct().collect(Collectors.toList()),
+                result.subList(0, (int) data.subList(0, 10).stream().distinct().count()));
+    }
+
+    @Test
+    public void testLongDistinctSet() {
+        // Prepare test data.
+        List<Double> data = Arrays.asList(0d, -0d, 1.5d, Double.NaN, 0d, Double.NaN, 1.5d, -3d);
+
+        // Execute.
+        SpillingDistinct<Double> distinct = new SpillingDistinct<>(
+                100, 2, null, SpillingDistinct.DistinctSet.createFactory(double.class, 64)
+        );
+        final List<Double> result = distinct.apply(data.stream(), data.size()).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(data.stream().distinct().count(), result.size());
+        Assert.assertEquals(new HashSet<>(data), new HashSet<>(result));
+    }
+
+    @Test
+    public void testLongDistinctSetWithNulls() {
+        // Prepare test data.
+        List<Long> data = Arrays.asList(null, 0L, 3L, null, 0L, -3L, null);
+
+        // Execute, also with a memory budget that forces spilling.
+        final List<Long> result = new SpillingDistinct<Long>(
+                1000, 2, null, SpillingDistinct.DistinctSet.createFactory(Long.class, 64)
+        ).apply(data.stream(), data.size()).collect(Collectors.toList());
+        final List<Long> spilledResult = new SpillingDistinct<Long>(
+                8, 2, null, SpillingDistinct.DistinctSet.createFactory(Long.class, 64)
+        ).apply(data.stream(), 0).collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(null, 0L, 3L, -3L), result);
+        Assert.assertEquals(new HashSet<>(result), new HashSet<>(spilledResult));
+        Assert.assertEquals(result.size(), spilledResult.size());
+    }
+
+    @Test
+    public void testLongDistinctSetGrowth() {
+        // Prepare test data.
+        SpillingDistinct.DistinctSet<Integer> distinctSet = SpillingDistinct.DistinctSet.<Integer>createFactory(Integer.class, 64).apply(0);
+
+        // Execute.
+        final long numAdded = IntStream.range(-5000, 5000).map(i -> i % 3000).boxed().filter(distinctSet::add).count();
+
+        // Verify the outcome.
+        Assert.assertEquals(5999, numAdded);
+        Assert.assertEquals(5999, distinctSet.size());
+        Assert.assertTrue(distinctSet.contains(0));
+        Assert.assertTrue(distinctSet.contains(-2999));
+        Assert.assertFalse(distinctSet.contains(3000));
+        Assert.assertEquals(16384 * 8L, distinctSet.estimateMemoryUsage(0));
+        Assert.assertEquals((16384 + 32768) * 8L, distinctSet.estimateMemoryUsage(10000));
+    }
+
+    @Test
+    public void testSpillDirectory() throws IOException {
+        // Prepare test data.
+        final Path spillDirectory = Files.createTempDirectory("rheem-java");
+        spillDirectory.toFile().deleteOnExit();
+        List<String> data = Arrays.asList("a", "b", "c", "d", "a", "e", "b", "f");
+
+        // Execute with a memory budget for a single data quantum.
+        SpillingDistinct<String> distinct = new SpillingDistinct<>(
+                64, 2, spillDirectory, SpillingDistinct.DistinctSet.createFactory(String.class, 64)
+        );
+        final List<String> result = new ArrayList<>();
+        final long numSpillFiles;
+        try (Stream<String> stream = distinct.apply(data.stream(), data.size())) {
+            final Iterator<String> iterator = stream.iterator();
+            result.add(iterator.next());
+            result.add(iterator.next());
+            try (Stream<Path> spillFiles = Files.list(spillDirectory)) {
+                numSpillFiles = spillFiles.count();
+            }
+            iterator.forEachRemaining(result::add);
+        }
+
+        // Verify the outcome.
+        Assert.assertTrue(numSpillFiles > 0);
+        try (Stream<Path> spillFiles = Files.list(spillDirectory)) {
+            Assert.assertEquals(0, spillFiles.count());
+        }
+        Assert.assertEquals("a", result.get(0));
+        Assert.assertEquals(new HashSet<>(data), new HashSet<>(result));
+        Assert.assertEquals(new HashSet<>(data).size(), result.size());
+        Files.delete(spillDirectory);
+    }
+
+}
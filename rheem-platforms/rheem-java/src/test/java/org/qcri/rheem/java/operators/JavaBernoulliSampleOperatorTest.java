@@ -0,0 +1,68 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link JavaBernoulliSampleOperator}.
+ */
+public class JavaBernoulliSampleOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        final List<Integer> data = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final int sampleSize = 1000;
+
+        // Build the sample operator.
+        JavaBernoulliSampleOperator<Integer> sampleOperator =
+                new JavaBernoulliSampleOperator<>(
+                        sampleSize,
+                        data.size(),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(data.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        sampleOperator.evaluate(inputs, outputs, null);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size(), 150);
+        Assert.assertTrue(data.containsAll(result));
+    }
+
+    @Test
+    public void testExecutionWithUnknownDatasetSize() {
+        // Prepare test data.
+        final List<Integer> data = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final int sampleSize = 1000;
+
+        // Build the sample operator.
+        JavaBernoulliSampleOperator<Integer> sampleOperator =
+                new JavaBernoulliSampleOperator<>(
+                        sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(data)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        sampleOperator.evaluate(inputs, outputs, null);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size(), 150);
+        Assert.assertTrue(data.containsAll(result));
+    }
+
+}
@@ -4,11 +4,13 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -39,4 +41,23 @@ public class JavaCountOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExecutionOnPrimitiveStream() {
+        // Prepare test data.
+        StreamChannel.Instance input = createStreamChannelInstance();
+        input.accept(IntStream.range(0, 5));
+
+        // Build the count operator.
+        JavaCountOperator<Integer> countOperator = new JavaCountOperator<>(DataSetType.createDefault(int.class));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        countOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Long> result = outputs[0].<Long>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(5L), result);
+    }
+
 }
@@ -0,0 +1,144 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.*;
+
+import static org.qcri.rheem.basic.operators.DeltaIterationOperator.*;
+
+/**
+ * Test suite for {@link JavaDeltaIterationOperator}.
+ */
+public class JavaDeltaIterationOperatorTest extends JavaExecutionOperatorTestBase {
+
+    private static TransformationDescriptor<Tuple2<Integer, Integer>, Integer> createKeyDescriptor() {
+        return new ProjectionDescriptor<>(
+                DataUnitType.createBasicUnchecked(Tuple2.class),
+                DataUnitType.createBasic(Integer.class),
+                "field0"
+        );
+    }
+
+    private static JavaDeltaIterationOperator<Tuple2<Integer, Integer>, Integer, Integer> createOperator(
+            TransformationDescriptor<Tuple2<Integer, Integer>, Integer> keyDescriptor, int maxIterations) {
+        return new JavaDeltaIterationOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefault(Integer.class),
+                keyDescriptor,
+                maxIterations
+        );
+    }
+
+    private static ChannelInstance[] createOutputs() {
+        return new ChannelInstance[]{
+                createCollectionChannelInstance(), createCollectionChannelInstance(), createCollectionChannelInstance()
+        };
+    }
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        final TransformationDescriptor<Tuple2<Integer, Integer>, Integer> keyDescriptor = createKeyDescriptor();
+        final JavaDeltaIterationOperator<Tuple2<Integer, Integer>, Integer, Integer> deltaIteration =
+                createOperator(keyDescriptor, 10);
+        final FunctionCompiler compiler = new FunctionCompiler(configuration);
+
+        // Execute the initial iteration.
+        ChannelInstance[] inputs = new ChannelInstance[4];
+        inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] = createStreamChannelInstance(Arrays.asList(
+                new Tuple2<>(1, 5), new Tuple2<>(2, 7), new Tuple2<>(3, 9)
+        ).stream());
+        inputs[INITIAL_WORKSET_INPUT_INDEX] = createCollectionChannelInstance(Arrays.asList(1, 2, 3));
+        ChannelInstance[] outputs = createOutputs();
+        deltaIteration.evaluate(inputs, outputs, compiler);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.RUNNING, deltaIteration.getState());
+        Assert.assertNull(outputs[FINAL_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                Arrays.asList(1, 2, 3),
+                ((CollectionChannel.Instance) outputs[WORKSET_OUTPUT_INDEX]).provideCollection()
+        );
+        Assert.assertEquals(3, ((CollectionChannel.Instance) outputs[SOLUTION_SET_OUTPUT_INDEX]).provideCollection().size());
+
+        // Execute an intermediate iteration that updates one element and inserts another one.
+        inputs = new ChannelInstance[4];
+        inputs[SOLUTION_SET_DELTA_INPUT_INDEX] = createStreamChannelInstance(Arrays.asList(
+                new Tuple2<>(2, 1), new Tuple2<>(4, 2)
+        ).stream());
+        inputs[NEXT_WORKSET_INPUT_INDEX] = createCollectionChannelInstance(Collections.singletonList(2));
+        outputs = createOutputs();
+        deltaIteration.evaluate(inputs, outputs, compiler);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.RUNNING, deltaIteration.getState());
+        final CollectionChannel.Instance solutionSetOutput = (CollectionChannel.Instance) outputs[SOLUTION_SET_OUTPUT_INDEX];
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(new Tuple2<>(1, 5), new Tuple2<>(2, 1), new Tuple2<>(3, 9), new Tuple2<>(4, 2))),
+                new HashSet<>(solutionSetOutput.provideCollection())
+        );
+        Assert.assertTrue(solutionSetOutput.hasHashIndex(keyDescriptor));
+        final Map<Integer, Collection<Tuple2<Integer, Integer>>> index =
+                solutionSetOutput.provideHashIndex(keyDescriptor, null);
+        Assert.assertEquals(Collections.singletonList(new Tuple2<>(2, 1)), index.get(2));
+        Assert.assertEquals(Collections.emptyList(), index.getOrDefault(5, Collections.emptyList()));
+
+        // Execute the final iteration with an empty workset.
+        inputs = new ChannelInstance[4];
+        inputs[SOLUTION_SET_DELTA_INPUT_INDEX] = createStreamChannelInstance(Arrays.asList(new Tuple2<>(3, 0)).stream());
+        inputs[NEXT_WORKSET_INPUT_INDEX] = createCollectionChannelInstance(Collections.emptyList());
+        outputs = createOutputs();
+        deltaIteration.evaluate(inputs, outputs, compiler);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, deltaIteration.getState());
+        Assert.assertNull(outputs[SOLUTION_SET_OUTPUT_INDEX]);
+        Assert.assertNull(outputs[WORKSET_OUTPUT_INDEX]);
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(new Tuple2<>(1, 5), new Tuple2<>(2, 1), new Tuple2<>(3, 0), new Tuple2<>(4, 2))),
+                new HashSet<>(((CollectionChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).provideCollection())
+        );
+    }
+
+    @Test
+    public void testMaxIterations() {
+        // Prepare test data.
+        final JavaDeltaIterationOperator<Tuple2<Integer, Integer>, Integer, Integer> deltaIteration =
+                createOperator(createKeyDescriptor(), 1);
+        final FunctionCompiler compiler = new FunctionCompiler(configuration);
+
+        // Execute.
+        ChannelInstance[] inputs = new ChannelInstance[4];
+        inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] = createCollectionChannelInstance(
+                Collections.singletonList(new Tuple2<>(1, 1))
+        );
+        inputs[INITIAL_WORKSET_INPUT_INDEX] = createCollectionChannelInstance(Collections.singletonList(1));
+        deltaIteration.evaluate(inputs, createOutputs(), compiler);
+
+        inputs = new ChannelInstance[4];
+        inputs[SOLUTION_SET_DELTA_INPUT_INDEX] = createCollectionChannelInstance(
+                Collections.singletonList(new Tuple2<>(1, 2))
+        );
+        inputs[NEXT_WORKSET_INPUT_INDEX] = createCollectionChannelInstance(Collections.singletonList(1));
+        final ChannelInstance[] outputs = createOutputs();
+        deltaIteration.evaluate(inputs, outputs, compiler);
+
+        // Verify the outcome.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, deltaIteration.getState());
+        Assert.assertEquals(
+                Collections.singletonList(new Tuple2<>(1, 2)),
+                ((CollectionChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).provideCollection()
+        );
+    }
+
+}
@@ -2,6 +2,7 @@ package org.qcri.rheem.java.operators;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
@@ -9,6 +10,7 @@ import org.qcri.rheem.java.compiler.FunctionCompiler;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -39,4 +41,27 @@ public class JavaDistinctOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExecutionWithSpilling() {
+        // Prepare test data.
+        Stream<Integer> inputStream = IntStream.range(0, 1000).map(i -> i % 300).boxed();
+        final Configuration configuration = JavaExecutionOperatorTestBase.configuration.fork();
+        configuration.setProperty("rheem.java.distinct.memory-budget", "1024");
+
+        // Build the distinct operator.
+        JavaDistinctOperator<Integer> distinctOperator =
+                new JavaDistinctOperator<>(
+                        DataSetType.createDefault(Integer.class)
+                );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        distinctOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().sorted().collect(Collectors.toList());
+        Assert.assertEquals(IntStream.range(0, 300).boxed().collect(Collectors.toList()), result);
+    }
+
 }
@@ -3,6 +3,7 @@ package org.qcri.rheem.java.operators;
 import org.junit.BeforeClass;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.test.ChannelFactory;
 
@@ -37,4 +38,8 @@ public class JavaExecutionOperatorTestBase {
         return ChannelFactory.createCollectionChannelInstance(collection, configuration);
     }
 
+    protected static OffHeapCollectionChannel.Instance createOffHeapCollectionChannelInstance() {
+        return ChannelFactory.createOffHeapCollectionChannelInstance(configuration);
+    }
+
 }
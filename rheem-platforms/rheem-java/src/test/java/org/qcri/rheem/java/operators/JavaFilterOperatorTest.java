@@ -41,4 +41,30 @@ public class JavaFilterOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testBatchExecution() {
+        // Prepare test data.
+        Stream<Integer> inputStream = Arrays.asList(0, 1, 1, 2, 6).stream();
+
+        // Build the filter operator with a batch implementation, which should be used instead of the per-element one.
+        JavaFilterOperator<Integer> filterOperator =
+                new JavaFilterOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        new PredicateDescriptor<>((Integer i) -> false, DataUnitType.createBasic(Integer.class))
+                                .withBatchImplementation((batch, verdicts) -> {
+                                    for (int i = 0; i < batch.size(); i++) {
+                                        verdicts[i] = batch.get(i) > 0;
+                                    }
+                                })
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        filterOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 6), result);
+    }
+
 }
@@ -0,0 +1,74 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.FlatMapDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaFlatMapOperator}.
+ */
+public class JavaFlatMapOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        Stream<String> inputStream = Arrays.asList("a b", "", "c").stream();
+
+        // Build the flat map operator.
+        JavaFlatMapOperator<String, String> flatMapOperator = new JavaFlatMapOperator<>(
+                DataSetType.createDefault(String.class),
+                DataSetType.createDefault(String.class),
+                new FlatMapDescriptor<>(
+                        line -> line.isEmpty() ? Collections.emptyList() : Arrays.asList(line.split(" ")),
+                        String.class,
+                        String.class
+                )
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        flatMapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<String> result = outputs[0].<String>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), result);
+    }
+
+    @Test
+    public void testBatchExecution() {
+        // Prepare test data.
+        Stream<String> inputStream = Arrays.asList("a b", "", "c").stream();
+
+        // Build the flat map operator with a batch implementation, which should be used instead of the per-element one.
+        JavaFlatMapOperator<String, String> flatMapOperator = new JavaFlatMapOperator<>(
+                DataSetType.createDefault(String.class),
+                DataSetType.createDefault(String.class),
+                new FlatMapDescriptor<String, String>(line -> Collections.emptyList(), String.class, String.class)
+                        .withBatchImplementation((batch, collector) -> {
+                            for (String line : batch) {
+                                if (!line.isEmpty()) collector.addAll(Arrays.asList(line.split(" ")));
+                            }
+                        })
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        flatMapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<String> result = outputs[0].<String>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), result);
+    }
+
+}
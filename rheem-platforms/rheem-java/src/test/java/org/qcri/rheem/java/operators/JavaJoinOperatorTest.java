@@ -6,12 +6,15 @@ import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -82,4 +85,50 @@ public class JavaJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testLoopInvariantProbeTableIsReused() {
+        // Build the join operator.
+        JavaJoinOperator<Tuple2, Tuple2, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+        final FunctionCompiler compiler = new FunctionCompiler(configuration);
+
+        // Prepare a loop invariant input.
+        final CollectionChannel.Instance invariantInput = createCollectionChannelInstance(Arrays.asList(
+                new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e")
+        ));
+        invariantInput.markAsLoopInvariant();
+
+        // Simulate two iterations.
+        Map<Integer, Collection<Tuple2<Integer, String>>> firstIndex = null;
+        for (int iteration = 0; iteration < 2; iteration++) {
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                    invariantInput,
+                    createStreamChannelInstance(Arrays.asList(
+                            new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4)
+                    ).stream())
+            };
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            join.evaluate(inputs, outputs, compiler);
+            Assert.assertEquals(5, outputs[0].provideStream().count());
+
+            final Map<Integer, Collection<Tuple2<Integer, String>>> index =
+                    invariantInput.provideHashIndex(join.getKeyDescriptor0(), null);
+            if (firstIndex == null) {
+                firstIndex = index;
+            } else {
+                Assert.assertSame(firstIndex, index);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,81 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaMapOperator}.
+ */
+public class JavaMapOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        Stream<Integer> inputStream = Arrays.asList(0, 1, 1, 2, 6).stream();
+
+        // Build the map operator.
+        JavaMapOperator<Integer, Integer> mapOperator = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        mapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1, 2, 2, 3, 7), result);
+    }
+
+    @Test
+    public void testBatchExecution() {
+        // Prepare test data.
+        final int batchSize = 1024, numDataQuanta = 2 * batchSize + 10;
+        Stream<Integer> inputStream = IntStream.range(0, numDataQuanta).boxed();
+        AtomicInteger numBatches = new AtomicInteger(0);
+
+        // Build the map operator with a batch implementation, which should be used instead of the per-element one.
+        JavaMapOperator<Integer, Integer> mapOperator = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<Integer, Integer>(i -> -1, Integer.class, Integer.class)
+                        .withBatchImplementation((batch, collector) -> {
+                            Assert.assertTrue(batch.size() <= batchSize);
+                            numBatches.incrementAndGet();
+                            for (Integer i : batch) {
+                                collector.add(i + 1);
+                            }
+                        })
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        mapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        List<Integer> expectedResult = new ArrayList<>();
+        for (int i = 0; i < numDataQuanta; i++) {
+            expectedResult.add(i + 1);
+        }
+        Assert.assertEquals(expectedResult, result);
+        Assert.assertEquals(3, numBatches.get());
+    }
+
+}
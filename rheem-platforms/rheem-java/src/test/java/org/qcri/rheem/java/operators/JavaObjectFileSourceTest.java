@@ -3,13 +3,17 @@ package org.qcri.rheem.java.operators;
 import org.apache.commons.lang3.Validate;
 import org.junit.Assert;
 import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -51,6 +55,37 @@ public class JavaObjectFileSourceTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testReadingPartFiles() throws IOException {
+        // Prepare test data.
+        final File directory = Files.createTempDirectory("rheem-object-files").toFile();
+        directory.deleteOnExit();
+        for (int part = 0; part < 2; part++) {
+            final File partFile = new File(directory, String.format("part-%05d", part));
+            partFile.deleteOnExit();
+            try (FileChannelWriter writer = FileChannelWriter.create(
+                    FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, partFile.toURI().toString())) {
+                for (int i = part * 5000; i < (part + 1) * 5000; i++) {
+                    writer.write(i);
+                }
+            }
+        }
+        final File successMarker = new File(directory, "_SUCCESS");
+        successMarker.deleteOnExit();
+        Assert.assertTrue(successMarker.createNewFile());
+        JavaObjectFileSource<Integer> source = new JavaObjectFileSource<>(
+                directory.toURI().toString(), DataSetType.createDefault(Integer.class));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        source.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(JavaObjectFileSourceTest.enumerateRange(10000), result);
+    }
+
     private static List<Integer> enumerateRange(int to) {
         Validate.isTrue(to >= 0);
         List<Integer> range = new ArrayList<>(to);
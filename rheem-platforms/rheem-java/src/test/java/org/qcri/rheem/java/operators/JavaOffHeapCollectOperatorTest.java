@@ -0,0 +1,45 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link JavaOffHeapCollectOperator}.
+ */
+public class JavaOffHeapCollectOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        final List<String> inputValues = IntStream.range(0, 1000).mapToObj(i -> "value" + i).collect(Collectors.toList());
+
+        // Build the collect operator.
+        JavaOffHeapCollectOperator<String> collectOperator =
+                new JavaOffHeapCollectOperator<>(DataSetType.createDefaultUnchecked(String.class));
+
+        // Execute with small pages, so as to spread the data quanta over several of them.
+        final Configuration smallPageConfiguration = new Configuration();
+        smallPageConfiguration.setProperty("rheem.java.offheap.page-size", "256");
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputValues.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createOffHeapCollectionChannelInstance()};
+        collectOperator.evaluate(inputs, outputs, new FunctionCompiler(smallPageConfiguration));
+
+        // Verify the outcome.
+        final OffHeapCollectionChannel.Instance output = (OffHeapCollectionChannel.Instance) outputs[0];
+        Assert.assertEquals(1000L, output.getMeasuredCardinality().getAsLong());
+        Assert.assertTrue(output.getNumBytes() > 256);
+        // The output can be consumed multiple times.
+        Assert.assertEquals(inputValues, output.<String>provideStream().collect(Collectors.toList()));
+        Assert.assertEquals(inputValues, output.<String>provideStream().collect(Collectors.toList()));
+    }
+
+}
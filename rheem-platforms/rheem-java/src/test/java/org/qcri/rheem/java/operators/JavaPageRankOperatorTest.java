@@ -0,0 +1,51 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaPageRankOperator}.
+ */
+public class JavaPageRankOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data: the example graph from https://en.wikipedia.org/wiki/PageRank with vertices A=1, B=2, ...
+        List<Tuple2<Integer, Integer>> edges = Arrays.asList(
+                new Tuple2<>(2, 3),
+                new Tuple2<>(3, 2),
+                new Tuple2<>(4, 1), new Tuple2<>(4, 2),
+                new Tuple2<>(5, 2), new Tuple2<>(5, 4), new Tuple2<>(5, 6),
+                new Tuple2<>(6, 2), new Tuple2<>(6, 5),
+                new Tuple2<>(7, 2), new Tuple2<>(7, 5),
+                new Tuple2<>(8, 2), new Tuple2<>(8, 5),
+                new Tuple2<>(9, 2), new Tuple2<>(9, 5),
+                new Tuple2<>(10, 5),
+                new Tuple2<>(11, 5)
+        );
+
+        // Build the PageRank operator.
+        JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(100);
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(edges)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        pageRankOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final Map<Integer, Float> pageRanks = outputs[0].<Tuple2<Integer, Float>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+        final float[] expectedPageRanks = {0.304f, 3.566f, 3.181f, 0.363f, 0.750f, 0.363f, 0.15f, 0.15f, 0.15f, 0.15f, 0.15f};
+        Assert.assertEquals(expectedPageRanks.length, pageRanks.size());
+        for (int i = 0; i < expectedPageRanks.length; i++) {
+            Assert.assertEquals(expectedPageRanks[i], pageRanks.get(i + 1), 0.001f);
+        }
+    }
+
+}
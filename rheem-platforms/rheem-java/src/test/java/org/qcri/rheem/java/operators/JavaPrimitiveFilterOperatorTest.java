@@ -0,0 +1,40 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.stream.LongStream;
+
+/**
+ * Test suite for {@link JavaPrimitiveFilterOperator}.
+ */
+public class JavaPrimitiveFilterOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        StreamChannel.Instance input = createStreamChannelInstance();
+        input.accept(LongStream.of(0, 1, 1, 2, 6));
+
+        // Build the filter operator.
+        JavaPrimitiveFilterOperator<Long> filterOperator = new JavaPrimitiveFilterOperator<>(
+                DataSetType.createDefault(long.class),
+                new PredicateDescriptor<>((PredicateDescriptor.SerializableLongPredicate) l -> l > 1, Long.class)
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        filterOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final long[] result = outputs[0].provideLongStream().toArray();
+        Assert.assertArrayEquals(new long[]{2, 6}, result);
+    }
+
+}
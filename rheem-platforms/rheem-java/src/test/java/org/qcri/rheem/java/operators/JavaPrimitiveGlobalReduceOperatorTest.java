@@ -0,0 +1,66 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link JavaPrimitiveGlobalReduceOperator}.
+ */
+public class JavaPrimitiveGlobalReduceOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        StreamChannel.Instance input = createStreamChannelInstance();
+        input.accept(IntStream.rangeClosed(1, 10));
+
+        // Build the reduce operator.
+        JavaPrimitiveGlobalReduceOperator<Integer> globalReduce = new JavaPrimitiveGlobalReduceOperator<>(
+                DataSetType.createDefault(int.class),
+                new ReduceDescriptor<>((FunctionDescriptor.SerializableIntBinaryOperator) Integer::sum, Integer.class)
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        globalReduce.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(Integer.valueOf(55), result.get(0));
+    }
+
+    @Test
+    public void testExecutionWithoutData() {
+        // Prepare test data.
+        StreamChannel.Instance input = createStreamChannelInstance();
+        input.accept(IntStream.empty());
+
+        // Build the reduce operator.
+        JavaPrimitiveGlobalReduceOperator<Integer> globalReduce = new JavaPrimitiveGlobalReduceOperator<>(
+                DataSetType.createDefault(int.class),
+                new ReduceDescriptor<>((FunctionDescriptor.SerializableIntBinaryOperator) Integer::sum, Integer.class)
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        globalReduce.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(0, result.size());
+    }
+
+}
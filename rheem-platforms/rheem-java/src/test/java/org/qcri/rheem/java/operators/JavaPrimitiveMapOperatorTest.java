@@ -0,0 +1,83 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link JavaPrimitiveMapOperator}.
+ */
+public class JavaPrimitiveMapOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        StreamChannel.Instance input = createStreamChannelInstance();
+        input.accept(IntStream.of(0, 1, 1, 2, 6));
+
+        // Build the map operator.
+        JavaPrimitiveMapOperator<Integer> mapOperator = new JavaPrimitiveMapOperator<>(
+                DataSetType.createDefault(int.class),
+                new TransformationDescriptor<>(
+                        (FunctionDescriptor.SerializableIntUnaryOperator) i -> i + 1, Integer.class, Integer.class
+                )
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        mapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final int[] result = outputs[0].provideIntStream().toArray();
+        Assert.assertArrayEquals(new int[]{1, 2, 2, 3, 7}, result);
+    }
+
+    @Test
+    public void testExecutionWithBoxedInput() {
+        // Prepare test data.
+        JavaChannelInstance input = createStreamChannelInstance(Arrays.asList(0d, 0.5d, 2d).stream());
+
+        // Build the map operator.
+        JavaPrimitiveMapOperator<Double> mapOperator = new JavaPrimitiveMapOperator<>(
+                DataSetType.createDefault(Double.class),
+                new TransformationDescriptor<>(
+                        (FunctionDescriptor.SerializableDoubleUnaryOperator) d -> d * 2, Double.class, Double.class
+                )
+        );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        mapOperator.evaluate(inputs, outputs, new FunctionCompiler(configuration));
+
+        // Verify the outcome.
+        final List<Double> result = outputs[0].<Double>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(0d, 1d, 4d), result);
+    }
+
+    @Test
+    public void testApplicability() {
+        Assert.assertTrue(JavaPrimitiveMapOperator.isApplicableTo(new TransformationDescriptor<>(
+                (FunctionDescriptor.SerializableLongUnaryOperator) l -> l + 1, Long.class, Long.class
+        )));
+        Assert.assertFalse(JavaPrimitiveMapOperator.isApplicableTo(new TransformationDescriptor<>(
+                (Long l) -> l + 1, Long.class, Long.class
+        )));
+        Assert.assertFalse(JavaPrimitiveMapOperator.isApplicableTo(new TransformationDescriptor<>(
+                (FunctionDescriptor.SerializableLongUnaryOperator) l -> l + 1, Long.class, Long.class
+        ).withBatchImplementation((batch, collector) -> batch.forEach(l -> collector.add(l + 1)))));
+    }
+
+}
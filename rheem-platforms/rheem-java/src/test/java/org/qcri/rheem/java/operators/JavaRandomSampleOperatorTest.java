@@ -6,6 +6,7 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,4 +43,31 @@ public class JavaRandomSampleOperatorTest extends JavaExecutionOperatorTestBase
 
     }
 
+    @Test
+    public void testExecutionWithUnknownDatasetSize() {
+        // Prepare test data.
+        final int[] numProvidedElements = new int[1];
+        Stream<Integer> inputStream = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).stream()
+                .peek(element -> numProvidedElements[0]++);
+        final int sampleSize = 3;
+
+        // Build the sample operator.
+        JavaRandomSampleOperator<Integer> sampleOperator =
+                new JavaRandomSampleOperator<>(
+                        sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        sampleOperator.evaluate(inputs, outputs, null);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, new HashSet<>(result).size());
+        Assert.assertEquals(10, numProvidedElements[0]);
+    }
+
 }
@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.OffHeapCollectionChannel;
+import org.qcri.rheem.java.channels.PipelinedStreamChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
@@ -44,4 +46,12 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static OffHeapCollectionChannel.Instance createOffHeapCollectionChannelInstance(Configuration configuration) {
+        return (OffHeapCollectionChannel.Instance) OffHeapCollectionChannel.DESCRIPTOR.createChannel(null, configuration).createInstance(executor);
+    }
+
+    public static PipelinedStreamChannel.Instance createPipelinedStreamChannelInstance(Configuration configuration) {
+        return (PipelinedStreamChannel.Instance) PipelinedStreamChannel.DESCRIPTOR.createChannel(null, configuration).createInstance(executor);
+    }
+
 }
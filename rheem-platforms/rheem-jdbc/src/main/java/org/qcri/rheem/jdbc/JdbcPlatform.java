@@ -0,0 +1,96 @@
+package org.qcri.rheem.jdbc;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.qcri.rheem.core.optimizer.costs.LoadToTimeConverter;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.util.ReflectionUtils;
+import org.qcri.rheem.jdbc.execution.JdbcExecutor;
+import org.qcri.rheem.jdbc.mapping.JdbcTableSourceMapping;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * {@link Platform} implementation for any database that can be accessed via JDBC, e.g., embedded databases such as
+ * H2 or Derby. The database is specified via {@code rheem.jdbc.url} and, optionally, {@code rheem.jdbc.driver}.
+ */
+public class JdbcPlatform extends Platform {
+
+    public static final String CPU_MHZ_PROPERTY = "rheem.jdbc.cpu.mhz";
+
+    public static final String CORES_PROPERTY = "rheem.jdbc.cores";
+
+    public static final String HDFS_MS_PER_MB_PROPERTY = "rheem.jdbc.hdfs.ms-per-mb";
+
+    /**
+     * Prefix of the properties that specify the database connection.
+     */
+    public static final String JDBC_PROPERTY_PREFIX = "rheem.jdbc";
+
+    private static final String DEFAULT_CONFIG_FILE = "rheem-jdbc-defaults.properties";
+
+    private static final String PLATFORM_NAME = "jdbc";
+
+    private final Collection<Mapping> mappings = new LinkedList<>();
+
+    private static JdbcPlatform instance = null;
+
+    public static JdbcPlatform getInstance() {
+        if (instance == null) {
+            instance = new JdbcPlatform();
+        }
+        return instance;
+    }
+
+    private JdbcPlatform() {
+        super(PLATFORM_NAME);
+        this.initializeMappings();
+        this.initializeConfiguration();
+    }
+
+    private void initializeConfiguration() {
+        final Configuration defaultConfiguration = Configuration.getDefaultConfiguration();
+        defaultConfiguration.load(ReflectionUtils.loadResource(DEFAULT_CONFIG_FILE));
+    }
+
+    private void initializeMappings() {
+        this.mappings.add(new JdbcTableSourceMapping());
+    }
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return this.mappings;
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return true;
+    }
+
+    @Override
+    public void addChannelConversionsTo(ChannelConversionGraph channelConversionGraph) {
+
+    }
+
+    @Override
+    public Executor.Factory getExecutorFactory() {
+        return job -> new JdbcExecutor(this, job);
+    }
+
+    @Override
+    public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
+        int cpuMhz = (int) configuration.getLongProperty(CPU_MHZ_PROPERTY);
+        int numCores = (int) configuration.getLongProperty(CORES_PROPERTY);
+        double hdfsMsPerMb = configuration.getDoubleProperty(HDFS_MS_PER_MB_PROPERTY);
+        return LoadProfileToTimeConverter.createDefault(
+                LoadToTimeConverter.createLinearCoverter(1d / (numCores * cpuMhz * 1000)),
+                LoadToTimeConverter.createLinearCoverter(hdfsMsPerMb / 1000000),
+                LoadToTimeConverter.createLinearCoverter(0),
+                (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate)
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps JDBC {@link Connection}s open across executions, so that jobs do not need to connect to the database over and
+ * over again. At most a configured number of {@link Connection}s is handed out at the same time; further requests
+ * block until a {@link Connection} is released.
+ */
+public class JdbcConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcConnectionPool.class);
+
+    /**
+     * Seconds to wait for an idle {@link Connection} to confirm that it is still valid.
+     */
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    /**
+     * Shared instances by their JDBC URL and user.
+     */
+    private static final Map<String, JdbcConnectionPool> instances = new HashMap<>();
+
+    /**
+     * Callback to open a new {@link Connection}.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection createConnection() throws SQLException;
+
+    }
+
+    private final ConnectionFactory connectionFactory;
+
+    private final Semaphore permits;
+
+    private final Deque<Connection> idleConnections = new ArrayDeque<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connectionFactory opens new {@link Connection}s
+     * @param maxConnections    the maximum number of {@link Connection}s to hand out at the same time
+     */
+    public JdbcConnectionPool(ConnectionFactory connectionFactory, int maxConnections) {
+        this.connectionFactory = connectionFactory;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    /**
+     * Provides the shared instance for the database specified in the {@link Configuration}, i.e., via
+     * {@code <prefix>.url}, {@code <prefix>.driver}, {@code <prefix>.user}, {@code <prefix>.password}, and
+     * {@code <prefix>.pool.max-connections}, where all but the first and last property are optional.
+     *
+     * @param configuration  provides the properties
+     * @param propertyPrefix prefix of the properties, e.g., {@code rheem.jdbc}
+     * @return the shared instance
+     */
+    public static synchronized JdbcConnectionPool getInstance(Configuration configuration, String propertyPrefix) {
+        final String url = configuration.getStringProperty(propertyPrefix + ".url");
+        final String user = configuration.getStringProperty(propertyPrefix + ".user", null);
+        final String password = configuration.getStringProperty(propertyPrefix + ".password", null);
+        final String key = url + "|" + user;
+        JdbcConnectionPool instance = instances.get(key);
+        if (instance == null) {
+            configuration.getOptionalStringProperty(propertyPrefix + ".driver").ifPresent(driverClassName -> {
+                try {
+                    Class.forName(driverClassName);
+                } catch (ClassNotFoundException e) {
+                    throw new RheemException(String.format("Could not load JDBC driver %s.", driverClassName), e);
+                }
+            });
+            final int maxConnections = (int) configuration.getLongProperty(propertyPrefix + ".pool.max-connections");
+            instance = new JdbcConnectionPool(() -> DriverManager.getConnection(url, user, password), maxConnections);
+            instances.put(key, instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Hands out a {@link Connection}, thereby blocking until one is available. It must be returned via
+     * {@link #release(Connection)} after use.
+     *
+     * @return the {@link Connection}
+     */
+    public Connection acquire() {
+        try {
+            this.permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException("Interrupted while waiting for a JDBC connection.", e);
+        }
+        try {
+            Connection connection;
+            while ((connection = this.pollIdleConnection()) != null) {
+                if (isValid(connection)) return connection;
+                closeQuietly(connection);
+            }
+            return this.connectionFactory.createConnection();
+        } catch (SQLException | RuntimeException e) {
+            this.permits.release();
+            throw new RheemException("Could not connect to the database.", e);
+        }
+    }
+
+    private synchronized Connection pollIdleConnection() {
+        return this.idleConnections.pollFirst();
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a {@link Connection} that has been handed out by {@link #acquire()}. Any pending transaction is
+     * rolled back.
+     *
+     * @param connection the {@link Connection}
+     */
+    public void release(Connection connection) {
+        try {
+            if (connection.isClosed()) return;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            synchronized (this) {
+                this.idleConnections.addFirst(connection);
+            }
+        } catch (SQLException e) {
+            logger.warn("Discarding broken JDBC connection.", e);
+            closeQuietly(connection);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Closes all idle {@link Connection}s.
+     */
+    public synchronized void close() {
+        while (!this.idleConnections.isEmpty()) {
+            closeQuietly(this.idleConnections.pollFirst());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.error("Could not close JDBC connection correctly.", e);
+        }
+    }
+
+}
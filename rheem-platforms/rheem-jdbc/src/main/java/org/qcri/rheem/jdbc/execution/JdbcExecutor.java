@@ -0,0 +1,156 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.FileChannelWriter;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.ExecutorTemplate;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.jdbc.JdbcPlatform;
+import org.qcri.rheem.jdbc.operators.JdbcExecutionOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Executor} implementation for the {@link JdbcPlatform}. It runs the partition queries of a
+ * {@link JdbcExecutionOperator} concurrently on pooled {@link Connection}s and writes each partition into its own
+ * object file. The files are laid out like Spark output files, so that they can be consumed as a single
+ * {@link FileChannel}.
+ * <p>Note that each partition is read in its own transaction on its own {@link Connection}, so the partitions do not
+ * share a consistent snapshot of the database: Rows that are inserted, updated, or deleted while the partitions are
+ * being read might be missed or read twice, e.g., if an update moves a row from one partition range into another.
+ * If the read tables can change concurrently and this matters, set {@code rheem.jdbc.partitions} to {@code 1}, so
+ * that the whole result is read within a single transaction.</p>
+ */
+public class JdbcExecutor extends ExecutorTemplate {
+
+    private final JdbcPlatform platform;
+
+    private final Configuration configuration;
+
+    private final JdbcConnectionPool connectionPool;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public JdbcExecutor(JdbcPlatform platform, Job job) {
+        super(job == null ? null : job.getCrossPlatformExecutor());
+        this.platform = platform;
+        this.configuration = job.getConfiguration();
+        this.connectionPool = JdbcConnectionPool.getInstance(this.configuration, JdbcPlatform.JDBC_PROPERTY_PREFIX);
+    }
+
+    @Override
+    public void execute(ExecutionStage stage, ExecutionState executionState) {
+        assert stage.getAllTasks().size() == 1 : String.format("Cannot execute %s with multiple tasks.", stage);
+        final ExecutionTask task = stage.getTerminalTasks().iterator().next();
+        final JdbcExecutionOperator operator = (JdbcExecutionOperator) task.getOperator();
+        final Class<?> dataQuantumClass = operator.getOutput(0).getType().getDataUnitType().getTypeClass();
+        final FileChannel.Instance outputFileChannelInstance =
+                (FileChannel.Instance) task.getOutputChannel(0).createInstance(this);
+
+        final List<String> queries;
+        final Connection connection = this.connectionPool.acquire();
+        try {
+            queries = operator.createSqlQueries(
+                    connection, (int) this.configuration.getLongProperty("rheem.jdbc.partitions")
+            );
+        } catch (SQLException e) {
+            throw new RheemException(String.format("Could not create SQL queries for %s.", operator), e);
+        } finally {
+            this.connectionPool.release(connection);
+        }
+
+        final String directory = outputFileChannelInstance.addGivenOrTempPath(null, this.configuration);
+        final ExecutorService threadPool = Executors.newFixedThreadPool(queries.size());
+        try {
+            final List<Future<?>> futures = new ArrayList<>(queries.size());
+            for (int partition = 0; partition < queries.size(); partition++) {
+                final String query = queries.get(partition);
+                final String path = String.format("%s/part-%05d", directory, partition);
+                futures.add(threadPool.submit(() -> {
+                    this.readPartition(query, path, dataQuantumClass);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            this.markSuccess(directory);
+        } catch (ExecutionException | IOException e) {
+            throw new RheemException(String.format("Executing %s failed.", operator), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException(String.format("Interrupted while executing %s.", operator), e);
+        } finally {
+            threadPool.shutdownNow();
+        }
+        executionState.register(outputFileChannelInstance);
+    }
+
+    /**
+     * Runs the given SQL query in a transaction of its own and writes its result into an object file.
+     */
+    private void readPartition(String query, String path, Class<?> dataQuantumClass) throws IOException, SQLException {
+        this.logger.info("Executing SQL query: {}", query);
+        final Connection connection = this.connectionPool.acquire();
+        try {
+            // Some drivers, e.g., PostgreSQL's, use a cursor rather than materializing the whole result only if
+            // auto-commit is off.
+            connection.setAutoCommit(false);
+            try (final PreparedStatement ps = connection.prepareStatement(
+                    query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize((int) this.configuration.getLongProperty("rheem.jdbc.fetch-size"));
+                try (final ResultSet rs = ps.executeQuery();
+                     final FileChannelWriter writer = FileChannelWriter.create(
+                             FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR, path)) {
+                    final ResultSetDecoder decoder = new ResultSetDecoder(rs.getMetaData(), dataQuantumClass);
+                    while (rs.next()) {
+                        writer.write(decoder.decode(rs));
+                    }
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        } finally {
+            this.connectionPool.release(connection);
+        }
+    }
+
+    /**
+     * Marks the given directory as complete, as Spark does, so that its part files are recognized.
+     *
+     * @see FileSystems#findActualInputPaths(String)
+     */
+    private void markSuccess(String directory) throws IOException {
+        final String successMarker = directory + "/_SUCCESS";
+        final FileSystem fileSystem = FileSystems.getFileSystem(successMarker).orElseThrow(
+                () -> new RheemException(String.format("Cannot access %s.", successMarker))
+        );
+        fileSystem.create(successMarker).close();
+    }
+
+    @Override
+    public Platform getPlatform() {
+        return this.platform;
+    }
+}
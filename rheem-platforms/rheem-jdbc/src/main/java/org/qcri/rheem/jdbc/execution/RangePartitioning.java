@@ -0,0 +1,46 @@
+package org.qcri.rheem.jdbc.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the value range of a numeric column into contiguous ranges, so that a table can be read by several queries
+ * in parallel.
+ */
+public class RangePartitioning {
+
+    /**
+     * Creates SQL predicates that partition the rows of a table by the given column. Together, the predicates cover
+     * all rows, including those with a {@code NULL} value in the column.
+     *
+     * @param column        the name of the integral column to partition by
+     * @param minValue      the minimum value of the column
+     * @param maxValue      the maximum value of the column
+     * @param numPartitions the requested number of partitions; fewer partitions are created if the value range is
+     *                      too small
+     * @return the predicates, one per partition
+     */
+    public static List<String> createPredicates(String column, long minValue, long maxValue, int numPartitions) {
+        assert minValue <= maxValue;
+        final double numValues = (double) maxValue - minValue + 1;
+        numPartitions = (int) Math.max(1, Math.min(numPartitions, numValues));
+        final List<String> predicates = new ArrayList<>(numPartitions);
+        long lowerBound = minValue;
+        for (int partition = 0; partition < numPartitions; partition++) {
+            // The last partition is bounded only from below, so that rounding errors cannot lose any rows.
+            if (partition == numPartitions - 1) {
+                predicates.add(partition == 0 ?
+                        "1 = 1" :
+                        String.format("%s >= %d OR %s IS NULL", column, lowerBound, column));
+                break;
+            }
+            final long upperBound = minValue + (long) Math.ceil(numValues * (partition + 1) / numPartitions);
+            predicates.add(partition == 0 ?
+                    String.format("%s < %d", column, upperBound) :
+                    String.format("%s >= %d AND %s < %d", column, lowerBound, column, upperBound));
+            lowerBound = upperBound;
+        }
+        return predicates;
+    }
+
+}
@@ -0,0 +1,227 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.RecordSchema;
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.math.BigDecimal;
+import java.sql.*;
+
+/**
+ * Decodes the rows of a {@link ResultSet} into data quanta. The decoding of each column is chosen once from the
+ * {@link ResultSetMetaData}, so that values are read with their JDBC types rather than as strings.
+ * <p>Rows are decoded into {@link Tuple2}s if requested and there are two columns, into plain values if there is
+ * only a single column, and into {@link Record}s otherwise. If {@link Tuple2}s are requested and the column labels
+ * start with {@link #FIELD0_PREFIX} and {@link #FIELD1_PREFIX}, these columns are decoded into the two fields of the
+ * {@link Tuple2}s instead, e.g., to decode the rows of a join.</p>
+ */
+public class ResultSetDecoder {
+
+    /**
+     * Prefix of the labels of the columns that make up the {@link Tuple2#field0} of the decoded data quanta.
+     */
+    public static final String FIELD0_PREFIX = "field0.";
+
+    /**
+     * Prefix of the labels of the columns that make up the {@link Tuple2#field1} of the decoded data quanta.
+     */
+    public static final String FIELD1_PREFIX = "field1.";
+
+    /**
+     * Reads the value of a single column from the current row of a {@link ResultSet}.
+     */
+    @FunctionalInterface
+    private interface ColumnDecoder {
+
+        Object decode(ResultSet resultSet, int column) throws SQLException;
+
+    }
+
+    /**
+     * Decodes a range of columns from the current row of a {@link ResultSet} into a data quantum or a field of it.
+     */
+    @FunctionalInterface
+    private interface ColumnRangeDecoder {
+
+        Object decode(ResultSet resultSet) throws SQLException;
+
+    }
+
+    private final ColumnDecoder[] columnDecoders;
+
+    private final ColumnRangeDecoder rowDecoder;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param metaData         describes the columns of the {@link ResultSet}s to decode
+     * @param dataQuantumClass the requested class of the data quanta
+     */
+    public ResultSetDecoder(ResultSetMetaData metaData, Class<?> dataQuantumClass) throws SQLException {
+        this(metaData, dataQuantumClass, Object.class, Object.class);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param metaData         describes the columns of the {@link ResultSet}s to decode
+     * @param dataQuantumClass the requested class of the data quanta
+     * @param field0Class      the requested class of the {@link Tuple2#field0}s if {@link Tuple2}s are decoded from
+     *                         prefixed columns
+     * @param field1Class      the requested class of the {@link Tuple2#field1}s if {@link Tuple2}s are decoded from
+     *                         prefixed columns
+     */
+    public ResultSetDecoder(ResultSetMetaData metaData, Class<?> dataQuantumClass,
+                            Class<?> field0Class, Class<?> field1Class) throws SQLException {
+        final int numColumns = metaData.getColumnCount();
+        this.columnDecoders = new ColumnDecoder[numColumns];
+        final String[] labels = new String[numColumns];
+        final int[] sqlTypes = new int[numColumns];
+        for (int i = 0; i < numColumns; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+            sqlTypes[i] = metaData.getColumnType(i + 1);
+            this.columnDecoders[i] = createColumnDecoder(sqlTypes[i]);
+        }
+
+        final int numField0Columns = countPrefixedLabels(labels, 0, FIELD0_PREFIX);
+        final int numField1Columns = countPrefixedLabels(labels, numField0Columns, FIELD1_PREFIX);
+        if (dataQuantumClass == Tuple2.class && numField0Columns > 0 && numField1Columns > 0
+                && numField0Columns + numField1Columns == numColumns) {
+            final ColumnRangeDecoder field0Decoder =
+                    this.createColumnRangeDecoder(labels, sqlTypes, 0, numField0Columns, FIELD0_PREFIX, field0Class);
+            final ColumnRangeDecoder field1Decoder =
+                    this.createColumnRangeDecoder(labels, sqlTypes, numField0Columns, numColumns, FIELD1_PREFIX, field1Class);
+            this.rowDecoder = resultSet -> new Tuple2<>(field0Decoder.decode(resultSet), field1Decoder.decode(resultSet));
+        } else if (dataQuantumClass == Tuple2.class && numColumns == 2) {
+            this.rowDecoder = resultSet -> new Tuple2<>(
+                    this.columnDecoders[0].decode(resultSet, 1), this.columnDecoders[1].decode(resultSet, 2)
+            );
+        } else {
+            this.rowDecoder = this.createColumnRangeDecoder(labels, sqlTypes, 0, numColumns, "", dataQuantumClass);
+        }
+    }
+
+    /**
+     * Counts the consecutive labels from the given offset on that start with the given prefix.
+     */
+    private static int countPrefixedLabels(String[] labels, int offset, String prefix) {
+        int numPrefixedLabels = 0;
+        while (offset + numPrefixedLabels < labels.length && labels[offset + numPrefixedLabels].startsWith(prefix)) {
+            numPrefixedLabels++;
+        }
+        return numPrefixedLabels;
+    }
+
+    /**
+     * Creates a {@link ColumnRangeDecoder} that decodes the columns {@code [from, to)} into a plain value if there is
+     * a single column and no {@link Record} is requested, and into a {@link Record} otherwise. Its field names are the
+     * column labels without the given prefix.
+     */
+    private ColumnRangeDecoder createColumnRangeDecoder(String[] labels, int[] sqlTypes, int from, int to,
+                                                        String prefix, Class<?> requestedClass) {
+        if (to - from == 1 && requestedClass != Record.class) {
+            final ColumnDecoder columnDecoder = this.columnDecoders[from];
+            return resultSet -> columnDecoder.decode(resultSet, from + 1);
+        }
+        final String[] names = new String[to - from];
+        final Class[] types = new Class[to - from];
+        for (int i = from; i < to; i++) {
+            names[i - from] = labels[i].substring(prefix.length());
+            types[i - from] = getJavaType(sqlTypes[i]);
+        }
+        final RecordSchema recordSchema = new RecordSchema(names, types);
+        return resultSet -> {
+            final Object[] values = new Object[to - from];
+            for (int i = from; i < to; i++) {
+                values[i - from] = this.columnDecoders[i].decode(resultSet, i + 1);
+            }
+            return new Record(recordSchema, values);
+        };
+    }
+
+    /**
+     * Decodes the current row of the given {@link ResultSet}.
+     *
+     * @param resultSet positioned at a row
+     * @return the data quantum for that row
+     */
+    public Object decode(ResultSet resultSet) throws SQLException {
+        return this.rowDecoder.decode(resultSet);
+    }
+
+    private static ColumnDecoder createColumnDecoder(int sqlType) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return (rs, column) -> nullIfWasNull(rs, rs.getBoolean(column));
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return (rs, column) -> nullIfWasNull(rs, rs.getInt(column));
+            case Types.BIGINT:
+                return (rs, column) -> nullIfWasNull(rs, rs.getLong(column));
+            case Types.REAL:
+                return (rs, column) -> nullIfWasNull(rs, rs.getFloat(column));
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return (rs, column) -> nullIfWasNull(rs, rs.getDouble(column));
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return ResultSet::getBigDecimal;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+                return ResultSet::getString;
+            case Types.DATE:
+                return ResultSet::getDate;
+            case Types.TIMESTAMP:
+                return ResultSet::getTimestamp;
+            default:
+                return ResultSet::getObject;
+        }
+    }
+
+    private static Class<?> getJavaType(int sqlType) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return Boolean.class;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.class;
+            case Types.BIGINT:
+                return Long.class;
+            case Types.REAL:
+                return Float.class;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.class;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+                return String.class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    /**
+     * Primitive JDBC getters return default values for SQL {@code NULL}s, which we need to revert.
+     */
+    private static Object nullIfWasNull(ResultSet resultSet, Object value) throws SQLException {
+        return resultSet.wasNull() ? null : value;
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.qcri.rheem.jdbc.mapping;
+
+import org.qcri.rheem.basic.operators.TableSource;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.JdbcPlatform;
+import org.qcri.rheem.jdbc.operators.JdbcTableSource;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link TableSource} to {@link JdbcTableSource}.
+ */
+public class JdbcTableSourceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(this.createSubplanPattern(), new ReplacementFactory(),
+                JdbcPlatform.getInstance()));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "source", new TableSource(null, DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private static class ReplacementFactory extends ReplacementSubplanFactory {
+
+        @Override
+        protected Operator translate(SubplanMatch subplanMatch, int epoch) {
+            final TableSource originalSource = (TableSource) subplanMatch.getMatch("source").getOperator();
+            return new JdbcTableSource(originalSource.getTableName(), originalSource.getType()).at(epoch);
+        }
+    }
+}
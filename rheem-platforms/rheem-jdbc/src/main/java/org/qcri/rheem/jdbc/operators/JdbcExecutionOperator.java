@@ -0,0 +1,44 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.jdbc.JdbcPlatform;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ExecutionOperator} that is executed in a database that is accessed via JDBC.
+ */
+public interface JdbcExecutionOperator extends ExecutionOperator {
+
+    /**
+     * Creates the SQL queries that compute the output of this operator. Each query yields a disjoint partition of
+     * the output, so that the queries can be run in parallel.
+     *
+     * @param connection    to the database, e.g., to look up metadata
+     * @param maxPartitions the maximum number of queries to create
+     * @return the SQL queries
+     */
+    List<String> createSqlQueries(Connection connection, int maxPartitions) throws SQLException;
+
+    @Override
+    default Platform getPlatform() {
+        return JdbcPlatform.getInstance();
+    }
+
+    @Override
+    default List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    default List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.operators.TableSource;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.execution.RangePartitioning;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation for the {@link TableSource}. It splits the table into ranges of an integral partition column,
+ * so that the ranges can be read in parallel. Unless specified otherwise, the partition column is the primary key of
+ * the table if it consists of a single integral column.
+ */
+public class JdbcTableSource extends TableSource implements JdbcExecutionOperator {
+
+    private final String partitionColumn;
+
+    public JdbcTableSource(String tableName, DataSetType type) {
+        this(tableName, null, type);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tableName       the name of the table to read
+     * @param partitionColumn the name of an integral column to partition the table by or {@code null} to use the
+     *                        primary key
+     * @param type            the type of the output data quanta
+     */
+    public JdbcTableSource(String tableName, String partitionColumn, DataSetType type) {
+        super(tableName, type);
+        this.partitionColumn = partitionColumn;
+    }
+
+    public String getPartitionColumn() {
+        return this.partitionColumn;
+    }
+
+    @Override
+    public List<String> createSqlQueries(Connection connection, int maxPartitions) throws SQLException {
+        final String query = "SELECT * FROM " + this.getTableName();
+        final String column = maxPartitions > 1 ?
+                (this.partitionColumn != null ? this.partitionColumn : this.findIntegralPrimaryKey(connection)) :
+                null;
+        if (column == null) {
+            return Collections.singletonList(query);
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(String.format(
+                     "SELECT MIN(%s), MAX(%s) FROM %s", column, column, this.getTableName()))) {
+            rs.next();
+            final long minValue = rs.getLong(1);
+            if (rs.wasNull()) {
+                // The table is empty or the partition column contains NULLs only.
+                return Collections.singletonList(query);
+            }
+            final long maxValue = rs.getLong(2);
+            return RangePartitioning.createPredicates(column, minValue, maxValue, maxPartitions).stream()
+                    .map(predicate -> query + " WHERE " + predicate)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Looks up the primary key of the table.
+     *
+     * @return the name of the primary key column or {@code null} if the primary key is not a single integral column
+     */
+    private String findIntegralPrimaryKey(Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        String tableName = this.getTableName();
+        if (metaData.storesUpperCaseIdentifiers()) {
+            tableName = tableName.toUpperCase();
+        } else if (metaData.storesLowerCaseIdentifiers()) {
+            tableName = tableName.toLowerCase();
+        }
+
+        final List<String> keyColumns = new ArrayList<>(1);
+        try (ResultSet rs = metaData.getPrimaryKeys(null, null, tableName)) {
+            while (rs.next()) {
+                keyColumns.add(rs.getString("COLUMN_NAME"));
+            }
+        }
+        if (keyColumns.size() != 1) return null;
+
+        try (ResultSet rs = metaData.getColumns(null, null, tableName, keyColumns.get(0))) {
+            if (!rs.next()) return null;
+            switch (rs.getInt("DATA_TYPE")) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    return keyColumns.get(0);
+                default:
+                    return null;
+            }
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JdbcTableSource(this.getTableName(), this.partitionColumn, this.getType());
+    }
+}
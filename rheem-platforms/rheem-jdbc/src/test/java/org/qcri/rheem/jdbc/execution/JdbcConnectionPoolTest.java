@@ -0,0 +1,104 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test suite for {@link JdbcConnectionPool}.
+ */
+public class JdbcConnectionPoolTest {
+
+    /**
+     * Creates a dummy {@link Connection} that is valid as long as the given flag is set.
+     */
+    private static Connection createConnection(AtomicBoolean isValid) {
+        final AtomicBoolean isClosed = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                JdbcConnectionPoolTest.class.getClassLoader(),
+                new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isValid":
+                            return isValid.get() && !isClosed.get();
+                        case "isClosed":
+                            return isClosed.get();
+                        case "close":
+                            isClosed.set(true);
+                            return null;
+                        case "getAutoCommit":
+                            return true;
+                        default:
+                            return null;
+                    }
+                }
+        );
+    }
+
+    @Test
+    public void testReuseConnections() {
+        // Prepare test data.
+        final AtomicInteger numCreatedConnections = new AtomicInteger(0);
+        final JdbcConnectionPool pool = new JdbcConnectionPool(() -> {
+            numCreatedConnections.incrementAndGet();
+            return createConnection(new AtomicBoolean(true));
+        }, 2);
+
+        // Execute.
+        final Connection connection1 = pool.acquire();
+        pool.release(connection1);
+        final Connection connection2 = pool.acquire();
+        final Connection connection3 = pool.acquire();
+        pool.release(connection2);
+        pool.release(connection3);
+
+        // Verify the outcome.
+        Assert.assertSame(connection1, connection2);
+        Assert.assertNotSame(connection2, connection3);
+        Assert.assertEquals(2, numCreatedConnections.get());
+    }
+
+    @Test
+    public void testReplaceInvalidConnections() {
+        // Prepare test data.
+        final AtomicBoolean isValid = new AtomicBoolean(true);
+        final JdbcConnectionPool pool = new JdbcConnectionPool(() -> createConnection(isValid), 1);
+
+        // Execute.
+        final Connection connection1 = pool.acquire();
+        pool.release(connection1);
+        isValid.set(false);
+        final Connection connection2 = pool.acquire();
+        pool.release(connection2);
+
+        // Verify the outcome.
+        Assert.assertNotSame(connection1, connection2);
+    }
+
+    @Test
+    public void testBlockWhenExhausted() throws InterruptedException {
+        // Prepare test data.
+        final JdbcConnectionPool pool = new JdbcConnectionPool(() -> createConnection(new AtomicBoolean(true)), 1);
+        final Connection connection1 = pool.acquire();
+
+        // Execute.
+        final CountDownLatch acquiredLatch = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            pool.release(pool.acquire());
+            acquiredLatch.countDown();
+        });
+        thread.start();
+
+        // Verify the outcome.
+        Assert.assertFalse(acquiredLatch.await(100, TimeUnit.MILLISECONDS));
+        pool.release(connection1);
+        Assert.assertTrue(acquiredLatch.await(10, TimeUnit.SECONDS));
+    }
+
+}
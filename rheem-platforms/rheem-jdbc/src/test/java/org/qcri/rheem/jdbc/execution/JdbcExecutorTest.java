@@ -0,0 +1,180 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.executionplan.PlatformExecution;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.operators.JavaObjectFileSource;
+import org.qcri.rheem.jdbc.JdbcPlatform;
+import org.qcri.rheem.jdbc.operators.JdbcTableSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link JdbcExecutor}. It reads a table from an in-memory H2 database in several partitions and
+ * feeds the resulting part files into a {@link JavaObjectFileSource}.
+ */
+public class JdbcExecutorTest {
+
+    private static final String URL = "jdbc:h2:mem:JdbcExecutorTest;DB_CLOSE_DELAY=-1";
+
+    private static final int NUM_ROWS = 1000;
+
+    private Configuration configuration;
+
+    private File tempDirectory;
+
+    @Before
+    public void setUp() throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE people (id INT PRIMARY KEY, name VARCHAR(20))");
+            for (int id = 0; id < NUM_ROWS; id++) {
+                statement.execute(String.format("INSERT INTO people VALUES (%d, 'person%d')", id, id));
+            }
+        }
+        this.tempDirectory = Files.createTempDirectory("rheem-jdbc").toFile();
+
+        JdbcPlatform.getInstance();
+        this.configuration = new Configuration();
+        this.configuration.setProperty("rheem.jdbc.url", URL);
+        this.configuration.setProperty("rheem.jdbc.partitions", "4");
+        this.configuration.setProperty("rheem.jdbc.pool.max-connections", "2");
+        this.configuration.setProperty("rheem.jdbc.fetch-size", "100");
+        this.configuration.setProperty("rheem.basic.tempdir", "file://" + this.tempDirectory.getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        JdbcConnectionPool.getInstance(this.configuration, JdbcPlatform.JDBC_PROPERTY_PREFIX).close();
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        deleteRecursively(this.tempDirectory);
+    }
+
+    private static void deleteRecursively(File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    @Test
+    public void testPartitionedScanIntoJavaStream() {
+        // Prepare test data.
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(this.configuration);
+        final JdbcExecutor jdbcExecutor = (JdbcExecutor) JdbcPlatform.getInstance().getExecutorFactory().create(job);
+
+        final JdbcTableSource source = new JdbcTableSource("people", DataSetType.createDefault(Record.class));
+        final ExecutionTask sourceTask = new ExecutionTask(source);
+        sourceTask.initializeOutputChannel(0, this.configuration);
+        final ExecutionStage stage = new PlatformExecution(JdbcPlatform.getInstance()).createStage(null, 0);
+        stage.addTask(sourceTask);
+        final TestExecutionState executionState = new TestExecutionState();
+
+        // Execute.
+        jdbcExecutor.execute(stage, executionState);
+
+        final FileChannel.Instance fileChannelInstance =
+                (FileChannel.Instance) executionState.getChannelInstance(sourceTask.getOutputChannel(0));
+        final JavaObjectFileSource<Record> javaSource = new JavaObjectFileSource<>(DataSetType.createDefault(Record.class));
+        final StreamChannel.Instance streamChannelInstance = (StreamChannel.Instance) StreamChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(mock(JavaExecutor.class));
+        javaSource.evaluate(
+                new ChannelInstance[]{fileChannelInstance},
+                new ChannelInstance[]{streamChannelInstance},
+                new FunctionCompiler(this.configuration)
+        );
+        final List<Record> result = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+
+        // Verify the outcome: Each partition has been written to its own part file ...
+        final File directory = new File(this.tempDirectory, new File(fileChannelInstance.getSinglePath()).getName());
+        final String[] fileNames = directory.list();
+        Assert.assertNotNull(fileNames);
+        Arrays.sort(fileNames);
+        Assert.assertEquals(
+                Arrays.asList("_SUCCESS", "part-00000", "part-00001", "part-00002", "part-00003"),
+                Arrays.stream(fileNames).filter(fileName -> !fileName.startsWith(".")).collect(Collectors.toList())
+        );
+
+        // ... and the partitions together contain every row exactly once.
+        final List<Record> expectedResult = new ArrayList<>(NUM_ROWS);
+        for (int id = 0; id < NUM_ROWS; id++) {
+            expectedResult.add(new Record(id, "person" + id));
+        }
+        result.sort(Comparator.comparing(record -> (Integer) record.getField(0)));
+        Assert.assertEquals(expectedResult, result);
+        Assert.assertEquals("ID", result.get(0).getFieldName(0));
+    }
+
+    /**
+     * Simple {@link ExecutionState} that merely keeps track of {@link ChannelInstance}s.
+     */
+    private static class TestExecutionState implements ExecutionState {
+
+        private final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+
+        @Override
+        public void register(ChannelInstance channelInstance) {
+            this.channelInstances.put(channelInstance.getChannel(), channelInstance);
+        }
+
+        @Override
+        public ChannelInstance getChannelInstance(Channel channel) {
+            return this.channelInstances.get(channel);
+        }
+
+        @Override
+        public void addCardinalityMeasurement(Channel channel, long cardinality) {
+        }
+
+        @Override
+        public OptionalLong getCardinalityMeasurement(Channel channel) {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Map<Channel, Long> getCardinalityMeasurements() {
+            return new HashMap<>();
+        }
+    }
+
+}
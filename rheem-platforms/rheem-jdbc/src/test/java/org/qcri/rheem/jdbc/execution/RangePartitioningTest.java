@@ -0,0 +1,45 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test suite for {@link RangePartitioning}.
+ */
+public class RangePartitioningTest {
+
+    @Test
+    public void testCreatePredicates() {
+        // Execute.
+        final List<String> predicates = RangePartitioning.createPredicates("id", 0, 9, 3);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                Arrays.asList("id < 4", "id >= 4 AND id < 7", "id >= 7 OR id IS NULL"),
+                predicates
+        );
+    }
+
+    @Test
+    public void testCreatePredicatesForSmallRange() {
+        // Execute.
+        final List<String> predicates = RangePartitioning.createPredicates("id", -1, 0, 4);
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList("id < 0", "id >= 0 OR id IS NULL"), predicates);
+    }
+
+    @Test
+    public void testCreateSinglePredicate() {
+        // Execute.
+        final List<String> predicates = RangePartitioning.createPredicates("id", 42, 42, 4);
+
+        // Verify the outcome.
+        Assert.assertEquals(Collections.singletonList("1 = 1"), predicates);
+    }
+
+}
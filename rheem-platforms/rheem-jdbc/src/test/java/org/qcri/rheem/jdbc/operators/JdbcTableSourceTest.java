@@ -0,0 +1,110 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test suite for {@link JdbcTableSource}. It runs against an in-memory H2 database, which stores unquoted identifiers
+ * in upper case.
+ */
+public class JdbcTableSourceTest {
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:JdbcTableSourceTest");
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE people (id INT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("CREATE TABLE cities (name VARCHAR(20) PRIMARY KEY, population INT)");
+            statement.execute("CREATE TABLE empty_people (id INT PRIMARY KEY, name VARCHAR(20))");
+            for (int id = 1; id <= 100; id++) {
+                statement.execute(String.format("INSERT INTO people VALUES (%d, 'person%d')", id, id));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        // Closing the last connection drops the in-memory database.
+        this.connection.close();
+    }
+
+    @Test
+    public void testPartitionByPrimaryKey() throws SQLException {
+        // Prepare test data.
+        final JdbcTableSource source = new JdbcTableSource("people", DataSetType.createDefault(Record.class));
+
+        // Execute.
+        final List<String> queries = source.createSqlQueries(this.connection, 4);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                Arrays.asList(
+                        "SELECT * FROM people WHERE ID < 26",
+                        "SELECT * FROM people WHERE ID >= 26 AND ID < 51",
+                        "SELECT * FROM people WHERE ID >= 51 AND ID < 76",
+                        "SELECT * FROM people WHERE ID >= 76 OR ID IS NULL"
+                ),
+                queries
+        );
+    }
+
+    @Test
+    public void testPartitionByGivenColumn() throws SQLException {
+        // Prepare test data.
+        final JdbcTableSource source = new JdbcTableSource("cities", "population", DataSetType.createDefault(Record.class));
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("INSERT INTO cities VALUES ('Doha', 10), ('Berlin', 20), ('Nowhere', NULL)");
+        }
+
+        // Execute.
+        final List<String> queries = source.createSqlQueries(this.connection, 2);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                Arrays.asList(
+                        "SELECT * FROM cities WHERE population < 16",
+                        "SELECT * FROM cities WHERE population >= 16 OR population IS NULL"
+                ),
+                queries
+        );
+    }
+
+    @Test
+    public void testNoPartitioningWithoutIntegralPrimaryKey() throws SQLException {
+        // Prepare test data.
+        final JdbcTableSource source = new JdbcTableSource("cities", DataSetType.createDefault(Record.class));
+
+        // Execute.
+        final List<String> queries = source.createSqlQueries(this.connection, 4);
+
+        // Verify the outcome.
+        Assert.assertEquals(Collections.singletonList("SELECT * FROM cities"), queries);
+    }
+
+    @Test
+    public void testNoPartitioningOfEmptyTable() throws SQLException {
+        // Prepare test data.
+        final JdbcTableSource source = new JdbcTableSource("empty_people", DataSetType.createDefault(Record.class));
+
+        // Execute.
+        final List<String> queries = source.createSqlQueries(this.connection, 4);
+
+        // Verify the outcome.
+        Assert.assertEquals(Collections.singletonList("SELECT * FROM empty_people"), queries);
+    }
+
+}
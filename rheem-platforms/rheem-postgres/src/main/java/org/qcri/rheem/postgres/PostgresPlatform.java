@@ -2,16 +2,20 @@ package org.qcri.rheem.postgres;
 
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileToTimeConverter;
 import org.qcri.rheem.core.optimizer.costs.LoadToTimeConverter;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.ReflectionUtils;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.postgres.channels.SqlQueryChannel;
 import org.qcri.rheem.postgres.execution.PostgresExecutor;
-import org.qcri.rheem.postgres.mapping.PostgresFilterMapping;
-import org.qcri.rheem.postgres.mapping.PostgresProjectionMapping;
-import org.qcri.rheem.postgres.mapping.PostgresTableSourceMapping;
+import org.qcri.rheem.postgres.mapping.*;
+import org.qcri.rheem.postgres.operators.SqlToStreamOperator;
 
 import java.sql.Connection;
 import java.util.Collection;
@@ -29,7 +33,12 @@ public class PostgresPlatform extends Platform {
 
     public static final String HDFS_MS_PER_MB_PROPERTY = "rheem.postgres.hdfs.ms-per-mb";
 
-    public static final String JDBC_URL_PROPERTY = "rheem.postgres.jdbc.url";
+    /**
+     * Prefix of the properties that specify the database connection.
+     */
+    public static final String JDBC_PROPERTY_PREFIX = "rheem.postgres.jdbc";
+
+    public static final String JDBC_URL_PROPERTY = JDBC_PROPERTY_PREFIX + ".url";
 
     public static final String USER_PROPERTY = "rheem.postgres.user";
 
@@ -39,6 +48,15 @@ public class PostgresPlatform extends Platform {
 
     private static final String PLATFORM_NAME = "postgres";
 
+    /**
+     * Streams the result of a PostgreSQL stage into the {@link org.qcri.rheem.java.JavaPlatform}.
+     */
+    public static final ChannelConversion SQL_QUERY_TO_STREAM = new DefaultChannelConversion(
+            SqlQueryChannel.DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            () -> new SqlToStreamOperator<>(DataSetType.createDefault(Void.class))
+    );
+
     private final Collection<Mapping> mappings = new LinkedList<>();
 
     private static PostgresPlatform instance = null;
@@ -72,6 +90,12 @@ public class PostgresPlatform extends Platform {
         this.mappings.add(new PostgresTableSourceMapping());
         this.mappings.add(new PostgresFilterMapping());
         this.mappings.add(new PostgresProjectionMapping());
+        this.mappings.add(new PostgresMapMapping());
+        this.mappings.add(new PostgresJoinMapping());
+        this.mappings.add(new PostgresReduceByMapping());
+        this.mappings.add(new PostgresGlobalReduceMapping());
+        this.mappings.add(new PostgresCountMapping());
+        this.mappings.add(new PostgresSortMapping());
     }
 
     @Override
@@ -86,7 +110,7 @@ public class PostgresPlatform extends Platform {
 
     @Override
     public void addChannelConversionsTo(ChannelConversionGraph channelConversionGraph) {
-
+        channelConversionGraph.add(SQL_QUERY_TO_STREAM);
     }
 
     @Override
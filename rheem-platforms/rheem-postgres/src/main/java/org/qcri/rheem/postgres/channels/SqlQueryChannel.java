@@ -0,0 +1,112 @@
+package org.qcri.rheem.postgres.channels;
+
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.jdbc.execution.JdbcConnectionPool;
+import org.qcri.rheem.jdbc.execution.ResultSetDecoder;
+import org.qcri.rheem.postgres.operators.PostgresExecutionOperator;
+import org.qcri.rheem.postgres.operators.SqlToStreamOperator;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * {@link Channel} that does not carry the result of a PostgreSQL stage but the SQL query to compute it. The query is
+ * run by its consumer, e.g., the {@link SqlToStreamOperator}, so that the result is streamed straight from the
+ * database rather than being materialized in a file first. As the query runs anew for every consumer, the
+ * {@link Channel} is not reusable.
+ */
+public class SqlQueryChannel extends Channel {
+
+    private static final boolean IS_REUSABLE = false;
+
+    private static final boolean IS_INTER_STAGE_CAPABLE = true;
+
+    private static final boolean IS_INTER_PLATFORM_CAPABLE = true;
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(SqlQueryChannel.class,
+            IS_REUSABLE, IS_INTER_STAGE_CAPABLE, IS_INTER_PLATFORM_CAPABLE);
+
+    public SqlQueryChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
+        super(descriptor, outputSlot);
+        assert descriptor == DESCRIPTOR;
+    }
+
+    private SqlQueryChannel(SqlQueryChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public SqlQueryChannel copy() {
+        return new SqlQueryChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor) {
+        return new Instance(executor);
+    }
+
+    /**
+     * {@link ChannelInstance} implementation for {@link SqlQueryChannel}s.
+     */
+    public class Instance extends AbstractChannelInstance {
+
+        private String sqlQuery;
+
+        private PostgresExecutionOperator producer;
+
+        private JdbcConnectionPool connectionPool;
+
+        public Instance(Executor executor) {
+            super(executor);
+        }
+
+        /**
+         * Provides the SQL query whose result this instance represents.
+         *
+         * @param sqlQuery       the SQL query
+         * @param producer       the {@link PostgresExecutionOperator} that the SQL query has been built for
+         * @param connectionPool provides {@link java.sql.Connection}s to run the SQL query
+         */
+        public void setSqlQuery(String sqlQuery, PostgresExecutionOperator producer, JdbcConnectionPool connectionPool) {
+            this.sqlQuery = sqlQuery;
+            this.producer = producer;
+            this.connectionPool = connectionPool;
+        }
+
+        public String getSqlQuery() {
+            return this.sqlQuery;
+        }
+
+        public JdbcConnectionPool getConnectionPool() {
+            return this.connectionPool;
+        }
+
+        /**
+         * Creates a {@link ResultSetDecoder} for the result of the {@link #getSqlQuery() SQL query}.
+         *
+         * @param metaData describes the result
+         * @return the {@link ResultSetDecoder}
+         * @see PostgresExecutionOperator#createResultSetDecoder(ResultSetMetaData)
+         */
+        public ResultSetDecoder createResultSetDecoder(ResultSetMetaData metaData) throws SQLException {
+            return this.producer.createResultSetDecoder(metaData);
+        }
+
+        @Override
+        public Channel getChannel() {
+            return SqlQueryChannel.this;
+        }
+
+        @Override
+        protected void doDispose() {
+            this.sqlQuery = null;
+            this.producer = null;
+            this.connectionPool = null;
+        }
+    }
+}
@@ -0,0 +1,911 @@
+package org.qcri.rheem.postgres.compiler;
+
+import org.qcri.rheem.basic.data.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Translates simple UDFs to SQL by symbolically executing their bytecode. Supported are comparisons, boolean logic,
+ * arithmetic, {@code null} checks, and {@link Record#getField(String)} accesses on the input data quantum as well as
+ * captured constants. For instance, the predicate
+ * <pre>{@code r -> (Integer) r.getField("age") >= minAge && "DE".equals(r.getField("country"))}</pre>
+ * with {@code minAge = 18} translates to {@code age >= 18 AND 'DE' = country}.
+ * <p>Whenever a UDF uses anything else, e.g., loops, object creation, or calls to other methods, the translation
+ * fails, so that the UDF is not pushed into the database.</p>
+ */
+class BytecodeTranslator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BytecodeTranslator.class);
+
+    /**
+     * Bounds the symbolic execution in terms of execution paths and executed instructions, respectively.
+     */
+    private static final int MAX_PATHS = 64, MAX_STEPS = 10000;
+
+    static final Pattern COLUMN_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private static final String RECORD_CLASS = Record.class.getName().replace('.', '/');
+
+    private static final Set<String> BOXED_CLASSES = new HashSet<>(Arrays.asList(
+            "java/lang/Integer", "java/lang/Long", "java/lang/Short", "java/lang/Byte", "java/lang/Float",
+            "java/lang/Double", "java/lang/Boolean", "java/lang/Character", "java/lang/Number"
+    ));
+
+    private static final Set<String> UNBOXING_METHODS = new HashSet<>(Arrays.asList(
+            "intValue", "longValue", "shortValue", "byteValue", "floatValue", "doubleValue", "booleanValue",
+            "charValue"
+    ));
+
+    /**
+     * Signals that a UDF cannot be translated.
+     */
+    private static class UntranslatableException extends Exception {
+
+        UntranslatableException(String message) {
+            super(message);
+        }
+
+    }
+
+    /**
+     * Translates a predicate to a SQL condition, e.g., for a {@code WHERE} clause.
+     *
+     * @param predicate the Java implementation of the predicate, usually a serializable lambda
+     * @param methodName the name of the functional interface method, e.g., {@code test}
+     * @return the SQL condition or an empty {@link Optional} if the translation failed
+     */
+    static Optional<String> translatePredicate(Object predicate, String methodName) {
+        try {
+            final List<Path> paths = execute(predicate, methodName);
+
+            // Build a disjunction of the paths that return true, each of which is a conjunction of conditions.
+            final List<List<SqlValue>> disjuncts = new ArrayList<>();
+            for (Path path : paths) {
+                final List<SqlValue> conjuncts = new ArrayList<>(path.conditions);
+                if (path.result instanceof SqlValue && ((SqlValue) path.result).isConstant()) {
+                    final Object constant = ((SqlValue) path.result).constant;
+                    if (!(constant instanceof Integer)) {
+                        throw new UntranslatableException("Unexpected return value " + constant + ".");
+                    }
+                    if ((Integer) constant == 0) continue;
+                } else if (path.result instanceof SqlValue && ((SqlValue) path.result).negation != null) {
+                    conjuncts.add((SqlValue) path.result);
+                } else {
+                    throw new UntranslatableException("Unexpected return value.");
+                }
+                if (conjuncts.isEmpty()) return Optional.of("TRUE");
+                disjuncts.add(conjuncts);
+            }
+            if (disjuncts.isEmpty()) return Optional.of("FALSE");
+            simplify(disjuncts);
+
+            final List<String> disjunctSqls = disjuncts.stream()
+                    .map(conjuncts -> conjuncts.stream().map(condition -> condition.sql).collect(Collectors.joining(" AND ")))
+                    .collect(Collectors.toList());
+            if (disjunctSqls.size() == 1) return Optional.of(disjunctSqls.get(0));
+            return Optional.of(disjunctSqls.stream()
+                    .map(disjunct -> disjunct.contains(" AND ") ? "(" + disjunct + ")" : disjunct)
+                    .collect(Collectors.joining(" OR ")));
+        } catch (UntranslatableException | IOException | ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Could not translate {} to SQL.", predicate, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Removes redundant conditions from a disjunction of conjunctions, which arise because every path carries the
+     * conditions of all its branches. That is, {@code X OR (NOT X AND Y)} is simplified to {@code X OR Y} and
+     * {@code X OR (X AND Y)} is simplified to {@code X}.
+     *
+     * @param disjuncts the conjunctions of conditions; will be altered
+     */
+    private static void simplify(List<List<SqlValue>> disjuncts) {
+        boolean isChanged;
+        do {
+            isChanged = false;
+            for (Iterator<List<SqlValue>> iterator = disjuncts.iterator(); iterator.hasNext(); ) {
+                final List<SqlValue> disjunct = iterator.next();
+                final boolean isSubsumed = disjuncts.stream().anyMatch(otherDisjunct -> otherDisjunct != disjunct
+                        && otherDisjunct.stream().allMatch(c -> containsSql(disjunct, c.sql)));
+                if (isSubsumed) {
+                    iterator.remove();
+                    isChanged = true;
+                }
+            }
+            for (List<SqlValue> disjunct : disjuncts) {
+                for (List<SqlValue> otherDisjunct : disjuncts) {
+                    if (disjunct == otherDisjunct) continue;
+                    for (SqlValue condition : disjunct) {
+                        // If all other conditions of the disjunct are implied by the other disjunct, the negation of
+                        // the condition is redundant in the other disjunct.
+                        final boolean isRedundant = containsSql(otherDisjunct, condition.negation)
+                                && disjunct.stream().allMatch(c -> c == condition || containsSql(otherDisjunct, c.sql));
+                        if (isRedundant) {
+                            otherDisjunct.removeIf(c -> c.sql.equals(condition.negation));
+                            isChanged = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        } while (isChanged);
+    }
+
+    private static boolean containsSql(List<SqlValue> conditions, String sql) {
+        return conditions.stream().anyMatch(condition -> condition.sql.equals(sql));
+    }
+
+    /**
+     * Translates a function to a SQL expression, e.g., for a {@code SELECT} list.
+     *
+     * @param function   the Java implementation of the function, usually a serializable lambda
+     * @param methodName the name of the functional interface method, e.g., {@code apply}
+     * @return the SQL expression or an empty {@link Optional} if the translation failed
+     */
+    static Optional<String> translateFunction(Object function, String methodName) {
+        try {
+            final List<Path> paths = execute(function, methodName);
+            if (paths.size() != 1 || !paths.get(0).conditions.isEmpty() || !(paths.get(0).result instanceof SqlValue)) {
+                throw new UntranslatableException("Expected a single unconditional result.");
+            }
+            return Optional.of(((SqlValue) paths.get(0).result).sql);
+        } catch (UntranslatableException | IOException | ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Could not translate {} to SQL.", function, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Symbolically executes the given function on its input data quantum.
+     *
+     * @return the {@link Path}s through the function, each ending with a return statement
+     */
+    private static List<Path> execute(Object function, String methodName)
+            throws UntranslatableException, IOException, ReflectiveOperationException {
+        final Class<?> implementationClass;
+        final String implementationMethodName, implementationMethodDescriptor;
+        final List<Value> arguments = new ArrayList<>();
+
+        final Optional<SerializedLambda> serializedLambda = getSerializedLambda(function);
+        if (serializedLambda.isPresent()) {
+            // The lambda body resides in a synthetic method that takes the captured values plus the input.
+            final SerializedLambda lambda = serializedLambda.get();
+            final int kind = lambda.getImplMethodKind();
+            if (kind != MethodHandleInfo.REF_invokeStatic && kind != MethodHandleInfo.REF_invokeSpecial
+                    && kind != MethodHandleInfo.REF_invokeVirtual) {
+                throw new UntranslatableException("Unsupported method reference.");
+            }
+            implementationClass = Class.forName(
+                    lambda.getImplClass().replace('/', '.'), false, function.getClass().getClassLoader()
+            );
+            implementationMethodName = lambda.getImplMethodName();
+            implementationMethodDescriptor = lambda.getImplMethodSignature();
+            for (int i = 0; i < lambda.getCapturedArgCount(); i++) {
+                arguments.add(toValue(lambda.getCapturedArg(i)));
+            }
+        } else {
+            // Otherwise, we expect an ordinary class, e.g., an anonymous class.
+            implementationClass = function.getClass();
+            final Method method = Arrays.stream(implementationClass.getDeclaredMethods())
+                    .filter(m -> m.getName().equals(methodName) && !m.isBridge() && !m.isSynthetic())
+                    .filter(m -> m.getParameterCount() == 1 && !Modifier.isStatic(m.getModifiers()))
+                    .findAny()
+                    .orElseThrow(() -> new UntranslatableException("Could not find method " + methodName + "."));
+            implementationMethodName = method.getName();
+            implementationMethodDescriptor = getDescriptor(method);
+            arguments.add(new ObjectValue(function));
+        }
+        arguments.add(InputValue.INSTANCE);
+
+        final ClassFileReader classFile = ClassFileReader.read(implementationClass);
+        final ClassFileReader.MethodInfo method = classFile.getMethods().stream()
+                .filter(m -> m.name.equals(implementationMethodName) && m.descriptor.equals(implementationMethodDescriptor))
+                .findAny()
+                .orElseThrow(() -> new UntranslatableException("Could not find " + implementationMethodName + "."));
+        if (method.code == null) throw new UntranslatableException("No bytecode available.");
+
+        // Lay out the arguments in the local variables, where longs and doubles occupy two slots.
+        final List<String> parameterTypes = parseParameterTypes(implementationMethodDescriptor);
+        final boolean hasReceiver = arguments.size() == parameterTypes.size() + 1;
+        if (!hasReceiver && arguments.size() != parameterTypes.size()) {
+            throw new UntranslatableException("Unexpected number of arguments.");
+        }
+        final Value[] locals = new Value[256];
+        int slot = 0;
+        for (int i = 0; i < arguments.size(); i++) {
+            locals[slot++] = arguments.get(i);
+            final int parameterIndex = hasReceiver ? i - 1 : i;
+            if (parameterIndex >= 0 && isWide(parameterTypes.get(parameterIndex))) slot++;
+        }
+
+        return new Interpreter(classFile, method.code, function.getClass().getClassLoader()).run(locals);
+    }
+
+    /**
+     * Retrieves the {@link SerializedLambda} for the given function if it is a serializable lambda.
+     */
+    private static Optional<SerializedLambda> getSerializedLambda(Object function) throws ReflectiveOperationException {
+        if (!function.getClass().isSynthetic()) return Optional.empty();
+        final Method writeReplace;
+        try {
+            writeReplace = function.getClass().getDeclaredMethod("writeReplace");
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        writeReplace.setAccessible(true);
+        final Object replacement = writeReplace.invoke(function);
+        return replacement instanceof SerializedLambda ?
+                Optional.of((SerializedLambda) replacement) :
+                Optional.empty();
+    }
+
+    private static String getDescriptor(Method method) {
+        final StringBuilder sb = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            sb.append(getDescriptor(parameterType));
+        }
+        return sb.append(')').append(getDescriptor(method.getReturnType())).toString();
+    }
+
+    private static String getDescriptor(Class<?> cls) {
+        if (cls.isArray()) return cls.getName().replace('.', '/');
+        if (cls == int.class) return "I";
+        if (cls == long.class) return "J";
+        if (cls == short.class) return "S";
+        if (cls == byte.class) return "B";
+        if (cls == float.class) return "F";
+        if (cls == double.class) return "D";
+        if (cls == boolean.class) return "Z";
+        if (cls == char.class) return "C";
+        if (cls == void.class) return "V";
+        return "L" + cls.getName().replace('.', '/') + ";";
+    }
+
+    /**
+     * Splits the parameter types of the given method descriptor, e.g., {@code (ILjava/lang/String;)Z} into
+     * {@code I} and {@code Ljava/lang/String;}.
+     */
+    private static List<String> parseParameterTypes(String descriptor) {
+        final List<String> parameterTypes = new ArrayList<>();
+        int pos = 1;
+        while (descriptor.charAt(pos) != ')') {
+            int end = pos;
+            while (descriptor.charAt(end) == '[') end++;
+            end = descriptor.charAt(end) == 'L' ? descriptor.indexOf(';', end) + 1 : end + 1;
+            parameterTypes.add(descriptor.substring(pos, end));
+            pos = end;
+        }
+        return parameterTypes;
+    }
+
+    private static boolean isWide(String type) {
+        return type.equals("J") || type.equals("D");
+    }
+
+    /**
+     * Converts a Java object into a {@link Value}, i.e., primitive values and {@link String}s become SQL constants.
+     */
+    private static Value toValue(Object object) throws UntranslatableException {
+        if (object == null || object instanceof Number || object instanceof String || object instanceof Boolean
+                || object instanceof Character) {
+            return SqlValue.constant(object);
+        }
+        return new ObjectValue(object);
+    }
+
+    /**
+     * Symbolic value during the execution of a UDF.
+     */
+    private abstract static class Value {
+    }
+
+    /**
+     * The input data quantum of the UDF.
+     */
+    private static class InputValue extends Value {
+
+        private static final InputValue INSTANCE = new InputValue();
+
+    }
+
+    /**
+     * An opaque Java object, e.g., a captured object, whose fields might be read.
+     */
+    private static class ObjectValue extends Value {
+
+        private final Object object;
+
+        private ObjectValue(Object object) {
+            this.object = object;
+        }
+
+    }
+
+    /**
+     * The result of a three-way comparison, e.g., via {@code dcmpl} or {@link Comparable#compareTo(Object)}, that
+     * is yet to be compared to {@code 0}.
+     */
+    private static class ComparisonValue extends Value {
+
+        private final SqlValue left, right;
+
+        private ComparisonValue(SqlValue left, SqlValue right) {
+            this.left = left;
+            this.right = right;
+        }
+
+    }
+
+    /**
+     * A value that can be expressed in SQL.
+     */
+    private static class SqlValue extends Value {
+
+        private final String sql;
+
+        /**
+         * If this instance is a condition, the SQL for its negation; otherwise {@code null}.
+         */
+        private final String negation;
+
+        /**
+         * Whether the {@link #sql} can be embedded into other expressions without parentheses.
+         */
+        private final boolean isAtomic;
+
+        private final boolean isConstant;
+
+        private final Object constant;
+
+        private SqlValue(String sql, String negation, boolean isAtomic, boolean isConstant, Object constant) {
+            this.sql = sql;
+            this.negation = negation;
+            this.isAtomic = isAtomic;
+            this.isConstant = isConstant;
+            this.constant = constant;
+        }
+
+        private static SqlValue constant(Object value) throws UntranslatableException {
+            if ((value instanceof Double || value instanceof Float) && !Double.isFinite(((Number) value).doubleValue())) {
+                // SQL has no literals for these values and PostgreSQL does not order them like Java either.
+                throw new UntranslatableException("Unsupported constant " + value + ".");
+            }
+            final String sql;
+            if (value == null) {
+                sql = "NULL";
+            } else if (value instanceof String || value instanceof Character) {
+                sql = "'" + value.toString().replace("'", "''") + "'";
+            } else if (value instanceof Boolean) {
+                sql = (Boolean) value ? "TRUE" : "FALSE";
+            } else {
+                sql = value.toString();
+            }
+            final boolean isAtomic = !(value instanceof Number) || ((Number) value).doubleValue() >= 0;
+            return new SqlValue(sql, null, isAtomic, true, value);
+        }
+
+        private static SqlValue expression(String sql, boolean isAtomic) {
+            return new SqlValue(sql, null, isAtomic, false, null);
+        }
+
+        private static SqlValue condition(String sql, String negation) {
+            return new SqlValue(sql, negation, false, false, null);
+        }
+
+        private boolean isConstant() {
+            return this.isConstant;
+        }
+
+        private String embed() {
+            return this.isAtomic ? this.sql : "(" + this.sql + ")";
+        }
+
+    }
+
+    /**
+     * An execution path through a UDF.
+     */
+    private static class Path {
+
+        private final List<SqlValue> conditions;
+
+        private final Value result;
+
+        private Path(List<SqlValue> conditions, Value result) {
+            this.conditions = conditions;
+            this.result = result;
+        }
+
+    }
+
+    /**
+     * Execution state along a single path.
+     */
+    private static class State {
+
+        private int pc;
+
+        private final Deque<Value> stack;
+
+        private final Value[] locals;
+
+        private final List<SqlValue> conditions;
+
+        private State(int pc, Deque<Value> stack, Value[] locals, List<SqlValue> conditions) {
+            this.pc = pc;
+            this.stack = stack;
+            this.locals = locals;
+            this.conditions = conditions;
+        }
+
+        private State fork(int pc, SqlValue condition) {
+            final List<SqlValue> conditions = new ArrayList<>(this.conditions);
+            conditions.add(condition);
+            return new State(pc, new ArrayDeque<>(this.stack), this.locals.clone(), conditions);
+        }
+
+    }
+
+    /**
+     * Symbolically executes bytecode, thereby forking the execution at every conditional branch.
+     */
+    private static class Interpreter {
+
+        private final ClassFileReader classFile;
+
+        private final byte[] code;
+
+        private final ClassLoader classLoader;
+
+        private int numSteps = 0;
+
+        private Interpreter(ClassFileReader classFile, byte[] code, ClassLoader classLoader) {
+            this.classFile = classFile;
+            this.code = code;
+            this.classLoader = classLoader;
+        }
+
+        private List<Path> run(Value[] locals) throws UntranslatableException, ReflectiveOperationException {
+            final List<Path> paths = new ArrayList<>();
+            final Deque<State> openStates = new ArrayDeque<>();
+            openStates.add(new State(0, new ArrayDeque<>(), locals, new ArrayList<>()));
+            while (!openStates.isEmpty()) {
+                if (paths.size() + openStates.size() > MAX_PATHS) {
+                    throw new UntranslatableException("Too many execution paths.");
+                }
+                final State state = openStates.pop();
+                final Path path = this.execute(state, openStates);
+                paths.add(path);
+            }
+            return paths;
+        }
+
+        /**
+         * Executes the given {@link State} until it returns.
+         *
+         * @param openStates collects forked {@link State}s
+         * @return the {@link Path} of the {@link State}
+         */
+        private Path execute(State state, Deque<State> openStates)
+                throws UntranslatableException, ReflectiveOperationException {
+            final Deque<Value> stack = state.stack;
+            while (true) {
+                if (++this.numSteps > MAX_STEPS) throw new UntranslatableException("Too many steps.");
+                final int pc = state.pc;
+                final int opcode = this.code[pc] & 0xFF;
+                switch (opcode) {
+                    case 0x00: // nop
+                        state.pc += 1;
+                        break;
+                    case 0x01: // aconst_null
+                        stack.push(SqlValue.constant(null));
+                        state.pc += 1;
+                        break;
+                    case 0x02: case 0x03: case 0x04: case 0x05: case 0x06: case 0x07: case 0x08: // iconst_<i>
+                        stack.push(SqlValue.constant(opcode - 0x03));
+                        state.pc += 1;
+                        break;
+                    case 0x09: case 0x0a: // lconst_<l>
+                        stack.push(SqlValue.constant((long) (opcode - 0x09)));
+                        state.pc += 1;
+                        break;
+                    case 0x0b: case 0x0c: case 0x0d: // fconst_<f>
+                        stack.push(SqlValue.constant((float) (opcode - 0x0b)));
+                        state.pc += 1;
+                        break;
+                    case 0x0e: case 0x0f: // dconst_<d>
+                        stack.push(SqlValue.constant((double) (opcode - 0x0e)));
+                        state.pc += 1;
+                        break;
+                    case 0x10: // bipush
+                        stack.push(SqlValue.constant((int) this.code[pc + 1]));
+                        state.pc += 2;
+                        break;
+                    case 0x11: // sipush
+                        stack.push(SqlValue.constant((int) this.readShort(pc + 1)));
+                        state.pc += 3;
+                        break;
+                    case 0x12: // ldc
+                        stack.push(SqlValue.constant(this.classFile.getLoadableConstant(this.code[pc + 1] & 0xFF)));
+                        state.pc += 2;
+                        break;
+                    case 0x13: case 0x14: // ldc_w, ldc2_w
+                        stack.push(SqlValue.constant(this.classFile.getLoadableConstant(this.readUnsignedShort(pc + 1))));
+                        state.pc += 3;
+                        break;
+                    case 0x15: case 0x16: case 0x17: case 0x18: case 0x19: // <t>load
+                        stack.push(this.load(state, this.code[pc + 1] & 0xFF));
+                        state.pc += 2;
+                        break;
+                    case 0x36: case 0x37: case 0x38: case 0x39: case 0x3a: // <t>store
+                        state.locals[this.code[pc + 1] & 0xFF] = stack.pop();
+                        state.pc += 2;
+                        break;
+                    case 0x57: // pop
+                        stack.pop();
+                        state.pc += 1;
+                        break;
+                    case 0x59: // dup
+                        stack.push(stack.peek());
+                        state.pc += 1;
+                        break;
+                    case 0x60: case 0x61: case 0x62: case 0x63: // <t>add
+                        this.pushArithmetic(stack, "+");
+                        state.pc += 1;
+                        break;
+                    case 0x64: case 0x65: case 0x66: case 0x67: // <t>sub
+                        this.pushArithmetic(stack, "-");
+                        state.pc += 1;
+                        break;
+                    case 0x68: case 0x69: case 0x6a: case 0x6b: // <t>mul
+                        this.pushArithmetic(stack, "*");
+                        state.pc += 1;
+                        break;
+                    case 0x6c: case 0x6d: case 0x6e: case 0x6f: // <t>div
+                        this.pushArithmetic(stack, "/");
+                        state.pc += 1;
+                        break;
+                    case 0x70: case 0x71: // irem, lrem
+                        this.pushArithmetic(stack, "%");
+                        state.pc += 1;
+                        break;
+                    case 0x72: case 0x73: // frem, drem
+                        // PostgreSQL has no remainder for floating-point numbers.
+                        throw new UntranslatableException("Non-integral remainders are not supported.");
+                    case 0x74: case 0x75: case 0x76: case 0x77: // <t>neg
+                        stack.push(SqlValue.expression("-" + this.popSql(stack).embed(), false));
+                        state.pc += 1;
+                        break;
+                    case 0x85: // i2l
+                        this.pushConversion(stack, "BIGINT", Number::longValue);
+                        state.pc += 1;
+                        break;
+                    case 0x86: case 0x89: // i2f, l2f
+                        this.pushConversion(stack, "REAL", Number::floatValue);
+                        state.pc += 1;
+                        break;
+                    case 0x87: case 0x8a: case 0x8d: // i2d, l2d, f2d
+                        this.pushConversion(stack, "DOUBLE PRECISION", Number::doubleValue);
+                        state.pc += 1;
+                        break;
+                    case 0x94: case 0x95: case 0x96: case 0x97: case 0x98: { // lcmp, fcmp<op>, dcmp<op>
+                        final SqlValue right = this.popSql(stack), left = this.popSql(stack);
+                        stack.push(new ComparisonValue(left, right));
+                        state.pc += 1;
+                        break;
+                    }
+                    case 0x99: case 0x9a: case 0x9b: case 0x9c: case 0x9d: case 0x9e: // if<cond>
+                        this.branch(state, openStates, this.compareToZero(stack.pop(), opcode - 0x99));
+                        break;
+                    case 0x9f: case 0xa0: case 0xa1: case 0xa2: case 0xa3: case 0xa4: { // if_icmp<cond>
+                        final SqlValue right = this.popSql(stack), left = this.popSql(stack);
+                        this.branch(state, openStates, compare(left, right, opcode - 0x9f));
+                        break;
+                    }
+                    case 0xa7: { // goto
+                        final int offset = this.readShort(pc + 1);
+                        if (offset <= 0) throw new UntranslatableException("Loops are not supported.");
+                        state.pc += offset;
+                        break;
+                    }
+                    case 0xac: case 0xad: case 0xae: case 0xaf: case 0xb0: // <t>return
+                        return new Path(state.conditions, stack.pop());
+                    case 0xb2: { // getstatic
+                        final ClassFileReader.MemberRef fieldRef = this.classFile.getMemberRef(this.readUnsignedShort(pc + 1));
+                        stack.push(toValue(this.getField(this.loadClass(fieldRef.owner), fieldRef.name, null)));
+                        state.pc += 3;
+                        break;
+                    }
+                    case 0xb4: { // getfield
+                        final ClassFileReader.MemberRef fieldRef = this.classFile.getMemberRef(this.readUnsignedShort(pc + 1));
+                        final Value receiver = stack.pop();
+                        if (!(receiver instanceof ObjectValue)) {
+                            throw new UntranslatableException("Cannot access field " + fieldRef.name + ".");
+                        }
+                        final Object object = ((ObjectValue) receiver).object;
+                        stack.push(toValue(this.getField(object.getClass(), fieldRef.name, object)));
+                        state.pc += 3;
+                        break;
+                    }
+                    case 0xb6: case 0xb8: { // invokevirtual, invokestatic
+                        this.invoke(stack, this.classFile.getMemberRef(this.readUnsignedShort(pc + 1)), opcode == 0xb8);
+                        state.pc += 3;
+                        break;
+                    }
+                    case 0xb9: { // invokeinterface
+                        this.invoke(stack, this.classFile.getMemberRef(this.readUnsignedShort(pc + 1)), false);
+                        state.pc += 5;
+                        break;
+                    }
+                    case 0xc0: // checkcast
+                        state.pc += 3;
+                        break;
+                    case 0xc6: case 0xc7: { // ifnull, ifnonnull
+                        final SqlValue value = this.popSql(stack);
+                        final SqlValue isNull = SqlValue.condition(
+                                value.embed() + " IS NULL", value.embed() + " IS NOT NULL"
+                        );
+                        this.branch(state, openStates, opcode == 0xc6 ? isNull : negate(isNull));
+                        break;
+                    }
+                    default:
+                        if (opcode >= 0x1a && opcode <= 0x2d) { // <t>load_<n>
+                            stack.push(this.load(state, (opcode - 0x1a) % 4));
+                            state.pc += 1;
+                        } else if (opcode >= 0x3b && opcode <= 0x4e) { // <t>store_<n>
+                            state.locals[(opcode - 0x3b) % 4] = stack.pop();
+                            state.pc += 1;
+                        } else {
+                            throw new UntranslatableException(String.format("Unsupported opcode 0x%02x.", opcode));
+                        }
+                }
+            }
+        }
+
+        private Value load(State state, int index) throws UntranslatableException {
+            final Value value = state.locals[index];
+            if (value == null) throw new UntranslatableException("Uninitialized local variable.");
+            return value;
+        }
+
+        private SqlValue popSql(Deque<Value> stack) throws UntranslatableException {
+            final Value value = stack.pop();
+            if (!(value instanceof SqlValue)) {
+                throw new UntranslatableException("Cannot express value in SQL.");
+            }
+            return (SqlValue) value;
+        }
+
+        private void pushArithmetic(Deque<Value> stack, String operator) throws UntranslatableException {
+            final SqlValue right = this.popSql(stack), left = this.popSql(stack);
+            if (left.negation != null || right.negation != null) {
+                throw new UntranslatableException("Cannot compute with conditions.");
+            }
+            stack.push(SqlValue.expression(left.embed() + " " + operator + " " + right.embed(), false));
+        }
+
+        /**
+         * Translates a widening conversion. Unlike Java, SQL would otherwise keep computing in the original type, e.g.,
+         * divide integers where Java divides floating-point numbers.
+         *
+         * @param sqlType   the SQL type to convert to
+         * @param converter converts constants in Java instead
+         */
+        private void pushConversion(Deque<Value> stack, String sqlType, Function<Number, Number> converter)
+                throws UntranslatableException {
+            final SqlValue value = this.popSql(stack);
+            if (value.negation != null) throw new UntranslatableException("Cannot compute with conditions.");
+            if (value.isConstant() && value.constant instanceof Number) {
+                stack.push(SqlValue.constant(converter.apply((Number) value.constant)));
+            } else {
+                stack.push(SqlValue.expression("CAST(" + value.sql + " AS " + sqlType + ")", true));
+            }
+        }
+
+        /**
+         * Translates an {@code if<cond>} instruction on the given value.
+         *
+         * @param comparator the offset of the instruction w.r.t. {@code ifeq}
+         * @return the condition under which the branch is taken
+         */
+        private SqlValue compareToZero(Value value, int comparator) throws UntranslatableException {
+            if (value instanceof ComparisonValue) {
+                return compare(((ComparisonValue) value).left, ((ComparisonValue) value).right, comparator);
+            }
+            if (!(value instanceof SqlValue)) throw new UntranslatableException("Cannot branch on value.");
+            final SqlValue sqlValue = (SqlValue) value;
+            if (sqlValue.negation != null) {
+                // A boolean condition is 0 iff it is false.
+                if (comparator == 0) return negate(sqlValue);
+                if (comparator == 1) return sqlValue;
+                throw new UntranslatableException("Cannot order conditions.");
+            }
+            return compare(sqlValue, SqlValue.constant(0), comparator);
+        }
+
+        /**
+         * Forks the execution at a conditional branch.
+         */
+        private void branch(State state, Deque<State> openStates, SqlValue condition) {
+            final int target = state.pc + this.readShort(state.pc + 1);
+            openStates.push(state.fork(target, condition));
+            state.conditions.add(negate(condition));
+            state.pc += 3;
+        }
+
+        /**
+         * Handles a method invocation. Supported are field accesses on {@link Record}s, (un)boxing, and comparisons.
+         */
+        private void invoke(Deque<Value> stack, ClassFileReader.MemberRef methodRef, boolean isStatic)
+                throws UntranslatableException {
+            final int numArguments = parseParameterTypes(methodRef.descriptor).size();
+            final Value[] arguments = new Value[numArguments];
+            for (int i = numArguments - 1; i >= 0; i--) {
+                arguments[i] = stack.pop();
+            }
+            final Value receiver = isStatic ? null : stack.pop();
+
+            if (methodRef.owner.equals(RECORD_CLASS) && methodRef.name.equals("getField")
+                    && methodRef.descriptor.equals("(Ljava/lang/String;)Ljava/lang/Object;")
+                    && receiver == InputValue.INSTANCE) {
+                // Field access on the input record.
+                if (!(arguments[0] instanceof SqlValue) || !(((SqlValue) arguments[0]).constant instanceof String)) {
+                    throw new UntranslatableException("Field names must be constant.");
+                }
+                final String columnName = (String) ((SqlValue) arguments[0]).constant;
+                if (!COLUMN_NAME_PATTERN.matcher(columnName).matches()) {
+                    throw new UntranslatableException("Illegal column name " + columnName + ".");
+                }
+                stack.push(SqlValue.expression(columnName, true));
+
+            } else if (BOXED_CLASSES.contains(methodRef.owner) && isStatic && methodRef.name.equals("valueOf")
+                    && numArguments == 1 && methodRef.descriptor.charAt(1) != 'L') {
+                // Boxing does not change the value.
+                stack.push(arguments[0]);
+
+            } else if (BOXED_CLASSES.contains(methodRef.owner) && !isStatic && UNBOXING_METHODS.contains(methodRef.name)) {
+                // Neither does unboxing, but booleans become conditions.
+                if (!(receiver instanceof SqlValue)) throw new UntranslatableException("Cannot unbox value.");
+                final SqlValue value = (SqlValue) receiver;
+                stack.push(methodRef.name.equals("booleanValue") && value.negation == null && !value.isConstant() ?
+                        SqlValue.condition(value.sql, "NOT " + value.embed()) :
+                        value);
+
+            } else if (methodRef.name.equals("equals") && methodRef.descriptor.equals("(Ljava/lang/Object;)Z")
+                    && !isStatic) {
+                stack.push(compare(this.asSql(receiver), this.asSql(arguments[0]), 0));
+
+            } else if (methodRef.owner.equals("java/util/Objects") && methodRef.name.equals("requireNonNull")
+                    && isStatic && numArguments == 1) {
+                // Emitted, e.g., when accessing constant fields.
+                stack.push(arguments[0]);
+
+            } else if (methodRef.owner.equals("java/util/Objects") && methodRef.name.equals("equals") && isStatic) {
+                stack.push(compareNullSafely(this.asSql(arguments[0]), this.asSql(arguments[1])));
+
+            } else if (methodRef.owner.equals("java/lang/String") && methodRef.name.equals("compareTo")
+                    && numArguments == 1 && !isStatic) {
+                // Java compares strings by their characters rather than by any locale.
+                final SqlValue left = this.asSql(receiver);
+                stack.push(new ComparisonValue(
+                        SqlValue.expression(left.embed() + " COLLATE \"C\"", true), this.asSql(arguments[0])
+                ));
+
+            } else if (BOXED_CLASSES.contains(methodRef.owner) && methodRef.name.equals("compareTo")
+                    && numArguments == 1 && !isStatic) {
+                stack.push(new ComparisonValue(this.asSql(receiver), this.asSql(arguments[0])));
+
+            } else if (BOXED_CLASSES.contains(methodRef.owner) && methodRef.name.equals("compare") && isStatic
+                    && numArguments == 2) {
+                stack.push(new ComparisonValue(this.asSql(arguments[0]), this.asSql(arguments[1])));
+
+            } else {
+                throw new UntranslatableException(String.format("Unsupported method %s.%s%s.",
+                        methodRef.owner, methodRef.name, methodRef.descriptor));
+            }
+        }
+
+        private SqlValue asSql(Value value) throws UntranslatableException {
+            if (!(value instanceof SqlValue) || ((SqlValue) value).negation != null) {
+                throw new UntranslatableException("Cannot express value in SQL.");
+            }
+            return (SqlValue) value;
+        }
+
+        private Class<?> loadClass(String internalName) throws ClassNotFoundException {
+            return Class.forName(internalName.replace('/', '.'), false, this.classLoader);
+        }
+
+        /**
+         * Reads the value of a field via reflection.
+         *
+         * @param object the object containing the field or {@code null} for static fields
+         */
+        private Object getField(Class<?> cls, String name, Object object)
+                throws ReflectiveOperationException {
+            for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+                try {
+                    final Field field = c.getDeclaredField(name);
+                    field.setAccessible(true);
+                    return field.get(object);
+                } catch (NoSuchFieldException e) {
+                    // Look in the superclass.
+                }
+            }
+            throw new NoSuchFieldException(name);
+        }
+
+        private int readShort(int pos) {
+            return (short) (((this.code[pos] & 0xFF) << 8) | (this.code[pos + 1] & 0xFF));
+        }
+
+        private int readUnsignedShort(int pos) {
+            return ((this.code[pos] & 0xFF) << 8) | (this.code[pos + 1] & 0xFF);
+        }
+
+    }
+
+    /**
+     * SQL comparison operators in the order of the bytecode comparisons, i.e., {@code eq}, {@code ne}, {@code lt},
+     * {@code ge}, {@code gt}, and {@code le}. Inequality is {@code NULL}-safe, because it usually stems from a
+     * negated equality, such as {@code !"DE".equals(country)}, which holds in Java if {@code country} is
+     * {@code null}.
+     */
+    private static final String[] COMPARISON_OPERATORS = {"=", "IS DISTINCT FROM", "<", ">=", ">", "<="};
+
+    /**
+     * Creates a comparison condition.
+     *
+     * @param comparator the index of the comparison in {@link #COMPARISON_OPERATORS}
+     */
+    private static SqlValue compare(SqlValue left, SqlValue right, int comparator) throws UntranslatableException {
+        if (left.negation != null || right.negation != null) {
+            throw new UntranslatableException("Cannot compare conditions.");
+        }
+        if (left.isConstant() && right.isConstant()) {
+            throw new UntranslatableException("Constant comparisons are not supported.");
+        }
+        if (right.isConstant() && right.constant == null || left.isConstant() && left.constant == null) {
+            throw new UntranslatableException("Comparisons with null must use null checks.");
+        }
+        final int negatedComparator = comparator ^ 1;
+        return SqlValue.condition(
+                left.embed() + " " + COMPARISON_OPERATORS[comparator] + " " + right.embed(),
+                left.embed() + " " + COMPARISON_OPERATORS[negatedComparator] + " " + right.embed()
+        );
+    }
+
+    /**
+     * Creates an equality condition that, like {@link Objects#equals(Object, Object)}, holds if both values are
+     * {@code null}.
+     */
+    private static SqlValue compareNullSafely(SqlValue left, SqlValue right) throws UntranslatableException {
+        if (left.isConstant() || right.isConstant()) {
+            // Constants must not be null, so that the plain comparison is NULL-safe already.
+            return compare(left, right, 0);
+        }
+        if (left.negation != null || right.negation != null) {
+            throw new UntranslatableException("Cannot compare conditions.");
+        }
+        return SqlValue.condition(
+                left.embed() + " IS NOT DISTINCT FROM " + right.embed(),
+                left.embed() + " IS DISTINCT FROM " + right.embed()
+        );
+    }
+
+    private static SqlValue negate(SqlValue condition) {
+        return SqlValue.condition(condition.negation, condition.sql);
+    }
+
+}
@@ -0,0 +1,230 @@
+package org.qcri.rheem.postgres.compiler;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal reader for Java class files. It provides only what the {@link BytecodeTranslator} needs, namely the
+ * constant pool and the bytecode of the methods.
+ */
+class ClassFileReader {
+
+    private static final int ACC_BRIDGE = 0x0040, ACC_SYNTHETIC = 0x1000;
+
+    private static final byte CONSTANT_UTF8 = 1, CONSTANT_INTEGER = 3, CONSTANT_FLOAT = 4, CONSTANT_LONG = 5,
+            CONSTANT_DOUBLE = 6, CONSTANT_CLASS = 7, CONSTANT_STRING = 8, CONSTANT_FIELDREF = 9,
+            CONSTANT_METHODREF = 10, CONSTANT_INTERFACE_METHODREF = 11, CONSTANT_NAME_AND_TYPE = 12,
+            CONSTANT_METHOD_HANDLE = 15, CONSTANT_METHOD_TYPE = 16, CONSTANT_DYNAMIC = 17,
+            CONSTANT_INVOKE_DYNAMIC = 18, CONSTANT_MODULE = 19, CONSTANT_PACKAGE = 20;
+
+    /**
+     * Describes a field or method that is referenced in the constant pool.
+     */
+    static class MemberRef {
+
+        final String owner, name, descriptor;
+
+        MemberRef(String owner, String name, String descriptor) {
+            this.owner = owner;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+    }
+
+    /**
+     * Describes a method that is declared in the class file.
+     */
+    static class MethodInfo {
+
+        final int accessFlags;
+
+        final String name, descriptor;
+
+        /**
+         * The bytecode of the method or {@code null} if the method is abstract or native.
+         */
+        final byte[] code;
+
+        MethodInfo(int accessFlags, String name, String descriptor, byte[] code) {
+            this.accessFlags = accessFlags;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.code = code;
+        }
+
+        boolean isBridgeOrSynthetic() {
+            return (this.accessFlags & (ACC_BRIDGE | ACC_SYNTHETIC)) != 0;
+        }
+
+    }
+
+    private final byte[] tags;
+
+    /**
+     * Constant pool entries: {@link String}s for UTF-8 entries, boxed numbers for numeric entries, and {@code int[]}s
+     * with the referenced indices for all other entries.
+     */
+    private final Object[] constants;
+
+    private final List<MethodInfo> methods = new ArrayList<>();
+
+    /**
+     * Reads the class file of the given {@link Class}.
+     */
+    static ClassFileReader read(Class<?> cls) throws IOException {
+        final String resource = cls.getName().replace('.', '/') + ".class";
+        final ClassLoader classLoader = cls.getClassLoader() == null ?
+                ClassLoader.getSystemClassLoader() :
+                cls.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IOException(String.format("Could not find the class file of %s.", cls));
+            }
+            return new ClassFileReader(new DataInputStream(new BufferedInputStream(inputStream)));
+        }
+    }
+
+    private ClassFileReader(DataInputStream in) throws IOException {
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file.");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        final int numConstants = in.readUnsignedShort();
+        this.tags = new byte[numConstants];
+        this.constants = new Object[numConstants];
+        for (int i = 1; i < numConstants; i++) {
+            final byte tag = in.readByte();
+            this.tags[i] = tag;
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    this.constants[i] = in.readUTF();
+                    break;
+                case CONSTANT_INTEGER:
+                    this.constants[i] = in.readInt();
+                    break;
+                case CONSTANT_FLOAT:
+                    this.constants[i] = in.readFloat();
+                    break;
+                case CONSTANT_LONG:
+                    this.constants[i++] = in.readLong();
+                    break;
+                case CONSTANT_DOUBLE:
+                    this.constants[i++] = in.readDouble();
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    this.constants[i] = new int[]{in.readUnsignedShort()};
+                    break;
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    this.constants[i] = new int[]{in.readUnsignedShort(), in.readUnsignedShort()};
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    this.constants[i] = new int[]{in.readUnsignedByte(), in.readUnsignedShort()};
+                    break;
+                default:
+                    throw new IOException(String.format("Unknown constant pool tag %d.", tag));
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        in.readUnsignedShort(); // this class
+        in.readUnsignedShort(); // super class
+        final int numInterfaces = in.readUnsignedShort();
+        for (int i = 0; i < numInterfaces; i++) {
+            in.readUnsignedShort();
+        }
+
+        final int numFields = in.readUnsignedShort();
+        for (int i = 0; i < numFields; i++) {
+            in.readUnsignedShort(); // access flags
+            in.readUnsignedShort(); // name
+            in.readUnsignedShort(); // descriptor
+            this.skipAttributes(in);
+        }
+
+        final int numMethods = in.readUnsignedShort();
+        for (int i = 0; i < numMethods; i++) {
+            final int accessFlags = in.readUnsignedShort();
+            final String name = this.getUtf8(in.readUnsignedShort());
+            final String descriptor = this.getUtf8(in.readUnsignedShort());
+            byte[] code = null;
+            final int numAttributes = in.readUnsignedShort();
+            for (int j = 0; j < numAttributes; j++) {
+                final String attributeName = this.getUtf8(in.readUnsignedShort());
+                final int length = in.readInt();
+                if (attributeName.equals("Code")) {
+                    in.readUnsignedShort(); // max stack
+                    in.readUnsignedShort(); // max locals
+                    code = new byte[in.readInt()];
+                    in.readFully(code);
+                    in.skipBytes(length - 8 - code.length);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+            this.methods.add(new MethodInfo(accessFlags, name, descriptor, code));
+        }
+    }
+
+    private void skipAttributes(DataInputStream in) throws IOException {
+        final int numAttributes = in.readUnsignedShort();
+        for (int i = 0; i < numAttributes; i++) {
+            in.readUnsignedShort(); // name
+            in.skipBytes(in.readInt());
+        }
+    }
+
+    List<MethodInfo> getMethods() {
+        return this.methods;
+    }
+
+    String getUtf8(int index) {
+        return (String) this.constants[index];
+    }
+
+    /**
+     * Resolves a constant as loaded by the {@code ldc} instructions.
+     *
+     * @return the constant value, i.e., a boxed number or a {@link String}
+     * @throws IllegalArgumentException if the constant is neither a number nor a {@link String}
+     */
+    Object getLoadableConstant(int index) {
+        switch (this.tags[index]) {
+            case CONSTANT_INTEGER:
+            case CONSTANT_FLOAT:
+            case CONSTANT_LONG:
+            case CONSTANT_DOUBLE:
+                return this.constants[index];
+            case CONSTANT_STRING:
+                return this.getUtf8(((int[]) this.constants[index])[0]);
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported constant with tag %d.", this.tags[index]));
+        }
+    }
+
+    /**
+     * Resolves a reference to a field or method.
+     */
+    MemberRef getMemberRef(int index) {
+        final int[] ref = (int[]) this.constants[index];
+        final String owner = this.getUtf8(((int[]) this.constants[ref[0]])[0]);
+        final int[] nameAndType = (int[]) this.constants[ref[1]];
+        return new MemberRef(owner, this.getUtf8(nameAndType[0]), this.getUtf8(nameAndType[1]));
+    }
+
+}
@@ -1,14 +1,18 @@
 package org.qcri.rheem.postgres.compiler;
 
 import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.postgres.operators.PostgresExecutionOperator;
 
 
-import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
-import java.util.function.Predicate;
+import java.util.*;
 
 /**
  * Created by yidris on 4/5/16.
@@ -20,42 +24,244 @@ public class FunctionCompiler {
         String value();
     }
 
+    /**
+     * Declares the SQL aggregate function that is equivalent to a reduce function on some of the reduced columns,
+     * e.g., {@code @SQLAggregate("SUM")} on a reduce function that sums up all non-key columns.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(SQLAggregates.class)
+    public @interface SQLAggregate {
+
+        /**
+         * @return the SQL aggregate function, e.g., {@code SUM}
+         */
+        String value();
+
+        /**
+         * @return the labels of the columns that are aggregated with the function; if empty, all non-key columns
+         * that are not covered by another {@link SQLAggregate}
+         */
+        String[] columns() default {};
+    }
+
+    /**
+     * Container for repeated {@link SQLAggregate}s.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SQLAggregates {
+        SQLAggregate[] value();
+    }
+
     /**
      * Compile a predicate to a SQL where clause.
-     * For now we just assume the test method of the
-     * predicate is annotated with the where clause using the @SQL
-     * annotation. However, we should eventually use a java analysis tool
-     * to convert the predicate to a SQL string.
-     * See <a href="https://jitpack.io/#ajermakovics/lambda2sql/v0.1">lambda2sql</a>
+     * If the test method of the predicate is annotated with the where clause using the @SQL annotation, that clause
+     * is used. Otherwise, the bytecode of the predicate is translated, which works for simple lambdas such as
+     * {@code r -> (Integer) r.getField("age") > 18}.
+     *
      * @param descriptor describes the predicate
      * @return a compiled SQL where clause.
+     * @see BytecodeTranslator
      */
     public String compile(PredicateDescriptor descriptor) {
+        return this.compileOrFail(descriptor);
+    }
+
+    /**
+     * Compile a key extraction function to a comma-separated list of SQL expressions, e.g., for a
+     * {@code GROUP BY} clause. Either the apply method of the function is annotated with these expressions
+     * using the @SQL annotation or its bytecode can be translated to a single SQL expression.
+     *
+     * @param descriptor describes the key extraction function
+     * @return the compiled SQL expressions
+     */
+    public String compile(TransformationDescriptor descriptor) {
+        return this.compileOrFail(descriptor);
+    }
 
-        PredicateDescriptor.SerializablePredicate predicate = descriptor.getJavaImplementation();
+    /**
+     * Compile a key extraction function to its individual SQL expressions (see
+     * {@link #compile(TransformationDescriptor)}). Commas within parentheses or quotes do not separate expressions, so
+     * that keys such as {@code COALESCE(a, b)} remain intact.
+     *
+     * @param descriptor describes the key extraction function
+     * @return the compiled SQL expressions
+     */
+    public List<String> compileKeys(TransformationDescriptor descriptor) {
+        final String sql = this.compile(descriptor);
+        final List<String> expressions = new ArrayList<>();
+        int depth = 0, start = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (quote != 0) {
+                // Escaped quotes ('' and "") close and reopen the quoted section, which is equivalent.
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                expressions.add(sql.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        if (quote != 0 || depth != 0) {
+            throw new RheemException(String.format("Could not compile %s to SQL: unbalanced key %s.", descriptor, sql));
+        }
+        expressions.add(sql.substring(start).trim());
+        return expressions;
+    }
+
+    /**
+     * Compile a reduce function to a SQL select list that retains the order of the reduced columns, e.g.,
+     * {@code "dept", SUM("salary") AS "salary"}. The key columns are selected as they are and all other columns are
+     * aggregated as declared by the @SQLAggregate annotations on the apply method of the function.
+     *
+     * @param descriptor     describes the reduce function
+     * @param columnLabels   the labels of the reduced columns
+     * @param keyExpressions the SQL expressions that the reduced data quanta are grouped by; columns with the same
+     *                       (unquoted) name are not aggregated
+     * @return the compiled SQL select list
+     */
+    public String compile(ReduceDescriptor descriptor, List<String> columnLabels, List<String> keyExpressions) {
+        final List<SQLAggregate> aggregates = this.findSqlAggregateAnnotations(descriptor);
+        if (aggregates.isEmpty()) {
+            throw new RheemException(String.format("Could not compile %s to SQL: no aggregates declared.", descriptor));
+        }
+        for (SQLAggregate aggregate : aggregates) {
+            for (String column : aggregate.columns()) {
+                if (!columnLabels.contains(column)) {
+                    throw new RheemException(String.format(
+                            "Could not compile %s to SQL: unknown column %s (available: %s).", descriptor, column, columnLabels
+                    ));
+                }
+            }
+        }
+
+        List<String> selectList = new ArrayList<>(columnLabels.size());
+        for (String column : columnLabels) {
+            final String quotedColumn = PostgresExecutionOperator.quoteIdentifier(column);
+            if (keyExpressions.stream().anyMatch(key -> key.trim().equalsIgnoreCase(column))) {
+                selectList.add(quotedColumn);
+                continue;
+            }
+            final SQLAggregate aggregate = aggregates.stream()
+                    .filter(candidate -> Arrays.asList(candidate.columns()).contains(column))
+                    .findAny()
+                    .orElseGet(() -> aggregates.stream()
+                            .filter(candidate -> candidate.columns().length == 0)
+                            .findAny()
+                            .orElseThrow(() -> new RheemException(String.format(
+                                    "Could not compile %s to SQL: no aggregate for column %s.", descriptor, column
+                            ))));
+            selectList.add(aggregate.value() + "(" + quotedColumn + ") AS " + quotedColumn);
+        }
+        return String.join(", ", selectList);
+    }
+
+    /**
+     * Tells whether the function described by the given descriptor can be compiled to SQL.
+     *
+     * @param descriptor describes the function
+     * @return whether a compile method of this instance will succeed on the {@code descriptor}
+     */
+    public boolean isCompilable(FunctionDescriptor descriptor) {
+        if (descriptor instanceof ReduceDescriptor) {
+            return !this.findSqlAggregateAnnotations((ReduceDescriptor<?>) descriptor).isEmpty();
+        }
+        return descriptor != null && this.tryCompile(descriptor).isPresent();
+    }
+
+    /**
+     * Tells whether the key extraction function described by the given descriptor compiles to plain column names,
+     * which can be qualified with a table alias, e.g., in join conditions.
+     *
+     * @param descriptor describes the key extraction function
+     * @return whether {@link #compileKeys(TransformationDescriptor)} yields only column names
+     */
+    public boolean isCompilableToColumns(TransformationDescriptor descriptor) {
+        if (!this.isCompilable(descriptor)) return false;
         try {
-            Method testMethod = predicate.getClass().getMethod("test", descriptor.getInputType().getTypeClass());
-            SQL whereClause = (SQL)testMethod.getAnnotation(SQL.class);
-            return whereClause.value();
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RheemException("Could not compile predicate to SQL: ", e);
+            return this.compileKeys(descriptor).stream().allMatch(FunctionCompiler::isColumnName);
+        } catch (RheemException e) {
+            return false;
         }
     }
 
+    /**
+     * Tells whether the given SQL expression is a plain column name.
+     *
+     * @param sql the SQL expression
+     * @return whether the {@code sql} is a column name
+     */
+    public static boolean isColumnName(String sql) {
+        return BytecodeTranslator.COLUMN_NAME_PATTERN.matcher(sql).matches();
+    }
 
-//    /**
-//     * Compile a predicate to a JPA JPQL where clause.
-//     *
-//     * @param descriptor describes the predicate
-//     * @return a JPA JPQL where clause.
-//     */
-//    public String compileToJPQL(PredicateDescriptor descriptor) {
-//        return  "";
-//    }
+    private String compileOrFail(FunctionDescriptor descriptor) {
+        return this.tryCompile(descriptor)
+                .orElseThrow(() -> new RheemException(String.format("Could not compile %s to SQL.", descriptor)));
+    }
 
+    /**
+     * Compiles the given descriptor via its @SQL annotation or, if there is none, via its bytecode.
+     */
+    private Optional<String> tryCompile(FunctionDescriptor descriptor) {
+        final Optional<SQL> sqlAnnotation = this.findSqlAnnotation(descriptor);
+        if (sqlAnnotation.isPresent()) {
+            return Optional.of(sqlAnnotation.get().value());
+        }
+        if (descriptor instanceof PredicateDescriptor) {
+            final Object function = ((PredicateDescriptor<?>) descriptor).getJavaImplementation();
+            return function == null ? Optional.empty() : BytecodeTranslator.translatePredicate(function, "test");
+        } else if (descriptor instanceof TransformationDescriptor) {
+            final Object function = ((TransformationDescriptor<?, ?>) descriptor).getJavaImplementation();
+            return function == null ? Optional.empty() : BytecodeTranslator.translateFunction(function, "apply");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Looks for the @SQL annotation on the method of the Java implementation of the given descriptor.
+     */
+    private Optional<SQL> findSqlAnnotation(FunctionDescriptor descriptor) {
+        final Object function;
+        final String methodName;
+        if (descriptor instanceof PredicateDescriptor) {
+            function = ((PredicateDescriptor<?>) descriptor).getJavaImplementation();
+            methodName = "test";
+        } else if (descriptor instanceof TransformationDescriptor) {
+            function = ((TransformationDescriptor<?, ?>) descriptor).getJavaImplementation();
+            methodName = "apply";
+        } else {
+            return Optional.empty();
+        }
+        if (function == null) return Optional.empty();
+
+        for (Method method : function.getClass().getMethods()) {
+            if (method.getName().equals(methodName) && method.isAnnotationPresent(SQL.class)) {
+                return Optional.of(method.getAnnotation(SQL.class));
+            }
+        }
+        return Optional.empty();
+    }
 
     /**
-     * Compile to a jpa criteria builder
+     * Looks for the @SQLAggregate annotations on the apply method of the Java implementation of the given descriptor.
      */
+    private List<SQLAggregate> findSqlAggregateAnnotations(ReduceDescriptor<?> descriptor) {
+        final Object function = descriptor.getJavaImplementation();
+        if (function == null) return Collections.emptyList();
+
+        for (Method method : function.getClass().getMethods()) {
+            if (method.getName().equals("apply")) {
+                final SQLAggregate[] aggregates = method.getAnnotationsByType(SQLAggregate.class);
+                if (aggregates.length > 0) return Arrays.asList(aggregates);
+            }
+        }
+        return Collections.emptyList();
+    }
+
 }
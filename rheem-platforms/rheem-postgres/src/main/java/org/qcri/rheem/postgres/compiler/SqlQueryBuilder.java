@@ -0,0 +1,92 @@
+package org.qcri.rheem.postgres.compiler;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.postgres.operators.PostgresExecutionOperator;
+import org.qcri.rheem.postgres.operators.PostgresSortOperator;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Translates the {@link PostgresExecutionOperator}s of an {@link ExecutionStage} into a single SQL query, so that
+ * the database evaluates the whole stage and only its result leaves the database. Each operator wraps the queries of
+ * its inputs as subqueries, which the query planner of the database can merge again.
+ */
+public class SqlQueryBuilder {
+
+    private final FunctionCompiler functionCompiler;
+
+    private final Connection connection;
+
+    /**
+     * Caches the queries of {@link ExecutionTask}s, so that shared inputs are translated only once.
+     */
+    private final Map<ExecutionTask, String> queries = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param functionCompiler compiles UDFs to SQL
+     * @param connection       to the database, which operators may use to look up metadata; may be {@code null}
+     *                         if no operator needs it
+     */
+    public SqlQueryBuilder(FunctionCompiler functionCompiler, Connection connection) {
+        this.functionCompiler = functionCompiler;
+        this.connection = connection;
+    }
+
+    /**
+     * Creates the SQL query for the given {@link ExecutionStage}.
+     *
+     * @param stage must have a single terminal {@link ExecutionTask}
+     * @return the SQL query that produces the output of the terminal {@link ExecutionTask}
+     */
+    public String build(ExecutionStage stage) {
+        if (stage.getTerminalTasks().size() != 1) {
+            throw new RheemException(String.format("Invalid postgres stage %s: expected a single terminal task.", stage));
+        }
+        return this.build(stage.getTerminalTasks().iterator().next());
+    }
+
+    /**
+     * Creates the SQL query for the given {@link ExecutionTask} and, recursively, its input {@link ExecutionTask}s.
+     *
+     * @param task whose output should be computed
+     * @return the SQL query that produces the output of the {@code task}
+     */
+    public String build(ExecutionTask task) {
+        String query = this.queries.get(task);
+        if (query != null) return query;
+
+        if (!(task.getOperator() instanceof PostgresExecutionOperator)) {
+            throw new RheemException(String.format("Invalid postgres execution task %s.", task));
+        }
+        final PostgresExecutionOperator operator = (PostgresExecutionOperator) task.getOperator();
+        final String[] inputQueries = new String[task.getNumInputChannels()];
+        for (int i = 0; i < inputQueries.length; i++) {
+            final Channel inputChannel = task.getInputChannel(i);
+            if (inputChannel == null || inputChannel.getProducer() == null) {
+                throw new RheemException(String.format("Input %d of %s is not computed in PostgreSQL.", i, task));
+            }
+            if (inputChannel.getProducer().getOperator() instanceof PostgresSortOperator) {
+                // SQL does not guarantee the order of subqueries to be retained.
+                throw new RheemException(String.format("Sorted input %d of %s would lose its order.", i, task));
+            }
+            inputQueries[i] = this.build(inputChannel.getProducer());
+        }
+
+        try {
+            query = operator.createSqlQuery(inputQueries, this.functionCompiler, this.connection);
+        } catch (SQLException e) {
+            throw new RheemException(String.format("Could not create SQL query for %s.", operator), e);
+        }
+        this.queries.put(task, query);
+        return query;
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.operators.PostgresCountOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link CountOperator} to {@link PostgresCountOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresCountMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "count", new CountOperator<>(DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<CountOperator>(
+                (matchedOperator, epoch) -> new PostgresCountOperator<>(matchedOperator.getInputType()).at(epoch)
+        );
+    }
+}
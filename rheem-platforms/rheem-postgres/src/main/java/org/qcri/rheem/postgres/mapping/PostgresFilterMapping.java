@@ -4,6 +4,7 @@ import org.qcri.rheem.basic.operators.FilterOperator;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
 import org.qcri.rheem.postgres.operators.PostgresFilterOperator;
 
 import java.util.Collection;
@@ -28,8 +29,9 @@ public class PostgresFilterMapping implements Mapping {
     }
 
     private SubplanPattern createSubplanPattern() {
-        final OperatorPattern operatorPattern = new OperatorPattern(
-                "filter", new FilterOperator<>((PredicateDescriptor) null, null), false);
+        final OperatorPattern<FilterOperator> operatorPattern = new OperatorPattern<FilterOperator>(
+                "filter", new FilterOperator<>((PredicateDescriptor) null, null), false)
+                .withAdditionalTest(operator -> new FunctionCompiler().isCompilable(operator.getPredicateDescriptor()));
         return SubplanPattern.createSingleton(operatorPattern);
     }
 
@@ -0,0 +1,46 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.operators.PostgresGlobalReduceOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link GlobalReduceOperator} to {@link PostgresGlobalReduceOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresGlobalReduceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<GlobalReduceOperator> operatorPattern = new OperatorPattern<GlobalReduceOperator>(
+                "reduce", new GlobalReduceOperator<>(null, DataSetType.none()), false)
+                .withAdditionalTest(operator -> new FunctionCompiler().isCompilable(operator.getReduceDescriptor()));
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<GlobalReduceOperator>(
+                (matchedOperator, epoch) -> new PostgresGlobalReduceOperator<>(
+                        matchedOperator.getType(),
+                        matchedOperator.getReduceDescriptor()
+                ).at(epoch)
+        );
+    }
+}
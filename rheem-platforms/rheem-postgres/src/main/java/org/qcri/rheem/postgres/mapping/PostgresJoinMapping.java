@@ -0,0 +1,49 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.operators.PostgresJoinOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link JoinOperator} to {@link PostgresJoinOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresJoinMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final FunctionCompiler compiler = new FunctionCompiler();
+        final OperatorPattern<JoinOperator> operatorPattern = new OperatorPattern<JoinOperator>(
+                "join", new JoinOperator<>(null, null, null, null), false)
+                .withAdditionalTest(operator -> compiler.isCompilableToColumns(operator.getKeyDescriptor0())
+                        && compiler.isCompilableToColumns(operator.getKeyDescriptor1()));
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<JoinOperator>(
+                (matchedOperator, epoch) -> new PostgresJoinOperator<>(
+                        matchedOperator.getInputType0(),
+                        matchedOperator.getInputType1(),
+                        matchedOperator.getKeyDescriptor0(),
+                        matchedOperator.getKeyDescriptor1()
+                ).at(epoch)
+        );
+    }
+}
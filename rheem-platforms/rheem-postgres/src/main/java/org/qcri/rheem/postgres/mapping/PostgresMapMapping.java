@@ -0,0 +1,47 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.operators.PostgresMapOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link MapOperator} to {@link PostgresMapOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresMapMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<MapOperator> operatorPattern = new OperatorPattern<MapOperator>(
+                "map", new MapOperator<>(null, DataSetType.none(), DataSetType.none()), false)
+                .withAdditionalTest(operator -> new FunctionCompiler().isCompilable(operator.getFunctionDescriptor()));
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<MapOperator>(
+                (matchedOperator, epoch) -> new PostgresMapOperator<>(
+                        matchedOperator.getFunctionDescriptor(),
+                        matchedOperator.getInputType(),
+                        matchedOperator.getOutputType()
+                ).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.operators.PostgresReduceByOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link ReduceByOperator} to {@link PostgresReduceByOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresReduceByMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final FunctionCompiler compiler = new FunctionCompiler();
+        final OperatorPattern<ReduceByOperator> operatorPattern = new OperatorPattern<ReduceByOperator>(
+                "reduceBy", new ReduceByOperator<>(null, null, null), false)
+                .withAdditionalTest(operator -> compiler.isCompilable(operator.getKeyDescriptor())
+                        && compiler.isCompilable(operator.getReduceDescriptor()));
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ReduceByOperator>(
+                (matchedOperator, epoch) -> new PostgresReduceByOperator<>(
+                        matchedOperator.getType(),
+                        matchedOperator.getKeyDescriptor(),
+                        matchedOperator.getReduceDescriptor()
+                ).at(epoch)
+        );
+    }
+}
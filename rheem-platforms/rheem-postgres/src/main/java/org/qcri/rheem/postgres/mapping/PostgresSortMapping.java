@@ -0,0 +1,41 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.operators.PostgresSortOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Mapping from {@link SortOperator} to {@link PostgresSortOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class PostgresSortMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        PostgresPlatform.getInstance()
+                )
+        );
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern operatorPattern = new OperatorPattern(
+                "sort", new SortOperator<>(DataSetType.none()), false);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<SortOperator>(
+                (matchedOperator, epoch) -> new PostgresSortOperator<>(matchedOperator.getInputType()).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+
+/**
+ * PostgreSQL implementation of the {@link CountOperator}.
+ */
+public class PostgresCountOperator<Type>
+        extends CountOperator<Type>
+        implements PostgresExecutionOperator {
+
+    public PostgresCountOperator(DataSetType<Type> type) {
+        super(type);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection) {
+        return "SELECT COUNT(*) FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t");
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresCountOperator<>(this.getInputType());
+    }
+}
@@ -3,19 +3,86 @@ package org.qcri.rheem.postgres.operators;
 import org.qcri.rheem.basic.channels.FileChannel;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
-import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.jdbc.execution.ResultSetDecoder;
 import org.qcri.rheem.postgres.PostgresPlatform;
 import org.qcri.rheem.postgres.channels.PostgresInternalChannel;
+import org.qcri.rheem.postgres.channels.SqlQueryChannel;
 import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.compiler.SqlQueryBuilder;
 
+import java.sql.*;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * {@link ExecutionOperator} that is executed in PostgreSQL as part of the SQL query for its stage.
+ *
+ * @see SqlQueryBuilder
+ */
 public interface PostgresExecutionOperator extends ExecutionOperator {
 
-    String evaluate(ChannelInstance[] inputChannels, ChannelInstance[] outputChannels, FunctionCompiler compiler);
+    /**
+     * Creates the SQL query that computes the output of this operator.
+     *
+     * @param inputQueries the SQL queries that compute the inputs of this operator
+     * @param compiler     compiles UDFs to SQL
+     * @param connection   to the database, e.g., to look up metadata
+     * @return the SQL query
+     */
+    String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection) throws SQLException;
+
+    /**
+     * Wraps the given SQL query, so that it can be used in a {@code FROM} clause.
+     *
+     * @param query the SQL query
+     * @param alias the name of the subquery
+     * @return the subquery
+     */
+    static String asSubquery(String query, String alias) {
+        return "(" + query + ") AS " + alias;
+    }
+
+    /**
+     * Looks up the column labels of the result of the given SQL query without evaluating it.
+     *
+     * @param query      the SQL query
+     * @param connection to the database
+     * @return the column labels in their order
+     */
+    static List<String> getColumnLabels(String query, Connection connection) throws SQLException {
+        final String metadataQuery = "SELECT * FROM " + asSubquery(query, "t") + " LIMIT 0";
+        try (Statement stmt = connection.createStatement(); ResultSet metaRs = stmt.executeQuery(metadataQuery)) {
+            final ResultSetMetaData metaData = metaRs.getMetaData();
+            final List<String> labels = new ArrayList<>(metaData.getColumnCount());
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                labels.add(metaData.getColumnLabel(i));
+            }
+            return labels;
+        }
+    }
+
+    /**
+     * Quotes the given identifier, so that it is neither case-folded nor mistaken for a qualified name.
+     *
+     * @param identifier the identifier, e.g., a column label
+     * @return the quoted identifier
+     */
+    static String quoteIdentifier(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Creates a {@link ResultSetDecoder} for the result of the SQL query of this instance.
+     *
+     * @param metaData describes the result
+     * @return the {@link ResultSetDecoder}
+     */
+    default ResultSetDecoder createResultSetDecoder(ResultSetMetaData metaData) throws SQLException {
+        return new ResultSetDecoder(metaData, this.getOutput(0).getType().getDataUnitType().getTypeClass());
+    }
 
     @Override
     default Platform getPlatform() {
@@ -30,6 +97,8 @@ public interface PostgresExecutionOperator extends ExecutionOperator {
     @Override
     default List<ChannelDescriptor> getSupportedOutputChannels(int index) {
         List<ChannelDescriptor> supportedChannels = new LinkedList<>();
+        supportedChannels.add(FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR);
+        supportedChannels.add(SqlQueryChannel.DESCRIPTOR);
         supportedChannels.add(PostgresInternalChannel.DESCRIPTOR);
         supportedChannels.add(FileChannel.HDFS_TSV_DESCRIPTOR);
         return supportedChannels;
@@ -3,10 +3,11 @@ package org.qcri.rheem.postgres.operators;
 import org.qcri.rheem.basic.operators.FilterOperator;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
-import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.postgres.compiler.FunctionCompiler;
 
+import java.sql.Connection;
+
 
 /**
  * Postgres implementation of the {@link FilterOperator}.
@@ -34,11 +35,9 @@ public class PostgresFilterOperator<Type>
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public String evaluate(ChannelInstance[] inputChannels, ChannelInstance[] outputChannels, FunctionCompiler compiler) {
-
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection) {
         final String whereClause = compiler.compile(this.predicateDescriptor);
-        return whereClause;
+        return "SELECT * FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t") + " WHERE " + whereClause;
     }
 
     @Override
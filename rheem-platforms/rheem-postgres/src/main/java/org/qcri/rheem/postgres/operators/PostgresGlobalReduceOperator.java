@@ -0,0 +1,40 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PostgreSQL implementation of the {@link GlobalReduceOperator}. All columns are aggregated in their original order
+ * as declared on the reduce function (see {@link FunctionCompiler.SQLAggregate}). Like the reduce function, it yields
+ * no data quantum for an empty input rather than a row of {@code NULL}s.
+ */
+public class PostgresGlobalReduceOperator<Type>
+        extends GlobalReduceOperator<Type>
+        implements PostgresExecutionOperator {
+
+    public PostgresGlobalReduceOperator(DataSetType<Type> type, ReduceDescriptor<Type> reduceDescriptor) {
+        super(reduceDescriptor, type);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection)
+            throws SQLException {
+        final List<String> columnLabels = PostgresExecutionOperator.getColumnLabels(inputQueries[0], connection);
+        return "SELECT " + compiler.compile(this.reduceDescriptor, columnLabels, Collections.emptyList())
+                + " FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t")
+                + " HAVING COUNT(*) > 0";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresGlobalReduceOperator<>(this.getType(), this.getReduceDescriptor());
+    }
+}
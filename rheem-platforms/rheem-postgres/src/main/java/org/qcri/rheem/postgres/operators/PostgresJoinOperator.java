@@ -0,0 +1,85 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.execution.ResultSetDecoder;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL implementation of the {@link JoinOperator}. The key descriptors must compile to the same number of
+ * column names, which are then compared pairwise.
+ * <p>The columns of the two inputs are selected with the prefixes {@link ResultSetDecoder#FIELD0_PREFIX} and
+ * {@link ResultSetDecoder#FIELD1_PREFIX}, so that they do not clash and can be decoded into {@link Tuple2}s of the
+ * two input data quanta.</p>
+ */
+public class PostgresJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements PostgresExecutionOperator {
+
+    public PostgresJoinOperator(DataSetType<InputType0> inputType0,
+                                DataSetType<InputType1> inputType1,
+                                TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                TransformationDescriptor<InputType1, KeyType> keyDescriptor1) {
+        super(inputType0, inputType1, keyDescriptor0, keyDescriptor1);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection)
+            throws SQLException {
+        final List<String> keys0 = compiler.compileKeys(this.keyDescriptor0);
+        final List<String> keys1 = compiler.compileKeys(this.keyDescriptor1);
+        if (keys0.size() != keys1.size()) {
+            throw new RheemException(String.format("Join keys of %s do not match.", this));
+        }
+        if (!keys0.stream().allMatch(FunctionCompiler::isColumnName)
+                || !keys1.stream().allMatch(FunctionCompiler::isColumnName)) {
+            // The keys are qualified with the aliases of the joined subqueries.
+            throw new RheemException(String.format("Join keys of %s must be column names.", this));
+        }
+        List<String> conditions = new ArrayList<>(keys0.size());
+        for (int i = 0; i < keys0.size(); i++) {
+            conditions.add("t0." + keys0.get(i) + " = t1." + keys1.get(i));
+        }
+
+        List<String> selectList = new ArrayList<>();
+        for (String label : PostgresExecutionOperator.getColumnLabels(inputQueries[0], connection)) {
+            selectList.add("t0." + PostgresExecutionOperator.quoteIdentifier(label)
+                    + " AS " + PostgresExecutionOperator.quoteIdentifier(ResultSetDecoder.FIELD0_PREFIX + label));
+        }
+        for (String label : PostgresExecutionOperator.getColumnLabels(inputQueries[1], connection)) {
+            selectList.add("t1." + PostgresExecutionOperator.quoteIdentifier(label)
+                    + " AS " + PostgresExecutionOperator.quoteIdentifier(ResultSetDecoder.FIELD1_PREFIX + label));
+        }
+
+        return "SELECT " + String.join(", ", selectList)
+                + " FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t0")
+                + " JOIN " + PostgresExecutionOperator.asSubquery(inputQueries[1], "t1")
+                + " ON " + String.join(" AND ", conditions);
+    }
+
+    @Override
+    public ResultSetDecoder createResultSetDecoder(ResultSetMetaData metaData) throws SQLException {
+        return new ResultSetDecoder(
+                metaData,
+                Tuple2.class,
+                this.getInputType0().getDataUnitType().getTypeClass(),
+                this.getInputType1().getDataUnitType().getTypeClass()
+        );
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1());
+    }
+}
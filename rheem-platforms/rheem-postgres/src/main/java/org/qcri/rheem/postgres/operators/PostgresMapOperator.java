@@ -0,0 +1,35 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+
+/**
+ * PostgreSQL implementation of the {@link MapOperator}, which requires the UDF to be compilable to a SQL
+ * expression, e.g., {@code r -> r.getField("name")}.
+ */
+public class PostgresMapOperator<InputType, OutputType>
+        extends MapOperator<InputType, OutputType>
+        implements PostgresExecutionOperator {
+
+    public PostgresMapOperator(TransformationDescriptor<InputType, OutputType> functionDescriptor,
+                               DataSetType<InputType> inputType,
+                               DataSetType<OutputType> outputType) {
+        super(functionDescriptor, inputType, outputType);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection) {
+        return "SELECT " + compiler.compile(this.functionDescriptor)
+                + " FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t");
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresMapOperator<>(this.getFunctionDescriptor(), this.getInputType(), this.getOutputType());
+    }
+}
@@ -2,13 +2,11 @@ package org.qcri.rheem.postgres.operators;
 
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.basic.operators.ProjectionOperator;
-import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.postgres.compiler.FunctionCompiler;
 
 import java.sql.Connection;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,25 +32,31 @@ public class PostgresProjectionOperator<InputType, OutputType> extends Projectio
     }
 
     @Override
-    public String evaluate(ChannelInstance[] inputChannels, ChannelInstance[] outputChannels, FunctionCompiler compiler) {
-        List<String> colNames = this.getFunctionDescriptor().getFieldNames();
-        return String.join(",", colNames);
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection)
+            throws SQLException {
+        final List<String> columnNames = this.getFunctionDescriptor().isProjectByIndexes() ?
+                this.resolveColumnNames(inputQueries[0], connection) :
+                this.getFunctionDescriptor().getFieldNames();
+        return "SELECT " + String.join(",", columnNames)
+                + " FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t");
     }
 
-    public String evaluateByIndexes(ChannelInstance[] inputChannels, ChannelInstance[] outputChannels, FunctionCompiler compiler,
-                                    Connection conn, String selectQuery) throws SQLException {
-        Statement stmt = conn.createStatement();
-        ResultSet metaRs = stmt.executeQuery(selectQuery + " limit 1");
+    /**
+     * Looks up the names of the projected columns in the result of the given input query.
+     */
+    private List<String> resolveColumnNames(String inputQuery, Connection connection) throws SQLException {
+        final List<String> columnLabels = PostgresExecutionOperator.getColumnLabels(inputQuery, connection);
+        final List<Integer> colIndexes = this.getFunctionDescriptor().getFieldIndexes();
         List<String> colNames = new ArrayList<>();
-        List<Integer> colIndexes = this.getFunctionDescriptor().getFieldIndexes();
         for (Integer index : colIndexes) {
-            //postgres column index starts at 1
-            colNames.add(metaRs.getMetaData().getColumnName(index + 1));
+            colNames.add(PostgresExecutionOperator.quoteIdentifier(columnLabels.get(index)));
         }
-        this.getFunctionDescriptor().setFieldNames(colNames);
-        stmt.close();
-        metaRs.close();
-        return evaluate(inputChannels, outputChannels, compiler);
+        return colNames;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresProjectionOperator<>(this.getFunctionDescriptor());
     }
 
 }
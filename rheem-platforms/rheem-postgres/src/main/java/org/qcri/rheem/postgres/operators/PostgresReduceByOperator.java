@@ -0,0 +1,43 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * PostgreSQL implementation of the {@link ReduceByOperator}. The key descriptor compiles to the {@code GROUP BY}
+ * expressions. The reduced columns are selected in their original order: key columns as they are and all other
+ * columns with the aggregates declared on the reduce function (see {@link FunctionCompiler.SQLAggregate}).
+ */
+public class PostgresReduceByOperator<Type, KeyType>
+        extends ReduceByOperator<Type, KeyType>
+        implements PostgresExecutionOperator {
+
+    public PostgresReduceByOperator(DataSetType<Type> type,
+                                    TransformationDescriptor<Type, KeyType> keyDescriptor,
+                                    ReduceDescriptor<Type> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor, type);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection)
+            throws SQLException {
+        final List<String> keys = compiler.compileKeys(this.keyDescriptor);
+        final List<String> columnLabels = PostgresExecutionOperator.getColumnLabels(inputQueries[0], connection);
+        return "SELECT " + compiler.compile(this.reduceDescriptor, columnLabels, keys)
+                + " FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t")
+                + " GROUP BY " + String.join(", ", keys);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresReduceByOperator<>(this.getType(), this.getKeyDescriptor(), this.getReduceDescriptor());
+    }
+}
@@ -0,0 +1,49 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.channels.PostgresInternalChannel;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL implementation of the {@link SortOperator}. As the {@link SortOperator} sorts the data quanta by their
+ * natural order, the sort key are all columns in their order, i.e., the single column of plain values and the fields
+ * of records. Note that SQL does not guarantee subsequent operators in the same query to retain the order, so this
+ * operator does not output {@link PostgresInternalChannel}s and thus always terminates its stage.
+ */
+public class PostgresSortOperator<Type>
+        extends SortOperator<Type>
+        implements PostgresExecutionOperator {
+
+    public PostgresSortOperator(DataSetType<Type> type) {
+        super(type);
+    }
+
+    @Override
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection)
+            throws SQLException {
+        final String sortKey = PostgresExecutionOperator.getColumnLabels(inputQueries[0], connection).stream()
+                .map(PostgresExecutionOperator::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+        return "SELECT * FROM " + PostgresExecutionOperator.asSubquery(inputQueries[0], "t") + " ORDER BY " + sortKey;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return PostgresExecutionOperator.super.getSupportedOutputChannels(index).stream()
+                .filter(descriptor -> descriptor != PostgresInternalChannel.DESCRIPTOR)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new PostgresSortOperator<>(this.getInputType());
+    }
+}
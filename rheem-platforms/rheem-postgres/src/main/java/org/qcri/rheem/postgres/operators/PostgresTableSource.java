@@ -1,10 +1,11 @@
 package org.qcri.rheem.postgres.operators;
 
 import org.qcri.rheem.basic.operators.TableSource;
-import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.postgres.compiler.FunctionCompiler;
 
+import java.sql.Connection;
+
 /**
  * PostgreSQL implementation for the {@link TableSource}.
  */
@@ -15,7 +16,7 @@ public class PostgresTableSource extends TableSource implements PostgresExecutio
     }
 
     @Override
-    public String evaluate(ChannelInstance[] inputChannels, ChannelInstance[] outputChannels, FunctionCompiler compiler) {
-        return "select %s from " + this.getTableName();
+    public String createSqlQuery(String[] inputQueries, FunctionCompiler compiler, Connection connection) {
+        return "SELECT * FROM " + this.getTableName();
     }
 }
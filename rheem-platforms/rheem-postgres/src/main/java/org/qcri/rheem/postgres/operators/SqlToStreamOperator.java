@@ -0,0 +1,182 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.OperatorBase;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.jdbc.execution.JdbcConnectionPool;
+import org.qcri.rheem.jdbc.execution.ResultSetDecoder;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.channels.SqlQueryChannel;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+/**
+ * Converts a {@link SqlQueryChannel} into a {@link StreamChannel} by running the SQL query and decoding the rows of
+ * its result on demand. The rows are fetched in batches of {@code rheem.postgres.jdbc.fetch-size} via a cursor, so
+ * that the result is neither materialized in a file nor in memory.
+ */
+public class SqlToStreamOperator<Type> extends OperatorBase implements JavaExecutionOperator {
+
+    public SqlToStreamOperator(DataSetType<Type> type) {
+        super(1, 1, false, null);
+        this.inputSlots[0] = new InputSlot<>("input", this, type);
+        this.outputSlots[0] = new OutputSlot<>("output", this, type);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler) {
+        final SqlQueryChannel.Instance input = (SqlQueryChannel.Instance) inputs[0];
+        final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
+
+        final int fetchSize = (int) compiler.getConfiguration().getLongProperty(
+                PostgresPlatform.JDBC_PROPERTY_PREFIX + ".fetch-size"
+        );
+        final ResultSetIterator resultSetIterator = new ResultSetIterator(input, fetchSize);
+        output.accept(StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(resultSetIterator, Spliterator.ORDERED), false
+        ).onClose(resultSetIterator::close));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(SqlQueryChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> getCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator estimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.postgres.sqltostream.load"
+        );
+        return Optional.of(estimator);
+    }
+
+    /**
+     * Runs the SQL query of a {@link SqlQueryChannel.Instance} and iterates the decoded rows of its result. It holds
+     * a pooled {@link Connection} until the result is exhausted or it is closed.
+     */
+    private static class ResultSetIterator implements Iterator<Object>, AutoCloseable {
+
+        private final JdbcConnectionPool connectionPool;
+
+        private Connection connection;
+
+        private PreparedStatement preparedStatement;
+
+        private ResultSet resultSet;
+
+        private ResultSetDecoder decoder;
+
+        private Object next;
+
+        ResultSetIterator(SqlQueryChannel.Instance sqlQueryChannelInstance, int fetchSize) {
+            this.connectionPool = sqlQueryChannelInstance.getConnectionPool();
+            this.connection = this.connectionPool.acquire();
+            try {
+                LoggerFactory.getLogger(SqlToStreamOperator.class).info(
+                        "Executing SQL query: {}", sqlQueryChannelInstance.getSqlQuery()
+                );
+                // The PostgreSQL driver uses a cursor rather than materializing the whole result only if
+                // auto-commit is off.
+                this.connection.setAutoCommit(false);
+                this.preparedStatement = this.connection.prepareStatement(
+                        sqlQueryChannelInstance.getSqlQuery(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                );
+                this.preparedStatement.setFetchSize(fetchSize);
+                this.resultSet = this.preparedStatement.executeQuery();
+                this.decoder = sqlQueryChannelInstance.createResultSetDecoder(this.resultSet.getMetaData());
+                this.moveToNext();
+            } catch (SQLException e) {
+                this.close();
+                throw new RheemException(
+                        String.format("Could not run SQL query: %s", sqlQueryChannelInstance.getSqlQuery()), e
+                );
+            }
+        }
+
+        private void moveToNext() throws SQLException {
+            if (this.resultSet.next()) {
+                this.next = this.decoder.decode(this.resultSet);
+            } else {
+                this.close();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.connection != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Object current = this.next;
+            try {
+                this.moveToNext();
+            } catch (SQLException e) {
+                this.close();
+                throw new RheemException("Could not read the result of a SQL query.", e);
+            }
+            return current;
+        }
+
+        /**
+         * Releases the {@link Connection} and its resources. Can be called several times.
+         */
+        @Override
+        public void close() {
+            if (this.connection == null) return;
+            try {
+                if (this.resultSet != null) this.resultSet.close();
+                if (this.preparedStatement != null) this.preparedStatement.close();
+            } catch (SQLException e) {
+                LoggerFactory.getLogger(SqlToStreamOperator.class).warn("Could not close the result of a SQL query.", e);
+            } finally {
+                this.connectionPool.release(this.connection);
+                this.connection = null;
+                this.resultSet = null;
+                this.preparedStatement = null;
+                this.next = null;
+            }
+        }
+    }
+
+}
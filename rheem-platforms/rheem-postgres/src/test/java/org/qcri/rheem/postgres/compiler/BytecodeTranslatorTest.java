@@ -0,0 +1,147 @@
+package org.qcri.rheem.postgres.compiler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Test suite for the {@link BytecodeTranslator}.
+ */
+public class BytecodeTranslatorTest {
+
+    private static Optional<String> translatePredicate(PredicateDescriptor.SerializablePredicate<Record> predicate) {
+        return BytecodeTranslator.translatePredicate(predicate, "test");
+    }
+
+    private static Optional<String> translateFunction(FunctionDescriptor.SerializableFunction<Record, Object> function) {
+        return BytecodeTranslator.translateFunction(function, "apply");
+    }
+
+    @Test
+    public void testComparisons() {
+        Assert.assertEquals(Optional.of("age > 18"), translatePredicate(r -> (Integer) r.getField("age") > 18));
+        Assert.assertEquals(Optional.of("salary <= 1000.5"), translatePredicate(r -> (Double) r.getField("salary") <= 1000.5));
+        Assert.assertEquals(Optional.of("id IS DISTINCT FROM 42"), translatePredicate(r -> (Long) r.getField("id") != 42L));
+        Assert.assertEquals(Optional.of("'DE' = country"), translatePredicate(r -> "DE".equals(r.getField("country"))));
+        Assert.assertEquals(
+                Optional.of("name COLLATE \"C\" < 'M'"),
+                translatePredicate(r -> ((String) r.getField("name")).compareTo("M") < 0)
+        );
+    }
+
+    @Test
+    public void testBooleanLogic() {
+        Assert.assertEquals(
+                Optional.of("age >= 18 AND age < 65"),
+                translatePredicate(r -> (Integer) r.getField("age") >= 18 && (Integer) r.getField("age") < 65)
+        );
+        Assert.assertEquals(
+                Optional.of("age >= 65 OR age < 18"),
+                translatePredicate(r -> (Integer) r.getField("age") < 18 || (Integer) r.getField("age") >= 65)
+        );
+        Assert.assertEquals(
+                Optional.of("active OR (name IS NOT NULL AND 'x' IS DISTINCT FROM name)"),
+                translatePredicate(r -> r.getField("name") != null && !"x".equals(r.getField("name"))
+                        || (Boolean) r.getField("active"))
+        );
+    }
+
+    @Test
+    public void testNullSafety() {
+        Assert.assertEquals(
+                Optional.of("'DE' IS DISTINCT FROM country"),
+                translatePredicate(r -> !"DE".equals(r.getField("country")))
+        );
+        Assert.assertEquals(
+                Optional.of("a IS NOT DISTINCT FROM b"),
+                translatePredicate(r -> Objects.equals(r.getField("a"), r.getField("b")))
+        );
+        Assert.assertEquals(
+                Optional.of("a IS DISTINCT FROM b"),
+                translatePredicate(r -> !Objects.equals(r.getField("a"), r.getField("b")))
+        );
+    }
+
+    @Test
+    public void testArithmeticAndCapturedValues() {
+        final int minAge = 18;
+        final String country = "O'Neill";
+        Assert.assertEquals(
+                Optional.of("((age + 1) * 2) > 18 AND 'O''Neill' = country"),
+                translatePredicate(r -> ((Integer) r.getField("age") + 1) * 2 > minAge && country.equals(r.getField("country")))
+        );
+    }
+
+    @Test
+    public void testWideningConversions() {
+        Assert.assertEquals(
+                Optional.of("(CAST(a AS DOUBLE PRECISION) / CAST(b AS DOUBLE PRECISION)) > 0.5"),
+                translatePredicate(r -> (double) (Integer) r.getField("a") / (Integer) r.getField("b") > 0.5)
+        );
+        Assert.assertEquals(
+                Optional.of("(CAST(a AS BIGINT) * 1000) > 4294967296"),
+                translatePredicate(r -> (long) (Integer) r.getField("a") * 1000 > 4294967296L)
+        );
+        Assert.assertEquals(
+                Optional.of("CAST(x AS REAL) < 0.5"),
+                translatePredicate(r -> (float) (Long) r.getField("x") < 0.5f)
+        );
+        final int threshold = 3;
+        Assert.assertEquals(
+                Optional.of("x > 3.0"),
+                translatePredicate(r -> (Double) r.getField("x") > threshold)
+        );
+    }
+
+    @Test
+    public void testAnonymousClass() {
+        final PredicateDescriptor.SerializablePredicate<Record> predicate =
+                new PredicateDescriptor.SerializablePredicate<Record>() {
+
+                    private final int threshold = 3;
+
+                    @Override
+                    public boolean test(Record record) {
+                        return (Integer) record.getField("rating") >= this.threshold;
+                    }
+                };
+        Assert.assertEquals(Optional.of("rating >= 3"), translatePredicate(predicate));
+    }
+
+    @Test
+    public void testFunctions() {
+        Assert.assertEquals(Optional.of("name"), translateFunction(r -> r.getField("name")));
+        Assert.assertEquals(
+                Optional.of("salary * 12"),
+                translateFunction(r -> (Integer) r.getField("salary") * 12)
+        );
+    }
+
+    @Test
+    public void testUntranslatableFunctions() {
+        Assert.assertFalse(translatePredicate(r -> r.getField(0) != null).isPresent());
+        Assert.assertFalse(translatePredicate(r -> r.toString().isEmpty()).isPresent());
+        Assert.assertFalse(translatePredicate(r -> r.getField("a; DROP TABLE x") == null).isPresent());
+        Assert.assertFalse(translatePredicate(r -> {
+            int sum = 0;
+            for (int i = 0; i < (Integer) r.getField("n"); i++) sum += i;
+            return sum > 10;
+        }).isPresent());
+        Assert.assertFalse(translateFunction(r -> new Record(r.getField("name"))).isPresent());
+        Assert.assertFalse(translatePredicate(r -> (Double) r.getField("x") < Double.POSITIVE_INFINITY).isPresent());
+        final float nan = Float.NaN;
+        Assert.assertFalse(translatePredicate(r -> (Float) r.getField("x") != nan).isPresent());
+        @SuppressWarnings("unchecked")
+        final Optional<String> comparableSql = translatePredicate(r -> ((Comparable<Object>) r.getField("x")).compareTo("M") < 0);
+        Assert.assertFalse(comparableSql.isPresent());
+        Assert.assertFalse(translateFunction(r -> (Integer) r.getField("a") > 0 ? r.getField("b") : r.getField("c")).isPresent());
+        Assert.assertFalse(translatePredicate(r -> (Double) r.getField("x") % 2.0 == 0).isPresent());
+        Assert.assertFalse(translatePredicate(r -> (Float) r.getField("x") % 2f == 0).isPresent());
+    }
+
+}
@@ -0,0 +1,304 @@
+package org.qcri.rheem.postgres.compiler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.channels.PostgresInternalChannel;
+import org.qcri.rheem.postgres.operators.*;
+import org.qcri.rheem.postgres.test.DummyDatabase;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test suite for the {@link SqlQueryBuilder}.
+ */
+public class SqlQueryBuilderTest {
+
+    private static final DataSetType<Tuple2> TYPE = DataSetType.createDefault(Tuple2.class);
+
+    @Test
+    public void testFilterProjectionAndCount() {
+        // Prepare test data.
+        final ExecutionTask tableTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask filterTask = new ExecutionTask(new PostgresFilterOperator<>(
+                TYPE,
+                new PredicateDescriptor.SerializablePredicate<Tuple2>() {
+                    @Override
+                    @FunctionCompiler.SQL("salary > 1000")
+                    public boolean test(Tuple2 tuple) {
+                        return (Float) tuple.field1 > 1000;
+                    }
+                }
+        ));
+        final ExecutionTask projectionTask = new ExecutionTask(
+                new PostgresProjectionOperator<>(Tuple2.class, Integer.class, "id")
+        );
+        final ExecutionTask countTask = new ExecutionTask(
+                new PostgresCountOperator<>(DataSetType.createDefault(Integer.class))
+        );
+        connect(tableTask, filterTask, 0);
+        connect(filterTask, projectionTask, 0);
+        connect(projectionTask, countTask, 0);
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), null).build(countTask);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                "SELECT COUNT(*) FROM (SELECT id FROM (SELECT * FROM (SELECT * FROM employee) AS t " +
+                        "WHERE salary > 1000) AS t) AS t",
+                query
+        );
+    }
+
+    @Test
+    public void testReduceByAndSort() {
+        // Prepare test data.
+        final ExecutionTask employeeTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask reduceByTask = new ExecutionTask(new PostgresReduceByOperator<>(
+                TYPE,
+                createKeyDescriptor(new NameKey()),
+                new ReduceDescriptor<>(
+                        new FunctionDescriptor.SerializableBinaryOperator<Tuple2>() {
+                            @Override
+                            @FunctionCompiler.SQLAggregate("SUM")
+                            public Tuple2 apply(Tuple2 a, Tuple2 b) {
+                                return new Tuple2<>(a.field0, (Float) a.field1 + (Float) b.field1);
+                            }
+                        },
+                        Tuple2.class
+                )
+        ));
+        final ExecutionTask sortTask = new ExecutionTask(new PostgresSortOperator<>(TYPE));
+        connect(employeeTask, reduceByTask, 0);
+        connect(reduceByTask, sortTask, 0);
+        final String reduceByQuery = "SELECT \"name\", SUM(\"salary\") AS \"salary\" " +
+                "FROM (SELECT * FROM employee) AS t GROUP BY name";
+        final DummyDatabase database = new DummyDatabase()
+                .addResult("SELECT * FROM employee", new String[]{"name", "salary"}, new int[]{Types.VARCHAR, Types.REAL})
+                .addResult(reduceByQuery, new String[]{"name", "salary"}, new int[]{Types.VARCHAR, Types.REAL});
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), database.createConnection()).build(sortTask);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                "SELECT * FROM (" + reduceByQuery + ") AS t ORDER BY \"name\", \"salary\"",
+                query
+        );
+    }
+
+    @Test
+    public void testReduceByWithCompositeKey() {
+        // Prepare test data.
+        final ExecutionTask employeeTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask reduceByTask = new ExecutionTask(new PostgresReduceByOperator<>(
+                TYPE,
+                createKeyDescriptor(new CompositeKey()),
+                new ReduceDescriptor<>(
+                        new FunctionDescriptor.SerializableBinaryOperator<Tuple2>() {
+                            @Override
+                            @FunctionCompiler.SQLAggregate("MAX")
+                            public Tuple2 apply(Tuple2 a, Tuple2 b) {
+                                return (Float) a.field1 >= (Float) b.field1 ? a : b;
+                            }
+                        },
+                        Tuple2.class
+                )
+        ));
+        connect(employeeTask, reduceByTask, 0);
+        final DummyDatabase database = new DummyDatabase()
+                .addResult("SELECT * FROM employee", new String[]{"name", "salary"}, new int[]{Types.VARCHAR, Types.REAL});
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), database.createConnection()).build(reduceByTask);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                "SELECT \"name\", MAX(\"salary\") AS \"salary\" FROM (SELECT * FROM employee) AS t " +
+                        "GROUP BY name, COALESCE(salary, 0)",
+                query
+        );
+    }
+
+    @Test(expected = RheemException.class)
+    public void testSortMustTerminateQuery() {
+        // Prepare test data.
+        final ExecutionTask employeeTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask sortTask = new ExecutionTask(new PostgresSortOperator<>(TYPE));
+        final ExecutionTask countTask = new ExecutionTask(new PostgresCountOperator<>(TYPE));
+        connect(employeeTask, sortTask, 0);
+        connect(sortTask, countTask, 0);
+        final DummyDatabase database = new DummyDatabase()
+                .addResult("SELECT * FROM employee", new String[]{"name", "salary"}, new int[]{Types.VARCHAR, Types.REAL});
+
+        // Execute.
+        new SqlQueryBuilder(new FunctionCompiler(), database.createConnection()).build(countTask);
+    }
+
+    @Test
+    public void testSortDoesNotOutputInternalChannels() {
+        final PostgresSortOperator<Tuple2> sortOperator = new PostgresSortOperator<>(TYPE);
+        Assert.assertFalse(sortOperator.getSupportedOutputChannels(0).contains(PostgresInternalChannel.DESCRIPTOR));
+        Assert.assertFalse(sortOperator.getSupportedOutputChannels(0).isEmpty());
+    }
+
+    @Test
+    public void testGlobalReduceWithSeveralAggregates() {
+        // Prepare test data.
+        final ExecutionTask employeeTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask reduceTask = new ExecutionTask(new PostgresGlobalReduceOperator<>(
+                TYPE,
+                new ReduceDescriptor<>(
+                        new FunctionDescriptor.SerializableBinaryOperator<Tuple2>() {
+                            @Override
+                            @FunctionCompiler.SQLAggregate(value = "MIN", columns = "name")
+                            @FunctionCompiler.SQLAggregate("MAX")
+                            public Tuple2 apply(Tuple2 a, Tuple2 b) {
+                                return new Tuple2<>(
+                                        ((String) a.field0).compareTo((String) b.field0) <= 0 ? a.field0 : b.field0,
+                                        Math.max((Float) a.field1, (Float) b.field1)
+                                );
+                            }
+                        },
+                        Tuple2.class
+                )
+        ));
+        connect(employeeTask, reduceTask, 0);
+        final DummyDatabase database = new DummyDatabase()
+                .addResult("SELECT * FROM employee", new String[]{"name", "salary"}, new int[]{Types.VARCHAR, Types.REAL});
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), database.createConnection()).build(reduceTask);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                "SELECT MIN(\"name\") AS \"name\", MAX(\"salary\") AS \"salary\" FROM (SELECT * FROM employee) AS t " +
+                        "HAVING COUNT(*) > 0",
+                query
+        );
+    }
+
+    @Test
+    public void testLambdaFilterAndMap() {
+        // Prepare test data.
+        final DataSetType<Record> recordType = DataSetType.createDefault(Record.class);
+        final ExecutionTask tableTask = new ExecutionTask(new PostgresTableSource("employee", recordType));
+        final ExecutionTask filterTask = new ExecutionTask(new PostgresFilterOperator<>(
+                recordType,
+                (PredicateDescriptor.SerializablePredicate<Record>) r -> (Float) r.getField("salary") > 1000
+        ));
+        final ExecutionTask mapTask = new ExecutionTask(new PostgresMapOperator<>(
+                new TransformationDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<Record, Object>) r -> r.getField("name"),
+                        Record.class, Object.class
+                ),
+                recordType,
+                DataSetType.createDefault(Object.class)
+        ));
+        connect(tableTask, filterTask, 0);
+        connect(filterTask, mapTask, 0);
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), null).build(mapTask);
+
+        // Verify the outcome.
+        Assert.assertEquals(
+                "SELECT name FROM (SELECT * FROM (SELECT * FROM employee) AS t WHERE salary > 1000.0) AS t",
+                query
+        );
+    }
+
+    @Test
+    public void testIsCompilable() {
+        final FunctionCompiler compiler = new FunctionCompiler();
+        Assert.assertTrue(compiler.isCompilable(createKeyDescriptor(new NameKey())));
+        Assert.assertFalse(compiler.isCompilable(
+                createKeyDescriptor(tuple -> tuple.field0)
+        ));
+        Assert.assertFalse(compiler.isCompilable(new ReduceDescriptor<>(
+                new FunctionDescriptor.SerializableBinaryOperator<Tuple2>() {
+                    @Override
+                    @FunctionCompiler.SQL("name, SUM(salary)")
+                    public Tuple2 apply(Tuple2 a, Tuple2 b) {
+                        return a;
+                    }
+                },
+                Tuple2.class
+        )));
+    }
+
+    @Test
+    public void testCompileKeys() {
+        final FunctionCompiler compiler = new FunctionCompiler();
+        Assert.assertEquals(Collections.singletonList("name"), compiler.compileKeys(createKeyDescriptor(new NameKey())));
+        Assert.assertEquals(
+                Arrays.asList("name", "COALESCE(salary, 0)"),
+                compiler.compileKeys(createKeyDescriptor(new CompositeKey()))
+        );
+        Assert.assertEquals(
+                Arrays.asList("CONCAT(name, ', ', \"x,y\")", "'('"),
+                compiler.compileKeys(createKeyDescriptor(new QuotedKey()))
+        );
+        Assert.assertTrue(compiler.isCompilableToColumns(createKeyDescriptor(new NameKey())));
+        Assert.assertFalse(compiler.isCompilableToColumns(createKeyDescriptor(new CompositeKey())));
+    }
+
+    private static TransformationDescriptor<Tuple2, Object> createKeyDescriptor(
+            FunctionDescriptor.SerializableFunction<Tuple2, Object> keyFunction) {
+        return new TransformationDescriptor<>(keyFunction, Tuple2.class, Object.class);
+    }
+
+    private static class NameKey implements FunctionDescriptor.SerializableFunction<Tuple2, Object> {
+
+        @Override
+        @FunctionCompiler.SQL("name")
+        public Object apply(Tuple2 tuple) {
+            return tuple.field0;
+        }
+    }
+
+    private static class CompositeKey implements FunctionDescriptor.SerializableFunction<Tuple2, Object> {
+
+        @Override
+        @FunctionCompiler.SQL("name, COALESCE(salary, 0)")
+        public Object apply(Tuple2 tuple) {
+            return new Tuple2<>(tuple.field0, tuple.field1 == null ? 0f : tuple.field1);
+        }
+    }
+
+    private static class QuotedKey implements FunctionDescriptor.SerializableFunction<Tuple2, Object> {
+
+        @Override
+        @FunctionCompiler.SQL("CONCAT(name, ', ', \"x,y\"), '('")
+        public Object apply(Tuple2 tuple) {
+            return tuple.field0;
+        }
+    }
+
+    /**
+     * Connects the output of the {@code producer} to the given input of the {@code consumer}.
+     */
+    private static void connect(ExecutionTask producer, ExecutionTask consumer, int inputIndex) {
+        Channel channel = producer.getOutputChannel(0);
+        if (channel == null) {
+            final ExecutionOperator operator = producer.getOperator();
+            channel = new PostgresInternalChannel(PostgresInternalChannel.DESCRIPTOR, operator.getOutput(0));
+            producer.setOutputChannel(0, channel);
+        }
+        channel.addConsumer(consumer, inputIndex);
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.execution.ResultSetDecoder;
+import org.qcri.rheem.postgres.channels.PostgresInternalChannel;
+import org.qcri.rheem.postgres.compiler.FunctionCompiler;
+import org.qcri.rheem.postgres.compiler.SqlQueryBuilder;
+import org.qcri.rheem.postgres.test.DummyDatabase;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for the {@link PostgresJoinOperator}.
+ */
+public class PostgresJoinOperatorTest {
+
+    private static final DataSetType<Record> TYPE = DataSetType.createDefault(Record.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecution() throws SQLException {
+        // Prepare test data.
+        final ExecutionTask employeeTask = new ExecutionTask(new PostgresTableSource("employee", TYPE));
+        final ExecutionTask departmentTask = new ExecutionTask(new PostgresTableSource("department", TYPE));
+        final PostgresJoinOperator<Record, Record, Object> joinOperator = new PostgresJoinOperator<>(
+                TYPE, TYPE,
+                new TransformationDescriptor<>(new EmployeeDepartmentKey(), Record.class, Object.class),
+                new TransformationDescriptor<>(new DepartmentKey(), Record.class, Object.class)
+        );
+        final ExecutionTask joinTask = new ExecutionTask(joinOperator);
+        connect(employeeTask, joinTask, 0);
+        connect(departmentTask, joinTask, 1);
+
+        final String expectedQuery = "SELECT t0.\"id\" AS \"field0.id\", t0.\"name\" AS \"field0.name\", " +
+                "t0.\"dept_id\" AS \"field0.dept_id\", t1.\"id\" AS \"field1.id\", t1.\"name\" AS \"field1.name\" " +
+                "FROM (SELECT * FROM employee) AS t0 JOIN (SELECT * FROM department) AS t1 ON t0.dept_id = t1.id";
+        final DummyDatabase database = new DummyDatabase()
+                .addResult("SELECT * FROM employee",
+                        new String[]{"id", "name", "dept_id"}, new int[]{Types.INTEGER, Types.VARCHAR, Types.INTEGER})
+                .addResult("SELECT * FROM department",
+                        new String[]{"id", "name"}, new int[]{Types.INTEGER, Types.VARCHAR})
+                .addResult(expectedQuery,
+                        new String[]{"field0.id", "field0.name", "field0.dept_id", "field1.id", "field1.name"},
+                        new int[]{Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR},
+                        new Object[]{1, "alice", 10, 10, "sales"},
+                        new Object[]{2, "bob", 20, 20, null});
+        final Connection connection = database.createConnection();
+
+        // Execute.
+        final String query = new SqlQueryBuilder(new FunctionCompiler(), connection).build(joinTask);
+        final List<Tuple2<Record, Record>> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(query); ResultSet rs = ps.executeQuery()) {
+            final ResultSetDecoder decoder = joinOperator.createResultSetDecoder(rs.getMetaData());
+            while (rs.next()) {
+                result.add((Tuple2<Record, Record>) decoder.decode(rs));
+            }
+        }
+
+        // Verify the outcome.
+        Assert.assertEquals(expectedQuery, query);
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals("alice", result.get(0).field0.getField("name"));
+        Assert.assertEquals(10, result.get(0).field0.getField("dept_id"));
+        Assert.assertEquals(10, result.get(0).field1.getField("id"));
+        Assert.assertEquals("sales", result.get(0).field1.getField("name"));
+        Assert.assertEquals("bob", result.get(1).field0.getField("name"));
+        Assert.assertNull(result.get(1).field1.getField("name"));
+    }
+
+    private static class EmployeeDepartmentKey implements FunctionDescriptor.SerializableFunction<Record, Object> {
+
+        @Override
+        @FunctionCompiler.SQL("dept_id")
+        public Object apply(Record record) {
+            return record.getField("dept_id");
+        }
+    }
+
+    private static class DepartmentKey implements FunctionDescriptor.SerializableFunction<Record, Object> {
+
+        @Override
+        @FunctionCompiler.SQL("id")
+        public Object apply(Record record) {
+            return record.getField("id");
+        }
+    }
+
+    /**
+     * Connects the output of the {@code producer} to the given input of the {@code consumer}.
+     */
+    private static void connect(ExecutionTask producer, ExecutionTask consumer, int inputIndex) {
+        Channel channel = producer.getOutputChannel(0);
+        if (channel == null) {
+            channel = new PostgresInternalChannel(PostgresInternalChannel.DESCRIPTOR, producer.getOperator().getOutput(0));
+            producer.setOutputChannel(0, channel);
+        }
+        channel.addConsumer(consumer, inputIndex);
+    }
+
+}
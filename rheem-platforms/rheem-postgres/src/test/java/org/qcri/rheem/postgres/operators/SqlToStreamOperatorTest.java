@@ -0,0 +1,102 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.compiler.FunctionCompiler;
+import org.qcri.rheem.jdbc.execution.JdbcConnectionPool;
+import org.qcri.rheem.postgres.PostgresPlatform;
+import org.qcri.rheem.postgres.channels.SqlQueryChannel;
+import org.qcri.rheem.postgres.test.DummyDatabase;
+
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link SqlToStreamOperator}.
+ */
+public class SqlToStreamOperatorTest {
+
+    private static final DataSetType<Record> TYPE = DataSetType.createDefault(Record.class);
+
+    private Configuration configuration;
+
+    private DummyDatabase database;
+
+    private JdbcConnectionPool connectionPool;
+
+    @Before
+    public void setUp() {
+        PostgresPlatform.getInstance();
+        this.configuration = new Configuration();
+        this.database = new DummyDatabase().addResult("SELECT * FROM employee",
+                new String[]{"id", "name"}, new int[]{Types.INTEGER, Types.VARCHAR},
+                new Object[]{1, "alice"},
+                new Object[]{2, "bob"},
+                new Object[]{3, null});
+        // A single connection lets us check that it is released.
+        this.connectionPool = new JdbcConnectionPool(this.database::createConnection, 1);
+    }
+
+    private Stream<Record> evaluate(String query) {
+        final SqlQueryChannel.Instance input = (SqlQueryChannel.Instance) SqlQueryChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(null);
+        input.setSqlQuery(query, new PostgresTableSource("employee", TYPE), this.connectionPool);
+        final StreamChannel.Instance output = (StreamChannel.Instance) StreamChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(null);
+
+        new SqlToStreamOperator<>(TYPE).evaluate(
+                new ChannelInstance[]{input}, new ChannelInstance[]{output}, new FunctionCompiler(this.configuration)
+        );
+        return output.provideStream();
+    }
+
+    /**
+     * Asserts that the {@link #connectionPool} can hand out its {@link Connection}.
+     */
+    private void assertConnectionReleased() throws Exception {
+        final Connection connection = CompletableFuture.supplyAsync(this.connectionPool::acquire).get(10, TimeUnit.SECONDS);
+        this.connectionPool.release(connection);
+    }
+
+    @Test
+    public void testStreamingResult() throws Exception {
+        // Execute.
+        final List<Record> result = this.evaluate("SELECT * FROM employee").collect(Collectors.toList());
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(new Record(1, "alice"), new Record(2, "bob")), result.subList(0, 2));
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(3, result.get(2).getField("id"));
+        Assert.assertNull(result.get(2).getField("name"));
+        Assert.assertEquals(Arrays.asList("SELECT * FROM employee"), this.database.getExecutedQueries());
+        this.assertConnectionReleased();
+    }
+
+    @Test
+    public void testReleaseConnectionOnClose() throws Exception {
+        // Execute.
+        final List<Record> result;
+        try (Stream<Record> stream = this.evaluate("SELECT * FROM employee")) {
+            result = stream.limit(1).collect(Collectors.toList());
+        }
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(new Record(1, "alice")), result);
+        this.assertConnectionReleased();
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.qcri.rheem.postgres.test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dummy JDBC database that answers SQL queries with predefined results. Metadata queries of the form
+ * {@code SELECT * FROM (<query>) AS t LIMIT 0} are answered with the columns of the result of {@code <query>}.
+ */
+public class DummyDatabase {
+
+    private static final Pattern METADATA_QUERY_PATTERN = Pattern.compile("SELECT \\* FROM \\((.*)\\) AS t LIMIT 0");
+
+    /**
+     * A predefined query result.
+     */
+    private static class Result {
+
+        private final String[] labels;
+
+        private final int[] sqlTypes;
+
+        private final List<Object[]> rows;
+
+        private Result(String[] labels, int[] sqlTypes, List<Object[]> rows) {
+            this.labels = labels;
+            this.sqlTypes = sqlTypes;
+            this.rows = rows;
+        }
+    }
+
+    private final Map<String, Result> results = new HashMap<>();
+
+    private final List<String> executedQueries = new ArrayList<>();
+
+    /**
+     * Defines the result of a SQL query.
+     *
+     * @param query    the SQL query
+     * @param labels   the column labels of the result
+     * @param sqlTypes the {@link Types} of the columns
+     * @param rows     the rows of the result
+     * @return this instance
+     */
+    public DummyDatabase addResult(String query, String[] labels, int[] sqlTypes, Object[]... rows) {
+        this.results.put(query, new Result(labels, sqlTypes, Arrays.asList(rows)));
+        return this;
+    }
+
+    /**
+     * @return the SQL queries that have been executed so far, including the metadata queries
+     */
+    public List<String> getExecutedQueries() {
+        return this.executedQueries;
+    }
+
+    /**
+     * @return a new {@link Connection} to this instance
+     */
+    public Connection createConnection() {
+        return (Connection) Proxy.newProxyInstance(
+                DummyDatabase.class.getClassLoader(),
+                new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "createStatement":
+                            return this.createStatement(null);
+                        case "prepareStatement":
+                            return this.createStatement((String) args[0]);
+                        case "getAutoCommit":
+                        case "isValid":
+                            return true;
+                        case "isClosed":
+                            return false;
+                        default:
+                            return null;
+                    }
+                }
+        );
+    }
+
+    private PreparedStatement createStatement(String preparedQuery) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                DummyDatabase.class.getClassLoader(),
+                new Class[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeQuery":
+                            return this.executeQuery(args == null ? preparedQuery : (String) args[0]);
+                        default:
+                            return null;
+                    }
+                }
+        );
+    }
+
+    private ResultSet executeQuery(String query) throws SQLException {
+        this.executedQueries.add(query);
+        Result result = this.results.get(query);
+        if (result == null) {
+            final Matcher matcher = METADATA_QUERY_PATTERN.matcher(query);
+            if (matcher.matches() && this.results.containsKey(matcher.group(1))) {
+                final Result queriedResult = this.results.get(matcher.group(1));
+                result = new Result(queriedResult.labels, queriedResult.sqlTypes, Collections.emptyList());
+            } else {
+                throw new SQLException(String.format("Unexpected query: %s", query));
+            }
+        }
+        return createResultSet(result);
+    }
+
+    private static ResultSet createResultSet(Result result) {
+        final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                DummyDatabase.class.getClassLoader(),
+                new Class[]{ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return result.labels.length;
+                        case "getColumnLabel":
+                        case "getColumnName":
+                            return result.labels[(Integer) args[0] - 1];
+                        case "getColumnType":
+                            return result.sqlTypes[(Integer) args[0] - 1];
+                        default:
+                            return null;
+                    }
+                }
+        );
+        final Iterator<Object[]> rowIterator = result.rows.iterator();
+        final Object[][] currentRow = new Object[1][];
+        final boolean[] wasNull = new boolean[1];
+        return (ResultSet) Proxy.newProxyInstance(
+                DummyDatabase.class.getClassLoader(),
+                new Class[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMetaData":
+                            return metaData;
+                        case "next":
+                            currentRow[0] = rowIterator.hasNext() ? rowIterator.next() : null;
+                            return currentRow[0] != null;
+                        case "wasNull":
+                            return wasNull[0];
+                        case "close":
+                            return null;
+                    }
+                    if (method.getName().startsWith("get") && args != null && args[0] instanceof Integer) {
+                        final Object value = currentRow[0][(Integer) args[0] - 1];
+                        wasNull[0] = value == null;
+                        if (value != null || !method.getReturnType().isPrimitive()) return value;
+                        return Array.get(Array.newInstance(method.getReturnType(), 1), 0);
+                    }
+                    return null;
+                }
+        );
+    }
+
+}
@@ -0,0 +1,217 @@
+package org.qcri.rheem.spark.execution;
+
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.util.Actions;
+import org.qcri.rheem.spark.operators.SparkCollectOperator;
+import org.qcri.rheem.spark.operators.SparkExecutionOperator;
+import org.qcri.rheem.spark.operators.SparkLoopHeadOperator;
+import org.qcri.rheem.spark.platform.SparkExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * The {@link ExecutionTask}s of a loop body that can be evaluated within a single invocation of the
+ * {@link SparkExecutor}. That is, they are {@link SparkExecutionOperator}s whose inputs from outside of the loop are
+ * already available.
+ * <p>The loop body is {@link #evaluate(ChannelInstance[]) evaluated} once per iteration. The
+ * {@link SparkCollectOperator}s that feed {@link SparkLoopHeadOperator#getNativeRddInputs() native RDD inputs} of
+ * the {@link LoopHeadOperator} are skipped, so that the loop head receives the uncollected data.</p>
+ */
+public class SparkLoopBody {
+
+    private static final Logger logger = LoggerFactory.getLogger(SparkLoopBody.class);
+
+    /**
+     * The {@link ExecutionTask} of the {@link LoopHeadOperator}.
+     */
+    private final ExecutionTask loopHeadTask;
+
+    /**
+     * The {@link ExecutionTask}s of the loop body in a topological order.
+     */
+    private final List<ExecutionTask> bodyTasks;
+
+    /**
+     * {@link ExecutionTask}s of {@link SparkCollectOperator}s that are skipped (see class comment).
+     */
+    private final Set<ExecutionTask> skippedTasks;
+
+    /**
+     * Provides {@link ChannelInstance}s that enter the loop body from outside of the loop.
+     */
+    private final ExecutionState executionState;
+
+    private final SparkExecutor sparkExecutor;
+
+    /**
+     * The {@link ChannelInstance}s created in the previous iteration. They are released once the next iteration
+     * has been evaluated.
+     */
+    private Collection<ChannelInstance> previousChannelInstances = Collections.emptyList();
+
+    private SparkLoopBody(ExecutionTask loopHeadTask, List<ExecutionTask> bodyTasks, Set<ExecutionTask> skippedTasks,
+                          ExecutionState executionState, SparkExecutor sparkExecutor) {
+        this.loopHeadTask = loopHeadTask;
+        this.bodyTasks = bodyTasks;
+        this.skippedTasks = skippedTasks;
+        this.executionState = executionState;
+        this.sparkExecutor = sparkExecutor;
+    }
+
+    /**
+     * Gathers the loop body for the given {@link ExecutionTask} of a {@link SparkLoopHeadOperator}.
+     *
+     * @param loopHeadTask   the {@link ExecutionTask} of the {@link SparkLoopHeadOperator}
+     * @param executionState provides the {@link ChannelInstance}s from outside of the loop
+     * @param sparkExecutor  evaluates the loop body
+     * @return the {@link SparkLoopBody} or {@code null} if the loop cannot be run within a single invocation
+     */
+    public static SparkLoopBody createFor(ExecutionTask loopHeadTask, ExecutionState executionState,
+                                          SparkExecutor sparkExecutor) {
+        assert loopHeadTask.getOperator() instanceof SparkLoopHeadOperator;
+        final SparkLoopHeadOperator loopHead = (SparkLoopHeadOperator) loopHeadTask.getOperator();
+
+        // Gather the ExecutionTasks downstream of the loop body outputs of the loop head.
+        final Set<ExecutionTask> bodyTasks = new HashSet<>();
+        final Queue<ExecutionTask> stagedTasks = new LinkedList<>();
+        for (OutputSlot<?> output : loopHead.getLoopBodyOutputs()) {
+            final Channel channel = loopHeadTask.getOutputChannel(output.getIndex());
+            if (channel != null) stagedTasks.addAll(channel.getConsumers());
+        }
+        ExecutionTask task;
+        while ((task = stagedTasks.poll()) != null) {
+            if (task == loopHeadTask || !bodyTasks.add(task)) continue;
+            if (task.getStage().getLoop() != loopHeadTask.getStage().getLoop()) {
+                logger.info("Cannot run {} natively: {} is not in the loop.", loopHead, task);
+                return null;
+            }
+            final ExecutionOperator operator = task.getOperator();
+            if (!(operator instanceof SparkExecutionOperator) || operator.isLoopHead()) {
+                logger.info("Cannot run {} natively: {} is not a Spark operator.", loopHead, task);
+                return null;
+            }
+            for (Channel channel : task.getOutputChannels()) {
+                if (channel != null) stagedTasks.addAll(channel.getConsumers());
+            }
+        }
+
+        // Order the ExecutionTasks and make sure that all inputs from outside of the loop are available.
+        final List<ExecutionTask> orderedBodyTasks = new ArrayList<>(bodyTasks.size());
+        final Set<ExecutionTask> remainingTasks = new HashSet<>(bodyTasks);
+        while (!remainingTasks.isEmpty()) {
+            final Iterator<ExecutionTask> iterator = remainingTasks.iterator();
+            boolean isAnyTaskReady = false;
+            while (iterator.hasNext()) {
+                final ExecutionTask candidate = iterator.next();
+                boolean isReady = true;
+                for (Channel channel : candidate.getInputChannels()) {
+                    if (channel == null) continue;
+                    final ExecutionTask producer = channel.getProducer();
+                    if (producer == loopHeadTask || (bodyTasks.contains(producer) && !remainingTasks.contains(producer))) {
+                        continue;
+                    }
+                    if (bodyTasks.contains(producer)) {
+                        isReady = false;
+                    } else if (executionState.getChannelInstance(channel) == null) {
+                        logger.info("Cannot run {} natively: {} is not available.", loopHead, channel);
+                        return null;
+                    }
+                }
+                if (isReady) {
+                    orderedBodyTasks.add(candidate);
+                    iterator.remove();
+                    isAnyTaskReady = true;
+                }
+            }
+            if (!isAnyTaskReady) {
+                logger.info("Cannot run {} natively: its body is not acyclic.", loopHead);
+                return null;
+            }
+        }
+
+        // Make sure that the loop body feeds the loop head and find the SparkCollectOperators to be skipped.
+        final Set<ExecutionTask> skippedTasks = new HashSet<>();
+        for (InputSlot<?> input : loopHead.getLoopBodyInputs()) {
+            final Channel channel = loopHeadTask.getInputChannel(input.getIndex());
+            if (channel == null || !bodyTasks.contains(channel.getProducer())) {
+                logger.info("Cannot run {} natively: {} is not fed by the loop body.", loopHead, input);
+                return null;
+            }
+            final ExecutionTask producer = channel.getProducer();
+            if (loopHead.getNativeRddInputs().contains(input)
+                    && producer.getOperator() instanceof SparkCollectOperator
+                    && channel.getConsumers().size() == 1) {
+                skippedTasks.add(producer);
+            }
+        }
+
+        return new SparkLoopBody(loopHeadTask, orderedBodyTasks, skippedTasks, executionState, sparkExecutor);
+    }
+
+    /**
+     * Evaluates the {@link ExecutionTask}s of the loop body once.
+     *
+     * @param loopHeadOutputs the {@link ChannelInstance}s for the outputs of the {@link LoopHeadOperator}; those for
+     *                        its loop body outputs must provide the data for the iteration
+     * @return {@link ChannelInstance}s for the inputs of the {@link LoopHeadOperator}; those for its loop body inputs
+     * provide the results of the iteration
+     */
+    public ChannelInstance[] evaluate(ChannelInstance[] loopHeadOutputs) {
+        final LoopHeadOperator loopHead = (LoopHeadOperator) this.loopHeadTask.getOperator();
+        final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+        for (OutputSlot<?> output : loopHead.getLoopBodyOutputs()) {
+            final Channel channel = this.loopHeadTask.getOutputChannel(output.getIndex());
+            if (channel != null) channelInstances.put(channel, loopHeadOutputs[output.getIndex()]);
+        }
+
+        final Collection<ChannelInstance> createdChannelInstances = new LinkedList<>();
+        for (ExecutionTask task : this.bodyTasks) {
+            final ChannelInstance[] inputs = new ChannelInstance[task.getNumInputChannels()];
+            for (int inputIndex = 0; inputIndex < inputs.length; inputIndex++) {
+                final Channel channel = task.getInputChannel(inputIndex);
+                if (channel == null) continue;
+                final ChannelInstance channelInstance = channelInstances.get(channel);
+                inputs[inputIndex] = channelInstance != null ?
+                        channelInstance :
+                        this.executionState.getChannelInstance(channel);
+            }
+            if (this.skippedTasks.contains(task)) {
+                // Pass on the uncollected data.
+                channelInstances.put(task.getOutputChannel(0), inputs[0]);
+                continue;
+            }
+            final ChannelInstance[] outputs = this.sparkExecutor.createOutputChannelInstances(task);
+            ((SparkExecutionOperator) task.getOperator()).evaluate(
+                    inputs, outputs, this.sparkExecutor.compiler, this.sparkExecutor
+            );
+            for (ChannelInstance output : outputs) {
+                if (output != null) {
+                    channelInstances.put(output.getChannel(), output);
+                    createdChannelInstances.add(output);
+                }
+            }
+        }
+
+        // The ChannelInstances of the previous iteration are not needed anymore.
+        for (ChannelInstance channelInstance : this.previousChannelInstances) {
+            Actions.doSafe(channelInstance::dispose);
+        }
+        this.previousChannelInstances = createdChannelInstances;
+
+        final ChannelInstance[] loopHeadInputs = new ChannelInstance[loopHead.getNumInputs()];
+        for (InputSlot<?> input : loopHead.getLoopBodyInputs()) {
+            final Channel channel = this.loopHeadTask.getInputChannel(input.getIndex());
+            loopHeadInputs[input.getIndex()] = channelInstances.get(channel);
+        }
+        return loopHeadInputs;
+    }
+}
@@ -23,7 +23,7 @@ public class JoinToSparkJoinMapping implements Mapping {
 
     private SubplanPattern createSubplanPattern() {
         final OperatorPattern operatorPattern = new OperatorPattern(
-                "join", new JoinOperator<>(null,null), false);
+                "join", new JoinOperator<>(null, null, null, null), false);
         return SubplanPattern.createSingleton(operatorPattern);
     }
 
@@ -54,8 +54,9 @@ public class SparkBroadcastOperator<Type> extends OperatorBase implements SparkE
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.broadcast.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.broadcast.load"
+        );
         return Optional.of(mainEstimator);
     }
 
@@ -66,8 +66,9 @@ public class SparkCollectionSource<Type> extends CollectionSource<Type> implemen
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.collectionsource.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.collectionsource.load"
+        );
         return Optional.of(mainEstimator);
     }
 
@@ -0,0 +1,169 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
+import org.apache.spark.storage.StorageLevel;
+import org.qcri.rheem.basic.operators.DeltaIterationOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.platform.SparkExecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spark implementation of the {@link DeltaIterationOperator}. It keeps the solution set as a cached, hash-partitioned
+ * RDD across iterations. As solution set deltas are partitioned in the same way, merging them into the solution set
+ * shuffles only the deltas.
+ */
+public class SparkDeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        extends DeltaIterationOperator<SolutionType, WorksetType, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * Counts the number of iterations of the current loop execution.
+     */
+    private int numIterations = 0;
+
+    /**
+     * Partitions the {@link #solutionSet} while this instance is running.
+     */
+    private Partitioner partitioner;
+
+    /**
+     * The solution set while this instance is running.
+     */
+    private JavaPairRDD<KeyType, SolutionType> solutionSet;
+
+    /**
+     * Creates a new instance.
+     */
+    public SparkDeltaIterationOperator(DataSetType<SolutionType> solutionSetType,
+                                       DataSetType<WorksetType> worksetType,
+                                       TransformationDescriptor<SolutionType, KeyType> keyDescriptor,
+                                       int maxIterations) {
+        super(solutionSetType, worksetType, keyDescriptor, maxIterations);
+    }
+
+    @Override
+    public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
+                         SparkExecutor sparkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final FunctionCompiler.KeyExtractor<SolutionType, KeyType> keyExtractor =
+                compiler.compileToKeyExtractor(this.keyDescriptor);
+        final JavaRDD<WorksetType> workset;
+        switch (this.getState()) {
+            case NOT_STARTED:
+                assert inputs[INITIAL_SOLUTION_SET_INPUT_INDEX] != null;
+                assert inputs[INITIAL_WORKSET_INPUT_INDEX] != null;
+
+                this.numIterations = 0;
+                final JavaRDD<SolutionType> initialSolutionSet =
+                        ((RddChannel.Instance) inputs[INITIAL_SOLUTION_SET_INPUT_INDEX]).provideRdd();
+                this.partitioner = new HashPartitioner(
+                        sparkExecutor.getNumShufflePartitions(this, SOLUTION_SET_OUTPUT_INDEX, initialSolutionSet)
+                );
+                this.solutionSet = initialSolutionSet
+                        .mapToPair(keyExtractor)
+                        .partitionBy(this.partitioner)
+                        .persist(StorageLevel.MEMORY_AND_DISK());
+                workset = ((RddChannel.Instance) inputs[INITIAL_WORKSET_INPUT_INDEX]).provideRdd();
+                break;
+            case RUNNING:
+                assert inputs[SOLUTION_SET_DELTA_INPUT_INDEX] != null;
+                assert inputs[NEXT_WORKSET_INPUT_INDEX] != null;
+
+                final JavaRDD<SolutionType> delta =
+                        ((RddChannel.Instance) inputs[SOLUTION_SET_DELTA_INPUT_INDEX]).provideRdd();
+                // The solution set is already partitioned by the partitioner, so that only the delta is shuffled.
+                final JavaPairRDD<KeyType, SolutionType> nextSolutionSet = this.solutionSet
+                        .cogroup(delta.mapToPair(keyExtractor), this.partitioner)
+                        .mapValues(new DeltaMerger<>());
+                nextSolutionSet.persist(StorageLevel.MEMORY_AND_DISK());
+                if (sparkExecutor.isLoopLineageTruncationDue(this.numIterations)) {
+                    // Truncate in place to retain the partitioning. The count below materializes the checkpoint.
+                    nextSolutionSet.rdd().localCheckpoint();
+                }
+                // Materialize the new solution set before releasing the old one.
+                nextSolutionSet.count();
+                this.solutionSet.unpersist(false);
+                this.solutionSet = nextSolutionSet;
+                workset = ((RddChannel.Instance) inputs[NEXT_WORKSET_INPUT_INDEX]).provideRdd();
+                break;
+            default:
+                throw new IllegalStateException(String.format("%s is finished, yet executed.", this));
+        }
+
+        if (this.numIterations >= this.maxIterations || workset.isEmpty()) {
+            // final loop output
+            ((RddChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(this.solutionSet.values(), sparkExecutor);
+            outputs[SOLUTION_SET_OUTPUT_INDEX] = null;
+            outputs[WORKSET_OUTPUT_INDEX] = null;
+            this.solutionSet = null;
+            this.partitioner = null;
+            this.setState(State.FINISHED);
+        } else {
+            outputs[FINAL_OUTPUT_INDEX] = null;
+            this.numIterations++;
+            if (outputs[SOLUTION_SET_OUTPUT_INDEX] != null) {
+                ((RddChannel.Instance) outputs[SOLUTION_SET_OUTPUT_INDEX]).accept(this.solutionSet.values(), sparkExecutor);
+            }
+            ((RddChannel.Instance) outputs[WORKSET_OUTPUT_INDEX]).accept(workset, sparkExecutor);
+            this.setState(State.RUNNING);
+        }
+    }
+
+    /**
+     * Replaces a solution set element with the delta element with the same key, if any.
+     */
+    private static class DeltaMerger<T> implements Function<scala.Tuple2<Iterable<T>, Iterable<T>>, T> {
+
+        @Override
+        public T call(scala.Tuple2<Iterable<T>, Iterable<T>> solutionAndDelta) throws Exception {
+            final Iterator<T> deltaIterator = solutionAndDelta._2.iterator();
+            return deltaIterator.hasNext() ? deltaIterator.next() : solutionAndDelta._1.iterator().next();
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkDeltaIterationOperator<>(this.getSolutionSetType(), this.getWorksetType(),
+                this.getKeyDescriptor(), this.getMaxIterations());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.deltaiteration.load"
+        );
+        return Optional.of(mainEstimator);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+}
@@ -1,5 +1,6 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
 import org.qcri.rheem.basic.operators.DoWhileOperator;
 import org.qcri.rheem.basic.operators.LoopOperator;
@@ -11,23 +12,31 @@ import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SparkLoopBody;
 import org.qcri.rheem.spark.platform.SparkExecutor;
 
 import java.util.*;
 
 /**
  * Spark implementation of the {@link LoopOperator}.
+ * <p>Whenever possible, the whole loop runs within a single invocation of the {@link SparkExecutor}. Then, the
+ * convergence data is collected directly from its RDD rather than via a further execution stage.</p>
  */
 public class SparkDoWhileOperator<InputType, ConvergenceType>
         extends DoWhileOperator<InputType, ConvergenceType>
-        implements SparkExecutionOperator {
+        implements SparkLoopHeadOperator {
 
+    /**
+     * Counts the number of iterations of the current loop execution to decide on lineage truncation.
+     */
+    private int numIterations = 0;
 
     /**
      * Creates a new instance.
@@ -42,6 +51,62 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
         super(inputType, convergenceType, criterionDescriptor);
     }
 
+    @Override
+    public void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, SparkLoopBody loopBody,
+                                 FunctionCompiler compiler, SparkExecutor sparkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+        assert this.getState() == State.NOT_STARTED;
+        assert inputs[INITIAL_INPUT_INDEX] != null;
+
+        final Function<Collection<ConvergenceType>, Boolean> stoppingCondition =
+                compiler.compile(this.criterionDescriptor, this, inputs);
+        final RddChannel.Instance iterationOutput = (RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX];
+        JavaRDD<InputType> loopData = ((RddChannel.Instance) inputs[INITIAL_INPUT_INDEX]).provideRdd();
+        int numIterations = 0;
+        boolean isConverged;
+        do {
+            numIterations++;
+            iterationOutput.accept(sparkExecutor.truncateLoopLineageIfDue(loopData, numIterations, this), sparkExecutor);
+            final ChannelInstance[] iterationResults = loopBody.evaluate(outputs);
+            loopData = ((RddChannel.Instance) iterationResults[ITERATION_INPUT_INDEX]).provideRdd();
+            isConverged = this.isConverged(iterationResults[CONVERGENCE_INPUT_INDEX], stoppingCondition);
+        } while (!isConverged);
+
+        ((RddChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(loopData, sparkExecutor);
+        outputs[ITERATION_OUTPUT_INDEX] = null;
+        this.setState(State.FINISHED);
+    }
+
+    /**
+     * Evaluates the stopping condition on the convergence data. If the latter has not been collected yet, it is
+     * collected now. As the stopping condition needs to see all convergence data at once, evaluating it within Spark
+     * would require to shuffle all of them into a single partition anyway.
+     *
+     * @param convergenceInput  a {@link CollectionChannel.Instance} or {@link RddChannel.Instance} with the
+     *                          convergence data
+     * @param stoppingCondition the stopping condition
+     * @return whether the loop has converged
+     */
+    private boolean isConverged(ChannelInstance convergenceInput,
+                                Function<Collection<ConvergenceType>, Boolean> stoppingCondition) {
+        try {
+            if (convergenceInput instanceof RddChannel.Instance) {
+                return stoppingCondition.call(
+                        ((RddChannel.Instance) convergenceInput).<ConvergenceType>provideRdd().collect()
+                );
+            }
+            return stoppingCondition.call(((CollectionChannel.Instance) convergenceInput).provideCollection());
+        } catch (Exception e) {
+            throw new RheemException(String.format("Could not evaluate stopping condition for %s.", this), e);
+        }
+    }
+
+    @Override
+    public Collection<InputSlot<?>> getNativeRddInputs() {
+        return Collections.singletonList(this.getInput(CONVERGENCE_INPUT_INDEX));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
@@ -55,6 +120,7 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
         boolean endloop = false;
         switch (this.getState()) {
             case NOT_STARTED:
+                this.numIterations = 0;
                 assert inputs[INITIAL_INPUT_INDEX] != null;
 
                 iterationInput = (RddChannel.Instance) inputs[INITIAL_INPUT_INDEX];
@@ -84,7 +150,11 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
             this.setState(State.FINISHED);
         } else {
             outputs[FINAL_OUTPUT_INDEX] = null;
-            ((RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(iterationInput.provideRdd(), sparkExecutor);
+            this.numIterations++;
+            ((RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(
+                    sparkExecutor.truncateLoopLineageIfDue(iterationInput.provideRdd(), this.numIterations, this),
+                    sparkExecutor
+            );
             this.setState(State.RUNNING);
         }
 
@@ -98,8 +168,9 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.while.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.while.load"
+        );
         return Optional.of(mainEstimator);
     }
 
@@ -49,8 +49,9 @@ public class SparkLocalCallbackSink<T> extends LocalCallbackSink<T> implements S
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.localcallbacksink.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.localcallbacksink.load"
+        );
         return Optional.of(mainEstimator);
     }
 
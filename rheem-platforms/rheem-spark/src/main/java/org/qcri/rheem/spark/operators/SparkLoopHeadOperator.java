@@ -0,0 +1,43 @@
+package org.qcri.rheem.spark.operators;
+
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SparkLoopBody;
+import org.qcri.rheem.spark.platform.SparkExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * {@link SparkExecutionOperator} that heads a loop and can run the whole loop within a single invocation of the
+ * {@link SparkExecutor}. Then, the iterations do not go through the activation of execution stages.
+ */
+public interface SparkLoopHeadOperator extends SparkExecutionOperator, LoopHeadOperator {
+
+    /**
+     * Evaluates the complete loop. Hence, this method is invoked only once, namely in the {@link State#NOT_STARTED}
+     * state, and it must provide the final loop outputs and leave this instance in the {@link State#FINISHED} state.
+     *
+     * @param inputs        {@link ChannelInstance}s that satisfy the loop initialization inputs of this operator
+     * @param outputs       {@link ChannelInstance}s that accept the outputs of this operator
+     * @param loopBody      evaluates the loop body once per iteration
+     * @param compiler      compiles functions used by the operator
+     * @param sparkExecutor {@link SparkExecutor} that executes this instance
+     */
+    void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, SparkLoopBody loopBody,
+                          FunctionCompiler compiler, SparkExecutor sparkExecutor);
+
+    /**
+     * Tells which loop body inputs of this instance accept {@link RddChannel.Instance}s when the loop is evaluated
+     * natively. The {@link SparkCollectOperator}s that would collect these inputs are then skipped.
+     *
+     * @return the said {@link InputSlot}s
+     */
+    default Collection<InputSlot<?>> getNativeRddInputs() {
+        return Collections.emptyList();
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
 import org.qcri.rheem.basic.operators.LoopOperator;
 import org.qcri.rheem.core.api.Configuration;
@@ -16,17 +17,24 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SparkLoopBody;
 import org.qcri.rheem.spark.platform.SparkExecutor;
 
 import java.util.*;
 
 /**
  * Spark implementation of the {@link LoopOperator}.
+ * <p>Whenever possible, the whole loop runs within a single invocation of the {@link SparkExecutor}. As the
+ * convergence data is passed on from one iteration to the next, it is still collected in every iteration.</p>
  */
 public class SparkLoopOperator<InputType, ConvergenceType>
         extends LoopOperator<InputType, ConvergenceType>
-        implements SparkExecutionOperator {
+        implements SparkLoopHeadOperator {
 
+    /**
+     * Counts the number of iterations of the current loop execution to decide on lineage truncation.
+     */
+    private int numIterations = 0;
 
     /**
      * Creates a new instance.
@@ -41,6 +49,49 @@ public class SparkLoopOperator<InputType, ConvergenceType>
         super(inputType, convergenceType, criterionDescriptor);
     }
 
+    @Override
+    public void evaluateNatively(ChannelInstance[] inputs, ChannelInstance[] outputs, SparkLoopBody loopBody,
+                                 FunctionCompiler compiler, SparkExecutor sparkExecutor) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+        assert this.getState() == State.NOT_STARTED;
+        assert inputs[INITIAL_INPUT_INDEX] != null;
+        assert inputs[INITIAL_CONVERGENCE_INPUT_INDEX] != null;
+
+        final Function<Collection<ConvergenceType>, Boolean> stoppingCondition =
+                compiler.compile(this.criterionDescriptor, this, inputs);
+        final RddChannel.Instance iterationOutput = (RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX];
+        final CollectionChannel.Instance convergenceOutput =
+                (CollectionChannel.Instance) outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX];
+        JavaRDD<InputType> loopData = ((RddChannel.Instance) inputs[INITIAL_INPUT_INDEX]).provideRdd();
+        Collection<ConvergenceType> convergence =
+                ((CollectionChannel.Instance) inputs[INITIAL_CONVERGENCE_INPUT_INDEX]).provideCollection();
+        int numIterations = 0;
+        do {
+            numIterations++;
+            iterationOutput.accept(sparkExecutor.truncateLoopLineageIfDue(loopData, numIterations, this), sparkExecutor);
+            convergenceOutput.accept(convergence);
+            final ChannelInstance[] iterationResults = loopBody.evaluate(outputs);
+            loopData = ((RddChannel.Instance) iterationResults[ITERATION_INPUT_INDEX]).provideRdd();
+            convergence = ((CollectionChannel.Instance) iterationResults[ITERATION_CONVERGENCE_INPUT_INDEX])
+                    .provideCollection();
+        } while (!this.isConverged(convergence, stoppingCondition));
+
+        ((RddChannel.Instance) outputs[FINAL_OUTPUT_INDEX]).accept(loopData, sparkExecutor);
+        outputs[ITERATION_OUTPUT_INDEX] = null;
+        outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX] = null;
+        this.setState(State.FINISHED);
+    }
+
+    private boolean isConverged(Collection<ConvergenceType> convergence,
+                                Function<Collection<ConvergenceType>, Boolean> stoppingCondition) {
+        try {
+            return stoppingCondition.call(convergence);
+        } catch (Exception e) {
+            throw new RheemException(String.format("Could not evaluate stopping condition for %s.", this), e);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void evaluate(ChannelInstance[] inputs, ChannelInstance[] outputs, FunctionCompiler compiler,
@@ -57,6 +108,7 @@ public class SparkLoopOperator<InputType, ConvergenceType>
 
         switch (this.getState()) {
             case NOT_STARTED:
+                this.numIterations = 0;
                 assert inputs[INITIAL_INPUT_INDEX] != null;
                 assert inputs[INITIAL_CONVERGENCE_INPUT_INDEX] != null;
 
@@ -92,7 +144,11 @@ public class SparkLoopOperator<InputType, ConvergenceType>
             this.setState(State.FINISHED);
         } else {
             outputs[FINAL_OUTPUT_INDEX] = null;
-            ((RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(iterationInput.provideRdd(), sparkExecutor);
+            this.numIterations++;
+            ((RddChannel.Instance) outputs[ITERATION_OUTPUT_INDEX]).accept(
+                    sparkExecutor.truncateLoopLineageIfDue(iterationInput.provideRdd(), this.numIterations, this),
+                    sparkExecutor
+            );
             // We do not use forward(...) because we might not be able to consume the input JavaChannelInstance twice.
             ((CollectionChannel.Instance) outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]).accept(convergenceInput.provideCollection());
             this.setState(State.RUNNING);
@@ -108,8 +164,9 @@ public class SparkLoopOperator<InputType, ConvergenceType>
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.loop.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.loop.load"
+        );
         return Optional.of(mainEstimator);
     }
 
@@ -68,7 +68,7 @@ public class SparkMapPartitionsOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
         final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
-                configuration.getStringProperty("rheem.spark.mappartitions.load")
+                configuration, "rheem.spark.mappartitions.load"
         );
         return Optional.of(mainEstimator);
     }
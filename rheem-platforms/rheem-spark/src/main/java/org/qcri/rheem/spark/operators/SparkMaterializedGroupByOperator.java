@@ -47,8 +47,9 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
         final JavaRDD<Type> inputRdd = input.provideRdd();
         final Function<Type, KeyType> keyExtractor = compiler.compile(this.keyDescriptor, this, inputs);
         final Function<scala.Tuple2<KeyType, Iterable<Type>>, Iterable<Type>> projector = new GroupProjector<>();
+        final int numPartitions = sparkExecutor.getNumShufflePartitions(this, 0, inputRdd);
         final JavaRDD<Iterable<Type>> outputRdd = inputRdd
-                .groupBy(keyExtractor)
+                .groupBy(keyExtractor, numPartitions)
                 .map(projector);
 
         output.accept(outputRdd, sparkExecutor);
@@ -70,8 +71,9 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.groupby.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.groupby.load"
+        );
         return Optional.of(mainEstimator);
     }
 
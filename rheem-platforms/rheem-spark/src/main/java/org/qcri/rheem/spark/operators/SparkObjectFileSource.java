@@ -19,6 +19,7 @@ import org.qcri.rheem.spark.platform.SparkPlatform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -56,8 +57,9 @@ public class SparkObjectFileSource<T> extends UnarySource<T> implements SparkExe
         }
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
-        final String actualInputPath = FileSystems.findActualSingleInputPath(sourcePath);
-        final JavaRDD<Object> rdd = sparkExecutor.sc.objectFile(actualInputPath);
+        // The input might be split into several files, which Spark can read as a comma-separated list.
+        final Collection<String> actualInputPaths = FileSystems.findActualInputPaths(sourcePath);
+        final JavaRDD<Object> rdd = sparkExecutor.sc.objectFile(String.join(",", actualInputPaths));
         output.accept(rdd, sparkExecutor);
     }
 
@@ -79,8 +81,9 @@ public class SparkObjectFileSource<T> extends UnarySource<T> implements SparkExe
 //            }
 //        }
 
-        final String specification = configuration.getStringProperty("rheem.spark.objectfilesource.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.objectfilesource.load"
+        );
         return Optional.of(mainEstimator);
     }
 
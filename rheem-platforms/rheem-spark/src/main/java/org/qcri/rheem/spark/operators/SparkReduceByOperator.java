@@ -55,8 +55,10 @@ public class SparkReduceByOperator<Type, KeyType>
         final JavaRDD<Type> inputStream = input.provideRdd();
         final PairFunction<Type, KeyType, Type> keyExtractor = compiler.compileToKeyExtractor(this.keyDescriptor);
         Function2<Type, Type, Type> reduceFunc = compiler.compile(this.reduceDescriptor, this, inputs);
+        // NB: reduceByKey(...) pre-aggregates the data quanta before the shuffle.
+        final int numPartitions = sparkExecutor.getNumShufflePartitions(this, 0, inputStream);
         final JavaRDD<Type> outputRdd = inputStream.mapToPair(keyExtractor)
-                .reduceByKey(reduceFunc)
+                .reduceByKey(reduceFunc, numPartitions)
                 .map(new TupleConverter<>());
 
         output.accept(outputRdd, sparkExecutor);
@@ -82,8 +84,9 @@ public class SparkReduceByOperator<Type, KeyType>
 
     @Override
     public Optional<LoadProfileEstimator> getLoadProfileEstimator(org.qcri.rheem.core.api.Configuration configuration) {
-        final String specification = configuration.getStringProperty("rheem.spark.reduceby.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.reduceby.load"
+        );
         return Optional.of(mainEstimator);
     }
 
@@ -54,8 +54,9 @@ public class SparkTextFileSource extends TextFileSource implements SparkExecutio
 //            }
 //        }
 
-        final String specification = configuration.getStringProperty("rheem.spark.textfilesource.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.textfilesource.load"
+        );
         return Optional.of(mainEstimator);
     }
 
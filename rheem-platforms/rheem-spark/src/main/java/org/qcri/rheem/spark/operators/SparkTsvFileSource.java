@@ -83,8 +83,9 @@ public class SparkTsvFileSource<T> extends UnarySource<T> implements SparkExecut
 //            }
 //        }
 
-        final String specification = configuration.getStringProperty("rheem.spark.tsvfilesource.load");
-        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(specification);
+        final NestableLoadProfileEstimator mainEstimator = NestableLoadProfileEstimator.parseSpecification(
+                configuration, "rheem.spark.tsvfilesource.load"
+        );
         return Optional.of(mainEstimator);
     }
 
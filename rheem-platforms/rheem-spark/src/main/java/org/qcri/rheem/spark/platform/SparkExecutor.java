@@ -1,24 +1,39 @@
 package org.qcri.rheem.spark.platform;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.function.ExtendedFunction;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
 import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.PushExecutorTemplate;
+import org.qcri.rheem.core.util.Action;
+import org.qcri.rheem.core.util.Actions;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.spark.compiler.FunctionCompiler;
 import org.qcri.rheem.spark.execution.SparkExecutionContext;
+import org.qcri.rheem.spark.execution.SparkLoopBody;
 import org.qcri.rheem.spark.operators.SparkExecutionOperator;
+import org.qcri.rheem.spark.operators.SparkLoopHeadOperator;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * {@link Executor} implementation for the {@link SparkPlatform}.
+ * <p>Loops are run within a single invocation of this instance whenever their bodies consist of
+ * {@link SparkExecutionOperator}s only (cf. {@link SparkLoopHeadOperator}). Otherwise, Rheem drives them iteration by
+ * iteration. In both cases, the lineage of the loop data is truncated periodically.</p>
  */
 public class SparkExecutor extends PushExecutorTemplate {
 
@@ -38,6 +53,22 @@ public class SparkExecutor extends PushExecutorTemplate {
 
     private final SparkPlatform platform;
 
+    /**
+     * Releases the most recent lineage truncation of each loop, once it is superseded by the next one.
+     */
+    private final Map<LoopHeadOperator, Action> loopCheckpointReleases = new HashMap<>();
+
+    /**
+     * Temporary files that have been created by this instance and should be deleted on {@link #dispose()}.
+     */
+    private final List<String> tempPaths = new LinkedList<>();
+
+    /**
+     * The {@link ExecutionState} of the {@link ExecutionStage} that is currently being executed. It provides the
+     * inputs from outside of loops to loops that are run within a single invocation.
+     */
+    private ExecutionState executionState;
+
     public SparkExecutor(SparkPlatform platform, Job job) {
         super(job);
         this.platform = platform;
@@ -46,6 +77,16 @@ public class SparkExecutor extends PushExecutorTemplate {
         this.sc = this.sparkContextReference.get();
     }
 
+    @Override
+    public void execute(ExecutionStage stage, ExecutionState executionState) {
+        this.executionState = executionState;
+        try {
+            super.execute(stage, executionState);
+        } finally {
+            this.executionState = null;
+        }
+    }
+
     @Override
     protected void open(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
         // Nothing to do. Opening is handled in #execute(...).
@@ -56,8 +97,20 @@ public class SparkExecutor extends PushExecutorTemplate {
         // Provide the ChannelInstances for the output of the task.
         final ChannelInstance[] outputChannelInstances = this.createOutputChannelInstances(task);
 
-        // Execute.
-        cast(task.getOperator()).evaluate(toArray(inputChannelInstances), outputChannelInstances, this.compiler, this);
+        // Execute. Loops that have not started yet are run within this invocation if possible.
+        final ExecutionOperator operator = task.getOperator();
+        final SparkLoopBody loopBody = operator instanceof SparkLoopHeadOperator &&
+                ((LoopHeadOperator) operator).getState() == LoopHeadOperator.State.NOT_STARTED &&
+                this.executionState != null ?
+                SparkLoopBody.createFor(task, this.executionState, this) :
+                null;
+        if (loopBody != null) {
+            ((SparkLoopHeadOperator) operator).evaluateNatively(
+                    toArray(inputChannelInstances), outputChannelInstances, loopBody, this.compiler, this
+            );
+        } else {
+            cast(operator).evaluate(toArray(inputChannelInstances), outputChannelInstances, this.compiler, this);
+        }
 
         // Force execution if necessary.
         if (isForceExecution) {
@@ -73,7 +126,13 @@ public class SparkExecutor extends PushExecutorTemplate {
         return Arrays.asList(outputChannelInstances);
     }
 
-    private ChannelInstance[] createOutputChannelInstances(ExecutionTask task) {
+    /**
+     * Creates {@link ChannelInstance}s for the output {@link Channel}s of the given {@link ExecutionTask}.
+     *
+     * @param task whose output {@link ChannelInstance}s are requested
+     * @return the {@link ChannelInstance}s
+     */
+    public ChannelInstance[] createOutputChannelInstances(ExecutionTask task) {
         ChannelInstance[] channelInstances = new ChannelInstance[task.getNumOuputChannels()];
         for (int outputIndex = 0; outputIndex < channelInstances.length; outputIndex++) {
             final Channel outputChannel = task.getOutputChannel(outputIndex);
@@ -91,6 +150,113 @@ public class SparkExecutor extends PushExecutorTemplate {
         return channelInstances.toArray(array);
     }
 
+    /**
+     * Truncates the lineage of a {@link JavaRDD} that is passed on from one loop iteration to the next, if this is
+     * due according to {@code rheem.spark.loop.checkpoint-interval}. Otherwise, the lineage would grow with every
+     * iteration, thereby increasing the scheduling overhead and the cost of failure recovery.
+     * <p>If {@code rheem.spark.checkpoint.dir} is configured, the loop data is written to a temporary object file
+     * therein and read back. Otherwise, we fall back to a local checkpoint. Either way, the truncated
+     * {@link JavaRDD} is materialized right away, so that the previous truncation of the same loop can be
+     * released.</p>
+     *
+     * @param rdd       the loop data
+     * @param iteration the number of the current iteration (starting at {@code 1})
+     * @param loopHead  the {@link LoopHeadOperator} of the loop
+     * @return the {@link JavaRDD} to be used by the next iteration
+     */
+    public <T> JavaRDD<T> truncateLoopLineageIfDue(JavaRDD<T> rdd, int iteration, LoopHeadOperator loopHead) {
+        if (!this.isLoopLineageTruncationDue(iteration)) {
+            return rdd;
+        }
+
+        this.logger.debug("Truncating the lineage of {} in iteration {}.", rdd, iteration);
+        final Optional<String> checkpointDir = this.getConfiguration().getOptionalStringProperty("rheem.spark.checkpoint.dir");
+        final JavaRDD<T> truncatedRdd;
+        final Action release;
+        if (checkpointDir.isPresent()) {
+            final String path = this.createTempPath(checkpointDir.get());
+            rdd.saveAsObjectFile(path);
+            truncatedRdd = this.sc.objectFile(path);
+            release = () -> deleteSafely(path);
+        } else {
+            // Checkpoint a dedicated JavaRDD, as releasing the ChannelInstance of the rdd might unpersist the latter.
+            truncatedRdd = rdd.filter(dataQuantum -> true);
+            truncatedRdd.rdd().localCheckpoint();
+            truncatedRdd.count();
+            release = () -> truncatedRdd.unpersist(false);
+        }
+
+        final Action previousRelease = this.loopCheckpointReleases.put(loopHead, release);
+        if (previousRelease != null) {
+            Actions.doSafe(previousRelease);
+        }
+        return truncatedRdd;
+    }
+
+    /**
+     * Tells whether the lineage of loop data should be truncated in the given iteration according to
+     * {@code rheem.spark.loop.checkpoint-interval}.
+     *
+     * @param iteration the number of the current iteration (starting at {@code 1})
+     * @return whether the lineage should be truncated
+     */
+    public boolean isLoopLineageTruncationDue(int iteration) {
+        final long interval = this.getConfiguration().getLongProperty("rheem.spark.loop.checkpoint-interval", 10L);
+        return interval > 0 && iteration % interval == 0;
+    }
+
+    /**
+     * Creates a path for a temporary file in the given directory that is deleted once this instance is disposed.
+     */
+    private String createTempPath(String directory) {
+        final String path = String.format("%s/spark-%s.tmp", StringUtils.removeEnd(directory, "/"), UUID.randomUUID());
+        this.tempPaths.add(path);
+        return path;
+    }
+
+    private static void deleteSafely(String path) {
+        Actions.doSafe(() -> {
+            final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(path);
+            if (fileSystem.isPresent()) fileSystem.get().delete(path, true);
+        });
+    }
+
+    /**
+     * Determines the number of partitions for a shuffle that produces the given output of an {@link ExecutionOperator}.
+     * Unless {@code rheem.spark.shuffle.partitions} prescribes a fixed number, it is derived from the optimizer's
+     * {@link CardinalityEstimate} for that output, so that each partition receives about
+     * {@code rheem.spark.shuffle.records-per-partition} data quanta. If there is no such estimate, the number of
+     * partitions of the {@code inputRdd} is retained.
+     *
+     * @param operator    whose output is produced by the shuffle
+     * @param outputIndex index of the output
+     * @param inputRdd    the {@link JavaRDD} to be shuffled
+     * @return the number of partitions
+     */
+    public int getNumShufflePartitions(ExecutionOperator operator, int outputIndex, JavaRDD<?> inputRdd) {
+        final Configuration configuration = this.getConfiguration();
+        final long fixedNumPartitions = configuration.getLongProperty("rheem.spark.shuffle.partitions", 0L);
+        if (fixedNumPartitions > 0) {
+            return (int) fixedNumPartitions;
+        }
+
+        final OptimizationContext optimizationContext = this.job.getOptimizationContext();
+        final OptimizationContext.OperatorContext operatorContext = optimizationContext == null ?
+                null :
+                optimizationContext.getOperatorContext(operator);
+        final CardinalityEstimate cardinality = operatorContext == null ?
+                null :
+                operatorContext.getOutputCardinality(outputIndex);
+        if (cardinality == null) {
+            return inputRdd.partitions().size();
+        }
+
+        final long recordsPerPartition = configuration.getLongProperty("rheem.spark.shuffle.records-per-partition", 100000L);
+        final long maxPartitions = configuration.getLongProperty("rheem.spark.shuffle.max-partitions", 10000L);
+        final long numPartitions = (cardinality.getAverageEstimate() + recordsPerPartition - 1) / recordsPerPartition;
+        return (int) Math.max(1L, Math.min(maxPartitions, numPartitions));
+    }
+
     public static void openFunction(SparkExecutionOperator operator, Object function, ChannelInstance[] inputs) {
         if (function instanceof ExtendedFunction) {
             ExtendedFunction extendedFunction = (ExtendedFunction) function;
@@ -110,6 +276,10 @@ public class SparkExecutor extends PushExecutorTemplate {
     @Override
     public void dispose() {
         super.dispose();
+        this.loopCheckpointReleases.values().forEach(Actions::doSafe);
+        this.loopCheckpointReleases.clear();
+        this.tempPaths.forEach(SparkExecutor::deleteSafely);
+        this.tempPaths.clear();
         this.sparkContextReference.noteDiscardedReference(true);
     }
 }
@@ -147,6 +147,7 @@ public class SparkPlatform extends Platform {
         this.mappings.add(new DistinctToSparkDistinctMapping());
         this.mappings.add(new FilterToSparkFilterMapping());
         this.mappings.add(new GlobalReduceMapping());
+        this.mappings.add(new JoinToSparkJoinMapping());
         this.mappings.add(new LocalCallbackSinkMapping());
         this.mappings.add(new FlatMapToSparkFlatMapMapping());
         this.mappings.add(new MapOperatorToSparkMapOperatorMapping());
@@ -158,6 +159,7 @@ public class SparkPlatform extends Platform {
         this.mappings.add(new UnionAllToSparkUnionAllMapping());
         this.mappings.add(new LoopToSparkLoopMapping());
         this.mappings.add(new DoWhileMapping());
+        this.mappings.add(new DeltaIterationToSparkDeltaIterationMapping());
         this.mappings.add(new SampleToSparkSampleMapping());
     }
 
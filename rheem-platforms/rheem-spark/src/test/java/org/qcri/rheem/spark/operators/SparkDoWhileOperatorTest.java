@@ -0,0 +1,178 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.executionplan.PlatformExecution;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SparkLoopBody;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for {@link SparkDoWhileOperator}.
+ */
+public class SparkDoWhileOperatorTest extends SparkOperatorTestBase {
+
+    private static final int CHECKPOINT_INTERVAL = 5;
+
+    private static final int NUM_ITERATIONS = 23;
+
+    /**
+     * Runs a {@link SparkDoWhileOperator} that never converges for {@link #NUM_ITERATIONS} iterations. The loop body
+     * increments the data quanta.
+     *
+     * @return the loop data after the last iteration
+     */
+    private JavaRDD<Integer> runLoop() {
+        final SparkDoWhileOperator<Integer, Integer> doWhileOperator = new SparkDoWhileOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                (PredicateDescriptor.SerializablePredicate<Collection<Integer>>) convergence -> false
+        );
+
+        ChannelInstance[] inputs = new ChannelInstance[]{this.createRddChannelInstance(Arrays.asList(0, 1, 2)), null, null};
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            final RddChannel.Instance iterationOutput = this.createRddChannelInstance();
+            final ChannelInstance[] outputs = new ChannelInstance[]{iterationOutput, this.createRddChannelInstance()};
+            doWhileOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.sparkExecutor);
+
+            final RddChannel.Instance iterationInput = this.createRddChannelInstance();
+            iterationInput.accept(iterationOutput.<Integer>provideRdd().map(i -> i + 1), this.sparkExecutor);
+            inputs = new ChannelInstance[]{
+                    null, iterationInput, this.createCollectionChannelInstance(Collections.singleton(0))
+            };
+        }
+        return ((RddChannel.Instance) inputs[SparkDoWhileOperator.ITERATION_INPUT_INDEX]).provideRdd();
+    }
+
+    private static int getLineageDepth(JavaRDD<?> rdd) {
+        return rdd.toDebugString().split("\n").length;
+    }
+
+    @Test
+    public void testLineageDepthStaysBoundedWithLocalCheckpoints() {
+        // Prepare the configuration.
+        this.configuration.setProperty("rheem.spark.loop.checkpoint-interval", String.valueOf(CHECKPOINT_INTERVAL));
+
+        // Execute.
+        final JavaRDD<Integer> loopData = this.runLoop();
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(23, 24, 25), loopData.collect());
+        final int lineageDepth = getLineageDepth(loopData);
+        Assert.assertTrue(String.format("Lineage depth is %d.", lineageDepth), lineageDepth <= 2 * CHECKPOINT_INTERVAL);
+    }
+
+    @Test
+    public void testLineageDepthStaysBoundedWithCheckpointFiles() throws IOException {
+        // Prepare the configuration.
+        final Path checkpointDir = Files.createTempDirectory("rheem-spark-checkpoints");
+        checkpointDir.toFile().deleteOnExit();
+        this.configuration.setProperty("rheem.spark.loop.checkpoint-interval", String.valueOf(CHECKPOINT_INTERVAL));
+        this.configuration.setProperty("rheem.spark.checkpoint.dir", checkpointDir.toUri().toString());
+
+        try {
+            // Execute.
+            final JavaRDD<Integer> loopData = this.runLoop();
+
+            // Verify the outcome.
+            Assert.assertEquals(Arrays.asList(23, 24, 25), loopData.collect());
+            final int lineageDepth = getLineageDepth(loopData);
+            Assert.assertTrue(String.format("Lineage depth is %d.", lineageDepth), lineageDepth <= 2 * CHECKPOINT_INTERVAL);
+            // Superseded checkpoints should have been deleted.
+            final File[] checkpointFiles = checkpointDir.toFile().listFiles();
+            Assert.assertNotNull(checkpointFiles);
+            Assert.assertEquals(1, checkpointFiles.length);
+        } finally {
+            this.sparkExecutor.dispose();
+        }
+    }
+
+    @Test
+    public void testNativeExecution() {
+        // Prepare test data: The loop body increments the data quanta, which also serve as convergence data, until
+        // all of them are at least 10.
+        final SparkDoWhileOperator<Integer, Integer> doWhileOperator = new SparkDoWhileOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                (PredicateDescriptor.SerializablePredicate<Collection<Integer>>) convergence ->
+                        convergence.stream().allMatch(i -> i >= 10)
+        );
+        final SparkMapOperator<Integer, Integer> incrementOperator = new SparkMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)
+        );
+        final ExecutionTask loopHeadTask = new ExecutionTask(doWhileOperator);
+        final ExecutionTask incrementTask = new ExecutionTask(incrementOperator);
+        this.connect(loopHeadTask, SparkDoWhileOperator.ITERATION_OUTPUT_INDEX, incrementTask, 0);
+        this.connect(incrementTask, 0, loopHeadTask, SparkDoWhileOperator.ITERATION_INPUT_INDEX);
+        this.connect(incrementTask, 0, loopHeadTask, SparkDoWhileOperator.CONVERGENCE_INPUT_INDEX);
+        final ExecutionStage stage = new PlatformExecution(SparkPlatform.getInstance()).createStage(null, 0);
+        stage.addTask(loopHeadTask);
+        stage.addTask(incrementTask);
+
+        // Execute.
+        final SparkLoopBody loopBody = SparkLoopBody.createFor(loopHeadTask, mock(ExecutionState.class), this.sparkExecutor);
+        Assert.assertNotNull(loopBody);
+        final ChannelInstance[] inputs = new ChannelInstance[]{this.createRddChannelInstance(Arrays.asList(0, 1, 2)), null, null};
+        final ChannelInstance[] outputs = new ChannelInstance[]{this.createRddChannelInstance(), this.createRddChannelInstance()};
+        doWhileOperator.evaluateNatively(inputs, outputs, loopBody, new FunctionCompiler(), this.sparkExecutor);
+
+        // Verify the outcome: The loop stops right after the first iteration that satisfies the condition.
+        Assert.assertEquals(LoopHeadOperator.State.FINISHED, doWhileOperator.getState());
+        Assert.assertNull(outputs[SparkDoWhileOperator.ITERATION_OUTPUT_INDEX]);
+        final JavaRDD<Integer> finalOutput =
+                ((RddChannel.Instance) outputs[SparkDoWhileOperator.FINAL_OUTPUT_INDEX]).provideRdd();
+        Assert.assertEquals(Arrays.asList(10, 11, 12), finalOutput.collect());
+    }
+
+    /**
+     * Connects the given output of the {@code producer} to the given input of the {@code consumer} via an uncached
+     * {@link RddChannel}.
+     */
+    private void connect(ExecutionTask producer, int outputIndex, ExecutionTask consumer, int inputIndex) {
+        Channel channel = producer.getOutputChannel(outputIndex);
+        if (channel == null) {
+            channel = RddChannel.UNCACHED_DESCRIPTOR.createChannel(
+                    producer.getOperator().getOutput(outputIndex), this.configuration
+            );
+            producer.setOutputChannel(outputIndex, channel);
+        }
+        channel.addConsumer(consumer, inputIndex);
+    }
+
+    @Test
+    public void testLineageGrowsWithoutCheckpoints() {
+        // Prepare the configuration.
+        this.configuration.setProperty("rheem.spark.loop.checkpoint-interval", "0");
+
+        // Execute.
+        final JavaRDD<Integer> loopData = this.runLoop();
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(23, 24, 25), loopData.collect());
+        Assert.assertTrue(getLineageDepth(loopData) > NUM_ITERATIONS);
+    }
+
+}
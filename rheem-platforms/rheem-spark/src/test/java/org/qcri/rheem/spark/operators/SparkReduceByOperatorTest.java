@@ -72,4 +72,38 @@ public class SparkReduceByOperatorTest extends SparkOperatorTestBase {
         Assert.assertEquals(expectedResults.length, resultSet.size());
 
     }
+
+    @Test
+    public void testExecutionWithFixedNumPartitions() {
+        // Prepare test data.
+        List<Tuple2<String, Integer>> inputList = Arrays.stream("aaabbccccdeefff".split(""))
+                .map(string -> new Tuple2<>(string, 1))
+                .collect(Collectors.toList());
+        RddChannel.Instance input = this.createRddChannelInstance(inputList);
+        RddChannel.Instance output = this.createRddChannelInstance();
+        this.configuration.setProperty("rheem.spark.shuffle.partitions", "3");
+
+        // Build the reduce operator.
+        SparkReduceByOperator<Tuple2<String, Integer>, String> reduceByOperator =
+                new SparkReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(String.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        // Execute.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+        reduceByOperator.evaluate(inputs, outputs, new FunctionCompiler(), this.sparkExecutor);
+
+        // Verify the outcome.
+        Assert.assertEquals(3, output.provideRdd().partitions().size());
+        Assert.assertEquals(6, output.provideRdd().count());
+    }
 }
@@ -0,0 +1,134 @@
+package org.qcri.rheem.spark.platform;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.operators.SparkDistinctOperator;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SparkExecutor}.
+ */
+public class SparkExecutorTest {
+
+    private Configuration configuration;
+
+    private Job job;
+
+    private SparkExecutor sparkExecutor;
+
+    private SparkDistinctOperator<Integer> operator;
+
+    private JavaRDD<Integer> inputRdd;
+
+    @Before
+    public void setUp() {
+        this.configuration = new Configuration();
+        this.configuration.setProperty("rheem.spark.shuffle.records-per-partition", "100");
+        this.configuration.setProperty("rheem.spark.shuffle.max-partitions", "50");
+        this.job = mock(Job.class);
+        when(this.job.getConfiguration()).thenReturn(this.configuration);
+        this.sparkExecutor = (SparkExecutor) SparkPlatform.getInstance().getExecutorFactory().create(this.job);
+        this.operator = new SparkDistinctOperator<>(DataSetType.createDefault(Integer.class));
+        this.inputRdd = this.sparkExecutor.sc.parallelize(Arrays.asList(1, 2, 3, 4, 5, 6), 3);
+    }
+
+    @After
+    public void tearDown() {
+        this.sparkExecutor.dispose();
+    }
+
+    /**
+     * Provides the {@link #operator} with an {@link OptimizationContext} and the given output
+     * {@link CardinalityEstimate}, if any.
+     */
+    private void setOutputCardinality(CardinalityEstimate cardinality) {
+        final OptimizationContext optimizationContext = new OptimizationContext(this.operator, this.configuration);
+        if (cardinality != null) {
+            optimizationContext.getOperatorContext(this.operator).setOutputCardinality(0, cardinality);
+        }
+        when(this.job.getOptimizationContext()).thenReturn(optimizationContext);
+    }
+
+    @Test
+    public void testShufflePartitionsWithoutOptimizationContext() {
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(3, numPartitions);
+    }
+
+    @Test
+    public void testShufflePartitionsWithoutCardinalityEstimate() {
+        // Prepare test data.
+        this.setOutputCardinality(null);
+
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(3, numPartitions);
+    }
+
+    @Test
+    public void testShufflePartitionsFromCardinalityEstimate() {
+        // Prepare test data: The average estimate of 1001 data quanta requires 11 partitions of 100 data quanta.
+        this.setOutputCardinality(new CardinalityEstimate(902, 1100, 0.9));
+
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(11, numPartitions);
+    }
+
+    @Test
+    public void testShufflePartitionsAreAtLeastOne() {
+        // Prepare test data.
+        this.setOutputCardinality(new CardinalityEstimate(0, 0, 1d));
+
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(1, numPartitions);
+    }
+
+    @Test
+    public void testShufflePartitionsAreAtMostMaxPartitions() {
+        // Prepare test data.
+        this.setOutputCardinality(new CardinalityEstimate(1000000, 1000000, 1d));
+
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(50, numPartitions);
+    }
+
+    @Test
+    public void testFixedShufflePartitionsOverrideCardinalityEstimate() {
+        // Prepare test data.
+        this.configuration.setProperty("rheem.spark.shuffle.partitions", "7");
+        this.setOutputCardinality(new CardinalityEstimate(1000000, 1000000, 1d));
+
+        // Execute.
+        final int numPartitions = this.sparkExecutor.getNumShufflePartitions(this.operator, 0, this.inputRdd);
+
+        // Verify the outcome.
+        Assert.assertEquals(7, numPartitions);
+    }
+
+}
@@ -3,6 +3,7 @@ package org.qcri.rheem.profiler.java;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.profiling.LoadMeasurement;
 import org.qcri.rheem.core.util.RheemArrays;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.java.channels.CollectionChannel;
@@ -15,7 +16,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -66,10 +69,34 @@ public abstract class OperatorProfiler {
                 outputCardinality,
                 this.provideDiskBytes(),
                 this.provideNetworkBytes(),
-                cpuCycles
+                cpuCycles,
+                this.createLoadMeasurement(outputCardinality, (endCpuTime - startCpuTime) / 1000000L)
         );
     }
 
+    /**
+     * Creates a {@link LoadMeasurement} for the profiled {@link #operator}.
+     *
+     * @return the {@link LoadMeasurement} or {@code null} if the {@link #operator} has no calibratable load
+     * specification
+     */
+    private LoadMeasurement createLoadMeasurement(long outputCardinality, long cpuMillis) {
+        // Sources are profiled with an input cardinality, though.
+        final long[] operatorInputCardinalities = this.inputCardinalities.stream()
+                .limit(this.operator.getNumInputs())
+                .mapToLong(Long::longValue)
+                .toArray();
+        final long[] operatorOutputCardinalities = this.operator.getNumOutputs() == 0 ?
+                new long[0] :
+                new long[]{outputCardinality};
+        return LoadMeasurement.createTerm(
+                this.operator, operatorInputCardinalities, operatorOutputCardinalities, new Configuration()
+        )
+                .filter(term -> term.getConfigurationKey() != null)
+                .map(term -> new LoadMeasurement(cpuMillis, Collections.singletonList(term)))
+                .orElse(null);
+    }
+
     private long calculateCpuCycles(long startNanos, long endNanos) {
         long passedNanos = endNanos - startNanos;
         double cyclesPerNano = (this.cpuMhz * 1e6) / 1e9;
@@ -118,12 +145,23 @@ public abstract class OperatorProfiler {
 
         private final long cpuCycles;
 
+        /**
+         * Describes the profiling run for the calibration of the load specification or {@code null} if none.
+         */
+        private final LoadMeasurement loadMeasurement;
+
         public Result(List<Long> inputCardinalities, long outputCardinality, long diskBytes, long networkBytes, long cpuCycles) {
+            this(inputCardinalities, outputCardinality, diskBytes, networkBytes, cpuCycles, null);
+        }
+
+        public Result(List<Long> inputCardinalities, long outputCardinality, long diskBytes, long networkBytes, long cpuCycles,
+                      LoadMeasurement loadMeasurement) {
             this.inputCardinalities = inputCardinalities;
             this.outputCardinality = outputCardinality;
             this.diskBytes = diskBytes;
             this.networkBytes = networkBytes;
             this.cpuCycles = cpuCycles;
+            this.loadMeasurement = loadMeasurement;
         }
 
         public List<Long> getInputCardinalities() {
@@ -146,6 +184,16 @@ public abstract class OperatorProfiler {
             return this.cpuCycles;
         }
 
+        /**
+         * Converts this instance into a {@link LoadMeasurement} that can be used for calibration.
+         *
+         * @return the {@link LoadMeasurement} or {@link Optional#empty()} if the profiled operator has no
+         * load specification
+         */
+        public Optional<LoadMeasurement> toLoadMeasurement() {
+            return Optional.ofNullable(this.loadMeasurement);
+        }
+
         @Override
         public String toString() {
             return "Result{" +
@@ -2,6 +2,7 @@ package org.qcri.rheem.profiler.java;
 
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.profiling.LoadMeasurementRepository;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.core.util.StopWatch;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
@@ -21,7 +22,7 @@ public class Profiler {
 
     public static void main(String[] args) {
         if (args.length == 0) {
-            System.err.printf("Usage: java %s <operator to profile> <cardinality>[,<cardinality>]\n", Profiler.class);
+            System.err.printf("Usage: java %s <operator to profile> <cardinality>[,<cardinality>] [<load measurement repository>]\n", Profiler.class);
             System.exit(1);
         }
 
@@ -147,6 +148,12 @@ public class Profiler {
         System.out.println();
         System.out.println(RheemCollections.getAny(results).getCsvHeader());
         results.forEach(result -> System.out.println(result.toCsvString()));
+
+        if (args.length > 2) {
+            try (LoadMeasurementRepository repository = new LoadMeasurementRepository(args[2])) {
+                results.forEach(result -> result.toLoadMeasurement().ifPresent(repository::store));
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,39 @@
+package org.qcri.rheem.profiler.util;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.profiling.LoadMeasurement;
+import org.qcri.rheem.core.profiling.LoadMeasurementRepository;
+import org.qcri.rheem.core.profiling.LoadProfileCalibrator;
+import org.qcri.rheem.java.JavaPlatform;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+
+import java.util.List;
+
+/**
+ * Calibrates the load specifications of the operators from a {@link LoadMeasurementRepository} and writes them to
+ * a properties file, which can then be used as Rheem configuration file (or loaded into a {@link Configuration}).
+ */
+public class LoadProfileCalibration {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.printf("Usage: java %s <load measurement repository> <output properties file> [<configuration URL>]\n",
+                    LoadProfileCalibration.class);
+            System.exit(1);
+        }
+
+        // Make sure that the default load specifications are loaded.
+        JavaPlatform.getInstance();
+        SparkPlatform.getInstance();
+        final Configuration configuration = args.length > 2 ? new Configuration(args[2]) : new Configuration();
+
+        final List<LoadMeasurement> loadMeasurements = new LoadMeasurementRepository(args[0]).loadAll();
+        System.out.printf("Loaded %d load measurements from %s.\n", loadMeasurements.size(), args[0]);
+
+        final LoadProfileCalibrator calibrator = new LoadProfileCalibrator(configuration);
+        calibrator.addMeasurements(loadMeasurements);
+        calibrator.writeCalibration(args[1]);
+        System.out.printf("Wrote calibrated load specifications to %s.\n", args[1]);
+    }
+
+}
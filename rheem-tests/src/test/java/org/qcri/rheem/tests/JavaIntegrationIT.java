@@ -2,6 +2,7 @@ package org.qcri.rheem.tests;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.operators.CollectionSource;
 import org.qcri.rheem.basic.operators.FilterOperator;
 import org.qcri.rheem.basic.operators.LocalCallbackSink;
@@ -230,6 +231,31 @@ public class JavaIntegrationIT {
         System.out.println(collector);
     }
 
+    @Test
+    public void testDeltaConnectedComponents() {
+        // Build the RheemPlan.
+        final List<Tuple2<Integer, Integer>> collector = new LinkedList<>();
+        RheemPlan rheemPlan = RheemPlans.deltaConnectedComponents(
+                Arrays.asList(new Tuple2<>(1, 2), new Tuple2<>(2, 3), new Tuple2<>(3, 4), new Tuple2<>(5, 6)),
+                Arrays.asList(1, 2, 3, 4, 5, 6, 7),
+                collector
+        );
+
+        // Instantiate Rheem and activate the Java backend.
+        RheemContext rheemContext = new RheemContext();
+        rheemContext.register(JavaPlatform.getInstance());
+
+        rheemContext.execute(rheemPlan);
+
+        // Verify the outcome.
+        final Set<Tuple2<Integer, Integer>> expectedLabels = new HashSet<>(Arrays.asList(
+                new Tuple2<>(1, 1), new Tuple2<>(2, 1), new Tuple2<>(3, 1), new Tuple2<>(4, 1),
+                new Tuple2<>(5, 5), new Tuple2<>(6, 5), new Tuple2<>(7, 7)
+        ));
+        Assert.assertEquals(expectedLabels, new HashSet<>(collector));
+        Assert.assertEquals(expectedLabels.size(), collector.size());
+    }
+
     @Test
     public void testSample() throws URISyntaxException {
         // Build the RheemPlan.
@@ -344,4 +370,27 @@ public class JavaIntegrationIT {
         Collections.sort(collectedValues);
         Assert.assertEquals(expectedValues, collectedValues);
     }
+
+    @Test
+    public void testPageRank() {
+        // Build the RheemPlan.
+        List<Tuple2<Character, Float>> pageRankList = new ArrayList<>();
+        RheemPlan rheemPlan = RheemPlans.createCrossCommunityPageRank(pageRankList);
+
+        // Instantiate Rheem and activate the Java backend.
+        RheemContext rheemContext = new RheemContext();
+        rheemContext.register(JavaPlatform.getInstance());
+
+        rheemContext.execute(rheemPlan);
+
+        // Verify the outcome: 20 iterations of the un-normalized PageRank.
+        final Map<Character, Float> pageRanks = pageRankList.stream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+        final char[] vertices = {'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K'};
+        final float[] expectedPageRanks = {0.304f, 3.522f, 3.226f, 0.363f, 0.750f, 0.363f, 0.15f, 0.15f, 0.15f, 0.15f, 0.15f};
+        Assert.assertEquals(vertices.length, pageRanks.size());
+        for (int i = 0; i < vertices.length; i++) {
+            Assert.assertEquals(expectedPageRanks[i], pageRanks.get(vertices[i]), 0.001f);
+        }
+    }
 }
@@ -250,6 +250,133 @@ public class RheemPlans {
         return new RheemPlan(sink);
     }
 
+    /**
+     * Creates a {@link RheemPlan} that labels each vertex of an undirected graph with the smallest vertex ID in its
+     * connected component via a {@link DeltaIterationOperator}. Only vertices whose labels have changed are
+     * propagated in the next iteration. Finally, the {@code (vertex, label)} pairs are collected in the
+     * {@code collector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static RheemPlan deltaConnectedComponents(Collection<Tuple2<Integer, Integer>> edges,
+                                                     Collection<Integer> vertices,
+                                                     Collection<Tuple2<Integer, Integer>> collector) {
+        final DataSetType<Tuple2<Integer, Integer>> tupleType = DataSetType.createDefaultUnchecked(Tuple2.class);
+        // NB: Using the same key descriptor for the delta iteration and the join lets the latter probe the solution set.
+        final TransformationDescriptor<Tuple2<Integer, Integer>, Integer> vertexKey = new TransformationDescriptor<>(
+                Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class)
+        );
+
+        List<Tuple2<Integer, Integer>> undirectedEdges = new ArrayList<>();
+        for (Tuple2<Integer, Integer> edge : edges) {
+            undirectedEdges.add(edge);
+            undirectedEdges.add(new Tuple2<>(edge.field1, edge.field0));
+        }
+        CollectionSource<Tuple2<Integer, Integer>> edgeSource = new CollectionSource<>(undirectedEdges, tupleType);
+        edgeSource.setName("edges");
+        List<Tuple2<Integer, Integer>> initialLabels = vertices.stream()
+                .map(vertex -> new Tuple2<>(vertex, vertex))
+                .collect(Collectors.toList());
+        CollectionSource<Tuple2<Integer, Integer>> solutionSetSource = new CollectionSource<>(initialLabels, tupleType);
+        solutionSetSource.setName("initialSolutionSet");
+        CollectionSource<Tuple2<Integer, Integer>> worksetSource = new CollectionSource<>(initialLabels, tupleType);
+        worksetSource.setName("initialWorkset");
+
+        DeltaIterationOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>, Integer> deltaIteration =
+                new DeltaIterationOperator<>(tupleType, tupleType, vertexKey, 10);
+        deltaIteration.setName("deltaIteration");
+        deltaIteration.initialize(solutionSetSource, worksetSource);
+
+        // Send the label of each changed vertex to its neighbors.
+        JoinOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>, Integer> neighborJoin = new JoinOperator<>(
+                tupleType, tupleType,
+                new TransformationDescriptor<>(Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class)),
+                new TransformationDescriptor<>(Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class))
+        );
+        neighborJoin.setName("neighborJoin");
+        deltaIteration.beginIteration(neighborJoin, 0);
+        edgeSource.connectTo(0, neighborJoin, 1);
+
+        MapOperator<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>>, Tuple2<Integer, Integer>> candidates =
+                new MapOperator<>(
+                        new TransformationDescriptor<>(
+                                join -> new Tuple2<>(join.field1.field1, join.field0.field1),
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        tupleType
+                );
+        candidates.setName("candidates");
+        neighborJoin.connectTo(0, candidates, 0);
+
+        ReduceByOperator<Tuple2<Integer, Integer>, Integer> minCandidate = new ReduceByOperator<>(
+                new TransformationDescriptor<>(Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class)),
+                new ReduceDescriptor<>(
+                        (a, b) -> a.field1 <= b.field1 ? a : b,
+                        DataUnitType.createGroupedUnchecked(Tuple2.class),
+                        DataUnitType.createBasicUnchecked(Tuple2.class)
+                ),
+                tupleType
+        );
+        minCandidate.setName("minCandidate");
+        candidates.connectTo(0, minCandidate, 0);
+
+        // Keep only those candidates that improve the current label.
+        JoinOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>, Integer> solutionSetJoin = new JoinOperator<>(
+                tupleType, tupleType,
+                new TransformationDescriptor<>(Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class)),
+                vertexKey
+        );
+        solutionSetJoin.setName("solutionSetJoin");
+        minCandidate.connectTo(0, solutionSetJoin, 0);
+        deltaIteration.provideSolutionSet(solutionSetJoin, 1);
+
+        FilterOperator<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>>> improvementFilter = new FilterOperator<>(
+                new PredicateDescriptor<>(
+                        join -> join.field0.field1 < join.field1.field1,
+                        DataUnitType.createBasicUnchecked(Tuple2.class)
+                ),
+                DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        improvementFilter.setName("improvementFilter");
+        solutionSetJoin.connectTo(0, improvementFilter, 0);
+
+        MapOperator<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>>, Tuple2<Integer, Integer>> delta =
+                new MapOperator<>(
+                        new TransformationDescriptor<>(
+                                join -> join.field0,
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        tupleType
+                );
+        delta.setName("delta");
+        improvementFilter.connectTo(0, delta, 0);
+
+        // NB: The changed vertices form the next workset. Feeding both loop head inputs from the same operator is not
+        // supported, yet.
+        MapOperator<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>>, Tuple2<Integer, Integer>> nextWorkset =
+                new MapOperator<>(
+                        new TransformationDescriptor<>(
+                                join -> join.field0,
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        tupleType
+                );
+        nextWorkset.setName("nextWorkset");
+        improvementFilter.connectTo(0, nextWorkset, 0);
+        deltaIteration.endIteration(delta, nextWorkset);
+
+        LocalCallbackSink<Tuple2<Integer, Integer>> sink = LocalCallbackSink.createCollectingSink(collector, tupleType);
+        sink.setName("sink");
+        deltaIteration.outputConnectTo(sink);
+
+        return new RheemPlan(sink);
+    }
+
     /**
      * Creates a {@link RheemPlan} with a {@link CollectionSource} that is fed into a {@link SampleOperator}. It will
      * then map each value to its double and output the results in the {@code collector}.
@@ -277,9 +404,19 @@ public class RheemPlans {
     }
 
     /**
-     * Creates a cross-community PageRank Rheem plan, that incorporates the {@link PageRankOperator}.
+     * Creates a cross-community PageRank Rheem plan, that incorporates the {@link PageRankOperator}, and prints the
+     * page ranks.
      */
     public static RheemPlan createCrossCommunityPageRank() {
+        return createCrossCommunityPageRank(null);
+    }
+
+    /**
+     * Creates a cross-community PageRank Rheem plan, that incorporates the {@link PageRankOperator}.
+     *
+     * @param collector collects the {@code (vertex, page rank)} pairs or {@code null} to print them
+     */
+    public static RheemPlan createCrossCommunityPageRank(Collection<Tuple2<Character, Float>> collector) {
         // Get some graph data. Use the example from Wikipedia: https://en.wikipedia.org/wiki/PageRank
         Collection<char[]> adjacencies = Arrays.asList(
                 new char[]{'B', 'C'},
@@ -293,19 +430,6 @@ public class RheemPlans {
                 new char[]{'J', 'E'},
                 new char[]{'K', 'E'}
         );
-        Collection<Tuple2<Character, Float>> pageRanks = Arrays.asList(
-                new Tuple2<>('A', 0.033f),
-                new Tuple2<>('B', 0.384f),
-                new Tuple2<>('C', 0.343f),
-                new Tuple2<>('D', 0.039f),
-                new Tuple2<>('E', 0.081f),
-                new Tuple2<>('F', 0.039f),
-                new Tuple2<>('G', 0.016f),
-                new Tuple2<>('H', 0.016f),
-                new Tuple2<>('I', 0.016f),
-                new Tuple2<>('J', 0.016f),
-                new Tuple2<>('K', 0.016f)
-        );
 
         // Create a RheemPlan:
 
@@ -422,8 +546,10 @@ public class RheemPlans {
         pageRank.connectTo(0, backtranslate, 0);
         zipWithId.broadcastTo(0, backtranslate, "vertex IDs");
 
-        LocalCallbackSink callbackSink = LocalCallbackSink.createStdoutSink(
-                DataSetType.<Tuple2<Character, Float>>createDefaultUnchecked(Tuple2.class));
+        final DataSetType<Tuple2<Character, Float>> pageRankType = DataSetType.createDefaultUnchecked(Tuple2.class);
+        LocalCallbackSink<Tuple2<Character, Float>> callbackSink = collector == null ?
+                LocalCallbackSink.createStdoutSink(pageRankType) :
+                LocalCallbackSink.createCollectingSink(collector, pageRankType);
         callbackSink.setName("sink");
         backtranslate.connectTo(0, callbackSink, 0);
 